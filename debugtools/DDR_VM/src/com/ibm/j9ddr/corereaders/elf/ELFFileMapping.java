@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.j9ddr.corereaders.elf;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.ibm.j9ddr.corereaders.ICoreFileReader;
+
+/**
+ * Read-only memory mapping of an ELF file.
+ * 
+ * The file is mapped in windows of 1 GB, each one mapped the first time
+ * it is read from, so that a large core only uses address space for the parts that
+ * are looked at. Reads copy straight from the mapping into the caller's buffer, and
+ * as the mapping has no file position they are safe from multiple threads.
+ * 
+ * Mapping is enabled by default and can be disabled by setting the system property
+ * ddr.core.file.mapped to false, e.g. for a 32-bit JVM with little address space.
+ */
+final class ELFFileMapping
+{
+	private static final Logger logger = Logger.getLogger(ICoreFileReader.J9DDR_CORE_READERS_LOGGER_NAME);
+
+	private static final String MAPPED_SYSTEM_PROPERTY = "ddr.core.file.mapped";
+
+	static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty(MAPPED_SYSTEM_PROPERTY));
+
+	/**
+	 * Size of each mapping. A power of two, so the window for an offset is a shift.
+	 */
+	static final int WINDOW_SHIFT = 30;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long length;
+	private final int windowShift;
+	private final AtomicReferenceArray<MappedByteBuffer> windows;
+
+	private ELFFileMapping(RandomAccessFile file, long length, int windowShift)
+	{
+		this.file = file;
+		this.channel = file.getChannel();
+		this.length = length;
+		this.windowShift = windowShift;
+		this.windows = new AtomicReferenceArray<MappedByteBuffer>((int) ((length + (1L << windowShift) - 1) >>> windowShift));
+	}
+
+	/**
+	 * Map a file.
+	 * 
+	 * @param f the file
+	 * @return the mapping, or null if mapping is disabled or the file can't be opened
+	 */
+	static ELFFileMapping open(File f)
+	{
+		return ENABLED ? open(f, WINDOW_SHIFT) : null;
+	}
+
+	/**
+	 * Map a file with a given window size, for testing.
+	 */
+	static ELFFileMapping open(File f, int windowShift)
+	{
+		try {
+			RandomAccessFile raf = new RandomAccessFile(f, "r");
+			return new ELFFileMapping(raf, raf.length(), windowShift);
+		} catch (IOException e) {
+			logger.log(Level.FINE, "Unable to map " + f.getAbsolutePath(), e);
+			return null;
+		}
+	}
+
+	long length()
+	{
+		return length;
+	}
+
+	/**
+	 * Copy data from the file.
+	 * 
+	 * @param position offset in the file
+	 * @param buffer buffer to read into
+	 * @param offset offset in buffer to write to
+	 * @param len number of bytes to read
+	 * @throws IOException if the data isn't in the file or the file can't be mapped
+	 */
+	void read(long position, byte[] buffer, int offset, int len) throws IOException
+	{
+		if ((position < 0) || (position > (length - len))) {
+			throw new EOFException("Read of " + len + " bytes at " + position + " is beyond end of file");
+		}
+		while (len > 0) {
+			long windowSize = 1L << windowShift;
+			int index = (int) (position >>> windowShift);
+			int start = (int) (position & (windowSize - 1));
+			int count = (int) Math.min(len, windowSize - start);
+			ByteBuffer data = window(index).duplicate();
+			data.position(start);
+			data.get(buffer, offset, count);
+			position += count;
+			offset += count;
+			len -= count;
+		}
+	}
+
+	private MappedByteBuffer window(int index) throws IOException
+	{
+		MappedByteBuffer data = windows.get(index);
+		if (data == null) {
+			synchronized (this) {
+				data = windows.get(index);
+				if (data == null) {
+					long start = (long) index << windowShift;
+					try {
+						data = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(1L << windowShift, length - start));
+					} catch (OutOfMemoryError e) {
+						// Out of address space rather than Java heap
+						throw new IOException("Unable to map window at " + start, e);
+					}
+					windows.set(index, data);
+				}
+			}
+		}
+		return data;
+	}
+
+	/**
+	 * Close the file. Existing windows remain valid until they are garbage collected.
+	 */
+	void close() throws IOException
+	{
+		file.close();
+	}
+}
@@ -22,6 +22,7 @@
 package com.ibm.j9ddr.corereaders.elf;
 
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteOrder;
@@ -125,6 +126,9 @@ public abstract class ELFFileReader {
 	private final File _file;
 	private boolean _isTruncated;
 
+	/* Memory mapping of _file, null when reading from a stream or if mapping failed */
+	private volatile ELFFileMapping _mapping;
+
 	private final List<ProgramHeaderEntry> _programHeaderEntries = new LinkedList<>();
 	private final List<SectionHeaderEntry> _sectionHeaderEntries = new LinkedList<>();
 
@@ -153,6 +157,7 @@ public abstract class ELFFileReader {
 			sourceName = file.getAbsolutePath();
 			this.baseOffset = 0;
 			initializeReader(is.length());
+			_mapping = ELFFileMapping.open(file);
 		} catch (IOException | InvalidDumpFormatException e) {
 			// Don't leak file handles if we fail to create this reader.
 			close();
@@ -161,6 +166,11 @@ public abstract class ELFFileReader {
 	}
 
 	public void close() throws IOException {
+		ELFFileMapping mapping = _mapping;
+		if (mapping != null) {
+			_mapping = null;
+			mapping.close();
+		}
 		if (is != null) {
 			is.close();
 		}
@@ -717,6 +727,37 @@ public abstract class ELFFileReader {
 		return is.readLong();
 	}
 
+	/**
+	 * Reads data at an offset in the file. If the file is memory mapped the data is
+	 * copied from the mapping and the position of the stream is not changed.
+	 */
+	public void readFullyAt(long pos, byte[] b, int off, int len) throws IOException {
+		ELFFileMapping mapping = _mapping;
+		if (mapping != null) {
+			try {
+				mapping.read(baseOffset + pos, b, off, len);
+				return;
+			} catch (EOFException e) {
+				throw e;
+			} catch (IOException e) {
+				// Typically out of address space, carry on with file I/O
+				logger.log(Level.FINE, "Memory mapping disabled for " + getSourceName(), e);
+				_mapping = null;
+			}
+		}
+		synchronized (this) {
+			seek(pos);
+			readFully(b, off, len);
+		}
+	}
+
+	/**
+	 * @return true if reads through readFullyAt() come from a memory mapping of the file
+	 */
+	public boolean isMapped() {
+		return _mapping != null;
+	}
+
 	public void readFully(byte[] b, int off, int len) throws IOException {
 		is.readFully(b, off, len);
 	}
@@ -26,7 +26,7 @@ import java.util.Properties;
 
 import com.ibm.j9ddr.corereaders.memory.Addresses;
 import com.ibm.j9ddr.corereaders.memory.IDetailedMemoryRange;
-import com.ibm.j9ddr.corereaders.memory.IMemorySource;
+import com.ibm.j9ddr.corereaders.memory.IMappedMemorySource;
 import com.ibm.j9ddr.corereaders.memory.MemoryFault;
 import com.ibm.j9ddr.corereaders.memory.ProtectedMemoryRange;
 
@@ -35,7 +35,7 @@ import com.ibm.j9ddr.corereaders.memory.ProtectedMemoryRange;
  * @author andhall
  *
  */
-public class ELFMemorySource extends ProtectedMemoryRange implements IMemorySource, IDetailedMemoryRange
+public class ELFMemorySource extends ProtectedMemoryRange implements IMappedMemorySource, IDetailedMemoryRange
 {
 	private final long fileOffset;
 	private final ELFFileReader reader;
@@ -89,8 +89,7 @@ public class ELFMemorySource extends ProtectedMemoryRange implements IMemorySour
 		long seekAddress = fileOffset + rangeOffset;
 		
 		try {
-			reader.seek(seekAddress);
-			reader.readFully(buffer,offset,length);
+			reader.readFullyAt(seekAddress, buffer, offset, length);
 		} catch (IOException e) {
 			throw new MemoryFault(address, "IOException accessing ELF storage in " + reader,e);
 		}
@@ -98,6 +97,14 @@ public class ELFMemorySource extends ProtectedMemoryRange implements IMemorySour
 		return length;
 	}
 
+	/* (non-Javadoc)
+	 * @see com.ibm.j9ddr.corereaders.memory.IMappedMemorySource#isMapped()
+	 */
+	public boolean isMapped()
+	{
+		return reader.isMapped();
+	}
+
 	public String getName()
 	{
 		return name;
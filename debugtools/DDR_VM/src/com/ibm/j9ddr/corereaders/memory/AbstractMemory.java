@@ -282,7 +282,10 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 																										Long.toHexString(source.getTopAddress())
 		});
 		
-		if (GLOBAL_CACHE_ENABLED) {
+		/* Mapped sources read as fast as the cache, caching them would only copy the data */
+		boolean mapped = (source instanceof IMappedMemorySource) && ((IMappedMemorySource) source).isMapped();
+		
+		if (GLOBAL_CACHE_ENABLED && !mapped) {
 			IMemorySource wrappedSource = new CachingMemorySource(source);
 			decoratorMappingTable.put(source, wrappedSource);
 			
@@ -387,9 +390,10 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 		//that represents this range
 		private final boolean singleBlockRange;
 		
+		/* Guarded by itself, as readers may be on several threads */
 		private final WeakValueMap<Integer, CacheBlock> blockMap;
 		
-		private Reference<CacheBlock> singleBlockRef;
+		private volatile Reference<CacheBlock> singleBlockRef;
 
 		public CachingMemorySource(IMemorySource source)
 		{
@@ -447,15 +451,21 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 					int blockSize = (int)(sizeToEndOfRange > CACHE_BLOCK_SIZE ? CACHE_BLOCK_SIZE : sizeToEndOfRange);
 					boolean cacheHit = false;
 					
-					CacheBlock block = blockMap.get(blockIndex);
+					CacheBlock block;
+					synchronized (blockMap) {
+						block = blockMap.get(blockIndex);
+					}
 					
 					if (RECORDING_CACHE_STATS) {
 						cacheHit = block != null;
 					}
 					
 					if (block == null) {
+						/* Loaded outside the lock; if two threads miss at once the block is just read twice */
 						block = loadBlock(blockBase,address,blockSize);
-						blockMap.put(blockIndex, block);
+						synchronized (blockMap) {
+							blockMap.put(blockIndex, block);
+						}
 					}
 					
 					long offsetInBlock = address - blockBase;
@@ -92,7 +92,7 @@ public class MemorySourceTable {
 		}
 	}
 
-	private IAddressResolverStrategy addressResolver;
+	private volatile IAddressResolverStrategy addressResolver;
 
 	private final List<IMemorySource> rawMemorySources = new ArrayList<>();
 	private List<IMemorySource> memorySources;
@@ -113,14 +113,20 @@ public class MemorySourceTable {
 	}
 
 	public final IMemorySource getRangeForAddress(long address) {
-		if (addressResolver == null) {
-			pickAddressResolver();
+		IAddressResolverStrategy resolver = addressResolver;
+
+		if (resolver == null) {
+			resolver = pickAddressResolver();
 		}
 
-		return addressResolver.getRangeForAddress(address);
+		return resolver.getRangeForAddress(address);
 	}
 
-	private void pickAddressResolver() {
+	private synchronized IAddressResolverStrategy pickAddressResolver() {
+		if (addressResolver != null) {
+			return addressResolver;
+		}
+
 		mergeOverlappingRanges();
 
 		// Need to figure out highest address and worst alignment
@@ -174,6 +180,8 @@ public class MemorySourceTable {
 		logger.logp(FINE, "MemoryRangeTable", "pickAddressResolver",
 				"Picked {0} as address resolver.",
 				addressResolver.getClass().getSimpleName());
+
+		return addressResolver;
 	}
 
 	private void mergeOverlappingRanges() {
@@ -411,14 +419,17 @@ public class MemorySourceTable {
 		}
 
 		private IMemorySource tlbCheck(long address) {
-			if (tlbEntry1 != null && tlbEntry1.contains(address)) {
+			/* Read each entry once, another thread may replace it */
+			IMemorySource entry1 = tlbEntry1;
+			if (entry1 != null && entry1.contains(address)) {
 				entry1HitCount++;
-				return tlbEntry1;
+				return entry1;
 			}
 
-			if (tlbEntry2 != null && tlbEntry2.contains(address)) {
+			IMemorySource entry2 = tlbEntry2;
+			if (entry2 != null && entry2.contains(address)) {
 				entry2HitCount++;
-				return tlbEntry2;
+				return entry2;
 			}
 
 			return null;
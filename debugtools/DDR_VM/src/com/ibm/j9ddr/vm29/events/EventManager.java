@@ -31,6 +31,8 @@ import com.ibm.j9ddr.events.IEventListener;
 public class EventManager {
 	private static Logger log = Logger.getLogger(EventManager.class.getPackage().getName());
 	private static LinkedList<IEventListener> listeners = null;		//listeners that this manager will call
+	//listeners of a worker thread, which start with the listener of the thread that handed it work
+	private static final ThreadLocal<LinkedList<IEventListener>> workerListeners = new ThreadLocal<LinkedList<IEventListener>>();
 	private static DefaultEventListener defaultListener = null;
 	
 	static {
@@ -38,7 +40,13 @@ public class EventManager {
 		defaultListener = new DefaultEventListener();		//create a default listener
 	}
 	
+	private static LinkedList<IEventListener> getListeners() {
+		LinkedList<IEventListener> worker = workerListeners.get();
+		return (worker != null) ? worker : listeners;
+	}
+	
 	public static void register(IEventListener listener) {
+		LinkedList<IEventListener> listeners = getListeners();
 		if(!listeners.isEmpty()) {
 			IEventListener top = listeners.peek();
 			if(top == listener) {
@@ -50,6 +58,7 @@ public class EventManager {
 	}
 	
 	public static void unregister(IEventListener listener) {
+		LinkedList<IEventListener> listeners = getListeners();
 		if(listeners.isEmpty()) {			//check that there are some entries on the stack
 			log.warning("There are no listeners left on the stack, skipping unregistration");
 			return;
@@ -64,6 +73,39 @@ public class EventManager {
 		listeners.removeFirst();
 	}
 
+	/**
+	 * Get the listener that events raised on this thread are sent to, so that it
+	 * can be passed to {@link #attachWorker(IEventListener)} by work done for this
+	 * thread on other threads.
+	 * @return the listener at the top of the stack, or null if there is none
+	 */
+	public static IEventListener getListener() {
+		return getListeners().peek();
+	}
+
+	/**
+	 * Send the events raised on this worker thread to the listener of the thread
+	 * that handed it work, until {@link #detachWorker()} is called. Listeners
+	 * registered on this thread in the meantime are only used for its own events,
+	 * and the listeners of other threads are left alone.
+	 * @param listener the listener from {@link #getListener()} on the other thread, or null
+	 */
+	public static void attachWorker(IEventListener listener) {
+		LinkedList<IEventListener> worker = new LinkedList<IEventListener>();
+		if(listener != null) {
+			worker.addFirst(listener);
+		}
+		workerListeners.set(worker);
+	}
+
+	/**
+	 * Stop sending the events raised on this worker thread to the listener given to
+	 * {@link #attachWorker(IEventListener)}.
+	 */
+	public static void detachWorker() {
+		workerListeners.remove();
+	}
+
 	/**
 	 * Signal that corrupt data was encountered
 	 * @param message
@@ -71,7 +113,13 @@ public class EventManager {
 	 * @param isfatal
 	 */
 	public static void raiseCorruptDataEvent(String message, CorruptDataException e, boolean fatal) {
-		if(listeners.isEmpty()) {							//no listeners, so use the default
+		LinkedList<IEventListener> worker = workerListeners.get();
+		if(worker != null) {
+			IEventListener listener = worker.isEmpty() ? defaultListener : worker.peek();
+			synchronized(listener) {							//the listener may be shared with other workers
+				listener.corruptData(message, e, fatal);
+			}
+		} else if(listeners.isEmpty()) {							//no listeners, so use the default
 			defaultListener.corruptData(message, e, fatal);
 		} else {
 			IEventListener listener = listeners.peek();
@@ -0,0 +1,570 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.j9ddr.vm29.j9;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.vm29.events.EventManager;
+import com.ibm.j9ddr.vm29.j9.RootSet.RootSetType;
+import com.ibm.j9ddr.vm29.j9.gc.GCClassIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCClassIteratorClassSlots;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCObjectIterator;
+import com.ibm.j9ddr.vm29.j9.walkers.ParallelHeapRegionWalker;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9JavaVMPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
+import com.ibm.j9ddr.vm29.pointer.helper.J9RASHelper;
+
+/**
+ * An index of the references to each live object in the heap, so that "who points
+ * to this" questions are answered without walking the heap again.
+ * 
+ * The index is held in compressed sparse row form: objects are numbered in address
+ * order, and the referrers of object i are entries offsets[i] to offsets[i + 1] - 1
+ * of the referrer table. The references are those followed by LiveSetWalker: the
+ * slots of each object including its class, and for instances of java/lang/Class
+ * the object and class slots of the class.
+ * 
+ * The heap is read once, with the regions walked in parallel by ParallelHeapRegionWalker.
+ * Each region task keeps the addresses of its objects and streams its references to a
+ * temporary file; the references are then counted and placed from those files, again
+ * in parallel. The referrer table is kept on the Java heap when it fits in a quarter of
+ * the maximum heap size, and otherwise in a memory mapped temporary file.
+ * 
+ * The index for the current VM is built on first use and kept until another VM is used.
+ * The outbound references, and the objects reachable from each kind of root set, are
+ * worked out from it the first time they are needed.
+ * 
+ * The commands walk the heap or live set instead when the system property
+ * ddr.reverse.reference.index is set to false.
+ */
+public final class ReverseReferenceIndex
+{
+	private static final String ENABLED_SYSTEM_PROPERTY = "ddr.reverse.reference.index";
+
+	private static ReverseReferenceIndex cachedIndex;
+
+	private final long vmAddress;
+	/** addresses of the objects, sorted */
+	private final long[] objects;
+	/** start of the referrers of each object in referrers, with the total at the end */
+	private final long[] offsets;
+	private final IntTable referrers;
+	/** start of the references from each object in references, built on first use */
+	private long[] referenceOffsets;
+	private IntTable references;
+	/** the objects reachable from each kind of root set */
+	private final Map<RootSetType, BitSet> reachable = new EnumMap<RootSetType, BitSet>(RootSetType.class);
+
+	private ReverseReferenceIndex(long vmAddress, long[] objects, long[] offsets, IntTable referrers)
+	{
+		this.vmAddress = vmAddress;
+		this.objects = objects;
+		this.offsets = offsets;
+		this.referrers = referrers;
+	}
+
+	/**
+	 * @return whether the commands should use the index, which is the default
+	 */
+	public static boolean isEnabled()
+	{
+		return !"false".equalsIgnoreCase(System.getProperty(ENABLED_SYSTEM_PROPERTY));
+	}
+
+	/**
+	 * Get the index for the current VM, building it if required.
+	 * 
+	 * @return the index
+	 * @throws CorruptDataException if the heap regions cannot be found
+	 * @throws IOException if the temporary files for the index cannot be written
+	 */
+	public static synchronized ReverseReferenceIndex getIndex() throws CorruptDataException, IOException
+	{
+		J9JavaVMPointer vm = J9RASHelper.getVM(DataType.getJ9RASPointer());
+		if ((null == cachedIndex) || (cachedIndex.vmAddress != vm.getAddress())) {
+			cachedIndex = null;
+			cachedIndex = build(vm.getAddress());
+		}
+		return cachedIndex;
+	}
+
+	/**
+	 * The objects and outbound references of one region.
+	 */
+	private static final class RegionReferences
+	{
+		long[] objects = new long[256];
+		int objectCount;
+		File references;
+	}
+
+	private static ReverseReferenceIndex build(long vmAddress) throws CorruptDataException, IOException
+	{
+		List<GCHeapRegionDescriptor> regions = ParallelHeapRegionWalker.getRegions(GCHeapRegionIterator.from());
+		final Map<GCHeapRegionDescriptor, RegionReferences> byRegion = new IdentityHashMap<GCHeapRegionDescriptor, RegionReferences>();
+		try {
+			/* Read the heap: the objects of each region and the references from them */
+			List<RegionReferences> results;
+			try {
+				results = ParallelHeapRegionWalker.walk(regions, region -> walkRegion(region));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			int count = 0;
+			for (int i = 0; i < regions.size(); i++) {
+				RegionReferences result = results.get(i);
+				if (null != result) {
+					byRegion.put(regions.get(i), result);
+					count = Math.addExact(count, result.objectCount);
+				}
+			}
+
+			final long[] objects = new long[count];
+			int position = 0;
+			boolean sorted = true;
+			for (RegionReferences result : results) {
+				if (null != result) {
+					System.arraycopy(result.objects, 0, objects, position, result.objectCount);
+					position += result.objectCount;
+					result.objects = null;
+				}
+			}
+			for (int i = 1; sorted && (i < count); i++) {
+				sorted = objects[i - 1] < objects[i];
+			}
+			if (!sorted) {
+				Arrays.parallelSort(objects);
+			}
+
+			/* Count the referrers of each object */
+			final AtomicIntegerArray counts = new AtomicIntegerArray(count);
+			readReferences(regions, byRegion, (source, target) -> {
+				int object = Arrays.binarySearch(objects, target);
+				if ((object >= 0) && (Arrays.binarySearch(objects, source) >= 0)) {
+					counts.incrementAndGet(object);
+				}
+			});
+			final long[] offsets = new long[count + 1];
+			for (int i = 0; i < count; i++) {
+				offsets[i + 1] = offsets[i] + counts.get(i);
+				counts.set(i, 0);
+			}
+
+			/* Place the referrers */
+			final IntTable referrers = new IntTable(offsets[count]);
+			readReferences(regions, byRegion, (source, target) -> {
+				int object = Arrays.binarySearch(objects, target);
+				int referrer = Arrays.binarySearch(objects, source);
+				if ((object >= 0) && (referrer >= 0)) {
+					referrers.set(offsets[object] + counts.getAndIncrement(object), referrer);
+				}
+			});
+			return new ReverseReferenceIndex(vmAddress, objects, offsets, referrers);
+		} finally {
+			for (RegionReferences result : byRegion.values()) {
+				result.references.delete();
+			}
+		}
+	}
+
+	private static RegionReferences walkRegion(GCHeapRegionDescriptor region) throws CorruptDataException
+	{
+		if (!region.containsObjects()) {
+			return null;
+		}
+		RegionReferences result = new RegionReferences();
+		try {
+			result.references = File.createTempFile("ddrrefs", ".tmp");
+			result.references.deleteOnExit();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(result.references), 1 << 16))) {
+				GCObjectHeapIterator heapObjectIterator = region.objectIterator(true, false);
+				while (heapObjectIterator.hasNext()) {
+					J9ObjectPointer object = heapObjectIterator.next();
+					long source = object.getAddress();
+					if (result.objectCount == result.objects.length) {
+						result.objects = Arrays.copyOf(result.objects, result.objectCount * 2);
+					}
+					result.objects[result.objectCount++] = source;
+					writeReferences(out, object, source);
+				}
+			}
+		} catch (IOException e) {
+			if (null != result.references) {
+				result.references.delete();
+			}
+			throw new UncheckedIOException(e);
+		}
+		return result;
+	}
+
+	/**
+	 * Write the references followed from an object by LiveSetWalker.scanObject().
+	 */
+	private static void writeReferences(DataOutputStream out, J9ObjectPointer object, long source) throws IOException
+	{
+		try {
+			GCObjectIterator objectIterator = GCObjectIterator.fromJ9Object(object, true);
+			while (objectIterator.hasNext()) {
+				J9ObjectPointer slot = objectIterator.next();
+				if (slot.notNull()) {
+					out.writeLong(source);
+					out.writeLong(slot.getAddress());
+				}
+			}
+
+			if (J9ObjectHelper.getClassName(object).equals("java/lang/Class")) {
+				J9ClassPointer clazz = ConstantPoolHelpers.J9VM_J9CLASS_FROM_HEAPCLASS(object);
+
+				GCClassIterator classIterator = GCClassIterator.fromJ9Class(clazz);
+				while (classIterator.hasNext()) {
+					J9ObjectPointer slot = classIterator.next();
+					if (slot.notNull()) {
+						out.writeLong(source);
+						out.writeLong(slot.getAddress());
+					}
+				}
+
+				GCClassIteratorClassSlots classSlotIterator = GCClassIteratorClassSlots.fromJ9Class(clazz);
+				while (classSlotIterator.hasNext()) {
+					J9ObjectPointer classObject = ConstantPoolHelpers.J9VM_J9CLASS_TO_HEAPCLASS(classSlotIterator.next());
+					if (classObject.notNull()) {
+						out.writeLong(source);
+						out.writeLong(classObject.getAddress());
+					}
+				}
+			}
+		} catch (CorruptDataException e) {
+			EventManager.raiseCorruptDataEvent("Corruption found while indexing references, object: " + object.getHexAddress(), e, false);
+		}
+	}
+
+	private interface ReferenceVisitor
+	{
+		public void visit(long source, long target);
+	}
+
+	/**
+	 * Read the references written for each region, in parallel.
+	 */
+	private static void readReferences(List<GCHeapRegionDescriptor> regions, final Map<GCHeapRegionDescriptor, RegionReferences> byRegion, final ReferenceVisitor visitor) throws CorruptDataException, IOException
+	{
+		try {
+			ParallelHeapRegionWalker.walk(regions, region -> {
+				RegionReferences result = byRegion.get(region);
+				if (null != result) {
+					try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(result.references), 1 << 16))) {
+						for (;;) {
+							long source;
+							try {
+								source = in.readLong();
+							} catch (EOFException e) {
+								break;
+							}
+							visitor.visit(source, in.readLong());
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+				return null;
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * @return the number of objects in the index
+	 */
+	public int getObjectCount()
+	{
+		return objects.length;
+	}
+
+	/**
+	 * @return the number of references in the index
+	 */
+	public long getReferenceCount()
+	{
+		return offsets[objects.length];
+	}
+
+	/**
+	 * @param object an object
+	 * @return whether the object was found in the heap when the index was built
+	 */
+	public boolean contains(J9ObjectPointer object)
+	{
+		return Arrays.binarySearch(objects, object.getAddress()) >= 0;
+	}
+
+	/**
+	 * Get the objects which refer to an object. An object is listed once for each
+	 * of its slots which refers to the object.
+	 * 
+	 * @param object the object
+	 * @return the referring objects in address order, empty if the object is not in the index
+	 */
+	public List<J9ObjectPointer> getReferrers(J9ObjectPointer object)
+	{
+		int index = Arrays.binarySearch(objects, object.getAddress());
+		if (index < 0) {
+			return Collections.emptyList();
+		}
+		int[] sources = getReferrers(index);
+		List<J9ObjectPointer> result = new ArrayList<J9ObjectPointer>(sources.length);
+		for (int source : sources) {
+			result.add(J9ObjectPointer.cast(objects[source]));
+		}
+		return result;
+	}
+
+	private int[] getReferrers(int index)
+	{
+		long start = offsets[index];
+		int[] sources = new int[(int) (offsets[index + 1] - start)];
+		for (int i = 0; i < sources.length; i++) {
+			sources[i] = referrers.get(start + i);
+		}
+		Arrays.sort(sources);
+		return sources;
+	}
+
+	/**
+	 * Find a shortest path to an object from a root, by searching back through the referrers.
+	 * 
+	 * @param object the object to find a path to
+	 * @param rootSetType the roots to find a path from
+	 * @return the objects on the path, starting with the root and ending with the object,
+	 *         or null if there is no path or the object is not in the index
+	 * @throws CorruptDataException if the roots cannot be found
+	 */
+	public List<J9ObjectPointer> findRootPath(J9ObjectPointer object, RootSetType rootSetType) throws CorruptDataException
+	{
+		int target = Arrays.binarySearch(objects, object.getAddress());
+		if (target < 0) {
+			return null;
+		}
+
+		BitSet roots = getRoots(rootSetType);
+
+		/* Breadth first, so each object is reached from the nearest the root; next[i] is the object i refers to */
+		int[] next = new int[objects.length];
+		BitSet visited = new BitSet(objects.length);
+		int[] queue = new int[64];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = target;
+		visited.set(target);
+		next[target] = -1;
+		while (head < tail) {
+			int current = queue[head++];
+			if (roots.get(current)) {
+				List<J9ObjectPointer> path = new ArrayList<J9ObjectPointer>();
+				for (int i = current; i != -1; i = next[i]) {
+					path.add(J9ObjectPointer.cast(objects[i]));
+				}
+				return path;
+			}
+			for (int referrer : getReferrers(current)) {
+				if (!visited.get(referrer)) {
+					visited.set(referrer);
+					next[referrer] = current;
+					if (tail == queue.length) {
+						queue = Arrays.copyOf(queue, Math.min(objects.length, queue.length * 2));
+					}
+					queue[tail++] = referrer;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Find whether an object can be reached from a root. The objects reachable from the
+	 * roots are found with one search the first time a kind of root set is asked about.
+	 * 
+	 * @param object the object
+	 * @param rootSetType the roots to search from
+	 * @return whether there is a path to the object from a root, false if the object is not in the index
+	 * @throws CorruptDataException if the roots cannot be found
+	 * @throws IOException if the temporary file for the outbound references cannot be written
+	 */
+	public synchronized boolean isReachable(J9ObjectPointer object, RootSetType rootSetType) throws CorruptDataException, IOException
+	{
+		int index = Arrays.binarySearch(objects, object.getAddress());
+		if (index < 0) {
+			return false;
+		}
+		BitSet reached = reachable.get(rootSetType);
+		if (null == reached) {
+			reached = findReachable(rootSetType);
+			reachable.put(rootSetType, reached);
+		}
+		return reached.get(index);
+	}
+
+	private BitSet getRoots(RootSetType rootSetType) throws CorruptDataException
+	{
+		BitSet roots = new BitSet(objects.length);
+		GCIterator rootIterator = RootSet.from(rootSetType, false).gcIterator(rootSetType);
+		while (rootIterator.hasNext()) {
+			J9ObjectPointer root = (J9ObjectPointer) rootIterator.next();
+			if (root.notNull()) {
+				int index = Arrays.binarySearch(objects, root.getAddress());
+				if (index >= 0) {
+					roots.set(index);
+				}
+			}
+		}
+		return roots;
+	}
+
+	/**
+	 * Search forward from all the roots at once, through the outbound references.
+	 */
+	private BitSet findReachable(RootSetType rootSetType) throws CorruptDataException, IOException
+	{
+		if (null == references) {
+			buildReferences();
+		}
+		BitSet visited = getRoots(rootSetType);
+		int[] queue = new int[Math.max(64, visited.cardinality())];
+		int tail = 0;
+		for (int root = visited.nextSetBit(0); root >= 0; root = visited.nextSetBit(root + 1)) {
+			queue[tail++] = root;
+		}
+		int head = 0;
+		while (head < tail) {
+			int current = queue[head++];
+			for (long i = referenceOffsets[current]; i < referenceOffsets[current + 1]; i++) {
+				int target = references.get(i);
+				if (!visited.get(target)) {
+					visited.set(target);
+					if (tail == queue.length) {
+						queue = Arrays.copyOf(queue, Math.min(objects.length, queue.length * 2));
+					}
+					queue[tail++] = target;
+				}
+			}
+		}
+		return visited;
+	}
+
+	/**
+	 * Build the outbound references of each object, the transpose of the referrer table.
+	 */
+	private void buildReferences() throws IOException
+	{
+		int count = objects.length;
+		long[] starts = new long[count + 1];
+		for (long i = 0; i < offsets[count]; i++) {
+			starts[referrers.get(i) + 1] += 1;
+		}
+		for (int i = 0; i < count; i++) {
+			starts[i + 1] += starts[i];
+		}
+		long[] next = Arrays.copyOf(starts, count);
+		IntTable table = new IntTable(starts[count]);
+		for (int target = 0; target < count; target++) {
+			for (long i = offsets[target]; i < offsets[target + 1]; i++) {
+				int source = referrers.get(i);
+				table.set(next[source]++, target);
+			}
+		}
+		referenceOffsets = starts;
+		references = table;
+	}
+
+	/**
+	 * A table of ints, on the Java heap if it fits in a quarter of the maximum heap
+	 * size, and otherwise in a memory mapped temporary file.
+	 */
+	private static final class IntTable
+	{
+		private static final int CHUNK_SHIFT = 27;
+		private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+		private final ByteBuffer[] chunks;
+
+		IntTable(long length) throws IOException
+		{
+			long bytes = length * 4;
+			chunks = new ByteBuffer[(int) ((bytes + CHUNK_MASK) >>> CHUNK_SHIFT)];
+			if (bytes <= (Runtime.getRuntime().maxMemory() / 4)) {
+				for (int i = 0; i < chunks.length; i++) {
+					chunks[i] = ByteBuffer.allocate((int) Math.min(bytes - ((long) i << CHUNK_SHIFT), 1 << CHUNK_SHIFT));
+				}
+			} else {
+				File file = File.createTempFile("ddrrefs", ".idx");
+				file.deleteOnExit();
+				try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+					raf.setLength(bytes);
+					FileChannel channel = raf.getChannel();
+					for (int i = 0; i < chunks.length; i++) {
+						long offset = (long) i << CHUNK_SHIFT;
+						chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset, Math.min(bytes - offset, 1 << CHUNK_SHIFT));
+					}
+				}
+			}
+		}
+
+		int get(long index)
+		{
+			long offset = index * 4;
+			return chunks[(int) (offset >>> CHUNK_SHIFT)].getInt((int) (offset & CHUNK_MASK));
+		}
+
+		void set(long index, int value)
+		{
+			long offset = index * 4;
+			chunks[(int) (offset >>> CHUNK_SHIFT)].putInt((int) (offset & CHUNK_MASK), value);
+		}
+	}
+}
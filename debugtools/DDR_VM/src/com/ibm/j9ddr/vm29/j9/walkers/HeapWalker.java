@@ -25,13 +25,14 @@ import static com.ibm.j9ddr.vm29.events.EventManager.register;
 import static com.ibm.j9ddr.vm29.events.EventManager.unregister;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import com.ibm.j9ddr.CorruptDataException;
@@ -74,7 +75,7 @@ public class HeapWalker implements IEventListener {
 	
 	private Set<ObjectMonitor> localFlatLockedMonitors;
 	
-	private static Map<GCHeapRegionDescriptor, Set<ObjectMonitor>> flatLockedMonitorsByRegion = new HashMap<GCHeapRegionDescriptor, Set<ObjectMonitor>>();
+	private static Map<GCHeapRegionDescriptor, Set<ObjectMonitor>> flatLockedMonitorsByRegion = new ConcurrentHashMap<GCHeapRegionDescriptor, Set<ObjectMonitor>>();
 	private static SortedSet<ObjectMonitor> flatLockedMonitors;
 		
 	public HeapWalker(J9JavaVMPointer vm, GCHeapRegionDescriptor hrd, HeapWalkerEvents sink) throws CorruptDataException {
@@ -237,7 +238,7 @@ public class HeapWalker implements IEventListener {
 	 * 
 	 * @return List of flat-locked object monitors
 	 */
-	public static SortedSet<ObjectMonitor> getFlatLockedMonitors() throws CorruptDataException
+	public static synchronized SortedSet<ObjectMonitor> getFlatLockedMonitors() throws CorruptDataException
 	{
 		if (flatLockedMonitors == null) {
 			initializeFlatLockedMonitors();
@@ -252,20 +253,24 @@ public class HeapWalker implements IEventListener {
 		MM_GCExtensionsPointer gcext = GCExtensions.getGCExtensionsPointer();
 		MM_HeapRegionManagerPointer hrm = gcext.heapRegionManager();
 		
-		flatLockedMonitors = new TreeSet<ObjectMonitor>();
-		GCHeapRegionIterator regions = GCHeapRegionIterator.fromMMHeapRegionManager(hrm, true, true);
-		while (regions.hasNext()) {
-			GCHeapRegionDescriptor region = regions.next();
-			
+		SortedSet<ObjectMonitor> monitors = new TreeSet<ObjectMonitor>();
+		List<GCHeapRegionDescriptor> regions = ParallelHeapRegionWalker.getRegions(GCHeapRegionIterator.fromMMHeapRegionManager(hrm, true, true));
+		
+		/* Every region has to be walked, so walk those not already seen in parallel */
+		ParallelHeapRegionWalker.walk(regions, region -> {
 			if (!flatLockedMonitorsByRegion.containsKey(region)) {
 				runFlatLockMonitorRegionWalk(vm, region);
 			}
+			return null;
+		});
 		
+		for (GCHeapRegionDescriptor region : regions) {
 			/* Running the walk should have populated the flatLockedMonitors map */
 			assert ( flatLockedMonitorsByRegion.containsKey(region) );
 		
-			flatLockedMonitors.addAll(flatLockedMonitorsByRegion.get(region));
+			monitors.addAll(flatLockedMonitorsByRegion.get(region));
 		}
+		flatLockedMonitors = monitors;
 	}
 
 	private static void runFlatLockMonitorRegionWalk(J9JavaVMPointer vm, GCHeapRegionDescriptor region) throws CorruptDataException 
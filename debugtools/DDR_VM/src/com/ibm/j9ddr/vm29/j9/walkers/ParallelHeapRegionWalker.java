@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.j9ddr.vm29.j9.walkers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.events.IEventListener;
+import com.ibm.j9ddr.vm29.events.EventManager;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
+
+/**
+ * Walks heap regions in parallel, one task per region on a fork-join pool.
+ * 
+ * The results are returned in region order, so callers can report them in the
+ * same order as a serial walk. Each task must only use state of its own (or
+ * state that is safe for concurrent use): the DDR memory layer, pointer caches
+ * can be used from several threads, but walkers and reporters cannot. Events
+ * raised by a task are sent to the event listener of the calling thread, as in a
+ * serial walk, and listeners registered by a task are only used for its own events.
+ * 
+ * The number of threads defaults to the number of processors and can be set
+ * with the system property ddr.heap.walk.threads.
+ */
+public final class ParallelHeapRegionWalker
+{
+	private static final String THREADS_SYSTEM_PROPERTY = "ddr.heap.walk.threads";
+
+	/**
+	 * Work done for one region.
+	 */
+	public interface RegionTask<T>
+	{
+		public T walk(GCHeapRegionDescriptor region) throws CorruptDataException;
+	}
+
+	private ParallelHeapRegionWalker()
+	{
+	}
+
+	/**
+	 * @return the number of threads to walk regions with
+	 */
+	public static int getParallelism()
+	{
+		int threads = Runtime.getRuntime().availableProcessors();
+		String value = System.getProperty(THREADS_SYSTEM_PROPERTY);
+		if (value != null) {
+			try {
+				threads = Integer.parseInt(value.trim());
+			} catch (NumberFormatException e) {
+				// keep the default
+			}
+		}
+		return Math.max(1, threads);
+	}
+
+	/**
+	 * Collect the remaining regions of an iterator.
+	 */
+	public static List<GCHeapRegionDescriptor> getRegions(GCHeapRegionIterator regions)
+	{
+		List<GCHeapRegionDescriptor> result = new ArrayList<GCHeapRegionDescriptor>();
+		while (regions.hasNext()) {
+			result.add(regions.next());
+		}
+		return result;
+	}
+
+	/**
+	 * Run a task for each region.
+	 * 
+	 * @param regions the regions to walk
+	 * @param task the work for each region
+	 * @return the result of the task for each region, in the same order as the regions
+	 * @throws CorruptDataException the first exception thrown by a task, in region order
+	 */
+	public static <T> List<T> walk(List<GCHeapRegionDescriptor> regions, final RegionTask<T> task) throws CorruptDataException
+	{
+		int parallelism = Math.min(getParallelism(), regions.size());
+		List<T> results = new ArrayList<T>(regions.size());
+
+		if (parallelism <= 1) {
+			for (GCHeapRegionDescriptor region : regions) {
+				results.add(task.walk(region));
+			}
+			return results;
+		}
+
+		/* DDR classes come from a loader of their own, make it visible to the workers */
+		final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		ForkJoinPool pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+			thread.setContextClassLoader(loader);
+			return thread;
+		}, null, false);
+
+		try {
+			final IEventListener listener = EventManager.getListener();
+			List<Callable<T>> tasks = new ArrayList<Callable<T>>(regions.size());
+			for (final GCHeapRegionDescriptor region : regions) {
+				tasks.add(() -> {
+					EventManager.attachWorker(listener);
+					try {
+						return task.walk(region);
+					} finally {
+						EventManager.detachWorker();
+					}
+				});
+			}
+			for (Future<T> future : pool.invokeAll(tasks)) {
+				try {
+					results.add(future.get());
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CorruptDataException) {
+						throw (CorruptDataException) cause;
+					} else if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					} else if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new RuntimeException(cause);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException(e);
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		return results;
+	}
+}
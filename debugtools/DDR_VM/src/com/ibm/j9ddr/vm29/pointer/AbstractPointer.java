@@ -47,8 +47,8 @@ import com.ibm.j9ddr.vm29.types.UDATA;
 
 public abstract class AbstractPointer extends DataType {
 	private static int cacheSize = 32;
-	private static long[] keys;
-	private static J9ClassPointer[] values;
+	/* Each entry is immutable so that a racing reader sees a matching key and value */
+	private static ClassCacheEntry[] entries;
 	private static int[] counts;
 	private static long probes;
 	private static long hits;
@@ -493,10 +493,11 @@ public abstract class AbstractPointer extends DataType {
 	{
 		probes++;
 		for(int i = 0; i < cacheSize; i++) {
-			if(keys[i] == pointer) {
+			ClassCacheEntry entry = entries[i];
+			if(entry.key == pointer) {
 				hits++;
 				counts[i]++;
-				return values[i];
+				return entry.value;
 			}
 		}
 		return null;
@@ -512,10 +513,21 @@ public abstract class AbstractPointer extends DataType {
 				minIndex = i;
 			}
 		}
-		keys[minIndex] = pointer;
-		values[minIndex] = cp;
+		entries[minIndex] = new ClassCacheEntry(pointer, cp);
 		counts[minIndex] = 1;
 	}
+	
+	private static final class ClassCacheEntry
+	{
+		final long key;
+		final J9ClassPointer value;
+		
+		ClassCacheEntry(long key, J9ClassPointer value)
+		{
+			this.key = key;
+			this.value = value;
+		}
+	}
 		
 	protected J9ObjectMonitorPointer getObjectMonitorAtOffset(long offset) throws CorruptDataException {
 		if (address == 0) {
@@ -561,9 +573,11 @@ public abstract class AbstractPointer extends DataType {
 	
 	private static void initializeCache()
 	{
-		keys = new long[cacheSize];
-		values = new J9ClassPointer[cacheSize];
+		entries = new ClassCacheEntry[cacheSize];
 		counts = new int[cacheSize];
+		for(int i = 0; i < cacheSize; i++) {
+			entries[i] = new ClassCacheEntry(0L, null);
+		}
 		probes = 0;
 		hits = 0;
 	}
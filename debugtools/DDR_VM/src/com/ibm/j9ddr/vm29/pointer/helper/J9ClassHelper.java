@@ -27,6 +27,7 @@ import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.ibm.j9ddr.AddressedCorruptDataException;
 import com.ibm.j9ddr.CorruptDataException;
@@ -60,7 +61,7 @@ import com.ibm.j9ddr.vm29.types.UDATA;
 public class J9ClassHelper 
 {
 
-	private static HashMap<Long, HashMap<String, J9ObjectFieldOffset>> classToFieldOffsetCacheMap = new HashMap<Long, HashMap<String, J9ObjectFieldOffset>>();
+	private static final ConcurrentHashMap<Long, Map<String, J9ObjectFieldOffset>> classToFieldOffsetCacheMap = new ConcurrentHashMap<Long, Map<String, J9ObjectFieldOffset>>();
 	
 	private static final Map<String, Character>TYPE_MAP;
 	private static final int MAXIMUM_ARRAY_ARITY = 100;
@@ -207,32 +208,34 @@ public class J9ClassHelper
 		return J9ClassPointer.cast(j9ClassInstancePointer);
 	}
 	
-	private static HashMap<String, J9ObjectFieldOffset> getFieldOffsetCache(J9ClassPointer clazz)
+	private static Map<String, J9ObjectFieldOffset> getFieldOffsetCache(J9ClassPointer clazz)
 	{
 		Long classAddr = Long.valueOf(clazz.getAddress());
-		HashMap<String, J9ObjectFieldOffset> fieldOffsetCache = classToFieldOffsetCacheMap.get(classAddr);
+		Map<String, J9ObjectFieldOffset> fieldOffsetCache = classToFieldOffsetCacheMap.get(classAddr);
 		
 		if(null != fieldOffsetCache) { 
 			return fieldOffsetCache;
 		} else {
-			fieldOffsetCache = new HashMap<String, J9ObjectFieldOffset>();
-			classToFieldOffsetCacheMap.put(classAddr, fieldOffsetCache);
-			return fieldOffsetCache ;
+			fieldOffsetCache = new ConcurrentHashMap<String, J9ObjectFieldOffset>();
+			Map<String, J9ObjectFieldOffset> existing = classToFieldOffsetCacheMap.putIfAbsent(classAddr, fieldOffsetCache);
+			return (null != existing) ? existing : fieldOffsetCache;
 		}
 	}
 	
 	public static J9ObjectFieldOffset checkFieldOffsetCache(J9ClassPointer clazz, String fieldName, String signature) 
 	{
-		HashMap<String, J9ObjectFieldOffset> fieldOffsetCache = getFieldOffsetCache(clazz);
+		Map<String, J9ObjectFieldOffset> fieldOffsetCache = getFieldOffsetCache(clazz);
 		
 		return fieldOffsetCache.get(fieldName + "." + signature);
 	}
 	
 	public static void setFieldOffsetCache(J9ClassPointer clazz, J9ObjectFieldOffset offset, String fieldName, String signature) 
 	{
-		HashMap<String, J9ObjectFieldOffset> fieldOffsetCache = getFieldOffsetCache(clazz);
+		Map<String, J9ObjectFieldOffset> fieldOffsetCache = getFieldOffsetCache(clazz);
 		
-		fieldOffsetCache.put(fieldName + "." + signature, offset);
+		if (null != offset) {
+			fieldOffsetCache.put(fieldName + "." + signature, offset);
+		}
 	}
 	
 	public static boolean isSameOrSuperClassOf(J9ClassPointer superClazz, J9ClassPointer clazz) throws CorruptDataException
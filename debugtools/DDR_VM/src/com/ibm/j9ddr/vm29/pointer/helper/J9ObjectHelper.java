@@ -45,8 +45,8 @@ import static com.ibm.j9ddr.vm29.structure.J9Consts.*;
 public class J9ObjectHelper 
 {
 	private static int cacheSize = 32;
-	private static J9ObjectPointer[] keys;
-	private static J9ClassPointer[] values;
+	/* Each entry is immutable so that a racing reader sees a matching key and value */
+	private static ClassCacheEntry[] entries;
 	private static int[] counts;
 	private static long probes;
 	private static long hits;
@@ -437,10 +437,11 @@ public class J9ObjectHelper
 	{
 		probes++;
 		for(int i = 0; i < cacheSize; i++) {
-			if(keys[i].equals(objPointer)) {
+			ClassCacheEntry entry = entries[i];
+			if(entry.key.equals(objPointer)) {
 				hits++;
 				counts[i]++;
-				return values[i];
+				return entry.value;
 			}
 		}
 		return null;
@@ -456,20 +457,30 @@ public class J9ObjectHelper
 				minIndex = i;
 			}
 		}
-		keys[minIndex] = objPointer;
-		values[minIndex] = classPointer;
+		entries[minIndex] = new ClassCacheEntry(objPointer, classPointer);
 		counts[minIndex] = 1;
 	}
 	
+	private static final class ClassCacheEntry
+	{
+		final J9ObjectPointer key;
+		final J9ClassPointer value;
+		
+		ClassCacheEntry(J9ObjectPointer key, J9ClassPointer value)
+		{
+			this.key = key;
+			this.value = value;
+		}
+	}
+	
 	private static void initializeCache()
 	{
-		keys = new J9ObjectPointer[cacheSize];
-		values = new J9ClassPointer[cacheSize];
+		entries = new ClassCacheEntry[cacheSize];
 		counts = new int[cacheSize];
 		probes = 0;
 		hits = 0;
 		for(int i = 0; i < cacheSize; i++) {
-			keys[i] = J9ObjectPointer.NULL;
+			entries[i] = new ClassCacheEntry(J9ObjectPointer.NULL, null);
 		}
 	}
 	
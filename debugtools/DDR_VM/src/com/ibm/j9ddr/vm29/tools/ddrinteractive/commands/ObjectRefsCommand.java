@@ -21,7 +21,10 @@
  *******************************************************************************/
 package com.ibm.j9ddr.vm29.tools.ddrinteractive.commands;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.ibm.j9ddr.CorruptDataException;
 import com.ibm.j9ddr.tools.ddrinteractive.Command;
@@ -31,6 +34,8 @@ import com.ibm.j9ddr.tools.ddrinteractive.Table;
 import com.ibm.j9ddr.vm29.j9.DataType;
 import com.ibm.j9ddr.vm29.j9.LiveSetWalker;
 import com.ibm.j9ddr.vm29.j9.LiveSetWalker.ObjectVisitor;
+import com.ibm.j9ddr.vm29.j9.ReverseReferenceIndex;
+import com.ibm.j9ddr.vm29.j9.RootSet.RootSetType;
 import com.ibm.j9ddr.vm29.j9.gc.GCExtensions;
 import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
 import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
@@ -121,6 +126,29 @@ public class ObjectRefsCommand extends Command {
 			table.row("object (!j9object)", "field (!j9object)"
 					, "!mm_heapregiondescriptorvlhgc" ,"AC (type)");
 
+			ReverseReferenceIndex index = getReverseReferenceIndex(targetObject, out);
+			if (null != index) {
+				MM_HeapRegionManagerPointer hrmPointer = MM_GCExtensionsPointer.cast(vm.gcExtensions()).heapRegionManager();
+				GCHeapRegionManager heapRegionManager = GCHeapRegionManager.fromHeapRegionManager(hrmPointer);
+				J9ObjectPointer previousObject = null;
+				for (J9ObjectPointer currentObject : index.getReferrers(targetObject)) {
+					/* An object is listed once for each slot, the rows are added for all of its slots at once */
+					if (currentObject.equals(previousObject)) {
+						continue;
+					}
+					previousObject = currentObject;
+					GCHeapRegionDescriptor region = heapRegionManager.regionDescriptorForAddress(currentObject);
+					if (null == region) {
+						continue;
+					}
+					MM_HeapRegionDescriptorVLHGCPointer vlhgcRegion = MM_HeapRegionDescriptorVLHGCPointer.cast(region.getHeapRegionDescriptorPointer());
+					MM_AllocationContextTarokPointer currentAllocationContextTarok = vlhgcRegion._allocateData()._owningContext();
+					addHeapReferenceRows(table, currentObject, targetObject, vlhgcRegion, currentAllocationContextTarok);
+				}
+				table.render(out);
+				return;
+			}
+
 			/* iterate over all heap regions */
 			GCHeapRegionIterator regionIterator = GCHeapRegionIterator.from();
 			while (regionIterator.hasNext()) {
@@ -134,21 +162,7 @@ public class ObjectRefsCommand extends Command {
 					while (heapObjectIterator.hasNext()) {
 						J9ObjectPointer currentObject = heapObjectIterator.next();
 
-						/* Iterate over the object's fields and list any that point at @ref targetObject */
-						GCObjectIterator fieldIterator = GCObjectIterator.fromJ9Object(currentObject, false);
-						while (fieldIterator.hasNext()) {
-							J9ObjectPointer currentTargetObject = fieldIterator.next();
-							if (currentTargetObject.eq(targetObject)) {
-								/* found a reference to our targetObject, add it to the table */
-								J9ClassPointer objectClass = J9ObjectHelper.clazz(currentObject);
-								String objectClassString = J9ClassHelper.getJavaName(objectClass);
-
-								table.row(currentObject.getHexAddress() + " //" + objectClassString
-										, currentTargetObject.getHexAddress()
-										, vlhgcRegion.getHexAddress()
-										, currentAllocationContextTarok.getHexAddress() + " (" + currentAllocationContextTarok._allocationContextType() + ")");	
-							}
-						}
+						addHeapReferenceRows(table, currentObject, targetObject, vlhgcRegion, currentAllocationContextTarok);
 					}					
 				}
 			}
@@ -156,6 +170,69 @@ public class ObjectRefsCommand extends Command {
 			table.render(out);
 		}
 	}
+
+	/**
+	 * Iterate over the object's fields and add a row for each that points at targetObject.
+	 */
+	private static void addHeapReferenceRows(Table table, J9ObjectPointer currentObject, J9ObjectPointer targetObject
+			, MM_HeapRegionDescriptorVLHGCPointer vlhgcRegion, MM_AllocationContextTarokPointer currentAllocationContextTarok) throws CorruptDataException
+	{
+		GCObjectIterator fieldIterator = GCObjectIterator.fromJ9Object(currentObject, false);
+		while (fieldIterator.hasNext()) {
+			J9ObjectPointer currentTargetObject = fieldIterator.next();
+			if (currentTargetObject.eq(targetObject)) {
+				/* found a reference to our targetObject, add it to the table */
+				J9ClassPointer objectClass = J9ObjectHelper.clazz(currentObject);
+				String objectClassString = J9ClassHelper.getJavaName(objectClass);
+
+				table.row(currentObject.getHexAddress() + " //" + objectClassString
+						, currentTargetObject.getHexAddress()
+						, vlhgcRegion.getHexAddress()
+						, currentAllocationContextTarok.getHexAddress() + " (" + currentAllocationContextTarok._allocationContextType() + ")");	
+			}
+		}
+	}
+
+	/**
+	 * Get the reverse reference index, if it is enabled and can be built.
+	 * @return the index, or null if the heap or live set must be walked instead
+	 */
+	private static ReverseReferenceIndex getReverseReferenceIndex(J9ObjectPointer targetObject, PrintStream out)
+	{
+		if (!ReverseReferenceIndex.isEnabled()) {
+			return null;
+		}
+		try {
+			ReverseReferenceIndex index = ReverseReferenceIndex.getIndex();
+			return index.contains(targetObject) ? index : null;
+		} catch (CorruptDataException | IOException | RuntimeException e) {
+			out.println("Unable to build reverse reference index, walking heap: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Get the strongly reachable objects which refer to the target object, each listed once.
+	 * The reachable objects are found once for the index, not once for each referrer.
+	 * @return the objects, or null if the live set must be walked instead
+	 */
+	private static List<J9ObjectPointer> getLiveReferrers(ReverseReferenceIndex index, J9ObjectPointer targetObject, PrintStream out) throws CorruptDataException
+	{
+		List<J9ObjectPointer> liveReferrers = new ArrayList<J9ObjectPointer>();
+		J9ObjectPointer previousObject = null;
+		try {
+			for (J9ObjectPointer object : index.getReferrers(targetObject)) {
+				if (!object.equals(previousObject) && index.isReachable(object, RootSetType.STRONG_REACHABLE)) {
+					liveReferrers.add(object);
+				}
+				previousObject = object;
+			}
+		} catch (IOException | RuntimeException e) {
+			out.println("Unable to find the live objects from the reverse reference index, walking live set: " + e.getMessage());
+			return null;
+		}
+		return liveReferrers;
+	}
 	
 	class LiveReferenceVisitor implements ObjectVisitor {
 		GCHeapRegionManager heapRegionManager;
@@ -200,6 +277,17 @@ public class ObjectRefsCommand extends Command {
 		Table table = new Table("All Live Objects That Refer To !j9object " + targetObject.getHexAddress());
 		table.row("Object");
 		
+		ReverseReferenceIndex index = getReverseReferenceIndex(targetObject, out);
+		List<J9ObjectPointer> liveReferrers = (null != index) ? getLiveReferrers(index, targetObject, out) : null;
+		if (null != liveReferrers) {
+			LiveReferenceVisitor visitor = new LiveReferenceVisitor(heapRegionManager, targetObject, table);
+			for (J9ObjectPointer object : liveReferrers) {
+				visitor.visit(object, null);
+			}
+			table.render(out);
+			return;
+		}
+		
 		LiveSetWalker.walkLiveSet(new LiveReferenceVisitor(heapRegionManager, targetObject, table));
 		
 		table.render(out);
@@ -21,8 +21,10 @@
  *******************************************************************************/
 package com.ibm.j9ddr.vm29.tools.ddrinteractive.commands;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.StringWriter;
+import java.util.List;
 import java.util.Stack;
 
 import com.ibm.j9ddr.CorruptDataException;
@@ -38,6 +40,7 @@ import com.ibm.j9ddr.vm29.j9.ConstantPoolHelpers;
 import com.ibm.j9ddr.vm29.j9.LiveSetWalker;
 import com.ibm.j9ddr.vm29.j9.LiveSetWalker.ObjectVisitor;
 import com.ibm.j9ddr.vm29.j9.ObjectModel;
+import com.ibm.j9ddr.vm29.j9.ReverseReferenceIndex;
 import com.ibm.j9ddr.vm29.j9.RootSet.RootSetType;
 import com.ibm.j9ddr.vm29.pointer.VoidPointer;
 import com.ibm.j9ddr.vm29.pointer.generated.J9BuildFlags;
@@ -134,17 +137,7 @@ public class RootPathCommand extends Command
 		
 		private void dumpTree()
 		{
-			_out.println("\n========================================");
-			for (int i = 0; i < _scanStack.size(); i++) {
-				for (int j = i; j > 0; j--) {
-					_out.print("  ");
-				}
-				try {
-					_out.println(objectToString(_scanStack.get(i)));
-				} catch (CorruptDataException cde) {
-					_out.println("Invalid Object");
-				}
-			}
+			dumpPath(_scanStack, _out);
 		}
 		
 		public void finishVisit(J9ObjectPointer object, VoidPointer address)
@@ -205,17 +198,7 @@ public class RootPathCommand extends Command
 		}
 		
 		private void dumpTree() {
-			_out.println("\n========================================");
-			for (int i = 0; i < _scanStack.size(); i++) {
-				for (int j = i; j > 0; j--) {
-					_out.print("  ");
-				}
-				try {
-					_out.println(objectToString(_scanStack.get(i)));
-				} catch (CorruptDataException cde) {
-					_out.println("Invalid Object");
-				}
-			}
+			dumpPath(_scanStack, _out);
 		}
 		
 		public void finishVisit(J9ObjectPointer object, VoidPointer address) {
@@ -223,9 +206,77 @@ public class RootPathCommand extends Command
 		}
 	}
 	
+	/**
+	 * Get the reverse reference index, if it is enabled and can be built.
+	 * @return the index, or null if the live set must be walked instead
+	 */
+	private static ReverseReferenceIndex getReverseReferenceIndex(J9ObjectPointer objectToFind, PrintStream out)
+	{
+		if (!ReverseReferenceIndex.isEnabled()) {
+			return null;
+		}
+		try {
+			ReverseReferenceIndex index = ReverseReferenceIndex.getIndex();
+			return index.contains(objectToFind) ? index : null;
+		} catch (CorruptDataException | IOException | RuntimeException e) {
+			out.println("Unable to build reverse reference index, walking live set: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private void findRootPath(J9ObjectPointer objectToFind, RootSetType rootSetType, PrintStream out) throws CorruptDataException
+	{
+		boolean pathFound;
+		ReverseReferenceIndex index = getReverseReferenceIndex(objectToFind, out);
+		if (null != index) {
+			List<J9ObjectPointer> path = index.findRootPath(objectToFind, rootSetType);
+			pathFound = (null != path);
+			if (pathFound) {
+				dumpPath(path, out);
+			}
+		} else {
+			RootPathFinder pathFinder = new RootPathFinder(objectToFind, out);
+			LiveSetWalker.walkLiveSet(pathFinder, rootSetType);
+			pathFound = pathFinder._pathFound;
+		}
+		if (!pathFound) {
+			out.println("No paths from roots found");
+		}
+	}
+
+	private boolean isObjectAlive(J9ObjectPointer objectToFind, PrintStream out) throws CorruptDataException
+	{
+		ReverseReferenceIndex index = getReverseReferenceIndex(objectToFind, out);
+		if (null != index) {
+			return null != index.findRootPath(objectToFind, RootSetType.STRONG_REACHABLE);
+		}
+		ObjectFinderVisitor objectFinder = new ObjectFinderVisitor(objectToFind);
+		LiveSetWalker.walkLiveSet(objectFinder);
+		return objectFinder._objectFound;
+	}
+
+	/**
+	 * Print a path from a root, each object indented below the one referring to it.
+	 */
+	private static void dumpPath(List<J9ObjectPointer> path, PrintStream out)
+	{
+		out.println("\n========================================");
+		for (int i = 0; i < path.size(); i++) {
+			for (int j = i; j > 0; j--) {
+				out.print("  ");
+			}
+			try {
+				out.println(objectToString(path.get(i)));
+			} catch (CorruptDataException cde) {
+				out.println("Invalid Object");
+			}
+		}
+	}
+
 	private class RootPathCommandListener implements IEventListener
 	{
-		public boolean _corruptionFound = false;
+		/* also set by the threads building the reverse reference index */
+		public volatile boolean _corruptionFound = false;
 		
 		public void corruptData(String message, CorruptDataException e, boolean fatal) 
 		{
@@ -281,27 +332,13 @@ public class RootPathCommand extends Command
 				} else if (command.equals("!weakrootpathfindall")) {
 					LiveSetWalker.walkLiveSet(new RootPathsFinder(objectToFind, out), RootSetType.WEAK_REACHABLE);
 				} else if (command.equals("!rootpathfind") || command.equals("!strongrootpathfind")) {
-					RootPathFinder pathFinder = new RootPathFinder(objectToFind, out);
-					LiveSetWalker.walkLiveSet(pathFinder, RootSetType.STRONG_REACHABLE);
-					if (!pathFinder._pathFound) {
-						out.println("No paths from roots found");
-					}
+					findRootPath(objectToFind, RootSetType.STRONG_REACHABLE, out);
 				} else if (command.equals("!anyrootpathfind")) {
-					RootPathFinder pathFinder = new RootPathFinder(objectToFind, out);
-					LiveSetWalker.walkLiveSet(pathFinder, RootSetType.ALL);
-					if (!pathFinder._pathFound) {
-						out.println("No paths from roots found");
-					}
-				} else if (command.equals("!weakrootpathfindall")) {
-					RootPathFinder pathFinder = new RootPathFinder(objectToFind, out);
-					LiveSetWalker.walkLiveSet(pathFinder, RootSetType.WEAK_REACHABLE);
-					if (!pathFinder._pathFound) {
-						out.println("No paths from roots found");
-					}
+					findRootPath(objectToFind, RootSetType.ALL, out);
+				} else if (command.equals("!weakrootpathfind")) {
+					findRootPath(objectToFind, RootSetType.WEAK_REACHABLE, out);
 				} else if (command.equals("!isobjectalive")) {
-					ObjectFinderVisitor objectFinder = new ObjectFinderVisitor(objectToFind);
-					LiveSetWalker.walkLiveSet(objectFinder);
-					if (objectFinder._objectFound) {
+					if (isObjectAlive(objectToFind, out)) {
 						out.println("Object is live");
 					} else {
 						out.println("Object is not live");
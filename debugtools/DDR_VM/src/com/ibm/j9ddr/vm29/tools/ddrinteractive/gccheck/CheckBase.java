@@ -81,6 +81,8 @@ public final class CheckBase
 	public static final int J9MODRON_GCCHK_MISC_MIDSCAVENGE = 0x00010000;
 	public static final int J9MODRON_GCCHK_MISC_OWNABLESYNCHRONIZER_CONSISTENCY = 0x00020000;
 	public static final int J9MODRON_GCCHK_VALID_INDEXABLE_DATA_ADDRESS = 0x00040000;
+	/* DDR only, check the heap regions on several threads */
+	public static final int J9MODRON_GCCHK_MISC_PARALLEL = 0x00080000;
 
 	/*
 	 * Return codes for iterator functions.
@@ -153,6 +153,7 @@ class CheckCycle
 		reporter.println("  midscavenge");
 		reporter.println("  scavengerbackout");
 		reporter.println("  ownablesynchronizerconsistency");
+		reporter.println("  parallel");
 		reporter.println();
 	}
 
@@ -333,6 +334,11 @@ class CheckCycle
 						continue;
 					}
 	
+					if(miscOption.equals("parallel")) {
+						miscFlags |= J9MODRON_GCCHK_MISC_PARALLEL;
+						continue;
+					}
+	
 					if(miscOption.equals("darkmatter")) {
 						miscFlags |= J9MODRON_GCCHK_MISC_DARKMATTER;
 						continue;
@@ -482,6 +488,19 @@ class CheckCycle
 		return ++_errorCount;
 	}
 
+	public int getErrorCount()
+	{
+		return _errorCount;
+	}
+
+	/**
+	 * Count the errors found by a check of part of the heap on a worker thread.
+	 */
+	public void addErrorCount(int count)
+	{
+		_errorCount += count;
+	}
+
 	public int getCheckFlags()
 	{
 		return _checkFlags;
@@ -23,8 +23,10 @@ package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
 
 import static com.ibm.j9ddr.vm29.structure.J9JavaAccessFlags.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import com.ibm.j9ddr.CorruptDataException;
 import com.ibm.j9ddr.InvalidDataTypeException;
@@ -118,6 +120,78 @@ class CheckEngine
 		_hrm = GCHeapRegionManager.fromHeapRegionManager(hrmPtr);
 	}
 	
+	/**
+	 * Copy an engine for checking part of the heap on another thread.
+	 * The copy shares the state of the check cycle, but has its own previous objects
+	 * and caches, and reports through a recorder of the sequence.
+	 */
+	private CheckEngine(CheckEngine parent, CheckReporterRecorder.Sequence sequence)
+	{
+		_javaVM = parent._javaVM;
+		_reporter = sequence.add();
+		_cycle = parent._cycle;
+		_currentCheck = parent._currentCheck;
+		_classSegmentsTree = parent._classSegmentsTree;
+		_hrm = parent._hrm;
+		_needVerifyOwnableSynchronizerConsistency = parent._needVerifyOwnableSynchronizerConsistency;
+		if (UNINITIALIZED_SIZE != parent._ownableSynchronizerObjectCountOnHeap) {
+			_ownableSynchronizerObjectCountOnHeap = 0;
+		}
+	}
+
+	/**
+	 * Create engines for checking parts of the heap on worker threads, one for each
+	 * part in heap order. The reports of an engine are sent to the reporter of this
+	 * engine once the engines before it have finished, so the errors are numbered and
+	 * reported as they are by a serial check. Each engine must be passed to
+	 * {@link #finishFork(boolean)} when its part is done, and then to
+	 * {@link #join(CheckEngine)}.
+	 * 
+	 * @param count the number of parts
+	 * @return the new engines
+	 */
+	public List<CheckEngine> fork(int count)
+	{
+		CheckReporterRecorder.Sequence sequence = new CheckReporterRecorder.Sequence(_reporter, _cycle);
+		List<CheckEngine> forks = new ArrayList<CheckEngine>(count);
+		for (int i = 0; i < count; i++) {
+			forks.add(new CheckEngine(this, sequence));
+		}
+		return forks;
+	}
+
+	/**
+	 * Report that the check of an engine created by {@link #fork(int)} is done.
+	 * 
+	 * @param complete false if the check ended with corrupt data, which ends the
+	 * check for the later parts of the heap
+	 */
+	public void finishFork(boolean complete)
+	{
+		((CheckReporterRecorder)_reporter).finish(complete);
+	}
+
+	/**
+	 * Add the counts of an engine created by {@link #fork(int)} to this engine.
+	 * 
+	 * @param fork the engine to join
+	 */
+	public void join(CheckEngine fork)
+	{
+		if ((UNINITIALIZED_SIZE != _ownableSynchronizerObjectCountOnHeap) && (UNINITIALIZED_SIZE != fork._ownableSynchronizerObjectCountOnHeap)) {
+			_ownableSynchronizerObjectCountOnHeap += fork._ownableSynchronizerObjectCountOnHeap;
+		}
+	}
+
+	private int nextErrorCount()
+	{
+		if (_reporter instanceof CheckReporterRecorder) {
+			/* Forked engines are numbered by their recorder */
+			return 0;
+		}
+		return _cycle.nextErrorCount();
+	}
+
 	public J9JavaVMPointer getJavaVM()
 	{
 		return _javaVM;
@@ -159,6 +233,11 @@ class CheckEngine
 		return (_cycle.getMiscFlags() & J9MODRON_GCCHK_VALID_INDEXABLE_DATA_ADDRESS) != 0;
 	}
 	
+	public boolean isParallelFlagSet()
+	{
+		return (_cycle.getMiscFlags() & J9MODRON_GCCHK_MISC_PARALLEL) != 0;
+	}
+
 	public boolean isScavengerBackoutFlagSet()
 	{
 		return (_cycle.getMiscFlags() & J9MODRON_GCCHK_SCAVENGER_BACKOUT) != 0;
@@ -184,7 +263,7 @@ class CheckEngine
 				/* this is a hole */
 				result = checkJ9LinkedFreeHeader(GCHeapLinkedFreeHeader.fromJ9Object(object), regionDesc, _cycle.getCheckFlags());
 				if (J9MODRON_GCCHK_RC_OK != result) {
-					CheckError error = new CheckError(object, _cycle, _currentCheck, "Object", result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(object, _cycle, _currentCheck, "Object", result, nextErrorCount());
 					_reporter.report(error);
 					/* There are some error cases would not prevent further iteration */
 					if (!((J9MODRON_GCCHK_RC_DEAD_OBJECT_NEXT_IS_NOT_HOLE == result) ||
@@ -198,7 +277,7 @@ class CheckEngine
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 		}
@@ -210,13 +289,13 @@ class CheckEngine
 			result = checkJ9Object(object, regionDesc, _cycle.getCheckFlags());
 		} catch (CorruptDataException cde) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 		}
 		if (J9MODRON_GCCHK_RC_OK != result) {
 			String elementName = isIndexable ? "IObject " : "Object ";
-			CheckError error = new CheckError(object, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, elementName, result, nextErrorCount());
 			_reporter.report(error);
 			/* There are some error cases would not prevent further iteration */
 			if (!(J9MODRON_GCCHK_RC_CLASS_IS_UNLOADED == result)) {
@@ -232,7 +311,7 @@ class CheckEngine
 			if (needVerifyOwnableSynchronizerConsistency()) {
 				if (J9Object.OBJECT_HEADER_SHAPE_MIXED == ObjectModel.getClassShape(clazz).intValue() && !J9ClassHelper.classFlags(clazz).bitAnd(J9AccClassOwnableSynchronizer).eq(0)) {
 					if (ObjectAccessBarrier.isObjectInOwnableSynchronizerList(object).isNull()) {
-						CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_OWNABLE_SYNCHRONIZER_OBJECT_IS_NOT_ATTACHED_TO_THE_LIST, _cycle.nextErrorCount());
+						CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_OWNABLE_SYNCHRONIZER_OBJECT_IS_NOT_ATTACHED_TO_THE_LIST, nextErrorCount());
 						_reporter.report(error);
 					} else {
 						_ownableSynchronizerObjectCountOnHeap += 1;
@@ -241,7 +320,7 @@ class CheckEngine
 			}
 		} catch (CorruptDataException cde) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 		}
@@ -255,7 +334,7 @@ class CheckEngine
 				addressIterator = GCObjectIterator.fromJ9Object(object, true);
 			} catch (CorruptDataException e) {
 				// TODO : cde should be part of the error
-				CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+				CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 				_reporter.report(error);
 				return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 			}
@@ -316,14 +395,14 @@ class CheckEngine
 			scavengerEnabled = GCExtensions.scavengerEnabled();
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(object, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 		}
 		
 		if (J9MODRON_GCCHK_RC_OK != result) {
 			String elementName = isIndexable ? "IObject " : "Object ";
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, result, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_OK;
 		}
@@ -347,7 +426,7 @@ class CheckEngine
 						isOld = ObjectModel.isOld(object);
 					} catch (CorruptDataException e) {
 						// TODO : cde should be part of the error
-						CheckError error = new CheckError(objectIndirectBase, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+						CheckError error = new CheckError(objectIndirectBase, _cycle, _currentCheck, "Object ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 						_reporter.report(error);
 						return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
 					}
@@ -355,7 +434,7 @@ class CheckEngine
 					/* Old objects that point to new objects should have remembered bit ON */
 					if (regionType.allBitsIn(MEMORY_TYPE_OLD) && objectRegionType.allBitsIn(MEMORY_TYPE_NEW) && !isRemembered) {
 						String elementName = isIndexable ? "IObject " : "Object ";
-						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_NEW_POINTER_NOT_REMEMBERED, _cycle.nextErrorCount());
+						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_NEW_POINTER_NOT_REMEMBERED, nextErrorCount());
 						_reporter.report(error);
 						return J9MODRON_SLOT_ITERATOR_OK;
 					}
@@ -363,7 +442,7 @@ class CheckEngine
 					/* Old objects that point to objects with old bit OFF should have remembered bit ON */
 					if (regionType.allBitsIn(MEMORY_TYPE_OLD) && !isOld && !isRemembered) {
 						String elementName = isIndexable ? "IObject " : "Object ";
-						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, _cycle.nextErrorCount());
+						CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, elementName, J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, nextErrorCount());
 						_reporter.report(error);
 						return J9MODRON_SLOT_ITERATOR_OK;						
 					}
@@ -576,12 +655,12 @@ class CheckEngine
 			object = J9ObjectPointer.cast(objectIndirect.at(0));
 			int result = checkObjectIndirect(object);
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount(), objectType);
+				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, nextErrorCount(), objectType);
 				_reporter.report(error);
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount(), objectType);
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount(), objectType);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -597,12 +676,12 @@ class CheckEngine
 				result = checkStackObject(object);
 			}
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount(), objectType);
+				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, nextErrorCount(), objectType);
 				_reporter.report(error);
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount(), objectType);
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount(), objectType);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -618,13 +697,13 @@ class CheckEngine
 				result = checkStackObject(object);
 			}
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, result, _cycle.nextErrorCount());
+				CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, result, nextErrorCount());
 				_reporter.report(error);
 				return J9MODRON_SLOT_ITERATOR_RECOVERABLE_ERROR;
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(vmThread, objectIndirect, stackLocation, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 			return J9MODRON_SLOT_ITERATOR_RECOVERABLE_ERROR;
 		}
@@ -683,7 +762,7 @@ class CheckEngine
 			
 			int result = checkObjectIndirect(object);
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount());
+				CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, result, nextErrorCount());
 				_reporter.report(error);
 				return J9MODRON_SLOT_ITERATOR_OK;
 			}
@@ -694,14 +773,14 @@ class CheckEngine
 				
 				if (objectRegion == null) {
 					/* shouldn't happen, since checkObjectIndirect() already verified this object */
-					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_NOT_FOUND, _cycle.nextErrorCount());
+					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_NOT_FOUND, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
 
 				/* we shouldn't have newspace references in the remembered set */
 				if (objectRegion.getTypeFlags().allBitsIn(MEMORY_TYPE_NEW)) {
-					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_WRONG_SEGMENT, _cycle.nextErrorCount());
+					CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_WRONG_SEGMENT, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
@@ -719,7 +798,7 @@ class CheckEngine
 				if (!skipObject) {
 					/* content of Remembered Set should be Old and Remembered */
 					if (!ObjectModel.isOld(object) || !ObjectModel.isRemembered(object)) {
-						CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_FLAGS, _cycle.nextErrorCount());
+						CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_REMEMBERED_SET_FLAGS, nextErrorCount());
 						_reporter.report(error);
 						_reporter.reportObjectHeader(error, object, null);
 						return J9MODRON_SLOT_ITERATOR_OK;
@@ -729,7 +808,7 @@ class CheckEngine
 			
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(puddle, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -742,12 +821,12 @@ class CheckEngine
 			object = J9ObjectPointer.cast(objectIndirect.at(0));
 			int result = checkObjectIndirect(object);
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, _cycle.nextErrorCount(), CheckError.check_type_other);
+				CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, result, nextErrorCount(), CheckError.check_type_other);
 				_reporter.report(error);
 			}
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount(), CheckError.check_type_other);
+			CheckError error = new CheckError(objectIndirectBase, objectIndirect, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount(), CheckError.check_type_other);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -763,7 +842,7 @@ class CheckEngine
 		try {
 			result = checkJ9Class(clazz, segment, _cycle.getCheckFlags());
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+				CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 				_reporter.report(error);
 			}
 		
@@ -790,7 +869,7 @@ class CheckEngine
 						elementName = "slots "; 
 						break;
 					}
-					CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, elementName, result, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
@@ -799,7 +878,7 @@ class CheckEngine
 					/* If the slot has its old bit OFF, the class's remembered bit should be ON */
 					if (object.notNull() && !ObjectModel.isOld(object)) {
 						if (!ObjectModel.isRemembered(clazz.classObject())) {
-							CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, _cycle.nextErrorCount());
+							CheckError error = new CheckError(clazz, slotPtr, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REMEMBERED_SET_OLD_OBJECT, nextErrorCount());
 							_reporter.report(error);
 							return J9MODRON_SLOT_ITERATOR_OK;
 						}
@@ -815,7 +894,7 @@ class CheckEngine
 			J9ClassPointer replaced = clazz.replacedClass();
 			if (replaced.notNull()) {
 				if (!J9ClassHelper.isSwappedOut(replaced)) {
-					CheckError error = new CheckError(clazz, clazz.replacedClassEA(), _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REPLACED_CLASS_HAS_NO_HOTSWAP_FLAG, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, clazz.replacedClassEA(), _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_REPLACED_CLASS_HAS_NO_HOTSWAP_FLAG, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
@@ -861,7 +940,7 @@ class CheckEngine
 				}
 				
 				if (J9MODRON_GCCHK_RC_OK != result) {
-					CheckError error = new CheckError(clazz, classSlotPtr, _cycle, _currentCheck, elementName, result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, classSlotPtr, _cycle, _currentCheck, elementName, result, nextErrorCount());
 					_reporter.report(error);
 					return J9MODRON_SLOT_ITERATOR_OK;
 				}
@@ -869,7 +948,7 @@ class CheckEngine
 					
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 		}
 		
@@ -894,7 +973,7 @@ class CheckEngine
 				if (J9ClassHelper.isArrayClass(clazz)) {
 					/* j9arrayclass should not be hot swapped */
 					result = J9MODRON_GCCHK_RC_CLASS_HOT_SWAPPED_FOR_ARRAY;
-					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 					_reporter.report(error);
 					return result;
 				}
@@ -947,7 +1026,7 @@ class CheckEngine
 					/* an address must be in gc scan range */
 					if (!(address.gte(sectionStart) && address.lt(sectionEnd))) {
 						result = J9MODRON_GCCHK_RC_CLASS_STATICS_REFERENCE_IS_NOT_IN_SCANNING_RANGE;
-						CheckError error = new CheckError(clazz, address, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+						CheckError error = new CheckError(clazz, address, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 						_reporter.report(error);
 					}
 					
@@ -964,14 +1043,14 @@ class CheckEngine
 	
 				if (!numberOfReferences.eq(romClazz.objectStaticCount())) {
 					result = J9MODRON_GCCHK_RC_CLASS_STATICS_WRONG_NUMBER_OF_REFERENCES;
-					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, _cycle.nextErrorCount());
+					CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", result, nextErrorCount());
 					_reporter.report(error);
 				}
 			}
 			
 		} catch (CorruptDataException e) {
 			// TODO : cde should be part of the error
-			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(clazz, _cycle, _currentCheck, "Class ", J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);
 		}		
 		
@@ -1404,7 +1483,7 @@ class CheckEngine
 	{
 		int result = checkObjectIndirect(object);
 		if (J9MODRON_GCCHK_RC_OK != result) {
-			CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, result, _cycle.nextErrorCount());
+			CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, result, nextErrorCount());
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -1418,7 +1497,7 @@ class CheckEngine
 		try {
 			int result = checkObjectIndirect(object);
 			if (J9MODRON_GCCHK_RC_OK != result) {
-				CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, result, _cycle.nextErrorCount());
+				CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, result, nextErrorCount());
 				_reporter.report(error);
 				_reporter.reportHeapWalkError(error, _lastHeapObject1, _lastHeapObject2, _lastHeapObject3);
 				return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
@@ -1426,11 +1505,11 @@ class CheckEngine
 			
 			J9ClassPointer instanceClass = J9ObjectHelper.clazz(object);
 			if (J9ClassHelper.classFlags(instanceClass).bitAnd(J9AccClassOwnableSynchronizer).eq(0)) {
-				CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, J9MODRON_GCCHK_RC_INVALID_FLAGS, _cycle.nextErrorCount());
+				CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, J9MODRON_GCCHK_RC_INVALID_FLAGS, nextErrorCount());
 				_reporter.report(error);
 			}			
 		} catch (CorruptDataException e) {
-			CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, _cycle.nextErrorCount());
+			CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, J9MODRON_GCCHK_RC_CORRUPT_DATA_EXCEPTION, nextErrorCount());
 			_reporter.report(error);			
 			_reporter.reportHeapWalkError(error, _lastHeapObject1, _lastHeapObject2, _lastHeapObject3);
 			return J9MODRON_SLOT_ITERATOR_UNRECOVERABLE_ERROR;
@@ -1443,7 +1522,7 @@ class CheckEngine
 	{
 		int result = checkObjectIndirect(object);
 		if (J9MODRON_GCCHK_RC_OK != result) {
-			CheckError error = new CheckError(object, null, _cycle, _currentCheck, result, _cycle.nextErrorCount(), CheckError.check_type_finalizable);
+			CheckError error = new CheckError(object, null, _cycle, _currentCheck, result, nextErrorCount(), CheckError.check_type_finalizable);
 			_reporter.report(error);
 		}
 		return J9MODRON_SLOT_ITERATOR_OK;
@@ -1475,7 +1554,7 @@ class CheckEngine
 
 	public void reportOwnableSynchronizerCircularReferenceError(J9ObjectPointer object, MM_OwnableSynchronizerObjectListPointer currentList)
 	{
-		CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, J9MODRON_GCCHK_OWNABLE_SYNCHRONIZER_LIST_HAS_CIRCULAR_REFERENCE, _cycle.nextErrorCount());
+		CheckError error = new CheckError(currentList, object, _cycle, _currentCheck, J9MODRON_GCCHK_OWNABLE_SYNCHRONIZER_LIST_HAS_CIRCULAR_REFERENCE, nextErrorCount());
 		_reporter.report(error);
 		_reporter.reportHeapWalkError(error, _lastHeapObject1, _lastHeapObject2, _lastHeapObject3);
 	}
@@ -21,6 +21,10 @@
  *******************************************************************************/
 package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.ibm.j9ddr.CorruptDataException;
 
 import com.ibm.j9ddr.vm29.j9.gc.GCExtensions;
@@ -28,6 +32,7 @@ import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
 import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
 import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
 import com.ibm.j9ddr.vm29.j9.gc.GCScavengerForwardedHeader;
+import com.ibm.j9ddr.vm29.j9.walkers.ParallelHeapRegionWalker;
 import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
 import com.ibm.j9ddr.vm29.types.UDATA;
 import static com.ibm.j9ddr.vm29.structure.J9MemorySegment.MEMORY_TYPE_NEW;
@@ -46,43 +51,92 @@ class CheckObjectHeap extends Check
 			boolean midScavenge = _engine.isMidscavengeFlagSet();
 			boolean isVLHGC = GCExtensions.isVLHGC();
 
+			if (_engine.isParallelFlagSet()) {
+				checkParallel(ParallelHeapRegionWalker.getRegions(regions), midScavenge, isVLHGC);
+				return;
+			}
+
 			while (regions.hasNext()) {
 				GCHeapRegionDescriptor region = GCHeapRegionDescriptor.fromHeapRegionDescriptor(regions.next());
-				boolean isRegionTypeNew = region.getTypeFlags().allBitsIn(MEMORY_TYPE_NEW);
-				
-				GCObjectHeapIterator heapIterator = region.objectIterator(true, true);
-				while(heapIterator.hasNext()) {
-					J9ObjectPointer object = heapIterator.peek();
-
-					if (midScavenge && (isVLHGC || isRegionTypeNew)) {
-						GCScavengerForwardedHeader scavengerForwardedHeader = GCScavengerForwardedHeader.fromJ9Object(object);
-						if (scavengerForwardedHeader.isForwardedPointer()) {
-							//forwarded pointer is discovered
-							//report it
-							_engine.reportForwardedObject(object, scavengerForwardedHeader.getForwardedObject());
-							
-							//and skip it by advancing of iterator to the next object
-							UDATA objectSize = scavengerForwardedHeader.getObjectSize();
-							heapIterator.advance(objectSize);
-							_engine.pushPreviousObject(object);
-							continue;
-						}
-					}
-
-					int result = _engine.checkObjectHeap(object, region);
-					if(result != J9MODRON_SLOT_ITERATOR_OK) {
-						break;
-					}
-
-					heapIterator.next();
-					_engine.pushPreviousObject(object);
-				}
+				checkRegion(_engine, region, midScavenge, isVLHGC);
 			}
 		} catch (CorruptDataException e) {
 			// TODO: handle exception
 		}
 	}
 
+	/**
+	 * Check each region with a forked engine on a worker thread. The reports are
+	 * sent in region order, and as for the serial check, the first region with
+	 * corrupt data ends the check.
+	 */
+	private void checkParallel(List<GCHeapRegionDescriptor> regions, final boolean midScavenge, final boolean isVLHGC) throws CorruptDataException
+	{
+		final List<CheckEngine> forks = _engine.fork(regions.size());
+		final Map<GCHeapRegionDescriptor, CheckEngine> forkOfRegion = new IdentityHashMap<GCHeapRegionDescriptor, CheckEngine>();
+		for (int i = 0; i < regions.size(); i++) {
+			forkOfRegion.put(regions.get(i), forks.get(i));
+		}
+
+		List<Boolean> complete = ParallelHeapRegionWalker.walk(regions, new ParallelHeapRegionWalker.RegionTask<Boolean>() {
+			public Boolean walk(GCHeapRegionDescriptor regionDesc) throws CorruptDataException
+			{
+				CheckEngine engine = forkOfRegion.get(regionDesc);
+				boolean result = false;
+				try {
+					GCHeapRegionDescriptor region = GCHeapRegionDescriptor.fromHeapRegionDescriptor(regionDesc);
+					checkRegion(engine, region, midScavenge, isVLHGC);
+					result = true;
+				} catch (CorruptDataException e) {
+					// ends the check, as for a serial check
+				} finally {
+					engine.finishFork(result);
+				}
+				return Boolean.valueOf(result);
+			}
+		});
+
+		for (int i = 0; i < forks.size(); i++) {
+			_engine.join(forks.get(i));
+			if (!complete.get(i).booleanValue()) {
+				break;
+			}
+		}
+	}
+
+	private static void checkRegion(CheckEngine engine, GCHeapRegionDescriptor region, boolean midScavenge, boolean isVLHGC) throws CorruptDataException
+	{
+		boolean isRegionTypeNew = region.getTypeFlags().allBitsIn(MEMORY_TYPE_NEW);
+
+		GCObjectHeapIterator heapIterator = region.objectIterator(true, true);
+		while(heapIterator.hasNext()) {
+			J9ObjectPointer object = heapIterator.peek();
+
+			if (midScavenge && (isVLHGC || isRegionTypeNew)) {
+				GCScavengerForwardedHeader scavengerForwardedHeader = GCScavengerForwardedHeader.fromJ9Object(object);
+				if (scavengerForwardedHeader.isForwardedPointer()) {
+					//forwarded pointer is discovered
+					//report it
+					engine.reportForwardedObject(object, scavengerForwardedHeader.getForwardedObject());
+					
+					//and skip it by advancing of iterator to the next object
+					UDATA objectSize = scavengerForwardedHeader.getObjectSize();
+					heapIterator.advance(objectSize);
+					engine.pushPreviousObject(object);
+					continue;
+				}
+			}
+
+			int result = engine.checkObjectHeap(object, region);
+			if(result != J9MODRON_SLOT_ITERATOR_OK) {
+				break;
+			}
+
+			heapIterator.next();
+			engine.pushPreviousObject(object);
+		}
+	}
+
 	@Override
 	public String getCheckName()
 	{
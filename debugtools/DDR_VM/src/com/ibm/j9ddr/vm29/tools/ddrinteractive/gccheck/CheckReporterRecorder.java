@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+
+/**
+ * Reports for a check of one part of the heap running on a worker thread.
+ * 
+ * The recorders of a parallel check form a {@link Sequence} in heap order. The
+ * recorder of the first part that has not finished sends its reports straight
+ * to the real reporter; the others record their reports until all the earlier
+ * parts have finished. Errors are numbered as they are sent, so the numbering
+ * (and so the maximum number of errors reported) is the same as for a serial
+ * check, and errors that could not be reported under the maximum are not
+ * recorded. As for a serial check, nothing is reported for the parts after the
+ * first one that ended with corrupt data.
+ */
+class CheckReporterRecorder extends CheckReporter
+{
+	/**
+	 * The recorders of a parallel check, in heap order.
+	 * All reports go through the sequence, which is also their lock.
+	 */
+	static final class Sequence
+	{
+		private final CheckReporter _reporter;
+		private final CheckCycle _cycle;
+		private final List<CheckReporterRecorder> _recorders = new ArrayList<CheckReporterRecorder>();
+		private int _head;
+		private boolean _stopped;
+
+		Sequence(CheckReporter reporter, CheckCycle cycle)
+		{
+			_reporter = reporter;
+			_cycle = cycle;
+		}
+
+		/**
+		 * Add a recorder for the next part of the heap.
+		 */
+		synchronized CheckReporterRecorder add()
+		{
+			CheckReporterRecorder recorder = new CheckReporterRecorder(this);
+			recorder.setMaxErrorsToReport(_reporter._maxErrorsToReport);
+			_recorders.add(recorder);
+			if (_recorders.size() == _head + 1) {
+				recorder.start();
+			}
+			return recorder;
+		}
+
+		synchronized void finish(CheckReporterRecorder recorder, boolean complete)
+		{
+			recorder._finished = true;
+			recorder._complete = complete;
+			while ((_head < _recorders.size()) && _recorders.get(_head)._finished) {
+				CheckReporterRecorder finished = _recorders.get(_head++);
+				if (!_stopped) {
+					_cycle.addErrorCount(finished._errorCount);
+					_stopped = !finished._complete;
+				}
+				if (_head < _recorders.size()) {
+					_recorders.get(_head).start();
+				}
+			}
+		}
+	}
+
+	private interface Report
+	{
+		public void replay(CheckReporter reporter);
+	}
+
+	private abstract static class ErrorReport implements Report
+	{
+		final CheckError error;
+		final int errorCount;
+
+		ErrorReport(CheckError error, int errorCount)
+		{
+			this.error = error;
+			this.errorCount = errorCount;
+		}
+	}
+
+	private final Sequence _sequence;
+	private List<Report> _reports = new ArrayList<Report>();
+	/* set once all the earlier parts have finished */
+	private boolean _started;
+	private boolean _finished;
+	private boolean _complete;
+	/* the number of the first error is one more than this, once started */
+	private int _errorBase;
+	/* the number of errors found so far */
+	private int _errorCount;
+	private CheckError _lastError;
+
+	private CheckReporterRecorder(Sequence sequence)
+	{
+		_sequence = sequence;
+	}
+
+	/**
+	 * Report that the check of this part of the heap is done, so that later
+	 * parts can report. Later parts are not reported if it is not complete.
+	 * 
+	 * @param complete false if the check ended with corrupt data
+	 */
+	void finish(boolean complete)
+	{
+		_sequence.finish(this, complete);
+	}
+
+	/* Called with the sequence lock held */
+	private void start()
+	{
+		List<Report> reports = _reports;
+		_reports = null;
+		_started = true;
+		if (_sequence._stopped) {
+			return;
+		}
+		_errorBase = _sequence._cycle.getErrorCount();
+		for (Report report : reports) {
+			if (report instanceof ErrorReport) {
+				ErrorReport errorReport = (ErrorReport) report;
+				errorReport.error._errorNumber = _errorBase + errorReport.errorCount;
+			}
+			report.replay(_sequence._reporter);
+		}
+		if (_lastError != null) {
+			_lastError._errorNumber = _errorBase + _errorCount;
+		}
+	}
+
+	/**
+	 * Number an error when it is first reported. The reports for an error are
+	 * made one after another, so only the last error needs to be remembered.
+	 * 
+	 * @return true if the reports for the error can be sent or recorded
+	 */
+	private boolean number(CheckError error)
+	{
+		if (error != _lastError) {
+			_lastError = error;
+			_errorCount += 1;
+			error._errorNumber = _started ? (_errorBase + _errorCount) : _errorCount;
+		}
+		/* Until started, the number is a lower bound of the final number */
+		return _started || shouldReport(error);
+	}
+
+	private void record(Report report)
+	{
+		if (_sequence._stopped) {
+			/* an earlier part ended the check */
+		} else if (_started) {
+			report.replay(_sequence._reporter);
+		} else {
+			_reports.add(report);
+		}
+	}
+
+	@Override
+	public void report(final CheckError error)
+	{
+		synchronized (_sequence) {
+			if (number(error)) {
+				record(new ErrorReport(error, _errorCount) {
+					public void replay(CheckReporter reporter)
+					{
+						reporter.report(error);
+					}
+				});
+			}
+		}
+	}
+
+	@Override
+	public void reportObjectHeader(final CheckError error, final J9ObjectPointer objectPtr, final String prefix)
+	{
+		synchronized (_sequence) {
+			if (number(error)) {
+				record(new ErrorReport(error, _errorCount) {
+					public void replay(CheckReporter reporter)
+					{
+						reporter.reportObjectHeader(error, objectPtr, prefix);
+					}
+				});
+			}
+		}
+	}
+
+	@Override
+	public void reportClass(final CheckError error, final J9ClassPointer clazz, final String prefix)
+	{
+		synchronized (_sequence) {
+			if (number(error)) {
+				record(new ErrorReport(error, _errorCount) {
+					public void replay(CheckReporter reporter)
+					{
+						reporter.reportClass(error, clazz, prefix);
+					}
+				});
+			}
+		}
+	}
+
+	@Override
+	public void reportFatalError(final CheckError error)
+	{
+		synchronized (_sequence) {
+			/* Fatal errors are reported whatever their number */
+			number(error);
+			record(new ErrorReport(error, _errorCount) {
+				public void replay(CheckReporter reporter)
+				{
+					reporter.reportFatalError(error);
+				}
+			});
+		}
+	}
+
+	@Override
+	public void reportHeapWalkError(final CheckError error, CheckElement previousObjectPtr1, CheckElement previousObjectPtr2, CheckElement previousObjectPtr3)
+	{
+		/* The engine keeps updating its previous objects, so keep a copy */
+		final CheckElement previous1 = copyOf(previousObjectPtr1);
+		final CheckElement previous2 = copyOf(previousObjectPtr2);
+		final CheckElement previous3 = copyOf(previousObjectPtr3);
+		synchronized (_sequence) {
+			/* Fatal errors are reported whatever their number */
+			number(error);
+			record(new ErrorReport(error, _errorCount) {
+				public void replay(CheckReporter reporter)
+				{
+					reporter.reportHeapWalkError(error, previous1, previous2, previous3);
+				}
+			});
+		}
+	}
+
+	private static CheckElement copyOf(CheckElement element)
+	{
+		CheckElement copy = new CheckElement();
+		copy.copyFrom(element);
+		return copy;
+	}
+
+	@Override
+	public void reportForwardedObject(final J9ObjectPointer object, final J9ObjectPointer newObject)
+	{
+		synchronized (_sequence) {
+			record(new Report() {
+				public void replay(CheckReporter reporter)
+				{
+					reporter.reportForwardedObject(object, newObject);
+				}
+			});
+		}
+	}
+
+	@Override
+	public void print(final String arg)
+	{
+		synchronized (_sequence) {
+			record(new Report() {
+				public void replay(CheckReporter reporter)
+				{
+					reporter.print(arg);
+				}
+			});
+		}
+	}
+
+	@Override
+	public void println(final String arg)
+	{
+		synchronized (_sequence) {
+			record(new Report() {
+				public void replay(CheckReporter reporter)
+				{
+					reporter.println(arg);
+				}
+			});
+		}
+	}
+}
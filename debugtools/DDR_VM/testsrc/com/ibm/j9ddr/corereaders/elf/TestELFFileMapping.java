@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.j9ddr.corereaders.elf;
+
+import static org.junit.Assert.*;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestELFFileMapping
+{
+	private static File file;
+	private static byte[] contents;
+
+	@BeforeClass
+	public static void createFile() throws IOException
+	{
+		contents = new byte[10000];
+		for (int i = 0; i < contents.length; i++) {
+			contents[i] = (byte) (i * 31);
+		}
+		file = File.createTempFile("TestELFFileMapping", ".dat");
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write(contents);
+		}
+	}
+
+	@AfterClass
+	public static void deleteFile()
+	{
+		file.delete();
+	}
+
+	private static void checkRead(ELFFileMapping mapping, int position, int length) throws IOException
+	{
+		byte[] buffer = new byte[length + 2];
+		mapping.read(position, buffer, 1, length);
+		assertEquals(0, buffer[0]);
+		for (int i = 0; i < length; i++) {
+			assertEquals("Byte at " + (position + i), contents[position + i], buffer[i + 1]);
+		}
+		assertEquals(0, buffer[length + 1]);
+	}
+
+	@Test
+	public void testReadWithinWindow() throws IOException
+	{
+		ELFFileMapping mapping = ELFFileMapping.open(file, 12);
+		try {
+			assertEquals(contents.length, mapping.length());
+			checkRead(mapping, 0, 16);
+			checkRead(mapping, 100, 1000);
+			checkRead(mapping, contents.length - 8, 8);
+		} finally {
+			mapping.close();
+		}
+	}
+
+	@Test
+	public void testReadAcrossWindows() throws IOException
+	{
+		ELFFileMapping mapping = ELFFileMapping.open(file, 12);
+		try {
+			checkRead(mapping, 4090, 12);
+			checkRead(mapping, 0, contents.length);
+		} finally {
+			mapping.close();
+		}
+	}
+
+	@Test
+	public void testReadBeyondEnd() throws IOException
+	{
+		ELFFileMapping mapping = ELFFileMapping.open(file, 12);
+		try {
+			try {
+				mapping.read(contents.length - 4, new byte[8], 0, 8);
+				fail("Expected EOFException");
+			} catch (EOFException e) {
+				// expected
+			}
+			try {
+				mapping.read(-1, new byte[1], 0, 1);
+				fail("Expected EOFException");
+			} catch (EOFException e) {
+				// expected
+			}
+		} finally {
+			mapping.close();
+		}
+	}
+}
@@ -1787,7 +1787,7 @@ Method getMethodHelper(
 			result = getMethodImpl(name, parameterTypes, strSig, publicOnly);
 			/* Retrieve the specified method implemented by the superclass from the top to the bottom. */
 			if ((result != null) && result.getDeclaringClass().isInterface()) {
-				HashMap<Class<?>, HashMap<MethodInfo, MethodInfo>> infoCache = new HashMap<>(16);
+				HashMap<Class<?>, MethodSet> infoCache = new HashMap<>(16);
 				result = getMostSpecificMethodFromAllInterfacesOfAllSuperclasses(infoCache, name, parameterTypes);
 				candidateFromInterface = true;
 			}
@@ -1866,6 +1866,12 @@ Method getMethodHelper(
 		// The initial result is not a public method to be searched, and no other public methods found.
 		return null;
 	} else {
+		if (candidateFromInterface && reflectCacheEnabled) {
+			/* the interface methods are shared with the cached method sets, and
+			 * cacheMethod() doesn't copy the method in every case
+			 */
+			bestCandidate = copyMethods(new Method[] { bestCandidate })[0];
+		}
 		return cacheMethod(bestCandidate);
 	}
 }
@@ -1881,7 +1887,7 @@ Method getMethodHelper(
  *         otherwise, return the method of the first interface from the top superclass
  *         if the return types of all specified methods are identical.
  */
-private Method getMostSpecificMethodFromAllInterfacesOfAllSuperclasses(HashMap<Class<?>, HashMap<MethodInfo, MethodInfo>> infoCache,
+private Method getMostSpecificMethodFromAllInterfacesOfAllSuperclasses(HashMap<Class<?>, MethodSet> infoCache,
 	String name, Class<?>... parameterTypes)
 {
 	Method candidateMethod = null;
@@ -1907,7 +1913,7 @@ private Method getMostSpecificMethodFromAllInterfacesOfAllSuperclasses(HashMap<C
  * @return the most specific method selected from all interfaces;
  *         otherwise if return types from all qualifying methods are identical, return an arbitrary method.
  */
-private Method getMostSpecificMethodFromAllInterfacesOfCurrentClass(HashMap<Class<?>, HashMap<MethodInfo, MethodInfo>> infoCache,
+private Method getMostSpecificMethodFromAllInterfacesOfCurrentClass(HashMap<Class<?>, MethodSet> infoCache,
 	Method potentialCandidate, String name, Class<?>... parameterTypes)
 {
 	Method bestMethod = potentialCandidate;
@@ -1915,7 +1921,7 @@ private Method getMostSpecificMethodFromAllInterfacesOfCurrentClass(HashMap<Clas
 	if (null == infoCache) {
 		infoCache = new HashMap<>(16);
 	}
-	HashMap<MethodInfo, MethodInfo> methodCandidates = getMethodSet(infoCache, false, true);
+	HashMap<MethodInfo, MethodInfo> methodCandidates = getMethodSet(infoCache, true);
 
 	for (MethodInfo mi : methodCandidates.values()) {
 		if (null == mi.jlrMethods) {
@@ -2050,8 +2056,8 @@ public Method[] getMethods() throws SecurityException {
 
 	/*[PR CMVC 192714,194493] prepare the class before attempting to access members */
 	J9VMInternals.prepare(this);
-	HashMap<Class<?>, HashMap<MethodInfo, MethodInfo>> infoCache = new HashMap<>(16);
-	HashMap<MethodInfo, MethodInfo> myMethods = getMethodSet(infoCache, false, false);
+	HashMap<Class<?>, MethodSet> infoCache = new HashMap<>(16);
+	HashMap<MethodInfo, MethodInfo> myMethods = getMethodSet(infoCache, false);
 	ArrayList<Method> myMethodList = new ArrayList<>(16);
 	for (MethodInfo mi: myMethods.values()) { /* don't know how big this will be at the start */
 		if (null == mi.jlrMethods) {
@@ -2062,132 +2068,174 @@ public Method[] getMethods() throws SecurityException {
 			}
 		}
 	}
-	methods = myMethodList.toArray(new Method[myMethodList.size()]);
-	return cacheMethods(Reflection.filterMethods(this, methods), CacheKey.PublicMethodsKey);
-}
-
-private HashMap<MethodInfo, MethodInfo> getMethodSet(
-		HashMap<Class<?>, HashMap<MethodInfo, MethodInfo>> infoCache,
-		boolean virtualOnly, boolean localInterfacesOnly) {
-	/* virtualOnly must be false only for the bottom class of the hierarchy */
-	HashMap<MethodInfo, MethodInfo> myMethods = infoCache.get(this);
-	if (null == myMethods) {
-		/* haven't visited this class.  Initialize with the methods from the VTable which take priority */
-		myMethods = new HashMap<>(16);
-		if (!isInterface() && !localInterfacesOnly) {
-			int vCount = 0;
-			int sCount = 0;
-			Method methods[] = null; /* this includes the superclass's virtual and static methods. */
-			Set<MethodInfo> methodFilter = null;
-			boolean noHotswap = true;
-			do {
-				/* atomically get the list of methods, iterate if a hotswap occurred */
-				vCount = getVirtualMethodCountImpl(); /* returns only public methods */
-				sCount = getStaticMethodCountImpl();
-				methods = (Method[])Method.class.allocateAndFillArray(vCount + sCount);
-				if (null == methods) {
-					throw new Error("Error retrieving class methods"); //$NON-NLS-1$
+	methods = Reflection.filterMethods(this, myMethodList.toArray(new Method[myMethodList.size()]));
+	Method[] result = cacheMethods(methods, CacheKey.PublicMethodsKey);
+	if ((result == methods) && reflectCacheEnabled) {
+		/* the interface methods are shared with the cached method sets */
+		result = copyMethods(methods);
+	}
+	return result;
+}
+
+/**
+ * Answer the methods visible from this class or interface.
+ *
+ * @param infoCache the interface method sets already found by this lookup
+ * @param localInterfacesOnly true to answer only the methods inherited from interfaces
+ * @return the methods, which must not be modified when localInterfacesOnly is true
+ */
+private HashMap<MethodInfo, MethodInfo> getMethodSet(HashMap<Class<?>, MethodSet> infoCache, boolean localInterfacesOnly) {
+	if (!isInterface() && localInterfacesOnly) {
+		/* these are the interface methods which are also inherited by subclasses */
+		return getInterfaceMethodSet(infoCache).methods;
+	}
+	HashMap<MethodInfo, MethodInfo> myMethods = new HashMap<>(16);
+	if (!isInterface()) {
+		/* Initialize with the methods from the VTable which take priority */
+		int vCount = 0;
+		int sCount = 0;
+		Method methods[] = null; /* this includes the superclass's virtual and static methods. */
+		boolean noHotswap = true;
+		do {
+			/* atomically get the list of methods, iterate if a hotswap occurred */
+			vCount = getVirtualMethodCountImpl(); /* returns only public methods */
+			sCount = getStaticMethodCountImpl();
+			methods = (Method[])Method.class.allocateAndFillArray(vCount + sCount);
+			if (null == methods) {
+				throw new Error("Error retrieving class methods"); //$NON-NLS-1$
+			}
+			noHotswap = (getVirtualMethodsImpl(methods, 0, vCount) && getStaticMethodsImpl(methods, vCount, sCount));
+		} while (!noHotswap);
+		/* if we are here, this is the target class, so return static and virtual methods */
+		boolean scanInterfaces = false;
+		for (Method m: methods) {
+			Class<?> mDeclaringClass = m.getDeclaringClass();
+			MethodInfo mi = new MethodInfo(m);
+			MethodInfo prevMI = myMethods.put(mi, mi);
+			if (prevMI != null) {
+				/* As per Java spec:
+				 * For methods with same signature (name, parameter types) and return type,
+				 * only the most specific method should be selected.
+				 * Method N is more specific than M if:
+				 * N is declared by a class and M is declared by an interface; or
+				 * N and M are both declared by either classes or interfaces and N's
+				 * declaring type is the same as or a subtype of M's declaring type.
+				 */
+				Class<?> prevMIDeclaringClass = prevMI.me.getDeclaringClass();
+				if ((mDeclaringClass.isInterface() && !prevMIDeclaringClass.isInterface())
+					|| (mDeclaringClass.isAssignableFrom(prevMIDeclaringClass))
+				) {
+					myMethods.put(prevMI, prevMI);
 				}
-				noHotswap = (getVirtualMethodsImpl(methods, 0, vCount) && getStaticMethodsImpl(methods, vCount, sCount));
-			} while (!noHotswap);
-			/* if we are here, this is the target class, so return static and virtual methods */
-			boolean scanInterfaces = false;
-			for (Method m: methods) {
-				Class<?> mDeclaringClass = m.getDeclaringClass();
+			}
+			if (mDeclaringClass.isInterface()) {
+				scanInterfaces = true;
+				/* Add all the interfaces at once to preserve ordering */
+				myMethods.remove(mi, mi);
+			}
+		}
+		if (scanInterfaces) {
+			addInterfaceMethods(myMethods, getSupertypeMethodSets(infoCache));
+		}
+	} else {
+		/* this is an interface and doesn't have a vTable, but may have static methods */
+		for (Method m: getDeclaredMethods()) {
+			if (Modifier.isPublic(m.getModifiers())) {
 				MethodInfo mi = new MethodInfo(m);
-				MethodInfo prevMI = myMethods.put(mi, mi);
-				if (prevMI != null) {
-					/* As per Java spec:
-					 * For methods with same signature (name, parameter types) and return type,
-					 * only the most specific method should be selected.
-					 * Method N is more specific than M if:
-					 * N is declared by a class and M is declared by an interface; or
-					 * N and M are both declared by either classes or interfaces and N's
-					 * declaring type is the same as or a subtype of M's declaring type.
-					 */
-					Class<?> prevMIDeclaringClass = prevMI.me.getDeclaringClass();
-					if ((mDeclaringClass.isInterface() && !prevMIDeclaringClass.isInterface())
-						|| (mDeclaringClass.isAssignableFrom(prevMIDeclaringClass))
-					) {
-						myMethods.put(prevMI, prevMI);
-					}
-				}
-				if (mDeclaringClass.isInterface()) {
-					scanInterfaces = true;
-					/* Add all the interfaces at once to preserve ordering */
-					myMethods.remove(mi, mi);
-				}
+				myMethods.put(mi, mi);
 			}
-			if (scanInterfaces) {
-				/* methodFilter is guaranteed to be non-null at this point */
-				addInterfaceMethods(infoCache, methodFilter, myMethods, localInterfacesOnly);
+		}
+		addInterfaceMethods(myMethods, getSupertypeMethodSets(infoCache));
+	}
+	return myMethods;
+}
+
+/**
+ * Answer the public instance methods inherited from interfaces through this class,
+ * or for an interface, those it declares or inherits. The set depends only on this
+ * class and its supertypes, so it is kept in the reflection cache and reused by the
+ * lookups for this class and all of its subclasses.
+ * A cached set is only used if it was built from the current sets of the direct
+ * supertypes. Redefining a class clears its reflection cache, so the sets of the
+ * classes which inherit from it are rebuilt the next time they are used.
+ *
+ * @param infoCache the interface method sets already found by this lookup
+ * @return the interface method set, which must not be modified
+ */
+private MethodSet getInterfaceMethodSet(HashMap<Class<?>, MethodSet> infoCache) {
+	MethodSet methodSet = infoCache.get(this);
+	if (null == methodSet) {
+		ArrayList<MethodSet> supertypeSets = getSupertypeMethodSets(infoCache);
+		if (reflectCacheEnabled) {
+			ReflectCache cache = peekReflectCache();
+			if (null != cache) {
+				MethodSet cachedSet = (MethodSet) cache.find(CacheKey.InterfaceMethodsKey);
+				if ((null != cachedSet) && cachedSet.isBuiltFrom(supertypeSets)) {
+					methodSet = cachedSet;
+				}
 			}
-		} else {
-			if (!localInterfacesOnly || isInterface()) {
-				/* this is an interface and doesn't have a vTable, but may have static or private methods */
+		}
+		if (null == methodSet) {
+			HashMap<MethodInfo, MethodInfo> myMethods = new HashMap<>(16);
+			if (isInterface()) {
 				for (Method m: getDeclaredMethods()) {
 					int methodModifiers = m.getModifiers();
-					if ((virtualOnly && Modifier.isStatic(methodModifiers)) || !Modifier.isPublic(methodModifiers)){
-						continue;
+					if (Modifier.isPublic(methodModifiers) && !Modifier.isStatic(methodModifiers)) {
+						MethodInfo mi = new MethodInfo(m);
+						myMethods.put(mi, mi);
 					}
-					MethodInfo mi = new MethodInfo(m);
-					myMethods.put(mi, mi);
 				}
 			}
-			addInterfaceMethods(infoCache, null, myMethods, localInterfacesOnly);
+			addInterfaceMethods(myMethods, supertypeSets);
+			methodSet = new MethodSet(myMethods, supertypeSets);
+			if (reflectCacheEnabled) {
+				ReflectCache cache = acquireReflectCache();
+				try {
+					cache.insert(CacheKey.InterfaceMethodsKey, methodSet);
+				} finally {
+					cache.release();
+				}
+			}
 		}
-		infoCache.put(this, myMethods); /* save results for future use */
+		infoCache.put(this, methodSet);
 	}
-	return myMethods;
+	return methodSet;
 }
 
 /**
- * Add methods defined in this class's interfaces or those of superclasses
- * @param infoCache Cache of previously visited method lists
- * @param methodFilter List of methods to include.  If null, include all
- * @param myMethods non-null if you want to update an existing list
- * @return list of methods with their various declarations
- */
-private HashMap<MethodInfo, MethodInfo> addInterfaceMethods(
-		HashMap<Class<?>, HashMap<MethodInfo, MethodInfo>> infoCache,
-		Set<MethodInfo> methodFilter,
-		HashMap<MethodInfo, MethodInfo> myMethods, boolean localInterfacesOnly) {
-	boolean addToCache = false;
-	boolean updateList = (null != myMethods);
-	if (!updateList) {
-		myMethods = infoCache.get(this);
-	}
-	if (null == myMethods) {
-		/* haven't visited this class */
-		myMethods = new HashMap<>();
-		addToCache = true;
-		updateList = true;
-	}
-	if (updateList) {
+ * Answer the interface method sets of the superclass, unless it is Object,
+ * and of the direct superinterfaces, in the order they are to be added.
+ *
+ * @param infoCache the interface method sets already found by this lookup
+ * @return the interface method sets of the direct supertypes
+ */
+private ArrayList<MethodSet> getSupertypeMethodSets(HashMap<Class<?>, MethodSet> infoCache) {
+	Class[] interfaces = getInterfaces();
+	ArrayList<MethodSet> supertypeSets = new ArrayList<>(interfaces.length + 1);
+	if (!isInterface()) {
 		Class mySuperclass = getSuperclass();
-		if (!isInterface() && (Object.class != mySuperclass)) {
+		if ((null != mySuperclass) && (Object.class != mySuperclass)) {
 			/* some interface methods are visible via the superclass */
-			HashMap<MethodInfo, MethodInfo> superclassMethods = mySuperclass.addInterfaceMethods(infoCache, methodFilter, null, localInterfacesOnly);
-			for (MethodInfo otherInfo: superclassMethods.values()) {
-				if ((null == methodFilter) || methodFilter.contains(otherInfo)) {
-					addMethod(myMethods, otherInfo);
-				}
-			}
-		}
-		for (Class intf: getInterfaces()) {
-			HashMap<MethodInfo, MethodInfo> intfMethods = intf.getMethodSet(infoCache, true, localInterfacesOnly);
-			for (MethodInfo otherInfo: intfMethods.values()) {
-				if ((null == methodFilter) || methodFilter.contains(otherInfo)) {
-					addMethod(myMethods, otherInfo);
-				}
-			}
+			supertypeSets.add(mySuperclass.getInterfaceMethodSet(infoCache));
 		}
 	}
-	if (addToCache) {
-		infoCache.put(this, myMethods);
-		/* save results for future use */
+	for (Class intf: interfaces) {
+		supertypeSets.add(intf.getInterfaceMethodSet(infoCache));
+	}
+	return supertypeSets;
+}
+
+/**
+ * Add methods defined in this class's interfaces or those of superclasses
+ * @param myMethods the list to update
+ * @param supertypeSets the interface method sets of the direct supertypes
+ */
+private void addInterfaceMethods(HashMap<MethodInfo, MethodInfo> myMethods, ArrayList<MethodSet> supertypeSets) {
+	for (MethodSet supertypeSet: supertypeSets) {
+		for (MethodInfo otherInfo: supertypeSet.methods.values()) {
+			addMethod(myMethods, otherInfo);
+		}
 	}
-	return myMethods;
 }
 
 /* this is called only to add methods from implemented interfaces of a class or superinterfaces of an interface */
@@ -4572,6 +4620,41 @@ private class MethodInfo {
 
 }
 
+/**
+ * The interface methods visible through a class or interface, see getInterfaceMethodSet().
+ * A MethodSet is not modified once it has been created, so it can be shared by threads
+ * and by the lookups for subclasses.
+ */
+private final class MethodSet {
+	final HashMap<MethodInfo, MethodInfo> methods;
+	/* the interface method sets of the direct supertypes this set was built from */
+	private final ArrayList<MethodSet> supertypeSets;
+
+	MethodSet(HashMap<MethodInfo, MethodInfo> methods, ArrayList<MethodSet> supertypeSets) {
+		for (MethodInfo mi : methods.values()) {
+			/* MethodInfo.equals() initializes the types lazily, so do it before the set is shared */
+			if (null == mi.returnType) {
+				mi.initializeTypes();
+			}
+		}
+		this.methods = methods;
+		this.supertypeSets = supertypeSets;
+	}
+
+	boolean isBuiltFrom(ArrayList<MethodSet> currentSupertypeSets) {
+		int size = supertypeSets.size();
+		if (size != currentSupertypeSets.size()) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (supertypeSets.get(i) != currentSupertypeSets.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
+
 static boolean methodAOverridesMethodB(Class<?> methodAClass,	boolean methodAIsAbstract, boolean methodAClassIsInterface,
 		Class<?> methodBClass, boolean methodBIsAbstract, boolean methodBClassIsInterface) {
 	return (methodBIsAbstract && methodBClassIsInterface && !methodAIsAbstract && !methodAClassIsInterface) ||
@@ -4645,6 +4728,9 @@ private static final class CacheKey {
 	static final CacheKey DeclaredFieldsKey = newFieldKey(".f", null); //$NON-NLS-1$
 	static final CacheKey DeclaredMethodsKey = new CacheKey(".m", EmptyParameters, null); //$NON-NLS-1$
 
+	/* the MethodSet of the interface methods inherited through the class */
+	static final CacheKey InterfaceMethodsKey = new CacheKey("/i", EmptyParameters, null); //$NON-NLS-1$
+
 	private final String name;
 	private final Class<?>[] parameterTypes;
 	private final Class<?> returnType;
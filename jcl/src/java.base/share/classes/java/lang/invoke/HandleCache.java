@@ -22,21 +22,68 @@
  *******************************************************************************/
 package java.lang.invoke;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /*
  * ClassValue based Cache for mapping from a Class to its perClassCache.
  */
-final class Cache extends ClassValue<Map<CacheKey, WeakReference<MethodHandle>>> {
+final class Cache extends ClassValue<PerClassCache> {
 	@Override
-	protected Map<CacheKey, WeakReference<MethodHandle>> computeValue(Class<?> arg0) {
-		return Collections.synchronizedMap(new WeakHashMap<CacheKey, WeakReference<MethodHandle>>());
+	protected PerClassCache computeValue(Class<?> arg0) {
+		return new PerClassCache();
 	}	
 }
 
+/*
+ * The MethodHandles cached for one class, looked up without locking.
+ * 
+ * The handles are weakly referenced. When a handle is collected its reference
+ * is queued on a queue shared by all the caches, and the stale entries of every
+ * cache are removed on the next lookup or insert into any of them. This keeps
+ * the keys, which hold the MethodType and the special caller, from keeping
+ * another class loader alive once its handles are gone, even when the cache
+ * they were put in is only read afterwards.
+ */
+final class PerClassCache extends ConcurrentHashMap<CacheKey, PerClassCache.HandleRef> {
+	private static final long serialVersionUID = -2467345912780834921L;
+
+	private static final ReferenceQueue<MethodHandle> queue = new ReferenceQueue<>();
+
+	static final class HandleRef extends WeakReference<MethodHandle> {
+		final PerClassCache cache;
+		final CacheKey key;
+
+		HandleRef(PerClassCache cache, CacheKey key, MethodHandle handle) {
+			super(handle, queue);
+			this.cache = cache;
+			this.key = key;
+		}
+	}
+
+	MethodHandle find(CacheKey key) {
+		expungeStaleEntries();
+		HandleRef ref = get(key);
+		if (ref != null) {
+			return ref.get();
+		}
+		return null;
+	}
+
+	void insert(CacheKey key, MethodHandle handle) {
+		expungeStaleEntries();
+		put(key, new HandleRef(this, key, handle));
+	}
+
+	private static void expungeStaleEntries() {
+		for (HandleRef ref; (ref = (HandleRef)queue.poll()) != null;) {
+			/* the entry may already have been replaced by a newer handle */
+			ref.cache.remove(ref.key, ref);
+		}
+	}
+}
+
 /* Cache key for mapping the methodName and MethodType to the actual MethodHandle */
 final class MethodCacheKey extends CacheKey {
 	private final MethodType type;
@@ -118,77 +165,63 @@ final class HandleCache {
 	private static final Cache fieldSetterCache = new Cache();
 	private static final Cache fieldGetterCache = new Cache();
 
-	static Map<CacheKey, WeakReference<MethodHandle>> getVirtualCache(Class<?> c) {
+	static PerClassCache getVirtualCache(Class<?> c) {
 		return findVirtualCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getStaticCache(Class<?> c) {
+	static PerClassCache getStaticCache(Class<?> c) {
 		return findStaticCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getSpecialCache(Class<?> c) {
+	static PerClassCache getSpecialCache(Class<?> c) {
 		return findSpecialCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getConstructorCache(Class<?> c) {
+	static PerClassCache getConstructorCache(Class<?> c) {
 		return findConstructorCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getFieldSetterCache(Class<?> c) {
+	static PerClassCache getFieldSetterCache(Class<?> c) {
 		return fieldSetterCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getFieldGetterCache(Class<?> c) {
+	static PerClassCache getFieldGetterCache(Class<?> c) {
 		return fieldGetterCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getStaticFieldSetterCache(Class<?> c) {
+	static PerClassCache getStaticFieldSetterCache(Class<?> c) {
 		return staticFieldSetterCache.get(c);
 	}
-	static Map<CacheKey, WeakReference<MethodHandle>> getStaticFieldGetterCache(Class<?> c) {
+	static PerClassCache getStaticFieldGetterCache(Class<?> c) {
 		return staticFieldGetterCache.get(c);
 	}
 
 	/* Search the 'perClassCache' returned by one of the 'get{Virtual|Static|Special|Constructor}Cache(Class)' methods
 	 * for the MethodHandle with matching name and type.
 	 */
-	public static MethodHandle getMethodFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type) {
+	public static MethodHandle getMethodFromPerClassCache(PerClassCache perClassCache, String name, MethodType type) {
 		return getMethodWithSpecialCallerFromPerClassCache(perClassCache, name, type, null);
 	}
 	
-	public static MethodHandle getMethodWithSpecialCallerFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, Class<?> specialCaller) {
-		WeakReference<MethodHandle> handleRef = perClassCache.get(new MethodCacheKey(name, type, specialCaller));
-		if (handleRef != null) {
-			return handleRef.get();
-		}
-		return null;
+	public static MethodHandle getMethodWithSpecialCallerFromPerClassCache(PerClassCache perClassCache, String name, MethodType type, Class<?> specialCaller) {
+		return perClassCache.find(new MethodCacheKey(name, type, specialCaller));
 	}
 	
-	public static MethodHandle getFieldFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, Class<?> fieldType) {
-		WeakReference<MethodHandle> handleRef = perClassCache.get(new FieldCacheKey(name, fieldType));
-		if (handleRef != null) {
-			return handleRef.get();
-		}
-		return null;
+	public static MethodHandle getFieldFromPerClassCache(PerClassCache perClassCache, String name, Class<?> fieldType) {
+		return perClassCache.find(new FieldCacheKey(name, fieldType));
 	}
 
 	/* Update the cache to hold the <Name, Type> -> MethodHandle mapping */
-	public static MethodHandle putMethodInPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, MethodHandle handle) {
+	public static MethodHandle putMethodInPerClassCache(PerClassCache perClassCache, String name, MethodType type, MethodHandle handle) {
 		return putMethodWithSpecialCallerInPerClassCache(perClassCache, name, type, handle, null);
 	}
 	
 	/* Update the cache to hold the <Name, Type, SpecialCaller> -> MethodHandle mapping */
-	public static MethodHandle putMethodWithSpecialCallerInPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, MethodHandle handle, Class<?> specialCaller) {
+	public static MethodHandle putMethodWithSpecialCallerInPerClassCache(PerClassCache perClassCache, String name, MethodType type, MethodHandle handle, Class<?> specialCaller) {
 		return cacheHandle(perClassCache, new MethodCacheKey(name, type, specialCaller), handle);
 	}
 	
 	/* Update the cache to hold the <Name, FieldType> -> MethodHandle mapping */
-	public static MethodHandle putFieldInPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String fieldName, Class<?> fieldType, MethodHandle handle) {
+	public static MethodHandle putFieldInPerClassCache(PerClassCache perClassCache, String fieldName, Class<?> fieldType, MethodHandle handle) {
 		return cacheHandle(perClassCache, new FieldCacheKey(fieldName, fieldType), handle);
 	}
 	
-	private static MethodHandle cacheHandle(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, CacheKey cacheKey, MethodHandle handle){
-		/* Keep a strong reference to the FieldCacheKey in the MH being cached so that it won't
-		 * be immediately collected.  Uses a WeakHashMap<FieldCacheKey, WeakRef<MH>> to cache.
-		 * Since the MH keeps a strong ref to the FieldCacheKey, as long as the MH is alive
-		 * the Key can't be collected, despite being a weakref.
-		 */
-		handle.cacheKey = cacheKey;
-		perClassCache.put(handle.cacheKey, new WeakReference<MethodHandle>(handle));
+	private static MethodHandle cacheHandle(PerClassCache perClassCache, CacheKey cacheKey, MethodHandle handle){
+		perClassCache.insert(cacheKey, handle);
 		return handle;
 	}
 
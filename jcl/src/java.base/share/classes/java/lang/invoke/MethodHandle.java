@@ -255,8 +255,6 @@ public abstract class MethodHandle
 
 	// }}} JIT support
 
-	CacheKey cacheKey;			/* Strong reference to a CacheKey to ensure the WeakHashMap doesn't immediately collect the item */
-
 	MethodHandle(MethodType type, byte kind, Object thunkArg) {
 		this.kind = kind;
 		/* Must be called last as it may use previously set fields to modify the MethodType */
@@ -114,6 +114,30 @@ public final class InternalCRIUSupport {
 		return getProcessRestoreStartTimeImpl();
 	}
 
+	/**
+	 * Retrieve the times taken by the pre-checkpoint hooks the last time they were
+	 * run, in the order the hooks were started. Hooks that were not run, because a
+	 * hook before them failed, are not included.
+	 *
+	 * @return the times taken by the pre-checkpoint hooks, empty if there has been
+	 *         no checkpoint
+	 */
+	public static List<HookTime> getPreCheckpointHookTimes() {
+		return J9InternalCheckpointHookAPI.getPreCheckpointHookTimes();
+	}
+
+	/**
+	 * Retrieve the times taken by the post-restore hooks the last time they were
+	 * run, in the order the hooks were started. Hooks that were not run, because a
+	 * hook before them failed, are not included.
+	 *
+	 * @return the times taken by the post-restore hooks, empty if there has been
+	 *         no restore
+	 */
+	public static List<HookTime> getPostRestoreHookTimes() {
+		return J9InternalCheckpointHookAPI.getPostRestoreHookTimes();
+	}
+
 	/**
 	 * Queries if CRaC or CRIU support is enabled.
 	 *
@@ -262,6 +286,69 @@ public final class InternalCRIUSupport {
 		CONCURRENT_MODE
 	}
 
+	/**
+	 * The time taken by a checkpoint hook the last time it was run.
+	 *
+	 * @see InternalCRIUSupport#getPreCheckpointHookTimes()
+	 * @see InternalCRIUSupport#getPostRestoreHookTimes()
+	 */
+	public static final class HookTime {
+		private final String name;
+		private final HookMode mode;
+		private final int priority;
+		private final String threadName;
+		private final long time;
+
+		HookTime(String name, HookMode mode, int priority, String threadName, long time) {
+			this.name = name;
+			this.mode = mode;
+			this.priority = priority;
+			this.threadName = threadName;
+			this.time = time;
+		}
+
+		/**
+		 * @return the name of the hook
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the mode in which the hook was run
+		 */
+		public HookMode getMode() {
+			return mode;
+		}
+
+		/**
+		 * @return the priority of the hook
+		 */
+		public int getPriority() {
+			return priority;
+		}
+
+		/**
+		 * @return the name of the thread that ran the hook
+		 */
+		public String getThreadName() {
+			return threadName;
+		}
+
+		/**
+		 * @return the time taken by the hook in nanoseconds, including when it failed
+		 */
+		public long getTime() {
+			return time;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + name + "], mode:[" + mode + "], priority:[" + priority + "], thread:[" + threadName //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ "], time:[" + (time / 1000) + "us]"; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	private static boolean loadNativeLibrary() {
 		if (!nativeLoaded) {
 			if (setupJNIFieldIDsAndCRIUAPI()) {
@@ -680,7 +767,8 @@ public final class InternalCRIUSupport {
 	 * priority than SINGLE_THREAD_MODE hooks. Ie. the lowest priority
 	 * SINGLE_THREAD_MODE hook is a higher priority than the highest priority
 	 * CONCURRENT_MODE hook. The hooks of the same mode with the same priority are
-	 * run in random order.
+	 * run in random order. CONCURRENT_MODE hooks with the same priority may
+	 * run at the same time on different threads.
 	 *
 	 * @param hook     user hook
 	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
@@ -740,7 +828,8 @@ public final class InternalCRIUSupport {
 	 * priority than SINGLE_THREAD_MODEd hooks. Ie. the lowest priority
 	 * SINGLE_THREAD_MODE hook is a higher priority than the highest priority
 	 * CONCURRENT_MODE hook. The hooks of the same mode with the same priority are
-	 * run in random order.
+	 * run in random order. CONCURRENT_MODE hooks with the same priority may
+	 * run at the same time on different threads.
 	 *
 	 * @param hook     user hook
 	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
@@ -25,8 +25,12 @@ package openj9.internal.criu;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import openj9.internal.criu.InternalCRIUSupport.HookMode;
+import openj9.internal.criu.InternalCRIUSupport.HookTime;
 
 final class J9InternalCheckpointHookAPI {
 
@@ -35,6 +39,11 @@ final class J9InternalCheckpointHookAPI {
 	private static List<J9InternalCheckpointHook> postRestoreHooksConcurrentThread = new ArrayList<>();
 	private static List<J9InternalCheckpointHook> preCheckpointHooksConcurrentThread = new ArrayList<>();
 
+	/* the maximum number of threads used to run CONCURRENT_MODE hooks, 1 runs them on the calling thread */
+	private static final String HOOK_THREADS_PROPERTY = "j9internal.checkpoint.hook.api.threads"; //$NON-NLS-1$
+	/* not limited by the number of CPUs, hooks often wait for I/O, e.g. to reconnect */
+	private static final int DEFAULT_MAX_HOOK_THREADS = 8;
+
 	/**
 	 * This is an internal API
 	 *
@@ -90,16 +99,147 @@ final class J9InternalCheckpointHookAPI {
 		} else {
 			Collections.sort(hooks);
 		}
+		resetRunTimes(hooks);
 
 		for (J9InternalCheckpointHook hookWrapper : hooks) {
-			if (debug) {
-				System.err.println(hookWrapper);
+			hookWrapper.runHook(debug);
+		}
+	}
+
+	/**
+	 * Run CONCURRENT_MODE hooks on up to {@link #HOOK_THREADS_PROPERTY} threads.
+	 * With one thread, or no priority with more than one hook, the hooks are run
+	 * on the calling thread.
+	 * Each priority acts as a barrier: all of the hooks of one priority finish
+	 * before any hook of the next priority starts, so only hooks with the same
+	 * priority, which have no defined order, run at the same time.
+	 *
+	 * The threads only exist while the hooks are running, so none are left
+	 * behind at checkpoint.
+	 *
+	 * @param hooks         the hooks to run
+	 * @param preCheckpoint true for pre-checkpoint hooks, which run lowest priority first
+	 */
+	private static void runHooksConcurrently(List<J9InternalCheckpointHook> hooks, boolean preCheckpoint) {
+		boolean debug = System.getProperty("enable.j9internal.checkpoint.hook.api.debug") != null; //$NON-NLS-1$
+
+		if (preCheckpoint) {
+			Collections.sort(hooks, Collections.reverseOrder());
+		} else {
+			Collections.sort(hooks);
+		}
+		resetRunTimes(hooks);
+
+		List<List<J9InternalCheckpointHook>> tiers = new ArrayList<>();
+		int widestTier = 0;
+		List<J9InternalCheckpointHook> tier = null;
+		for (J9InternalCheckpointHook hookWrapper : hooks) {
+			if ((null == tier) || (tier.get(0).getHookPriority() != hookWrapper.getHookPriority())) {
+				tier = new ArrayList<>();
+				tiers.add(tier);
 			}
+			tier.add(hookWrapper);
+			widestTier = Math.max(widestTier, tier.size());
+		}
+
+		int threads = Math.min(widestTier, maxHookThreads());
+		if (threads <= 1) {
+			/* nothing can run in parallel */
+			for (J9InternalCheckpointHook hookWrapper : hooks) {
+				hookWrapper.runHook(debug);
+			}
+			return;
+		}
+
+		long start = System.nanoTime();
+		ConcurrentHookRunner runner = new ConcurrentHookRunner(tiers, threads, debug);
+		runner.runAll();
+		if (debug) {
+			System.err.println("Ran " + hooks.size() + " concurrent mode hooks in " + tiers.size() + " priorities on " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ threads + " threads, time:[" + ((System.nanoTime() - start) / 1000) + "us]"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		List<Throwable> failures = runner.failures;
+		if (!failures.isEmpty()) {
+			/* as when running sequentially, report the failure from the first priority which failed */
+			Throwable first = failures.get(0);
+			RuntimeException exception;
+			if (first instanceof RuntimeException) {
+				exception = (RuntimeException) first;
+			} else if (first instanceof Error) {
+				for (int i = 1; i < failures.size(); ++i) {
+					first.addSuppressed(failures.get(i));
+				}
+				throw (Error) first;
+			} else if (preCheckpoint) {
+				exception = new JVMCheckpointException("Exception thrown when running concurrent mode pre-checkpoint hooks", 0, first); //$NON-NLS-1$
+			} else {
+				exception = new JVMRestoreException("Exception thrown when running concurrent mode post-restore hooks", 0, first); //$NON-NLS-1$
+			}
+			for (int i = 1; i < failures.size(); ++i) {
+				exception.addSuppressed(failures.get(i));
+			}
+			throw exception;
+		}
+	}
+
+	private static int maxHookThreads() {
+		int threads = DEFAULT_MAX_HOOK_THREADS;
+		String value = System.getProperty(HOOK_THREADS_PROPERTY);
+		if (null != value) {
+			try {
+				threads = Integer.parseInt(value.trim());
+			} catch (NumberFormatException e) {
+				threads = 0;
+			}
+			if (threads < 1) {
+				System.err.println("Warning: ignoring invalid value \"" + value + "\" of " + HOOK_THREADS_PROPERTY //$NON-NLS-1$ //$NON-NLS-2$
+						+ ", which must be a positive integer, using " + DEFAULT_MAX_HOOK_THREADS + " threads"); //$NON-NLS-1$ //$NON-NLS-2$
+				threads = DEFAULT_MAX_HOOK_THREADS;
+			}
+		}
+		return threads;
+	}
+
+	private static void resetRunTimes(List<J9InternalCheckpointHook> hooks) {
+		for (J9InternalCheckpointHook hookWrapper : hooks) {
+			hookWrapper.runTime = -1;
+		}
+	}
 
-			hookWrapper.runHook();
+	/**
+	 * Add the times of the hooks that were run the last time the list was run,
+	 * which has been sorted into the order the hooks were started.
+	 */
+	private static void addHookTimes(List<HookTime> times, List<J9InternalCheckpointHook> hooks) {
+		for (J9InternalCheckpointHook hookWrapper : hooks) {
+			if (hookWrapper.runTime >= 0) {
+				times.add(new HookTime(hookWrapper.name, hookWrapper.hookMode, hookWrapper.priority,
+						hookWrapper.threadName, hookWrapper.runTime));
+			}
 		}
 	}
 
+	/*
+	 * CONCURRENT_MODE pre-checkpoint hooks run before SINGLE_THREAD_MODE ones.
+	 */
+	static synchronized List<HookTime> getPreCheckpointHookTimes() {
+		List<HookTime> times = new ArrayList<>();
+		addHookTimes(times, preCheckpointHooksConcurrentThread);
+		addHookTimes(times, preCheckpointHooksSingleThread);
+		return times;
+	}
+
+	/*
+	 * SINGLE_THREAD_MODE post-restore hooks run before CONCURRENT_MODE ones.
+	 */
+	static synchronized List<HookTime> getPostRestoreHookTimes() {
+		List<HookTime> times = new ArrayList<>();
+		addHookTimes(times, postRestoreHooksSingleThread);
+		addHookTimes(times, postRestoreHooksConcurrentThread);
+		return times;
+	}
+
 	/*
 	 * Only called by the VM
 	 */
@@ -117,11 +257,79 @@ final class J9InternalCheckpointHookAPI {
 	}
 
 	static void runPreCheckpointHooksConcurrentThread() {
-		runHooks(preCheckpointHooksConcurrentThread, true);
+		runHooksConcurrently(preCheckpointHooksConcurrentThread, true);
 	}
 
 	static void runPostRestoreHooksConcurrentThread() {
-		runHooks(postRestoreHooksConcurrentThread, false);
+		runHooksConcurrently(postRestoreHooksConcurrentThread, false);
+	}
+
+	/**
+	 * Runs the tiers of hooks on a fixed set of threads. The threads claim the hooks of
+	 * the current tier and then wait at a barrier, whose action moves on to the next tier,
+	 * or stops if a hook in the tier failed. The calling thread only waits for them, so
+	 * that an interrupt of the caller can't break the barrier.
+	 */
+	private static final class ConcurrentHookRunner implements Runnable {
+		private final List<List<J9InternalCheckpointHook>> tiers;
+		private final int threads;
+		private final boolean debug;
+		private final CyclicBarrier barrier;
+		private final AtomicInteger nextHook = new AtomicInteger();
+		/* updated by the barrier action, which happens-before the threads continue */
+		private int currentTier;
+		final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+		ConcurrentHookRunner(List<List<J9InternalCheckpointHook>> tiers, int threads, boolean debug) {
+			this.tiers = tiers;
+			this.threads = threads;
+			this.debug = debug;
+			this.barrier = new CyclicBarrier(threads, () -> {
+				currentTier = failures.isEmpty() ? (currentTier + 1) : tiers.size();
+				nextHook.set(0);
+			});
+		}
+
+		void runAll() {
+			Thread[] helpers = new Thread[threads];
+			for (int i = 0; i < helpers.length; ++i) {
+				helpers[i] = new Thread(this, "J9InternalCheckpointHook runner-" + i); //$NON-NLS-1$
+				helpers[i].setDaemon(true);
+				helpers[i].start();
+			}
+			boolean interrupted = false;
+			for (Thread helper : helpers) {
+				while (helper.isAlive()) {
+					try {
+						helper.join();
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (currentTier < tiers.size()) {
+					List<J9InternalCheckpointHook> tier = tiers.get(currentTier);
+					for (int i = nextHook.getAndIncrement(); i < tier.size(); i = nextHook.getAndIncrement()) {
+						try {
+							tier.get(i).runHook(debug);
+						} catch (Throwable t) {
+							failures.add(t);
+						}
+					}
+					barrier.await();
+				}
+			} catch (InterruptedException | BrokenBarrierException e) {
+				failures.add(e);
+			}
+		}
 	}
 
 	final private static class J9InternalCheckpointHook implements Comparable<J9InternalCheckpointHook> {
@@ -140,8 +348,25 @@ final class J9InternalCheckpointHookAPI {
 			return o.getHookPriority() - this.getHookPriority();
 		}
 
-		void runHook() {
-			hook.run();
+		/* time taken by the last run of the hook in nanoseconds, or -1 if it hasn't run */
+		private long runTime = -1;
+		/* the thread of the last run of the hook */
+		private String threadName;
+
+		void runHook(boolean debug) {
+			if (debug) {
+				System.err.println(this);
+			}
+			threadName = Thread.currentThread().getName();
+			long start = System.nanoTime();
+			try {
+				hook.run();
+			} finally {
+				runTime = System.nanoTime() - start;
+				if (debug) {
+					System.err.println("Finished [" + name + "], time:[" + (runTime / 1000) + "us]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+			}
 		}
 
 		J9InternalCheckpointHook(InternalCRIUSupport.HookMode hookMode, int priority, String name, Runnable hook) {
@@ -155,7 +380,8 @@ final class J9InternalCheckpointHookAPI {
 		public String toString() {
 			String hookModeStr = InternalCRIUSupport.HookMode.SINGLE_THREAD_MODE == hookMode ? "single-threaded" : "concurrent"; //$NON-NLS-1$ //$NON-NLS-2$
 			return "[J9InternalCheckpointHook(" + hookModeStr + " mode): [" + name + "], priority:[" + priority //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-					+ "], runnable:[" + hook + "]]"; //$NON-NLS-1$ //$NON-NLS-2$
+					+ "], runnable:[" + hook + "]" //$NON-NLS-1$
+					+ ((runTime < 0) ? "" : (", time:[" + (runTime / 1000) + "us]")) + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 		}
 
 		@Override
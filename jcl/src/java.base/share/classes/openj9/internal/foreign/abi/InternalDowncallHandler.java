@@ -22,12 +22,12 @@
  *******************************************************************************/
 package openj9.internal.foreign.abi;
 
-import java.util.HashMap;
 import java.util.List;
 /*[IF JAVA_SPEC_VERSION >= 21]*/
 import java.util.Objects;
 /*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.Set;
 
 import java.lang.invoke.MethodHandle;
@@ -105,9 +105,25 @@ public class InternalDowncallHandler {
 
 	static final Lookup lookup = MethodHandles.lookup();
 
-	/* The prep_cif and the corresponding argument types are cached & shared in multiple downcalls/threads. */
-	private static final HashMap<Integer, Long> cachedCifNativeThunkAddr = new HashMap<>();
-	private static final HashMap<Integer, Long> cachedArgTypes = new HashMap<>();
+	/* The prep_cif and the corresponding argument types are cached & shared in multiple downcalls/threads.
+	 * The caches are keyed by the layout strings, so lookups for existing layouts don't take a lock.
+	 */
+	private static final ConcurrentHashMap<String, CifData> cachedCifData = new ConcurrentHashMap<>();
+	private static final ConcurrentHashMap<String, Long> cachedArgTypes = new ConcurrentHashMap<>();
+	private static final LongAdder cifCacheLookups = new LongAdder();
+	private static final LongAdder cifCacheMisses = new LongAdder();
+	private static final LongAdder argTypesCacheHits = new LongAdder();
+
+	/* The address of a prep_cif and the argument types it was prepared with. */
+	private static final class CifData {
+		final long cifNativeThunkAddr;
+		final long argTypesAddr;
+
+		CifData(long cifNativeThunkAddr, long argTypesAddr) {
+			this.cifNativeThunkAddr = cifNativeThunkAddr;
+			this.argTypesAddr = argTypesAddr;
+		}
+	}
 
 	/* Argument filters that convert the primitive types/MemoryAddress/MemorySegment to long. */
 	private static final MethodHandle booleanToLongArgFilter;
@@ -157,11 +173,6 @@ public class InternalDowncallHandler {
 	private native long invokeNative(long returnStructMemAddr, long functionAddress, long calloutThunk, long[] argValues);
 	/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
-	private static final class PrivateClassLock {
-		PrivateClassLock() {}
-	}
-	private static final Object privateClassLock = new PrivateClassLock();
-
 	static {
 		try {
 			/* Set up the argument filters for the primitive types and MemoryAddress. */
@@ -446,51 +457,85 @@ public class InternalDowncallHandler {
 		 * as the corresponding layout doesn't exist in the Spec.
 		 * Note: 'V' stands for the void type and 0 means zero byte.
 		 */
-		String retLayoutStr = "0V";
-		if (realReturnLayout != null) {
-			retLayoutStr = LayoutStrPreprocessor.getSimplifiedLayoutString(realReturnLayout, true);
-		}
-
-		synchronized (privateClassLock) {
-			/* If a prep_cif for a given function descriptor exists, then the corresponding return & argument layouts
-			 * were already set up for this prep_cif, in which case there is no need to check the layouts.
-			 * If not the case, check at first whether the same return & argument layouts exist in the cache
-			 * in case of duplicate memory allocation for the same layouts.
-			 *
-			 * Note: (JDK17)
-			 * 1) C_LONG (Linux) and C_LONG_LONG (Windows/AIX 64bit) should be treated as the same layout in the cache.
-			 * 2) the same layout kind with or without the layout name should be treated as the same layout.
-			 * e.g.  C_INT without the layout name = b32[abi/kind=INT]
-			 *  and  C_INT with the layout name = b32(int)[abi/kind=INT,layout/name=int]
+		String retLayoutStr = (realReturnLayout != null)
+				? LayoutStrPreprocessor.getSimplifiedLayoutString(realReturnLayout, true)
+				: "0V";
+
+		/* If a prep_cif for a given function descriptor exists, then the corresponding return & argument layouts
+		 * were already set up for this prep_cif, in which case there is no need to check the layouts.
+		 * If not the case, check at first whether the same return & argument layouts exist in the cache
+		 * in case of duplicate memory allocation for the same layouts.
+		 *
+		 * Note: (JDK17)
+		 * 1) C_LONG (Linux) and C_LONG_LONG (Windows/AIX 64bit) should be treated as the same layout in the cache.
+		 * 2) the same layout kind with or without the layout name should be treated as the same layout.
+		 * e.g.  C_INT without the layout name = b32[abi/kind=INT]
+		 *  and  C_INT with the layout name = b32(int)[abi/kind=INT,layout/name=int]
+		 */
+		/*[IF JAVA_SPEC_VERSION >= 21]*/
+		int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor, linkerOpts);
+		/*[ELSE] JAVA_SPEC_VERSION >= 21 */
+		int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor);
+		/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
+		String argLayoutStrsKey = argLayoutStrsLine.toString();
+		String argRetLayoutStrsKey = ((varArgIdx >= 0) ? varArgIdx : "") + argLayoutStrsKey + retLayoutStr;
+		cifCacheLookups.increment();
+		CifData cifData = cachedCifData.get(argRetLayoutStrsKey);
+		if (cifData == null) {
+			/* The prep_cif is set up while computeIfAbsent holds the lock of the map bin for the key,
+			 * so the threads preparing the same layouts, as well as those whose keys fall into the same
+			 * bin, wait until it is done. Lookups of the existing layouts never wait.
 			 */
-			/*[IF JAVA_SPEC_VERSION >= 21]*/
-			int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor, linkerOpts);
-			/*[ELSE] JAVA_SPEC_VERSION >= 21 */
-			int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor);
-			/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
-			String argRetLayoutStrsLine = ((varArgIdx >= 0) ? varArgIdx : "") + argLayoutStrsLine.toString() + retLayoutStr;
-			Integer argRetLayoutStrLineHash = Integer.valueOf(argRetLayoutStrsLine.hashCode());
-			Integer argLayoutStrsLineHash = Integer.valueOf(argLayoutStrsLine.toString().hashCode());
-			Long cifNativeThunk = cachedCifNativeThunkAddr.get(argRetLayoutStrLineHash);
-			if (cifNativeThunk != null) {
-				cifNativeThunkAddr = cifNativeThunk.longValue();
-				argTypesAddr = cachedArgTypes.get(argLayoutStrsLineHash).longValue();
-			} else {
-				boolean newArgTypes = cachedArgTypes.containsKey(argLayoutStrsLineHash) ? false : true;
+			cifData = cachedCifData.computeIfAbsent(argRetLayoutStrsKey, key -> {
+				cifCacheMisses.increment();
+				Long argTypes = cachedArgTypes.get(argLayoutStrsKey);
+				boolean newArgTypes = (argTypes == null);
 				if (!newArgTypes) {
-					argTypesAddr = cachedArgTypes.get(argLayoutStrsLineHash).longValue();
+					argTypesCacheHits.increment();
+					argTypesAddr = argTypes.longValue();
 				}
 
 				/* Prepare the prep_cif for the native function specified by the arguments/return layouts. */
 				initCifNativeThunkData(argLayoutStrs, retLayoutStr, newArgTypes, varArgIdx);
 
-				/* Cache the address of prep_cif and argTypes after setting up via the out-of-line native code. */
+				/* Cache the address of argTypes after setting up via the out-of-line native code.
+				 * If another return layout set up the same argument layouts meanwhile, both are valid.
+				 */
 				if (newArgTypes) {
-					cachedArgTypes.put(argLayoutStrsLineHash, Long.valueOf(argTypesAddr));
+					cachedArgTypes.putIfAbsent(argLayoutStrsKey, Long.valueOf(argTypesAddr));
 				}
-				cachedCifNativeThunkAddr.put(argRetLayoutStrLineHash, Long.valueOf(cifNativeThunkAddr));
-			}
+				return new CifData(cifNativeThunkAddr, argTypesAddr);
+			});
 		}
+		cifNativeThunkAddr = cifData.cifNativeThunkAddr;
+		argTypesAddr = cifData.argTypesAddr;
+	}
+
+	/**
+	 * Returns the number of downcall handles which reused a cached prep_cif.
+	 *
+	 * @return the count of prep_cif cache hits
+	 */
+	public static long getCifCacheHits() {
+		return cifCacheLookups.sum() - cifCacheMisses.sum();
+	}
+
+	/**
+	 * Returns the number of prep_cifs prepared for new layouts.
+	 *
+	 * @return the count of prep_cif cache misses
+	 */
+	public static long getCifCacheMisses() {
+		return cifCacheMisses.sum();
+	}
+
+	/**
+	 * Returns the number of new prep_cifs which reused the cached argument types of another prep_cif.
+	 *
+	 * @return the count of argument types cache hits
+	 */
+	public static long getArgTypesCacheHits() {
+		return argTypesCacheHits.sum();
 	}
 
 	/**
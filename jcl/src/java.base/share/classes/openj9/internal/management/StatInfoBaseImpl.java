@@ -0,0 +1,72 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package openj9.internal.management;
+
+/**
+ * Native access to the counters sampled by jstat.
+ */
+public class StatInfoBaseImpl {
+	/** Index of the time since the VM started, in milliseconds */
+	public static final int UPTIME = 0;
+	/** Index of the number of classes currently loaded */
+	public static final int LOADED_CLASSES = 1;
+	/** Index of the number of classes unloaded */
+	public static final int UNLOADED_CLASSES = 2;
+	/** Index of the number of methods compiled by the JIT */
+	public static final int COMPILATIONS = 3;
+	/** Index of the time spent compiling, in milliseconds */
+	public static final int COMPILATION_TIME = 4;
+	/** Index of the number of threads which are compiling */
+	public static final int THREADS_COMPILING = 5;
+	/** Index of the committed size of the heap */
+	public static final int HEAP_COMMITTED = 6;
+	/** Index of the used size of the heap */
+	public static final int HEAP_USED = 7;
+	/** Index of the maximum size of the heap */
+	public static final int HEAP_MAX = 8;
+	/** Number of values before the pool values */
+	public static final int FIXED_VALUES = 9;
+	/** Number of values for each heap pool: committed, used and max */
+	public static final int POOL_VALUES = 3;
+	/** Number of values for each collector: collection count and time in milliseconds */
+	public static final int COLLECTOR_VALUES = 2;
+
+	/**
+	 * @return the names of the heap memory pools, in the order used by {@link #getStatisticsImpl(long[], String[])}
+	 */
+	public static native String[] getHeapPoolNamesImpl();
+
+	/**
+	 * @return the names of the garbage collectors, in the order used by {@link #getStatisticsImpl(long[], String[])}
+	 */
+	public static native String[] getCollectorNamesImpl();
+
+	/**
+	 * Sample all of the counters at once.
+	 * @param values receives the values at the indexes above, followed by
+	 *     {@link #POOL_VALUES} for each heap pool, then {@link #COLLECTOR_VALUES} for each collector
+	 * @param causes receives the cause of the last GC, or null if there hasn't been one, and
+	 *     the name of the collector which is running, or null if no GC is in progress
+	 */
+	public static native void getStatisticsImpl(long[] values, String[] causes);
+}
@@ -23,7 +23,9 @@
 package openj9.internal.tools.attach.target;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -267,6 +269,8 @@ final class Attachment extends Thread implements Response {
 				} else {
 					AttachmentConnection.streamSend(respStream, Response.ERROR + " " + attachError); //$NON-NLS-1$
 				}
+			} else if (cmd.startsWith(Command.ATTACH_STAT_SNAPSHOT)) {
+				replyWithStatSnapshot(cmd.startsWith(Command.ATTACH_STAT_SNAPSHOT_WITH_NAMES));
 			} else if (cmd.startsWith(Command.ATTACH_DIAGNOSTICS_PREFIX)) {
 				try {
 					String diagnosticCommand = cmd.substring(Command.ATTACH_DIAGNOSTICS_PREFIX.length());
@@ -302,6 +306,32 @@ final class Attachment extends Thread implements Response {
 		IPC.sendProperties(props, responseStream);
 	}
 
+	private void replyWithStatSnapshot(boolean withNames) throws IOException {
+		byte[] snapshot = null;
+		String error = null;
+		try {
+			snapshot = StatSnapshot.sample().toByteArray(withNames);
+		} catch (Exception | LinkageError e) {
+			IPC.logMessage("replyWithStatSnapshot exception ", e.toString()); //$NON-NLS-1$
+			error = Response.ERROR + " " + e.toString(); //$NON-NLS-1$
+		}
+		/* build the whole reply so that it is sent with a single write */
+		ByteArrayOutputStream reply = new ByteArrayOutputStream(4 + ((null != snapshot) ? snapshot.length : 0));
+		DataOutputStream out = new DataOutputStream(reply);
+		if (null != snapshot) {
+			out.writeInt(snapshot.length);
+			out.write(snapshot);
+		} else {
+			out.writeInt(-1);
+		}
+		out.flush();
+		responseStream.write(reply.toByteArray());
+		responseStream.flush();
+		if (null == snapshot) {
+			AttachmentConnection.streamSend(responseStream, error);
+		}
+	}
+
 	/**
 	 * close socket and other cleanup
 	 */
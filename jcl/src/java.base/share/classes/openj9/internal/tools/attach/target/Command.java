@@ -56,4 +56,14 @@ public interface Command {
 	static final String START_LOCAL_MANAGEMENT_AGENT = "ATTACH_START_LOCAL_MANAGEMENT_AGENT"; //$NON-NLS-1$
 	static final String ATTACH_DIAGNOSTICS_PREFIX = "ATTACH_DIAGNOSTICS:"; //$NON-NLS-1$
 
+	/**
+	 * Request a binary {@link StatSnapshot}. The reply is the length of the snapshot as a
+	 * 4-byte integer followed by the snapshot, or -1 followed by a null-terminated error message.
+	 */
+	static final String ATTACH_STAT_SNAPSHOT = "ATTACH_STAT_SNAPSHOT"; //$NON-NLS-1$
+	/**
+	 * Request a {@link StatSnapshot} which includes the pool and collector names.
+	 */
+	static final String ATTACH_STAT_SNAPSHOT_WITH_NAMES = ATTACH_STAT_SNAPSHOT + ":NAMES"; //$NON-NLS-1$
+
 }
@@ -47,6 +47,12 @@ public class DiagnosticProperties {
 	 */
 	public static final String DIAGNOSTICS_STRING_RESULT = OPENJ9_DIAGNOSTICS_PREFIX + "string_result"; //$NON-NLS-1$
 
+	/**
+	 * Prefix for the keys of commands which return named values, which are also
+	 * formatted in the string result
+	 */
+	public static final String DIAGNOSTICS_VALUE_PREFIX = OPENJ9_DIAGNOSTICS_PREFIX + "value."; //$NON-NLS-1$
+
 	private static final String JAVA_LANG_STRING = "java.lang.String"; //$NON-NLS-1$
 
 	/**
@@ -27,6 +27,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -115,6 +116,15 @@ public class DiagnosticUtils {
 	// load JVMTI agent
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT = "JVMTI.agent_load"; //$NON-NLS-1$
 
+	/**
+	 * Commands which report named values, cheap enough to be polled
+	 */
+	private static final String DIAGNOSTICS_COMPILER_QUEUE = "Compiler.queue"; //$NON-NLS-1$
+	private static final String DIAGNOSTICS_COMPILER_CODECACHE = "Compiler.codecache"; //$NON-NLS-1$
+	private static final String DIAGNOSTICS_THREAD_ALLOCATION = "Thread.allocation"; //$NON-NLS-1$
+	private static final String DIAGNOSTICS_VM_SHARED_CLASSES = "VM.shared_classes"; //$NON-NLS-1$
+	private static final String DIAGNOSTICS_VM_MEMORY_CATEGORIES = "VM.memory_categories"; //$NON-NLS-1$
+
 	/**
 	 * Key for the command sent to executeDiagnosticCommand()
 	 */
@@ -131,6 +141,50 @@ public class DiagnosticUtils {
 	private static final String ALL_OPTION = "all"; //$NON-NLS-1$
 	private static final String LIVE_OPTION = "live"; //$NON-NLS-1$
 	private static final String THREAD_LOCKED_SYNCHRONIZERS_OPTION = "-l"; //$NON-NLS-1$
+	private static final String JSON_OPTION = "json"; //$NON-NLS-1$
+	private static final String TOP_OPTION = "top="; //$NON-NLS-1$
+
+	/**
+	 * The layouts of the values arrays of the natives, which must match mgmtdiagnostics.c
+	 */
+	private static final int QUEUE_METHODS = 0;
+	private static final int QUEUE_FIRST_TIME = 1;
+	private static final int QUEUE_WEIGHT = 2;
+	private static final int QUEUE_LOW_PRIORITY = 3;
+	private static final int QUEUE_JPROFILING = 4;
+	private static final int QUEUE_ACTIVE_THREADS = 5;
+	private static final int QUEUE_THREADS = 6;
+	private static final int QUEUE_COMPILATIONS = 7;
+	private static final int QUEUE_THREADS_COMPILING = 8;
+	private static final int QUEUE_VALUES = 9;
+
+	private static final int CODE_SEGMENTS = 0;
+	private static final int CODE_COMMITTED = 1;
+	private static final int CODE_WARM = 2;
+	private static final int CODE_COLD = 3;
+	private static final int CODE_FREE = 4;
+	private static final int CODE_MAX = 5;
+	private static final int DATA_SEGMENTS = 6;
+	private static final int DATA_COMMITTED = 7;
+	private static final int DATA_USED = 8;
+	private static final int DATA_MAX = 9;
+	private static final int CODE_VALUES = 10;
+
+	private static final int SHARED_SIZE = 0;
+	private static final int SHARED_SOFTMX = 1;
+	private static final int SHARED_FREE = 2;
+	private static final int SHARED_PERCENT_FULL = 3;
+	private static final int SHARED_LAYERS = 4;
+	private static final int SHARED_ROM_CLASSES = 5;
+	private static final int SHARED_STALE_CLASSES = 6;
+	private static final int SHARED_AOT_METHODS = 7;
+	private static final int SHARED_ROM_CLASS_BYTES = 8;
+	private static final int SHARED_AOT_BYTES = 9;
+	private static final int SHARED_JIT_DATA_BYTES = 10;
+	private static final int SHARED_OTHER_BYTES = 11;
+	private static final int SHARED_VALUES = 12;
+
+	private static final int CATEGORY_VALUES = 4;
 
 	private static final Map<String, Function<String, DiagnosticProperties>> commandTable;
 	private static final Map<String, String> helpTable;
@@ -175,6 +229,11 @@ public class DiagnosticUtils {
 	}
 
 	private static native String getHeapClassStatisticsImpl();
+	private static native boolean getCompilationQueueImpl(long[] values);
+	private static native boolean getCodeCacheImpl(long[] values);
+	private static native long[] getThreadAllocationImpl();
+	private static native boolean getSharedClassCacheImpl(long[] values, String[] names);
+	private static native String[] getMemoryCategoriesImpl(long[] values);
 	private static native String triggerDumpsImpl(String dumpOptions, String event) throws InvalidDumpOptionExceptionBase;
 
 	/**
@@ -369,6 +428,236 @@ public class DiagnosticUtils {
 		return DiagnosticProperties.makeStringResult(buffer.toString());
 	}
 
+	/**
+	 * Check the options of a command which reports named values.
+	 *
+	 * @param parts the command and its options
+	 * @param allowTop whether the top=&lt;n&gt; option is allowed
+	 * @param options receives whether json was given, and the value of top or -1
+	 * @return false if an option is not recognized
+	 */
+	private static boolean parseValuesOptions(String[] parts, boolean allowTop, long[] options) {
+		options[0] = 0;
+		options[1] = -1;
+		for (int i = 1; i < parts.length; i++) {
+			String option = parts[i];
+			if (JSON_OPTION.equalsIgnoreCase(option)) {
+				options[0] = 1;
+			} else if (allowTop && option.startsWith(TOP_OPTION)) {
+				try {
+					options[1] = Integer.parseInt(option.substring(TOP_OPTION.length()));
+				} catch (NumberFormatException e) {
+					return false;
+				}
+				if (options[1] < 0) {
+					return false;
+				}
+			} else {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Make the result of a command which reports named values. Each value is stored
+	 * under {@link DiagnosticProperties#DIAGNOSTICS_VALUE_PREFIX} so that a client can
+	 * read it without parsing text, and the string result lists the same values
+	 * either as name=value lines or as a JSON object.
+	 *
+	 * @param values the values, in the order to list them
+	 * @param json whether to format the string result as JSON
+	 * @return DiagnosticProperties object
+	 */
+	private static DiagnosticProperties makeValuesResult(Map<String, Object> values, boolean json) {
+		StringBuilder text = new StringBuilder(values.size() * 32);
+		String separator = json ? "{" : ""; //$NON-NLS-1$ //$NON-NLS-2$
+		for (Map.Entry<String, Object> entry : values.entrySet()) {
+			String name = entry.getKey();
+			Object value = entry.getValue();
+			if (json) {
+				text.append(separator);
+				appendJsonString(text, name);
+				text.append(':');
+				if (value instanceof String) {
+					appendJsonString(text, (String) value);
+				} else {
+					text.append(value);
+				}
+				separator = ","; //$NON-NLS-1$
+			} else {
+				text.append(name).append('=').append(value).append(System.lineSeparator());
+			}
+		}
+		if (json) {
+			text.append(values.isEmpty() ? "{}" : "}"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		DiagnosticProperties result = DiagnosticProperties.makeStringResult(text.toString());
+		for (Map.Entry<String, Object> entry : values.entrySet()) {
+			result.put(DiagnosticProperties.DIAGNOSTICS_VALUE_PREFIX + entry.getKey(), String.valueOf(entry.getValue()));
+		}
+		return result;
+	}
+
+	private static void appendJsonString(StringBuilder text, String value) {
+		text.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if ((c == '"') || (c == '\\')) {
+				text.append('\\').append(c);
+			} else if (c < ' ') {
+				text.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+			} else {
+				text.append(c);
+			}
+		}
+		text.append('"');
+	}
+
+	private static DiagnosticProperties getCompilationQueue(String diagnosticCommand) {
+		long[] options = new long[2];
+		if (!parseValuesOptions(diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR), false, options)) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand); //$NON-NLS-1$
+		}
+		long[] values = new long[QUEUE_VALUES];
+		if (!getCompilationQueueImpl(values)) {
+			return DiagnosticProperties.makeErrorProperties("The JIT compiler is not available"); //$NON-NLS-1$
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("queued_methods", Long.valueOf(values[QUEUE_METHODS])); //$NON-NLS-1$
+		result.put("queued_first_time_compilations", Long.valueOf(values[QUEUE_FIRST_TIME])); //$NON-NLS-1$
+		result.put("queue_weight", Long.valueOf(values[QUEUE_WEIGHT])); //$NON-NLS-1$
+		result.put("low_priority_queued_methods", Long.valueOf(values[QUEUE_LOW_PRIORITY])); //$NON-NLS-1$
+		result.put("jprofiling_queued_methods", Long.valueOf(values[QUEUE_JPROFILING])); //$NON-NLS-1$
+		result.put("compilation_threads", Long.valueOf(values[QUEUE_THREADS])); //$NON-NLS-1$
+		result.put("active_compilation_threads", Long.valueOf(values[QUEUE_ACTIVE_THREADS])); //$NON-NLS-1$
+		result.put("threads_compiling", Long.valueOf(values[QUEUE_THREADS_COMPILING])); //$NON-NLS-1$
+		result.put("compilations", Long.valueOf(values[QUEUE_COMPILATIONS])); //$NON-NLS-1$
+		return makeValuesResult(result, options[0] != 0);
+	}
+
+	private static DiagnosticProperties getCodeCache(String diagnosticCommand) {
+		long[] options = new long[2];
+		if (!parseValuesOptions(diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR), false, options)) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand); //$NON-NLS-1$
+		}
+		long[] values = new long[CODE_VALUES];
+		if (!getCodeCacheImpl(values)) {
+			return DiagnosticProperties.makeErrorProperties("The JIT compiler is not available"); //$NON-NLS-1$
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("code.segments", Long.valueOf(values[CODE_SEGMENTS])); //$NON-NLS-1$
+		result.put("code.committed_bytes", Long.valueOf(values[CODE_COMMITTED])); //$NON-NLS-1$
+		result.put("code.max_bytes", Long.valueOf(values[CODE_MAX])); //$NON-NLS-1$
+		result.put("code.used_bytes", Long.valueOf(values[CODE_WARM] + values[CODE_COLD])); //$NON-NLS-1$
+		result.put("code.warm_bytes", Long.valueOf(values[CODE_WARM])); //$NON-NLS-1$
+		result.put("code.cold_bytes", Long.valueOf(values[CODE_COLD])); //$NON-NLS-1$
+		result.put("code.free_bytes", Long.valueOf(values[CODE_FREE])); //$NON-NLS-1$
+		result.put("data.segments", Long.valueOf(values[DATA_SEGMENTS])); //$NON-NLS-1$
+		result.put("data.committed_bytes", Long.valueOf(values[DATA_COMMITTED])); //$NON-NLS-1$
+		result.put("data.max_bytes", Long.valueOf(values[DATA_MAX])); //$NON-NLS-1$
+		result.put("data.used_bytes", Long.valueOf(values[DATA_USED])); //$NON-NLS-1$
+		return makeValuesResult(result, options[0] != 0);
+	}
+
+	private static DiagnosticProperties getThreadAllocation(String diagnosticCommand) {
+		long[] options = new long[2];
+		if (!parseValuesOptions(diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR), true, options)) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand); //$NON-NLS-1$
+		}
+		long[] pairs = getThreadAllocationImpl();
+		int threads = pairs.length / 2;
+		Integer[] order = new Integer[threads];
+		long total = 0;
+		for (int i = 0; i < threads; i++) {
+			order[i] = Integer.valueOf(i);
+			total += pairs[(i * 2) + 1];
+		}
+		/* most allocated first */
+		Arrays.sort(order, (i1, i2) -> Long.compare(pairs[(i2.intValue() * 2) + 1], pairs[(i1.intValue() * 2) + 1]));
+		int count = (options[1] < 0) ? threads : (int) Math.min(threads, options[1]);
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("threads", Integer.valueOf(threads)); //$NON-NLS-1$
+		result.put("allocated_bytes", Long.valueOf(total)); //$NON-NLS-1$
+		for (int i = 0; i < count; i++) {
+			int index = order[i].intValue() * 2;
+			result.put("thread." + pairs[index] + ".allocated_bytes", Long.valueOf(pairs[index + 1])); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return makeValuesResult(result, options[0] != 0);
+	}
+
+	private static DiagnosticProperties getSharedClasses(String diagnosticCommand) {
+		long[] options = new long[2];
+		if (!parseValuesOptions(diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR), false, options)) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand); //$NON-NLS-1$
+		}
+		long[] values = new long[SHARED_VALUES];
+		String[] names = new String[2];
+		if (!getSharedClassCacheImpl(values, names)) {
+			return DiagnosticProperties.makeErrorProperties("Shared classes are not enabled"); //$NON-NLS-1$
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		if (null != names[0]) {
+			result.put("name", names[0]); //$NON-NLS-1$
+		}
+		if (null != names[1]) {
+			result.put("directory", names[1]); //$NON-NLS-1$
+		}
+		result.put("layers", Long.valueOf(values[SHARED_LAYERS])); //$NON-NLS-1$
+		result.put("size_bytes", Long.valueOf(values[SHARED_SIZE])); //$NON-NLS-1$
+		result.put("softmx_bytes", Long.valueOf(values[SHARED_SOFTMX])); //$NON-NLS-1$
+		result.put("free_bytes", Long.valueOf(values[SHARED_FREE])); //$NON-NLS-1$
+		result.put("percent_full", Long.valueOf(values[SHARED_PERCENT_FULL])); //$NON-NLS-1$
+		result.put("rom_classes", Long.valueOf(values[SHARED_ROM_CLASSES])); //$NON-NLS-1$
+		result.put("stale_classes", Long.valueOf(values[SHARED_STALE_CLASSES])); //$NON-NLS-1$
+		result.put("aot_methods", Long.valueOf(values[SHARED_AOT_METHODS])); //$NON-NLS-1$
+		result.put("rom_class_bytes", Long.valueOf(values[SHARED_ROM_CLASS_BYTES])); //$NON-NLS-1$
+		result.put("aot_bytes", Long.valueOf(values[SHARED_AOT_BYTES])); //$NON-NLS-1$
+		result.put("jit_data_bytes", Long.valueOf(values[SHARED_JIT_DATA_BYTES])); //$NON-NLS-1$
+		result.put("other_bytes", Long.valueOf(values[SHARED_OTHER_BYTES])); //$NON-NLS-1$
+		return makeValuesResult(result, options[0] != 0);
+	}
+
+	private static DiagnosticProperties getMemoryCategories(String diagnosticCommand) {
+		long[] options = new long[2];
+		if (!parseValuesOptions(diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR), false, options)) {
+			return DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand); //$NON-NLS-1$
+		}
+		/* count the categories, with room for any created before the second walk */
+		long[] values = new long[(getMemoryCategoriesImpl(null).length + 8) * CATEGORY_VALUES];
+		String[] names = getMemoryCategoriesImpl(values);
+		int count = names.length;
+		Map<Long, Integer> indexes = new HashMap<>();
+		String[] paths = new String[count];
+		int[] parents = new int[count];
+		long[] bytes = new long[count];
+		long[] allocations = new long[count];
+		/* parents are walked before their children */
+		for (int i = 0; i < count; i++) {
+			int base = i * CATEGORY_VALUES;
+			String name = names[i].toLowerCase().replaceAll("[^a-z0-9]+", "_"); //$NON-NLS-1$ //$NON-NLS-2$
+			Integer parent = indexes.get(Long.valueOf(values[base + 1]));
+			parents[i] = (null == parent) ? -1 : parent.intValue();
+			paths[i] = (null == parent) ? name : (paths[parents[i]] + '.' + name);
+			bytes[i] = values[base + 2];
+			allocations[i] = values[base + 3];
+			indexes.put(Long.valueOf(values[base]), Integer.valueOf(i));
+		}
+		/* the totals of a category include its children */
+		for (int i = count - 1; i >= 0; i--) {
+			if (parents[i] >= 0) {
+				bytes[parents[i]] += bytes[i];
+				allocations[parents[i]] += allocations[i];
+			}
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			result.put(paths[i] + ".bytes", Long.valueOf(bytes[i])); //$NON-NLS-1$
+			result.put(paths[i] + ".allocations", Long.valueOf(allocations[i])); //$NON-NLS-1$
+		}
+		return makeValuesResult(result, options[0] != 0);
+	}
+
 	@SuppressWarnings("nls")
 	private static DiagnosticProperties loadJVMTIAgent(String diagnosticCommand) {
 		DiagnosticProperties result;
@@ -472,6 +761,37 @@ public class DiagnosticUtils {
 			+ "          agentLibrary: the absolute path of the agent%n"
 			+ "          agent option: (Optional) the agent option string%n";
 
+	@SuppressWarnings("nls")
+	private static final String VALUES_OPTION_HELP = " json : format the result as a JSON object rather than name=value lines%n"
+			+ " The values are also returned as separate properties prefixed with " + DiagnosticProperties.DIAGNOSTICS_VALUE_PREFIX + "%n"
+			+ " This command is cheap enough to be run every few seconds.%n";
+
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_COMPILER_QUEUE_HELP = "Show the lengths of the JIT compilation queues.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_COMPILER_QUEUE + " [json]%n"
+			+ VALUES_OPTION_HELP;
+
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_COMPILER_CODECACHE_HELP = "Show the usage of the JIT code and data caches.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_COMPILER_CODECACHE + " [json]%n"
+			+ VALUES_OPTION_HELP;
+
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_THREAD_ALLOCATION_HELP = "Show the bytes allocated by each thread, most first.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_THREAD_ALLOCATION + " [top=<n>] [json]%n"
+			+ " top=<n> : only list the <n> threads which allocated most%n"
+			+ VALUES_OPTION_HELP;
+
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_VM_SHARED_CLASSES_HELP = "Summarize the shared classes cache.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_VM_SHARED_CLASSES + " [json]%n"
+			+ VALUES_OPTION_HELP;
+
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_VM_MEMORY_CATEGORIES_HELP = "Show the native memory used by each memory category, including its children.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_VM_MEMORY_CATEGORIES + " [json]%n"
+			+ VALUES_OPTION_HELP;
+
 /*[IF CRAC_SUPPORT]*/
 	private static final String DIAGNOSTICS_JDK_CHECKPOINT_HELP = "Produce a JVM checkpoint via CRIUSupport.%n" //$NON-NLS-1$
 			+ FORMAT_PREFIX + DIAGNOSTICS_JDK_CHECKPOINT + "%n" //$NON-NLS-1$
@@ -517,6 +837,21 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DiagnosticUtils::loadJVMTIAgent);
 		helpTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP);
 
+		commandTable.put(DIAGNOSTICS_COMPILER_QUEUE, DiagnosticUtils::getCompilationQueue);
+		helpTable.put(DIAGNOSTICS_COMPILER_QUEUE, DIAGNOSTICS_COMPILER_QUEUE_HELP);
+
+		commandTable.put(DIAGNOSTICS_COMPILER_CODECACHE, DiagnosticUtils::getCodeCache);
+		helpTable.put(DIAGNOSTICS_COMPILER_CODECACHE, DIAGNOSTICS_COMPILER_CODECACHE_HELP);
+
+		commandTable.put(DIAGNOSTICS_THREAD_ALLOCATION, DiagnosticUtils::getThreadAllocation);
+		helpTable.put(DIAGNOSTICS_THREAD_ALLOCATION, DIAGNOSTICS_THREAD_ALLOCATION_HELP);
+
+		commandTable.put(DIAGNOSTICS_VM_SHARED_CLASSES, DiagnosticUtils::getSharedClasses);
+		helpTable.put(DIAGNOSTICS_VM_SHARED_CLASSES, DIAGNOSTICS_VM_SHARED_CLASSES_HELP);
+
+		commandTable.put(DIAGNOSTICS_VM_MEMORY_CATEGORIES, DiagnosticUtils::getMemoryCategories);
+		helpTable.put(DIAGNOSTICS_VM_MEMORY_CATEGORIES, DIAGNOSTICS_VM_MEMORY_CATEGORIES_HELP);
+
 /*[IF CRAC_SUPPORT]*/
 		if (InternalCRIUSupport.isCRaCSupportEnabled()) {
 			commandTable.put(DIAGNOSTICS_JDK_CHECKPOINT, DiagnosticUtils::doCheckpointJVM);
@@ -0,0 +1,338 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package openj9.internal.tools.attach.target;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import openj9.internal.management.StatInfoBaseImpl;
+
+/**
+ * A sample of the VM statistics reported by jstat: heap and pool usage, GC counts
+ * and times, class loading and JIT compilation.
+ * <p>
+ * Snapshots are sent from the target to the attacher in a compact binary form, rather
+ * than as formatted text in a properties file, so that a target can be sampled at short
+ * intervals without noticeable overhead. The pool and collector names do not change for
+ * the life of the VM, so they are only sent when the attacher asks for them, normally
+ * with the first sample; later samples take the names from the previous snapshot.
+ */
+public final class StatSnapshot {
+
+	private static final byte VERSION = 1;
+	private static final byte FLAG_NAMES = 1;
+
+	private static String[] targetPoolNames;
+	private static String[] targetCollectorNames;
+
+	private final String[] poolNames;
+	private final String[] collectorNames;
+	private final long[] values;
+	private final String lastGCCause;
+	private final String currentGC;
+
+	private StatSnapshot(String[] poolNames, String[] collectorNames, long[] values, String lastGCCause, String currentGC) {
+		this.poolNames = poolNames;
+		this.collectorNames = collectorNames;
+		this.values = values;
+		this.lastGCCause = lastGCCause;
+		this.currentGC = currentGC;
+	}
+
+	/**
+	 * Sample the statistics of this VM.
+	 * @return the current values
+	 */
+	static StatSnapshot sample() {
+		String[] poolNames;
+		String[] collectorNames;
+		synchronized (StatSnapshot.class) {
+			if (null == targetPoolNames) {
+				targetPoolNames = StatInfoBaseImpl.getHeapPoolNamesImpl();
+				targetCollectorNames = StatInfoBaseImpl.getCollectorNamesImpl();
+			}
+			poolNames = targetPoolNames;
+			collectorNames = targetCollectorNames;
+		}
+		long[] values = new long[valueCount(poolNames.length, collectorNames.length)];
+		String[] causes = new String[2];
+		StatInfoBaseImpl.getStatisticsImpl(values, causes);
+		return new StatSnapshot(poolNames, collectorNames, values, causes[0], causes[1]);
+	}
+
+	private static int valueCount(int pools, int collectors) {
+		return StatInfoBaseImpl.FIXED_VALUES + (pools * StatInfoBaseImpl.POOL_VALUES) + (collectors * StatInfoBaseImpl.COLLECTOR_VALUES);
+	}
+
+	/**
+	 * Encode the snapshot.
+	 * @param withNames true if the pool and collector names should be included
+	 * @return the encoded snapshot
+	 * @throws IOException if the snapshot cannot be encoded
+	 */
+	byte[] toByteArray(boolean withNames) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+		DataOutputStream out = new DataOutputStream(buffer);
+		out.writeByte(VERSION);
+		out.writeByte(withNames ? FLAG_NAMES : 0);
+		if (withNames) {
+			writeNames(out, poolNames);
+			writeNames(out, collectorNames);
+		}
+		out.writeShort(values.length);
+		for (long value : values) {
+			out.writeLong(value);
+		}
+		writeOptionalString(out, lastGCCause);
+		writeOptionalString(out, currentGC);
+		out.flush();
+		return buffer.toByteArray();
+	}
+
+	private static void writeNames(DataOutputStream out, String[] names) throws IOException {
+		out.writeShort(names.length);
+		for (String name : names) {
+			out.writeUTF(name);
+		}
+	}
+
+	private static void writeOptionalString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(null != value);
+		if (null != value) {
+			out.writeUTF(value);
+		}
+	}
+
+	/**
+	 * Decode a snapshot sent by a target.
+	 * @param data the encoded snapshot
+	 * @param previous the previous snapshot from the same target, which supplies the
+	 *     names if they were not sent, or null
+	 * @return the snapshot
+	 * @throws IOException if the data is not a valid snapshot
+	 */
+	public static StatSnapshot fromByteArray(byte[] data, StatSnapshot previous) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+		byte version = in.readByte();
+		if (VERSION != version) {
+			/*[MSG "K080B", "Unsupported statistics snapshot version {0}"]*/
+			throw new IOException(com.ibm.oti.util.Msg.getString("K080B", Byte.valueOf(version))); //$NON-NLS-1$
+		}
+		String[] poolNames;
+		String[] collectorNames;
+		if (0 != (in.readByte() & FLAG_NAMES)) {
+			poolNames = readNames(in);
+			collectorNames = readNames(in);
+		} else if (null != previous) {
+			poolNames = previous.poolNames;
+			collectorNames = previous.collectorNames;
+		} else {
+			poolNames = null;
+			collectorNames = null;
+		}
+		int count = in.readUnsignedShort();
+		if ((null == poolNames) || (count != valueCount(poolNames.length, collectorNames.length))) {
+			/*[MSG "K080C", "Statistics snapshot does not match the pools and collectors of the target"]*/
+			throw new IOException(com.ibm.oti.util.Msg.getString("K080C")); //$NON-NLS-1$
+		}
+		long[] values = new long[count];
+		for (int i = 0; i < count; ++i) {
+			values[i] = in.readLong();
+		}
+		String lastGCCause = readOptionalString(in);
+		String currentGC = readOptionalString(in);
+		return new StatSnapshot(poolNames, collectorNames, values, lastGCCause, currentGC);
+	}
+
+	private static String[] readNames(DataInputStream in) throws IOException {
+		String[] names = new String[in.readUnsignedShort()];
+		for (int i = 0; i < names.length; ++i) {
+			names[i] = in.readUTF();
+		}
+		return names;
+	}
+
+	private static String readOptionalString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	/**
+	 * @return the time since the target VM started, in milliseconds
+	 */
+	public long getUptime() {
+		return values[StatInfoBaseImpl.UPTIME];
+	}
+
+	/**
+	 * @return the number of classes currently loaded
+	 */
+	public long getLoadedClassCount() {
+		return values[StatInfoBaseImpl.LOADED_CLASSES];
+	}
+
+	/**
+	 * @return the number of classes unloaded
+	 */
+	public long getUnloadedClassCount() {
+		return values[StatInfoBaseImpl.UNLOADED_CLASSES];
+	}
+
+	/**
+	 * @return the number of methods compiled by the JIT
+	 */
+	public long getCompilationCount() {
+		return values[StatInfoBaseImpl.COMPILATIONS];
+	}
+
+	/**
+	 * @return the time spent compiling, in milliseconds
+	 */
+	public long getCompilationTime() {
+		return values[StatInfoBaseImpl.COMPILATION_TIME];
+	}
+
+	/**
+	 * @return the number of threads which are compiling
+	 */
+	public long getThreadsCompiling() {
+		return values[StatInfoBaseImpl.THREADS_COMPILING];
+	}
+
+	/**
+	 * @return the committed size of the heap in bytes
+	 */
+	public long getHeapCommitted() {
+		return values[StatInfoBaseImpl.HEAP_COMMITTED];
+	}
+
+	/**
+	 * @return the used size of the heap in bytes
+	 */
+	public long getHeapUsed() {
+		return values[StatInfoBaseImpl.HEAP_USED];
+	}
+
+	/**
+	 * @return the maximum size of the heap in bytes
+	 */
+	public long getHeapMax() {
+		return values[StatInfoBaseImpl.HEAP_MAX];
+	}
+
+	/**
+	 * @return the number of heap memory pools
+	 */
+	public int getPoolCount() {
+		return poolNames.length;
+	}
+
+	/**
+	 * @param pool index of the pool
+	 * @return the name of the pool
+	 */
+	public String getPoolName(int pool) {
+		return poolNames[pool];
+	}
+
+	/**
+	 * @param pool index of the pool
+	 * @return the committed size of the pool in bytes
+	 */
+	public long getPoolCommitted(int pool) {
+		return values[poolValue(pool)];
+	}
+
+	/**
+	 * @param pool index of the pool
+	 * @return the used size of the pool in bytes
+	 */
+	public long getPoolUsed(int pool) {
+		return values[poolValue(pool) + 1];
+	}
+
+	/**
+	 * @param pool index of the pool
+	 * @return the maximum size of the pool in bytes
+	 */
+	public long getPoolMax(int pool) {
+		return values[poolValue(pool) + 2];
+	}
+
+	private static int poolValue(int pool) {
+		return StatInfoBaseImpl.FIXED_VALUES + (pool * StatInfoBaseImpl.POOL_VALUES);
+	}
+
+	/**
+	 * @return the number of garbage collectors
+	 */
+	public int getCollectorCount() {
+		return collectorNames.length;
+	}
+
+	/**
+	 * @param collector index of the collector
+	 * @return the name of the collector
+	 */
+	public String getCollectorName(int collector) {
+		return collectorNames[collector];
+	}
+
+	/**
+	 * @param collector index of the collector
+	 * @return the number of collections done by the collector
+	 */
+	public long getCollectionCount(int collector) {
+		return values[collectorValue(collector)];
+	}
+
+	/**
+	 * @param collector index of the collector
+	 * @return the time spent in collections by the collector, in milliseconds
+	 */
+	public long getCollectionTime(int collector) {
+		return values[collectorValue(collector) + 1];
+	}
+
+	private int collectorValue(int collector) {
+		return poolValue(poolNames.length) + (collector * StatInfoBaseImpl.COLLECTOR_VALUES);
+	}
+
+	/**
+	 * @return the cause of the last GC, or null if there hasn't been one
+	 */
+	public String getLastGCCause() {
+		return lastGCCause;
+	}
+
+	/**
+	 * The cause of a GC is only known when it finishes, so the collector is
+	 * reported for a GC which is in progress.
+	 * @return the name of the collector which is running, or null if no GC is in progress
+	 */
+	public String getCurrentGC() {
+		return currentGC;
+	}
+}
@@ -874,6 +874,36 @@ public class MemoryMXBeanImpl extends LazyDelegatingNotifier implements MemoryMX
 		return getCurrentGCThreadsImpl();
 	}
 
+	/**
+	 * Returns the number of finalizable objects, references and class loaders processed by the finalizer threads.
+	 *
+	 * @return number of completed finalization jobs
+	 * @see #getFinalizationCompletedCount()
+	 */
+	private native long getFinalizationCompletedCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getFinalizationCompletedCount() {
+		return getFinalizationCompletedCountImpl();
+	}
+
+	/**
+	 * Returns the number of threads which run finalizers and enqueue references.
+	 *
+	 * @return number of finalizer threads
+	 * @see #getFinalizerThreadCount()
+	 */
+	private native int getFinalizerThreadCountImpl();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getFinalizerThreadCount() {
+		return getFinalizerThreadCountImpl();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
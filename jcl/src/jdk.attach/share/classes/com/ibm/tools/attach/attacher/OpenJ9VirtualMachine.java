@@ -26,6 +26,7 @@ package com.ibm.tools.attach.attacher;
 import static com.ibm.oti.util.Msg.getString;
 
 import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -52,6 +53,7 @@ import openj9.internal.tools.attach.target.FileLock;
 import openj9.internal.tools.attach.target.IPC;
 import openj9.internal.tools.attach.target.Reply;
 import openj9.internal.tools.attach.target.Response;
+import openj9.internal.tools.attach.target.StatSnapshot;
 import openj9.internal.tools.attach.target.TargetDirectory;
 import com.sun.tools.attach.AgentInitializationException;
 import com.sun.tools.attach.AgentLoadException;
@@ -79,6 +81,8 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 	/* The units for timeouts are milliseconds, Set to 0 for no timeout. */	
 	private static final int DEFAULT_ATTACH_TIMEOUT = 120000;	/* should be ~2* the TCP timeout, i.e. /proc/sys/net/ipv4/tcp_fin_timeout on Linux */
 	private static final int DEFAULT_COMMAND_TIMEOUT = 0;
+	/* a snapshot is a few hundred bytes, anything much larger is not a snapshot */
+	private static final int MAXIMUM_STAT_SNAPSHOT_LENGTH = 0x10000;
 
 	private static int MAXIMUM_ATTACH_TIMEOUT;
 	private static int COMMAND_TIMEOUT;
@@ -324,6 +328,37 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 		return IPC.receiveProperties(responseStream, true);
 	}
 
+	/**
+	 * Sample the statistics of a target VM.
+	 *
+	 * @param previous the previous snapshot from this target, or null for the first sample
+	 * @return the current statistics
+	 * @throws IOException in case of a communication error, or if the target does not support snapshots
+	 */
+	public synchronized StatSnapshot getStatSnapshot(StatSnapshot previous) throws IOException {
+		if (!targetAttached) {
+			/*[MSG "K0544", "Target not attached"]*/
+			throw new IOException(getString("K0544")); //$NON-NLS-1$
+		}
+		/* the names don't change, so they are only requested with the first sample */
+		AttachmentConnection.streamSend(commandStream,
+				(null == previous) ? Command.ATTACH_STAT_SNAPSHOT_WITH_NAMES : Command.ATTACH_STAT_SNAPSHOT);
+		DataInputStream in = new DataInputStream(responseStream);
+		byte[] header = new byte[4];
+		in.readFully(header);
+		int length = ((header[0] & 0xff) << 24) | ((header[1] & 0xff) << 16) | ((header[2] & 0xff) << 8) | (header[3] & 0xff);
+		if (length < 0) {
+			throw new IOException(AttachmentConnection.streamReceiveString(responseStream));
+		} else if (length > MAXIMUM_STAT_SNAPSHOT_LENGTH) {
+			/* an older target replies with an error message rather than a length */
+			String response = new String(header, StandardCharsets.UTF_8) + AttachmentConnection.streamReceiveString(responseStream);
+			throw new IOException(response);
+		}
+		byte[] snapshot = new byte[length];
+		in.readFully(snapshot);
+		return StatSnapshot.fromByteArray(snapshot, previous);
+	}
+
 	private void lockAllAttachNotificationSyncFiles(
 			List<VirtualMachineDescriptor> vmds) {
 
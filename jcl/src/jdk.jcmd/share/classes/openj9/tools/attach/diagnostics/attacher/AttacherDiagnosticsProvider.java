@@ -33,6 +33,7 @@ import com.ibm.tools.attach.attacher.OpenJ9VirtualMachine;
 
 import openj9.internal.tools.attach.target.DiagnosticProperties;
 import openj9.internal.tools.attach.target.IPC;
+import openj9.internal.tools.attach.target.StatSnapshot;
 import com.sun.tools.attach.AttachNotSupportedException;
 
 /**
@@ -60,6 +61,18 @@ public class AttacherDiagnosticsProvider {
 		return info;
 	}
 
+	/**
+	 * Sample the statistics of the target VM.
+	 * 
+	 * @param previous the previous sample from the target, or null for the first sample
+	 * @return the current statistics
+	 * @throws IOException in case of a communication error
+	 */
+	public StatSnapshot getStatSnapshot(StatSnapshot previous) throws IOException {
+		checkAttached();
+		return vm.getStatSnapshot(previous);
+	}
+
 	/**
 	 * Call equivalent com.sun.tools.attach.VirtualMachine method.
 	 * 
@@ -20,14 +20,20 @@
  *
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
-
 package openj9.tools.attach.diagnostics.tools;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import openj9.internal.tools.attach.target.AttachHandler;
 import openj9.internal.tools.attach.target.DiagnosticProperties;
 import openj9.internal.tools.attach.target.IPC;
+import openj9.internal.tools.attach.target.StatSnapshot;
 import openj9.tools.attach.diagnostics.attacher.AttacherDiagnosticsProvider;
 
 /**
@@ -39,12 +45,26 @@ public class Jstat {
 
 	private static String vmid;
 	private static String statOption;
+	/* sampling interval in milliseconds, or -1 for a single sample */
+	private static long interval = -1;
+	/* number of samples, or -1 to sample until the target exits */
+	private static int count = -1;
 
 	private static final String OPTION_CLASS = "-class";
-	private static final String[] OPTIONS = { OPTION_CLASS };
+	private static final String OPTION_COMPILER = "-compiler";
+	private static final String OPTION_GC = "-gc";
+	private static final String OPTION_GCCAUSE = "-gccause";
+	private static final String OPTION_GCUTIL = "-gcutil";
+	private static final String[] OPTIONS = { OPTION_CLASS, OPTION_COMPILER, OPTION_GC, OPTION_GCCAUSE, OPTION_GCUTIL };
+
+	private static final Pattern INTERVAL_PATTERN = Pattern.compile("(\\d+)(ms|s)?");
+	/* words which don't help to tell the collectors apart */
+	private static final Set<String> COLLECTOR_NAME_NOISE = new HashSet<>(Arrays.asList("gc", "garbage", "collect"));
 
 	private static final String ERROR_AN_ARG_REQUIRED = "An argument is required";
 	private static final String ERROR_INVALID_ARG = "An invalid argument";
+	private static final String ERROR_INVALID_COUNT = "An invalid count: ";
+	private static final String ERROR_INVALID_INTERVAL = "An invalid interval: ";
 	private static final String ERROR_INVALID_OPTION = "An invalid option";
 	private static final String ERROR_INVALID_VMID = "Can't monitor this utility JVM itself: ";
 	private static final String ERROR_NOT_EXIST_VMID = "No such process for vmid: ";
@@ -53,14 +73,23 @@ public class Jstat {
 
 	private static String HELPTEXT = "jstat: obtain statistics information about a Java process%n"
 			+ " Usage:%n"
-			+ "    jstat [<option>] [<vmid>]%n"
+			+ "    jstat [<option>] [<vmid>] [<interval>[ms|s] [<count>]]%n"
 			+ "%n"
 			+ "  option:%n"
 			+ "   -J : supply arguments to the Java VM running jstat%n"
 			+ "   -h : print this help message%n"
 			+ "   -options : list the available command options%n"
 			+ "   -class : Classloading statistics%n"
+			+ "   -compiler : JIT compilation statistics%n"
+			+ "   -gc : Heap pool capacity and usage (KB), and collection counts and times (seconds)%n"
+			+ "   -gcutil : Heap pool usage as a percentage of capacity, and collection counts and times%n"
+			+ "   -gccause : As -gcutil, with the cause of the last GC and the GC in progress%n"
 			+ "  <vmid>: Attach API VM ID as shown in jps or other Attach API-based tools%n"
+			+ "  <interval>: sample every <interval> milliseconds, or seconds with the 's' suffix%n"
+			+ "  <count>: number of samples to take, the default is to sample until the target exits%n"
+			+ "The heap pool and collector columns are named from the initials of the pools and collectors%n"
+			+ "of the target, e.g. NAC and NAU for the capacity and usage of nursery-allocate,%n"
+			+ "SGC and SGCT for the count and time of scavenge collections.%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n"
 			+ "At least one option must be selected.%n";
 
@@ -94,7 +123,11 @@ public class Jstat {
 
 			try {
 				diagProvider.attach(vmid);
-				Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
+				if (OPTION_CLASS.equals(statOption) && (interval < 0)) {
+					Util.runCommandAndPrintResult(diagProvider, "jstat.class", "jstat");
+				} else {
+					sample(diagProvider);
+				}
 			} catch (Exception e) {
 				System.err.printf("Error getting data from %s", vmid);
 				final String msg = e.getMessage();
@@ -120,6 +153,129 @@ public class Jstat {
 		}
 	}
 
+	/**
+	 * Take the samples over a single connection to the target, printing
+	 * the column headings before the first.
+	 */
+	private static void sample(AttacherDiagnosticsProvider diagProvider) throws IOException {
+		int samples = (interval < 0) ? 1 : count;
+		long intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
+		long next = System.nanoTime();
+		StatSnapshot snapshot = null;
+		for (int i = 0; (samples < 0) || (i < samples); ++i) {
+			if (i > 0) {
+				// keep to the interval regardless of how long each sample takes
+				next += intervalNanos;
+				long delay = next - System.nanoTime();
+				if (delay > 0) {
+					try {
+						TimeUnit.NANOSECONDS.sleep(delay);
+					} catch (InterruptedException e) {
+						break;
+					}
+				}
+			}
+			snapshot = diagProvider.getStatSnapshot(snapshot);
+			StringBuilder header = new StringBuilder();
+			StringBuilder row = new StringBuilder();
+			format(snapshot, header, row);
+			if (0 == i) {
+				System.out.println(header);
+			}
+			System.out.println(row);
+		}
+	}
+
+	private static void format(StatSnapshot snapshot, StringBuilder header, StringBuilder row) {
+		switch (statOption) {
+		case OPTION_CLASS:
+			// same layout as the jstat.class diagnostic command
+			header.append("Class Loaded    Class Unloaded");
+			row.append(String.format("%12d    %14d", snapshot.getLoadedClassCount(), snapshot.getUnloadedClassCount()));
+			break;
+		case OPTION_COMPILER:
+			addColumn(header, row, "Compiled", 9, Long.toString(snapshot.getCompilationCount()));
+			addColumn(header, row, "Active", 7, Long.toString(snapshot.getThreadsCompiling()));
+			addColumn(header, row, "Time", 10, seconds(snapshot.getCompilationTime()));
+			break;
+		case OPTION_GC:
+			String[] pools = abbreviate(snapshot, true);
+			for (int pool = 0; pool < pools.length; ++pool) {
+				addColumn(header, row, pools[pool] + "C", 10, String.format("%.1f", snapshot.getPoolCommitted(pool) / 1024.0));
+				addColumn(header, row, pools[pool] + "U", 10, String.format("%.1f", snapshot.getPoolUsed(pool) / 1024.0));
+			}
+			addCollectorColumns(snapshot, header, row);
+			break;
+		case OPTION_GCCAUSE:
+		case OPTION_GCUTIL:
+			pools = abbreviate(snapshot, true);
+			for (int pool = 0; pool < pools.length; ++pool) {
+				addColumn(header, row, pools[pool], 7, percent(snapshot.getPoolUsed(pool), snapshot.getPoolCommitted(pool)));
+			}
+			addCollectorColumns(snapshot, header, row);
+			if (OPTION_GCCAUSE.equals(statOption)) {
+				String lastCause = snapshot.getLastGCCause();
+				String current = snapshot.getCurrentGC();
+				header.append(String.format(" %-24s %s", "LGCC", "GCC"));
+				row.append(String.format(" %-24s %s", (null == lastCause) ? "No GC" : lastCause, (null == current) ? "No GC" : current));
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static void addCollectorColumns(StatSnapshot snapshot, StringBuilder header, StringBuilder row) {
+		String[] collectors = abbreviate(snapshot, false);
+		long totalTime = 0;
+		for (int collector = 0; collector < collectors.length; ++collector) {
+			addColumn(header, row, collectors[collector] + "GC", 7, Long.toString(snapshot.getCollectionCount(collector)));
+			addColumn(header, row, collectors[collector] + "GCT", 10, seconds(snapshot.getCollectionTime(collector)));
+			totalTime += snapshot.getCollectionTime(collector);
+		}
+		addColumn(header, row, "GCT", 10, seconds(totalTime));
+	}
+
+	private static void addColumn(StringBuilder header, StringBuilder row, String name, int width, String value) {
+		// the width depends only on the name, so it is the same for every sample
+		String format = "%" + Math.max(width, name.length() + 1) + "s";
+		header.append(String.format(format, name));
+		row.append(String.format(format, value));
+	}
+
+	private static String seconds(long millis) {
+		return String.format("%.3f", millis / 1000.0);
+	}
+
+	private static String percent(long used, long committed) {
+		return String.format("%.2f", (0 == committed) ? 0.0 : ((used * 100.0) / committed));
+	}
+
+	/**
+	 * Make short, distinct column names from the initials of the pool or collector names,
+	 * e.g. NA for nursery-allocate.
+	 */
+	private static String[] abbreviate(StatSnapshot snapshot, boolean pools) {
+		int length = pools ? snapshot.getPoolCount() : snapshot.getCollectorCount();
+		String[] abbreviations = new String[length];
+		Set<String> used = new HashSet<>();
+		for (int i = 0; i < length; ++i) {
+			String name = pools ? snapshot.getPoolName(i) : snapshot.getCollectorName(i);
+			StringBuilder initials = new StringBuilder();
+			for (String word : name.split("[^A-Za-z0-9]+")) {
+				if (!word.isEmpty() && (pools || !COLLECTOR_NAME_NOISE.contains(word.toLowerCase()))) {
+					initials.append(Character.toUpperCase(word.charAt(0)));
+				}
+			}
+			String abbreviation = initials.toString();
+			for (int suffix = 2; abbreviation.isEmpty() || !used.add(abbreviation); ++suffix) {
+				abbreviation = initials.toString() + suffix;
+			}
+			abbreviations[i] = abbreviation;
+		}
+		return abbreviations;
+	}
+
 	private static boolean parseArguments(String[] args) {
 		boolean foundStatOption = false;
 
@@ -144,26 +300,26 @@ public class Jstat {
 					if (statOption != null) {
 						// one option has already been set, print error message and help text, and exit
 						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
-					} else {
+					} else if (Arrays.asList(OPTIONS).contains(arg)) {
 						foundStatOption = true;
-						switch (arg) {
-						case OPTION_CLASS:
-							statOption = "jstat.class";
-							break;
-						default:
-							// invalid option was specified, print error message and help text, and exit
-							Util.exitJVMWithReasonAndHelp(ERROR_INVALID_OPTION, HELPTEXT);
-						}
+						statOption = arg;
+					} else {
+						// invalid option was specified, print error message and help text, and exit
+						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_OPTION, HELPTEXT);
 					}
 				} else {
 					if (statOption == null) {
 						// no option was specified, print error message and help text, and exit
 						Util.exitJVMWithReasonAndHelp(ERROR_OPTION_REQUIRED, HELPTEXT);
-					} else if (vmid != null) {
-						// one vmid has already been set, print error message and help text, and exit
-						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
-					} else {
+					} else if (vmid == null) {
 						vmid = arg;
+					} else if (interval < 0) {
+						interval = parseInterval(arg);
+					} else if (count < 0) {
+						count = parseCount(arg);
+					} else {
+						// the vmid, interval and count have already been set, print error message and help text, and exit
+						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
 					}
 				}
 			}
@@ -171,4 +327,36 @@ public class Jstat {
 
 		return foundStatOption;
 	}
+
+	private static long parseInterval(String arg) {
+		Matcher matcher = INTERVAL_PATTERN.matcher(arg);
+		long result = 0;
+		if (matcher.matches()) {
+			try {
+				result = Long.parseLong(matcher.group(1));
+				if ("s".equals(matcher.group(2))) {
+					result = Math.multiplyExact(result, 1000L);
+				}
+			} catch (ArithmeticException | NumberFormatException e) {
+				result = 0;
+			}
+		}
+		if (result <= 0) {
+			Util.exitJVMWithReasonAndHelp(ERROR_INVALID_INTERVAL + arg, HELPTEXT);
+		}
+		return result;
+	}
+
+	private static int parseCount(String arg) {
+		int result = 0;
+		try {
+			result = Integer.parseInt(arg);
+		} catch (NumberFormatException e) {
+			result = 0;
+		}
+		if (result <= 0) {
+			Util.exitJVMWithReasonAndHelp(ERROR_INVALID_COUNT + arg, HELPTEXT);
+		}
+		return result;
+	}
 }
@@ -310,4 +310,22 @@ public interface MemoryMXBean extends java.lang.management.MemoryMXBean {
      * @return number of active GC worker threads
      */
 	public int getCurrentGCThreads();
+
+	/**
+	 * Returns the total number of objects finalized, references enqueued and class
+	 * loaders unloaded by the finalizer threads since the virtual machine started.
+	 * Sampling this value gives the rate at which the finalization backlog, reported
+	 * by {@link #getObjectPendingFinalizationCount()}, is being drained.
+	 *
+	 * @return number of completed finalization jobs
+	 */
+	public long getFinalizationCompletedCount();
+
+	/**
+	 * Returns the number of threads which run finalizers and enqueue references,
+	 * as set by -Xgc:finalizeWorkerThreads.
+	 *
+	 * @return number of finalizer threads
+	 */
+	public int getFinalizerThreadCount();
 }
@@ -383,7 +383,8 @@ public final class CRIUSupport {
 	 * priority than SINGLE_THREAD_MODE hooks. Ie. the lowest priority
 	 * SINGLE_THREAD_MODE hook is a higher priority than the highest priority
 	 * CONCURRENT_MODE hook. The hooks of the same mode with the same priority are
-	 * run in random order.
+	 * run in random order. CONCURRENT_MODE hooks with the same priority may
+	 * run at the same time on different threads.
 	 *
 	 * @param hook     user hook
 	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
@@ -463,7 +464,8 @@ public final class CRIUSupport {
 	 * priority than SINGLE_THREAD_MODEd hooks. Ie. the lowest priority
 	 * SINGLE_THREAD_MODE hook is a higher priority than the highest priority
 	 * CONCURRENT_MODE hook. The hooks of the same mode with the same priority are
-	 * run in random order.
+	 * run in random order. CONCURRENT_MODE hooks with the same priority may
+	 * run at the same time on different threads.
 	 *
 	 * @param hook     user hook
 	 * @param mode     the mode in which the hook is run, either CONCURRENT_MODE or
@@ -23,9 +23,23 @@
 
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+
 /**
  * Conversion routines to marshall Java binary types (short, int, long, float,
  * double) to byte arrays.
+ * 
+ * <p>
+ * The same conversions are provided for ByteBuffers, using absolute offsets
+ * without changing the position, limit or byte order of the buffer, and on
+ * Java 22 and later for MemorySegments.
+ * </p>
  *
  * @author IBM
  * @version $Revision$ on $Date$ 
@@ -580,4 +594,555 @@ public class ByteArrayMarshaller {
         writeLong(Double.doubleToLongBits(value), byteArray, offset, bigEndian);
     }
 
+    /**
+     * Copies the short value into 2 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param value
+     *            the short value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeShort(short value, ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("writeShort", byteBuffer, offset, 2, 2, 1);
+
+        byteBuffer.putShort(offset, hasOrder(byteBuffer, bigEndian) ? value : Short.reverseBytes(value));
+    }
+
+    /**
+     * Copies zero to 2 bytes of the short value into the ByteBuffer starting at
+     * the absolute offset. The position, limit and byte order of the buffer
+     * are not used or changed.
+     * 
+     * @param value
+     *            the short value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to marshall, must be 0-2 inclusive
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 2</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeShort(short value, ByteBuffer byteBuffer, int offset, boolean bigEndian,
+            int numBytes) {
+        if (numBytes < 0 || numBytes > 2)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("writeShort", byteBuffer, offset, numBytes, numBytes, 1);
+
+        if (byteBuffer.hasArray())
+            writeShort_(value, byteBuffer.array(), byteBuffer.arrayOffset() + offset, bigEndian, numBytes);
+        else
+            writeBytes(value, byteBuffer, offset, bigEndian, numBytes);
+    }
+
+    /**
+     * Copies the int value into 4 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param value
+     *            the int value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeInt(int value, ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("writeInt", byteBuffer, offset, 4, 4, 1);
+
+        byteBuffer.putInt(offset, hasOrder(byteBuffer, bigEndian) ? value : Integer.reverseBytes(value));
+    }
+
+    /**
+     * Copies zero to 4 bytes of the int value into the ByteBuffer starting at
+     * the absolute offset. The position, limit and byte order of the buffer
+     * are not used or changed.
+     * 
+     * @param value
+     *            the int value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to marshall, must be 0-4 inclusive
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 4</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeInt(int value, ByteBuffer byteBuffer, int offset, boolean bigEndian,
+            int numBytes) {
+        if (numBytes < 0 || numBytes > 4)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("writeInt", byteBuffer, offset, numBytes, numBytes, 1);
+
+        if (byteBuffer.hasArray())
+            writeInt_(value, byteBuffer.array(), byteBuffer.arrayOffset() + offset, bigEndian, numBytes);
+        else
+            writeBytes(value, byteBuffer, offset, bigEndian, numBytes);
+    }
+
+    /**
+     * Copies the long value into 8 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param value
+     *            the long value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeLong(long value, ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("writeLong", byteBuffer, offset, 8, 8, 1);
+
+        byteBuffer.putLong(offset, hasOrder(byteBuffer, bigEndian) ? value : Long.reverseBytes(value));
+    }
+
+    /**
+     * Copies zero to 8 bytes of the long value into the ByteBuffer starting at
+     * the absolute offset. The position, limit and byte order of the buffer
+     * are not used or changed.
+     * 
+     * @param value
+     *            the long value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to marshall, must be 0-8 inclusive
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 8</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeLong(long value, ByteBuffer byteBuffer, int offset, boolean bigEndian,
+            int numBytes) {
+        if (numBytes < 0 || numBytes > 8)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("writeLong", byteBuffer, offset, numBytes, numBytes, 1);
+
+        if (byteBuffer.hasArray())
+            writeLong_(value, byteBuffer.array(), byteBuffer.arrayOffset() + offset, bigEndian, numBytes);
+        else
+            writeBytes(value, byteBuffer, offset, bigEndian, numBytes);
+    }
+
+    /**
+     * Copies the float value into 4 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param value
+     *            the float value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeFloat(float value, ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("writeFloat", byteBuffer, offset, 4, 4, 1);
+
+        int bits = Float.floatToIntBits(value);
+        byteBuffer.putInt(offset, hasOrder(byteBuffer, bigEndian) ? bits : Integer.reverseBytes(bits));
+    }
+
+    /**
+     * Copies the double value into 8 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param value
+     *            the double value to marshall
+     * @param byteBuffer
+     *            destination
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     */
+    public static void writeDouble(double value, ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("writeDouble", byteBuffer, offset, 8, 8, 1);
+
+        long bits = Double.doubleToLongBits(value);
+        byteBuffer.putLong(offset, hasOrder(byteBuffer, bigEndian) ? bits : Long.reverseBytes(bits));
+    }
+
+    /**
+     * Whether the multi-byte accessors of the buffer already use the requested
+     * byte order, otherwise the bytes of the value must be reversed.
+     */
+    private static boolean hasOrder(ByteBuffer byteBuffer, boolean bigEndian) {
+        return (byteBuffer.order() == ByteOrder.BIG_ENDIAN) == bigEndian;
+    }
+
+    private static void writeBytes(long value, ByteBuffer byteBuffer, int offset,
+            boolean bigEndian, int numBytes) {
+        for (int i = 0; i < numBytes; i++) {
+            int index = bigEndian ? offset + numBytes - 1 - i : offset + i;
+            byteBuffer.put(index, (byte) (value >> (i * 8)));
+        }
+    }
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+    private static final ValueLayout.OfShort SHORT_BIG_ENDIAN = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfShort SHORT_LITTLE_ENDIAN = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt INT_BIG_ENDIAN = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfInt INT_LITTLE_ENDIAN = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG_BIG_ENDIAN = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG_LITTLE_ENDIAN = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT_BIG_ENDIAN = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT_LITTLE_ENDIAN = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE_BIG_ENDIAN = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE_LITTLE_ENDIAN = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Copies the short value into 2 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param value
+     *            the short value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     * @throws IllegalArgumentException
+     *             if the segment is read-only
+     */
+    public static void writeShort(short value, MemorySegment segment, long offset, boolean bigEndian) {
+        segment.set(bigEndian ? SHORT_BIG_ENDIAN : SHORT_LITTLE_ENDIAN, offset, value);
+    }
+
+    /**
+     * Copies zero to 2 bytes of the short value into the MemorySegment starting
+     * at the offset.
+     * 
+     * @param value
+     *            the short value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to marshall, must be 0-2 inclusive
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code>, <code>numBytes &gt; 2</code>
+     *             or the segment is read-only
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static void writeShort(short value, MemorySegment segment, long offset, boolean bigEndian,
+            int numBytes) {
+        if (numBytes < 0 || numBytes > 2)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("writeShort", segment.byteSize(), offset, numBytes, numBytes, 1);
+
+        writeBytes(value, segment, offset, bigEndian, numBytes);
+    }
+
+    /**
+     * Copies the int value into 4 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param value
+     *            the int value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     * @throws IllegalArgumentException
+     *             if the segment is read-only
+     */
+    public static void writeInt(int value, MemorySegment segment, long offset, boolean bigEndian) {
+        segment.set(bigEndian ? INT_BIG_ENDIAN : INT_LITTLE_ENDIAN, offset, value);
+    }
+
+    /**
+     * Copies zero to 4 bytes of the int value into the MemorySegment starting
+     * at the offset.
+     * 
+     * @param value
+     *            the int value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to marshall, must be 0-4 inclusive
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code>, <code>numBytes &gt; 4</code>
+     *             or the segment is read-only
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static void writeInt(int value, MemorySegment segment, long offset, boolean bigEndian,
+            int numBytes) {
+        if (numBytes < 0 || numBytes > 4)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("writeInt", segment.byteSize(), offset, numBytes, numBytes, 1);
+
+        writeBytes(value, segment, offset, bigEndian, numBytes);
+    }
+
+    /**
+     * Copies the long value into 8 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param value
+     *            the long value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     * @throws IllegalArgumentException
+     *             if the segment is read-only
+     */
+    public static void writeLong(long value, MemorySegment segment, long offset, boolean bigEndian) {
+        segment.set(bigEndian ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN, offset, value);
+    }
+
+    /**
+     * Copies zero to 8 bytes of the long value into the MemorySegment starting
+     * at the offset.
+     * 
+     * @param value
+     *            the long value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to marshall, must be 0-8 inclusive
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code>, <code>numBytes &gt; 8</code>
+     *             or the segment is read-only
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static void writeLong(long value, MemorySegment segment, long offset, boolean bigEndian,
+            int numBytes) {
+        if (numBytes < 0 || numBytes > 8)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("writeLong", segment.byteSize(), offset, numBytes, numBytes, 1);
+
+        writeBytes(value, segment, offset, bigEndian, numBytes);
+    }
+
+    /**
+     * Copies the float value into 4 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param value
+     *            the float value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     * @throws IllegalArgumentException
+     *             if the segment is read-only
+     */
+    public static void writeFloat(float value, MemorySegment segment, long offset, boolean bigEndian) {
+        segment.set(bigEndian ? FLOAT_BIG_ENDIAN : FLOAT_LITTLE_ENDIAN, offset, value);
+    }
+
+    /**
+     * Copies the double value into 8 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param value
+     *            the double value to marshall
+     * @param segment
+     *            destination
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     * @throws IllegalArgumentException
+     *             if the segment is read-only
+     */
+    public static void writeDouble(double value, MemorySegment segment, long offset, boolean bigEndian) {
+        segment.set(bigEndian ? DOUBLE_BIG_ENDIAN : DOUBLE_LITTLE_ENDIAN, offset, value);
+    }
+
+    private static void writeBytes(long value, MemorySegment segment, long offset,
+            boolean bigEndian, int numBytes) {
+        for (int i = 0; i < numBytes; i++) {
+            long index = bigEndian ? offset + numBytes - 1 - i : offset + i;
+            segment.set(ValueLayout.JAVA_BYTE, index, (byte) (value >> (i * 8)));
+        }
+    }
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 }
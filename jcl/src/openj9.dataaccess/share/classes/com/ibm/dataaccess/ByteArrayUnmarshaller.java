@@ -22,6 +22,13 @@
  *******************************************************************************/
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * Conversion routines to unmarshall Java binary types (short, int, long, float,
  * double) from byte arrays.
@@ -37,6 +44,12 @@ package com.ibm.dataaccess;
  * contain <code>0x00FF</code>, which is <code>255</code>.
  * </p>
  * 
+ * <p>
+ * The same conversions are provided for ByteBuffers, using absolute offsets
+ * without changing the position, limit or byte order of the buffer, and on
+ * Java 22 and later for MemorySegments.
+ * </p>
+ * 
  * @author IBM
  * @version $Revision$ on $Date$ 
  */
@@ -647,4 +660,560 @@ public final class ByteArrayUnmarshaller {
             boolean bigEndian) {
         return Double.longBitsToDouble(readLong(byteArray, offset, bigEndian));
     }
+
+    /**
+     * Returns a short value copied from 2 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return short
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static short readShort(ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("readShort", byteBuffer, offset, 2, 2, 1);
+
+        short value = byteBuffer.getShort(offset);
+        return hasOrder(byteBuffer, bigEndian) ? value : Short.reverseBytes(value);
+    }
+
+    /**
+     * Returns a short value copied from zero to 2 consecutive bytes of the
+     * ByteBuffer starting at the absolute offset. The position, limit and byte
+     * order of the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to unmarshall, must be 0-2 inclusive
+     * @param signExtend
+     *            if true and <code>numBytes &lt; 2</code> then the topmost
+     *            bytes of the returned short will be sign extended
+     * 
+     * @return short
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 2</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static short readShort(ByteBuffer byteBuffer, int offset, boolean bigEndian,
+            int numBytes, boolean signExtend) {
+        if (numBytes < 0 || numBytes > 2)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("readShort", byteBuffer, offset, numBytes, numBytes, 1);
+
+        if (byteBuffer.hasArray())
+            return readShort_(byteBuffer.array(), byteBuffer.arrayOffset() + offset, bigEndian, numBytes, signExtend);
+        return (short) readBytes(byteBuffer, offset, bigEndian, numBytes, signExtend);
+    }
+
+    /**
+     * Returns an int value copied from 4 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return int
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static int readInt(ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("readInt", byteBuffer, offset, 4, 4, 1);
+
+        int value = byteBuffer.getInt(offset);
+        return hasOrder(byteBuffer, bigEndian) ? value : Integer.reverseBytes(value);
+    }
+
+    /**
+     * Returns an int value copied from zero to 4 consecutive bytes of the
+     * ByteBuffer starting at the absolute offset. The position, limit and byte
+     * order of the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to unmarshall, must be 0-4 inclusive
+     * @param signExtend
+     *            if true and <code>numBytes &lt; 4</code> then the topmost
+     *            bytes of the returned int will be sign extended
+     * 
+     * @return int
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 4</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static int readInt(ByteBuffer byteBuffer, int offset, boolean bigEndian,
+            int numBytes, boolean signExtend) {
+        if (numBytes < 0 || numBytes > 4)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("readInt", byteBuffer, offset, numBytes, numBytes, 1);
+
+        if (byteBuffer.hasArray())
+            return readInt_(byteBuffer.array(), byteBuffer.arrayOffset() + offset, bigEndian, numBytes, signExtend);
+        return (int) readBytes(byteBuffer, offset, bigEndian, numBytes, signExtend);
+    }
+
+    /**
+     * Returns a long value copied from 8 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return long
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static long readLong(ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("readLong", byteBuffer, offset, 8, 8, 1);
+
+        long value = byteBuffer.getLong(offset);
+        return hasOrder(byteBuffer, bigEndian) ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * Returns a long value copied from zero to 8 consecutive bytes of the
+     * ByteBuffer starting at the absolute offset. The position, limit and byte
+     * order of the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to unmarshall, must be 0-8 inclusive
+     * @param signExtend
+     *            if true and <code>numBytes &lt; 8</code> then the topmost
+     *            bytes of the returned long will be sign extended
+     * 
+     * @return long
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 8</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static long readLong(ByteBuffer byteBuffer, int offset, boolean bigEndian,
+            int numBytes, boolean signExtend) {
+        if (numBytes < 0 || numBytes > 8)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("readLong", byteBuffer, offset, numBytes, numBytes, 1);
+
+        if (byteBuffer.hasArray())
+            return readLong_(byteBuffer.array(), byteBuffer.arrayOffset() + offset, bigEndian, numBytes, signExtend);
+        return readBytes(byteBuffer, offset, bigEndian, numBytes, signExtend);
+    }
+
+    /**
+     * Returns a float value copied from 4 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return float
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static float readFloat(ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("readFloat", byteBuffer, offset, 4, 4, 1);
+
+        int bits = byteBuffer.getInt(offset);
+        return Float.intBitsToFloat(hasOrder(byteBuffer, bigEndian) ? bits : Integer.reverseBytes(bits));
+    }
+
+    /**
+     * Returns a double value copied from 8 consecutive bytes of the ByteBuffer
+     * starting at the absolute offset. The position, limit and byte order of
+     * the buffer are not used or changed.
+     * 
+     * @param byteBuffer
+     *            source
+     * @param offset
+     *            absolute offset in the buffer
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return double
+     * 
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not between 0 and the limit of the buffer
+     */
+    public static double readDouble(ByteBuffer byteBuffer, int offset, boolean bigEndian) {
+        CommonData.checkFieldBounds("readDouble", byteBuffer, offset, 8, 8, 1);
+
+        long bits = byteBuffer.getLong(offset);
+        return Double.longBitsToDouble(hasOrder(byteBuffer, bigEndian) ? bits : Long.reverseBytes(bits));
+    }
+
+    /**
+     * Whether the multi-byte accessors of the buffer already use the requested
+     * byte order, otherwise the bytes of the value must be reversed.
+     */
+    private static boolean hasOrder(ByteBuffer byteBuffer, boolean bigEndian) {
+        return (byteBuffer.order() == ByteOrder.BIG_ENDIAN) == bigEndian;
+    }
+
+    private static long readBytes(ByteBuffer byteBuffer, int offset,
+            boolean bigEndian, int numBytes, boolean signExtend) {
+        long answer = 0;
+        for (int i = 0; i < numBytes; i++) {
+            int index = bigEndian ? offset + i : offset + numBytes - 1 - i;
+            answer = (answer << 8) | (byteBuffer.get(index) & 0xFF);
+        }
+        return extend(answer, numBytes, signExtend);
+    }
+
+    private static long extend(long answer, int numBytes, boolean signExtend) {
+        if (signExtend && (numBytes > 0) && (numBytes < 8)) {
+            int shift = 64 - (numBytes * 8);
+            answer = (answer << shift) >> shift;
+        }
+        return answer;
+    }
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+    private static final ValueLayout.OfShort SHORT_BIG_ENDIAN = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfShort SHORT_LITTLE_ENDIAN = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt INT_BIG_ENDIAN = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfInt INT_LITTLE_ENDIAN = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG_BIG_ENDIAN = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong LONG_LITTLE_ENDIAN = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT_BIG_ENDIAN = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfFloat FLOAT_LITTLE_ENDIAN = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE_BIG_ENDIAN = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfDouble DOUBLE_LITTLE_ENDIAN = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Returns a short value copied from 2 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return short
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static short readShort(MemorySegment segment, long offset, boolean bigEndian) {
+        return segment.get(bigEndian ? SHORT_BIG_ENDIAN : SHORT_LITTLE_ENDIAN, offset);
+    }
+
+    /**
+     * Returns a short value copied from zero to 2 consecutive bytes of the
+     * MemorySegment starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to unmarshall, must be 0-2 inclusive
+     * @param signExtend
+     *            if true and <code>numBytes &lt; 2</code> then the topmost
+     *            bytes of the returned short will be sign extended
+     * 
+     * @return short
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 2</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static short readShort(MemorySegment segment, long offset, boolean bigEndian,
+            int numBytes, boolean signExtend) {
+        if (numBytes < 0 || numBytes > 2)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("readShort", segment.byteSize(), offset, numBytes, numBytes, 1);
+
+        return (short) readBytes(segment, offset, bigEndian, numBytes, signExtend);
+    }
+
+    /**
+     * Returns an int value copied from 4 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return int
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static int readInt(MemorySegment segment, long offset, boolean bigEndian) {
+        return segment.get(bigEndian ? INT_BIG_ENDIAN : INT_LITTLE_ENDIAN, offset);
+    }
+
+    /**
+     * Returns an int value copied from zero to 4 consecutive bytes of the
+     * MemorySegment starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to unmarshall, must be 0-4 inclusive
+     * @param signExtend
+     *            if true and <code>numBytes &lt; 4</code> then the topmost
+     *            bytes of the returned int will be sign extended
+     * 
+     * @return int
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 4</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static int readInt(MemorySegment segment, long offset, boolean bigEndian,
+            int numBytes, boolean signExtend) {
+        if (numBytes < 0 || numBytes > 4)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("readInt", segment.byteSize(), offset, numBytes, numBytes, 1);
+
+        return (int) readBytes(segment, offset, bigEndian, numBytes, signExtend);
+    }
+
+    /**
+     * Returns a long value copied from 8 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return long
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static long readLong(MemorySegment segment, long offset, boolean bigEndian) {
+        return segment.get(bigEndian ? LONG_BIG_ENDIAN : LONG_LITTLE_ENDIAN, offset);
+    }
+
+    /**
+     * Returns a long value copied from zero to 8 consecutive bytes of the
+     * MemorySegment starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * @param numBytes
+     *            the number of bytes to unmarshall, must be 0-8 inclusive
+     * @param signExtend
+     *            if true and <code>numBytes &lt; 8</code> then the topmost
+     *            bytes of the returned long will be sign extended
+     * 
+     * @return long
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IllegalArgumentException
+     *             if <code>numBytes &lt; 0</code> or
+     *             <code>numBytes &gt; 8</code>
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static long readLong(MemorySegment segment, long offset, boolean bigEndian,
+            int numBytes, boolean signExtend) {
+        if (numBytes < 0 || numBytes > 8)
+            throw new IllegalArgumentException("numBytes == " + numBytes);
+        CommonData.checkFieldBounds("readLong", segment.byteSize(), offset, numBytes, numBytes, 1);
+
+        return readBytes(segment, offset, bigEndian, numBytes, signExtend);
+    }
+
+    /**
+     * Returns a float value copied from 4 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return float
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static float readFloat(MemorySegment segment, long offset, boolean bigEndian) {
+        return segment.get(bigEndian ? FLOAT_BIG_ENDIAN : FLOAT_LITTLE_ENDIAN, offset);
+    }
+
+    /**
+     * Returns a double value copied from 8 consecutive bytes of the MemorySegment
+     * starting at the offset.
+     * 
+     * @param segment
+     *            source
+     * @param offset
+     *            offset in the segment
+     * @param bigEndian
+     *            if false the bytes will be copied in reverse (little endian)
+     *            order
+     * 
+     * @return double
+     * 
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the bytes are not inside the segment
+     * @throws IllegalStateException
+     *             if the scope of the segment is not alive
+     * @throws WrongThreadException
+     *             if the segment is confined to another thread
+     */
+    public static double readDouble(MemorySegment segment, long offset, boolean bigEndian) {
+        return segment.get(bigEndian ? DOUBLE_BIG_ENDIAN : DOUBLE_LITTLE_ENDIAN, offset);
+    }
+
+    private static long readBytes(MemorySegment segment, long offset,
+            boolean bigEndian, int numBytes, boolean signExtend) {
+        long answer = 0;
+        for (int i = 0; i < numBytes; i++) {
+            long index = bigEndian ? offset + i : offset + numBytes - 1 - i;
+            answer = (answer << 8) | (segment.get(ValueLayout.JAVA_BYTE, index) & 0xFF);
+        }
+        return extend(answer, numBytes, signExtend);
+    }
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 }
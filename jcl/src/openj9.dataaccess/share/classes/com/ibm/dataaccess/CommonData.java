@@ -23,8 +23,11 @@
 
 package com.ibm.dataaccess;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
+import sun.nio.ch.DirectBuffer;
+
 /**
  * Common data to assist conversions between binary, packed decimal & zoned
  * decimal representations and arithmetic operations on packed decimals.
@@ -184,7 +187,116 @@ class CommonData {
     public static int getPackedByteCount(int precision) {
         return ((precision / 2) + 1);
     }
+
+    /**
+     * Checks the bounds of <code>count</code> fixed-length fields, <code>stride</code> bytes apart, once for
+     * an array-at-a-time operation, so that each field can then be converted without checking its bounds.
+     * 
+     * @throws ArrayIndexOutOfBoundsException
+     *             if any of the fields is outside of the array
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or the fields would overlap
+     */
+    public static void checkFieldBounds(String method, String arrayName, int arrayLength, int offset,
+            int stride, int fieldLength, int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Negative count.");
+        if (stride < fieldLength)
+            throw new IllegalArgumentException("The stride " + stride + " is less than the field length " + fieldLength + ".");
+
+        long end = offset + (long) stride * (count - 1) + fieldLength;
+        if ((offset < 0) || ((count > 0) && (end > arrayLength)))
+            throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+                    method + " is trying to access " + arrayName + "[" + offset + "] to " + arrayName + "[" + (end - 1) + "], " +
+                    " but valid indices are from 0 to " + (arrayLength - 1) + ".");
+    }
+
+    /**
+     * Checks the bounds of the <code>count</code> elements of an array of binary values that are the source or
+     * the result of an array-at-a-time operation.
+     * 
+     * @throws ArrayIndexOutOfBoundsException
+     *             if any of the elements is outside of the array
+     */
+    public static void checkValueBounds(String method, String arrayName, int arrayLength, int offset, int count) {
+        if ((offset < 0) || (offset + (long) count > arrayLength))
+            throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+                    method + " is trying to access " + arrayName + "[" + offset + "] to " + arrayName + "[" + (offset + (long) count - 1) + "], " +
+                    " but valid indices are from 0 to " + (arrayLength - 1) + ".");
+    }
     
+    /**
+     * Checks the bounds of <code>count</code> fixed-length fields, <code>stride</code> bytes apart, in a ByteBuffer.
+     * Offsets into a ByteBuffer are absolute, so the fields must lie between 0 and the limit of the buffer.
+     * 
+     * @throws IndexOutOfBoundsException
+     *             if any of the fields is outside of the buffer
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or the fields would overlap
+     */
+    public static void checkFieldBounds(String method, ByteBuffer buffer, int offset, int stride, int fieldLength,
+            int count) {
+        checkFieldBounds(method, "buffer", buffer.limit(), offset, stride, fieldLength, count);
+    }
+
+    /**
+     * Returns the native address of a direct ByteBuffer, or 0 for a buffer on the Java heap. The packed decimal
+     * ByteBuffer conversions recognized by the JIT access the memory at this address directly, and fall back to the
+     * Java implementation when it is 0.
+     */
+    static long getAddress(ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            return ((DirectBuffer) buffer).address();
+        }
+        return 0;
+    }
+
+    /**
+     * Copies <code>length</code> bytes starting at the absolute <code>offset</code> in the buffer to the start of
+     * <code>bytes</code>, without changing the position of the buffer.
+     */
+    static void getBytes(ByteBuffer buffer, int offset, byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+    }
+
+    /**
+     * Copies the first <code>length</code> bytes of <code>bytes</code> to the absolute <code>offset</code> in the
+     * buffer, without changing the position of the buffer.
+     */
+    static void putBytes(ByteBuffer buffer, int offset, byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            buffer.put(offset + i, bytes[i]);
+        }
+    }
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+    /**
+     * Checks the bounds of <code>count</code> fixed-length fields, <code>stride</code> bytes apart, in a
+     * MemorySegment of <code>segmentSize</code> bytes.
+     * 
+     * @throws IndexOutOfBoundsException
+     *             if any of the fields is outside of the segment
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or the fields would overlap
+     */
+    public static void checkFieldBounds(String method, long segmentSize, long offset, long stride, int fieldLength,
+            int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Negative count.");
+        if (stride < fieldLength)
+            throw new IllegalArgumentException("The stride " + stride + " is less than the field length " + fieldLength + ".");
+
+        if ((offset < 0) || ((count > 0)
+                && (((stride != 0) && ((count - 1) > (Long.MAX_VALUE - fieldLength) / stride))
+                        || (offset > segmentSize - fieldLength - stride * (count - 1)))))
+            throw new IndexOutOfBoundsException("Segment access offset out of bounds. " +
+                    method + " is trying to access " + count + " field(s) of " + fieldLength + " byte(s), " + stride +
+                    " bytes apart, from offset " + offset + " but the segment size is " + segmentSize + ".");
+    }
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+
     /**
      * Outputs the sum of the input and one taking into consideration the sign
      * of the input
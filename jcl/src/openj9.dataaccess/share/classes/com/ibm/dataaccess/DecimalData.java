@@ -22,8 +22,14 @@
  *******************************************************************************/
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Arrays;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
@@ -35,6 +41,12 @@ import com.ibm.dataaccess.PackedDecimal;
  * Routines to convert between decimal data types stored in byte arrays and Java binary types.
  * 
  * <p>
+ * The Packed and External Decimal conversions can also be applied to data in a ByteBuffer, or in a MemorySegment on
+ * Java 22 and later, so that records in a file mapped into memory can be converted without first copying them into a
+ * byte array. Offsets into a ByteBuffer are absolute, and the position and limit of the buffer are not changed.
+ * </p>
+ * 
+ * <p>
  * All the converter routines require the precision of the decimal value to convert, which represents the number of
  * decimal digits in the decimal value, not including the sign.
  * </p>
@@ -2506,6 +2518,2295 @@ public final class DecimalData
                 offset, precision, decimalType);
     }
 
+    /**
+     * Converts <code>count</code> Packed Decimal fields in a byte array into binary longs. The fields all have the same
+     * precision and start <code>stride</code> bytes apart, as in an array of fixed-length records. Each field is
+     * converted as by {@link #convertPackedDecimalToLong(byte[], int, int, boolean)}, but the bounds of the arrays are
+     * checked once for all the fields rather than once per field.
+     * 
+     * @param packedDecimal
+     *            byte array which contains the Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param longValues
+     *            long array which will hold the resulting binary long values
+     * @param longOffset
+     *            index in <code>longValues</code> of the first result
+     * @param count
+     *            number of Packed Decimals to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> or <code>longValues</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow). The values
+     *             before the one that overflows have already been stored in <code>longValues</code>
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or <code>stride</code> is too small
+     */
+    public static void convertPackedDecimalsToLongs(byte[] packedDecimal, int offset, int stride,
+            int precision, boolean checkOverflow, long[] longValues, int longOffset, int count) {
+        CommonData.checkFieldBounds("convertPackedDecimalsToLongs", "packedDecimal", packedDecimal.length,
+                offset, stride, CommonData.getPackedByteCount(precision), count);
+        CommonData.checkValueBounds("convertPackedDecimalsToLongs", "longValues", longValues.length, longOffset, count);
+
+        for (int i = 0; i < count; i++) {
+            longValues[longOffset + i] = convertPackedDecimalToLong_(packedDecimal, offset + i * stride, precision, checkOverflow);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary longs into Packed Decimal fields in a byte array. The fields all have the same
+     * precision and start <code>stride</code> bytes apart, as in an array of fixed-length records; the bytes between
+     * the fields are not modified. Each value is converted as by
+     * {@link #convertLongToPackedDecimal(long, byte[], int, int, boolean)}, but the bounds of the arrays are checked
+     * once for all the values rather than once per value.
+     * 
+     * @param longValues
+     *            long array which holds the binary long values to convert
+     * @param longOffset
+     *            index in <code>longValues</code> of the first value
+     * @param packedDecimal
+     *            byte array that will store the resulting Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow), otherwise a truncated value is stored
+     * @param count
+     *            number of values to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>longValues</code> or <code>packedDecimal</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws ArithmeticException
+     *             the <code>checkOverflow</code> parameter is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or <code>stride</code> is too small
+     */
+    public static void convertLongsToPackedDecimals(long[] longValues, int longOffset, byte[] packedDecimal,
+            int offset, int stride, int precision, boolean checkOverflow, int count) {
+        CommonData.checkValueBounds("convertLongsToPackedDecimals", "longValues", longValues.length, longOffset, count);
+        CommonData.checkFieldBounds("convertLongsToPackedDecimals", "packedDecimal", packedDecimal.length,
+                offset, stride, CommonData.getPackedByteCount(precision), count);
+
+        for (int i = 0; i < count; i++) {
+            convertLongToPackedDecimal_(longValues[longOffset + i], packedDecimal, offset + i * stride, precision, checkOverflow);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> External Decimal fields in a byte array into binary longs. The fields all have the
+     * same precision and type and start <code>stride</code> bytes apart, as in an array of fixed-length records. Each
+     * field is converted as by {@link #convertExternalDecimalToLong(byte[], int, int, boolean, int)}, but the bounds of
+     * the arrays and the arguments are checked once for all the fields rather than once per field.
+     * 
+     * @param externalDecimal
+     *            byte array which contains the External Decimal values
+     * @param offset
+     *            offset of the first byte of the first External Decimal in <code>externalDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            number of External Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown when a converted value cannot fit into a
+     *            long. If false and there is an overflow, the result is undefined.
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * @param longValues
+     *            long array which will hold the resulting binary long values
+     * @param longOffset
+     *            index in <code>longValues</code> of the first result
+     * @param count
+     *            number of External Decimals to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> or <code>longValues</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow). The values
+     *             before the one that overflows have already been stored in <code>longValues</code>
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code>, <code>count</code> or <code>stride</code> is
+     *             invalid
+     */
+    public static void convertExternalDecimalsToLongs(byte[] externalDecimal, int offset, int stride,
+            int precision, boolean checkOverflow, int decimalType, long[] longValues, int longOffset, int count) {
+        CommonData.checkFieldBounds("convertExternalDecimalsToLongs", "externalDecimal", externalDecimal.length,
+                offset, stride, CommonData.getExternalByteCounts(precision, decimalType), count);
+        CommonData.checkValueBounds("convertExternalDecimalsToLongs", "longValues", longValues.length, longOffset, count);
+
+        if (precision <= 0)
+            throw new IllegalArgumentException("Precision can't be negative.");
+
+        if (JITIntrinsicsEnabled()) {
+            // One intermediate Packed Decimal for all the fields
+            byte[] packedDecimal = new byte[precision / 2 + 1];
+            for (int i = 0; i < count; i++) {
+                convertExternalDecimalToPackedDecimal_(externalDecimal, offset + i * stride, packedDecimal, 0, precision, decimalType);
+                longValues[longOffset + i] = convertPackedDecimalToLong_(packedDecimal, 0, precision, checkOverflow);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                longValues[longOffset + i] = convertExternalDecimalToLong_(externalDecimal, offset + i * stride, precision, checkOverflow, decimalType);
+            }
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary longs into External Decimal fields in a byte array. The fields all have the
+     * same precision and type and start <code>stride</code> bytes apart, as in an array of fixed-length records; the
+     * bytes between the fields are not modified. Each value is converted as by
+     * {@link #convertLongToExternalDecimal(long, byte[], int, int, boolean, int)}, but the bounds of the arrays are
+     * checked once for all the values rather than once per value.
+     * 
+     * @param longValues
+     *            long array which holds the binary long values to convert
+     * @param longOffset
+     *            index in <code>longValues</code> of the first value
+     * @param externalDecimal
+     *            byte array which will hold the External Decimals on a successful return
+     * @param offset
+     *            offset of the first byte of the first External Decimal in <code>externalDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            the number of decimal digits to convert. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * @param count
+     *            number of values to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>longValues</code> or <code>externalDecimal</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws ArithmeticException
+     *             if the <code>checkOverflow</code> parameter is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code>, <code>count</code> or <code>stride</code> is
+     *             invalid
+     */
+    public static void convertLongsToExternalDecimals(long[] longValues, int longOffset, byte[] externalDecimal,
+            int offset, int stride, int precision, boolean checkOverflow, int decimalType, int count) {
+        CommonData.checkValueBounds("convertLongsToExternalDecimals", "longValues", longValues.length, longOffset, count);
+        CommonData.checkFieldBounds("convertLongsToExternalDecimals", "externalDecimal", externalDecimal.length,
+                offset, stride, CommonData.getExternalByteCounts(precision, decimalType), count);
+
+        if (JITIntrinsicsEnabled()) {
+            // One intermediate Packed Decimal for all the values
+            byte[] packedDecimal = new byte[precision / 2 + 1];
+            for (int i = 0; i < count; i++) {
+                convertLongToPackedDecimal_(longValues[longOffset + i], packedDecimal, 0, precision, checkOverflow);
+                convertPackedDecimalToExternalDecimal_(packedDecimal, 0, externalDecimal, offset + i * stride, precision, decimalType);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                convertLongToExternalDecimal_(longValues[longOffset + i], externalDecimal, offset + i * stride, precision, checkOverflow, decimalType);
+            }
+        }
+    }
+
+    /**
+     * Converts <code>count</code> Packed Decimal fields in a byte array into BigDecimals. The fields all have the same
+     * precision and start <code>stride</code> bytes apart, as in an array of fixed-length records. Each field is
+     * converted as by {@link #convertPackedDecimalToBigDecimal(byte[], int, int, int, boolean)}, but the bounds of the
+     * arrays are checked once for all the fields rather than once per field.
+     * 
+     * @param packedDecimal
+     *            byte array that holds the Packed Decimals to be converted
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the BigDecimals to be returned
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param bigDecimalValues
+     *            array which will hold the resulting BigDecimals
+     * @param bigDecimalOffset
+     *            index in <code>bigDecimalValues</code> of the first result
+     * @param count
+     *            number of Packed Decimals to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> or <code>bigDecimalValues</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or <code>stride</code> is too small
+     */
+    public static void convertPackedDecimalsToBigDecimals(byte[] packedDecimal, int offset, int stride,
+            int precision, int scale, boolean checkOverflow, BigDecimal[] bigDecimalValues, int bigDecimalOffset, int count) {
+        CommonData.checkFieldBounds("convertPackedDecimalsToBigDecimals", "packedDecimal", packedDecimal.length,
+                offset, stride, CommonData.getPackedByteCount(precision), count);
+        CommonData.checkValueBounds("convertPackedDecimalsToBigDecimals", "bigDecimalValues", bigDecimalValues.length,
+                bigDecimalOffset, count);
+
+        if (precision <= 18) {
+            for (int i = 0; i < count; i++) {
+                bigDecimalValues[bigDecimalOffset + i] = BigDecimal.valueOf(
+                        convertPackedDecimalToLong_(packedDecimal, offset + i * stride, precision, checkOverflow), scale);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                bigDecimalValues[bigDecimalOffset + i] = slowSignedPackedToBigDecimal(packedDecimal, offset + i * stride,
+                        precision, scale, checkOverflow);
+            }
+        }
+    }
+
+    /**
+     * Converts <code>count</code> BigDecimals into Packed Decimal fields in a byte array. The fields all have the same
+     * precision and start <code>stride</code> bytes apart, as in an array of fixed-length records; the bytes between
+     * the fields are not modified. Each value is converted as by
+     * {@link #convertBigDecimalToPackedDecimal(BigDecimal, byte[], int, int, boolean)}.
+     * 
+     * @param bigDecimalValues
+     *            array which holds the BigDecimals to be converted
+     * @param bigDecimalOffset
+     *            index in <code>bigDecimalValues</code> of the first value
+     * @param packedDecimal
+     *            byte array which will hold the Packed Decimals on a successful return
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param count
+     *            number of values to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>bigDecimalValues</code>, one of the values to convert or <code>packedDecimal</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result overflows
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or <code>stride</code> is too small
+     */
+    public static void convertBigDecimalsToPackedDecimals(BigDecimal[] bigDecimalValues, int bigDecimalOffset,
+            byte[] packedDecimal, int offset, int stride, int precision, boolean checkOverflow, int count) {
+        CommonData.checkValueBounds("convertBigDecimalsToPackedDecimals", "bigDecimalValues", bigDecimalValues.length,
+                bigDecimalOffset, count);
+        CommonData.checkFieldBounds("convertBigDecimalsToPackedDecimals", "packedDecimal", packedDecimal.length,
+                offset, stride, CommonData.getPackedByteCount(precision), count);
+
+        for (int i = 0; i < count; i++) {
+            BigDecimal bigDecimalValue = bigDecimalValues[bigDecimalOffset + i];
+            int fieldOffset = offset + i * stride;
+            if (bigDecimalValue.precision() <= 18) {
+                convertLongToPackedDecimal_(bigDecimalValue.unscaledValue().longValue(), packedDecimal, fieldOffset,
+                        precision, checkOverflow);
+            } else {
+                slowBigDecimalToSignedPacked(bigDecimalValue, packedDecimal, fieldOffset, precision, checkOverflow);
+            }
+        }
+    }
+
+    /**
+     * Converts <code>count</code> External Decimal fields in a byte array into BigDecimals. The fields all have the
+     * same precision and type and start <code>stride</code> bytes apart, as in an array of fixed-length records. Each
+     * field is converted as by {@link #convertExternalDecimalToBigDecimal(byte[], int, int, int, boolean, int)}.
+     * 
+     * @param externalDecimal
+     *            byte array holding the External Decimals to be converted
+     * @param offset
+     *            offset of the first byte of the first External Decimal in <code>externalDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the BigDecimals
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value that indicates the type of External Decimal
+     * @param bigDecimalValues
+     *            array which will hold the resulting BigDecimals
+     * @param bigDecimalOffset
+     *            index in <code>bigDecimalValues</code> of the first result
+     * @param count
+     *            number of External Decimals to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> or <code>bigDecimalValues</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result overflows
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code>, <code>count</code> or <code>stride</code> is invalid, or if
+     *             <code>checkOverflow</code> is true and an External Decimal is in an invalid format
+     */
+    public static void convertExternalDecimalsToBigDecimals(byte[] externalDecimal, int offset, int stride,
+            int precision, int scale, boolean checkOverflow, int decimalType, BigDecimal[] bigDecimalValues,
+            int bigDecimalOffset, int count) {
+        CommonData.checkFieldBounds("convertExternalDecimalsToBigDecimals", "externalDecimal", externalDecimal.length,
+                offset, stride, CommonData.getExternalByteCounts(precision, decimalType), count);
+        CommonData.checkValueBounds("convertExternalDecimalsToBigDecimals", "bigDecimalValues", bigDecimalValues.length,
+                bigDecimalOffset, count);
+
+        for (int i = 0; i < count; i++) {
+            bigDecimalValues[bigDecimalOffset + i] = convertExternalDecimalToBigDecimal(externalDecimal, offset + i * stride,
+                    precision, scale, checkOverflow, decimalType);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> BigDecimals into External Decimal fields in a byte array. The fields all have the
+     * same precision and type and start <code>stride</code> bytes apart, as in an array of fixed-length records; the
+     * bytes between the fields are not modified. Each value is converted as by
+     * {@link #convertBigDecimalToExternalDecimal(BigDecimal, byte[], int, int, boolean, int)}.
+     * 
+     * @param bigDecimalValues
+     *            array which holds the BigDecimals to be converted
+     * @param bigDecimalOffset
+     *            index in <code>bigDecimalValues</code> of the first value
+     * @param externalDecimal
+     *            byte array that will hold the External Decimals on a successful return
+     * @param offset
+     *            offset of the first byte of the first External Decimal in <code>externalDecimal</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     * @param count
+     *            number of values to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>bigDecimalValues</code>, one of the values to convert or <code>externalDecimal</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result overflows
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code>, <code>count</code> or <code>stride</code> is
+     *             invalid
+     */
+    public static void convertBigDecimalsToExternalDecimals(BigDecimal[] bigDecimalValues, int bigDecimalOffset,
+            byte[] externalDecimal, int offset, int stride, int precision, boolean checkOverflow, int decimalType,
+            int count) {
+        CommonData.checkValueBounds("convertBigDecimalsToExternalDecimals", "bigDecimalValues", bigDecimalValues.length,
+                bigDecimalOffset, count);
+        CommonData.checkFieldBounds("convertBigDecimalsToExternalDecimals", "externalDecimal", externalDecimal.length,
+                offset, stride, CommonData.getExternalByteCounts(precision, decimalType), count);
+
+        for (int i = 0; i < count; i++) {
+            convertBigDecimalToExternalDecimal(bigDecimalValues[bigDecimalOffset + i], externalDecimal, offset + i * stride,
+                    precision, checkOverflow, decimalType);
+        }
+    }
+
+    /**
+     * Converts a Packed Decimal in a ByteBuffer into a binary integer, as by
+     * {@link #convertPackedDecimalToInteger(byte[], int, int, boolean)}. The offset is absolute, and the position and
+     * limit of the buffer are not changed. Packed Decimals in a direct ByteBuffer, such as a file mapped into memory,
+     * are converted in place without being copied onto the Java heap.
+     *
+     * @param byteBuffer
+     *            ByteBuffer which contains the Packed Decimal value
+     * @param offset
+     *            absolute offset of the first byte of the Packed Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @return int the resulting binary integer
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into an int (overflow)
+     */
+    public static int convertPackedDecimalToInteger(ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertPackedDecimalToInteger", byteBuffer, offset, length, length, 1);
+
+        return convertPackedDecimalToInteger_(byteBuffer, offset, precision, checkOverflow,
+                CommonData.getAddress(byteBuffer), byteBuffer.capacity(), 0);
+    }
+
+    // The JIT accesses the memory at address + position + offset directly when address is not 0
+    private static int convertPackedDecimalToInteger_(ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow, long address, int capacity, int position) {
+        if (byteBuffer.hasArray()) {
+            return convertPackedDecimalToInteger_(byteBuffer.array(), byteBuffer.arrayOffset() + position + offset,
+                    precision, checkOverflow);
+        }
+        long value = getPackedDecimal(byteBuffer, position + offset, precision, checkOverflow, true);
+        if (checkOverflow && (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE))
+            throw new ArithmeticException("Decimal overflow - Packed Decimal too large for an int");
+        return (int) value;
+    }
+
+    /**
+     * Converts a binary integer value into a Packed Decimal in a ByteBuffer, as by
+     * {@link #convertIntegerToPackedDecimal(int, byte[], int, int, boolean)}. The offset is absolute, and the position
+     * and limit of the buffer are not changed.
+     *
+     * @param integerValue
+     *            the binary integer value to convert
+     * @param byteBuffer
+     *            ByteBuffer that will store the resulting Packed Decimal value
+     * @param offset
+     *            absolute offset of the first byte of the Packed Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow), otherwise a truncated value is stored
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             the <code>checkOverflow</code> parameter is true and overflow occurs
+     */
+    public static void convertIntegerToPackedDecimal(int integerValue, ByteBuffer byteBuffer, int offset,
+            int precision, boolean checkOverflow) {
+        if (byteBuffer.isReadOnly())
+            throw new ReadOnlyBufferException();
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertIntegerToPackedDecimal", byteBuffer, offset, length, length, 1);
+
+        convertIntegerToPackedDecimal_(integerValue, byteBuffer, offset, precision, checkOverflow,
+                CommonData.getAddress(byteBuffer), byteBuffer.capacity(), 0);
+    }
+
+    private static void convertIntegerToPackedDecimal_(int integerValue, ByteBuffer byteBuffer, int offset,
+            int precision, boolean checkOverflow, long address, int capacity, int position) {
+        if (byteBuffer.hasArray()) {
+            convertIntegerToPackedDecimal_(integerValue, byteBuffer.array(), byteBuffer.arrayOffset() + position + offset,
+                    precision, checkOverflow);
+            return;
+        }
+        putPackedDecimal(integerValue, byteBuffer, position + offset, precision, checkOverflow);
+    }
+
+    /**
+     * Converts a Packed Decimal in a ByteBuffer into a binary long, as by
+     * {@link #convertPackedDecimalToLong(byte[], int, int, boolean)}. The offset is absolute, and the position and
+     * limit of the buffer are not changed. Packed Decimals in a direct ByteBuffer, such as a file mapped into memory,
+     * are converted in place without being copied onto the Java heap.
+     *
+     * @param byteBuffer
+     *            ByteBuffer which contains the Packed Decimal value
+     * @param offset
+     *            absolute offset of the first byte of the Packed Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @return long the resulting binary long value
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into a long (overflow)
+     */
+    public static long convertPackedDecimalToLong(ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertPackedDecimalToLong", byteBuffer, offset, length, length, 1);
+
+        return convertPackedDecimalToLong_(byteBuffer, offset, precision, checkOverflow,
+                CommonData.getAddress(byteBuffer), byteBuffer.capacity(), 0);
+    }
+
+    private static long convertPackedDecimalToLong_(ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow, long address, int capacity, int position) {
+        if (byteBuffer.hasArray()) {
+            return convertPackedDecimalToLong_(byteBuffer.array(), byteBuffer.arrayOffset() + position + offset,
+                    precision, checkOverflow);
+        }
+        return getPackedDecimal(byteBuffer, position + offset, precision, checkOverflow, false);
+    }
+
+    /**
+     * Converts a binary long value into a Packed Decimal in a ByteBuffer, as by
+     * {@link #convertLongToPackedDecimal(long, byte[], int, int, boolean)}. The offset is absolute, and the position
+     * and limit of the buffer are not changed.
+     *
+     * @param longValue
+     *            the binary long value to convert
+     * @param byteBuffer
+     *            ByteBuffer that will store the resulting Packed Decimal value
+     * @param offset
+     *            absolute offset of the first byte of the Packed Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow), otherwise a truncated value is stored
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             the <code>checkOverflow</code> parameter is true and overflow occurs
+     */
+    public static void convertLongToPackedDecimal(long longValue, ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow) {
+        if (byteBuffer.isReadOnly())
+            throw new ReadOnlyBufferException();
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertLongToPackedDecimal", byteBuffer, offset, length, length, 1);
+
+        convertLongToPackedDecimal_(longValue, byteBuffer, offset, precision, checkOverflow,
+                CommonData.getAddress(byteBuffer), byteBuffer.capacity(), 0);
+    }
+
+    private static void convertLongToPackedDecimal_(long longValue, ByteBuffer byteBuffer, int offset,
+            int precision, boolean checkOverflow, long address, int capacity, int position) {
+        if (byteBuffer.hasArray()) {
+            convertLongToPackedDecimal_(longValue, byteBuffer.array(), byteBuffer.arrayOffset() + position + offset,
+                    precision, checkOverflow);
+            return;
+        }
+        putPackedDecimal(longValue, byteBuffer, position + offset, precision, checkOverflow);
+    }
+
+    /**
+     * Converts an External Decimal in a ByteBuffer into a binary integer, as by
+     * {@link #convertExternalDecimalToInteger(byte[], int, int, boolean, int)}. The offset is absolute, and the
+     * position and limit of the buffer are not changed.
+     *
+     * @param byteBuffer
+     *            ByteBuffer which contains the External Decimal value
+     * @param offset
+     *            absolute offset of the first byte of the External Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown. If
+     *            false and there is an overflow, the result is undefined.
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     *
+     * @return int the resulting binary integer
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into a int (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid
+     */
+    public static int convertExternalDecimalToInteger(ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertExternalDecimalToInteger", byteBuffer, offset, length, length, 1);
+
+        if (byteBuffer.hasArray()) {
+            return convertExternalDecimalToInteger(byteBuffer.array(), byteBuffer.arrayOffset() + offset, precision,
+                    checkOverflow, decimalType);
+        }
+        long value = getExternalDecimal(byteBuffer, offset, precision, checkOverflow, decimalType);
+        if (checkOverflow && (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE))
+            throw new ArithmeticException(value < 0 ? "Decimal overflow - External Decimal too small for an int"
+                    : "Decimal overflow - External Decimal too large for an int");
+        return (int) value;
+    }
+
+    /**
+     * Converts a binary integer value into an External Decimal in a ByteBuffer, as by
+     * {@link #convertIntegerToExternalDecimal(int, byte[], int, int, boolean, int)}. The offset is absolute, and the
+     * position and limit of the buffer are not changed.
+     *
+     * @param integerValue
+     *            the value to convert
+     * @param byteBuffer
+     *            ByteBuffer that will hold the converted value
+     * @param offset
+     *            absolute offset of the first byte of the External Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of External Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into the External Decimal
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid
+     */
+    public static void convertIntegerToExternalDecimal(int integerValue, ByteBuffer byteBuffer, int offset,
+            int precision, boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertIntegerToExternalDecimal", byteBuffer, offset, length, length, 1);
+
+        if (byteBuffer.hasArray()) {
+            convertIntegerToExternalDecimal(integerValue, byteBuffer.array(), byteBuffer.arrayOffset() + offset,
+                    precision, checkOverflow, decimalType);
+            return;
+        }
+        putExternalDecimal(integerValue, byteBuffer, offset, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts an External Decimal in a ByteBuffer into a binary long, as by
+     * {@link #convertExternalDecimalToLong(byte[], int, int, boolean, int)}. The offset is absolute, and the position
+     * and limit of the buffer are not changed.
+     *
+     * @param byteBuffer
+     *            ByteBuffer which contains the External Decimal value
+     * @param offset
+     *            absolute offset of the first byte of the External Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown. If
+     *            false and there is an overflow, the result is undefined.
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     *
+     * @return long the resulting binary long value
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into a long (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid
+     */
+    public static long convertExternalDecimalToLong(ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertExternalDecimalToLong", byteBuffer, offset, length, length, 1);
+
+        if (byteBuffer.hasArray()) {
+            return convertExternalDecimalToLong(byteBuffer.array(), byteBuffer.arrayOffset() + offset, precision,
+                    checkOverflow, decimalType);
+        }
+        return getExternalDecimal(byteBuffer, offset, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts a binary long value into an External Decimal in a ByteBuffer, as by
+     * {@link #convertLongToExternalDecimal(long, byte[], int, int, boolean, int)}. The offset is absolute, and the
+     * position and limit of the buffer are not changed.
+     *
+     * @param longValue
+     *            the value to convert
+     * @param byteBuffer
+     *            ByteBuffer that will hold the converted value
+     * @param offset
+     *            absolute offset of the first byte of the External Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of External Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into the External Decimal
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid
+     */
+    public static void convertLongToExternalDecimal(long longValue, ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertLongToExternalDecimal", byteBuffer, offset, length, length, 1);
+
+        if (byteBuffer.hasArray()) {
+            convertLongToExternalDecimal(longValue, byteBuffer.array(), byteBuffer.arrayOffset() + offset, precision,
+                    checkOverflow, decimalType);
+            return;
+        }
+        putExternalDecimal(longValue, byteBuffer, offset, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts a Packed Decimal in a ByteBuffer to a BigDecimal, as by
+     * {@link #convertPackedDecimalToBigDecimal(byte[], int, int, int, boolean)}. The offset is absolute, and the
+     * position and limit of the buffer are not changed.
+     *
+     * @param byteBuffer
+     *            ByteBuffer that holds the Packed Decimal to be converted
+     * @param offset
+     *            absolute offset of the first byte of the Packed Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the BigDecimal to be returned
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @return BigDecimal the resulting BigDecimal
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     */
+    public static BigDecimal convertPackedDecimalToBigDecimal(ByteBuffer byteBuffer, int offset, int precision,
+            int scale, boolean checkOverflow) {
+        if (precision <= 9) {
+            return BigDecimal.valueOf(convertPackedDecimalToInteger(byteBuffer, offset, precision, checkOverflow),
+                    scale);
+        } else if (precision <= 18) {
+            return BigDecimal.valueOf(convertPackedDecimalToLong(byteBuffer, offset, precision, checkOverflow), scale);
+        }
+
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertPackedDecimalToBigDecimal", byteBuffer, offset, length, length, 1);
+        if (byteBuffer.hasArray()) {
+            return slowSignedPackedToBigDecimal(byteBuffer.array(), byteBuffer.arrayOffset() + offset, precision,
+                    scale, checkOverflow);
+        }
+        byte[] packedDecimal = new byte[length];
+        CommonData.getBytes(byteBuffer, offset, packedDecimal, length);
+        return slowSignedPackedToBigDecimal(packedDecimal, 0, precision, scale, checkOverflow);
+    }
+
+    /**
+     * Converts a BigDecimal into a Packed Decimal in a ByteBuffer, as by
+     * {@link #convertBigDecimalToPackedDecimal(BigDecimal, byte[], int, int, boolean)}. The offset is absolute, and
+     * the position and limit of the buffer are not changed.
+     *
+     * @param bigDecimalValue
+     *            the BigDecimal value to convert
+     * @param byteBuffer
+     *            ByteBuffer that will hold the resulting Packed Decimal
+     * @param offset
+     *            absolute offset of the first byte of the Packed Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> or <code>bigDecimalValue</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result overflows
+     */
+    public static void convertBigDecimalToPackedDecimal(BigDecimal bigDecimalValue, ByteBuffer byteBuffer, int offset,
+            int precision, boolean checkOverflow) {
+        int bdprec = bigDecimalValue.precision();
+        if (bdprec <= 9) {
+            convertIntegerToPackedDecimal((int) bigDecimalValue.unscaledValue().longValue(), byteBuffer, offset,
+                    precision, checkOverflow);
+            return;
+        }
+        if (bdprec <= 18) {
+            convertLongToPackedDecimal(bigDecimalValue.unscaledValue().longValue(), byteBuffer, offset, precision,
+                    checkOverflow);
+            return;
+        }
+
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertBigDecimalToPackedDecimal", byteBuffer, offset, length, length, 1);
+        if (byteBuffer.hasArray()) {
+            slowBigDecimalToSignedPacked(bigDecimalValue, byteBuffer.array(), byteBuffer.arrayOffset() + offset,
+                    precision, checkOverflow);
+            return;
+        }
+        byte[] packedDecimal = new byte[length];
+        slowBigDecimalToSignedPacked(bigDecimalValue, packedDecimal, 0, precision, checkOverflow);
+        CommonData.putBytes(byteBuffer, offset, packedDecimal, length);
+    }
+
+    /**
+     * Converts an External Decimal in a ByteBuffer to a BigDecimal, as by
+     * {@link #convertExternalDecimalToBigDecimal(byte[], int, int, int, boolean, int)}. The offset is absolute, and
+     * the position and limit of the buffer are not changed.
+     *
+     * @param byteBuffer
+     *            ByteBuffer that holds the External Decimal to be converted
+     * @param offset
+     *            absolute offset of the first byte of the External Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the BigDecimal
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value that indicates the type of External Decimal
+     *
+     * @return BigDecimal the resulting BigDecimal
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws IllegalArgumentException
+     *             if <code>checkOverflow</code> is true and the External Decimal is not valid, or
+     *             <code>decimalType</code> is invalid
+     */
+    public static BigDecimal convertExternalDecimalToBigDecimal(ByteBuffer byteBuffer, int offset, int precision,
+            int scale, boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertExternalDecimalToBigDecimal", byteBuffer, offset, length, length, 1);
+
+        if (byteBuffer.hasArray()) {
+            return convertExternalDecimalToBigDecimal(byteBuffer.array(), byteBuffer.arrayOffset() + offset,
+                    precision, scale, checkOverflow, decimalType);
+        }
+        byte[] externalDecimal = new byte[length];
+        CommonData.getBytes(byteBuffer, offset, externalDecimal, length);
+        return convertExternalDecimalToBigDecimal(externalDecimal, 0, precision, scale, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts a BigDecimal into an External Decimal in a ByteBuffer, as by
+     * {@link #convertBigDecimalToExternalDecimal(BigDecimal, byte[], int, int, boolean, int)}. The offset is absolute,
+     * and the position and limit of the buffer are not changed.
+     *
+     * @param bigDecimalValue
+     *            BigDecimal value to be converted
+     * @param byteBuffer
+     *            ByteBuffer that will hold the External Decimal on a successful return
+     * @param offset
+     *            absolute offset of the first byte of the External Decimal in <code>byteBuffer</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> or <code>bigDecimalValue</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not between 0 and the limit of <code>byteBuffer</code>
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result overflows
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid
+     */
+    public static void convertBigDecimalToExternalDecimal(BigDecimal bigDecimalValue, ByteBuffer byteBuffer,
+            int offset, int precision, boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertBigDecimalToExternalDecimal", byteBuffer, offset, length, length, 1);
+
+        if (byteBuffer.hasArray()) {
+            convertBigDecimalToExternalDecimal(bigDecimalValue, byteBuffer.array(), byteBuffer.arrayOffset() + offset,
+                    precision, checkOverflow, decimalType);
+            return;
+        }
+        byte[] externalDecimal = new byte[length];
+        convertBigDecimalToExternalDecimal(bigDecimalValue, externalDecimal, 0, precision, checkOverflow,
+                decimalType);
+        CommonData.putBytes(byteBuffer, offset, externalDecimal, length);
+    }
+
+    /**
+     * Converts <code>count</code> Packed Decimal fields in a ByteBuffer into binary longs, as by
+     * {@link #convertPackedDecimalsToLongs(byte[], int, int, int, boolean, long[], int, int)}. The offset is absolute,
+     * and the position and limit of the buffer are not changed. The bounds are checked once for all the fields, and
+     * the fields of a direct ByteBuffer are converted in place.
+     *
+     * @param byteBuffer
+     *            ByteBuffer which contains the Packed Decimal values
+     * @param offset
+     *            absolute offset of the first byte of the first Packed Decimal in <code>byteBuffer</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param longValues
+     *            long array that will store the resulting binary values
+     * @param longOffset
+     *            index in <code>longValues</code> of the first result
+     * @param count
+     *            number of Packed Decimals to convert
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> or <code>longValues</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if a Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>, or an invalid array
+     *             access occurs
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or <code>stride</code> is too small
+     */
+    public static void convertPackedDecimalsToLongs(ByteBuffer byteBuffer, int offset, int stride, int precision,
+            boolean checkOverflow, long[] longValues, int longOffset, int count) {
+        CommonData.checkFieldBounds("convertPackedDecimalsToLongs", byteBuffer, offset, stride,
+                CommonData.getPackedByteCount(precision), count);
+        CommonData.checkValueBounds("convertPackedDecimalsToLongs", "longValues", longValues.length, longOffset, count);
+
+        if (byteBuffer.hasArray()) {
+            convertPackedDecimalsToLongs(byteBuffer.array(), byteBuffer.arrayOffset() + offset, stride, precision,
+                    checkOverflow, longValues, longOffset, count);
+            return;
+        }
+        long address = CommonData.getAddress(byteBuffer);
+        int capacity = byteBuffer.capacity();
+        for (int i = 0; i < count; i++) {
+            longValues[longOffset + i] = convertPackedDecimalToLong_(byteBuffer, offset + i * stride, precision,
+                    checkOverflow, address, capacity, 0);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary longs into Packed Decimal fields in a ByteBuffer, as by
+     * {@link #convertLongsToPackedDecimals(long[], int, byte[], int, int, int, boolean, int)}. The offset is absolute,
+     * and the position and limit of the buffer are not changed. The bounds are checked once for all the fields.
+     *
+     * @param longValues
+     *            long array which holds the binary long values to convert
+     * @param longOffset
+     *            index in <code>longValues</code> of the first value
+     * @param byteBuffer
+     *            ByteBuffer that will store the resulting Packed Decimal values
+     * @param offset
+     *            absolute offset of the first byte of the first Packed Decimal in <code>byteBuffer</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow), otherwise a truncated value is stored
+     * @param count
+     *            number of values to convert
+     *
+     * @throws NullPointerException
+     *             if <code>longValues</code> or <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if a Packed Decimal is not between 0 and the limit of <code>byteBuffer</code>, or an invalid array
+     *             access occurs
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             the <code>checkOverflow</code> parameter is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or <code>stride</code> is too small
+     */
+    public static void convertLongsToPackedDecimals(long[] longValues, int longOffset, ByteBuffer byteBuffer,
+            int offset, int stride, int precision, boolean checkOverflow, int count) {
+        if (byteBuffer.isReadOnly())
+            throw new ReadOnlyBufferException();
+        CommonData.checkValueBounds("convertLongsToPackedDecimals", "longValues", longValues.length, longOffset, count);
+        CommonData.checkFieldBounds("convertLongsToPackedDecimals", byteBuffer, offset, stride,
+                CommonData.getPackedByteCount(precision), count);
+
+        if (byteBuffer.hasArray()) {
+            convertLongsToPackedDecimals(longValues, longOffset, byteBuffer.array(), byteBuffer.arrayOffset() + offset,
+                    stride, precision, checkOverflow, count);
+            return;
+        }
+        long address = CommonData.getAddress(byteBuffer);
+        int capacity = byteBuffer.capacity();
+        for (int i = 0; i < count; i++) {
+            convertLongToPackedDecimal_(longValues[longOffset + i], byteBuffer, offset + i * stride, precision,
+                    checkOverflow, address, capacity, 0);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> External Decimal fields in a ByteBuffer into binary longs, as by
+     * {@link #convertExternalDecimalsToLongs(byte[], int, int, int, boolean, int, long[], int, int)}. The offset is
+     * absolute, and the position and limit of the buffer are not changed. The bounds are checked once for all the
+     * fields.
+     *
+     * @param byteBuffer
+     *            ByteBuffer which contains the External Decimal values
+     * @param offset
+     *            absolute offset of the first byte of the first External Decimal in <code>byteBuffer</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * @param longValues
+     *            long array that will store the resulting binary values
+     * @param longOffset
+     *            index in <code>longValues</code> of the first result
+     * @param count
+     *            number of External Decimals to convert
+     *
+     * @throws NullPointerException
+     *             if <code>byteBuffer</code> or <code>longValues</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if an External Decimal is not between 0 and the limit of <code>byteBuffer</code>, or an invalid
+     *             array access occurs
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code>, <code>count</code> or <code>stride</code> is
+     *             invalid
+     */
+    public static void convertExternalDecimalsToLongs(ByteBuffer byteBuffer, int offset, int stride, int precision,
+            boolean checkOverflow, int decimalType, long[] longValues, int longOffset, int count) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertExternalDecimalsToLongs", byteBuffer, offset, stride, length, count);
+        CommonData.checkValueBounds("convertExternalDecimalsToLongs", "longValues", longValues.length, longOffset,
+                count);
+
+        if (byteBuffer.hasArray()) {
+            convertExternalDecimalsToLongs(byteBuffer.array(), byteBuffer.arrayOffset() + offset, stride, precision,
+                    checkOverflow, decimalType, longValues, longOffset, count);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            longValues[longOffset + i] = getExternalDecimal(byteBuffer, offset + i * stride, precision, checkOverflow,
+                    decimalType);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary longs into External Decimal fields in a ByteBuffer, as by
+     * {@link #convertLongsToExternalDecimals(long[], int, byte[], int, int, int, boolean, int, int)}. The offset is
+     * absolute, and the position and limit of the buffer are not changed. The bounds are checked once for all the
+     * fields.
+     *
+     * @param longValues
+     *            long array which holds the binary long values to convert
+     * @param longOffset
+     *            index in <code>longValues</code> of the first value
+     * @param byteBuffer
+     *            ByteBuffer that will store the resulting External Decimal values
+     * @param offset
+     *            absolute offset of the first byte of the first External Decimal in <code>byteBuffer</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            number of External Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     * @param count
+     *            number of values to convert
+     *
+     * @throws NullPointerException
+     *             if <code>longValues</code> or <code>byteBuffer</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if an External Decimal is not between 0 and the limit of <code>byteBuffer</code>, or an invalid
+     *             array access occurs
+     * @throws ReadOnlyBufferException
+     *             if <code>byteBuffer</code> is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into the External Decimal
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code>, <code>count</code> or <code>stride</code> is
+     *             invalid
+     */
+    public static void convertLongsToExternalDecimals(long[] longValues, int longOffset, ByteBuffer byteBuffer,
+            int offset, int stride, int precision, boolean checkOverflow, int decimalType, int count) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkValueBounds("convertLongsToExternalDecimals", "longValues", longValues.length, longOffset,
+                count);
+        CommonData.checkFieldBounds("convertLongsToExternalDecimals", byteBuffer, offset, stride, length, count);
+
+        if (byteBuffer.hasArray()) {
+            convertLongsToExternalDecimals(longValues, longOffset, byteBuffer.array(), byteBuffer.arrayOffset() + offset,
+                    stride, precision, checkOverflow, decimalType, count);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            putExternalDecimal(longValues[longOffset + i], byteBuffer, offset + i * stride, precision, checkOverflow,
+                    decimalType);
+        }
+    }
+
+    /*
+     * The following helpers convert a field of a ByteBuffer in place, with absolute get and put, when the buffer has
+     * no accessible backing array. They follow the byte array implementations above, and the callers have already
+     * checked the bounds of the field.
+     */
+
+    private static long getPackedDecimal(ByteBuffer byteBuffer, int offset, int precision, boolean checkOverflow,
+            boolean toInt) {
+        int end = offset + CommonData.getPackedByteCount(precision) - 1;
+        int last = byteBuffer.get(end) & CommonData.INTEGER_MASK;
+        byte sign = CommonData.getSign((byte) (last & CommonData.LOWER_NIBBLE_MASK));
+
+        // Skip the first byte if the precision is even and the low-order nibble is zero
+        if (precision % 2 == 0 && (byteBuffer.get(offset) & CommonData.LOWER_NIBBLE_MASK) == 0x00) {
+            precision--;
+            offset++;
+        }
+
+        // Skip consecutive zero bytes
+        for (; offset < end && byteBuffer.get(offset) == CommonData.PACKED_ZERO; offset++) {
+            precision -= 2;
+        }
+
+        if (checkOverflow) {
+            // Skip high-order zero if and only if precision is odd
+            if (precision % 2 == 1 && (byteBuffer.get(offset) & CommonData.HIGHER_NIBBLE_MASK) == 0x00) {
+                precision--;
+            }
+
+            if (toInt && precision > 10)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal too large for an int");
+            if (precision > 19)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal too large for a long");
+        }
+
+        long value = 0;
+        for (int pos = offset; pos <= end - 1; ++pos) {
+            value = value * 100 + CommonData.getPackedToBinaryValues(byteBuffer.get(pos));
+        }
+        value = value * 10 + ((last & CommonData.HIGHER_NIBBLE_MASK) >> 4);
+
+        if (sign == CommonData.PACKED_MINUS)
+            value = -value;
+
+        if (checkOverflow) {
+            if ((sign == CommonData.PACKED_PLUS && value < 0) || (sign == CommonData.PACKED_MINUS && value > 0))
+                throw new ArithmeticException("Decimal overflow - Packed Decimal too large for a long");
+        }
+        return value;
+    }
+
+    private static void putPackedDecimal(long longValue, ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow) {
+        if (checkOverflow) {
+            if (precision < 1)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal precision lesser than 1");
+
+            if (numDigits(longValue) > precision)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal precision insufficient");
+        }
+
+        int last = offset + CommonData.getPackedByteCount(precision) - 1;
+        long value;
+        if (longValue < 0) {
+            byteBuffer.put(last, (byte) ((Math.abs(longValue) % 10) << 4 | CommonData.PACKED_MINUS));
+            value = Math.abs(longValue / 10);
+        } else {
+            byteBuffer.put(last, (byte) ((longValue % 10) << 4 | CommonData.PACKED_PLUS));
+            value = longValue / 10;
+        }
+
+        // fill in high/low nibble pairs from next-to-last up to first
+        int i;
+        for (i = last - 1; i > offset && value != 0; i--) {
+            byteBuffer.put(i, CommonData.getBinaryToPackedValues((int) (value % 100)));
+            value = value / 100;
+        }
+
+        if (i == offset && value != 0) {
+            byte digits = CommonData.getBinaryToPackedValues((int) (value % 100));
+            if (precision % 2 == 0)
+                digits = (byte) (digits & CommonData.LOWER_NIBBLE_MASK);
+            byteBuffer.put(i, digits);
+            value = value / 100;
+            i--;
+        }
+
+        if (checkOverflow && value != 0)
+            throw new ArithmeticException("Decimal overflow - Packed Decimal precision insufficient");
+
+        for (; i >= offset; i--) {
+            byteBuffer.put(i, CommonData.PACKED_ZERO);
+        }
+    }
+
+    private static long getExternalDecimal(ByteBuffer byteBuffer, int offset, int precision, boolean checkOverflow,
+            int decimalType) {
+        if (precision <= 0)
+            throw new IllegalArgumentException("Precision can't be negative.");
+
+        int end = offset + CommonData.getExternalByteCounts(precision, decimalType) - 1;
+        boolean isNegative = isExternalDecimalSignNegative(byteBuffer, offset, precision, decimalType);
+
+        if (decimalType == EBCDIC_SIGN_SEPARATE_TRAILING) {
+            end--;
+        } else if (decimalType == EBCDIC_SIGN_SEPARATE_LEADING) {
+            offset++;
+        }
+
+        int first = offset;
+        if (checkOverflow && precision >= 19) {
+            // only read the last 19 digits, any more digits are overflow
+            first = offset > end - 18 ? offset : end - 18;
+            for (int i = offset; i < first; i++) {
+                if ((byteBuffer.get(i) & 0x0F) > 0)
+                    throw new ArithmeticException(isNegative
+                            ? "Decimal overflow - External Decimal too small for a long"
+                            : "Decimal overflow - External Decimal too large for a long");
+            }
+        }
+
+        // a negative value is accumulated negatively, so that Long.MIN_VALUE does not overflow
+        long value = 0;
+        for (int i = first; i <= end; i++) {
+            int digit = byteBuffer.get(i) & 0x0F;
+            value = isNegative ? value * 10 - digit : value * 10 + digit;
+        }
+
+        if (checkOverflow && precision >= 19) {
+            if (isNegative && value > 0)
+                throw new ArithmeticException("Decimal overflow - External Decimal too small for a long");
+            if (!isNegative && value < 0)
+                throw new ArithmeticException("Decimal overflow - External Decimal too large for a long");
+        }
+        return value;
+    }
+
+    private static void putExternalDecimal(long longValue, ByteBuffer byteBuffer, int offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        if (decimalType < EXTERNAL_DECIMAL_MIN || decimalType > EXTERNAL_DECIMAL_MAX)
+            throw new IllegalArgumentException("invalid decimalType");
+
+        if (checkOverflow) {
+            if (precision < 1)
+                throw new ArithmeticException("Decimal overflow - External Decimal precision lesser than 1");
+
+            if (numDigits(longValue) > precision)
+                throw new ArithmeticException("Decimal overflow - External Decimal precision insufficient");
+        }
+
+        int externalSignOffset = offset;
+        if (decimalType == EBCDIC_SIGN_SEPARATE_LEADING)
+            offset++;
+        int end = offset + precision - 1;
+
+        byteBuffer.put(end, (byte) (EXTERNAL_HIGH_MASK | Math.abs(longValue % 10)));
+        long value = Math.abs(longValue / 10);
+        int i;
+        for (i = end - 1; i >= offset && value != 0; i--) {
+            byteBuffer.put(i, (byte) (EXTERNAL_HIGH_MASK | (value % 10)));
+            value = value / 10;
+        }
+        for (; i >= offset; i--) {
+            byteBuffer.put(i, (byte) (EXTERNAL_HIGH_MASK | CommonData.PACKED_ZERO));
+        }
+
+        switch (decimalType) {
+        case EBCDIC_SIGN_EMBEDDED_TRAILING:
+        case EBCDIC_SIGN_EMBEDDED_LEADING:
+            if (decimalType == EBCDIC_SIGN_EMBEDDED_TRAILING) {
+                externalSignOffset += precision - 1;
+            }
+            byte sign = (byte) ((longValue >= 0 ? CommonData.PACKED_PLUS : CommonData.PACKED_MINUS) << 4);
+            byteBuffer.put(externalSignOffset,
+                    (byte) ((byteBuffer.get(externalSignOffset) & CommonData.LOWER_NIBBLE_MASK) | sign));
+            break;
+        case EBCDIC_SIGN_SEPARATE_TRAILING:
+        case EBCDIC_SIGN_SEPARATE_LEADING:
+            if (decimalType == EBCDIC_SIGN_SEPARATE_TRAILING) {
+                externalSignOffset += precision;
+            }
+            byteBuffer.put(externalSignOffset, longValue >= 0 ? EBCDIC_SIGN_POSITIVE : EBCDIC_SIGN_NEGATIVE);
+            break;
+        }
+    }
+
+    private static boolean isExternalDecimalSignNegative(ByteBuffer byteBuffer, int offset, int precision,
+            int decimalType) {
+        byte signByte;
+        switch (decimalType) {
+        case EBCDIC_SIGN_EMBEDDED_LEADING:
+        case EBCDIC_SIGN_EMBEDDED_TRAILING:
+            int signOffset = (decimalType == EBCDIC_SIGN_EMBEDDED_LEADING) ? offset : offset + precision - 1;
+            signByte = (byte) (byteBuffer.get(signOffset) & EXTERNAL_HIGH_MASK);
+            return signByte == CommonData.EXTERNAL_EMBEDDED_SIGN_MINUS
+                    || signByte == CommonData.EXTERNAL_EMBEDDED_SIGN_MINUS_ALTERNATE_B;
+        case EBCDIC_SIGN_SEPARATE_LEADING:
+            return byteBuffer.get(offset) == CommonData.EXTERNAL_SIGN_MINUS;
+        case EBCDIC_SIGN_SEPARATE_TRAILING:
+            return byteBuffer.get(offset + precision) == CommonData.EXTERNAL_SIGN_MINUS;
+        default:
+            throw new IllegalArgumentException("Invalid decimal sign type.");
+        }
+    }
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+    /**
+     * Converts a Packed Decimal in a MemorySegment into a binary integer, as by
+     * {@link #convertPackedDecimalToInteger(byte[], int, int, boolean)}.
+     *
+     * @param segment
+     *            MemorySegment which contains the Packed Decimal value
+     * @param offset
+     *            offset of the first byte of the Packed Decimal in <code>segment</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @return int the resulting binary integer
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into an int (overflow)
+     */
+    public static int convertPackedDecimalToInteger(MemorySegment segment, long offset, int precision,
+            boolean checkOverflow) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertPackedDecimalToInteger", segment.byteSize(), offset, length, length, 1);
+
+        long value = getPackedDecimal(segment, offset, precision, checkOverflow, true);
+        if (checkOverflow && (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE))
+            throw new ArithmeticException("Decimal overflow - Packed Decimal too large for an int");
+        return (int) value;
+    }
+
+    /**
+     * Converts a binary integer value into a Packed Decimal in a MemorySegment, as by
+     * {@link #convertIntegerToPackedDecimal(int, byte[], int, int, boolean)}. Nothing is stored if the conversion
+     * fails.
+     *
+     * @param integerValue
+     *            the binary integer value to convert
+     * @param segment
+     *            MemorySegment that will store the resulting Packed Decimal value
+     * @param offset
+     *            offset of the first byte of the Packed Decimal in <code>segment</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow), otherwise a truncated value is stored
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws IllegalArgumentException
+     *             if <code>segment</code> is read-only
+     * @throws ArithmeticException
+     *             the <code>checkOverflow</code> parameter is true and overflow occurs
+     */
+    public static void convertIntegerToPackedDecimal(int integerValue, MemorySegment segment, long offset,
+            int precision, boolean checkOverflow) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertIntegerToPackedDecimal", segment.byteSize(), offset, length, length, 1);
+
+        putPackedDecimal(integerValue, segment, offset, precision, checkOverflow);
+    }
+
+    /**
+     * Converts a Packed Decimal in a MemorySegment into a binary long, as by
+     * {@link #convertPackedDecimalToLong(byte[], int, int, boolean)}.
+     *
+     * @param segment
+     *            MemorySegment which contains the Packed Decimal value
+     * @param offset
+     *            offset of the first byte of the Packed Decimal in <code>segment</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @return long the resulting binary long value
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into a long (overflow)
+     */
+    public static long convertPackedDecimalToLong(MemorySegment segment, long offset, int precision,
+            boolean checkOverflow) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertPackedDecimalToLong", segment.byteSize(), offset, length, length, 1);
+
+        return getPackedDecimal(segment, offset, precision, checkOverflow, false);
+    }
+
+    /**
+     * Converts a binary long value into a Packed Decimal in a MemorySegment, as by
+     * {@link #convertLongToPackedDecimal(long, byte[], int, int, boolean)}. Nothing is stored if the conversion
+     * fails.
+     *
+     * @param longValue
+     *            the binary long value to convert
+     * @param segment
+     *            MemorySegment that will store the resulting Packed Decimal value
+     * @param offset
+     *            offset of the first byte of the Packed Decimal in <code>segment</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow), otherwise a truncated value is stored
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws IllegalArgumentException
+     *             if <code>segment</code> is read-only
+     * @throws ArithmeticException
+     *             the <code>checkOverflow</code> parameter is true and overflow occurs
+     */
+    public static void convertLongToPackedDecimal(long longValue, MemorySegment segment, long offset, int precision,
+            boolean checkOverflow) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertLongToPackedDecimal", segment.byteSize(), offset, length, length, 1);
+
+        putPackedDecimal(longValue, segment, offset, precision, checkOverflow);
+    }
+
+    /**
+     * Converts an External Decimal in a MemorySegment into a binary integer, as by
+     * {@link #convertExternalDecimalToInteger(byte[], int, int, boolean, int)}.
+     *
+     * @param segment
+     *            MemorySegment which contains the External Decimal value
+     * @param offset
+     *            offset of the first byte of the External Decimal in <code>segment</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown. If
+     *            false and there is an overflow, the result is undefined.
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     *
+     * @return int the resulting binary integer
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into a int (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid
+     */
+    public static int convertExternalDecimalToInteger(MemorySegment segment, long offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertExternalDecimalToInteger", segment.byteSize(), offset, length, length, 1);
+
+        long value = getExternalDecimal(segment, offset, precision, checkOverflow, decimalType);
+        if (checkOverflow && (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE))
+            throw new ArithmeticException(value < 0 ? "Decimal overflow - External Decimal too small for an int"
+                    : "Decimal overflow - External Decimal too large for an int");
+        return (int) value;
+    }
+
+    /**
+     * Converts a binary integer value into an External Decimal in a MemorySegment, as by
+     * {@link #convertIntegerToExternalDecimal(int, byte[], int, int, boolean, int)}. Nothing is stored if the
+     * conversion fails.
+     *
+     * @param integerValue
+     *            the value to convert
+     * @param segment
+     *            MemorySegment that will hold the converted value
+     * @param offset
+     *            offset of the first byte of the External Decimal in <code>segment</code>
+     * @param precision
+     *            number of External Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into the External Decimal
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid, or <code>segment</code> is
+     *             read-only
+     */
+    public static void convertIntegerToExternalDecimal(int integerValue, MemorySegment segment, long offset,
+            int precision, boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertIntegerToExternalDecimal", segment.byteSize(), offset, length, length, 1);
+
+        putExternalDecimal(integerValue, segment, offset, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts an External Decimal in a MemorySegment into a binary long, as by
+     * {@link #convertExternalDecimalToLong(byte[], int, int, boolean, int)}.
+     *
+     * @param segment
+     *            MemorySegment which contains the External Decimal value
+     * @param offset
+     *            offset of the first byte of the External Decimal in <code>segment</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown. If
+     *            false and there is an overflow, the result is undefined.
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     *
+     * @return long the resulting binary long value
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into a long (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid
+     */
+    public static long convertExternalDecimalToLong(MemorySegment segment, long offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertExternalDecimalToLong", segment.byteSize(), offset, length, length, 1);
+
+        return getExternalDecimal(segment, offset, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts a binary long value into an External Decimal in a MemorySegment, as by
+     * {@link #convertLongToExternalDecimal(long, byte[], int, int, boolean, int)}. Nothing is stored if the
+     * conversion fails.
+     *
+     * @param longValue
+     *            the value to convert
+     * @param segment
+     *            MemorySegment that will hold the converted value
+     * @param offset
+     *            offset of the first byte of the External Decimal in <code>segment</code>
+     * @param precision
+     *            number of External Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result does not fit into the External Decimal
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid, or <code>segment</code> is
+     *             read-only
+     */
+    public static void convertLongToExternalDecimal(long longValue, MemorySegment segment, long offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertLongToExternalDecimal", segment.byteSize(), offset, length, length, 1);
+
+        putExternalDecimal(longValue, segment, offset, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts a Packed Decimal in a MemorySegment to a BigDecimal, as by
+     * {@link #convertPackedDecimalToBigDecimal(byte[], int, int, int, boolean)}.
+     *
+     * @param segment
+     *            MemorySegment that holds the Packed Decimal to be converted
+     * @param offset
+     *            offset of the first byte of the Packed Decimal in <code>segment</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the BigDecimal to be returned
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @return BigDecimal the resulting BigDecimal
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     */
+    public static BigDecimal convertPackedDecimalToBigDecimal(MemorySegment segment, long offset, int precision,
+            int scale, boolean checkOverflow) {
+        if (precision <= 9) {
+            return BigDecimal.valueOf(convertPackedDecimalToInteger(segment, offset, precision, checkOverflow), scale);
+        } else if (precision <= 18) {
+            return BigDecimal.valueOf(convertPackedDecimalToLong(segment, offset, precision, checkOverflow), scale);
+        }
+
+        byte[] packedDecimal = getField(segment, offset, CommonData.getPackedByteCount(precision));
+        return slowSignedPackedToBigDecimal(packedDecimal, 0, precision, scale, checkOverflow);
+    }
+
+    /**
+     * Converts a BigDecimal into a Packed Decimal in a MemorySegment, as by
+     * {@link #convertBigDecimalToPackedDecimal(BigDecimal, byte[], int, int, boolean)}. Nothing is stored if the
+     * conversion fails.
+     *
+     * @param bigDecimalValue
+     *            the BigDecimal value to convert
+     * @param segment
+     *            MemorySegment that will hold the resulting Packed Decimal
+     * @param offset
+     *            offset of the first byte of the Packed Decimal in <code>segment</code>
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> or <code>bigDecimalValue</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the Packed Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws IllegalArgumentException
+     *             if <code>segment</code> is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result overflows
+     */
+    public static void convertBigDecimalToPackedDecimal(BigDecimal bigDecimalValue, MemorySegment segment,
+            long offset, int precision, boolean checkOverflow) {
+        int bdprec = bigDecimalValue.precision();
+        if (bdprec <= 9) {
+            convertIntegerToPackedDecimal((int) bigDecimalValue.unscaledValue().longValue(), segment, offset,
+                    precision, checkOverflow);
+            return;
+        }
+        if (bdprec <= 18) {
+            convertLongToPackedDecimal(bigDecimalValue.unscaledValue().longValue(), segment, offset, precision,
+                    checkOverflow);
+            return;
+        }
+
+        byte[] packedDecimal = new byte[CommonData.getPackedByteCount(precision)];
+        slowBigDecimalToSignedPacked(bigDecimalValue, packedDecimal, 0, precision, checkOverflow);
+        putField(packedDecimal, segment, offset);
+    }
+
+    /**
+     * Converts an External Decimal in a MemorySegment to a BigDecimal, as by
+     * {@link #convertExternalDecimalToBigDecimal(byte[], int, int, int, boolean, int)}.
+     *
+     * @param segment
+     *            MemorySegment that holds the External Decimal to be converted
+     * @param offset
+     *            offset of the first byte of the External Decimal in <code>segment</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the BigDecimal
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value that indicates the type of External Decimal
+     *
+     * @return BigDecimal the resulting BigDecimal
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws IllegalArgumentException
+     *             if <code>checkOverflow</code> is true and the External Decimal is not valid, or
+     *             <code>decimalType</code> is invalid
+     */
+    public static BigDecimal convertExternalDecimalToBigDecimal(MemorySegment segment, long offset, int precision,
+            int scale, boolean checkOverflow, int decimalType) {
+        byte[] externalDecimal = getField(segment, offset, CommonData.getExternalByteCounts(precision, decimalType));
+        return convertExternalDecimalToBigDecimal(externalDecimal, 0, precision, scale, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts a BigDecimal into an External Decimal in a MemorySegment, as by
+     * {@link #convertBigDecimalToExternalDecimal(BigDecimal, byte[], int, int, boolean, int)}. Nothing is stored if
+     * the conversion fails.
+     *
+     * @param bigDecimalValue
+     *            BigDecimal value to be converted
+     * @param segment
+     *            MemorySegment that will hold the External Decimal on a successful return
+     * @param offset
+     *            offset of the first byte of the External Decimal in <code>segment</code>
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if the decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> or <code>bigDecimalValue</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the External Decimal is not inside <code>segment</code>
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and the result overflows
+     * @throws IllegalArgumentException
+     *             if <code>precision</code> or <code>decimalType</code> is invalid, or <code>segment</code> is
+     *             read-only
+     */
+    public static void convertBigDecimalToExternalDecimal(BigDecimal bigDecimalValue, MemorySegment segment,
+            long offset, int precision, boolean checkOverflow, int decimalType) {
+        byte[] externalDecimal = new byte[CommonData.getExternalByteCounts(precision, decimalType)];
+        convertBigDecimalToExternalDecimal(bigDecimalValue, externalDecimal, 0, precision, checkOverflow,
+                decimalType);
+        putField(externalDecimal, segment, offset);
+    }
+
+    /**
+     * Converts <code>count</code> Packed Decimal fields in a MemorySegment into binary longs, as by
+     * {@link #convertPackedDecimalsToLongs(byte[], int, int, int, boolean, long[], int, int)}. The bounds of the
+     * segment are checked once for all the fields.
+     *
+     * @param segment
+     *            MemorySegment which contains the Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>segment</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param longValues
+     *            long array that will store the resulting binary values
+     * @param longOffset
+     *            index in <code>longValues</code> of the first result
+     * @param count
+     *            number of Packed Decimals to convert
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> or <code>longValues</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if a Packed Decimal is not inside <code>segment</code>, or an invalid array access occurs
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative or <code>stride</code> is too small
+     */
+    public static void convertPackedDecimalsToLongs(MemorySegment segment, long offset, long stride, int precision,
+            boolean checkOverflow, long[] longValues, int longOffset, int count) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkFieldBounds("convertPackedDecimalsToLongs", segment.byteSize(), offset, stride, length, count);
+        CommonData.checkValueBounds("convertPackedDecimalsToLongs", "longValues", longValues.length, longOffset, count);
+
+        for (int i = 0; i < count; i++) {
+            longValues[longOffset + i] = getPackedDecimal(segment, offset + i * stride, precision, checkOverflow,
+                    false);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary longs into Packed Decimal fields in a MemorySegment, as by
+     * {@link #convertLongsToPackedDecimals(long[], int, byte[], int, int, int, boolean, int)}. The bounds of the
+     * segment are checked once for all the fields.
+     *
+     * @param longValues
+     *            long array which holds the binary long values to convert
+     * @param longOffset
+     *            index in <code>longValues</code> of the first value
+     * @param segment
+     *            MemorySegment that will store the resulting Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>segment</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            number of Packed Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow), otherwise a truncated value is stored
+     * @param count
+     *            number of values to convert
+     *
+     * @throws NullPointerException
+     *             if <code>longValues</code> or <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if a Packed Decimal is not inside <code>segment</code>, or an invalid array access occurs
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             the <code>checkOverflow</code> parameter is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>count</code> is negative, <code>stride</code> is too small or <code>segment</code> is
+     *             read-only
+     */
+    public static void convertLongsToPackedDecimals(long[] longValues, int longOffset, MemorySegment segment,
+            long offset, long stride, int precision, boolean checkOverflow, int count) {
+        int length = CommonData.getPackedByteCount(precision);
+        CommonData.checkValueBounds("convertLongsToPackedDecimals", "longValues", longValues.length, longOffset, count);
+        CommonData.checkFieldBounds("convertLongsToPackedDecimals", segment.byteSize(), offset, stride, length, count);
+
+        for (int i = 0; i < count; i++) {
+            putPackedDecimal(longValues[longOffset + i], segment, offset + i * stride, precision, checkOverflow);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> External Decimal fields in a MemorySegment into binary longs, as by
+     * {@link #convertExternalDecimalsToLongs(byte[], int, int, int, boolean, int, long[], int, int)}. The bounds of
+     * the segment are checked once for all the fields.
+     *
+     * @param segment
+     *            MemorySegment which contains the External Decimal values
+     * @param offset
+     *            offset of the first byte of the first External Decimal in <code>segment</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> or <code>IllegalArgumentException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * @param longValues
+     *            long array that will store the resulting binary values
+     * @param longOffset
+     *            index in <code>longValues</code> of the first result
+     * @param count
+     *            number of External Decimals to convert
+     *
+     * @throws NullPointerException
+     *             if <code>segment</code> or <code>longValues</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if an External Decimal is not inside <code>segment</code>, or an invalid array access occurs
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow)
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code>, <code>count</code> or <code>stride</code> is
+     *             invalid
+     */
+    public static void convertExternalDecimalsToLongs(MemorySegment segment, long offset, long stride, int precision,
+            boolean checkOverflow, int decimalType, long[] longValues, int longOffset, int count) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkFieldBounds("convertExternalDecimalsToLongs", segment.byteSize(), offset, stride, length,
+                count);
+        CommonData.checkValueBounds("convertExternalDecimalsToLongs", "longValues", longValues.length, longOffset,
+                count);
+
+        for (int i = 0; i < count; i++) {
+            longValues[longOffset + i] = getExternalDecimal(segment, offset + i * stride, precision, checkOverflow,
+                    decimalType);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary longs into External Decimal fields in a MemorySegment, as by
+     * {@link #convertLongsToExternalDecimals(long[], int, byte[], int, int, int, boolean, int, int)}. The bounds of
+     * the segment are checked once for all the fields.
+     *
+     * @param longValues
+     *            long array which holds the binary long values to convert
+     * @param longOffset
+     *            index in <code>longValues</code> of the first value
+     * @param segment
+     *            MemorySegment that will store the resulting External Decimal values
+     * @param offset
+     *            offset of the first byte of the first External Decimal in <code>segment</code>
+     * @param stride
+     *            distance in bytes between the starts of consecutive External Decimals, at least the length of an
+     *            External Decimal of the given precision and type
+     * @param precision
+     *            number of External Decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a decimal value does not fit in the
+     *            specified precision (overflow)
+     * @param decimalType
+     *            constant value indicating the External Decimal type
+     * @param count
+     *            number of values to convert
+     *
+     * @throws NullPointerException
+     *             if <code>longValues</code> or <code>segment</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if an External Decimal is not inside <code>segment</code>, or an invalid array access occurs
+     * @throws IllegalStateException
+     *             if the scope of <code>segment</code> is not alive
+     * @throws WrongThreadException
+     *             if <code>segment</code> is confined to another thread
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into the External Decimal
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code>, <code>count</code> or <code>stride</code> is
+     *             invalid, or <code>segment</code> is read-only
+     */
+    public static void convertLongsToExternalDecimals(long[] longValues, int longOffset, MemorySegment segment,
+            long offset, long stride, int precision, boolean checkOverflow, int decimalType, int count) {
+        int length = CommonData.getExternalByteCounts(precision, decimalType);
+        CommonData.checkValueBounds("convertLongsToExternalDecimals", "longValues", longValues.length, longOffset,
+                count);
+        CommonData.checkFieldBounds("convertLongsToExternalDecimals", segment.byteSize(), offset, stride, length,
+                count);
+
+        for (int i = 0; i < count; i++) {
+            putExternalDecimal(longValues[longOffset + i], segment, offset + i * stride, precision, checkOverflow,
+                    decimalType);
+        }
+    }
+
+    /*
+     * The following helpers convert a field of a MemorySegment in place, as the ByteBuffer helpers above do. The
+     * callers have already checked the bounds of the field, so nothing is stored if the bounds are wrong.
+     */
+
+    private static long getPackedDecimal(MemorySegment segment, long offset, int precision, boolean checkOverflow,
+            boolean toInt) {
+        long end = offset + CommonData.getPackedByteCount(precision) - 1;
+        int last = segment.get(ValueLayout.JAVA_BYTE, end) & CommonData.INTEGER_MASK;
+        byte sign = CommonData.getSign((byte) (last & CommonData.LOWER_NIBBLE_MASK));
+
+        // Skip the first byte if the precision is even and the low-order nibble is zero
+        if (precision % 2 == 0 && (segment.get(ValueLayout.JAVA_BYTE, offset) & CommonData.LOWER_NIBBLE_MASK) == 0x00) {
+            precision--;
+            offset++;
+        }
+
+        // Skip consecutive zero bytes
+        for (; offset < end && segment.get(ValueLayout.JAVA_BYTE, offset) == CommonData.PACKED_ZERO; offset++) {
+            precision -= 2;
+        }
+
+        if (checkOverflow) {
+            // Skip high-order zero if and only if precision is odd
+            if (precision % 2 == 1 && (segment.get(ValueLayout.JAVA_BYTE, offset) & CommonData.HIGHER_NIBBLE_MASK) == 0x00) {
+                precision--;
+            }
+
+            if (toInt && precision > 10)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal too large for an int");
+            if (precision > 19)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal too large for a long");
+        }
+
+        long value = 0;
+        for (long pos = offset; pos <= end - 1; ++pos) {
+            value = value * 100 + CommonData.getPackedToBinaryValues(segment.get(ValueLayout.JAVA_BYTE, pos));
+        }
+        value = value * 10 + ((last & CommonData.HIGHER_NIBBLE_MASK) >> 4);
+
+        if (sign == CommonData.PACKED_MINUS)
+            value = -value;
+
+        if (checkOverflow) {
+            if ((sign == CommonData.PACKED_PLUS && value < 0) || (sign == CommonData.PACKED_MINUS && value > 0))
+                throw new ArithmeticException("Decimal overflow - Packed Decimal too large for a long");
+        }
+        return value;
+    }
+
+    private static void putPackedDecimal(long longValue, MemorySegment segment, long offset, int precision,
+            boolean checkOverflow) {
+        if (checkOverflow) {
+            if (precision < 1)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal precision lesser than 1");
+
+            if (numDigits(longValue) > precision)
+                throw new ArithmeticException("Decimal overflow - Packed Decimal precision insufficient");
+        }
+
+        long last = offset + CommonData.getPackedByteCount(precision) - 1;
+        long value;
+        if (longValue < 0) {
+            segment.set(ValueLayout.JAVA_BYTE, last, (byte) ((Math.abs(longValue) % 10) << 4 | CommonData.PACKED_MINUS));
+            value = Math.abs(longValue / 10);
+        } else {
+            segment.set(ValueLayout.JAVA_BYTE, last, (byte) ((longValue % 10) << 4 | CommonData.PACKED_PLUS));
+            value = longValue / 10;
+        }
+
+        // fill in high/low nibble pairs from next-to-last up to first
+        long i;
+        for (i = last - 1; i > offset && value != 0; i--) {
+            segment.set(ValueLayout.JAVA_BYTE, i, CommonData.getBinaryToPackedValues((int) (value % 100)));
+            value = value / 100;
+        }
+
+        if (i == offset && value != 0) {
+            byte digits = CommonData.getBinaryToPackedValues((int) (value % 100));
+            if (precision % 2 == 0)
+                digits = (byte) (digits & CommonData.LOWER_NIBBLE_MASK);
+            segment.set(ValueLayout.JAVA_BYTE, i, digits);
+            value = value / 100;
+            i--;
+        }
+
+        if (checkOverflow && value != 0)
+            throw new ArithmeticException("Decimal overflow - Packed Decimal precision insufficient");
+
+        for (; i >= offset; i--) {
+            segment.set(ValueLayout.JAVA_BYTE, i, CommonData.PACKED_ZERO);
+        }
+    }
+
+    private static long getExternalDecimal(MemorySegment segment, long offset, int precision, boolean checkOverflow,
+            int decimalType) {
+        if (precision <= 0)
+            throw new IllegalArgumentException("Precision can't be negative.");
+
+        long end = offset + CommonData.getExternalByteCounts(precision, decimalType) - 1;
+        boolean isNegative = isExternalDecimalSignNegative(segment, offset, precision, decimalType);
+
+        if (decimalType == EBCDIC_SIGN_SEPARATE_TRAILING) {
+            end--;
+        } else if (decimalType == EBCDIC_SIGN_SEPARATE_LEADING) {
+            offset++;
+        }
+
+        long first = offset;
+        if (checkOverflow && precision >= 19) {
+            // only read the last 19 digits, any more digits are overflow
+            first = offset > end - 18 ? offset : end - 18;
+            for (long i = offset; i < first; i++) {
+                if ((segment.get(ValueLayout.JAVA_BYTE, i) & 0x0F) > 0)
+                    throw new ArithmeticException(isNegative
+                            ? "Decimal overflow - External Decimal too small for a long"
+                            : "Decimal overflow - External Decimal too large for a long");
+            }
+        }
+
+        // a negative value is accumulated negatively, so that Long.MIN_VALUE does not overflow
+        long value = 0;
+        for (long i = first; i <= end; i++) {
+            int digit = segment.get(ValueLayout.JAVA_BYTE, i) & 0x0F;
+            value = isNegative ? value * 10 - digit : value * 10 + digit;
+        }
+
+        if (checkOverflow && precision >= 19) {
+            if (isNegative && value > 0)
+                throw new ArithmeticException("Decimal overflow - External Decimal too small for a long");
+            if (!isNegative && value < 0)
+                throw new ArithmeticException("Decimal overflow - External Decimal too large for a long");
+        }
+        return value;
+    }
+
+    private static void putExternalDecimal(long longValue, MemorySegment segment, long offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        if (decimalType < EXTERNAL_DECIMAL_MIN || decimalType > EXTERNAL_DECIMAL_MAX)
+            throw new IllegalArgumentException("invalid decimalType");
+
+        if (checkOverflow) {
+            if (precision < 1)
+                throw new ArithmeticException("Decimal overflow - External Decimal precision lesser than 1");
+
+            if (numDigits(longValue) > precision)
+                throw new ArithmeticException("Decimal overflow - External Decimal precision insufficient");
+        }
+
+        long externalSignOffset = offset;
+        if (decimalType == EBCDIC_SIGN_SEPARATE_LEADING)
+            offset++;
+        long end = offset + precision - 1;
+
+        segment.set(ValueLayout.JAVA_BYTE, end, (byte) (EXTERNAL_HIGH_MASK | Math.abs(longValue % 10)));
+        long value = Math.abs(longValue / 10);
+        long i;
+        for (i = end - 1; i >= offset && value != 0; i--) {
+            segment.set(ValueLayout.JAVA_BYTE, i, (byte) (EXTERNAL_HIGH_MASK | (value % 10)));
+            value = value / 10;
+        }
+        for (; i >= offset; i--) {
+            segment.set(ValueLayout.JAVA_BYTE, i, (byte) (EXTERNAL_HIGH_MASK | CommonData.PACKED_ZERO));
+        }
+
+        switch (decimalType) {
+        case EBCDIC_SIGN_EMBEDDED_TRAILING:
+        case EBCDIC_SIGN_EMBEDDED_LEADING:
+            if (decimalType == EBCDIC_SIGN_EMBEDDED_TRAILING) {
+                externalSignOffset += precision - 1;
+            }
+            byte sign = (byte) ((longValue >= 0 ? CommonData.PACKED_PLUS : CommonData.PACKED_MINUS) << 4);
+            segment.set(ValueLayout.JAVA_BYTE, externalSignOffset,
+                    (byte) ((segment.get(ValueLayout.JAVA_BYTE, externalSignOffset) & CommonData.LOWER_NIBBLE_MASK) | sign));
+            break;
+        case EBCDIC_SIGN_SEPARATE_TRAILING:
+        case EBCDIC_SIGN_SEPARATE_LEADING:
+            if (decimalType == EBCDIC_SIGN_SEPARATE_TRAILING) {
+                externalSignOffset += precision;
+            }
+            segment.set(ValueLayout.JAVA_BYTE, externalSignOffset, longValue >= 0 ? EBCDIC_SIGN_POSITIVE : EBCDIC_SIGN_NEGATIVE);
+            break;
+        }
+    }
+
+    private static boolean isExternalDecimalSignNegative(MemorySegment segment, long offset, int precision,
+            int decimalType) {
+        byte signByte;
+        switch (decimalType) {
+        case EBCDIC_SIGN_EMBEDDED_LEADING:
+        case EBCDIC_SIGN_EMBEDDED_TRAILING:
+            long signOffset = (decimalType == EBCDIC_SIGN_EMBEDDED_LEADING) ? offset : offset + precision - 1;
+            signByte = (byte) (segment.get(ValueLayout.JAVA_BYTE, signOffset) & EXTERNAL_HIGH_MASK);
+            return signByte == CommonData.EXTERNAL_EMBEDDED_SIGN_MINUS
+                    || signByte == CommonData.EXTERNAL_EMBEDDED_SIGN_MINUS_ALTERNATE_B;
+        case EBCDIC_SIGN_SEPARATE_LEADING:
+            return segment.get(ValueLayout.JAVA_BYTE, offset) == CommonData.EXTERNAL_SIGN_MINUS;
+        case EBCDIC_SIGN_SEPARATE_TRAILING:
+            return segment.get(ValueLayout.JAVA_BYTE, offset + precision) == CommonData.EXTERNAL_SIGN_MINUS;
+        default:
+            throw new IllegalArgumentException("Invalid decimal sign type.");
+        }
+    }
+
+    // Only the BigDecimal conversions of more than 18 digits copy the field, as they build a BigInteger anyway
+    private static byte[] getField(MemorySegment segment, long offset, int length) {
+        byte[] field = new byte[length];
+        MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, offset, field, 0, length);
+        return field;
+    }
+
+    private static void putField(byte[] field, MemorySegment segment, long offset) {
+        MemorySegment.copy(field, 0, segment, ValueLayout.JAVA_BYTE, offset, field.length);
+    }
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+
     // below is code taken from BigDecimalConverters
     // these are special functions recognized by the jit
     private static boolean DFPFacilityAvailable() {
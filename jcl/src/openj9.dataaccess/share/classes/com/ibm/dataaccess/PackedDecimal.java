@@ -196,6 +196,61 @@ public final class PackedDecimal {
         return checkPackedDecimal(byteArray, offset, precision, false, false);
     }
 
+    /**
+     * Checks the validity of <code>count</code> Packed Decimal fields in a byte array, storing a return code for each
+     * of them. The fields all have the same precision and start <code>stride</code> bytes apart, as in an array of
+     * fixed-length records. Each field is checked as by {@link #checkPackedDecimal(byte[], int, int, boolean, boolean)},
+     * but the bounds of the arrays are checked once for all the fields rather than once per field.
+     * 
+     * @param byteArray
+     *            the source container array
+     * @param offset
+     *            starting offset of the first Packed Decimal
+     * @param stride
+     *            distance in bytes between the starts of consecutive Packed Decimals, at least the length of a Packed
+     *            Decimal of the given precision
+     * @param precision
+     *            precision of the Packed Decimals. Maximum valid precision is 253
+     * @param ignoreHighNibbleForEvenPrecision
+     *            if true, ignore to check if the top nibble (first 4 bits) of the input is an invalid sign value in the
+     *            case of even precision
+     * @param canOverwriteHighNibbleForEvenPrecision
+     *            if true, change the high nibble to a zero in case of even precision
+     * @param returnCodes
+     *            array which will hold the condition code of each Packed Decimal, as returned by
+     *            {@link #checkPackedDecimal(byte[], int, int, boolean, boolean)}
+     * @param returnCodesOffset
+     *            index in <code>returnCodes</code> of the condition code of the first Packed Decimal
+     * @param count
+     *            number of Packed Decimals to check
+     * @return the number of Packed Decimals that are not valid, i.e. whose condition code is not 0
+     * 
+     * @throws NullPointerException
+     *             if <code>byteArray</code> or <code>returnCodes</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>count</code> or <code>stride</code> is invalid
+     */
+    public static int checkPackedDecimals(byte[] byteArray, int offset, int stride,
+            int precision, boolean ignoreHighNibbleForEvenPrecision,
+            boolean canOverwriteHighNibbleForEvenPrecision, int[] returnCodes,
+            int returnCodesOffset, int count) {
+        CommonData.checkFieldBounds("checkPackedDecimals", "byteArray", byteArray.length,
+                offset, stride, CommonData.getPackedByteCount(precision), count);
+        CommonData.checkValueBounds("checkPackedDecimals", "returnCodes", returnCodes.length, returnCodesOffset, count);
+
+        int invalid = 0;
+        for (int i = 0; i < count; i++) {
+            int returnCode = checkPackedDecimal_(byteArray, offset + i * stride, precision,
+                    ignoreHighNibbleForEvenPrecision, canOverwriteHighNibbleForEvenPrecision);
+            returnCodes[returnCodesOffset + i] = returnCode;
+            if (returnCode != 0)
+                invalid++;
+        }
+        return invalid;
+    }
+
     private static void copyRemainingDigits(PackedDecimalOperand op1,
             PackedDecimalOperand op2, boolean checkOverflow)
             throws ArithmeticException {
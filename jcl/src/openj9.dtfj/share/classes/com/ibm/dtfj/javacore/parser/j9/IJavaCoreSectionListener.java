@@ -0,0 +1,82 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.dtfj.javacore.parser.j9;
+
+/**
+ * Receives the contents of a javacore from {@link JavaCoreStreamReader}: the start
+ * and end of each section, and the threads, stack frames and monitors parsed from
+ * the THREADS and LOCKS sections. No model of the javacore is built, so a listener
+ * keeps only the state it needs.
+ */
+public interface IJavaCoreSectionListener {
+
+	/**
+	 * Called for each 0SECTION line.
+	 *
+	 * @param section the name of the section, for example THREADS or LOCKS
+	 */
+	public void startSection(String section);
+
+	/**
+	 * Called for each thread listed under Thread Details in the THREADS section.
+	 * The current thread, which is listed again under Thread Details, is only
+	 * reported once.
+	 *
+	 * @param name the name of the thread
+	 * @param state the Java state of the thread, for example R, CW, B or P
+	 */
+	public void thread(String name, String state);
+
+	/**
+	 * Called for each Java stack frame of the thread last reported by {@link #thread(String, String)},
+	 * from the top of the stack.
+	 *
+	 * @param method the class and method, for example java/lang/Thread.sleep
+	 * @param location the source location, for example Thread.java:123, or Native Method
+	 */
+	public void stackFrame(String method, String location);
+
+	/**
+	 * Called for each monitor in use and each system monitor in the LOCKS section.
+	 *
+	 * @param name the class of the locked object, the name of the system monitor,
+	 * or &lt;unknown&gt; if neither is listed
+	 * @param owner the name of the owning thread, or null if the monitor is not owned
+	 */
+	public void monitor(String name, String owner);
+
+	/**
+	 * Called for each thread waiting to enter the monitor last reported by {@link #monitor(String, String)}.
+	 *
+	 * @param thread the name of the waiting thread
+	 */
+	public void monitorWaiter(String thread);
+
+	/**
+	 * Called at the end of each section: before the next 0SECTION line or at the end of the input.
+	 *
+	 * @param section the name of the section
+	 */
+	public void endSection(String section);
+
+}
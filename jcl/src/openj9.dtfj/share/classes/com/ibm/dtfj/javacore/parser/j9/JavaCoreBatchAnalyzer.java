@@ -0,0 +1,159 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.dtfj.javacore.parser.j9;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads many javacores concurrently with {@link JavaCoreStreamReader} and
+ * combines their histograms into a single {@link JavaCoreSummary}.
+ * <p>
+ * Each javacore is summarized independently by one of a fixed number of
+ * threads, so memory use is bounded by the number of threads rather than the
+ * number or size of the javacores.
+ * <p>
+ * Usage: {@code JavaCoreBatchAnalyzer [-threads n] [-depth n] [-top n] <file or directory>...}
+ * <br>
+ * Directories are searched (not recursively) for files named javacore*.txt.
+ */
+public class JavaCoreBatchAnalyzer {
+
+	public static final int DEFAULT_STACK_DEPTH = 5;
+	public static final int DEFAULT_TOP = 20;
+
+	private final int threads;
+	private final int stackDepth;
+
+	/**
+	 * @param threads the number of javacores to read concurrently
+	 * @param stackDepth the number of frames used for stack signatures
+	 */
+	public JavaCoreBatchAnalyzer(int threads, int stackDepth) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("Thread count must be positive: " + threads);
+		}
+		this.threads = threads;
+		this.stackDepth = stackDepth;
+	}
+
+	/**
+	 * Summarizes a single javacore.
+	 *
+	 * @param file the javacore to read
+	 * @return the summary of that javacore; a file that is not a javacore is recorded as an error
+	 */
+	public JavaCoreSummary analyze(File file) {
+		JavaCoreSummary summary = new JavaCoreSummary(stackDepth);
+		try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+			if (!new JavaCoreStreamReader().parse(input, summary)) {
+				summary.addError(file.getPath() + ": not a javacore file");
+			}
+		} catch (IOException e) {
+			summary.addError(file.getPath() + ": " + e.getMessage());
+		}
+		return summary;
+	}
+
+	/**
+	 * Summarizes a list of javacores.
+	 *
+	 * @param files the javacores to read
+	 * @return the combined summary
+	 * @throws InterruptedException if interrupted while waiting for the javacores to be read
+	 */
+	public JavaCoreSummary analyze(List<File> files) throws InterruptedException {
+		JavaCoreSummary result = new JavaCoreSummary(stackDepth);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, files.size())));
+		try {
+			List<Future<JavaCoreSummary>> futures = new ArrayList<>(files.size());
+			for (File file : files) {
+				futures.add(executor.submit(() -> analyze(file)));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					result.merge(futures.get(i).get());
+				} catch (ExecutionException e) {
+					result.addError(files.get(i).getPath() + ": " + e.getCause());
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return result;
+	}
+
+	private static void addFiles(File file, List<File> files) {
+		if (file.isDirectory()) {
+			File[] children = file.listFiles((dir, name) -> name.startsWith("javacore") && name.endsWith(".txt"));
+			if (children != null) {
+				Arrays.sort(children);
+				files.addAll(Arrays.asList(children));
+			}
+		} else {
+			files.add(file);
+		}
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int threads = Runtime.getRuntime().availableProcessors();
+		int depth = DEFAULT_STACK_DEPTH;
+		int top = DEFAULT_TOP;
+		List<File> files = new ArrayList<>();
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				if ("-threads".equals(arg) && (i + 1 < args.length)) {
+					threads = Integer.parseInt(args[++i]);
+				} else if ("-depth".equals(arg) && (i + 1 < args.length)) {
+					depth = Integer.parseInt(args[++i]);
+				} else if ("-top".equals(arg) && (i + 1 < args.length)) {
+					top = Integer.parseInt(args[++i]);
+				} else {
+					addFiles(new File(arg), files);
+				}
+			}
+		} catch (NumberFormatException e) {
+			files.clear();
+		}
+
+		if (files.isEmpty() || (threads <= 0) || (depth <= 0) || (top <= 0)) {
+			System.err.println("Usage: JavaCoreBatchAnalyzer [-threads n] [-depth n] [-top n] <file or directory>...");
+			System.exit(1);
+		}
+
+		new JavaCoreBatchAnalyzer(threads, depth).analyze(files).print(System.out, top);
+	}
+
+}
@@ -66,14 +66,7 @@ public class JavaCoreReader {
 	 */
 	public Image generateImage(InputStream input) throws IOException {
 		try {
-			byte[] head = new byte[256];
-			input.read(head);
-			ByteArrayInputStream headByteStream = new ByteArrayInputStream(head);
-			Charset cs = getJavaCoreCodePage(headByteStream);
-			SequenceInputStream stream = new SequenceInputStream(headByteStream, input);
-			// Use default charset if none found
-			// Charset.defaultCharset is 5.0, so not usable for 1.4
-			Reader reader = cs != null ? new InputStreamReader(stream, cs) : new InputStreamReader(stream);
+			Reader reader = createReader(input);
 			List frameworkSections = new DTFJComponentLoader().loadSections();
 			IParserController parserController = new ParserController(frameworkSections, fImageBuilderFactory);
 			parserController.addErrorListener(new IErrorListener() {
@@ -94,7 +87,26 @@ public class JavaCoreReader {
 		}
 	}
 
-	private Charset getJavaCoreCodePage(ByteArrayInputStream input)	throws IOException {
+	/**
+	 * Creates a reader for a javacore, decoding it with the code page recorded
+	 * in the javacore if that can be determined.
+	 *
+	 * @param input the javacore data
+	 * @return a reader over the whole of input
+	 * @throws IOException
+	 */
+	static Reader createReader(InputStream input) throws IOException {
+		byte[] head = new byte[256];
+		input.read(head);
+		ByteArrayInputStream headByteStream = new ByteArrayInputStream(head);
+		Charset cs = getJavaCoreCodePage(headByteStream);
+		SequenceInputStream stream = new SequenceInputStream(headByteStream, input);
+		// Use default charset if none found
+		// Charset.defaultCharset is 5.0, so not usable for 1.4
+		return cs != null ? new InputStreamReader(stream, cs) : new InputStreamReader(stream);
+	}
+
+	private static Charset getJavaCoreCodePage(ByteArrayInputStream input)	throws IOException {
 		input.mark(256);
 		Charset cs = null;
 		try {
@@ -127,7 +139,7 @@ public class JavaCoreReader {
 		return cs;
 	}
 
-	private class JavacoreFileEncodingException extends Exception {
+	private static class JavacoreFileEncodingException extends Exception {
 		public JavacoreFileEncodingException(String string) {
 			super(string);
 		}
@@ -136,7 +148,7 @@ public class JavaCoreReader {
 		}
 	}
 
-	private Charset attemptCharset(ByteBuffer headByteBuffer, Charset trialCharset) throws JavacoreFileEncodingException {
+	private static Charset attemptCharset(ByteBuffer headByteBuffer, Charset trialCharset) throws JavacoreFileEncodingException {
 		final String sectionEyeCatcher = "0SECTION";
 		final String charsetEyeCatcher = "1TICHARSET";
 		headByteBuffer.rewind();
@@ -0,0 +1,201 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.dtfj.javacore.parser.j9;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.ibm.dtfj.javacore.parser.j9.section.monitor.IMonitorTypes;
+import com.ibm.dtfj.javacore.parser.j9.section.thread.IThreadTypes;
+
+/**
+ * Reads a javacore as a stream of lines, reporting its sections and the threads,
+ * stack frames and monitors they list to an {@link IJavaCoreSectionListener}.
+ * Unlike {@link JavaCoreReader}, no DTFJ image is built and memory use does not
+ * grow with the size of the javacore.
+ * <p>
+ * Each reader keeps its own parsing state, so different javacores may be read
+ * concurrently by different readers.
+ */
+public class JavaCoreStreamReader {
+
+	private static final String SECTION_TAG = "0SECTION";
+	private static final String NULL_TAG = "NULL";
+	private static final String UNKNOWN_MONITOR = "<unknown>";
+
+	/* The Pattern instances are shared, but each parse uses its own Matcher. */
+	private static final Pattern THREAD_STATE = Pattern.compile(",\\s*state:([^,\\s]+)");
+	private static final Pattern OWNER = Pattern.compile("(?:owner|Flat locked by) \"(.*?)\" \\(");
+
+	/* Parsing state for the current javacore. */
+	private IJavaCoreSectionListener listener;
+	private String section;
+	private boolean inCurrentThread;
+	private boolean inThread;
+	private boolean pendingMonitor;
+
+	/**
+	 * Reads a javacore, reporting its contents to listener.
+	 *
+	 * @param input the javacore data, which is not closed
+	 * @param listener the listener to receive the contents
+	 * @return true if at least one section was found
+	 * @throws IOException if input cannot be read
+	 */
+	public boolean parse(InputStream input, IJavaCoreSectionListener listener) throws IOException {
+		BufferedReader reader = new BufferedReader(JavaCoreReader.createReader(input));
+		boolean anySection = false;
+		String line;
+
+		this.listener = listener;
+		section = null;
+		try {
+			while ((line = reader.readLine()) != null) {
+				int length = line.length();
+				int start = 0;
+				while ((start < length) && (line.charAt(start) <= ' ')) {
+					start += 1;
+				}
+				int end = start;
+				while ((end < length) && (line.charAt(end) > ' ')) {
+					end += 1;
+				}
+				if (start == end) {
+					continue;
+				}
+				String tag = line.substring(start, end);
+				if (tag.startsWith(NULL_TAG)) {
+					continue;
+				}
+				String value = line.substring(end).trim();
+				if (SECTION_TAG.equals(tag)) {
+					endSection();
+					int space = value.indexOf(' ');
+					section = (space < 0) ? value : value.substring(0, space);
+					anySection = true;
+					listener.startSection(section);
+				} else if (IThreadTypes.THREAD_SECTION.equals(section)) {
+					threadLine(tag, value);
+				} else if (IMonitorTypes.MONITOR_SECTION.equals(section)) {
+					monitorLine(tag, value);
+				}
+			}
+			endSection();
+		} finally {
+			this.listener = null;
+		}
+		return anySection;
+	}
+
+	private void endSection() {
+		if (section != null) {
+			endMonitor();
+			listener.endSection(section);
+		}
+		inCurrentThread = false;
+		inThread = false;
+	}
+
+	private void threadLine(String tag, String value) {
+		if (IThreadTypes.T_1XMCURTHDINFO.equals(tag)) {
+			/* The current thread is listed again under Thread Details. */
+			inCurrentThread = true;
+			inThread = false;
+		} else if (IThreadTypes.T_1XMTHDINFO.equals(tag)) {
+			inCurrentThread = false;
+			inThread = false;
+		} else if (IThreadTypes.T_3XMTHREADINFO.equals(tag)) {
+			/* "main" J9VMThread:0x0000000000224000, java/lang/Thread:0x00000000FFF2D638, state:R, prio=5 */
+			inThread = false;
+			if (!inCurrentThread) {
+				Matcher matcher = THREAD_STATE.matcher(value);
+				if (matcher.find()) {
+					listener.thread(threadName(value), matcher.group(1));
+					inThread = true;
+				}
+			}
+		} else if (IThreadTypes.T_4XESTACKTRACE.equals(tag)) {
+			/* at java/lang/Thread.sleep(Thread.java:123(Compiled Code)) */
+			if (inThread) {
+				String frame = value.startsWith("at ") ? value.substring(3) : value;
+				int open = frame.indexOf('(');
+				int close = frame.lastIndexOf(')');
+				if ((open > 0) && (close > open)) {
+					listener.stackFrame(frame.substring(0, open), frame.substring(open + 1, close));
+				} else {
+					listener.stackFrame(frame, "");
+				}
+			}
+		}
+	}
+
+	private void monitorLine(String tag, String value) {
+		if (IMonitorTypes.T_2LKMONINUSE.equals(tag)) {
+			/* The monitor is reported when its object is listed on the next line. */
+			endMonitor();
+			pendingMonitor = true;
+		} else if (IMonitorTypes.T_3LKMONOBJECT.equals(tag)) {
+			/* java/lang/Object@0x00000000FFF01234: owner "main" (J9VMThread:0x0000000000224000), entry count 1 */
+			int at = value.indexOf('@');
+			pendingMonitor = false;
+			listener.monitor((at > 0) ? value.substring(0, at) : UNKNOWN_MONITOR, owner(value));
+		} else if (IMonitorTypes.T_2LKREGMON.equals(tag)) {
+			/* Thread public flags mutex lock (0x00007F0A3C0089A8): <unowned> */
+			int lock = value.indexOf(" lock (");
+			endMonitor();
+			listener.monitor((lock > 0) ? value.substring(0, lock) : UNKNOWN_MONITOR, owner(value));
+		} else if (IMonitorTypes.T_3LKWAITER.equals(tag)) {
+			/* "Thread-1" (J9VMThread:0x0000000000A8F00) */
+			endMonitor();
+			listener.monitorWaiter(threadName(value));
+		}
+	}
+
+	/**
+	 * Reports a monitor in use whose object was not listed.
+	 */
+	private void endMonitor() {
+		if (pendingMonitor) {
+			pendingMonitor = false;
+			listener.monitor(UNKNOWN_MONITOR, null);
+		}
+	}
+
+	private static String threadName(String value) {
+		if (value.startsWith("\"")) {
+			int end = value.lastIndexOf('"');
+			return (end > 0) ? value.substring(1, end) : value.substring(1);
+		}
+		int comma = value.indexOf(',');
+		return (comma < 0) ? value : value.substring(0, comma);
+	}
+
+	private static String owner(String value) {
+		Matcher matcher = OWNER.matcher(value);
+		return matcher.find() ? matcher.group(1) : null;
+	}
+
+}
@@ -0,0 +1,211 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.dtfj.javacore.parser.j9;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.dtfj.javacore.parser.j9.section.title.ITitleTypes;
+
+/**
+ * Collects thread state, monitor contention and stack signature histograms
+ * from one or more javacores read by {@link JavaCoreStreamReader}.
+ * <ul>
+ * <li>thread states count the Java threads in each state (R, CW, B, P, ...)</li>
+ * <li>monitor contention counts the threads waiting to enter each monitor, keyed
+ * by the class of the locked object or the name of the system monitor</li>
+ * <li>stack signatures count the Java threads whose top frames match</li>
+ * </ul>
+ * Summaries of separate javacores can be combined with {@link #merge(JavaCoreSummary)}.
+ */
+public class JavaCoreSummary implements IJavaCoreSectionListener {
+
+	private static final String NO_JAVA_STACK = "<no Java stack>";
+	private static final String UNKNOWN_MONITOR = "<unknown>";
+
+	private final int stackDepth;
+
+	private int javacoreCount;
+	private final Map<String, Integer> threadStates = new HashMap<>();
+	private final Map<String, Integer> monitorContention = new HashMap<>();
+	private final Map<String, Integer> stackSignatures = new HashMap<>();
+	private final List<String> errors = new ArrayList<>();
+
+	/* Parsing state for the current javacore. */
+	private boolean inThread;
+	private final StringBuilder signature = new StringBuilder();
+	private int frames;
+	private String monitor;
+
+	/**
+	 * @param stackDepth the number of frames from the top of each stack used to form its signature
+	 */
+	public JavaCoreSummary(int stackDepth) {
+		if (stackDepth <= 0) {
+			throw new IllegalArgumentException("Stack depth must be positive: " + stackDepth);
+		}
+		this.stackDepth = stackDepth;
+	}
+
+	public void startSection(String section) {
+		if (ITitleTypes.TITLE_SECTION.equals(section)) {
+			javacoreCount += 1;
+		}
+		monitor = null;
+	}
+
+	public void thread(String name, String state) {
+		endThread();
+		increment(threadStates, state, 1);
+		inThread = true;
+	}
+
+	public void stackFrame(String method, String location) {
+		if (inThread && (frames < stackDepth)) {
+			if (frames > 0) {
+				signature.append(" <- ");
+			}
+			signature.append(method);
+			frames += 1;
+		}
+	}
+
+	public void monitor(String name, String owner) {
+		monitor = name;
+	}
+
+	public void monitorWaiter(String thread) {
+		increment(monitorContention, (monitor != null) ? monitor : UNKNOWN_MONITOR, 1);
+	}
+
+	public void endSection(String section) {
+		endThread();
+		monitor = null;
+	}
+
+	private void endThread() {
+		if (inThread) {
+			increment(stackSignatures, (frames == 0) ? NO_JAVA_STACK : signature.toString(), 1);
+			inThread = false;
+		}
+		signature.setLength(0);
+		frames = 0;
+	}
+
+	private static void increment(Map<String, Integer> histogram, String key, int count) {
+		Integer current = histogram.get(key);
+		histogram.put(key, Integer.valueOf((current == null) ? count : current.intValue() + count));
+	}
+
+	/**
+	 * Adds the counts from another summary to this one.
+	 *
+	 * @param other the summary to add
+	 */
+	public void merge(JavaCoreSummary other) {
+		javacoreCount += other.javacoreCount;
+		mergeHistogram(threadStates, other.threadStates);
+		mergeHistogram(monitorContention, other.monitorContention);
+		mergeHistogram(stackSignatures, other.stackSignatures);
+		errors.addAll(other.errors);
+	}
+
+	private static void mergeHistogram(Map<String, Integer> into, Map<String, Integer> from) {
+		for (Map.Entry<String, Integer> entry : from.entrySet()) {
+			increment(into, entry.getKey(), entry.getValue().intValue());
+		}
+	}
+
+	/**
+	 * Records a javacore that could not be read.
+	 *
+	 * @param message a description of the failure
+	 */
+	public void addError(String message) {
+		errors.add(message);
+	}
+
+	public int getJavaCoreCount() {
+		return javacoreCount;
+	}
+
+	public Map<String, Integer> getThreadStates() {
+		return Collections.unmodifiableMap(threadStates);
+	}
+
+	public Map<String, Integer> getMonitorContention() {
+		return Collections.unmodifiableMap(monitorContention);
+	}
+
+	public Map<String, Integer> getStackSignatures() {
+		return Collections.unmodifiableMap(stackSignatures);
+	}
+
+	public List<String> getErrors() {
+		return Collections.unmodifiableList(errors);
+	}
+
+	/**
+	 * Prints the histograms, largest counts first.
+	 *
+	 * @param out the stream to print to
+	 * @param limit the maximum number of entries to print from each histogram
+	 */
+	public void print(PrintStream out, int limit) {
+		out.println("Javacores: " + javacoreCount);
+		printHistogram(out, "Thread states", threadStates, limit);
+		printHistogram(out, "Monitor contention (threads waiting to enter)", monitorContention, limit);
+		printHistogram(out, "Stack signatures (top " + stackDepth + " frames)", stackSignatures, limit);
+		if (!errors.isEmpty()) {
+			out.println();
+			out.println("Errors:");
+			for (String error : errors) {
+				out.println("  " + error);
+			}
+		}
+	}
+
+	private static void printHistogram(PrintStream out, String title, Map<String, Integer> histogram, int limit) {
+		List<Map.Entry<String, Integer>> entries = new ArrayList<>(histogram.entrySet());
+		Collections.sort(entries, (left, right) -> {
+			int result = right.getValue().compareTo(left.getValue());
+			return (result != 0) ? result : left.getKey().compareTo(right.getKey());
+		});
+		out.println();
+		out.println(title + ":");
+		int printed = 0;
+		for (Map.Entry<String, Integer> entry : entries) {
+			if (printed >= limit) {
+				out.println("  ... " + (entries.size() - printed) + " more");
+				break;
+			}
+			out.printf("  %8d  %s%n", entry.getValue(), entry.getKey());
+			printed += 1;
+		}
+	}
+
+}
@@ -0,0 +1,372 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.dtfj.phd;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.ibm.dtfj.phd.parser.HeapdumpReader;
+import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
+import com.ibm.dtfj.phd.util.LongEnumeration;
+
+/**
+ * Index of the objects in a PHD file, so that an object can be found from its
+ * address without reading the heap from the start.
+ * <p>
+ * The objects (not classes) in the dump are split into blocks of {@link #BLOCK_SIZE},
+ * numbered in the same way as {@link PHDJavaHeap.CachedReader}. For each block the
+ * parser position of its first object and the range of addresses in the block are
+ * kept, together with the blocks sorted by lowest address. An address lookup is then
+ * a binary search followed by parsing at most one block of objects.
+ * <p>
+ * The index is built with one pass over the dump and saved next to the dump as
+ * <code>&lt;dump&gt;.phdi</code>, then memory mapped by later sessions. It is checked
+ * against the length and modification time of the dump. If it cannot be saved there,
+ * for example because the directory is read-only, it is saved in the temporary
+ * directory instead, and if that fails too it is only kept in memory.
+ * <p>
+ * The index is not saved if the system property
+ * <code>com.ibm.dtfj.phd.saveHeapIndex</code> is false.
+ */
+final class PHDHeapIndex {
+	static final boolean SAVE = Boolean.parseBoolean(System.getProperty("com.ibm.dtfj.phd.saveHeapIndex", "true"));
+	/** Number of objects in a block, the most that are parsed for a lookup */
+	static final int BLOCK_SIZE = 1024;
+	static final String SUFFIX = ".phdi";
+	private static final int MAGIC = 0x50484449; // "PHDI"
+	private static final int VERSION = 1;
+	/** magic, version, block size, block count, dump length, dump last modified */
+	private static final int HEADER_SIZE = 32;
+	/** min address, max address, offset, last address, 4 class addresses, class cache index, padding */
+	private static final int ENTRY_SIZE = 72;
+
+	private final ByteBuffer data;
+	private final int blockSize;
+	private final int blocks;
+	/** Start of the block numbers sorted by minimum address */
+	private final int sortedBase;
+	/** Start of the running maximum of the maximum addresses of the sorted blocks */
+	private final int maxBase;
+
+	private PHDHeapIndex(ByteBuffer data) {
+		this.data = data;
+		blockSize = data.getInt(8);
+		blocks = data.getInt(12);
+		sortedBase = HEADER_SIZE + blocks * ENTRY_SIZE;
+		maxBase = sortedBase + blocks * 4;
+	}
+
+	/**
+	 * Open the saved index for a dump.
+	 * @param dump the PHD file
+	 * @return the index, or null if there isn't a usable one
+	 */
+	static PHDHeapIndex open(File dump) {
+		PHDHeapIndex index = open(dump, indexFile(dump));
+		if (index == null) {
+			index = open(dump, tempIndexFile(dump));
+		}
+		return index;
+	}
+
+	private static PHDHeapIndex open(File dump, File indexFile) {
+		if (!indexFile.isFile()) return null;
+		try (RandomAccessFile raf = new RandomAccessFile(indexFile, "r")) {
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			if (size < HEADER_SIZE || size > Integer.MAX_VALUE) return null;
+			// Check the header before mapping the file, so a stale index is not left mapped
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+				// read the rest
+			}
+			if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+					|| header.getLong(16) != dump.length() || header.getLong(24) != dump.lastModified()) {
+				// Stale index for an older dump of the same name
+				return null;
+			}
+			int blocks = header.getInt(12);
+			if (header.getInt(8) <= 0 || blocks < 0 || size != length(blocks)) return null;
+			return new PHDHeapIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Build the index by reading the whole dump, and save it unless that is disabled.
+	 * @param reader a new reader for the dump, which is read to the end
+	 * @param dump the PHD file, or null if the dump is from a stream
+	 * @return the index
+	 * @throws Exception if the dump could not be read
+	 */
+	static PHDHeapIndex build(final HeapdumpReader reader, File dump) throws Exception {
+		final Builder builder = new Builder(reader);
+		builder.pending = reader.getPosition();
+		while (reader.parse(builder)) {
+			// The listener does not stop the parse, but carry on just in case
+		}
+		ByteBuffer data = builder.toBuffer(dump);
+		if (SAVE && (dump != null)) {
+			save(data, dump);
+		}
+		return new PHDHeapIndex(data);
+	}
+
+	private static File indexFile(File dump) {
+		return new File(dump.getPath() + SUFFIX);
+	}
+
+	/**
+	 * Where the index is saved if it cannot be saved next to the dump. The path of the
+	 * dump is hashed into the name, to tell apart dumps of the same name.
+	 */
+	private static File tempIndexFile(File dump) {
+		String name = dump.getName() + "." + Integer.toHexString(dump.getAbsolutePath().hashCode()) + SUFFIX;
+		return new File(System.getProperty("java.io.tmpdir"), name);
+	}
+
+	private static long length(int blocks) {
+		return HEADER_SIZE + (long)blocks * (ENTRY_SIZE + 4 + 8);
+	}
+
+	/**
+	 * Write the index next to the dump, or else in the temporary directory. Failure
+	 * is not an error as the index can always be rebuilt.
+	 */
+	private static void save(ByteBuffer data, File dump) {
+		if (!saveTo(data, indexFile(dump))) {
+			saveTo(data, tempIndexFile(dump));
+		}
+	}
+
+	private static boolean saveTo(ByteBuffer data, File indexFile) {
+		File temp = null;
+		try {
+			// A new file, so sessions saving the index at the same time do not write to the same one
+			temp = File.createTempFile(indexFile.getName() + ".", ".tmp", indexFile.getAbsoluteFile().getParentFile());
+			try (FileOutputStream fos = new FileOutputStream(temp)) {
+				FileChannel channel = fos.getChannel();
+				ByteBuffer buf = data.duplicate();
+				buf.clear();
+				while (buf.hasRemaining()) {
+					channel.write(buf);
+				}
+			}
+			indexFile.delete();
+			if (temp.renameTo(indexFile)) {
+				return true;
+			}
+			temp.delete();
+		} catch (IOException e) {
+			if (temp != null) {
+				temp.delete();
+			}
+		} catch (SecurityException e) {
+			// Not allowed to write the index
+		}
+		return false;
+	}
+
+	int blockSize() {
+		return blockSize;
+	}
+
+	int blockCount() {
+		return blocks;
+	}
+
+	/**
+	 * The block containing an object.
+	 * @param ordinal the number of the object in the dump
+	 * @return the block, or -1 if there are no blocks
+	 */
+	int blockFor(int ordinal) {
+		return Math.min(ordinal / blockSize, blocks - 1);
+	}
+
+	/**
+	 * The number of the first object in a block.
+	 */
+	int ordinal(int block) {
+		return block * blockSize;
+	}
+
+	/**
+	 * Where to start parsing to read the first object of a block.
+	 */
+	HeapdumpReader.Position position(int block) {
+		int base = HEADER_SIZE + block * ENTRY_SIZE;
+		long cache[] = new long[4];
+		for (int i = 0; i < cache.length; ++i) {
+			cache[i] = data.getLong(base + 32 + i * 8);
+		}
+		return new HeapdumpReader.Position(data.getLong(base + 16), data.getLong(base + 24), cache, data.getInt(base + 64));
+	}
+
+	private long minAddress(int block) {
+		return data.getLong(HEADER_SIZE + block * ENTRY_SIZE);
+	}
+
+	private long maxAddress(int block) {
+		return data.getLong(HEADER_SIZE + block * ENTRY_SIZE + 8);
+	}
+
+	/**
+	 * Find the blocks which might contain an object.
+	 * Normally there is just one, but the address ranges of blocks can overlap.
+	 * @param address the address of the object
+	 * @return the blocks whose address range includes the address
+	 */
+	int[] findBlocks(long address) {
+		// Last sorted block starting at or before the address
+		int lo = 0;
+		int hi = blocks - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (minAddress(data.getInt(sortedBase + mid * 4)) <= address) {
+				lo = mid + 1;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		int found[] = new int[1];
+		int n = 0;
+		// Earlier blocks can only contain the address while the running maximum reaches it
+		for (int i = hi; i >= 0 && data.getLong(maxBase + i * 8) >= address; --i) {
+			int block = data.getInt(sortedBase + i * 4);
+			if (maxAddress(block) >= address) {
+				if (n == found.length) found = Arrays.copyOf(found, n * 2);
+				found[n++] = block;
+			}
+		}
+		return Arrays.copyOf(found, n);
+	}
+
+	/**
+	 * Collects the blocks while the dump is parsed.
+	 */
+	private static final class Builder implements PortableHeapDumpListener {
+		final HeapdumpReader reader;
+		/** Parser position after the last object, the start of the next block */
+		HeapdumpReader.Position pending;
+		int count;
+		int blocks;
+		long minAddress[] = new long[64];
+		long maxAddress[] = new long[64];
+		HeapdumpReader.Position positions[] = new HeapdumpReader.Position[64];
+
+		Builder(HeapdumpReader reader) {
+			this.reader = reader;
+		}
+
+		public void classDump(long address, long superAddress, String name, int size,
+				int flags, int hashCode, LongEnumeration refs) throws Exception {
+			// Classes are found via the class loaders, not the heap
+		}
+
+		public void objectArrayDump(long address, long classAddress, int flags,
+				int hashCode, LongEnumeration refs, int length, long instanceSize) throws Exception {
+			object(address);
+		}
+
+		public void objectDump(long address, long classAddress, int flags, int hashCode,
+				LongEnumeration refs, long instanceSize) throws Exception {
+			object(address);
+		}
+
+		public void primitiveArrayDump(long address, int type, int length, int flags,
+				int hashCode, long instanceSize) throws Exception {
+			object(address);
+		}
+
+		private void object(long address) throws Exception {
+			if (count % BLOCK_SIZE == 0) {
+				if (blocks == positions.length) {
+					int newLength = blocks * 2;
+					minAddress = Arrays.copyOf(minAddress, newLength);
+					maxAddress = Arrays.copyOf(maxAddress, newLength);
+					positions = Arrays.copyOf(positions, newLength);
+				}
+				minAddress[blocks] = address;
+				maxAddress[blocks] = address;
+				positions[blocks] = pending;
+				++blocks;
+			} else {
+				minAddress[blocks - 1] = Math.min(minAddress[blocks - 1], address);
+				maxAddress[blocks - 1] = Math.max(maxAddress[blocks - 1], address);
+			}
+			++count;
+			if (count % BLOCK_SIZE == 0) {
+				// The record has been read, so this is where the next block starts
+				pending = reader.getPosition();
+			}
+		}
+
+		ByteBuffer toBuffer(File dump) throws IOException {
+			long size = length(blocks);
+			if (size > Integer.MAX_VALUE) {
+				throw new IOException("Too many objects to index");
+			}
+			ByteBuffer data = ByteBuffer.allocate((int)size);
+			data.putInt(MAGIC).putInt(VERSION).putInt(BLOCK_SIZE).putInt(blocks);
+			data.putLong(dump != null ? dump.length() : 0);
+			data.putLong(dump != null ? dump.lastModified() : 0);
+			for (int i = 0; i < blocks; ++i) {
+				HeapdumpReader.Position pos = positions[i];
+				data.putLong(minAddress[i]).putLong(maxAddress[i]);
+				data.putLong(pos.getOffset()).putLong(pos.getLastAddress());
+				for (long classAddress : pos.getClassAddressCache()) {
+					data.putLong(classAddress);
+				}
+				data.putInt(pos.getClassAddressCacheIndex()).putInt(0);
+			}
+			Integer sorted[] = new Integer[blocks];
+			for (int i = 0; i < blocks; ++i) {
+				sorted[i] = i;
+			}
+			// Stable, so blocks starting at the same address stay in dump order
+			Arrays.sort(sorted, new Comparator<Integer>() {
+				public int compare(Integer b1, Integer b2) {
+					return Long.compare(minAddress[b1], minAddress[b2]);
+				}
+			});
+			for (int i = 0; i < blocks; ++i) {
+				data.putInt(sorted[i]);
+			}
+			long max = Long.MIN_VALUE;
+			for (int i = 0; i < blocks; ++i) {
+				max = Math.max(max, maxAddress[sorted[i]]);
+				data.putLong(max);
+			}
+			data.flip();
+			return data;
+		}
+	}
+}
@@ -57,6 +57,7 @@ public class PHDImage implements ManagedImage {
 	private final Image meta;
 	private final List<HeapdumpReader> closeList = new LinkedList<HeapdumpReader>();
 	private final URI source;
+	private final PHDHeapIndex heapIndex;
 	private ManagedImageSource imageSource = null;
 
 	/** 
@@ -76,6 +77,8 @@ public class PHDImage implements ManagedImage {
 		this.file = file;
 		this.meta = meta;
 		source = null;
+		// Use the address index saved by an earlier session, if there is one
+		heapIndex = PHDHeapIndex.open(file);
 		try {
 			ImageAddressSpace metaSpace = null;
 			if (meta != null) {
@@ -118,6 +121,7 @@ public class PHDImage implements ManagedImage {
 		this.source = source;
 		this.file = null;
 		this.meta = meta;
+		heapIndex = null;
 		try {
 			ImageAddressSpace metaSpace = null;
 			if (meta != null) {
@@ -152,6 +156,14 @@ public class PHDImage implements ManagedImage {
 		}
 	}
 
+	/**
+	 * The saved index of the heap objects, opened with the dump.
+	 * @return the index, or null if there is no valid saved index
+	 */
+	PHDHeapIndex getHeapIndex() {
+		return heapIndex;
+	}
+
 	public Iterator<ImageAddressSpace> getAddressSpaces() {
 		return addressList.iterator();
 	}
@@ -69,6 +69,16 @@ class PHDJavaHeap implements JavaHeap {
 	/** Flag used to show that all the CacheHeapSegments are set up */
 	private boolean doneScan;
 	private boolean lastSegment;
+	/** Index of the objects by address, built or opened on the first lookup not satisfied by the cache */
+	private PHDHeapIndex index;
+	private boolean indexTried;
+	/** The last block read via the index, as consecutive lookups are often close together */
+	private int indexBlock = -1;
+	private boolean indexBlockWithRefs;
+	private SoftReference<Map<AddressKey,JavaObject>> indexBlockObjects;
+	/** All the objects in primitive form, used instead of the caches if enabled */
+	private PHDObjectGraph graph;
+	private boolean graphTried;
 	
 	PHDJavaHeap(ImageInputStream stream, final PHDImage parentImage, ImageAddressSpace space, PHDJavaRuntime runtime) throws IOException {
 		this.image = parentImage;
@@ -278,6 +288,8 @@ class PHDJavaHeap implements JavaHeap {
 		File file;
 		ImageInputStream stream;
 		final PHDImage parentImage;
+		/** If set, used to start new readers part way through the heap */
+		PHDHeapIndex index;
 		class ReaderPos {
 			int where;
 			HeapdumpReader reader;
@@ -289,7 +301,17 @@ class PHDJavaHeap implements JavaHeap {
 				}
 				where = 0;
 			}
+			/**
+			 * Skip forward to the start of a block of the index.
+			 */
+			void skipTo(int block) throws IOException {
+				if (reader.setPosition(index.position(block))) {
+					where = index.ordinal(block);
+				}
+			}
 		}
+		/** Limit on saved readers, as with an index each lookup can resume from a different place */
+		private static final int MAX_READERS = 16;
 		List<ReaderPos> readers = new ArrayList<ReaderPos>();
 		CachedReader(File f, PHDImage parentImage) {
 			file = f;
@@ -311,9 +333,19 @@ class PHDJavaHeap implements JavaHeap {
 			} else {
 				readers.remove(best);
 			}
+			int block = index != null ? index.blockFor(n) : -1;
+			if (block > 0 && best.where < index.ordinal(block)) {
+				// Skip to the start of the block rather than reading all the objects before it
+				best.skipTo(block);
+			}
 			return best;
 		}
 		void returnReader(ReaderPos rdr) {
+			if (readers.size() >= MAX_READERS) {
+				ReaderPos oldest = readers.remove(0);
+				oldest.reader.close();
+				parentImage.unregisterReader(oldest.reader);
+			}
 			readers.add(rdr);
 		}
 	}
@@ -387,7 +419,19 @@ class PHDJavaHeap implements JavaHeap {
 	 */
 	private static final long NOREFS[]={};
 	Map<AddressKey,JavaObject> getObjects(final int maxsize, final int next[], final boolean withRefs) throws IOException {
+		return getObjects(maxsize, Integer.MAX_VALUE, next, withRefs);
+	}
+
+	/**
+	 * Read a chunk of objects
+	 * @param maxsize number of refs to collect
+	 * @param maxObjects maximum number of objects to collect
+	 * @param next Start at object count[0], update count[0] to position after last object in iterator
+	 * @return
+	 */
+	private Map<AddressKey,JavaObject> getObjects(final int maxsize, final int maxObjects, final int next[], final boolean withRefs) throws IOException {
 		if (LOG) System.err.println("GetObjects "+next[0]+" "+withRefs);
+		final long end = (long)next[0] + maxObjects;
 		final Map<AddressKey,JavaObject> objects = new LinkedHashMap<AddressKey,JavaObject>();
 		final PHDJavaHeap heap = this;
 		// Size of a reference
@@ -424,7 +468,7 @@ class PHDJavaHeap implements JavaHeap {
 							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),jo);
 							next[0] = rdr.where;
 						}
-						if (total >= maxsize) rdr.reader.exitParse();
+						if (total >= maxsize || rdr.where >= end) rdr.reader.exitParse();
 					}
 					current[0] = 0;
 				}
@@ -445,7 +489,7 @@ class PHDJavaHeap implements JavaHeap {
 							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),jo);
 							next[0] = rdr.where;
 						}
-						if (total >= maxsize) rdr.reader.exitParse();
+						if (total >= maxsize || rdr.where >= end) rdr.reader.exitParse();
 					}
 					current[0] = 0;
 				}
@@ -462,7 +506,7 @@ class PHDJavaHeap implements JavaHeap {
 							.refsAsArray(NOREFS,0).length(length).instanceSize(instanceSize).build());
 							next[0] = rdr.where;
 						}
-						if (total >= maxsize) rdr.reader.exitParse();
+						if (total >= maxsize || rdr.where >= end) rdr.reader.exitParse();
 					}
 					current[0] = 0;
 				}
@@ -557,6 +601,11 @@ class PHDJavaHeap implements JavaHeap {
 	}
 	
 	JavaObject getCachedObjectAtAddress(ImagePointer address, boolean withRefs) throws IOException {
+		PHDObjectGraph g = getGraph();
+		if (g != null) {
+			int object = g.find(address.getAddress());
+			return object >= 0 ? g.getObject(this, object) : null;
+		}
 		for (CacheHeapSegment seg : cache.values()) {
 			SoftReference<Map<AddressKey,JavaObject>>sr = seg.objects;
 			Map<AddressKey,JavaObject>map = sr.get();
@@ -588,7 +637,16 @@ class PHDJavaHeap implements JavaHeap {
 		} catch (IOException e) {
 			// allow to fall through
 		}
-		if (jo != null) return jo;
+		if (jo != null || graph != null) return jo;
+		PHDHeapIndex idx = getIndex();
+		if (idx != null) {
+			try {
+				// The index covers every object, so there is no need to scan the heap if not found
+				return getIndexedObjectAtAddress(idx, address, withRefs);
+			} catch (IOException e) {
+				return null;
+			}
+		}
 		if (!doneScan) {
 			try {
 				jo = getObjectAtAddress3(address, withRefs);
@@ -599,6 +657,101 @@ class PHDJavaHeap implements JavaHeap {
 		return jo;
 	}
 
+	boolean isJ9V4() {
+		return isJ9V4;
+	}
+
+	/**
+	 * Get the primitive form of all the objects, building it if enabled and not yet built.
+	 * @return the graph, or null if not enabled or it could not be built
+	 */
+	PHDObjectGraph getGraph() {
+		if (!graphTried && PHDObjectGraph.ENABLED) {
+			graphTried = true;
+			HeapdumpReader reader = null;
+			try {
+				if (stream == null) {
+					reader = new HeapdumpReader(file, image);
+				} else {
+					reader = new HeapdumpReader(stream, image);
+				}
+				graph = PHDObjectGraph.build(reader);
+			} catch (Exception e) {
+				// Fall back to the caches
+				graph = null;
+			} catch (OutOfMemoryError e) {
+				// Fall back to the caches
+				graph = null;
+			} finally {
+				if (reader != null) {
+					reader.close();
+					image.unregisterReader(reader);
+				}
+			}
+		}
+		return graph;
+	}
+
+	/**
+	 * Get the index of objects by address, opening or building it if required.
+	 * @return the index, or null if it could not be built
+	 */
+	private PHDHeapIndex getIndex() {
+		if (!indexTried) {
+			indexTried = true;
+			index = image.getHeapIndex();
+			if (index == null) {
+				HeapdumpReader reader = null;
+				try {
+					if (stream == null) {
+						reader = new HeapdumpReader(file, image);
+					} else {
+						reader = new HeapdumpReader(stream, image);
+					}
+					index = PHDHeapIndex.build(reader, file);
+				} catch (Exception e) {
+					// Fall back to scanning the heap
+					index = null;
+				} finally {
+					if (reader != null) {
+						reader.close();
+						image.unregisterReader(reader);
+					}
+				}
+			}
+			readerCache.index = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Find an object in the heap using the index.
+	 * Only the blocks of objects which might hold the address are read.
+	 * @throws IOException 
+	 */
+	private JavaObject getIndexedObjectAtAddress(PHDHeapIndex idx, ImagePointer address, boolean withRefs) throws IOException {
+		AddressKey key = AddressKey.getAddress(this, address.getAddress());
+		for (int block : idx.findBlocks(address.getAddress())) {
+			Map<AddressKey,JavaObject> objects = null;
+			if (block == indexBlock && (indexBlockWithRefs || !withRefs)) {
+				objects = indexBlockObjects.get();
+			}
+			if (objects == null) {
+				int next[] = new int[]{idx.ordinal(block)};
+				objects = getObjects(Integer.MAX_VALUE, idx.blockSize(), next, withRefs);
+				indexBlock = block;
+				indexBlockWithRefs = withRefs;
+				indexBlockObjects = new SoftReference<Map<AddressKey,JavaObject>>(objects);
+			}
+			JavaObject jo = objects.get(key);
+			if (jo != null) {
+				// Found object
+				return jo;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Find an object in the heap
 	 * Populate each chunk, then search each chunk directly
@@ -650,6 +803,25 @@ class PHDJavaHeap implements JavaHeap {
 	 */
 	public Iterator<JavaObject> getObjects() {
 		final PHDJavaHeap heap = this;
+		final PHDObjectGraph g = getGraph();
+		if (g != null) {
+			return new Iterator<JavaObject>() {
+				int next;
+
+				public boolean hasNext() {
+					return next < g.size();
+				}
+
+				public JavaObject next() {
+					if (!hasNext()) throw new NoSuchElementException();
+					return g.getObject(heap, next++);
+				}
+
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
 		try {
 			return new Iterator<JavaObject>() {
 				HeapdumpReader reader = null;
@@ -0,0 +1,329 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.dtfj.phd;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.phd.parser.HeapdumpReader;
+import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
+import com.ibm.dtfj.phd.util.BitStream;
+import com.ibm.dtfj.phd.util.LongArray;
+import com.ibm.dtfj.phd.util.LongEnumeration;
+import com.ibm.dtfj.phd.util.SortListener;
+
+/**
+ * All the objects in a PHD file held in primitive columns rather than as
+ * PHDJavaObjects, for analysing dumps with many objects.
+ * <p>
+ * Objects are numbered in dump order, as for {@link PHDJavaHeap.CachedReader}. For each
+ * object the address, type, length, flags, hash code and instance size are held in
+ * three LongArrays, about 24 bytes per object. The references are held as a compressed
+ * sparse row adjacency list: the start of the references of each object and then the
+ * target object numbers packed in a BitStream using just enough bits for the largest number.
+ * References to things which are not objects in the heap, such as classes, are numbered
+ * after the objects and their addresses kept separately.
+ * <p>
+ * PHDJavaObjects are created from the columns when required and are not cached.
+ * Enabled with -Dcom.ibm.dtfj.phd.objectGraph=true
+ */
+final class PHDObjectGraph {
+	static final boolean ENABLED = Boolean.getBoolean("com.ibm.dtfj.phd.objectGraph");
+	/** Class numbers 0-7 are the primitive array types, see {@link PHDJavaRuntime#findArrayOfType(int)} */
+	private static final int PRIMITIVE_TYPES = 8;
+	private static final int CLASS_MASK = 0x3fffffff;
+	/** Instance size in the dump is in 4 byte words, this marks an unspecified size */
+	private static final long NO_SIZE = 0xffffffffL;
+	private static final long NOREFS[] = {};
+
+	private final int count;
+	/** Address of each object */
+	private final LongArray addresses;
+	/** flags:2 class number:30 array length:32, length -1 for a simple object */
+	private final LongArray types;
+	/** hash code:32 instance size in words:32 */
+	private final LongArray hashes;
+	/** Class addresses by class number */
+	private final LongArray classes;
+	/** Start of the references of each object, with an extra entry for the end */
+	private final LongArray refStart;
+	private final BitStream refs;
+	private final int refBits;
+	/** Addresses of reference targets which are not objects in the heap */
+	private final LongArray external;
+	/** Addresses in ascending order and the matching object numbers, or null if the objects are already in address order */
+	private final LongArray sortedAddresses;
+	private final LongArray sortedOrder;
+
+	private PHDObjectGraph(Builder b) {
+		count = b.addresses.size();
+		addresses = b.addresses;
+		types = b.types;
+		hashes = b.hashes;
+		classes = b.classes;
+		refStart = b.refStart;
+		external = new LongArray();
+		if (b.sorted) {
+			sortedAddresses = null;
+			sortedOrder = null;
+		} else {
+			sortedAddresses = (LongArray)addresses.clone();
+			final LongArray order = new LongArray(count);
+			for (int i = 0; i < count; ++i) {
+				order.put(i, i);
+			}
+			sortedAddresses.sort(new SortListener() {
+				public void swap(int a, int c) {
+					order.swap(a, c);
+				}
+			});
+			sortedOrder = order;
+		}
+		// Resolve the reference addresses in place to object numbers, or -1 - external number
+		LongArray refAddresses = b.refAddresses;
+		Map<Long,Integer> externalNumbers = new HashMap<Long,Integer>();
+		for (int i = 0; i < refAddresses.size(); ++i) {
+			long addr = refAddresses.get(i);
+			int target = find(addr);
+			if (target < 0) {
+				Integer n = externalNumbers.get(addr);
+				if (n == null) {
+					n = external.size();
+					externalNumbers.put(addr, n);
+					external.add(addr);
+				}
+				target = -1 - n;
+			}
+			refAddresses.put(i, target);
+		}
+		refBits = bits(count + external.size());
+		refs = new BitStream();
+		for (int i = 0; i < refAddresses.size(); ++i) {
+			long target = refAddresses.get(i);
+			refs.writeIntBits((int)(target >= 0 ? target : count - 1 - target), refBits);
+		}
+		refs.compact();
+	}
+
+	private static int bits(int max) {
+		int bits = 1;
+		while (bits < 31 && (1L << bits) <= max) {
+			++bits;
+		}
+		return bits;
+	}
+
+	/**
+	 * Build the graph by reading the whole dump.
+	 * @param reader a new reader for the dump, which is read to the end
+	 * @return the graph
+	 * @throws Exception if the dump could not be read
+	 */
+	static PHDObjectGraph build(HeapdumpReader reader) throws Exception {
+		Builder builder = new Builder();
+		while (reader.parse(builder)) {
+			// The listener does not stop the parse, but carry on just in case
+		}
+		return new PHDObjectGraph(builder);
+	}
+
+	/**
+	 * Number of objects in the heap.
+	 */
+	int size() {
+		return count;
+	}
+
+	long getAddress(int object) {
+		return addresses.get(object);
+	}
+
+	/**
+	 * Find an object from its address.
+	 * @param address
+	 * @return the object number, or -1 if there is no object at the address
+	 */
+	int find(long address) {
+		if (sortedAddresses == null) {
+			return addresses.indexOf(address);
+		}
+		int i = sortedAddresses.indexOf(address);
+		return i >= 0 ? (int)sortedOrder.get(i) : -1;
+	}
+
+	/**
+	 * The instance size given in the dump.
+	 * @return the size, or PHDJavaObject.UNSPECIFIED_INSTANCE_SIZE
+	 */
+	long getInstanceSize(int object) {
+		long words = hashes.get(object) & NO_SIZE;
+		return words == NO_SIZE ? PHDJavaObject.UNSPECIFIED_INSTANCE_SIZE : words * 4;
+	}
+
+	int getReferenceCount(int object) {
+		return (int)(refStart.get(object + 1) - refStart.get(object));
+	}
+
+	/**
+	 * The target of a reference from an object.
+	 * @param object
+	 * @param i the number of the reference
+	 * @return the target object number, or -1 if the target is not an object in the heap
+	 */
+	int getReference(int object, int i) {
+		int target = readRef(refStart.get(object) + i);
+		return target < count ? target : -1;
+	}
+
+	private long getReferenceAddress(long ref) {
+		int target = readRef(ref);
+		return target < count ? addresses.get(target) : external.get(target - count);
+	}
+
+	private int readRef(long ref) {
+		long bit = ref * refBits;
+		return refs.readIntBits(refBits, (int)(bit >>> 5), (int)(bit & 31));
+	}
+
+	/**
+	 * Create a JavaObject from the columns.
+	 * @param heap
+	 * @param object the object number
+	 * @return the object with its references
+	 */
+	JavaObject getObject(PHDJavaHeap heap, int object) {
+		PHDJavaRuntime runtime = heap.getJavaRuntime();
+		long address = addresses.get(object);
+		long type = types.get(object);
+		int flags = (int)(type >>> 62);
+		int classNumber = (int)(type >>> 32) & CLASS_MASK;
+		int length = (int)type;
+		int hashCode = (int)(hashes.get(object) >>> 32);
+		long instanceSize = getInstanceSize(object);
+		long start = refStart.get(object);
+		long objRefs[] = new long[getReferenceCount(object)];
+		for (int i = 0; i < objRefs.length; ++i) {
+			objRefs[i] = getReferenceAddress(start + i);
+		}
+		if (classNumber < PRIMITIVE_TYPES) {
+			return new PHDJavaObject.Builder(heap,address,runtime.findArrayOfType(classNumber),flags,hashCode)
+				.refsAsArray(NOREFS,0).length(length).instanceSize(instanceSize).build();
+		}
+		long classAddress = classes.get(classNumber);
+		if (length == PHDJavaObject.SIMPLE_OBJECT) {
+			return new PHDJavaObject.Builder(heap,address,runtime.findClass(classAddress),flags,hashCode)
+				.refsAsArray(objRefs,0).length(PHDJavaObject.SIMPLE_OBJECT).instanceSize(instanceSize).build();
+		}
+		// Some J9 versions give the array type as the first reference
+		int adjustLen = heap.isJ9V4() ? 1 : 0;
+		int adjustLen2 = Math.min(adjustLen, objRefs.length);
+		JavaClass cls;
+		try {
+			cls = runtime.arrayOf(classAddress, objRefs, adjustLen);
+		} catch (CorruptDataException e) {
+			cls = null;
+		}
+		PHDJavaObject.Builder b = new PHDJavaObject.Builder(heap,address,cls,flags,hashCode)
+			.length(length-adjustLen2).instanceSize(instanceSize);
+		return (objRefs.length > adjustLen2 ? b.refsAsArray(objRefs,adjustLen2) : b.refsAsArray(NOREFS,0)).build();
+	}
+
+	/**
+	 * Collects the columns while the dump is parsed.
+	 */
+	private static final class Builder implements PortableHeapDumpListener {
+		final LongArray addresses = new LongArray();
+		final LongArray types = new LongArray();
+		final LongArray hashes = new LongArray();
+		final LongArray classes = new LongArray();
+		final LongArray refStart = new LongArray();
+		/** Reference targets as addresses until all the objects are known */
+		final LongArray refAddresses = new LongArray();
+		final Map<Long,Integer> classNumbers = new HashMap<Long,Integer>();
+		boolean sorted = true;
+
+		Builder() {
+			for (int i = 0; i < PRIMITIVE_TYPES; ++i) {
+				classes.add(i);
+			}
+			refStart.add(0);
+		}
+
+		public void classDump(long address, long superAddress, String name, int size,
+				int flags, int hashCode, LongEnumeration refs) throws Exception {
+			// Classes are found via the class loaders, not the heap
+		}
+
+		public void objectArrayDump(long address, long classAddress, int flags,
+				int hashCode, LongEnumeration refs, int length, long instanceSize) throws Exception {
+			object(address, classNumber(classAddress), length, flags, hashCode, instanceSize, refs);
+		}
+
+		public void objectDump(long address, long classAddress, int flags, int hashCode,
+				LongEnumeration refs, long instanceSize) throws Exception {
+			object(address, classNumber(classAddress), PHDJavaObject.SIMPLE_OBJECT, flags, hashCode, instanceSize, refs);
+		}
+
+		public void primitiveArrayDump(long address, int type, int length, int flags,
+				int hashCode, long instanceSize) throws Exception {
+			object(address, type, length, flags, hashCode, instanceSize, null);
+		}
+
+		private int classNumber(long classAddress) {
+			Integer n = classNumbers.get(classAddress);
+			if (n == null) {
+				n = classes.size();
+				classNumbers.put(classAddress, n);
+				classes.add(classAddress);
+			}
+			return n;
+		}
+
+		private void object(long address, int classNumber, int length, int flags, int hashCode,
+				long instanceSize, LongEnumeration refs) {
+			int n = addresses.size();
+			if (n == Integer.MAX_VALUE - 1) {
+				throw new IllegalStateException("Too many objects");
+			}
+			if (n > 0 && addresses.get(n - 1) > address) {
+				sorted = false;
+			}
+			addresses.add(address);
+			types.add((long)(flags & 3) << 62 | (long)classNumber << 32 | length & 0xffffffffL);
+			long words = instanceSize == PHDJavaObject.UNSPECIFIED_INSTANCE_SIZE ? NO_SIZE : instanceSize >>> 2;
+			hashes.add((long)hashCode << 32 | words);
+			if (refs != null) {
+				if (refs.numberOfElements() > Integer.MAX_VALUE - 1 - refAddresses.size()) {
+					throw new IllegalStateException("Too many references");
+				}
+				while (refs.hasMoreElements()) {
+					refAddresses.add(refs.nextLong());
+				}
+			}
+			refStart.add(refAddresses.size());
+		}
+	}
+}
@@ -23,7 +23,10 @@
 package com.ibm.dtfj.phd.parser;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
 import java.util.Vector;
 
 import javax.imageio.stream.ImageInputStream;
@@ -40,6 +43,8 @@ import com.ibm.dtfj.phd.PHDJavaObject;
 public class HeapdumpReader extends Base {
 
 	private static final long MAX_UNSIGNED_INT_AS_LONG = 0xffffffffL;
+	/** Dump flag for the records being in compressed chunks, see {@link #isCompressed()} */
+	private static final int COMPRESSED_FLAG = 8;
 	String filename;
 	DataStreamAdapter dis;
 	long lastAddress;
@@ -226,6 +231,11 @@ public class HeapdumpReader extends Base {
 			tag = dis.readUnsignedByte();
 			Assert(tag == HeapdumpWriter.START_OF_DUMP);
 			if (dbg) System.out.println("read start of dump tag");
+			if (isCompressed()) {
+				// The records follow as compressed chunks, read them as one uncompressed stream
+				dis = new DataStreamAdapter(new ChunkInputStream(dis));
+				if (dbg) System.out.println("reading compressed chunks");
+			}
 		} catch (Exception e) {
 			IOException ioe = new IOException("Error parsing PHD file");
 			ioe.initCause(e);
@@ -261,6 +271,15 @@ public class HeapdumpReader extends Base {
 		return j9;
 	}
 	
+	/**
+	 * Returns true if the records of this heap dump are in compressed chunks
+	 * (written with -Xdump:heap:opts=PHD+COMPRESS). This is handled by the reader,
+	 * offsets in {@link Position} are always those of the uncompressed dump.
+	 */
+	public boolean isCompressed() {
+		return (dumpFlags & COMPRESSED_FLAG) != 0;
+	}
+
 	/**
 	 * Returns true all objects in this heap dump
 	 * will have hashcodes set, regardless of the
@@ -453,6 +472,71 @@ public class HeapdumpReader extends Base {
 	public void exitParse() {
 		continueParse = false;
 	}
+
+	/**
+	 * A point between two records in the dump from which parsing can be resumed.
+	 * As addresses are encoded relative to the previous record and short object
+	 * records refer to recently seen classes, the parser state is saved as well
+	 * as the offset in the (uncompressed) dump.
+	 */
+	public static final class Position {
+		private final long offset;
+		private final long lastAddress;
+		private final long[] classAddressCache;
+		private final int classAddressCacheIndex;
+
+		public Position(long offset, long lastAddress, long[] classAddressCache, int classAddressCacheIndex) {
+			this.offset = offset;
+			this.lastAddress = lastAddress;
+			this.classAddressCache = classAddressCache.clone();
+			this.classAddressCacheIndex = classAddressCacheIndex;
+		}
+
+		/**
+		 * Returns the offset of the next record from the start of the dump.
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		public long getLastAddress() {
+			return lastAddress;
+		}
+
+		public long[] getClassAddressCache() {
+			return classAddressCache.clone();
+		}
+
+		public int getClassAddressCacheIndex() {
+			return classAddressCacheIndex;
+		}
+	}
+
+	/**
+	 * Returns the current position of the parser. Only meaningful between records,
+	 * for example from a {@link PortableHeapDumpListener} callback or after
+	 * {@link #parse} has returned.
+	 */
+	public Position getPosition() throws IOException {
+		return new Position(dis.position(), lastAddress, classAddressCache, classAddressCacheIndex);
+	}
+
+	/**
+	 * Move the parser to a position previously returned by {@link #getPosition()} on
+	 * a reader for the same dump, so the next call to {@link #parse} resumes there.
+	 * @return false if the position is before the current position and the
+	 * underlying stream cannot be moved backwards, in which case nothing is changed
+	 */
+	public boolean setPosition(Position pos) throws IOException {
+		if (!dis.seek(pos.offset)) {
+			return false;
+		}
+		lastAddress = pos.lastAddress;
+		System.arraycopy(pos.classAddressCache, 0, classAddressCache, 0, classAddressCache.length);
+		classAddressCacheIndex = pos.classAddressCacheIndex;
+		return true;
+	}
+
 	/**
 	 *  Parse the heapdump. This uses callbacks via the PortableHeapDumpListener interface. Any
 	 *  exceptions that the listener raises are propagated back.
@@ -461,6 +545,12 @@ public class HeapdumpReader extends Base {
 	public boolean parse(PortableHeapDumpListener listener) throws Exception {
 		long address = 0;
 		for (continueParse = true; continueParse;) {
+			if (dis.startOfChunk()) {
+				// Each compressed chunk starts with no previous address or cached classes
+				lastAddress = 0;
+				Arrays.fill(classAddressCache, 0);
+				classAddressCacheIndex = 0;
+			}
 			int tag = dis.readUnsignedByte();
 			if (dbg) System.out.println("read tag " + hex(tag));
 			if ((tag & 0x80) != 0) {
@@ -716,22 +806,37 @@ public class HeapdumpReader extends Base {
 	private class DataStreamAdapter {
 		private final DataInputStream dis;
 		private final ImageInputStream iis;
+		// The uncompressed records of a compressed dump, read through dis
+		private final ChunkInputStream chunks;
+		// Bytes read so far from dis, an ImageInputStream tracks its own position
+		private long position;
+		private long markPosition;
 		
 		public DataStreamAdapter(ImageInputStream iis) {
 			this.iis = iis;
 			dis = null;
+			chunks = null;
 		}
 		
 		public DataStreamAdapter(DataInputStream dis) {
 			this.dis = dis;
 			iis = null;
+			chunks = null;
+		}
+
+		public DataStreamAdapter(ChunkInputStream chunks) {
+			this.chunks = chunks;
+			dis = new DataInputStream(chunks);
+			iis = null;
 		}
 		
 		public int readInt() throws IOException {
 			if(dis == null) {
 				return iis.readInt();
 			} else {
-				return dis.readInt();
+				int val = dis.readInt();
+				position += 4;
+				return val;
 			}
 		}
 		
@@ -739,7 +844,9 @@ public class HeapdumpReader extends Base {
 			if(dis == null) {
 				return iis.readUnsignedShort();
 			} else {
-				return dis.readUnsignedShort();
+				int val = dis.readUnsignedShort();
+				position += 2;
+				return val;
 			}
 		}
 		
@@ -747,7 +854,9 @@ public class HeapdumpReader extends Base {
 			if(dis == null) {
 				return iis.readUnsignedByte();
 			} else {
-				return dis.readUnsignedByte();
+				int val = dis.readUnsignedByte();
+				position += 1;
+				return val;
 			}
 		}
 		
@@ -756,6 +865,7 @@ public class HeapdumpReader extends Base {
 				iis.mark();		//iis mark doesn't take a parameter
 			} else {
 				dis.mark(readlimit);
+				markPosition = position;
 			}
 		}
 		
@@ -764,6 +874,7 @@ public class HeapdumpReader extends Base {
 				iis.reset();
 			} else {
 				dis.reset();
+				position = markPosition;
 			}
 		}
 		
@@ -771,7 +882,9 @@ public class HeapdumpReader extends Base {
 			if(dis == null) {
 				return iis.readLong();
 			} else {
-				return dis.readLong();
+				long val = dis.readLong();
+				position += 8;
+				return val;
 			}
 		}
 		
@@ -779,7 +892,9 @@ public class HeapdumpReader extends Base {
 			if(dis == null) {
 				return iis.readShort();
 			} else {
-				return dis.readShort();
+				short val = dis.readShort();
+				position += 2;
+				return val;
 			}
 		}
 		
@@ -787,7 +902,9 @@ public class HeapdumpReader extends Base {
 			if(dis == null) {
 				return iis.readByte();
 			} else {
-				return dis.readByte();
+				byte val = dis.readByte();
+				position += 1;
+				return val;
 			}
 		}
 		
@@ -796,12 +913,66 @@ public class HeapdumpReader extends Base {
 				iis.readFully(buffer);
 			} else {
 				dis.readFully(buffer);
+				position += buffer.length;
+			}
+		}
+
+		public void readFully(byte[] buffer, int length) throws IOException {
+			if(dis == null) {
+				iis.readFully(buffer, 0, length);
+			} else {
+				dis.readFully(buffer, 0, length);
+				position += length;
+			}
+		}
+		
+		public long position() throws IOException {
+			if(dis == null) {
+				return iis.getStreamPosition();
+			} else if (chunks != null) {
+				return chunks.position();
+			} else {
+				return position;
+			}
+		}
+
+		/**
+		 * @return true if the next record is the first of a compressed chunk
+		 */
+		public boolean startOfChunk() throws IOException {
+			return chunks != null && chunks.startOfChunk();
+		}
+		
+		/**
+		 * Move to the given offset. A DataInputStream can only be skipped forwards,
+		 * but for a plain file that is a seek rather than a read.
+		 * @return false if the offset can't be reached
+		 */
+		public boolean seek(long offset) throws IOException {
+			if(dis == null) {
+				iis.seek(offset);
+				return true;
+			} else if (chunks != null) {
+				return chunks.seek(offset);
+			} else if (offset < position) {
+				return false;
+			} else {
+				while (position < offset) {
+					int skipped = dis.skipBytes((int)Math.min(offset - position, Integer.MAX_VALUE));
+					if (skipped <= 0) {
+						throw new EOFException("Unable to skip to offset " + offset + " of " + filename);
+					}
+					position += skipped;
+				}
+				return true;
 			}
 		}
 		
 		public void close() throws IOException {
 			if(dis == null) {
 				//ignore and do not close the image input stream as this will be handled by the PHD Image
+			} else if (chunks != null) {
+				chunks.close();
 			} else {
 				dis.close();
 			}
@@ -811,9 +982,219 @@ public class HeapdumpReader extends Base {
 		public void releaseResources() throws IOException {
 			if(dis == null) {
 				iis.close();
+			} else if (chunks != null) {
+				chunks.releaseResources();
 			} else {
 				dis.close();
 			}
 		}
 	}
+
+	/**
+	 * The records of a compressed dump as one uncompressed stream.
+	 * <p>
+	 * After the header the records are in chunks, each being the compressed length (int),
+	 * the uncompressed length (int) and the deflated records. A chunk with an uncompressed
+	 * length of zero ends the dump. The position is the offset in the uncompressed dump,
+	 * that is the header followed by the uncompressed chunks.
+	 * <p>
+	 * Each chunk can be parsed on its own, so a seek only has to inflate the chunk containing
+	 * the offset: the chunks in between are skipped using their lengths. The start of every
+	 * chunk seen is remembered, so an ImageInputStream can also seek backwards.
+	 */
+	private final class ChunkInputStream extends InputStream {
+		private final DataStreamAdapter raw;
+		private final Inflater inflater = new Inflater();
+		// Uncompressed and file offsets of the chunks whose start is known, the last
+		// one's header has not been read yet unless the end has been reached
+		private long[] chunkStarts = new long[16];
+		private long[] chunkOffsets = new long[16];
+		private int known = 1;
+		private boolean ended;
+		// The uncompressed data of the current chunk
+		private int current = -1;
+		private byte[] data = new byte[0];
+		private byte[] compressed = new byte[0];
+		private int length;
+		private int pos;
+
+		ChunkInputStream(DataStreamAdapter raw) throws IOException {
+			this.raw = raw;
+			chunkStarts[0] = raw.position();
+			chunkOffsets[0] = chunkStarts[0];
+		}
+
+		long position() {
+			return current < 0 ? chunkStarts[0] : chunkStarts[current] + pos;
+		}
+
+		/**
+		 * @return true if the next byte is the first of a chunk
+		 */
+		boolean startOfChunk() throws IOException {
+			if (pos == length) {
+				nextChunk();
+			}
+			return pos == 0 && length > 0;
+		}
+
+		public int read() throws IOException {
+			if (pos == length && !nextChunk()) {
+				return -1;
+			}
+			return data[pos++] & 0xff;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (pos == length && !nextChunk()) {
+				return -1;
+			}
+			int n = Math.min(len, length - pos);
+			System.arraycopy(data, pos, b, off, n);
+			pos += n;
+			return n;
+		}
+
+		/**
+		 * Move to an offset in the uncompressed dump.
+		 * @return false if the offset is in an earlier chunk and the file can't be read backwards
+		 */
+		boolean seek(long offset) throws IOException {
+			if (current >= 0 && offset >= chunkStarts[current] && offset <= chunkStarts[current] + length) {
+				pos = (int)(offset - chunkStarts[current]);
+				return true;
+			}
+			// Skip over chunks until the one containing the offset, without inflating them
+			while (!ended && chunkStarts[known - 1] <= offset) {
+				if (!readHeader()) {
+					return false;
+				}
+			}
+			int chunk = Arrays.binarySearch(chunkStarts, 0, known, offset);
+			if (chunk < 0) {
+				chunk = -chunk - 2;
+			}
+			if (chunk < 0 || (ended && chunk == known - 1 && offset > chunkStarts[chunk])) {
+				throw new EOFException("Unable to seek to offset " + offset + " of " + filename);
+			}
+			if (ended && chunk == known - 1) {
+				// The end of the dump, which is the end of the last chunk
+				if (chunk == 0) {
+					current = -1;
+					length = pos = 0;
+					return true;
+				}
+				if (!load(chunk - 1)) {
+					return false;
+				}
+				pos = length;
+				return true;
+			}
+			if (!load(chunk)) {
+				return false;
+			}
+			pos = (int)(offset - chunkStarts[chunk]);
+			return true;
+		}
+
+		private boolean nextChunk() throws IOException {
+			int next = current + 1;
+			while (!ended && next + 1 >= known) {
+				if (!readHeader()) {
+					throw new IOException("Unable to read compressed chunk " + next + " of " + filename);
+				}
+			}
+			if (next + 1 >= known) {
+				// Only the empty chunk at the end remains
+				return false;
+			}
+			if (!load(next)) {
+				throw new IOException("Unable to read compressed chunk " + next + " of " + filename);
+			}
+			return true;
+		}
+
+		/**
+		 * Read the header of the last chunk whose start is known, which gives the start of the next one.
+		 */
+		private boolean readHeader() throws IOException {
+			int chunk = known - 1;
+			if (!raw.seek(chunkOffsets[chunk])) {
+				return false;
+			}
+			int compressedLength = raw.readInt();
+			int uncompressedLength = raw.readInt();
+			if (compressedLength < 0 || uncompressedLength < 0) {
+				throw new IOException("Corrupt compressed chunk " + chunk + " of " + filename);
+			}
+			if (uncompressedLength == 0) {
+				ended = true;
+				return true;
+			}
+			if (known == chunkStarts.length) {
+				chunkStarts = Arrays.copyOf(chunkStarts, known * 2);
+				chunkOffsets = Arrays.copyOf(chunkOffsets, known * 2);
+			}
+			chunkStarts[known] = chunkStarts[chunk] + uncompressedLength;
+			chunkOffsets[known] = chunkOffsets[chunk] + 8 + compressedLength;
+			known++;
+			return true;
+		}
+
+		/**
+		 * Inflate a chunk whose header has been read.
+		 */
+		private boolean load(int chunk) throws IOException {
+			if (chunk == current) {
+				return true;
+			}
+			if (!raw.seek(chunkOffsets[chunk] + 8)) {
+				return false;
+			}
+			int compressedLength = (int)(chunkOffsets[chunk + 1] - chunkOffsets[chunk] - 8);
+			int uncompressedLength = (int)(chunkStarts[chunk + 1] - chunkStarts[chunk]);
+			if (compressed.length < compressedLength) {
+				compressed = new byte[compressedLength];
+			}
+			if (data.length < uncompressedLength) {
+				data = new byte[uncompressedLength];
+			}
+			raw.readFully(compressed, compressedLength);
+			inflater.reset();
+			inflater.setInput(compressed, 0, compressedLength);
+			int inflated = 0;
+			try {
+				while (inflated < uncompressedLength && !inflater.finished()) {
+					int n = inflater.inflate(data, inflated, uncompressedLength - inflated);
+					if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					inflated += n;
+				}
+			} catch (DataFormatException e) {
+				IOException ioe = new IOException("Corrupt compressed chunk " + chunk + " of " + filename);
+				ioe.initCause(e);
+				throw ioe;
+			}
+			if (inflated != uncompressedLength) {
+				throw new IOException("Corrupt compressed chunk " + chunk + " of " + filename);
+			}
+			current = chunk;
+			length = uncompressedLength;
+			pos = 0;
+			return true;
+		}
+
+		public void close() throws IOException {
+			raw.close();
+		}
+
+		void releaseResources() throws IOException {
+			inflater.end();
+			raw.releaseResources();
+		}
+	}
 }
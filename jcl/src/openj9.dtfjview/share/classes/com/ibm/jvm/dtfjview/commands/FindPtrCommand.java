@@ -22,6 +22,7 @@
  *******************************************************************************/
 package com.ibm.jvm.dtfjview.commands;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.ByteOrder;
 
@@ -30,10 +31,14 @@ import com.ibm.java.diagnostics.utils.IContext;
 import com.ibm.java.diagnostics.utils.IDTFJContext;
 import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
+import com.ibm.jvm.dtfjview.commands.helpers.AnalysisIndex;
+import com.ibm.jvm.dtfjview.commands.helpers.ReferenceIndex;
 
 @DTFJPlugin(version = "1.*", runtime = false)
 public class FindPtrCommand extends BaseJdmpviewCommand {
 
+	private static final String REFERRERS_OPTION = "-referrers";
+
 	String pattern;
 
 	{
@@ -45,8 +50,9 @@ public class FindPtrCommand extends BaseJdmpviewCommand {
 		if (initCommand(command, args, context, out)) {
 			return; // processing already handled by super class
 		}
-		if (args.length == 1) {
-			String line = args[0];
+		boolean buildIndex = (args.length == 2) && args[0].equals(REFERRERS_OPTION);
+		if ((args.length == 1) || buildIndex) {
+			String line = args[args.length - 1];
 			if (line.endsWith(",")) {
 				// In order for the split to work there needs to always be a last parameter present.
 				// If it is missing we can default to only displaying the first match.
@@ -56,6 +62,7 @@ public class FindPtrCommand extends BaseJdmpviewCommand {
 			if (!isParametersValid(params)) {
 				return;
 			}
+			printReferrers(params, buildIndex);
 			if (isLittleEndian(context)) {
 				pattern = reorderBytes();
 			}
@@ -69,6 +76,46 @@ public class FindPtrCommand extends BaseJdmpviewCommand {
 		}
 	}
 
+	/**
+	 * If the pointer is the start of an object in the Java heaps, list the objects
+	 * which refer to it (up to matches_to_display of them) from the reference index.
+	 * The index is only built if asked for, otherwise it is used if it is already
+	 * open or saved next to the dump.
+	 */
+	private void printReferrers(String[] params, boolean buildIndex) {
+		if (ctx.getRuntime() == null) {
+			return;
+		}
+		long address;
+		int limit;
+		try {
+			address = Long.parseUnsignedLong(pattern, 16);
+			limit = params[5].isEmpty() ? 1 : Integer.parseInt(params[5]);
+		} catch (NumberFormatException e) {
+			return; // reported by the find command
+		}
+		try {
+			ReferenceIndex references = buildIndex ? ReferenceIndex.getIndex(ctx, out) : ReferenceIndex.getExistingIndex(ctx);
+			if (references == null) {
+				return;
+			}
+			AnalysisIndex objects = AnalysisIndex.getIndex(ctx, out);
+			long object = objects.findObject(address);
+			if (object < 0) {
+				return;
+			}
+			long[] referrers = references.getReferrers(object);
+			out.println("heap objects referring to 0x" + Long.toHexString(address) + ": " + referrers.length);
+			for (int i = 0; (i < referrers.length) && (i < limit); i++) {
+				int classIndex = objects.getObjectClass(referrers[i]);
+				String className = (classIndex < 0) ? "<corrupt class name>" : objects.getClassName(classIndex);
+				out.println("\t0x" + Long.toHexString(objects.getObjectAddress(referrers[i])) + " " + className);
+			}
+		} catch (IOException e) {
+			out.println("unable to build reference index: " + e.getMessage());
+		}
+	}
+
 	private String getParameters(String[] params) {
 		String temp = "0x" + pattern;
 		for (int i = 1; i < params.length; i++) {
@@ -120,10 +167,13 @@ public class FindPtrCommand extends BaseJdmpviewCommand {
 	@Override
 	public void printDetailedHelp(PrintStream out) {
 		out.println("searches memory for the given pointer\n\n"
-				+ "parameters: see parameters for \"find\" command\n\n"
+				+ "parameters: [" + REFERRERS_OPTION + "] followed by the parameters for \"find\" command\n\n"
 				+ "the findptr command searches for <pattern> as a pointer in the memory segment from <start_address> to <end_address> (both inclusive), "
 				+ "and outputs the first <matches_to_display> matching addresses that start at the corresponding <memory_boundary>. "
-				+ "It also display the next <bytes_to_print> bytes for the last match.");
+				+ "It also display the next <bytes_to_print> bytes for the last match. "
+				+ "If <pattern> is the address of an object in the Java heap, the first <matches_to_display> objects "
+				+ "which refer to it are listed first, from an index of the heap references, when the index is already open "
+				+ "or saved next to the dump. With " + REFERRERS_OPTION + " the index is built if required, which takes a walk of the heaps.");
 	}
 
 }
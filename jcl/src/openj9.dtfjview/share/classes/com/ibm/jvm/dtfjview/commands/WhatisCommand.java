@@ -22,6 +22,7 @@
  *******************************************************************************/
 package com.ibm.jvm.dtfjview.commands;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Iterator;
 
@@ -36,6 +37,7 @@ import com.ibm.dtfj.java.JavaObject;
 import com.ibm.java.diagnostics.utils.IContext;
 import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
+import com.ibm.jvm.dtfjview.commands.helpers.AnalysisIndex;
 import com.ibm.jvm.dtfjview.commands.helpers.Utils;
 
 @DTFJPlugin(version="1.*", runtime=false)
@@ -70,6 +72,12 @@ public class WhatisCommand extends BaseJdmpviewCommand {
 		JavaHeap jh;
 		Iterator itHeap = ctx.getRuntime().getHeaps();
 		int count = 1;
+		AnalysisIndex index = null;
+		try {
+			index = AnalysisIndex.getIndex(ctx, out);
+		} catch (IOException e) {
+			out.print("\tWarning - unable to build analysis index, walking the heap: " + e.getMessage() + "\n");
+		}
 		
 		while (itHeap.hasNext()) {
 			jh = (JavaHeap)itHeap.next();
@@ -77,7 +85,11 @@ public class WhatisCommand extends BaseJdmpviewCommand {
 			out.print("\theap #" + count + " - name: ");
 			out.print(jh.getName() + "\n");
 			
-			findInHeap(jh, address);
+			if ((index != null) && (count <= index.getHeapCount())) {
+				findInHeap(jh, index, count - 1, address);
+			} else {
+				findInHeap(jh, address);
+			}
 			count++;
 		}
 	}
@@ -103,6 +115,94 @@ public class WhatisCommand extends BaseJdmpviewCommand {
 	}
 	
 	
+	/**
+	 * As findInHeap(JavaHeap, long), using the analysis index instead of walking the objects.
+	 */
+	private void findInHeap(JavaHeap jh, AnalysisIndex index, int heap, long address)
+	{
+		if (isWithinImageSections(jh.getSections(), null, false, address)){
+			//if it's start or within the range of an object
+			if (!isStartOfObj(index, heap, address)){
+				if (!isWithinObjectRange(index, heap, address)){
+					out.print("\t\t0x" + Long.toHexString(address) + " is orphaned on the heap.\n");
+				}
+			}
+		} else {
+			out.print("\t\t0x" + Long.toHexString(address) + " is not within this heap.\n");
+			//TODO : function to indicate 16 or 32 bit 
+			long bound = 12; //bounds default to 16 for 32 bit system.
+			checkClassInRange(index, bound, address);
+			checkMethodInRange(index, address);
+		}
+	}
+
+	private void checkMethodInRange(AnalysisIndex index, long address){
+		for (int c = 0; c < index.getClassCount(); c++) {
+			JavaClass jClass = index.getJavaClass(c, ctx);
+			if (jClass == null) {
+				continue;
+			}
+			Iterator methods = jClass.getDeclaredMethods();
+			while(methods.hasNext()){
+				JavaMethod jMethod = (JavaMethod)methods.next();
+				if (isWithinImageSections(jMethod.getBytecodeSections(), jMethod, false, address)) {
+					return; // found it, we are done
+				}
+				if (isWithinImageSections(jMethod.getCompiledSections(), jMethod, true, address)) {
+					return; // found it, we are done
+				}
+			}
+		}
+	}
+
+	private void checkClassInRange(AnalysisIndex index, long bound, long address){
+		for (int c = 0; c < index.getClassCount(); c++) {
+			long startAddress = index.getClassAddress(c);
+			long endAddress = startAddress + bound;
+			if(address == startAddress){
+				out.print("\t0x" + Long.toHexString(address) +
+						" is the address of the java/lang/Class object for " + index.getClassName(c));
+				return;
+			}
+			if (isWithinRange(startAddress, endAddress, address)){
+				out.print("0x" + Long.toHexString(address) 
+						+ " is within the java/lang/Class object for " + index.getClassName(c));
+				return;
+			}
+		}
+	}
+
+	private boolean isWithinObjectRange(AnalysisIndex index, int heap, long address){
+		long object = index.findObjectAtOrBelow(heap, address);
+		if ((object < 0) || (index.getObjectClass(object) < 0)) {
+			return false;
+		}
+		long startAddress = index.getObjectAddress(object);
+		long endAddress = startAddress + index.getObjectSize(object);
+		if (isWithinRange(startAddress, endAddress, address)){
+			out.print("\t\t0x" + Long.toHexString(address) + " is within an object on the heap:\n" + 
+					"\t\t\toffset " + (address - startAddress) + " within "+ index.getClassName(index.getObjectClass(object)) +
+					" instance @ 0x" + Long.toHexString(startAddress) + "\n");
+			return true;
+		}
+		return false;
+	}
+
+	private boolean isStartOfObj(AnalysisIndex index, int heap, long address){
+		long object = index.findObjectAtOrBelow(heap, address);
+		if ((object >= 0) && (index.getObjectAddress(object) == address)) {
+			int classIndex = index.getObjectClass(object);
+			String className = (classIndex < 0) ? "<corrupt class name>" : index.getClassName(classIndex);
+			out.print("\t\t0x" + Long.toHexString(address) + " is the start of an object of type " + className);
+			return true;
+		}
+		long corruptObjectCount = index.getCorruptObjectCount(heap);
+		if (corruptObjectCount > 0) {
+			out.println("\t\t[skipped " + corruptObjectCount + " corrupt object(s) in heap]");
+		}
+		return false;
+	}
+
 	private void checkMethodInRange(Iterator objects, long address){
 		while(objects.hasNext()){
 			JavaObject jObject = (JavaObject)objects.next();
@@ -0,0 +1,813 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.jvm.dtfjview.commands.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.image.ImagePointer;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.java.diagnostics.utils.IDTFJContext;
+
+/**
+ * An index of the objects in the Java heaps of a runtime, so that jdmpview commands
+ * do not each have to walk the heaps.
+ * <p>
+ * For each heap the index holds its objects sorted by address, with the size and
+ * class of each, and totals for the heap. For each class with instances it holds the
+ * name, the instance count and size, and the address of one instance so the JavaClass
+ * can be found again. Objects are numbered from 0 across all the heaps.
+ * <p>
+ * The index is built with one walk of the heaps and saved next to the dump as
+ * <code>&lt;dump&gt;.&lt;JavaVM address&gt;.jdx</code>, then memory mapped by later
+ * sessions. It is checked against the length and modification time of the dump. If it
+ * cannot be saved there, for example because the directory is read-only or the dump is
+ * inside a zip file, a temporary file is used for this session only.
+ * <p>
+ * The index is not used if the system property
+ * <code>com.ibm.jvm.dtfjview.disableAnalysisIndex</code> is true, and the commands walk
+ * the heaps instead.
+ */
+public final class AnalysisIndex {
+	/** Key for the index in the context properties, so it is only opened once per runtime */
+	private static final String PROPERTY = "AnalysisIndex";
+	/** System property to walk the heaps instead of using the index */
+	private static final String DISABLE_PROPERTY = "com.ibm.jvm.dtfjview.disableAnalysisIndex";
+	static final String SUFFIX = ".jdx";
+	private static final int MAGIC = 0x4A445849; // "JDXI"
+	private static final int VERSION = 1;
+	/**
+	 * magic, version, dump length, dump last modified, JavaVM address, heap count,
+	 * class count, object count, length of the class names, corrupt class references
+	 */
+	private static final int HEADER_SIZE = 64;
+	/** first object, object count, total size, corrupt objects, objects with a corrupt size */
+	private static final int HEAP_ENTRY_SIZE = 40;
+	/** address, instance count, instance size, sample instance, name offset, name length */
+	private static final int CLASS_ENTRY_SIZE = 40;
+	/** address, size and class of an object while the heaps are walked */
+	private static final int RECORD_SIZE = 20;
+	private static final int NONE = -1;
+
+	private final JavaRuntime runtime;
+	private final Mapped data;
+	private final int heaps;
+	private final int classes;
+	private final long objects;
+	private final long heapBase;
+	private final long classBase;
+	private final long nameBase;
+	private final long addressBase;
+	private final long sizeBase;
+	private final long classIndexBase;
+	/** Class names are only decoded when needed */
+	private final String[] names;
+
+	private AnalysisIndex(JavaRuntime runtime, Mapped data) {
+		this.runtime = runtime;
+		this.data = data;
+		heaps = data.getInt(32);
+		classes = data.getInt(36);
+		objects = data.getLong(40);
+		heapBase = HEADER_SIZE;
+		classBase = heapBase + (long)heaps * HEAP_ENTRY_SIZE;
+		nameBase = classBase + (long)classes * CLASS_ENTRY_SIZE;
+		addressBase = nameBase + align(data.getLong(48));
+		sizeBase = addressBase + objects * 8;
+		classIndexBase = sizeBase + objects * 8;
+		names = new String[classes];
+	}
+
+	/**
+	 * Get the index for the current runtime, opening or building it if required.
+	 * @param ctx the context
+	 * @param out where to report progress
+	 * @return the index
+	 * @throws IOException if the index could not be built
+	 */
+	public static AnalysisIndex getIndex(IDTFJContext ctx, PrintStream out) throws IOException {
+		return getIndex(ctx, out, true);
+	}
+
+	/**
+	 * Get the index for the current runtime if it is already open, or saved next to the dump.
+	 * @param ctx the context
+	 * @return the index, or null if it would have to be built
+	 */
+	public static AnalysisIndex getExistingIndex(IDTFJContext ctx) {
+		try {
+			return getIndex(ctx, null, false);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static AnalysisIndex getIndex(IDTFJContext ctx, PrintStream out, boolean build) throws IOException {
+		if (Boolean.getBoolean(DISABLE_PROPERTY)) {
+			throw new IOException("the analysis index is disabled by " + DISABLE_PROPERTY);
+		}
+		Object cached = ctx.getProperties().get(PROPERTY);
+		if (cached instanceof AnalysisIndex && ((AnalysisIndex)cached).runtime == ctx.getRuntime()) {
+			return (AnalysisIndex)cached;
+		}
+		JavaRuntime runtime = ctx.getRuntime();
+		File dump = dumpFile(ctx);
+		long javaVM = javaVM(runtime);
+		File indexFile = (dump != null) ? new File(dump.getPath() + "." + Long.toHexString(javaVM) + SUFFIX) : null;
+		AnalysisIndex index = (indexFile != null) ? open(runtime, indexFile, dump, javaVM) : null;
+		if (index == null) {
+			if (!build) {
+				return null;
+			}
+			long start = System.currentTimeMillis();
+			out.println("Building analysis index...");
+			index = build(runtime, dump, javaVM, indexFile);
+			out.println("Analysis index of " + index.objects + " objects built in " + (System.currentTimeMillis() - start) / 1000 + "s");
+		}
+		ctx.getProperties().put(PROPERTY, index);
+		return index;
+	}
+
+	/**
+	 * The dump file, if the image was read directly from a file.
+	 */
+	static File dumpFile(IDTFJContext ctx) {
+		try {
+			URI uri = ctx.getImage().getSource();
+			if (uri == null || !"file".equals(uri.getScheme()) || uri.getFragment() != null) {
+				// e.g. a core file within a zip file
+				return null;
+			}
+			File file = new File(uri);
+			return file.isFile() ? file : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		} catch (SecurityException e) {
+			return null;
+		}
+	}
+
+	static long javaVM(JavaRuntime runtime) {
+		try {
+			ImagePointer vm = runtime.getJavaVM();
+			return vm != null ? vm.getAddress() : 0;
+		} catch (CorruptDataException e) {
+			return 0;
+		}
+	}
+
+	private static long align(long n) {
+		return (n + 7) & ~7L;
+	}
+
+	/**
+	 * Open a saved index.
+	 * @return the index, or null if there isn't a usable one
+	 */
+	private static AnalysisIndex open(JavaRuntime runtime, File indexFile, File dump, long javaVM) {
+		if (!indexFile.isFile() || indexFile.length() < HEADER_SIZE) return null;
+		try {
+			Mapped data = new Mapped(indexFile, indexFile.length(), false);
+			if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION
+					|| data.getLong(8) != dump.length() || data.getLong(16) != dump.lastModified()
+					|| data.getLong(24) != javaVM
+					|| !hasLength(data, indexFile.length())) {
+				// Stale index for an older dump of the same name, release it so it can be replaced
+				data.close();
+				return null;
+			}
+			return new AnalysisIndex(runtime, data);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static boolean hasLength(Mapped data, long length) {
+		int heaps = data.getInt(32);
+		int classes = data.getInt(36);
+		long objects = data.getLong(40);
+		long names = data.getLong(48);
+		return heaps >= 0 && classes >= 0 && objects >= 0 && names >= 0
+				&& length == length(heaps, classes, objects, names);
+	}
+
+	private static long length(int heaps, int classes, long objects, long names) {
+		return HEADER_SIZE + (long)heaps * HEAP_ENTRY_SIZE + (long)classes * CLASS_ENTRY_SIZE
+				+ align(names) + objects * (8 + 8 + 4);
+	}
+
+	/**
+	 * Details of a class collected while the heaps are walked.
+	 */
+	private static final class ClassEntry {
+		final long address;
+		final long sample;
+		final byte[] name;
+		long count;
+		long size;
+
+		ClassEntry(long address, long sample, String name) {
+			this.address = address;
+			this.sample = sample;
+			this.name = name.getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Build the index with one walk of the heaps, and save it if possible.
+	 */
+	private static AnalysisIndex build(JavaRuntime runtime, File dump, long javaVM, File indexFile) throws IOException {
+		List<long[]> heapTotals = new ArrayList<>();
+		List<ClassEntry> classList = new ArrayList<>();
+		Map<Long, Integer> classIndexes = new HashMap<>();
+		long corruptClassRefs = 0;
+		long objects = 0;
+		List<Boolean> sorted = new ArrayList<>();
+
+		// Pass 1: stream a record for each object to a temporary file
+		File records = File.createTempFile("jdmpview", ".jdr");
+		records.deleteOnExit();
+		try {
+			try (RandomAccessFile raf = new RandomAccessFile(records, "rw")) {
+				FileChannel channel = raf.getChannel();
+				ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+				for (Iterator<?> itHeap = runtime.getHeaps(); itHeap.hasNext();) {
+					Object heap = itHeap.next();
+					if (!(heap instanceof JavaHeap)) continue;
+					/* first object, object count, total size, corrupt objects, corrupt sizes */
+					long totals[] = new long[] { objects, 0, 0, 0, 0 };
+					boolean heapSorted = true;
+					long last = Long.MIN_VALUE;
+					for (Iterator<?> itObject = ((JavaHeap)heap).getObjects(); itObject.hasNext();) {
+						Object next = itObject.next();
+						if (!(next instanceof JavaObject)) {
+							totals[3] += 1;
+							continue;
+						}
+						JavaObject jo = (JavaObject)next;
+						long address = jo.getID().getAddress();
+						long size;
+						try {
+							size = jo.getSize();
+						} catch (CorruptDataException e) {
+							size = 0;
+							totals[4] += 1;
+						}
+						int classIndex = NONE;
+						try {
+							JavaClass jc = jo.getJavaClass();
+							Long classAddress = Long.valueOf(jc.getID().getAddress());
+							Integer known = classIndexes.get(classAddress);
+							if (known == null) {
+								String name;
+								try {
+									name = jc.getName();
+								} catch (CorruptDataException e) {
+									name = "<corrupt class name>";
+								}
+								known = Integer.valueOf(classList.size());
+								classIndexes.put(classAddress, known);
+								classList.add(new ClassEntry(classAddress.longValue(), address, name));
+							}
+							classIndex = known.intValue();
+							ClassEntry entry = classList.get(classIndex);
+							entry.count += 1;
+							entry.size += size;
+						} catch (CorruptDataException e) {
+							corruptClassRefs += 1;
+						}
+						heapSorted &= (last <= address);
+						last = address;
+						if (!buffer.hasRemaining()) {
+							flush(channel, buffer);
+						}
+						buffer.putLong(address).putLong(size).putInt(classIndex);
+						totals[1] += 1;
+						totals[2] += size;
+						objects += 1;
+					}
+					heapTotals.add(totals);
+					sorted.add(Boolean.valueOf(heapSorted));
+				}
+				flush(channel, buffer);
+			}
+
+			// Pass 2: lay out the index and copy the objects into it
+			ByteBuffer nameBytes = ByteBuffer.allocate((int)Math.min(Integer.MAX_VALUE, nameLength(classList)));
+			int heaps = heapTotals.size();
+			int classes = classList.size();
+			long total = length(heaps, classes, objects, nameBytes.capacity());
+			Mapped data = Mapped.create(indexFile, total);
+			data.putInt(0, MAGIC);
+			data.putInt(4, VERSION);
+			data.putLong(8, dump != null ? dump.length() : 0);
+			data.putLong(16, dump != null ? dump.lastModified() : 0);
+			data.putLong(24, javaVM);
+			data.putInt(32, heaps);
+			data.putInt(36, classes);
+			data.putLong(40, objects);
+			data.putLong(48, nameBytes.capacity());
+			data.putLong(56, corruptClassRefs);
+			AnalysisIndex index = new AnalysisIndex(runtime, data);
+			for (int h = 0; h < heaps; ++h) {
+				long totals[] = heapTotals.get(h);
+				for (int i = 0; i < totals.length; ++i) {
+					data.putLong(index.heapBase + (long)h * HEAP_ENTRY_SIZE + i * 8, totals[i]);
+				}
+			}
+			for (int c = 0; c < classes; ++c) {
+				ClassEntry entry = classList.get(c);
+				long base = index.classBase + (long)c * CLASS_ENTRY_SIZE;
+				data.putLong(base, entry.address);
+				data.putLong(base + 8, entry.count);
+				data.putLong(base + 16, entry.size);
+				data.putLong(base + 24, entry.sample);
+				data.putInt(base + 32, nameBytes.position());
+				data.putInt(base + 36, entry.name.length);
+				nameBytes.put(entry.name);
+			}
+			for (int i = 0; i < nameBytes.capacity(); ++i) {
+				data.put(index.nameBase + i, nameBytes.get(i));
+			}
+			try (RandomAccessFile raf = new RandomAccessFile(records, "r")) {
+				FileChannel channel = raf.getChannel();
+				ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+				long object = 0;
+				while (channel.read(buffer) >= 0 || buffer.position() > 0) {
+					buffer.flip();
+					while (buffer.remaining() >= RECORD_SIZE) {
+						index.setObject(object, buffer.getLong(), buffer.getLong(), buffer.getInt());
+						object += 1;
+					}
+					buffer.compact();
+					if (object == objects) break;
+				}
+			}
+			for (int h = 0; h < heaps; ++h) {
+				if (!sorted.get(h).booleanValue()) {
+					index.sort(index.getFirstObject(h), index.getObjectCount(h));
+				}
+			}
+			return new AnalysisIndex(runtime, data.save(indexFile));
+		} finally {
+			records.delete();
+		}
+	}
+
+	private static long nameLength(List<ClassEntry> classList) {
+		long length = 0;
+		for (ClassEntry entry : classList) {
+			length += entry.name.length;
+		}
+		return length;
+	}
+
+	private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	private void setObject(long object, long address, long size, int classIndex) {
+		data.putLong(addressBase + object * 8, address);
+		data.putLong(sizeBase + object * 8, size);
+		data.putInt(classIndexBase + object * 4, classIndex);
+	}
+
+	/**
+	 * Heap sort a range of objects by address.
+	 */
+	private void sort(long first, long count) {
+		for (long i = count / 2 - 1; i >= 0; --i) {
+			siftDown(first, i, count);
+		}
+		for (long end = count - 1; end > 0; --end) {
+			swap(first, first + end);
+			siftDown(first, 0, end);
+		}
+	}
+
+	private void siftDown(long first, long i, long n) {
+		while (2 * i + 1 < n) {
+			long c = 2 * i + 1;
+			if (c + 1 < n && getObjectAddress(first + c) < getObjectAddress(first + c + 1)) {
+				++c;
+			}
+			if (getObjectAddress(first + i) >= getObjectAddress(first + c)) {
+				return;
+			}
+			swap(first + i, first + c);
+			i = c;
+		}
+	}
+
+	private void swap(long a, long b) {
+		long address = getObjectAddress(a);
+		long size = getObjectSize(a);
+		int classIndex = getObjectClass(a);
+		setObject(a, getObjectAddress(b), getObjectSize(b), getObjectClass(b));
+		setObject(b, address, size, classIndex);
+	}
+
+	/**
+	 * Number of heaps, numbered in the order returned by JavaRuntime.getHeaps(), ignoring corrupt heaps.
+	 */
+	public int getHeapCount() {
+		return heaps;
+	}
+
+	public long getFirstObject(int heap) {
+		return data.getLong(heapBase + (long)heap * HEAP_ENTRY_SIZE);
+	}
+
+	public long getObjectCount(int heap) {
+		return data.getLong(heapBase + (long)heap * HEAP_ENTRY_SIZE + 8);
+	}
+
+	public long getTotalSize(int heap) {
+		return data.getLong(heapBase + (long)heap * HEAP_ENTRY_SIZE + 16);
+	}
+
+	/**
+	 * Number of entries in the heap which were corrupt data instead of objects.
+	 */
+	public long getCorruptObjectCount(int heap) {
+		return data.getLong(heapBase + (long)heap * HEAP_ENTRY_SIZE + 24);
+	}
+
+	/**
+	 * Number of objects in the heap whose size could not be read, which are counted as size 0.
+	 */
+	public long getCorruptSizeCount(int heap) {
+		return data.getLong(heapBase + (long)heap * HEAP_ENTRY_SIZE + 32);
+	}
+
+	/**
+	 * Number of objects whose class could not be read.
+	 */
+	public long getCorruptClassCount() {
+		return data.getLong(56);
+	}
+
+	/**
+	 * Number of objects in all the heaps.
+	 */
+	public long getObjectCount() {
+		return objects;
+	}
+
+	/**
+	 * Find the object which starts at an address, in any of the heaps.
+	 * @param address the address
+	 * @return the object, or -1 if no object starts at the address
+	 */
+	public long findObject(long address) {
+		for (int heap = 0; heap < heaps; ++heap) {
+			long object = findObjectAtOrBelow(heap, address);
+			if ((object >= 0) && (getObjectAddress(object) == address)) {
+				return object;
+			}
+		}
+		return NONE;
+	}
+
+	/**
+	 * Number of classes with instances in the heaps.
+	 */
+	public int getClassCount() {
+		return classes;
+	}
+
+	public long getClassAddress(int classIndex) {
+		return data.getLong(classBase + (long)classIndex * CLASS_ENTRY_SIZE);
+	}
+
+	public long getInstanceCount(int classIndex) {
+		return data.getLong(classBase + (long)classIndex * CLASS_ENTRY_SIZE + 8);
+	}
+
+	public long getInstanceSize(int classIndex) {
+		return data.getLong(classBase + (long)classIndex * CLASS_ENTRY_SIZE + 16);
+	}
+
+	public String getClassName(int classIndex) {
+		String name = names[classIndex];
+		if (name == null) {
+			long base = classBase + (long)classIndex * CLASS_ENTRY_SIZE;
+			int offset = data.getInt(base + 32);
+			byte bytes[] = new byte[data.getInt(base + 36)];
+			for (int i = 0; i < bytes.length; ++i) {
+				bytes[i] = data.get(nameBase + offset + i);
+			}
+			name = new String(bytes, StandardCharsets.UTF_8);
+			names[classIndex] = name;
+		}
+		return name;
+	}
+
+	/**
+	 * The class of the instances of a class in the index.
+	 * @param classIndex the class
+	 * @param ctx the context, for the address space
+	 * @return the class, or null if it could not be found
+	 */
+	public JavaClass getJavaClass(int classIndex, IDTFJContext ctx) {
+		long sample = data.getLong(classBase + (long)classIndex * CLASS_ENTRY_SIZE + 24);
+		try {
+			return runtime.getObjectAtAddress(ctx.getAddressSpace().getPointer(sample)).getJavaClass();
+		} catch (Exception e) {
+			// CorruptDataException, MemoryAccessException, DataUnavailable or IllegalArgumentException
+			return null;
+		}
+	}
+
+	public long getObjectAddress(long object) {
+		return data.getLong(addressBase + object * 8);
+	}
+
+	public long getObjectSize(long object) {
+		return data.getLong(sizeBase + object * 8);
+	}
+
+	/**
+	 * The class of an object.
+	 * @return the class index, or -1 if the class of the object could not be read
+	 */
+	public int getObjectClass(long object) {
+		return data.getInt(classIndexBase + object * 4);
+	}
+
+	/**
+	 * Find the object at or immediately below an address within a heap.
+	 * @param heap the heap
+	 * @param address the address
+	 * @return the object, or -1 if there is no object at or below the address in the heap
+	 */
+	public long findObjectAtOrBelow(int heap, long address) {
+		long lo = getFirstObject(heap);
+		long hi = lo + getObjectCount(heap) - 1;
+		long found = NONE;
+		while (lo <= hi) {
+			long mid = (lo + hi) >>> 1;
+			if (getObjectAddress(mid) <= address) {
+				found = mid;
+				lo = mid + 1;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * A file mapped into memory in chunks, so it may be larger than 2GB.
+	 * Chunks are a multiple of 8 bytes, so no int or long value spans two chunks.
+	 * <p>
+	 * The chunks are unmapped by close(), rather than when they are garbage collected,
+	 * because a file cannot be renamed or deleted on Windows while it is mapped.
+	 */
+	static final class Mapped {
+		private static final int CHUNK_SHIFT = 27;
+		private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+		/** Indexes kept in temporary files, which are closed and deleted when jdmpview exits */
+		private static List<Mapped> temporaries;
+		private final File file;
+		private final long length;
+		private final ByteBuffer chunks[];
+		private boolean temporary;
+
+		Mapped(File file, long length, boolean write) throws IOException {
+			this.file = file;
+			this.length = length;
+			chunks = new ByteBuffer[(int)((length + CHUNK_MASK) >>> CHUNK_SHIFT)];
+			try (RandomAccessFile raf = new RandomAccessFile(file, write ? "rw" : "r")) {
+				if (write) {
+					raf.setLength(length);
+				}
+				FileChannel channel = raf.getChannel();
+				FileChannel.MapMode mode = write ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+				for (int i = 0; i < chunks.length; ++i) {
+					long offset = (long)i << CHUNK_SHIFT;
+					chunks[i] = channel.map(mode, offset, Math.min(length - offset, 1 << CHUNK_SHIFT));
+				}
+			}
+		}
+
+		byte get(long offset) {
+			return chunks[(int)(offset >>> CHUNK_SHIFT)].get((int)(offset & CHUNK_MASK));
+		}
+
+		void put(long offset, byte value) {
+			chunks[(int)(offset >>> CHUNK_SHIFT)].put((int)(offset & CHUNK_MASK), value);
+		}
+
+		int getInt(long offset) {
+			return chunks[(int)(offset >>> CHUNK_SHIFT)].getInt((int)(offset & CHUNK_MASK));
+		}
+
+		void putInt(long offset, int value) {
+			chunks[(int)(offset >>> CHUNK_SHIFT)].putInt((int)(offset & CHUNK_MASK), value);
+		}
+
+		long getLong(long offset) {
+			return chunks[(int)(offset >>> CHUNK_SHIFT)].getLong((int)(offset & CHUNK_MASK));
+		}
+
+		void putLong(long offset, long value) {
+			chunks[(int)(offset >>> CHUNK_SHIFT)].putLong((int)(offset & CHUNK_MASK), value);
+		}
+
+		void force() {
+			for (ByteBuffer chunk : chunks) {
+				((MappedByteBuffer)chunk).force();
+			}
+		}
+
+		/**
+		 * Create a file to build an index in. If the index is to be saved, this is a new file
+		 * in the same directory, so that sessions building the same index at the same time
+		 * do not share a file, and save() renames it. Otherwise, or if the directory cannot
+		 * be written, it is a temporary file for this session only.
+		 * @param indexFile where the index is to be saved, or null
+		 * @param length the length of the index
+		 * @return the file, mapped for writing
+		 * @throws IOException if no file could be created
+		 */
+		static Mapped create(File indexFile, long length) throws IOException {
+			if (indexFile != null) {
+				File target = null;
+				try {
+					target = File.createTempFile(indexFile.getName() + ".", ".tmp", indexFile.getAbsoluteFile().getParentFile());
+					return new Mapped(target, length, true);
+				} catch (IOException e) {
+					// Cannot write next to the dump, keep the index for this session only
+					if (target != null) {
+						target.delete();
+					}
+				}
+			}
+			return createTemporary(SUFFIX, length);
+		}
+
+		/**
+		 * Create a temporary file for this session only, which is deleted by delete() or when jdmpview exits.
+		 * @param suffix the suffix of the file name
+		 * @param length the length of the file
+		 * @return the file, mapped for writing
+		 * @throws IOException if the file could not be created
+		 */
+		static Mapped createTemporary(String suffix, long length) throws IOException {
+			return temporary(File.createTempFile("jdmpview", suffix), length);
+		}
+
+		/**
+		 * Finish writing an index created by create(), and rename it to the index file if it
+		 * was created next to it.
+		 * @param indexFile where the index is to be saved, as passed to create()
+		 * @return the index, mapped for reading
+		 * @throws IOException if the index could not be mapped again
+		 */
+		Mapped save(File indexFile) throws IOException {
+			force();
+			if (temporary) {
+				return this;
+			}
+			close();
+			// Another session may have saved the same index first, this one replaces it
+			indexFile.delete();
+			if (file.renameTo(indexFile)) {
+				return new Mapped(indexFile, length, false);
+			}
+			return temporary(file, length);
+		}
+
+		private static Mapped temporary(File file, long length) throws IOException {
+			Mapped data;
+			try {
+				data = new Mapped(file, length, true);
+			} catch (IOException e) {
+				file.delete();
+				throw e;
+			}
+			synchronized (Mapped.class) {
+				if (temporaries == null) {
+					temporaries = new ArrayList<>();
+					Runtime.getRuntime().addShutdownHook(new Thread("jdmpview index cleanup") {
+						@Override
+						public void run() {
+							deleteTemporaries();
+						}
+					});
+				}
+				temporaries.add(data);
+				data.temporary = true;
+			}
+			return data;
+		}
+
+		private static synchronized void deleteTemporaries() {
+			for (Mapped data : temporaries) {
+				data.close();
+				data.file.delete();
+			}
+			temporaries.clear();
+		}
+
+		/**
+		 * Unmap a temporary file and delete it now, instead of when jdmpview exits.
+		 */
+		void delete() {
+			synchronized (Mapped.class) {
+				if (temporaries != null) {
+					temporaries.remove(this);
+				}
+			}
+			close();
+			file.delete();
+		}
+
+		ByteBuffer[] getChunks() {
+			return chunks;
+		}
+
+		/**
+		 * Unmap the file. The index must not be used afterwards.
+		 */
+		synchronized void close() {
+			for (int i = 0; i < chunks.length; ++i) {
+				if (chunks[i] != null) {
+					unmap(chunks[i]);
+					chunks[i] = null;
+				}
+			}
+		}
+
+		/**
+		 * Release a mapped buffer now, instead of when it is garbage collected.
+		 * If that is not possible the buffer is left to the garbage collector.
+		 */
+		static void unmap(ByteBuffer buffer) {
+			try {
+				Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+				Method invokeCleaner;
+				try {
+					invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+				} catch (NoSuchMethodException e) {
+					// Java 8
+					Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+					cleanerMethod.setAccessible(true);
+					Object cleaner = cleanerMethod.invoke(buffer);
+					if (cleaner != null) {
+						cleaner.getClass().getMethod("clean").invoke(cleaner);
+					}
+					return;
+				}
+				Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true);
+				invokeCleaner.invoke(theUnsafe.get(null), buffer);
+			} catch (Exception e) {
+				// ReflectiveOperationException, SecurityException or a runtime exception from the cleaner
+			}
+		}
+	}
+}
@@ -0,0 +1,713 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.jvm.dtfjview.commands.helpers;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Iterator;
+
+import com.ibm.dtfj.image.CorruptData;
+import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.image.DataUnavailable;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.MemoryAccessException;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaClassLoader;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.dtfj.java.JavaStackFrame;
+import com.ibm.dtfj.java.JavaThread;
+import com.ibm.java.diagnostics.utils.IDTFJContext;
+
+/**
+ * The dominator tree of the objects in the Java heap, and the retained size of each object.
+ * <p>
+ * An object X dominates Y if every path from the roots to Y goes through X, and the
+ * retained size of X is the total size of the objects it dominates, i.e. the memory
+ * freed if X were unreachable. A virtual root, node 0, has edges to the heap roots, to
+ * the class objects and, as heap dumps such as PHD files have no root information, to
+ * each object which would otherwise be unreachable.
+ * <p>
+ * The heap is read twice through DTFJ, once for the objects and once for the references,
+ * and the dominators are found with the Lengauer-Tarjan algorithm. All the working data
+ * is held in int and long arrays indexed by node number, which are moved to memory mapped
+ * temporary files once the arrays would use more than half the maximum Java heap, so
+ * the Java heap needed does not grow with the size of the dump. The files are unmapped
+ * and deleted when the arrays are freed, or when jdmpview exits.
+ */
+public final class DominatorTree {
+	/** Key for the tree in the context properties, so it is only built once per runtime */
+	private static final String PROPERTY = "DominatorTree";
+	private static final int NONE = -1;
+
+	private final JavaRuntime runtime;
+	/** Number of nodes, including the root */
+	private final int nodes;
+	/** Address of each node, ascending from node 1 */
+	private final Array addresses;
+	/** Size of each node */
+	private final Array shallow;
+	/** Depth first number of each node */
+	private final Array dfnum;
+	/** Node with each depth first number */
+	private final Array vertex;
+	/** Immediate dominator of each node, by depth first number */
+	private final Array idom;
+	/** Retained size of each node, by depth first number */
+	private final Array retained;
+
+	/**
+	 * Get the dominator tree for the current runtime, building it if required.
+	 * @param ctx the context
+	 * @param out where to report progress
+	 * @return the dominator tree
+	 * @throws IOException if a temporary file could not be created
+	 */
+	public static DominatorTree getDominatorTree(IDTFJContext ctx, PrintStream out) throws IOException {
+		Object cached = ctx.getProperties().get(PROPERTY);
+		if (cached instanceof DominatorTree && ((DominatorTree)cached).runtime == ctx.getRuntime()) {
+			return (DominatorTree)cached;
+		}
+		long start = System.currentTimeMillis();
+		DominatorTree tree = new DominatorTree(ctx.getRuntime(), out);
+		out.println("Dominator tree of " + (tree.nodes - 1) + " objects built in " + (System.currentTimeMillis() - start) / 1000 + "s");
+		ctx.getProperties().put(PROPERTY, tree);
+		return tree;
+	}
+
+	private DominatorTree(JavaRuntime runtime, PrintStream out) throws IOException {
+		this.runtime = runtime;
+		Store store = new Store();
+
+		// Pass 1: the objects and their sizes, in address order
+		out.println("Reading heap objects...");
+		Array addrs = store.longs(1024);
+		Array sizes = store.longs(1024);
+		long count = 1;
+		for (Iterator<?> heaps = runtime.getHeaps(); heaps.hasNext();) {
+			Object heap = heaps.next();
+			if (!(heap instanceof JavaHeap)) continue;
+			for (Iterator<?> objects = ((JavaHeap)heap).getObjects(); objects.hasNext();) {
+				Object obj = objects.next();
+				if (!(obj instanceof JavaObject)) continue;
+				JavaObject jo = (JavaObject)obj;
+				if (count == addrs.length()) {
+					if (count == Integer.MAX_VALUE) {
+						throw new IOException("Too many objects for a dominator tree");
+					}
+					long newLength = Math.min(count * 2, Integer.MAX_VALUE);
+					addrs = store.grow(addrs, newLength);
+					sizes = store.grow(sizes, newLength);
+				}
+				addrs.setLong(count, jo.getID().getAddress());
+				long size;
+				try {
+					size = jo.getSize();
+				} catch (CorruptDataException e) {
+					size = 0;
+				}
+				sizes.setLong(count, size);
+				++count;
+			}
+		}
+		count = sortUnique(addrs, sizes, count);
+		nodes = (int)count;
+		addresses = addrs;
+		shallow = sizes;
+
+		// Pass 2: the references between objects, and the roots
+		out.println("Reading references...");
+		BitSet roots = new BitSet(nodes);
+		Array src = store.ints(1024);
+		Array dst = store.ints(1024);
+		long edges = 0;
+		for (Iterator<?> heaps = runtime.getHeaps(); heaps.hasNext();) {
+			Object heap = heaps.next();
+			if (!(heap instanceof JavaHeap)) continue;
+			for (Iterator<?> objects = ((JavaHeap)heap).getObjects(); objects.hasNext();) {
+				Object obj = objects.next();
+				if (!(obj instanceof JavaObject)) continue;
+				JavaObject jo = (JavaObject)obj;
+				int from = findNode(jo.getID().getAddress());
+				if (from <= 0) continue;
+				for (Iterator<?> refs = jo.getReferences(); refs.hasNext();) {
+					int to = target(refs.next());
+					if (to > 0 && to != from) {
+						if (edges == src.length()) {
+							src = store.grow(src, edges * 2);
+							dst = store.grow(dst, edges * 2);
+						}
+						src.setInt(edges, from);
+						dst.setInt(edges, to);
+						++edges;
+					}
+				}
+			}
+		}
+		// Class objects and their statics
+		for (Iterator<?> loaders = runtime.getJavaClassLoaders(); loaders.hasNext();) {
+			Object loader = loaders.next();
+			if (!(loader instanceof JavaClassLoader)) continue;
+			for (Iterator<?> classes = ((JavaClassLoader)loader).getDefinedClasses(); classes.hasNext();) {
+				Object cls = classes.next();
+				if (!(cls instanceof JavaClass)) continue;
+				int from = classNode((JavaClass)cls);
+				if (from > 0) {
+					roots.set(from);
+				}
+				for (Iterator<?> refs = ((JavaClass)cls).getReferences(); refs.hasNext();) {
+					int to = target(refs.next());
+					if (to <= 0 || to == from) continue;
+					if (from > 0) {
+						if (edges == src.length()) {
+							src = store.grow(src, edges * 2);
+							dst = store.grow(dst, edges * 2);
+						}
+						src.setInt(edges, from);
+						dst.setInt(edges, to);
+						++edges;
+					} else {
+						// No class object in the heap, so the class is a root
+						roots.set(to);
+					}
+				}
+			}
+		}
+		for (Iterator<?> refs = runtime.getHeapRoots(); refs.hasNext();) {
+			setRoot(roots, refs.next());
+		}
+		for (Iterator<?> threads = runtime.getThreads(); threads.hasNext();) {
+			Object thread = threads.next();
+			if (!(thread instanceof JavaThread)) continue;
+			for (Iterator<?> frames = ((JavaThread)thread).getStackFrames(); frames.hasNext();) {
+				Object frame = frames.next();
+				if (!(frame instanceof JavaStackFrame)) continue;
+				for (Iterator<?> refs = ((JavaStackFrame)frame).getHeapRoots(); refs.hasNext();) {
+					setRoot(roots, refs.next());
+				}
+			}
+		}
+
+		// Successors and predecessors as compressed sparse rows
+		out.println("Computing dominators...");
+		Array fwdStart = store.longs(nodes + 1L);
+		Array fwd = store.ints(edges);
+		toRows(src, dst, edges, fwdStart, fwd);
+		Array revStart = store.longs(nodes + 1L);
+		Array rev = store.ints(edges);
+		toRows(dst, src, edges, revStart, rev);
+		store.free(src);
+		store.free(dst);
+
+		// Depth first search from the root
+		dfnum = store.ints(nodes);
+		dfnum.fill(NONE);
+		vertex = store.ints(nodes);
+		Array parent = store.ints(nodes);
+		Array stack = store.ints(nodes);
+		Array cursor = store.longs(nodes);
+		dfnum.setInt(0, 0);
+		vertex.setInt(0, 0);
+		parent.setInt(0, NONE);
+		int visited = 1;
+		for (int r = roots.nextSetBit(1); r >= 0; r = roots.nextSetBit(r + 1)) {
+			if (dfnum.getInt(r) == NONE) {
+				visited = search(r, visited, fwdStart, fwd, parent, stack, cursor);
+			}
+		}
+		// Unreachable objects: first those with nothing referring to them, then any cycles
+		for (int v = 1; v < nodes; ++v) {
+			if (dfnum.getInt(v) == NONE && revStart.getLong(v) == revStart.getLong(v + 1)) {
+				visited = search(v, visited, fwdStart, fwd, parent, stack, cursor);
+			}
+		}
+		for (int v = 1; v < nodes; ++v) {
+			if (dfnum.getInt(v) == NONE) {
+				visited = search(v, visited, fwdStart, fwd, parent, stack, cursor);
+			}
+		}
+		store.free(cursor);
+		store.free(fwd);
+		store.free(fwdStart);
+
+		// Lengauer-Tarjan, with all arrays by depth first number
+		Array semi = store.ints(nodes);
+		Array best = store.ints(nodes);
+		Array ancestor = store.ints(nodes);
+		Array samedom = store.ints(nodes);
+		Array bucket = store.ints(nodes);
+		Array bucketNext = store.ints(nodes);
+		idom = store.ints(nodes);
+		for (int i = 0; i < nodes; ++i) {
+			semi.setInt(i, i);
+			best.setInt(i, i);
+		}
+		ancestor.fill(NONE);
+		samedom.fill(NONE);
+		bucket.fill(NONE);
+		idom.setInt(0, NONE);
+		for (int w = nodes - 1; w > 0; --w) {
+			int p = parent.getInt(w);
+			int s = p;
+			int n = vertex.getInt(w);
+			if (roots.get(n)) {
+				s = 0;
+			}
+			for (long e = revStart.getLong(n), end = revStart.getLong(n + 1); e < end; ++e) {
+				int d = dfnum.getInt(rev.getInt(e));
+				int s1 = d <= w ? d : semi.getInt(eval(d, ancestor, best, semi, stack));
+				if (s1 < s) {
+					s = s1;
+				}
+			}
+			semi.setInt(w, s);
+			bucketNext.setInt(w, bucket.getInt(s));
+			bucket.setInt(s, w);
+			ancestor.setInt(w, p);
+			for (int v = bucket.getInt(p); v != NONE; v = bucketNext.getInt(v)) {
+				int y = eval(v, ancestor, best, semi, stack);
+				if (semi.getInt(y) == semi.getInt(v)) {
+					idom.setInt(v, p);
+				} else {
+					samedom.setInt(v, y);
+				}
+			}
+			bucket.setInt(p, NONE);
+		}
+		for (int w = 1; w < nodes; ++w) {
+			int y = samedom.getInt(w);
+			if (y != NONE) {
+				idom.setInt(w, idom.getInt(y));
+			}
+		}
+		store.free(semi);
+		store.free(best);
+		store.free(ancestor);
+		store.free(samedom);
+		store.free(bucket);
+		store.free(bucketNext);
+		store.free(stack);
+		store.free(parent);
+		store.free(rev);
+		store.free(revStart);
+
+		// Dominators have lower depth first numbers, so sizes can be accumulated in one pass
+		retained = store.longs(nodes);
+		for (int d = 1; d < nodes; ++d) {
+			retained.setLong(d, shallow.getLong(vertex.getInt(d)));
+		}
+		for (int d = nodes - 1; d > 0; --d) {
+			int i = idom.getInt(d);
+			retained.setLong(i, retained.getLong(i) + retained.getLong(d));
+		}
+	}
+
+	/**
+	 * Iterative depth first search, numbering the nodes in preorder.
+	 * @return the next depth first number
+	 */
+	private int search(int r, int visited, Array fwdStart, Array fwd, Array parent, Array stack, Array cursor) {
+		dfnum.setInt(r, visited);
+		vertex.setInt(visited, r);
+		parent.setInt(visited, 0);
+		++visited;
+		int sp = 0;
+		stack.setInt(sp, r);
+		cursor.setLong(sp, fwdStart.getLong(r));
+		++sp;
+		while (sp > 0) {
+			int v = stack.getInt(sp - 1);
+			long c = cursor.getLong(sp - 1);
+			if (c < fwdStart.getLong(v + 1)) {
+				cursor.setLong(sp - 1, c + 1);
+				int w = fwd.getInt(c);
+				if (dfnum.getInt(w) == NONE) {
+					dfnum.setInt(w, visited);
+					vertex.setInt(visited, w);
+					parent.setInt(visited, dfnum.getInt(v));
+					++visited;
+					stack.setInt(sp, w);
+					cursor.setLong(sp, fwdStart.getLong(w));
+					++sp;
+				}
+			} else {
+				--sp;
+			}
+		}
+		return visited;
+	}
+
+	/**
+	 * The ancestor of v in the forest with the lowest semidominator, compressing
+	 * the path as it goes. Iterative so that long chains do not overflow the stack.
+	 */
+	private static int eval(int v, Array ancestor, Array best, Array semi, Array stack) {
+		if (ancestor.getInt(v) == NONE) {
+			return v;
+		}
+		int sp = 0;
+		int u = v;
+		while (ancestor.getInt(ancestor.getInt(u)) != NONE) {
+			stack.setInt(sp++, u);
+			u = ancestor.getInt(u);
+		}
+		while (sp > 0) {
+			int x = stack.getInt(--sp);
+			int a = ancestor.getInt(x);
+			if (semi.getInt(best.getInt(a)) < semi.getInt(best.getInt(x))) {
+				best.setInt(x, best.getInt(a));
+			}
+			ancestor.setInt(x, ancestor.getInt(a));
+		}
+		return best.getInt(v);
+	}
+
+	/**
+	 * Group the edges by their first node.
+	 */
+	private void toRows(Array from, Array to, long edges, Array start, Array rows) {
+		for (long e = 0; e < edges; ++e) {
+			int v = from.getInt(e);
+			start.setLong(v, start.getLong(v) + 1);
+		}
+		// Cumulative counts give the end of each row, filling backwards leaves the start
+		long total = 0;
+		for (int v = 0; v < nodes; ++v) {
+			total += start.getLong(v);
+			start.setLong(v, total);
+		}
+		start.setLong(nodes, total);
+		for (long e = 0; e < edges; ++e) {
+			int v = from.getInt(e);
+			long pos = start.getLong(v) - 1;
+			start.setLong(v, pos);
+			rows.setInt(pos, to.getInt(e));
+		}
+	}
+
+	/**
+	 * Heap sort the objects by address and remove any duplicates.
+	 * @return the new count
+	 */
+	private static long sortUnique(Array addrs, Array sizes, long count) {
+		boolean sorted = true;
+		for (long i = 2; i < count && sorted; ++i) {
+			sorted = addrs.getLong(i - 1) <= addrs.getLong(i);
+		}
+		if (!sorted) {
+			// Elements 1 to count - 1, as a heap with element i at i - 1
+			long n = count - 1;
+			for (long i = n / 2 - 1; i >= 0; --i) {
+				siftDown(addrs, sizes, i, n);
+			}
+			for (long end = n - 1; end > 0; --end) {
+				swap(addrs, sizes, 1, end + 1);
+				siftDown(addrs, sizes, 0, end);
+			}
+		}
+		long j = 1;
+		for (long i = 1; i < count; ++i) {
+			if (j > 1 && addrs.getLong(i) == addrs.getLong(j - 1)) continue;
+			addrs.setLong(j, addrs.getLong(i));
+			sizes.setLong(j, sizes.getLong(i));
+			++j;
+		}
+		return j;
+	}
+
+	private static void siftDown(Array addrs, Array sizes, long i, long n) {
+		while (2 * i + 1 < n) {
+			long c = 2 * i + 1;
+			if (c + 1 < n && addrs.getLong(c + 1) < addrs.getLong(c + 2)) {
+				++c;
+			}
+			if (addrs.getLong(i + 1) >= addrs.getLong(c + 1)) {
+				return;
+			}
+			swap(addrs, sizes, i + 1, c + 1);
+			i = c;
+		}
+	}
+
+	private static void swap(Array addrs, Array sizes, long a, long b) {
+		long t = addrs.getLong(a);
+		addrs.setLong(a, addrs.getLong(b));
+		addrs.setLong(b, t);
+		t = sizes.getLong(a);
+		sizes.setLong(a, sizes.getLong(b));
+		sizes.setLong(b, t);
+	}
+
+	private int classNode(JavaClass cls) {
+		try {
+			JavaObject jo = cls.getObject();
+			return jo != null ? findNode(jo.getID().getAddress()) : NONE;
+		} catch (CorruptDataException e) {
+			return NONE;
+		}
+	}
+
+	/**
+	 * The node of the target of a reference.
+	 * @return the node, or -1 if the target is not an object in the heap
+	 */
+	private int target(Object ref) {
+		if (!(ref instanceof JavaReference)) return NONE;
+		try {
+			Object target = ((JavaReference)ref).getTarget();
+			if (target instanceof JavaObject) {
+				return findNode(((JavaObject)target).getID().getAddress());
+			} else if (target instanceof JavaClass) {
+				return classNode((JavaClass)target);
+			}
+		} catch (CorruptDataException e) {
+			// Ignore the reference
+		} catch (DataUnavailable e) {
+			// Ignore the reference
+		}
+		return NONE;
+	}
+
+	private void setRoot(BitSet roots, Object ref) {
+		int node = target(ref);
+		if (node > 0) {
+			roots.set(node);
+		}
+	}
+
+	/**
+	 * Number of nodes, including the root node 0.
+	 */
+	public int size() {
+		return nodes;
+	}
+
+	/**
+	 * Find the node of an object.
+	 * @param address the address of the object
+	 * @return the node, or -1 if there is no object at the address
+	 */
+	public int findNode(long address) {
+		int lo = 1;
+		int hi = nodes - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			long midVal = addresses.getLong(mid);
+			if (midVal < address) {
+				lo = mid + 1;
+			} else if (midVal > address) {
+				hi = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return NONE;
+	}
+
+	public long getAddress(int node) {
+		return addresses.getLong(node);
+	}
+
+	public long getShallowSize(int node) {
+		return shallow.getLong(node);
+	}
+
+	/**
+	 * The name of the class of a node, for display.
+	 * @param node the node
+	 * @param space the address space of the runtime
+	 * @return the class name, or a description of why it is not available
+	 */
+	public String getClassName(int node, ImageAddressSpace space) {
+		try {
+			JavaObject jo = runtime.getObjectAtAddress(space.getPointer(getAddress(node)));
+			return jo.getJavaClass().getName();
+		} catch (CorruptDataException e) {
+			return "<corrupt class name>";
+		} catch (MemoryAccessException e) {
+			return "<unknown class>";
+		} catch (IllegalArgumentException e) {
+			return "<unknown class>";
+		} catch (DataUnavailable e) {
+			return "<unknown class>";
+		}
+	}
+
+	/**
+	 * The size of the objects which would be freed if this object was freed.
+	 * For the root node this is the size of the heap.
+	 */
+	public long getRetainedSize(int node) {
+		return retained.getLong(dfnum.getInt(node));
+	}
+
+	/**
+	 * The immediate dominator of a node.
+	 * @return the dominator, 0 if the node is only dominated by the root, or -1 for the root itself
+	 */
+	public int getDominator(int node) {
+		int d = idom.getInt(dfnum.getInt(node));
+		return d == NONE ? NONE : vertex.getInt(d);
+	}
+
+	/**
+	 * The nodes immediately dominated by a node with the largest retained sizes.
+	 * @param node the dominator, 0 for the objects which are only dominated by the root
+	 * @param max the most nodes to return
+	 * @return the nodes, largest first
+	 */
+	public int[] getDominated(int node, int max) {
+		int d0 = dfnum.getInt(node);
+		int top[] = new int[max];
+		int n = 0;
+		for (int d = d0 + 1; d < nodes; ++d) {
+			if (idom.getInt(d) != d0) continue;
+			long size = retained.getLong(d);
+			if (n == max && size <= retained.getLong(top[n - 1])) continue;
+			int i = n < max ? n++ : n - 1;
+			while (i > 0 && retained.getLong(top[i - 1]) < size) {
+				top[i] = top[i - 1];
+				--i;
+			}
+			top[i] = d;
+		}
+		int result[] = new int[n];
+		for (int i = 0; i < n; ++i) {
+			result[i] = vertex.getInt(top[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Allocates the arrays, within a budget for the Java heap.
+	 */
+	private static final class Store {
+		private long heapBudget = Runtime.getRuntime().maxMemory() / 2;
+
+		Array ints(long length) throws IOException {
+			return allocate(length, 2);
+		}
+
+		Array longs(long length) throws IOException {
+			return allocate(length, 3);
+		}
+
+		private Array allocate(long length, int shift) throws IOException {
+			long bytes = Math.max(length, 1) << shift;
+			if (bytes <= heapBudget) {
+				heapBudget -= bytes;
+				return new Array(length, shift, null);
+			}
+			return new Array(length, shift, AnalysisIndex.Mapped.createTemporary(".dom", bytes));
+		}
+
+		/**
+		 * A copy of the array with a new length, the old array is freed.
+		 */
+		Array grow(Array a, long length) throws IOException {
+			Array b = allocate(length, a.shift);
+			for (long i = 0, n = Math.min(a.length(), length); i < n; ++i) {
+				if (a.shift == 2) {
+					b.setInt(i, a.getInt(i));
+				} else {
+					b.setLong(i, a.getLong(i));
+				}
+			}
+			free(a);
+			return b;
+		}
+
+		void free(Array a) {
+			a.chunks = null;
+			if (a.mapped == null) {
+				heapBudget += Math.max(a.length, 1) << a.shift;
+			} else {
+				// the file must be unmapped before it can be deleted on Windows
+				a.mapped.delete();
+			}
+		}
+	}
+
+	/**
+	 * An array of ints or longs with a long index, on the Java heap or in a memory mapped file.
+	 * The chunks of a mapped file are the same size as those of the Java heap arrays.
+	 */
+	private static final class Array {
+		private static final int CHUNK_SHIFT = 27;
+		private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+		final long length;
+		final int shift;
+		/** The temporary file holding the array, or null if it is on the Java heap */
+		final AnalysisIndex.Mapped mapped;
+		ByteBuffer chunks[];
+
+		Array(long length, int shift, AnalysisIndex.Mapped mapped) {
+			this.length = length;
+			this.shift = shift;
+			this.mapped = mapped;
+			if (mapped != null) {
+				chunks = mapped.getChunks();
+			} else {
+				long bytes = Math.max(length, 1) << shift;
+				chunks = new ByteBuffer[(int)((bytes + CHUNK_MASK) >>> CHUNK_SHIFT)];
+				for (int i = 0; i < chunks.length; ++i) {
+					chunks[i] = ByteBuffer.allocate((int)Math.min(bytes - ((long)i << CHUNK_SHIFT), 1 << CHUNK_SHIFT));
+				}
+			}
+		}
+
+		long length() {
+			return length;
+		}
+
+		int getInt(long i) {
+			long b = i << 2;
+			return chunks[(int)(b >>> CHUNK_SHIFT)].getInt((int)(b & CHUNK_MASK));
+		}
+
+		void setInt(long i, int v) {
+			long b = i << 2;
+			chunks[(int)(b >>> CHUNK_SHIFT)].putInt((int)(b & CHUNK_MASK), v);
+		}
+
+		long getLong(long i) {
+			long b = i << 3;
+			return chunks[(int)(b >>> CHUNK_SHIFT)].getLong((int)(b & CHUNK_MASK));
+		}
+
+		void setLong(long i, long v) {
+			long b = i << 3;
+			chunks[(int)(b >>> CHUNK_SHIFT)].putLong((int)(b & CHUNK_MASK), v);
+		}
+
+		void fill(int v) {
+			for (long i = 0; i < length; ++i) {
+				setInt(i, v);
+			}
+		}
+	}
+}
@@ -0,0 +1,314 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.jvm.dtfjview.commands.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.image.DataUnavailable;
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.java.diagnostics.utils.IDTFJContext;
+
+/**
+ * An index of the references to each object in the Java heaps ("who points to this"),
+ * using the object numbers of the {@link AnalysisIndex}.
+ * <p>
+ * The index is held in compressed sparse row form: the referrers of object i are
+ * entries offsets[i] to offsets[i + 1] - 1 of the referrer table. An object is listed
+ * once for each of its references to the object, as returned by JavaObject.getReferences();
+ * references to a class count as references to its java/lang/Class object.
+ * <p>
+ * It is built with one walk of the heaps, which streams the references to a temporary
+ * file, then counts and places them in a memory mapped file. As with the analysis index
+ * it is saved next to the dump as <code>&lt;dump&gt;.&lt;JavaVM address&gt;.jdxr</code>
+ * where possible, and otherwise kept in a temporary file for this session.
+ */
+public final class ReferenceIndex {
+	/** Key for the index in the context properties, so it is only opened once per runtime */
+	private static final String PROPERTY = "ReferenceIndex";
+	static final String SUFFIX = ".jdxr";
+	private static final int MAGIC = 0x4A445852; // "JDXR"
+	private static final int VERSION = 1;
+	/**
+	 * magic, version, dump length, dump last modified, JavaVM address, object count,
+	 * reference count
+	 */
+	private static final int HEADER_SIZE = 48;
+	/** source and target of a reference while the heaps are walked */
+	private static final int RECORD_SIZE = 16;
+
+	private final JavaRuntime runtime;
+	private final AnalysisIndex objects;
+	private final AnalysisIndex.Mapped data;
+	private final long offsetBase;
+	private final long referrerBase;
+
+	private ReferenceIndex(JavaRuntime runtime, AnalysisIndex objects, AnalysisIndex.Mapped data) {
+		this.runtime = runtime;
+		this.objects = objects;
+		this.data = data;
+		offsetBase = HEADER_SIZE;
+		referrerBase = offsetBase + (objects.getObjectCount() + 1) * 8;
+	}
+
+	/**
+	 * Get the reference index for the current runtime, opening or building it if required.
+	 * @param ctx the context
+	 * @param out where to report progress
+	 * @return the index
+	 * @throws IOException if the index could not be built
+	 */
+	public static ReferenceIndex getIndex(IDTFJContext ctx, PrintStream out) throws IOException {
+		return getIndex(ctx, out, true);
+	}
+
+	/**
+	 * Get the reference index for the current runtime if it, and the analysis index it
+	 * uses, are already open or saved next to the dump.
+	 * @param ctx the context
+	 * @return the index, or null if it would have to be built
+	 */
+	public static ReferenceIndex getExistingIndex(IDTFJContext ctx) {
+		try {
+			return getIndex(ctx, null, false);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static ReferenceIndex getIndex(IDTFJContext ctx, PrintStream out, boolean build) throws IOException {
+		Object cached = ctx.getProperties().get(PROPERTY);
+		if (cached instanceof ReferenceIndex && ((ReferenceIndex)cached).runtime == ctx.getRuntime()) {
+			return (ReferenceIndex)cached;
+		}
+		AnalysisIndex objects = build ? AnalysisIndex.getIndex(ctx, out) : AnalysisIndex.getExistingIndex(ctx);
+		if (objects == null) {
+			return null;
+		}
+		JavaRuntime runtime = ctx.getRuntime();
+		File dump = AnalysisIndex.dumpFile(ctx);
+		long javaVM = AnalysisIndex.javaVM(runtime);
+		File indexFile = (dump != null) ? new File(dump.getPath() + "." + Long.toHexString(javaVM) + SUFFIX) : null;
+		ReferenceIndex index = (indexFile != null) ? open(runtime, objects, indexFile, dump, javaVM) : null;
+		if (index == null) {
+			if (!build) {
+				return null;
+			}
+			long start = System.currentTimeMillis();
+			out.println("Building reference index...");
+			index = build(runtime, objects, dump, javaVM, indexFile);
+			out.println("Reference index of " + index.getReferenceCount() + " references built in " + (System.currentTimeMillis() - start) / 1000 + "s");
+		}
+		ctx.getProperties().put(PROPERTY, index);
+		return index;
+	}
+
+	private static long length(long objectCount, long references) {
+		return HEADER_SIZE + (objectCount + 1) * 8 + references * 8;
+	}
+
+	/**
+	 * Open a saved index.
+	 * @return the index, or null if there isn't a usable one
+	 */
+	private static ReferenceIndex open(JavaRuntime runtime, AnalysisIndex objects, File indexFile, File dump, long javaVM) {
+		if (!indexFile.isFile() || indexFile.length() < HEADER_SIZE) return null;
+		try {
+			AnalysisIndex.Mapped data = new AnalysisIndex.Mapped(indexFile, indexFile.length(), false);
+			if (data.getInt(0) != MAGIC || data.getInt(4) != VERSION
+					|| data.getLong(8) != dump.length() || data.getLong(16) != dump.lastModified()
+					|| data.getLong(24) != javaVM || data.getLong(32) != objects.getObjectCount()
+					|| data.getLong(40) < 0 || indexFile.length() != length(objects.getObjectCount(), data.getLong(40))) {
+				// Stale index for an older dump of the same name, release it so it can be replaced
+				data.close();
+				return null;
+			}
+			return new ReferenceIndex(runtime, objects, data);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Build the index with one walk of the heaps, and save it if possible.
+	 */
+	private static ReferenceIndex build(JavaRuntime runtime, AnalysisIndex objects, File dump, long javaVM, File indexFile) throws IOException {
+		long references = 0;
+
+		// Pass 1: stream the source and target of each reference to a temporary file
+		File records = File.createTempFile("jdmpview", ".jdr");
+		records.deleteOnExit();
+		try {
+			try (RandomAccessFile raf = new RandomAccessFile(records, "rw")) {
+				FileChannel channel = raf.getChannel();
+				ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+				int heap = 0;
+				for (Iterator<?> itHeap = runtime.getHeaps(); itHeap.hasNext();) {
+					Object next = itHeap.next();
+					if (!(next instanceof JavaHeap)) continue;
+					for (Iterator<?> itObject = ((JavaHeap)next).getObjects(); itObject.hasNext();) {
+						Object obj = itObject.next();
+						if (!(obj instanceof JavaObject)) continue;
+						long address = ((JavaObject)obj).getID().getAddress();
+						long source = objects.findObjectAtOrBelow(heap, address);
+						if (source < 0 || objects.getObjectAddress(source) != address) continue;
+						for (Iterator<?> itRef = ((JavaObject)obj).getReferences(); itRef.hasNext();) {
+							long target = findTarget(objects, itRef.next());
+							if (target < 0) continue;
+							if (!buffer.hasRemaining()) {
+								flush(channel, buffer);
+							}
+							buffer.putLong(source).putLong(target);
+							references += 1;
+						}
+					}
+					heap += 1;
+				}
+				flush(channel, buffer);
+			}
+
+			// Pass 2: count the referrers of each object, then place them
+			long objectCount = objects.getObjectCount();
+			long total = length(objectCount, references);
+			AnalysisIndex.Mapped data = AnalysisIndex.Mapped.create(indexFile, total);
+			data.putInt(0, MAGIC);
+			data.putInt(4, VERSION);
+			data.putLong(8, dump != null ? dump.length() : 0);
+			data.putLong(16, dump != null ? dump.lastModified() : 0);
+			data.putLong(24, javaVM);
+			data.putLong(32, objectCount);
+			data.putLong(40, references);
+			ReferenceIndex index = new ReferenceIndex(runtime, objects, data);
+
+			// offsets[t + 1] counts the referrers of t, then holds the end of them
+			readRecords(records, references, (source, t) -> {
+				long offset = index.offsetBase + (t + 1) * 8;
+				index.data.putLong(offset, index.data.getLong(offset) + 1);
+			});
+			for (long t = 0; t < objectCount; ++t) {
+				long offset = index.offsetBase + (t + 1) * 8;
+				data.putLong(offset, data.getLong(offset) + data.getLong(offset - 8));
+			}
+			// offsets[t] is the next free entry for t, so ends up as the start of t + 1
+			readRecords(records, references, (source, t) -> {
+				long offset = index.offsetBase + t * 8;
+				long position = index.data.getLong(offset);
+				index.data.putLong(index.referrerBase + position * 8, source);
+				index.data.putLong(offset, position + 1);
+			});
+			for (long t = objectCount; t > 0; --t) {
+				data.putLong(index.offsetBase + t * 8, data.getLong(index.offsetBase + (t - 1) * 8));
+			}
+			data.putLong(index.offsetBase, 0);
+
+			return new ReferenceIndex(runtime, objects, data.save(indexFile));
+		} finally {
+			records.delete();
+		}
+	}
+
+	/**
+	 * The object referred to by a reference.
+	 * @return the object number, or -1 if the target is not an object in the heaps
+	 */
+	private static long findTarget(AnalysisIndex objects, Object reference) {
+		if (!(reference instanceof JavaReference)) {
+			return -1;
+		}
+		try {
+			Object target = ((JavaReference)reference).getTarget();
+			if (target instanceof JavaClass) {
+				target = ((JavaClass)target).getObject();
+			}
+			if (target instanceof JavaObject) {
+				return objects.findObject(((JavaObject)target).getID().getAddress());
+			}
+		} catch (CorruptDataException e) {
+			// skip the reference
+		} catch (DataUnavailable e) {
+			// skip the reference
+		}
+		return -1;
+	}
+
+	private interface RecordVisitor {
+		void visit(long source, long target);
+	}
+
+	private static void readRecords(File records, long count, RecordVisitor visitor) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(records, "r")) {
+			FileChannel channel = raf.getChannel();
+			ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+			long read = 0;
+			while (read < count && channel.read(buffer) >= 0) {
+				buffer.flip();
+				while (buffer.remaining() >= RECORD_SIZE) {
+					visitor.visit(buffer.getLong(), buffer.getLong());
+					read += 1;
+				}
+				buffer.compact();
+			}
+		}
+	}
+
+	private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Number of references between objects in the heaps.
+	 */
+	public long getReferenceCount() {
+		return data.getLong(40);
+	}
+
+	/**
+	 * The objects which refer to an object.
+	 * @param object the object, numbered as in the analysis index
+	 * @return the referring objects in ascending order, with an object listed once for each reference
+	 */
+	public long[] getReferrers(long object) {
+		long start = data.getLong(offsetBase + object * 8);
+		long[] referrers = new long[(int)Math.min(Integer.MAX_VALUE - 8, data.getLong(offsetBase + (object + 1) * 8) - start)];
+		for (int i = 0; i < referrers.length; ++i) {
+			referrers[i] = data.getLong(referrerBase + (start + i) * 8);
+		}
+		Arrays.sort(referrers);
+		return referrers;
+	}
+}
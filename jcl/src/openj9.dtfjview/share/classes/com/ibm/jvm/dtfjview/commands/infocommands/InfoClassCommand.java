@@ -22,6 +22,7 @@
  *******************************************************************************/
 package com.ibm.jvm.dtfjview.commands.infocommands;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Collection;
 import java.util.Collections;
@@ -44,6 +45,7 @@ import com.ibm.java.diagnostics.utils.IContext;
 import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
 import com.ibm.jvm.dtfjview.commands.BaseJdmpviewCommand;
+import com.ibm.jvm.dtfjview.commands.helpers.AnalysisIndex;
 import com.ibm.jvm.dtfjview.commands.helpers.ClassOutput;
 import com.ibm.jvm.dtfjview.commands.helpers.Exceptions;
 import com.ibm.jvm.dtfjview.commands.helpers.Utils;
@@ -66,7 +68,7 @@ public class InfoClassCommand extends BaseJdmpviewCommand {
 		if(initCommand(command, args, context, out)) {
 			return;		//processing already handled by super class
 		}
-		if (classInstanceCounts == null) {
+		if (classInstanceCounts == null || !classInstanceCounts.containsKey(ctx.getRuntime())) {
 			cacheRuntimeClasses();
 			countClassInstances();
 		}
@@ -237,7 +239,9 @@ public class InfoClassCommand extends BaseJdmpviewCommand {
 	 */
 	private void cacheRuntimeClasses() {
 
-		classInstanceCounts = new HashMap<JavaRuntime, Map<JavaClass,ClassStatistics>>();
+		if (classInstanceCounts == null) {
+			classInstanceCounts = new HashMap<JavaRuntime, Map<JavaClass,ClassStatistics>>();
+		}
 		long corruptClassCount = 0;
 		
 		Map<JavaClass, ClassStatistics> classesOfThisRuntime = new HashMap<JavaClass, ClassStatistics>();
@@ -311,6 +315,53 @@ public class InfoClassCommand extends BaseJdmpviewCommand {
 	}
 
 	private void countClassInstances() {
+		AnalysisIndex index;
+		try {
+			index = AnalysisIndex.getIndex(ctx, out);
+		} catch (IOException e) {
+			out.println("Warning, unable to build analysis index, walking the heap: " + e.getMessage());
+			walkHeapForClassInstances();
+			return;
+		}
+		JavaRuntime runtime = ctx.getRuntime();
+		Map<JavaClass, ClassStatistics> thisRuntimeClasses = classInstanceCounts.get(runtime);
+		Map<Long, JavaClass> classesByAddress = new HashMap<Long, JavaClass>();
+		for (JavaClass jc : getRuntimeClasses(runtime)) {
+			classesByAddress.put(Long.valueOf(jc.getID().getAddress()), jc);
+		}
+		long corruptObjectCount = 0;
+		long corruptClassCount = index.getCorruptClassCount();
+
+		for (int heap = 0; heap < index.getHeapCount(); heap++) {
+			corruptObjectCount += index.getCorruptObjectCount(heap) + index.getCorruptSizeCount(heap);
+		}
+		for (int c = 0; c < index.getClassCount(); c++) {
+			// Check whether we found this class in the classloaders walk earlier
+			JavaClass jc = classesByAddress.get(Long.valueOf(index.getClassAddress(c)));
+			if (jc == null) {
+				jc = index.getJavaClass(c, ctx);
+				if (jc == null) {
+					corruptClassCount += index.getInstanceCount(c);
+					continue;
+				}
+				out.println("Warning, class: " + index.getClassName(c) + " found when walking the heap was missing from classloader walk");
+			}
+			ClassStatistics stats = thisRuntimeClasses.get(jc);
+			if (stats == null) {
+				stats = new ClassStatistics();
+				thisRuntimeClasses.put(jc, stats);
+			}
+			stats.addInstances((int)index.getInstanceCount(c), index.getInstanceSize(c));
+		}
+		if (corruptObjectCount != 0) {
+			out.println("Warning, found " + corruptObjectCount + " corrupt objects during heap walk");
+		}
+		if (corruptClassCount != 0) {
+			out.println("Warning, found " + corruptClassCount + " corrupt class references during heap walk");
+		}
+	}
+
+	private void walkHeapForClassInstances() {
 		JavaRuntime runtime = ctx.getRuntime();
 		Map<JavaClass, ClassStatistics> thisRuntimeClasses = classInstanceCounts.get(runtime);
 		final Collection<JavaClass> javaClasses = getRuntimeClasses(runtime);
@@ -426,6 +477,11 @@ public class InfoClassCommand extends BaseJdmpviewCommand {
 		public void addToSize(long sizeToAdd){
 			this.totalSize += sizeToAdd;
 		}
+
+		public void addInstances(int countToAdd, long sizeToAdd){
+			this.count += countToAdd;
+			this.totalSize += sizeToAdd;
+		}
 	}
 
 	private static int cmp(long n1, long n2) {
@@ -22,6 +22,7 @@
  *******************************************************************************/
 package com.ibm.jvm.dtfjview.commands.infocommands;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Iterator;
 
@@ -36,6 +37,7 @@ import com.ibm.java.diagnostics.utils.IContext;
 import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
 import com.ibm.jvm.dtfjview.commands.BaseJdmpviewCommand;
+import com.ibm.jvm.dtfjview.commands.helpers.AnalysisIndex;
 
 @DTFJPlugin(version="1.*", runtime=false)
 public class InfoHeapCommand extends BaseJdmpviewCommand {
@@ -124,7 +126,7 @@ public class InfoHeapCommand extends BaseJdmpviewCommand {
 			JavaHeap theHeap = (JavaHeap)itHeaps.next();
 			if (theHeap.getName().indexOf(param)==0){
 				out.print("\t Heap #" + countheaps + ":  " + theHeap.getName()+"\n");
-				printOccupancyInfo(theHeap, out);
+				printOccupancyInfo(theHeap, countheaps - 1, out);
 				printSectionInfo(theHeap, out);
 				foundHeap = true;
 			}
@@ -134,11 +136,11 @@ public class InfoHeapCommand extends BaseJdmpviewCommand {
 		return foundHeap;
 	}
 
-	private void printOccupancyInfo(JavaHeap theHeap, PrintStream out){
+	private void printOccupancyInfo(JavaHeap theHeap, int heapIndex, PrintStream out){
 		/*
-		 * This method takes a lot of time and hence this information is only included 
-		 * when using "info heap <heapname>". If this method was run for every heap 
-		 * when using "info heap *" the amount of time it would take would be astronomical.
+		 * Walking the objects takes a lot of time and hence this information is only included 
+		 * when using "info heap <heapname>". The totals are taken from the analysis index when
+		 * it is available, so the heap is only walked once.
 		 */
 		long size = 0;
 		long totalObjectSize = 0;
@@ -164,6 +166,24 @@ public class InfoHeapCommand extends BaseJdmpviewCommand {
 		}
 		out.print("\t  Size of heap: "+ size + " bytes\n");
 		
+		AnalysisIndex index = null;
+		try {
+			index = AnalysisIndex.getIndex(ctx, out);
+		} catch (IOException e) {
+			out.print("\t\t Warning - unable to build analysis index: " + e.getMessage() + "\n");
+		}
+		if (index != null && heapIndex < index.getHeapCount()) {
+			totalCorruptObjects = index.getCorruptObjectCount(heapIndex);
+			totalObjects = index.getObjectCount(heapIndex) + totalCorruptObjects;
+			totalObjectSize = index.getTotalSize(heapIndex);
+			if (index.getCorruptSizeCount(heapIndex) == 0) {
+				printOccupancy(totalObjectSize, size, totalObjects, totalCorruptObjects, out);
+			} else {
+				out.print("\t  Occupancy :   <unknown>\n");
+			}
+			return;
+		}
+		
 		Iterator<?> itObjects = theHeap.getObjects();
 		try{
 			while (itObjects.hasNext()){
@@ -183,13 +203,7 @@ public class InfoHeapCommand extends BaseJdmpviewCommand {
 				}
 			}
 			
-			float percentage = ((float)totalObjectSize/(float)size)*10000; 
-			int trimmedPercent = ((int)percentage); // Sending this float through an int gets it down to 2 decimal places.
-			percentage = ((float)trimmedPercent)/100;
-			
-			out.print("\t  Occupancy               :   "+ totalObjectSize + " bytes  (" + percentage + "%)\n");
-			out.print("\t  Total objects           :   "+ totalObjects + "\n");
-			out.print("\t  Total corrupted objects :   "+ totalCorruptObjects + "\n");
+			printOccupancy(totalObjectSize, size, totalObjects, totalCorruptObjects, out);
 		
 		} catch (CorruptDataException e){
 			out.print("\t  Occupancy :   <unknown>\n");
@@ -197,6 +211,16 @@ public class InfoHeapCommand extends BaseJdmpviewCommand {
 		
 	}
 
+	private static void printOccupancy(long totalObjectSize, long size, long totalObjects, long totalCorruptObjects, PrintStream out) {
+		float percentage = ((float)totalObjectSize/(float)size)*10000; 
+		int trimmedPercent = ((int)percentage); // Sending this float through an int gets it down to 2 decimal places.
+		percentage = ((float)trimmedPercent)/100;
+		
+		out.print("\t  Occupancy               :   "+ totalObjectSize + " bytes  (" + percentage + "%)\n");
+		out.print("\t  Total objects           :   "+ totalObjects + "\n");
+		out.print("\t  Total corrupted objects :   "+ totalCorruptObjects + "\n");
+	}
+
 	@Override
 	public void printDetailedHelp(PrintStream out) {
 		out.println("displays information about Java heaps\n\n" +
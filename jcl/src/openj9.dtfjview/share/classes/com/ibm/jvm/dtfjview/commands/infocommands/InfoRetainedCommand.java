@@ -0,0 +1,93 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.jvm.dtfjview.commands.infocommands;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+import com.ibm.java.diagnostics.utils.IContext;
+import com.ibm.java.diagnostics.utils.commands.CommandException;
+import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
+import com.ibm.jvm.dtfjview.commands.BaseJdmpviewCommand;
+import com.ibm.jvm.dtfjview.commands.helpers.DominatorTree;
+import com.ibm.jvm.dtfjview.commands.helpers.Utils;
+
+@DTFJPlugin(version="1.*", runtime=false)
+public class InfoRetainedCommand extends BaseJdmpviewCommand {
+	private static final int DEFAULT_COUNT = 20;
+
+	{
+		addCommand("info retained", "[count]", "Displays the objects which retain the most memory in the Java heap");
+	}
+
+	public void run(String command, String[] args, IContext context, PrintStream out) throws CommandException {
+		if(initCommand(command, args, context, out)) {
+			return;		//processing already handled by super class
+		}
+		int count = DEFAULT_COUNT;
+		if (args.length > 1) {
+			out.println("\"info retained\" takes at most one parameter");
+			return;
+		}
+		if (args.length == 1) {
+			try {
+				count = Integer.parseInt(args[0]);
+			} catch (NumberFormatException e) {
+				count = -1;
+			}
+			if (count <= 0) {
+				out.println("\"info retained\" -invalid count " + args[0]);
+				return;
+			}
+		}
+
+		DominatorTree tree;
+		try {
+			tree = DominatorTree.getDominatorTree(ctx, out);
+		} catch (IOException e) {
+			throw new CommandException("Unable to build the dominator tree: " + e.getMessage(), e);
+		}
+		long total = tree.getRetainedSize(0);
+		out.println();
+		out.printf("%-18s  %16s  %16s  %7s  %s%n", "Object", "Shallow size", "Retained size", "Heap %", "Class");
+		for (int node : tree.getDominated(0, count)) {
+			long retained = tree.getRetainedSize(node);
+			out.printf("%-18s  %,16d  %,16d  %6.2f%%  %s%n", Utils.toHex(tree.getAddress(node)), tree.getShallowSize(node),
+					retained, total != 0 ? 100.0 * retained / total : 0.0, tree.getClassName(node, ctx.getAddressSpace()));
+		}
+		out.println();
+		out.printf("Total: %,d objects, %,d bytes%n", tree.size() - 1, total);
+		out.println("Use \"x/dominators <object address>\" to show what keeps an object alive.");
+	}
+
+	@Override
+	public void printDetailedHelp(PrintStream out) {
+		out.println("displays the objects which retain the most memory in the Java heap\n\n" +
+				"parameters: none, or the number of objects to display (default " + DEFAULT_COUNT + ")\n\n" +
+				"The retained size of an object is the total size of the objects which are only reachable " +
+				"through it, and so would be freed if it was freed. The objects listed are those which are " +
+				"only dominated by the roots, largest first.\n" +
+				"The dominator tree is built the first time the command is run, which reads the whole heap twice.\n"
+				);
+	}
+}
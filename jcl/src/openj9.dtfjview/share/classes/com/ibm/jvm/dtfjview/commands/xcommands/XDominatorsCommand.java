@@ -0,0 +1,105 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.jvm.dtfjview.commands.xcommands;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+import com.ibm.java.diagnostics.utils.IContext;
+import com.ibm.java.diagnostics.utils.commands.CommandException;
+import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
+import com.ibm.jvm.dtfjview.commands.BaseJdmpviewCommand;
+import com.ibm.jvm.dtfjview.commands.helpers.DominatorTree;
+import com.ibm.jvm.dtfjview.commands.helpers.Utils;
+
+/**
+ * Not an {@link XCommand} as those are selected by the last letter of the command.
+ */
+@DTFJPlugin(version="1.*", runtime=false)
+public class XDominatorsCommand extends BaseJdmpviewCommand {
+	private static final int DOMINATED_COUNT = 10;
+
+	{
+		addCommand("x/dominators", "<object address>", "displays the chain of objects which keeps an object alive");
+	}
+
+	public void run(String command, String[] args, IContext context, PrintStream out) throws CommandException {
+		if(initCommand(command, args, context, out)) {
+			return;		//processing already handled by super class
+		}
+		if (args.length != 1) {
+			out.println("\"x/dominators\" requires an object address");
+			return;
+		}
+		Long address = Utils.longFromStringWithPrefix(args[0]);
+		if (address == null) {
+			out.println("\"x/dominators\" -invalid address " + args[0]);
+			return;
+		}
+
+		DominatorTree tree;
+		try {
+			tree = DominatorTree.getDominatorTree(ctx, out);
+		} catch (IOException e) {
+			throw new CommandException("Unable to build the dominator tree: " + e.getMessage(), e);
+		}
+		int node = tree.findNode(address.longValue());
+		if (node <= 0) {
+			out.println("No object found at address " + Utils.toHex(address.longValue()));
+			return;
+		}
+
+		out.println();
+		out.println("Dominators:");
+		out.printf("\t%-18s  %16s  %16s  %s%n", "Object", "Shallow size", "Retained size", "Class");
+		for (int n = node; n > 0; n = tree.getDominator(n)) {
+			print(tree, n, out);
+		}
+		out.println("\t<roots>");
+
+		int dominated[] = tree.getDominated(node, DOMINATED_COUNT);
+		if (dominated.length > 0) {
+			out.println();
+			out.println("Largest objects dominated by " + Utils.toHex(address.longValue()) + ":");
+			for (int n : dominated) {
+				print(tree, n, out);
+			}
+		}
+	}
+
+	private void print(DominatorTree tree, int node, PrintStream out) {
+		out.printf("\t%-18s  %,16d  %,16d  %s%n", Utils.toHex(tree.getAddress(node)), tree.getShallowSize(node),
+				tree.getRetainedSize(node), tree.getClassName(node, ctx.getAddressSpace()));
+	}
+
+	@Override
+	public void printDetailedHelp(PrintStream out) {
+		out.println("displays the chain of objects which keeps an object alive\n\n" +
+				"parameters: <object address>\n\n" +
+				"Starting with the object, each line shows the immediate dominator of the line before, " +
+				"i.e. the nearest object which every path from the roots to the object goes through, " +
+				"with its retained size. This is followed by the largest objects the object dominates.\n" +
+				"The dominator tree is built the first time the command is run, which reads the whole heap twice.\n"
+				);
+	}
+}
@@ -38,6 +38,7 @@
  */
 package com.ibm.jvm;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
@@ -60,6 +61,10 @@ import java.util.*;
  * If the number or types of the parameters passed to {@code trace(int handle, int traceId, ...)}
  * do not match the arguments in {@code formats[traceId]} a java/lang/IllegalArgumentException
  * will be thrown.
+ * <p>
+ * A call to {@code trace(int handle, int traceId, ...)} for a trace point that is not enabled
+ * returns immediately, without checking its arguments. Use {@link #isEnabled(int, int)} to
+ * avoid building arguments for such trace points.
  */
 public final class Trace {
 
@@ -73,6 +78,15 @@ public final class Trace {
 
 	private static final TracePermission TRACE_PERMISSION = new TracePermission();
 
+	/**
+	 * Active states of the trace points of each registered application, indexed by handle.
+	 * Each buffer is a view of the states maintained by the trace engine, so it reflects
+	 * later changes made on the command line or by {@link #set(String)}. The array is
+	 * replaced, never modified, when an application is registered. The native sets it to
+	 * null when trace is terminated, before the memory viewed by the buffers is freed.
+	 */
+	private static volatile ByteBuffer[] tracePointStates = new ByteBuffer[0];
+
 	/**
 	 * Initialize the class.
 	 */
@@ -254,9 +268,55 @@ public final class Trace {
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(name, "name"); //$NON-NLS-1$
 		Objects.requireNonNull(templates, "templates"); //$NON-NLS-1$
-		return registerApplicationImpl(name, templates);
+		int handle = registerApplicationImpl(name, templates);
+		if (handle > 0) {
+			ByteBuffer states = getTracePointStatesImpl(handle);
+			ByteBuffer[] oldStates = tracePointStates;
+			if ((states != null) && (oldStates != null)) {
+				ByteBuffer[] newStates = Arrays.copyOf(oldStates, Math.max(oldStates.length, handle + 1));
+				newStates[handle] = states;
+				tracePointStates = newStates;
+			}
+		}
+		return handle;
 	}  /* ibm@94077 */
 
+	/**
+	 * Answers whether an application trace point is enabled. This can be used
+	 * to avoid the cost of building the arguments for a trace point that would
+	 * not be recorded.
+	 *
+	 * @param handle
+	 *            the value returned by {@link #registerApplication(String, String[])}
+	 * @param traceId
+	 *            the index of the trace point in the templates array
+	 * @return true if the trace point is enabled, false if it is disabled or
+	 *         the handle or traceId is not valid
+	 *
+	 * @throws SecurityException
+	 *             if there is a security manager and it doesn't allow the
+	 *             checks required to use the Trace API
+	 */
+	public static boolean isEnabled(int handle, int traceId) {
+		checkTraceSecurityPermssion();
+		ByteBuffer states = getTracePointStates(handle);
+		return (states != null) && (traceId >= 0) && (traceId < states.limit()) && (states.get(traceId) != 0);
+	}
+
+	private static ByteBuffer getTracePointStates(int handle) {
+		ByteBuffer[] states = tracePointStates;
+		return ((states != null) && (handle > 0) && (handle < states.length)) ? states[handle] : null;
+	}
+
+	/*
+	 * Answers true only for a valid trace point that is known to be disabled;
+	 * anything else is passed to the native so errors are still reported.
+	 */
+	private static boolean isDisabled(int handle, int traceId) {
+		ByteBuffer states = getTracePointStates(handle);
+		return (states != null) && (traceId >= 0) && (traceId < states.limit()) && (states.get(traceId) == 0);
+	}
+
 	// Trace control API natives
 	private static native int setImpl(String cmd);
 
@@ -274,6 +334,8 @@ public final class Trace {
 	private static native int registerApplicationImpl(String name,
 			String[] templates); /* ibm@94077 */
 
+	private static native ByteBuffer getTracePointStatesImpl(int handle);
+
 	/**
 	 * Check the caller has permission to use the Trace API for calls that existed pre-Java 8
 	 * when security was added. Public API added after Java 8 should call checkTraceSecurityPermssion()
@@ -298,17 +360,26 @@ public final class Trace {
 
 	// Application trace tracing methods
 	public static void trace(int handle, int traceId) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId);
 	}
 
 	public static void trace(int handle, int traceId, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, s1);
 	}
 
 	public static void trace(int handle, int traceId, String s1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -316,6 +387,9 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, String s1, String s2, String s3) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -324,6 +398,9 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, String s1, Object o1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(o1, "o1"); //$NON-NLS-1$
@@ -331,6 +408,9 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, Object o1, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(o1, "o1"); //$NON-NLS-1$
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
@@ -338,84 +418,126 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, String s1, int i1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, s1, i1);
 	}
 
 	public static void trace(int handle, int traceId, int i1, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, i1, s1);
 	}
 
 	public static void trace(int handle, int traceId, String s1, long l1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, s1, l1);
 	}
 
 	public static void trace(int handle, int traceId, long l1, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, l1, s1);
 	}
 
 	public static void trace(int handle, int traceId, String s1, byte b1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, s1, b1);
 	}
 
 	public static void trace(int handle, int traceId, byte b1, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, b1, s1);
 	}
 
 	public static void trace(int handle, int traceId, String s1, char c1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, s1, c1);
 	}
 
 	public static void trace(int handle, int traceId, char c1, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, c1, s1);
 	}
 
 	public static void trace(int handle, int traceId, String s1, float f1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, s1, f1);
 	}
 
 	public static void trace(int handle, int traceId, float f1, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, f1, s1);
 	}
 
 	public static void trace(int handle, int traceId, String s1, double d1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, s1, d1);
 	}
 
 	public static void trace(int handle, int traceId, double d1, String s1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, d1, s1);
 	}
 
 	public static void trace(int handle, int traceId, Object o1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(o1, "o1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, o1);
 	}
 
 	public static void trace(int handle, int traceId, Object o1, Object o2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(o1, "o1"); //$NON-NLS-1$
 		Objects.requireNonNull(o2, "o2"); //$NON-NLS-1$
@@ -423,96 +545,153 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, int i1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, i1);
 	}
 
 	public static void trace(int handle, int traceId, int i1, int i2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, i1, i2);
 	}
 
 	public static void trace(int handle, int traceId, int i1, int i2, int i3) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, i1, i2, i3);
 	}
 
 	public static void trace(int handle, int traceId, long l1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, l1);
 	}
 
 	public static void trace(int handle, int traceId, long l1, long l2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, l1, l2);
 	}
 
 	public static void trace(int handle, int traceId, long l1, long l2, long i3) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, l1, l2, i3);
 	}
 
 	public static void trace(int handle, int traceId, byte b1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, b1);
 	}
 
 	public static void trace(int handle, int traceId, byte b1, byte b2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, b1, b2);
 	}
 
 	public static void trace(int handle, int traceId, byte b1, byte b2, byte b3) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, b1, b2, b3);
 	}
 
 	public static void trace(int handle, int traceId, char c1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, c1);
 	}
 
 	public static void trace(int handle, int traceId, char c1, char c2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, c1, c2);
 	}
 
 	public static void trace(int handle, int traceId, char c1, char c2, char c3) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, c1, c2, c3);
 	}
 
 	public static void trace(int handle, int traceId, float f1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, f1);
 	}
 
 	public static void trace(int handle, int traceId, float f1, float f2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, f1, f2);
 	}
 
 	public static void trace(int handle, int traceId, float f1, float f2, float f3) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, f1, f2, f3);
 	}
 
 	public static void trace(int handle, int traceId, double d1) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, d1);
 	}
 
 	public static void trace(int handle, int traceId, double d1, double d2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, d1, d2);
 	}
 
 	public static void trace(int handle, int traceId, double d1, double d2, double d3) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		traceImpl(handle, traceId, d1, d2, d3);
 	}
 
 	public static void trace(int handle, int traceId, String s1, Object o1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(o1, "o1"); //$NON-NLS-1$
@@ -521,6 +700,9 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, Object o1, String s1, Object o2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(o1, "o1"); //$NON-NLS-1$
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
@@ -529,6 +711,9 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, String s1, int i1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -536,12 +721,18 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, int i1, String s1, int i2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, i1, s1, i2);
 	}
 
 	public static void trace(int handle, int traceId, String s1, long l1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -549,12 +740,18 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, long l1, String s1, long l2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, l1, s1, l2);
 	}
 
 	public static void trace(int handle, int traceId, String s1, byte b1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -562,12 +759,18 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, byte b1, String s1, byte b2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, b1, s1, b2);
 	}
 
 	public static void trace(int handle, int traceId, String s1, char c1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -575,12 +778,18 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, char c1, String s1, char c2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, c1, s1, c2);
 	}
 
 	public static void trace(int handle, int traceId, String s1, float f1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -588,12 +797,18 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, float f1, String s1, float f2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, f1, s1, f2);
 	}
 
 	public static void trace(int handle, int traceId, String s1, double d1, String s2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		Objects.requireNonNull(s2, "s2"); //$NON-NLS-1$
@@ -601,6 +816,9 @@ public final class Trace {
 	}
 
 	public static void trace(int handle, int traceId, double d1, String s1, double d2) {
+		if (isDisabled(handle, traceId)) {
+			return;
+		}
 		checkLegacySecurityPermssion();
 		Objects.requireNonNull(s1, "s1"); //$NON-NLS-1$
 		traceImpl(handle, traceId, d1, s1, d2);
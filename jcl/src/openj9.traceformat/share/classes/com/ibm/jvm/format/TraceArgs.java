@@ -47,6 +47,7 @@ final public class TraceArgs {
     public      static            boolean              is50orNewer;
     public      static            boolean              override;
     public      static            String               datFileDirectory = null;
+    public      static            boolean              stream;
     
    /** Initializes static variables.
     *
@@ -66,6 +67,7 @@ final public class TraceArgs {
         userVMIdentifier = null;
 	is50orNewer = false;
 	override = false;
+        stream     = false;
     }
 
     /** parses the command line arguments
@@ -105,6 +107,8 @@ final public class TraceArgs {
                         parseThread(args[index]);
                     } else if ( args[index].equals("-indent") ) {
                         indent=true;
+                    } else if ( args[index].equals("-stream") ) {
+                        stream=true;
                     } else if ( args[index].equals("-symbolic") ) {
                         symbolic=true;
                     } else if ( args[index].equals("-help") ) {
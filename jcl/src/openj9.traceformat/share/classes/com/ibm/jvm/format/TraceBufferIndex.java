@@ -0,0 +1,199 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.jvm.format;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Compact, per-thread index of the trace buffers in one or more trace files.
+ * <p>
+ * Used by the streaming mode of the formatter (-stream) in place of holding a
+ * TraceRecord50 object for every buffer in the file. Only the file, the offset
+ * and the system write time of each buffer are kept (20 bytes per buffer); the
+ * TraceRecord50 is re-created from the file when the formatter reaches it, so
+ * the memory needed is bounded by the number of traced threads rather than by
+ * the size of the trace file.
+ */
+final class TraceBufferIndex {
+
+	private TraceFile[] files = new TraceFile[0];
+
+	private int[] fileIds = new int[16];
+
+	private long[] offsets = new long[16];
+
+	private long[] writeTimes = new long[16];
+
+	private int count = 0;
+
+	private int[] order = null;
+
+	private int cursor = 0;
+
+	/**
+	 * Record a buffer whose header has already been read.
+	 *
+	 * @param traceFile the file containing the buffer
+	 * @param record the header of the buffer
+	 */
+	void add(TraceFile traceFile, TraceRecord50 record)
+	{
+		ensureCapacity();
+		fileIds[count] = fileId(traceFile);
+		offsets[count] = record.getOffsetInFile();
+		writeTimes[count] = record.getWriteSystem().longValue();
+		count++;
+	}
+
+	/**
+	 * Append the buffers recorded in another index, e.g. for the same thread in a
+	 * later trace file.
+	 *
+	 * @param other the index to append
+	 */
+	void addAll(TraceBufferIndex other)
+	{
+		for (int i = 0; i < other.count; i++) {
+			ensureCapacity();
+			fileIds[count] = fileId(other.files[other.fileIds[i]]);
+			offsets[count] = other.offsets[i];
+			writeTimes[count] = other.writeTimes[i];
+			count++;
+		}
+	}
+
+	private void ensureCapacity()
+	{
+		if (count == offsets.length) {
+			int newLength = count * 2;
+			fileIds = Arrays.copyOf(fileIds, newLength);
+			offsets = Arrays.copyOf(offsets, newLength);
+			writeTimes = Arrays.copyOf(writeTimes, newLength);
+		}
+	}
+
+	private int fileId(TraceFile traceFile)
+	{
+		for (int i = files.length - 1; i >= 0; i--) {
+			if (files[i] == traceFile) {
+				return i;
+			}
+		}
+		files = Arrays.copyOf(files, files.length + 1);
+		files[files.length - 1] = traceFile;
+		return files.length - 1;
+	}
+
+	/**
+	 * Put the buffers into the order they were written in. This is the same
+	 * ordering as TraceRecord50.compareTo(), and must be called once all of
+	 * the trace files have been scanned so that the wrap offsets are known.
+	 */
+	void sort()
+	{
+		order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		/* the buffers for a thread are written FIFO, so only wrapped files need sorting */
+		boolean sorted = true;
+		for (int i = 1; i < count; i++) {
+			if (compare(i - 1, i) > 0) {
+				sorted = false;
+				break;
+			}
+		}
+		if (!sorted) {
+			/* stable, so records with identical write times stay in file order */
+			mergeSort(order, new int[count], 0, count);
+		}
+		cursor = 0;
+	}
+
+	private void mergeSort(int[] a, int[] scratch, int from, int to)
+	{
+		if ((to - from) < 2) {
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		mergeSort(a, scratch, from, middle);
+		mergeSort(a, scratch, middle, to);
+		if (compare(a[middle - 1], a[middle]) <= 0) {
+			return;
+		}
+		System.arraycopy(a, from, scratch, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if ((right >= to) || ((left < middle) && (compare(scratch[left], scratch[right]) <= 0))) {
+				a[i] = scratch[left++];
+			} else {
+				a[i] = scratch[right++];
+			}
+		}
+	}
+
+	private int compare(int first, int second)
+	{
+		long firstTime = writeTimes[first];
+		long secondTime = writeTimes[second];
+		if ((firstTime == 0) || (secondTime == 0)) {
+			return 0;
+		}
+		int result = Long.compareUnsigned(firstTime, secondTime);
+		if (result == 0) {
+			/* tie-breaker for records in wrapped trace files, see TraceRecord50.compareTo() */
+			long wrapOffset = files[fileIds[first]].wrapOffset;
+			if ((offsets[first] <= wrapOffset) && (offsets[second] > wrapOffset)) {
+				return 1;
+			}
+			if ((offsets[first] > wrapOffset) && (offsets[second] <= wrapOffset)) {
+				return -1;
+			}
+		}
+		return result;
+	}
+
+	boolean hasNext()
+	{
+		return cursor < count;
+	}
+
+	/**
+	 * Re-read the header of the next buffer from its trace file.
+	 *
+	 * @return the trace record for the next buffer
+	 * @throws IOException if the header can't be read
+	 */
+	TraceRecord50 next() throws IOException
+	{
+		int entry = order[cursor++];
+		TraceFile traceFile = files[fileIds[entry]];
+		TraceRecord50 record = new TraceRecord50();
+		record.setTraceType(traceFile.traceFileHeader.traceSection.getTraceType());
+		/* the header was counted and its times recorded when the index was built */
+		record.readTraceBufferHeader(traceFile, offsets[entry], traceFile.traceFileHeader.getBufferSize());
+		return record;
+	}
+}
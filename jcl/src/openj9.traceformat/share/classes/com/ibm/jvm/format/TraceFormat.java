@@ -25,6 +25,10 @@ package com.ibm.jvm.format;
 import java.io.*;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Main routine for formatting the trace file. Reads raw trace data and formats 
@@ -92,7 +96,7 @@ final public class TraceFormat
 			+ "java com.ibm.jvm.format.TraceFormat input_filespec [output_filespec] \n"
 /*[ENDIF] Sidecar18-SE-OpenJ9 */
 			+ "\t[-summary] [-datdir datfiledirectory] [-uservmid vmid] [-thread:id] [-indent] \n"
-			+ "\t[-overridetimezone noOfHours] [-help]\n"
+			+ "\t[-overridetimezone noOfHours] [-stream] [-help]\n"
 			+ "\n"
 			+ "where:\n"
 			+ "\tinput_filespec = trace file generated by the jvm to be processed\n"
@@ -131,6 +135,9 @@ final public class TraceFormat
 			+ "\t           -overridetimezone -4\n"
 			+ "\tindent = specify indentation at Entry/Exit trace points.\n"
 			+ "\t      Default is not to indent.\n"
+			+ "\tstream = read the trace buffers from the trace file as they are\n"
+			+ "\t      formatted rather than holding them all in memory. Use this\n"
+			+ "\t      for very large trace files.\n"
     		+"\thelp 	= display this message and stop.";
 
 	protected static final String header = "                Trace Formatted Data ";
@@ -511,7 +518,7 @@ final public class TraceFormat
 	
 		int bufferSize = 0;
 
-		Hashtable listOfThreadBuffers = new Hashtable();
+		Vector filesToExtract = new Vector();
 		// process the trace files in order
 		TraceFormat.outStream
 				.println("*** Starting data extraction from binary trace file(s) ");
@@ -551,30 +558,40 @@ final public class TraceFormat
 			Util.Debug.println("TP data starts at " + dataStart
 					+ ", buffer size is " + bufferSize + ": file contains "
 					+ numberOfBuffers + " buffers.");
-			/* process the trace files */
 			TraceFormat.outStream.println("*** Extracting " + numberOfBuffers + " buffers from " + traceFile);
-			for (int j = 0; j < numberOfBuffers; j++) {
-				Util.Debug.println("Processing buffer " + j + " at " + (dataStart + j * bufferSize));
-				TraceRecord50 traceRecord = new TraceRecord50();
-				traceRecord.setTraceType(typeOfTrace);
-				Util.Debug.println(" buffer is " + ((typeOfTrace == 0) ? "internal" : "external"));
+			filesToExtract.addElement(new FileBuffers(traceFile, dataStart, bufferSize, typeOfTrace, numberOfBuffers));
+		}
 
-				/*
-				 * just process the headers - actual tracepoint data
-				 * will be extracted on the fly
-				 */
-				traceRecord.processTraceBufferHeader(traceFile, (long)dataStart + (long)j * (long)bufferSize, bufferSize);
+		/* process the trace files */
+		extractBuffers(filesToExtract);
 
-				Long threadID = Long.valueOf(traceRecord.getThreadIDAsLong());
-				if (listOfThreadBuffers.containsKey(threadID)) {
+		/* add the buffers to the threads in file order, so the buffer sort below is unchanged */
+		Hashtable listOfThreadBuffers = new Hashtable();
+		for (Iterator i = filesToExtract.iterator(); i.hasNext();) {
+			FileBuffers fileBuffers = (FileBuffers) i.next();
+			for (Iterator j = fileBuffers.threadBuffers.values().iterator(); j.hasNext();) {
+				ThreadBuffers buffers = (ThreadBuffers) j.next();
+				Long threadID = Long.valueOf(buffers.threadID);
+				if (TraceArgs.stream) {
+					/* only index the buffer, it is re-read when the formatter reaches it */
+					TraceBufferIndex bufferIndex = (TraceBufferIndex) listOfThreadBuffers.get(threadID);
+					if (bufferIndex == null) {
+						bufferIndex = buffers.bufferIndex;
+						threads.addElement(new TraceThread(buffers.threadID,
+								buffers.threadName, bufferIndex));
+						listOfThreadBuffers.put(threadID, bufferIndex);
+					} else {
+						bufferIndex.addAll(buffers.bufferIndex);
+					}
+				} else if (listOfThreadBuffers.containsKey(threadID)) {
 					TraceThread buffersForThread = (TraceThread) listOfThreadBuffers
 							.get(threadID);
-					buffersForThread.add(traceRecord);
+					buffersForThread.addAll(buffers.records);
 
 				} else {
-					Vector buffersForThread = new TraceThread(threadID
-							.longValue(), traceRecord.getThreadName());
-					buffersForThread.addElement(traceRecord);
+					Vector buffersForThread = new TraceThread(buffers.threadID,
+							buffers.threadName);
+					buffersForThread.addAll(buffers.records);
 					threads.addElement(buffersForThread);
 					listOfThreadBuffers.put(threadID, buffersForThread);
 				}
@@ -590,11 +607,17 @@ final public class TraceFormat
 		}
 		
 		TraceFormat.outStream.println("*** Sorting buffers");
-		TraceThread traceThread;
-		for (Iterator i = threads.iterator(); i.hasNext();) {
-			/* if the trace file wrapped internally, we need to sort the buffers. */
-			traceThread = (TraceThread) i.next();
-			Collections.sort(traceThread);
+		if (TraceArgs.stream) {
+			for (Iterator i = listOfThreadBuffers.values().iterator(); i.hasNext();) {
+				((TraceBufferIndex) i.next()).sort();
+			}
+		} else {
+			TraceThread traceThread;
+			for (Iterator i = threads.iterator(); i.hasNext();) {
+				/* if the trace file wrapped internally, we need to sort the buffers. */
+				traceThread = (TraceThread) i.next();
+				Collections.sort(traceThread);
+			}
 		}
 
 		// if -summary then just summarize to stdout
@@ -647,6 +670,154 @@ final public class TraceFormat
 		primed = true;
 	}
 	
+	/*
+	 * Read the buffer headers of the trace files. Each file has its own file pointer,
+	 * so when there are several files (e.g. generations) they are read concurrently,
+	 * one fork-join task per file. Only the headers are read here: the tracepoints are
+	 * decoded later, one buffer at a time as the merge of all the threads across all
+	 * the files reaches it, so that decode stays on the formatting thread.
+	 */
+	private void extractBuffers(Vector filesToExtract) throws IOException
+	{
+		if (filesToExtract.size() < 2) {
+			for (Iterator i = filesToExtract.iterator(); i.hasNext();) {
+				((FileBuffers) i.next()).call();
+			}
+			return;
+		}
+
+		int parallelism = Math.min(filesToExtract.size(), Runtime.getRuntime().availableProcessors());
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List results = pool.invokeAll(filesToExtract);
+			for (Iterator i = results.iterator(); i.hasNext();) {
+				((Future) i.next()).get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while extracting trace buffers");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/*
+	 * The buffers of one trace file, grouped by thread in the order the threads were
+	 * first seen in the file.
+	 */
+	private static final class FileBuffers implements Callable
+	{
+		final TraceFile traceFile;
+
+		final long dataStart;
+
+		final int bufferSize;
+
+		final int typeOfTrace;
+
+		final long numberOfBuffers;
+
+		final LinkedHashMap threadBuffers = new LinkedHashMap();
+
+		FileBuffers(TraceFile traceFile, long dataStart, int bufferSize, int typeOfTrace, long numberOfBuffers)
+		{
+			this.traceFile = traceFile;
+			this.dataStart = dataStart;
+			this.bufferSize = bufferSize;
+			this.typeOfTrace = typeOfTrace;
+			this.numberOfBuffers = numberOfBuffers;
+		}
+
+		public Object call() throws IOException
+		{
+			for (int j = 0; j < numberOfBuffers; j++) {
+				Util.Debug.println("Processing buffer " + j + " at " + (dataStart + j * bufferSize));
+				TraceRecord50 traceRecord = new TraceRecord50();
+				traceRecord.setTraceType(typeOfTrace);
+				Util.Debug.println(" buffer is " + ((typeOfTrace == 0) ? "internal" : "external"));
+
+				/*
+				 * just process the headers - actual tracepoint data
+				 * will be extracted on the fly
+				 */
+				traceRecord.processTraceBufferHeader(traceFile, (long)dataStart + (long)j * (long)bufferSize, bufferSize);
+
+				Long threadID = Long.valueOf(traceRecord.getThreadIDAsLong());
+				ThreadBuffers buffers = (ThreadBuffers) threadBuffers.get(threadID);
+				if (buffers == null) {
+					buffers = new ThreadBuffers(traceRecord.getThreadIDAsLong(), traceRecord.getThreadName());
+					threadBuffers.put(threadID, buffers);
+				}
+				if (TraceArgs.stream) {
+					buffers.bufferIndex.add(traceFile, traceRecord);
+				} else {
+					buffers.records.addElement(traceRecord);
+				}
+			}
+			return this;
+		}
+	}
+
+	private static final class ThreadBuffers
+	{
+		final long threadID;
+
+		final String threadName;
+
+		final Vector records;
+
+		final TraceBufferIndex bufferIndex;
+
+		ThreadBuffers(long threadID, String threadName)
+		{
+			this.threadID = threadID;
+			this.threadName = threadName;
+			if (TraceArgs.stream) {
+				records = null;
+				bufferIndex = new TraceBufferIndex();
+			} else {
+				records = new Vector();
+				bufferIndex = null;
+			}
+		}
+	}
+
+	/*
+	 * record the times from a trace buffer header. The headers of different trace
+	 * files may be read concurrently, see extractBuffers.
+	 */
+	static synchronized void updateBufferTimes(BigInteger wrapTime, BigInteger timeStamp,
+			BigInteger writePlatform, BigInteger writeSystem)
+	{
+		if (writePlatform.compareTo(TraceFormat.lastWritePlatform) > 0) {
+			Util.Debug.println("updating lastWritePlatform" + writePlatform);
+			Util.Debug.println("updating lastWriteSystem  " + writeSystem);
+			TraceFormat.lastWritePlatform = writePlatform;
+			TraceFormat.lastWriteSystem = writeSystem;
+		}
+		if (wrapTime.compareTo(TraceFormat.first) < 0) {
+			TraceFormat.first = wrapTime;
+		}
+		if (timeStamp.compareTo(TraceFormat.last) > 0) {
+			TraceFormat.last = timeStamp;
+		}
+	}
+
+	static synchronized void incrementInvalidBuffers()
+	{
+		invalidBuffers++;
+	}
+
 	private void readAndFormatNewStyle() throws IOException
 	{
 		if (!primed){
@@ -660,9 +831,18 @@ final public class TraceFormat
 		TraceThread tthread;
 		int tracePointsFormatted = 0;
 		StringBuffer tempTPString;
-		
-		while ((tp = findNextTracePoint(tracedThreads, timeStamps,
-				numberOfThreads)) != null) {
+
+		/* k-way merge of the threads, ordered by the time of each thread's next tracepoint */
+		PriorityQueue pendingThreads = new PriorityQueue(Math.max(1, numberOfThreads));
+		for (int i = 0; i < numberOfThreads; i++) {
+			BigInteger timeStamp = timeOfNextTracePoint(tracedThreads[i]);
+			timeStamps[i] = timeStamp;
+			if (timeStamp != null) {
+				pendingThreads.add(new PendingThread(i, timeStamp));
+			}
+		}
+
+		while ((tp = findNextTracePoint(pendingThreads)) != null) {
 			if (!tp.isNormalTracepoint()) {
 				/* let the tracepoint give us it's text */
 				out.write(tp.toString());
@@ -735,7 +915,6 @@ final public class TraceFormat
 				out.write(tempTPString.toString());
 				out.newLine();
 			}
-			populateTimeStamps(tracedThreads, timeStamps, numberOfThreads);
 		}
 
 		if (nextTenth < 11) {
@@ -1013,6 +1192,70 @@ final public class TraceFormat
 		}
 	}
 	
+	/*
+	 * take the next tracepoint from the thread at the head of the queue and requeue
+	 * that thread under the time of its following tracepoint. Only the thread that
+	 * produced the tracepoint has moved on, so the other threads are left alone.
+	 */
+	private TracePoint findNextTracePoint(PriorityQueue pendingThreads)
+	{
+		PendingThread next = (PendingThread) pendingThreads.poll();
+		if (next == null) {
+			/* all the tracedThreads are empty */
+			tracedThreadWithNewestTracePoint = -1;
+			return null;
+		}
+		tracedThreadWithNewestTracePoint = next.threadIndex;
+		TraceThread traceThread = tracedThreads[next.threadIndex];
+		TracePoint tp = traceThread.getNextTracePoint();
+		next.timeStamp = timeOfNextTracePoint(traceThread);
+		timeStamps[next.threadIndex] = next.timeStamp;
+		if (next.timeStamp != null) {
+			pendingThreads.add(next);
+		}
+		return tp;
+	}
+
+	/*
+	 * the time of the thread's next tracepoint, skipping over any empty or corrupt
+	 * records. null means the thread has no more tracepoints.
+	 */
+	private static BigInteger timeOfNextTracePoint(TraceThread traceThread)
+	{
+		BigInteger timeStamp = traceThread.getTimeOfNextTracePoint();
+		while ((timeStamp == null) && traceThread.hasUnreadRecords()) {
+			timeStamp = traceThread.getTimeOfNextTracePoint();
+		}
+		return timeStamp;
+	}
+
+	/*
+	 * entry in the merge queue used by readAndFormatNewStyle, ties are broken by
+	 * thread order to match findNextTracePoint(TraceThread[], BigInteger[], int)
+	 */
+	private static final class PendingThread implements Comparable
+	{
+		final int threadIndex;
+
+		BigInteger timeStamp;
+
+		PendingThread(int threadIndex, BigInteger timeStamp)
+		{
+			this.threadIndex = threadIndex;
+			this.timeStamp = timeStamp;
+		}
+
+		public int compareTo(Object other)
+		{
+			PendingThread otherThread = (PendingThread) other;
+			int result = timeStamp.compareTo(otherThread.timeStamp);
+			if (result == 0) {
+				result = Integer.compare(threadIndex, otherThread.threadIndex);
+			}
+			return result;
+		}
+	}
+
 	public com.ibm.jvm.trace.TraceFileHeader getTraceFileHeader(){
 		TraceFile tf = (TraceFile)traceFiles.firstElement();
 		if (tf == null){
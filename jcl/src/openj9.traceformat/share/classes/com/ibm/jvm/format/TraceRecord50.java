@@ -106,6 +106,29 @@ public class TraceRecord50 implements Comparable {
 
 	public int processTraceBufferHeader(TraceFile traceFile, long start,
 			int bufferLength) throws IOException {
+		if (!readTraceBufferHeader(traceFile, start, bufferLength)) {
+			TraceFormat.incrementInvalidBuffers();
+		}
+
+		// Update the overall timers that are used in the TraceFormat class.
+		TraceFormat.updateBufferTimes(wrapTime, timeStamp, writePlatform, writeSystem);
+		
+		// If this is the latest record so far, update the file wrap point for this trace file
+		if (writeSystem.compareTo(traceFile.lastWriteSystem) > 0) {
+			traceFile.lastWriteSystem = writeSystem;
+			traceFile.wrapOffset = start;
+		}
+		return 1;
+	}
+
+	/*
+	 * read the header of the buffer without adding it to the formatter's totals, so that
+	 * a buffer that's already been through processTraceBufferHeader can be read again.
+	 * Returns false if the header is invalid, in which case there's no data to format.
+	 */
+	boolean readTraceBufferHeader(TraceFile traceFile, long start,
+			int bufferLength) throws IOException {
+		boolean valid = true;
 		this.fromFileName = traceFile.toString();
 		this.offsetInFile = start;
 		this.bufferLength = bufferLength;
@@ -141,7 +164,7 @@ public class TraceRecord50 implements Comparable {
 		
 		if ( nextEntry >= 0 && (nextEntry < dataStart || nextEntry > bufferLength) ) {
 			dataLength = 0;
-			TraceFormat.invalidBuffers++;
+			valid = false;
 		}
 
 		Util.Debug.println("Buffer is at offset " + Long.toHexString(start) + " in " + traceFile);
@@ -153,27 +176,7 @@ public class TraceRecord50 implements Comparable {
 		Util.Debug.println("  wrapTime:     " + wrapTime);
 		Util.Debug.println("  writePlatform " + writePlatform);
 		Util.Debug.println("  writeSystem   " + writeSystem);
-
-		// Update the overall timers that are used in the TraceFormat class.
-		if (writePlatform.compareTo(TraceFormat.lastWritePlatform) > 0) {
-			Util.Debug.println("updating lastWritePlatform" + writePlatform);
-			Util.Debug.println("updating lastWriteSystem  " + writeSystem);
-			TraceFormat.lastWritePlatform = writePlatform;
-			TraceFormat.lastWriteSystem = writeSystem;
-		}
-		if (wrapTime.compareTo(TraceFormat.first) < 0) {
-			TraceFormat.first = wrapTime;
-		}
-		if (timeStamp.compareTo(TraceFormat.last) > 0) {
-			TraceFormat.last = timeStamp;
-		}
-		
-		// If this is the latest record so far, update the file wrap point for this trace file
-		if (writeSystem.compareTo(traceFile.lastWriteSystem) > 0) {
-			traceFile.lastWriteSystem = writeSystem;
-			traceFile.wrapOffset = start;
-		}
-		return 1;
+		return valid;
 	}
 
 	public TracePoint getNextTracePoint() {
@@ -561,6 +564,10 @@ public class TraceRecord50 implements Comparable {
 		return wrapTime;
 	}
 
+	public BigInteger getWriteSystem() {
+		return writeSystem;
+	}
+
 	public void setTimeStamp(BigInteger newTimeStamp) {
 		timeStamp = newTimeStamp;
 	}
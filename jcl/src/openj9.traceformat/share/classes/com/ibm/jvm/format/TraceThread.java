@@ -22,6 +22,7 @@
  *******************************************************************************/
 package com.ibm.jvm.format;
 
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.Vector;
@@ -41,6 +42,8 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
 
     private                       TraceRecord50  currentTraceRecord = null;
     private                       int            currentIndent = 0;
+
+    private                       TraceBufferIndex bufferIndex = null;
     /** construct a new trace thread vector
      *
      * @param   ID ( hex value of threadID )
@@ -53,6 +56,41 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
         this.threadName = threadName;
     }
 
+    /** construct a new trace thread vector whose trace records are read
+     *  from the trace file on demand ( see TraceArgs.stream )
+     *
+     * @param   ID ( hex value of threadID )
+     * @param   threadName
+     * @param   bufferIndex the sorted buffers for this thread
+     */
+    protected TraceThread(long ID, String threadName, TraceBufferIndex bufferIndex)
+    {
+        this(ID, threadName);
+        this.bufferIndex = bufferIndex;
+    }
+
+    /*
+     * in streaming mode only a small window of trace records is held in the vector,
+     * top it up from the index. A tracepoint can span many buffers, so keep at least
+     * two records to allow popTopTraceRecord to look past the current one.
+     */
+    private void fillFromIndex(){
+        if (bufferIndex == null) {
+            return;
+        }
+        while (size() < 2 && bufferIndex.hasNext()) {
+            try {
+                addElement(bufferIndex.next());
+            } catch (IOException ioe) {
+                /* skip this buffer, the rest of the thread can still be formatted */
+                TraceFormat.outStream.println("*** Unable to read a trace buffer for thread "
+                        + Util.formatAsHexString(threadID) + ", skipping it: " + ioe.getMessage());
+                ioe.printStackTrace(TraceFormat.errStream);
+                incrementBuffersProcessed();
+            }
+        }
+    }
+
     public static int numBufs = 0;
 
     public static int getBuffersProcessed(){
@@ -72,6 +110,7 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
 
     private void popTopTraceRecord(){        
         TraceRecord50 oldTraceRecord = currentTraceRecord;
+        fillFromIndex();
         if (isEmpty()){
         	Util.Debug.println("last trace record popped from trace thread");
             Util.Debug.println("TraceThread " + Util.formatAsHexString( threadID ) + " emptied");
@@ -105,6 +144,7 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
                 System.arraycopy(temp, 0, extraData, current.length, temp.length);
             }
 
+            fillFromIndex();
             if (size() > 1) {
             	removeElementAt(0);
             	incrementBuffersProcessed();
@@ -118,6 +158,7 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
                 currentTraceRecord.addOverspillData( extraData, lastUpperWord );
             } 
             tp = currentTraceRecord.getNextTracePoint();
+            fillFromIndex();
             while ((tp == null) && (size() > 1)) {
                 /* skip e.g. empty buffers or buffers containing only control points */                                    
                 removeElementAt( 0 );            
@@ -126,6 +167,7 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
                 if ( currentTraceRecord != null ) {
                     tp = currentTraceRecord.getNextTracePoint();
                 }                    
+                fillFromIndex();
             }                
         }
         /* remove it so it can be taken off the heap - by this time it will have been heavily populated with data! */
@@ -178,6 +220,7 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
         } else {
             /* occasionally we get duped by a corrupt or empty trace record
                this clause will pick those instances up */
+            fillFromIndex();
             if (size() > 0) {
                 popTopTraceRecord();
                 if (tp != null) {
@@ -188,6 +231,14 @@ final public class TraceThread extends Vector implements com.ibm.jvm.trace.Trace
         }
     }  
     
+    /*
+     * return true if there are trace records for this thread that have not yet been
+     * consumed, even if getTimeOfNextTracePoint() returned null for the last one
+     */
+    boolean hasUnreadRecords(){
+        return !isEmpty() || ((bufferIndex != null) && bufferIndex.hasNext());
+    }
+
     /* methods implementing the com.ibm.jvm.trace.TraceThread interface */
     public Iterator getChronologicalTracePointIterator(){
     	return new com.ibm.jvm.trace.TracePointThreadChronologicalIterator(this);
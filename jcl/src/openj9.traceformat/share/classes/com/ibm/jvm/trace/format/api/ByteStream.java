@@ -36,17 +36,35 @@ public class ByteStream {
 	/* The order of the data we're processing */
 	ByteOrder byteOrder = ByteOrder.BIG_ENDIAN;
 
-	/* This holds triples describing a slice of an array */
+	/* This holds triples describing a slice of a buffer, either a wrapped array or a mapping */
 	static class Slice {
-		byte[] data;
+		ByteBuffer data;
 		int offset;
 		int length;
 
-		Slice(byte[] data, int offset, int length) {
+		Slice(ByteBuffer data, int offset, int length) {
 			this.data = data;
 			this.offset = offset;
 			this.length = length;
 		}
+
+		/* copies bytes out of the slice, index is relative to the start of the slice */
+		void get(int index, byte[] dst, int dstOffset, int length) {
+			copy(data, offset + index, dst, dstOffset, length);
+		}
+	}
+
+	/* bulk copy from an absolute index in a buffer, the buffer's own position and limit aren't touched */
+	static void copy(ByteBuffer src, int index, byte[] dst, int dstOffset, int length) {
+		/* bounds as for System.arraycopy so callers see the same exceptions for array and buffer backed data */
+		if (index < 0 || length < 0 || index + length > src.capacity()) {
+			throw new IndexOutOfBoundsException("Index " + index + " and length " + length + " out of bounds for capacity " + src.capacity());
+		}
+
+		ByteBuffer source = src.duplicate();
+		source.clear();
+		source.position(index);
+		source.get(dst, dstOffset, length);
 	}
 
 	/* our queue of raw data */
@@ -82,14 +100,35 @@ public class ByteStream {
 	 * @param bytes
 	 * @throws BufferUnderflowException
 	 */
-	synchronized private void commit(int bytes) throws BufferUnderflowException {
+	private void commit(int bytes) throws BufferUnderflowException {
+		/*
+		 * if we've got enough data in the current buffer to service
+		 * this request just return. This is the case for nearly every
+		 * call so we don't take the lock for it; the reads that follow
+		 * a commit aren't synchronized either.
+		 */
+		ByteBuffer current = buffer;
+		if (current != null && current.remaining() >= bytes + guardBytes) {
+			return;
+		}
+
+		refill(bytes);
+	}
+
+	/**
+	 * Moves data from the queue of raw data into the current buffer
+	 * until there is sufficient data to satisfy a request
+	 * 
+	 * @param bytes
+	 * @throws BufferUnderflowException
+	 */
+	synchronized private void refill(int bytes) throws BufferUnderflowException {
 		/* add in our limit */
 		int requiredBytes = bytes + guardBytes;
 		boolean recurse = true;
 
 		/*
-		 * if we've got enough data in the current buffer to service
-		 * this request just return
+		 * check again now we hold the lock
 		 */
 		if (buffer != null && buffer.remaining() >= requiredBytes) {
 			return;
@@ -113,7 +152,11 @@ public class ByteStream {
 
 		if (buffer == null || buffer.remaining() == 0) {
 			rawData.remove(0);
-			buffer = ByteBuffer.wrap(slice.data, slice.offset, slice.length);
+
+			/* the slice is used in place, as ByteBuffer.wrap(array, offset, length) would */
+			buffer = slice.data.duplicate();
+			buffer.limit(slice.offset + slice.length);
+			buffer.position(slice.offset);
 		} else {
 
 			/*
@@ -130,7 +173,7 @@ public class ByteStream {
 				mergeData = new byte[bytes];
 				int shortfall = bytes - remaining;
 				buffer.get(mergeData, 0, remaining);
-				System.arraycopy(slice.data, slice.offset, mergeData, remaining, shortfall);
+				slice.get(0, mergeData, remaining, shortfall);
 				slice.offset+= shortfall;
 				slice.length-= shortfall;
 				
@@ -139,7 +182,7 @@ public class ByteStream {
 			} else {
 				mergeData = new byte[remaining + slice.length];
 				buffer.get(mergeData, 0, remaining);
-				System.arraycopy(slice.data, slice.offset, mergeData, remaining, slice.length);
+				slice.get(0, mergeData, remaining, slice.length);
 				rawData.remove(0);
 			}
 
@@ -151,7 +194,7 @@ public class ByteStream {
 
 		/* recurse if our new buffer isn't big enough (should be rare) */
 		if (recurse && buffer.remaining() < requiredBytes) {
-			commit(bytes);
+			refill(bytes);
 		}
 	}
 
@@ -175,12 +218,30 @@ public class ByteStream {
 		add(data, offset, data.length - offset);
 	}
 
-	synchronized public void add(byte[] data, int offset, int length) {
+	public void add(byte[] data, int offset, int length) {
+		if (data == null) {
+			return;
+		}
+
+		add(ByteBuffer.wrap(data), offset, length);
+	}
+
+	/**
+	 * Queues a region of a buffer, e.g. a slice of a mapped trace file, without copying it. The
+	 * region is read using absolute indexes so the buffer's position and limit don't matter, but
+	 * the data mustn't be modified by anyone else until it's been consumed from the stream. The
+	 * buffer must be writable if the region may be fixed up with put().
+	 * 
+	 * @param data - the buffer containing the data
+	 * @param offset - the index in the buffer of the data
+	 * @param length - the number of bytes to add
+	 */
+	synchronized public void add(ByteBuffer data, int offset, int length) {
 		if (data == null || length == 0) {
 			return;
 		}
 
-		if (data.length < offset + length) {
+		if (data.capacity() < offset + length) {
 			throw new IndexOutOfBoundsException();
 		}
 
@@ -245,19 +306,15 @@ public class ByteStream {
 	public long getUnsignedInt() {
 		commit(4);
 
-		byte data[] = new byte[4];
-		buffer.get(data);
-
-		return (byteOrder == ByteOrder.LITTLE_ENDIAN) ? ((((long) data[3] << 24) & 0xff000000L) | (((long) data[2] << 16) & 0xff0000L) | (((long) data[1] << 8) & 0xff00L) | (((long) data[0]) & 0xffL)) : ((((long) data[0] << 24) & 0xff000000L) | (((long) data[1] << 16) & 0xff0000L) | (((long) data[2] << 8) & 0xff00L) | (((long) data[3]) & 0xffL));
+		/* the buffer is always kept in byteOrder */
+		return buffer.getInt() & 0xffffffffL;
 	}
 
 	public long getUnsignedInt(int index) {
 		commit(index + 4);
 
-		byte data[] = new byte[index + 4];
-		peek(data);
-
-		return (byteOrder == ByteOrder.LITTLE_ENDIAN) ? ((((long) data[index + 3] << 24) & 0xff000000L) | (((long) data[index + 2] << 16) & 0xff0000L) | (((long) data[index + 1] << 8) & 0xff00L) | ((long) data[index + 0] & 0xffL)) : ((((long) data[index + 0] << 24) & 0xff000000L) | (((long) data[index + 1] << 16) & 0xff0000L) | (((long) data[index + 2] << 8) & 0xff00L) | ((long) data[index + 3] & 0xffL));
+		/* index is relative to the current position, as for peek */
+		return buffer.getInt(buffer.position() + index) & 0xffffffffL;
 	}
 
 	public long getLong() {
@@ -326,19 +383,21 @@ public class ByteStream {
 		do {
 			int s = buffer.position();
 			byte b = 1;
-			byte bufferArray[] = buffer.array();
 			for (; length < buffer.remaining() && b != '\0'; length++) {
-				b = bufferArray[s+length];
+				b = buffer.get(s+length);
 			}
 
 			if (b == '\0') {
 				/* we've got a string, length includes terminating char */
+				byte stringBytes[] = new byte[length-1];
 				String value;
+
+				buffer.get(stringBytes);
 				try {
-					value = new String(bufferArray, s, length-1, "US-ASCII");
+					value = new String(stringBytes, "US-ASCII");
 				} catch (UnsupportedEncodingException e) {
 					// US-ASCII will be supported
-					value = new String(bufferArray, s, length-1);
+					value = new String(stringBytes);
 				}
 				buffer.position(s+length);
 				return value;
@@ -537,11 +596,11 @@ public class ByteStream {
 			if (reduce < s.length) {
 				/* we're shortening this slice */
 				s.length -= reduce;
-				System.arraycopy(s.data, s.offset + s.length, bytes, 0, reduce);
+				s.get(s.length, bytes, 0, reduce);
 			} else {
 				/* we're dropping this slice */
 				rawData.remove(i);
-				System.arraycopy(s.data, s.offset, bytes, remaining, s.length);
+				s.get(0, bytes, remaining, s.length);
 			}
 		}
 
@@ -551,9 +610,9 @@ public class ByteStream {
 			/* the data's in the buffer if present */
 			if (remaining < 0) {
 				buffer.limit(buffer.limit() - remove);
-				System.arraycopy(buffer.array(), buffer.arrayOffset() + buffer.position() + buffer.remaining(), bytes, 0, remove);
+				copy(buffer, buffer.limit(), bytes, 0, remove);
 			} else {
-				System.arraycopy(buffer.array(), buffer.arrayOffset() + buffer.position(), bytes, remaining, buffer.remaining());
+				copy(buffer, buffer.position(), bytes, remaining, buffer.remaining());
 				buffer = null;
 			}
 		}
@@ -593,9 +652,7 @@ public class ByteStream {
 	}
 
 	public int peek(byte[] dest) {
-		byte data[];
 		int bytes = dest.length;
-		int offset = 0;
 
 		try {
 			commit(dest.length);
@@ -604,9 +661,7 @@ public class ByteStream {
 			bytes = buffer.remaining();
 		}
 
-		data = buffer.array();
-		offset = buffer.arrayOffset() + buffer.position();
-		System.arraycopy(data, offset, dest, 0, bytes);
+		copy(buffer, buffer.position(), dest, 0, bytes);
 
 		return bytes;
 	}
@@ -664,7 +719,7 @@ public class ByteStream {
 			}
 
 			/* create a new slice out of the guard bytes */
-			int guardStart = buffer.arrayOffset() + buffer.limit() - distance - guardAhead;
+			int guardStart = buffer.limit() - distance - guardAhead;
 			int guardLength = distance + guardAhead;
 
 			/*
@@ -674,8 +729,8 @@ public class ByteStream {
 			 * found it in a slice rather than a buffer anyway
 			 */
 			byte newdata[] = new byte[guardLength];
-			System.arraycopy(buffer.array(), guardStart, newdata, 0, guardLength);
-			slice = new Slice(newdata, 0, newdata.length);
+			copy(buffer, guardStart, newdata, 0, guardLength);
+			slice = new Slice(ByteBuffer.wrap(newdata), 0, newdata.length);
 			rawData.add(0, slice);
 			buffer.limit(buffer.limit() - guardLength);
 		}
@@ -685,14 +740,14 @@ public class ByteStream {
 
 		/* copy the prolog bytes */
 		if (slice.length > distance) {
-			System.arraycopy(slice.data, slice.offset, newdata, 0, slice.length - distance);
+			slice.get(0, newdata, 0, slice.length - distance);
 		}
 		System.arraycopy(data, 0, newdata, slice.length - distance, data.length);
-		System.arraycopy(slice.data, slice.offset + slice.length - distance, newdata, slice.length - distance + data.length, distance);
+		slice.get(slice.length - distance, newdata, slice.length - distance + data.length, distance);
 
 		/* expand the guard bytes to cover the new data */
 		guardBytes += data.length;
-		slice.data = newdata;
+		slice.data = ByteBuffer.wrap(newdata);
 		slice.offset = 0;
 		slice.length = newdata.length;
 
@@ -718,7 +773,7 @@ public class ByteStream {
 
 		int distance = -index;
 		byte original;
-		byte[] data;
+		ByteBuffer data;
 		Slice slice = null;
 		int offset = 0;
 
@@ -740,15 +795,15 @@ public class ByteStream {
 			/* maybe it's in the current buffer */
 			if (buffer != null && distance <= buffer.remaining()) {
 				/* it's in the buffer */
-				data = buffer.array();
-				offset = buffer.arrayOffset() + buffer.position() + buffer.remaining() - distance;
+				data = buffer;
+				offset = buffer.limit() - distance;
 			} else {
 				throw new IndexOutOfBoundsException("Index references past the begining of the data");
 			}
 		}
 
-		original = data[offset];
-		data[offset] = b;
+		original = data.get(offset);
+		data.put(offset, b);
 		return original;
 	}
 
@@ -693,6 +693,18 @@ public class TraceContext {
 		return addData(new TraceRecord(this, file, offset));
 	}
 
+	/**
+	 * @see com.ibm.jvm.trace.format.api.TraceContext#addData(TraceRecord)
+	 * @param data - a buffer, typically a MappedByteBuffer over a trace file, containing trace data.
+	 * The buffer is referenced rather than copied so must not be modified until the trace points in
+	 * the record have been read.
+	 * @param offset - the offset in the buffer of the trace buffer
+	 * @return - the thread that generated the buffer
+	 */
+	public TraceThread addData(ByteBuffer data, int offset) {
+		return addData(new TraceRecord(this, data, offset));
+	}
+
 	/**
 	 * @see com.ibm.jvm.trace.format.api.TraceContext#addData(TraceRecord)
 	 * @param data - a trace buffer generated by the JVM corresponding the context
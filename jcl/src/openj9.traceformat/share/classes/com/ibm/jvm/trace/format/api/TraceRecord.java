@@ -25,6 +25,7 @@ package com.ibm.jvm.trace.format.api;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Vector;
@@ -53,6 +54,8 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	/* end of UtTraceRecord struct - see ute_internal.h */
 
 	private byte[] data;
+	/* the body of the record as it's fixed up and appended to the stream, valid once load has run */
+	private ByteBuffer body;
 	/* does the record start with a lostRecord. Valid once appendToStream has run */
 	boolean lostRecord = false;
 	
@@ -69,8 +72,9 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	
 	private static final int GUESSED_MAX_THREAD_NAME = 128;
 	
-	/* These fields are only used if this is a file backed trace record */
+	/* These fields are only used if this is a file or buffer backed trace record */
 	RandomAccessFile file;
+	ByteBuffer buffer;
 	long offset;
 	
 	/* a record of the offsets that we've preprocessed to aid in debugging */
@@ -129,6 +133,53 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		}
 	}
 	
+	/**
+	 * This will create a TraceRecord backed by a region of a buffer, e.g. a MappedByteBuffer over the
+	 * trace file. Only the header is read here, the body of the record is read from the buffer when
+	 * the record is appended to its thread's stream, when it's copied out of the buffer so that it can
+	 * be fixed up. The buffer itself is never modified.
+	 *
+	 * @param context
+	 * @param buffer - the buffer containing the record
+	 * @param offset - the offset of the record in the buffer
+	 * @throws IllegalArgumentException
+	 */
+	public TraceRecord(TraceContext context, ByteBuffer buffer, int offset) throws IllegalArgumentException {
+		this.context = context;
+		this.buffer = buffer;
+		this.offset = offset;
+
+		int available = buffer.limit() - offset;
+		int required = Math.min(TRACERECORD_HEADER_SIZE + GUESSED_MAX_THREAD_NAME, available);
+
+		if (context.debugLevel > 0) {
+			debugOffsets = new Vector<Integer>();
+		}
+
+		while (required != 0) {
+			/* as for the file backed constructor this should only run twice at most */
+			if (required < TRACERECORD_HEADER_SIZE || required > available) {
+				throw new IllegalArgumentException();
+			}
+
+			byte data[] = new byte[required];
+			read(data);
+
+			required = parseHeader(data);
+		}
+
+		if (context.debugStream != null) {
+			context.debug(this, 3, summary());
+		}
+	}
+
+	/* bulk copy from the backing buffer, the buffer's own position isn't touched */
+	private void read(byte[] data) {
+		ByteBuffer source = buffer.duplicate();
+		source.position((int)offset);
+		source.get(data);
+	}
+
 	private int parseHeader(byte[] data) throws IllegalArgumentException {
 		ByteStream stream = context.createByteStream(data);
 
@@ -179,7 +230,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	
 	/**
 	 * This method ensures that if the record is backed by data in a file that the data is present in memory.
-	 * If it's not backed by a file it will return the current size of the records data array.
+	 * If it's not backed by a file it will return the current size of the records data. Sets up the body.
 	 * @return - the number of bytes loaded for the record
 	 */
 	private int load() {
@@ -212,6 +263,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 					data = shrunk;
 				}
 				
+				body = ByteBuffer.wrap(data);
 				return bytesRead;
 			} catch (IOException e) {
 				context.error(this, "IOException while reading record at offset "+offset);
@@ -221,6 +273,31 @@ public class TraceRecord implements Comparable<TraceRecord> {
 			}
 		}
 		
+		if (buffer != null) {
+			int bytesRead = Math.min(context.getRecordSize(), buffer.limit() - (int)offset);
+			if (context.debugStream != null) {
+				context.debug(this, 3, "Reading in full "+bytesRead+ "byte record @"+offset);
+			}
+
+			/* appendToStream rewrites the data in place so the record is copied out of the buffer, which
+			 * is never written to and may be a read only mapping of the trace file */
+			data = new byte[bytesRead];
+			read(data);
+			body = ByteBuffer.wrap(data);
+
+			if (bytesRead != context.getRecordSize()) {
+				context.error(this, "couldn't read an entire record from the buffer");
+
+				/* as for files, format what we can if we've got to at least nextEntry */
+				if (bytesRead <= nextEntry) {
+					return 0;
+				}
+			}
+
+			return bytesRead;
+		}
+
+		body = ByteBuffer.wrap(data);
 		return data.length;
 	}
 	
@@ -234,8 +311,24 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	 * @return the number of bytes appended
 	 */
 	public int appendToStream(ByteStream stream, boolean newThread) {
+		try {
+			return append(stream, newThread);
+		} finally {
+			/* the stream references what it needs of the body, so the record doesn't keep a
+			 * mapped trace file reachable once it's been consumed
+			 */
+			if (buffer != null) {
+				buffer = null;
+				data = null;
+			}
+			body = null;
+		}
+	}
+
+	private int append(ByteStream stream, boolean newThread) {
 		/* make sure the records fully in memory */
-		if (load() == 0) {
+		int length = load();
+		if (length == 0) {
 			return 0;
 		}
 
@@ -251,10 +344,10 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		if (nextEntry == -1) {
 			if (context.getTraceType() == TraceContext.EXTERNAL) {
 				/* we can't yet fix up the length */
-				stream.setGuardBytes(stream.getGuardBytes() + data.length - firstEntry);
-				stream.add(data, firstEntry);
+				stream.setGuardBytes(stream.getGuardBytes() + length - firstEntry);
+				stream.add(body, firstEntry, length - firstEntry);
 				
-				return data.length - firstEntry;
+				return length - firstEntry;
 			} else {
 				/* we can't deal with this for internal trace, but it could happen */
 				context.warning(this, "Found \"middle of tracepoint record\" for internal trace record.");
@@ -272,41 +365,41 @@ public class TraceRecord implements Comparable<TraceRecord> {
 
 		/* if this is an internal record that could have wrapped then glue it back together before we start fixing up trace points */
 		if (context.getTraceType() == TraceContext.INTERNAL) {
-			byte tmp[] = new byte[data.length];
+			byte tmp[] = new byte[length];
 			int pivotIndex = nextEntry + 1;
 
-			System.arraycopy(data, pivotIndex, tmp, firstEntry, data.length - pivotIndex);
-			System.arraycopy(data, firstEntry, tmp, data.length - pivotIndex + firstEntry, pivotIndex - firstEntry);
+			ByteStream.copy(body, pivotIndex, tmp, firstEntry, length - pivotIndex);
+			ByteStream.copy(body, firstEntry, tmp, length - pivotIndex + firstEntry, pivotIndex - firstEntry);
 			
-			nextEntry = data.length -1;
+			nextEntry = length -1;
 
-			data = tmp;
+			body = ByteBuffer.wrap(tmp);
 		}
 		
 		/* fix up the record, moving lengths to the front of the tracepoints */
 		int indexSource = nextEntry;
 		int indexTarget = nextEntry;
-		byte entryLengthSource = data[indexSource];
+		byte entryLengthSource = body.get(indexSource);
 		
 		/* defect workaround for 147869 - out-by-one nextEntry value when a sequence wrap trace point is
 		 * written by the non-fastpath section of the trace writing code.
 		 */
 		if (entryLengthSource == 0 && (nextEntry - firstEntry) > 7) {
-			if (data[nextEntry - 1] == 8) {
+			if (body.get(nextEntry - 1) == 8) {
 				/* the length looks right, so check the id bytes */
-				if (data[nextEntry - 8] == 0 && data[nextEntry - 7] == 0 && data[nextEntry - 6] == 0) {
+				if (body.get(nextEntry - 8) == 0 && body.get(nextEntry - 7) == 0 && body.get(nextEntry - 6) == 0) {
 					/* this is as good as we're going to get for detecting this defect */
 					indexSource--;
 					indexTarget--;
 					nextEntry--;
-					entryLengthSource = data[indexSource];
+					entryLengthSource = body.get(indexSource);
 					
 					context.warning(this, "Fixed up misaligned sequence wrap trace point from defect 147869");
 				}
 			}
 		}
 
-		data[indexSource] = '\0';
+		body.put(indexSource, (byte)'\0');
 
 		/* the leadin is 1 first tracepoints written into a brand new buffer rather than any data from the
 		 * preceding tracepoint spilling over, otherwise the data at data[firstEntry] is actually important.
@@ -401,12 +494,12 @@ public class TraceRecord implements Comparable<TraceRecord> {
 					}
 					
 					System.arraycopy(missing, 0, longTPSize, 0, missing.length);
-					System.arraycopy(data, firstEntry, longTPSize, missing.length, 4 - missing.length);
+					ByteStream.copy(body, firstEntry, longTPSize, missing.length, 4 - missing.length);
 				} else {
-					longTPSize[0] = data[indexSource - 4];
-					longTPSize[1] = data[indexSource - 3];
-					longTPSize[2] = data[indexSource - 2];
-					longTPSize[3] = data[indexSource - 1];
+					longTPSize[0] = body.get(indexSource - 4);
+					longTPSize[1] = body.get(indexSource - 3);
+					longTPSize[2] = body.get(indexSource - 2);
+					longTPSize[3] = body.get(indexSource - 1);
 				}
 
 				/* what's the target index of the actual tracepoint? */
@@ -450,8 +543,8 @@ public class TraceRecord implements Comparable<TraceRecord> {
 				 */
 				if (indexTarget >= firstEntry - 1) {
 					/* move the actual tracepoint over the 4 byte long tracepoint special we've just read */
-					System.arraycopy(data, indexTarget + 1, data, indexTarget + 5, len - 1);
-					System.arraycopy(longTPSize, 0, data, indexTarget + 1, longTPSize.length);
+					move(indexTarget + 1, indexTarget + 5, len - 1);
+					put(longTPSize, 0, indexTarget + 1, longTPSize.length);
 				} else {
 					/* can be negative if the longtp special spans records */
 					int localLen = indexSource - 4 - firstEntry;
@@ -474,7 +567,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 					
 					if (localLen > 0) {
 						/* move the data in this record up over the 4 bytes of the special */
-						System.arraycopy(data, firstEntry, data, firstEntry + 4, localLen);
+						move(firstEntry, firstEntry + 4, localLen);
 						leadin+= 4;
 					} else {
 						/* need to skip the bytes of the longtp special in this record (we've already
@@ -486,17 +579,17 @@ public class TraceRecord implements Comparable<TraceRecord> {
 				}
 			} else if (len == 8) {
 				/* sequence wrap or lost record */
-				if (data[indexTarget+1] == 0x0 && data[indexTarget+3] == 0x0) {
-					if (data[indexTarget+2] == 0x0) {
+				if (body.get(indexTarget+1) == 0x0 && body.get(indexTarget+3) == 0x0) {
+					if (body.get(indexTarget+2) == 0x0) {
 						/* sequence wrap */
 						if (indexTarget > firstEntry) {
 							byte timestamp[] = new byte[8];
 							timestamp[0] = 8;
 							/* copy this new sequence wrap into temp array, excluding the length byte */
-							System.arraycopy(data, indexTarget + 1, timestamp, 1, 7);
+							ByteStream.copy(body, indexTarget + 1, timestamp, 1, 7);
 
 							/* overwrite the sequence wrap with the one constructed from the records wrapTime */
-							System.arraycopy(startTimestamp, 1, data, indexTarget + 1, 7);
+							put(startTimestamp, 1, indexTarget + 1, 7);
 
 							startTimestamp = timestamp;
 							
@@ -519,7 +612,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 							discard = true;
 							break;
 						}
-					} else if (indexTarget == firstEntry && data[indexTarget] == 0x0 && data[indexTarget+2] == 0x1) {
+					} else if (indexTarget == firstEntry && body.get(indexTarget) == 0x0 && body.get(indexTarget+2) == 0x1) {
 						/* lost record - these are always aligned at the beginning of the record so we don't need to care about spanning */
 						discard = true;
 						lostRecord = true;
@@ -539,15 +632,17 @@ public class TraceRecord implements Comparable<TraceRecord> {
 				/* it's all within the current record */
 				if (context.debugLevel >= 5) {
 					if (len > 12) {
-						context.debug(this, 5, "fixing up tracepoint: "+new String(data, indexTarget + 12, Math.min(len - 12,8))+", data["+indexTarget+"] = "+(entryLengthSource & 0xff));
+						byte name[] = new byte[Math.min(len - 12,8)];
+						ByteStream.copy(body, indexTarget + 12, name, 0, name.length);
+						context.debug(this, 5, "fixing up tracepoint: "+new String(name)+", data["+indexTarget+"] = "+(entryLengthSource & 0xff));
 					} else {
 						context.debug(this, 5, "fixing up special tracepoint, length "+len);
 					}
 				}
 				
 				
-				byte entryLengthTarget = data[indexTarget];
-				data[indexTarget] = entryLengthSource;
+				byte entryLengthTarget = body.get(indexTarget);
+				body.put(indexTarget, entryLengthSource);
 				entryLengthSource = entryLengthTarget;
 				
 				indexSource = indexTarget;
@@ -556,7 +651,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 				if (context.debugLevel > 0) {
 					debugOffsets.add(Integer.valueOf(indexTarget));
 				}
-			} else if (indexTarget == firstEntry && data[firstEntry] == '\0') {
+			} else if (indexTarget == firstEntry && body.get(firstEntry) == '\0') {
 				/* this means the first tracepoint in the buffer is exactly aligned with the start of the
 				 * data. In the case we've flushed the record before hand there may be dangling data from the
 				 * preceding record that we want to discard.
@@ -568,7 +663,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 				}
 				
 				/* we use that empty space at firstEntry to hold the length */
-				data[indexTarget] = entryLengthSource;
+				body.put(indexTarget, entryLengthSource);
 				/* so that we add the first tracepoint */
 				indexSource = indexTarget;
 
@@ -578,15 +673,15 @@ public class TraceRecord implements Comparable<TraceRecord> {
 				}
 
 				break;
-			} else if (indexTarget == firstEntry && data[firstEntry] != '\0') {
+			} else if (indexTarget == firstEntry && body.get(firstEntry) != '\0') {
 				/* if indexTarget == firstEntry then data[firstEntry] contains the length for a tracepoint,
 				 * spilled from the preceding buffer so we fix up the current tracepoint, then test this again
 				 * when indexTarget will be negative.
 				 */
 				
 				/* we do exactly the same here as we would for a tracepoint that fits entirely */
-				byte entryLengthTarget = data[indexTarget];
-				data[indexTarget] = entryLengthSource;
+				byte entryLengthTarget = body.get(indexTarget);
+				body.put(indexTarget, entryLengthSource);
 				entryLengthSource = entryLengthTarget;
 				
 				indexSource = indexTarget;
@@ -612,7 +707,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 						}
 						
 						/* put the length into firstEntry -1 as we're done with the header data */
-						data[indexTarget] = entryLengthSource;
+						body.put(indexTarget, entryLengthSource);
 						indexSource = indexTarget;
 						
 						/* DEBUG accounting */
@@ -652,7 +747,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 						if (!discard) {
 							/* if there was any of this tracepoint in the current buffer then add it to the stream now */
 							if (indexSource > firstEntry) {
-								stream.add(data, firstEntry + leadin, indexSource - firstEntry - leadin);
+								stream.add(body, firstEntry + leadin, indexSource - firstEntry - leadin);
 							}
 						}
 						
@@ -712,9 +807,9 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		 * tracepoint and guard them
 		 */
 		if (context.debugStream != null) {
-			context.debug(this, 4, "guarding "+(data.length - nextEntry)+"bytes");
+			context.debug(this, 4, "guarding "+(length - nextEntry)+"bytes");
 		}
-		stream.setGuardBytes(data.length - nextEntry);
+		stream.setGuardBytes(length - nextEntry);
 
 		/* add the start time to the stream */
 		stream.add(startTimestamp);
@@ -723,9 +818,23 @@ public class TraceRecord implements Comparable<TraceRecord> {
 			debugOffsets.add(Integer.valueOf(Integer.MIN_VALUE));
 		}
 
-		stream.add(data, indexSource);
+		stream.add(body, indexSource, length - indexSource);
+
+		return length - (firstEntry + leadin);
+	}
+
+	/* bulk copy into the body at an absolute index, the body's own position isn't touched */
+	private void put(byte[] src, int srcOffset, int index, int length) {
+		ByteBuffer target = body.duplicate();
+		target.position(index);
+		target.put(src, srcOffset, length);
+	}
 
-		return data.length - (firstEntry + leadin);
+	/* moves bytes within the body, the source and target regions may overlap */
+	private void move(int from, int to, int length) {
+		byte tmp[] = new byte[length];
+		ByteStream.copy(body, from, tmp, 0, length);
+		put(tmp, 0, to, length);
 	}
 
 	public String toString() {
@@ -35,6 +35,7 @@ import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.concurrent.TimeUnit;
 import java.util.HashMap;
@@ -64,6 +65,11 @@ public class TraceFormat
 
 	private static Map indentMap = new HashMap();
 
+	/* the largest region of a trace file that's mapped at once, must be less than 2GB. A window is kept
+	 * modest so that it can be released once the records in it have been copied out and formatted rather
+	 * than keeping a whole file mapped */
+	private static final long MAX_MAPPED_WINDOW = 64 * 1024 * 1024;
+
 	/**
 	 * @param args
 	 */
@@ -216,17 +222,38 @@ public class TraceFormat
 				context.warning(context, "The body of the trace file is not a multiple of the record size, file either truncated or corrupt");
 			}
 
+			/* map the file a window of whole records at a time so that the records are parsed straight
+			 * out of the page cache rather than read through the file pointer. The mapping is read only,
+			 * each record's body is copied out of it when the record is fixed up */
+			long windowSize = (MAX_MAPPED_WINDOW / recordSize) * recordSize;
 			while (offset < length) {
+				long windowLength = Math.min(windowSize, length - offset);
+				MappedByteBuffer window = null;
 				try {
-					TraceThread thread = context.addData(traceFile, offset);
-					indentMap.put(thread, "");
-				} catch (IllegalArgumentException e) {
-					context.error(context, "Bad block of trace data in input file at offset "+offset+": "+e.getMessage());
+					window = traceFile.getChannel().map(FileChannel.MapMode.READ_ONLY, offset, windowLength);
+				} catch (IOException e) {
+					/* fall back to reading the records from the file */
+					context.debug(context, 1, "Unable to map trace data at offset "+offset+": "+e.getMessage());
+				}
+
+				for (long position = 0; position < windowLength; position += recordSize) {
+					try {
+						TraceThread thread;
+						if (window != null) {
+							thread = context.addData(window, (int)position);
+						} else {
+							thread = context.addData(traceFile, offset + position);
+						}
+						indentMap.put(thread, "");
+					} catch (IllegalArgumentException e) {
+						context.error(context, "Bad block of trace data in input file at offset "+(offset + position)+": "+e.getMessage());
+					}
+
+					totalBytes+= recordSize;
+					recordsInData++;
 				}
 
-				offset += recordSize;
-				totalBytes+= recordSize;
-				recordsInData++;
+				offset += windowLength;
 			}
 		}
 
@@ -378,7 +378,10 @@ const char * J9::Options::_externalOptionStrings[J9::ExternalOptions::TR_NumExte
    "-XX:-JITServerAOTCacheDelayMethodRelocation", // = 69
    "-XX:+IProfileDuringStartupPhase",     // = 70
    "-XX:-IProfileDuringStartupPhase",     // = 71
-   // TR_NumExternalOptions                  = 72
+   "-XX:+JITServerCompressMessages",      // = 72
+   "-XX:-JITServerCompressMessages",      // = 73
+   "-XX:JITServerCompressionThreshold=",  // = 74
+   // TR_NumExternalOptions                  = 75
    };
 
 //************************************************************************
@@ -1333,6 +1336,9 @@ J9::Options::JITServerParseCommonOptions(J9VMInitArgs *vmArgsArray, J9JavaVM *vm
    const char *xxJITServerLogConnections = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXplusJITServerLogConnections];
    const char *xxDisableJITServerLogConnections = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXminusJITServerLogConnections];
    const char *xxJITServerAOTmxOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXJITServerAOTmxOption];
+   const char *xxJITServerCompressMessagesOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXplusJITServerCompressMessagesOption];
+   const char *xxDisableJITServerCompressMessagesOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXminusJITServerCompressMessagesOption];
+   const char *xxJITServerCompressionThresholdOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXJITServerCompressionThresholdOption];
 
    int32_t xxJITServerPortArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, STARTSWITH_MATCH, xxJITServerPortOption, 0);
    int32_t xxJITServerTimeoutArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, STARTSWITH_MATCH, xxJITServerTimeoutOption, 0);
@@ -1346,6 +1352,9 @@ J9::Options::JITServerParseCommonOptions(J9VMInitArgs *vmArgsArray, J9JavaVM *vm
    int32_t xxJITServerLogConnectionsArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxJITServerLogConnections, 0);
    int32_t xxDisableJITServerLogConnectionsArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxDisableJITServerLogConnections, 0);
    int32_t xxJITServerAOTmxArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, STARTSWITH_MATCH, xxJITServerAOTmxOption, 0);
+   int32_t xxJITServerCompressMessagesArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxJITServerCompressMessagesOption, 0);
+   int32_t xxDisableJITServerCompressMessagesArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxDisableJITServerCompressMessagesOption, 0);
+   int32_t xxJITServerCompressionThresholdArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, STARTSWITH_MATCH, xxJITServerCompressionThresholdOption, 0);
 
    if (xxJITServerPortArgIndex >= 0)
       {
@@ -1423,6 +1432,18 @@ J9::Options::JITServerParseCommonOptions(J9VMInitArgs *vmArgsArray, J9JavaVM *vm
          }
       }
 
+   // Compression is only used on a connection if both the client and the server enable it
+   if (xxJITServerCompressMessagesArgIndex > xxDisableJITServerCompressMessagesArgIndex)
+      compInfo->getPersistentInfo()->setJITServerCompressMessages(true);
+
+   if (xxJITServerCompressionThresholdArgIndex >= 0)
+      {
+      UDATA threshold = 0;
+      IDATA ret = GET_INTEGER_VALUE_ARGS(vmArgsArray, xxJITServerCompressionThresholdArgIndex, xxJITServerCompressionThresholdOption, threshold);
+      if (ret == OPTION_OK)
+         compInfo->getPersistentInfo()->setJITServerCompressionThreshold(threshold);
+      }
+
    return true;
    }
 
@@ -125,7 +125,10 @@ enum ExternalOptions
    XXminusJITServerAOTCacheDelayMethodRelocation = 69,
    XXplusIProfileDuringStartupPhase            = 70,
    XXminusIProfileDuringStartupPhase           = 71,
-   TR_NumExternalOptions                       = 72
+   XXplusJITServerCompressMessagesOption       = 72,
+   XXminusJITServerCompressMessagesOption      = 73,
+   XXJITServerCompressionThresholdOption       = 74,
+   TR_NumExternalOptions                       = 75
    };
 
 class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
@@ -39,6 +39,7 @@
 #include "runtime/RelocationTarget.hpp"
 #include "net/ClientStream.hpp"
 #include "net/ServerStream.hpp"
+#include "runtime/MetricsServer.hpp"
 #include "jitprotos.h"
 #include "vmaccess.h"
 
@@ -183,6 +184,7 @@ outOfProcessCompilationEnd(TR_MethodToBeCompiled *entry, TR::Compilation *comp)
       *entry->_optimizationPlan, serializedRuntimeAssumptions, memoryState, activeThreadState, methodsRequiringTrampolines
    );
    compInfoPT->clearPerCompilationCaches();
+   MetricsServer::recordCompilationEnd(entry->_stream->getClientId(), entry->_entryTime);
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
       {
@@ -486,6 +488,7 @@ TR::CompilationInfoPerThreadRemote::serveCachedAOTMethod(TR_MethodToBeCompiled &
                         std::string((const char *)&serializedMethod->data(), serializedMethod->data().size()),
                         serializedRecords, *optPlan, computeServerMemoryState(getCompilationInfo()),
                         computeServerActiveThreadsState(getCompilationInfo()));
+   MetricsServer::recordCompilationEnd(clientData->getClientUID(), entry._entryTime);
    return true;
    }
 
@@ -775,7 +775,7 @@ JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::Compilation
    PORT_ACCESS_FROM_JITCONFIG(jitConfig);
 
    j9tty_printf(PORTLIB, "JITServer Message Type Statistics:\n");
-   j9tty_printf(PORTLIB, "Type# #called");
+   j9tty_printf(PORTLIB, "Type# #called     BytesRead  BytesWritten");
 #if defined(MESSAGE_SIZE_STATS)
    j9tty_printf(PORTLIB, "\t\tMax\t\tMin\t\tMean\t\tStdDev\t\tSum");
 #endif /* defined(MESSAGE_SIZE_STATS) */
@@ -784,9 +784,11 @@ JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::Compilation
    uint64_t totalMsgCount = 0;
    for (int i = 0; i < JITServer::MessageType_MAXTYPE; ++i)
       {
-      if (JITServer::CommunicationStream::_msgTypeCount[i])
+      if (JITServer::CommunicationStream::_msgTypeCount[i] || JITServer::CommunicationStream::_msgTypeBytesWritten[i])
          {
-         j9tty_printf(PORTLIB, "#%04d %7u", i, JITServer::CommunicationStream::_msgTypeCount[i]);
+         j9tty_printf(PORTLIB, "#%04d %7u %13llu %13llu", i, JITServer::CommunicationStream::_msgTypeCount[i],
+                      (unsigned long long)JITServer::CommunicationStream::_msgTypeBytesRead[i],
+                      (unsigned long long)JITServer::CommunicationStream::_msgTypeBytesWritten[i]);
 #if defined(MESSAGE_SIZE_STATS)
          auto &stat = JITServer::CommunicationStream::_msgSizeStats[i];
          j9tty_printf(PORTLIB, "\t%f\t%f\t%f\t%f\t%f",
@@ -800,6 +802,15 @@ JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::Compilation
    j9tty_printf(PORTLIB, "Total number of messages: %llu\n", (unsigned long long)totalMsgCount);
    j9tty_printf(PORTLIB, "Total amount of data received: %llu bytes\n",
                 (unsigned long long)JITServer::CommunicationStream::_totalMsgSize);
+   j9tty_printf(PORTLIB, "Total amount of data sent: %llu bytes\n",
+                (unsigned long long)JITServer::CommunicationStream::_totalMsgSizeWritten);
+   // Frame bytes are what went over the network, after compression
+   j9tty_printf(PORTLIB, "Total frame bytes received: %llu (%u compressed frames)\n",
+                (unsigned long long)JITServer::CommunicationStream::_totalFrameBytesRead,
+                JITServer::CommunicationStream::_numCompressedFramesRead);
+   j9tty_printf(PORTLIB, "Total frame bytes sent: %llu (%u compressed frames)\n",
+                (unsigned long long)JITServer::CommunicationStream::_totalFrameBytesWritten,
+                JITServer::CommunicationStream::_numCompressedFramesWritten);
 
    uint32_t numCompilations = 0;
    uint32_t numDeserializedMethods = 0;
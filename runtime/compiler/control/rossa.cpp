@@ -671,6 +671,30 @@ getCodeCacheColdAlloc(void *codeCache)
    return cc->getColdCodeAlloc();
    }
 
+static UDATA
+nonNegative(int32_t value)
+   {
+   return (value > 0) ? (UDATA)value : 0;
+   }
+
+// Compilation queue callback used by the jcmd Compiler.queue command. The counters
+// are read without the compilation monitor, so a sample may be slightly inconsistent.
+//
+extern "C" void
+getCompilationQueueInfo(J9JITConfig *jitConfig, J9JITCompilationQueueInfo *info)
+   {
+   TR::CompilationInfo *compInfo = getCompilationInfo(jitConfig);
+   if (!compInfo)
+      return;
+   info->queuedMethods = nonNegative(compInfo->getMethodQueueSize());
+   info->queuedFirstTimeCompilations = nonNegative(compInfo->getNumQueuedFirstTimeCompilations());
+   info->queueWeight = nonNegative(compInfo->getQueueWeight());
+   info->lowPriorityQueueSize = nonNegative(compInfo->getLowPriorityCompQueue().getLowPriorityQueueSize());
+   info->jprofilingQueueSize = nonNegative(compInfo->getJProfilingCompQueue().getQSize());
+   info->activeCompilationThreads = nonNegative(compInfo->getNumCompThreadsActive());
+   info->compilationThreads = nonNegative(compInfo->getNumUsableCompilationThreads());
+   }
+
 
 // -----------------------------------------------------------------------------
 // JIT control
@@ -1086,6 +1110,7 @@ onLoadInternal(
    // Callbacks for code cache allocation pointers
    jitConfig->codeCacheWarmAlloc = getCodeCacheWarmAlloc;
    jitConfig->codeCacheColdAlloc = getCodeCacheColdAlloc;
+   jitConfig->getCompilationQueueInfo = getCompilationQueueInfo;
 
    /* Allocate the privateConfig structure.  Note that the AOTRT DLL does not allocate this structure */
    jitConfig->privateConfig = j9mem_allocate_memory(sizeof(TR_JitPrivateConfig), J9MEM_CATEGORY_JIT);
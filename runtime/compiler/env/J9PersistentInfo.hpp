@@ -173,6 +173,8 @@ class PersistentInfo : public OMR::PersistentInfoConnector
          _JITServerUseAOTCachePersistence(false),
          _JITServerAOTCacheDir(),
          _JITServerAOTCacheDelayMethodRelocation(false),
+         _JITServerCompressMessages(false),
+         _JITServerCompressionThreshold(4096),
 #endif /* defined(J9VM_OPT_JITSERVER) */
       OMR::PersistentInfoConnector(pm)
       {}
@@ -367,6 +369,10 @@ class PersistentInfo : public OMR::PersistentInfoConnector
    void setJITServerAOTCacheDir(const char *dir) { _JITServerAOTCacheDir = dir; }
    bool getJITServerAOTCacheDelayMethodRelocation() const { return _JITServerAOTCacheDelayMethodRelocation; }
    void setJITServerAOTCacheDelayMethodRelocation(bool b) { _JITServerAOTCacheDelayMethodRelocation = b; }
+   bool getJITServerCompressMessages() const { return _JITServerCompressMessages; }
+   void setJITServerCompressMessages(bool compress) { _JITServerCompressMessages = compress; }
+   uint32_t getJITServerCompressionThreshold() const { return _JITServerCompressionThreshold; }
+   void setJITServerCompressionThreshold(uint32_t threshold) { _JITServerCompressionThreshold = threshold; }
 #endif /* defined(J9VM_OPT_JITSERVER) */
 
    private:
@@ -465,6 +471,8 @@ class PersistentInfo : public OMR::PersistentInfoConnector
    bool        _JITServerUseAOTCachePersistence; // Whether to persist the JITServer AOT caches at the server
    std::string _JITServerAOTCacheDir;  // Directory where the JITServer persistent AOT caches are located
    bool        _JITServerAOTCacheDelayMethodRelocation; // At the client, whether to delay deserialized method relocation or not
+   bool        _JITServerCompressMessages; // Whether to offer compression of large messages to the other side of a connection
+   uint32_t    _JITServerCompressionThreshold; // Messages (or batches of messages) smaller than this are sent uncompressed
 #endif /* defined(J9VM_OPT_JITSERVER) */
    };
 
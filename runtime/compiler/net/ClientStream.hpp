@@ -161,6 +161,8 @@ public:
    void setVersionCheckStatus()
       {
       _versionCheckStatus = PASSED;
+      // The server has the same version, so it understands compressed frames
+      offerCompression();
       }
 
    /**
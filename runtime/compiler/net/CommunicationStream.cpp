@@ -24,6 +24,8 @@
 #include "control/Options.hpp" // TR::Options::useCompressedPointers()
 #include "env/CompilerEnv.hpp" // for TR::Compiler->target.is64Bit()
 #include "net/CommunicationStream.hpp"
+#include "zlib.h"
+#include <cstring>
 
 
 namespace JITServer
@@ -32,7 +34,14 @@ namespace JITServer
 uint32_t CommunicationStream::CONFIGURATION_FLAGS = 0;
 
 uint32_t CommunicationStream::_msgTypeCount[] = {0};
+uint64_t CommunicationStream::_msgTypeBytesRead[] = {0};
+uint64_t CommunicationStream::_msgTypeBytesWritten[] = {0};
 uint64_t CommunicationStream::_totalMsgSize = 0;
+uint64_t CommunicationStream::_totalMsgSizeWritten = 0;
+uint64_t CommunicationStream::_totalFrameBytesRead = 0;
+uint64_t CommunicationStream::_totalFrameBytesWritten = 0;
+uint32_t CommunicationStream::_numCompressedFramesRead = 0;
+uint32_t CommunicationStream::_numCompressedFramesWritten = 0;
 uint32_t CommunicationStream::_lastReadError = 0;
 uint32_t CommunicationStream::_numConsecutiveReadErrorsOfSameType = 0;
 #if defined(MESSAGE_SIZE_STATS)
@@ -65,6 +74,44 @@ void CommunicationStream::initSSL()
    // It's redundant and doesn't need to be called
    }
 
+void
+CommunicationStream::initStream(int connfd, BIO *ssl)
+   {
+   _connfd = connfd;
+   _ssl = ssl;
+
+   TR::PersistentInfo *info = TR::CompilationInfo::get()->getPersistentInfo();
+   _compressionEnabled = info->getJITServerCompressMessages();
+   _compressionThreshold = info->getJITServerCompressionThreshold();
+   }
+
+CommunicationStream::FrameBuffer::~FrameBuffer()
+   {
+   if (_storage)
+      TR::Compiler->persistentGlobalAllocator().deallocate(_storage);
+   }
+
+char *
+CommunicationStream::FrameBuffer::reserve(uint32_t requiredSize)
+   {
+   if (requiredSize > _capacity)
+      {
+      // Grow geometrically, as for MessageBuffer, so that the buffer is rarely reallocated
+      uint32_t newCapacity = _capacity ? _capacity : 4096;
+      while (newCapacity < requiredSize)
+         newCapacity *= 2;
+
+      char *newStorage = static_cast<char *>(TR::Compiler->persistentGlobalAllocator().allocate(newCapacity));
+      if (!newStorage)
+         throw std::bad_alloc();
+      if (_storage)
+         TR::Compiler->persistentGlobalAllocator().deallocate(_storage);
+      _storage = newStorage;
+      _capacity = newCapacity;
+      }
+   return _storage;
+   }
+
 void
 CommunicationStream::readMessage(Message &msg)
    {
@@ -85,21 +132,22 @@ CommunicationStream::readMessage(Message &msg)
       }
 
    // bytesRead >= sizeof(uint32_t)
-   uint32_t serializedSize = ((uint32_t *)buffer)[0];
-   if (bytesRead > serializedSize)
+   uint32_t header = ((uint32_t *)buffer)[0];
+   uint32_t frameSize = header & FRAME_SIZE_MASK;
+   if (bytesRead > frameSize)
       {
       throw JITServer::StreamFailure("JITServer I/O error: read more than the message size");
       }
 
-   // serializedSize >= bytesRead
-   uint32_t bytesLeftToRead = serializedSize - bytesRead;
+   // frameSize >= bytesRead
+   uint32_t bytesLeftToRead = frameSize - bytesRead;
 
    if (bytesLeftToRead > 0)
       {
-      if (serializedSize > bufferCapacity)
+      if (frameSize > bufferCapacity)
          {
          // bytesRead could be less than the buffer capacity.
-         msg.expandBuffer(serializedSize, bytesRead);
+         msg.expandBuffer(frameSize, bytesRead);
 
          // The buffer storage will change after the buffer is expanded.
          buffer = msg.getBufferStartForRead();
@@ -107,7 +155,22 @@ CommunicationStream::readMessage(Message &msg)
 
       readBlocking(buffer + bytesRead, bytesLeftToRead);
       }
+   _totalFrameBytesRead += frameSize;
+
+   if (header & FRAME_ACCEPTS_COMPRESSION)
+      {
+      _peerAcceptsCompression = true;
+      // Only answer the offer once both sides are known to understand compressed frames
+      offerCompression();
+      }
 
+   uint32_t serializedSize = frameSize;
+   if (header & FRAME_COMPRESSED)
+      {
+      serializedSize = readCompressedFrame(msg, buffer, frameSize);
+      }
+
+   // Setting the size also strips the flags from the first word of the message
    msg.setSerializedSize(serializedSize);
 
    // rebuild the message
@@ -115,18 +178,84 @@ CommunicationStream::readMessage(Message &msg)
 
    // Update message count and size statistics
    _msgTypeCount[msg.type()] += 1;
+   _msgTypeBytesRead[msg.type()] += serializedSize;
    _totalMsgSize += serializedSize;
 #if defined(MESSAGE_SIZE_STATS)
    _msgSizeStats[msg.type()].update(serializedSize);
 #endif /* defined(MESSAGE_SIZE_STATS) */
    }
 
+uint32_t
+CommunicationStream::readCompressedFrame(Message &msg, const char *frame, uint32_t frameSize)
+   {
+   if (frameSize < FRAME_HEADER_SIZE)
+      {
+      throw JITServer::StreamFailure("JITServer I/O error: frame is too small");
+      }
+   uint32_t serializedSize = ((uint32_t *)frame)[1];
+   if ((serializedSize < sizeof(uint32_t)) || (serializedSize > FRAME_SIZE_MASK))
+      {
+      throw JITServer::StreamFailure("JITServer I/O error: compressed message has an invalid size");
+      }
+
+   // The frame is in the message buffer, so it is inflated into scratch space first
+   uLongf uncompressedSize = serializedSize;
+   char *serialMsg = _readFrame.reserve(serializedSize);
+   int rc = uncompress((Bytef *)serialMsg, &uncompressedSize,
+                       (const Bytef *)(frame + FRAME_HEADER_SIZE), frameSize - FRAME_HEADER_SIZE);
+   if ((Z_OK != rc) || (uncompressedSize != serializedSize))
+      {
+      throw JITServer::StreamFailure("JITServer I/O error: failed to decompress the message");
+      }
+   _numCompressedFramesRead++;
+
+   // Messages are always rebuilt at the start of their own buffer,
+   // which keeps the alignment of the data they contain
+   msg.clearForRead();
+   if (serializedSize > msg.getBufferCapacity())
+      msg.expandBuffer(serializedSize, 0);
+   memcpy(msg.getBufferStartForRead(), serialMsg, serializedSize);
+   return serializedSize;
+   }
+
 void
 CommunicationStream::writeMessage(Message &msg)
    {
    char *serialMsg = msg.serialize();
-   // write serialized message to the socket
-   writeBlocking(serialMsg, msg.serializedSize());
+   uint32_t size = msg.serializedSize();
+   if (size > FRAME_SIZE_MASK)
+      {
+      throw JITServer::StreamFailure("JITServer I/O error: message is too large");
+      }
+
+   if (!(shouldCompress(size) && writeCompressedFrame(serialMsg, size)))
+      {
+      ((uint32_t *)serialMsg)[0] = size | frameFlags();
+      // write serialized message to the socket
+      writeBlocking(serialMsg, size);
+      _totalFrameBytesWritten += size;
+      }
+   _msgTypeBytesWritten[msg.type()] += size;
+   _totalMsgSizeWritten += size;
    msg.clearForWrite();
    }
+
+bool
+CommunicationStream::writeCompressedFrame(const char *serialMsg, uint32_t size)
+   {
+   // Not worth the extra work for the remote party to decompress unless we save at least 1/16th
+   uLongf bodySize = size - size / 16;
+   char *frame = _compressedFrame.reserve(FRAME_HEADER_SIZE + bodySize);
+   int rc = compress2((Bytef *)(frame + FRAME_HEADER_SIZE), &bodySize, (const Bytef *)serialMsg, size, Z_BEST_SPEED);
+   if (Z_OK != rc)
+      return false; // Z_BUF_ERROR if the data did not compress well enough
+
+   uint32_t frameSize = FRAME_HEADER_SIZE + bodySize;
+   ((uint32_t *)frame)[0] = frameSize | FRAME_COMPRESSED | frameFlags();
+   ((uint32_t *)frame)[1] = size;
+   writeBlocking(frame, frameSize);
+   _totalFrameBytesWritten += frameSize;
+   _numCompressedFramesWritten++;
+   return true;
+   }
 }
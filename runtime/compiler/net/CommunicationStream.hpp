@@ -45,7 +45,14 @@ public:
    static void initSSL();
 
    static uint32_t _msgTypeCount[MessageType::MessageType_MAXTYPE];
-   static uint64_t _totalMsgSize;
+   static uint64_t _msgTypeBytesRead[MessageType::MessageType_MAXTYPE]; // Total size of the messages read, by type
+   static uint64_t _msgTypeBytesWritten[MessageType::MessageType_MAXTYPE]; // Total size of the messages written, by type
+   static uint64_t _totalMsgSize; // Total size of the messages read
+   static uint64_t _totalMsgSizeWritten; // Total size of the messages written
+   static uint64_t _totalFrameBytesRead; // Bytes read from the sockets, after compression
+   static uint64_t _totalFrameBytesWritten; // Bytes written to the sockets, after compression
+   static uint32_t _numCompressedFramesRead;
+   static uint32_t _numCompressedFramesWritten;
    static uint32_t _lastReadError;
    static uint32_t _numConsecutiveReadErrorsOfSameType;
    // The max read retry should be 1 less than the max compile attempt so we do
@@ -79,7 +86,10 @@ public:
       }
 
 protected:
-   CommunicationStream() : _ssl(NULL), _connfd(-1) { }
+   CommunicationStream() :
+      _ssl(NULL), _connfd(-1), _compressionEnabled(false), _compressionThreshold(0),
+      _acceptsCompression(false), _peerAcceptsCompression(false)
+      { }
 
    virtual ~CommunicationStream()
       {
@@ -89,17 +99,22 @@ protected:
          close(_connfd);
       }
 
-   void initStream(int connfd, BIO *ssl)
-      {
-      _connfd = connfd;
-      _ssl = ssl;
-      }
+   void initStream(int connfd, BIO *ssl);
 
    // Build a message sent by a remote party by reading from the socket
    // as much as possible (up to internal buffer capacity)
    void readMessage(Message &msg);
    void writeMessage(Message &msg);
 
+   /**
+      @brief Advertise that compressed frames can be read on this connection
+
+      Only called once both sides are known to use the same protocol version,
+      since older versions do not understand the frame flags. Has no effect
+      unless compression is enabled with -XX:+JITServerCompressMessages.
+   */
+   void offerCompression() { _acceptsCompression = _compressionEnabled; }
+
    int getConnFD() const { return _connfd; }
 
    BIO *_ssl; // SSL connection, null if not using SSL
@@ -118,11 +133,57 @@ protected:
    // likely to lose an increment when merging/rebasing/etc.
    //
    static const uint8_t MAJOR_NUMBER = 1;
-   static const uint16_t MINOR_NUMBER = 57; // ID: S/lCtmSB049jvzhogWYP
+   static const uint16_t MINOR_NUMBER = 58; // ID: kfxCNsa+w66fjV11SJtg
    static const uint8_t PATCH_NUMBER = 0;
    static uint32_t CONFIGURATION_FLAGS;
 
 private:
+   /**
+      @class FrameBuffer
+      @brief Persistent scratch memory for compressing and decompressing frames
+
+      Unlike MessageBuffer, no memory is allocated until the buffer is first used,
+      so that connections that never see compressed frames do not pay for it.
+   */
+   class FrameBuffer
+      {
+   public:
+      FrameBuffer() : _storage(NULL), _capacity(0) { }
+      ~FrameBuffer();
+
+      // Make room for requiredSize bytes and return the start of the buffer; the contents are not kept
+      char *reserve(uint32_t requiredSize);
+
+   private:
+      char *_storage;
+      uint32_t _capacity;
+      };
+
+   // The first word of every frame is its size in bytes, with the flags below in the top bits.
+   // A frame without FRAME_COMPRESSED set is a single serialized message, as sent by older versions.
+   // Otherwise the size word is followed by the size of the serialized message, which is deflated.
+   static const uint32_t FRAME_COMPRESSED = 0x80000000;
+   static const uint32_t FRAME_ACCEPTS_COMPRESSION = 0x20000000; // The sender can read compressed frames
+   static const uint32_t FRAME_SIZE_MASK = 0x1FFFFFFF;
+   static const uint32_t FRAME_HEADER_SIZE = 2 * sizeof(uint32_t);
+
+   // Inflate the message in a compressed frame that has been read into msg's buffer,
+   // moving it to the start of the buffer, and return its serialized size
+   uint32_t readCompressedFrame(Message &msg, const char *frame, uint32_t frameSize);
+   bool writeCompressedFrame(const char *serialMsg, uint32_t size);
+   bool shouldCompress(uint32_t size) const
+      {
+      return _peerAcceptsCompression && _acceptsCompression && (size >= _compressionThreshold);
+      }
+   uint32_t frameFlags() const { return _acceptsCompression ? FRAME_ACCEPTS_COMPRESSION : 0; }
+
+   bool _compressionEnabled; // -XX:+JITServerCompressMessages
+   uint32_t _compressionThreshold; // Messages smaller than this are not compressed
+   bool _acceptsCompression; // This side advertises that it can read compressed frames
+   bool _peerAcceptsCompression; // The remote party advertised that it can read compressed frames
+   FrameBuffer _readFrame; // Scratch space for the messages being decompressed
+   FrameBuffer _compressedFrame; // Scratch space for the frames being compressed
+
    void readBlocking(char *data, size_t size)
       {
       size_t totalBytesRead = 0;
@@ -21,6 +21,7 @@
  *******************************************************************************/
 
 #include "ServerStream.hpp"
+#include "runtime/MetricsServer.hpp"
 
 namespace JITServer
 {
@@ -35,6 +36,11 @@ ServerStream::ServerStream(int connfd, BIO *ssl)
    _pClientSessionData = NULL;
    }
 
+void ServerStream::recordCompilationFailure(uint32_t statusCode)
+   {
+   MetricsServer::recordCompilationFailure(statusCode);
+   }
+
 static bool handleCreateSSLContextError(SSL_CTX *&ctx, const char *errMsg)
    {
    perror(errMsg);
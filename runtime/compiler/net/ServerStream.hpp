@@ -225,6 +225,7 @@ public:
          if (TR::Options::getVerboseOption(TR_VerboseJITServer))
             TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "compThreadID=%d MessageType::compilationFailure: statusCode %u",
                   TR::compInfoPT->getCompThreadId(), statusCode);
+         recordCompilationFailure(statusCode);
          write(MessageType::compilationFailure, statusCode, otherData);
          }
       catch (std::exception &e)
@@ -270,6 +271,9 @@ public:
                                 const std::string &sslRootCerts);
 
 private:
+   // Update the JITServer metrics, defined out of line to avoid including MetricsServer.hpp here
+   static void recordCompilationFailure(uint32_t statusCode);
+
    static int _numConnectionsOpened;
    static int _numConnectionsClosed;
    uint64_t _clientId;  // UID of client connected to this communication stream
@@ -31,6 +31,7 @@
 #include "env/VerboseLog.hpp"
 #include "net/ServerStream.hpp" // for JITServer::ServerStream
 #include "runtime/JITServerSharedROMClassCache.hpp"
+#include "runtime/MetricsServer.hpp"
 #include "runtime/RuntimeAssumptions.hpp" // for TR_AddressSet
 #include "control/CompilationController.hpp"
 
@@ -1181,6 +1182,7 @@ ClientSessionHT::deleteClientSession(uint64_t clientUID, bool forDeletion)
          {
          ClientSessionData::destroy(clientData); // delete the client data
          _clientSessionMap.erase(clientDataIt); // delete the mapping from the hashtable
+         MetricsServer::removeClient(clientUID);
 
          // If this was the last client, shutdown the shared ROMClass cache
          if (_clientSessionMap.empty())
@@ -1252,6 +1254,7 @@ ClientSessionHT::purgeOldDataIfNeeded()
             if (TR::Options::getVerboseOption(TR_VerboseJITServer))
                TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "t=%u Server will purge session data for clientUID %llu of age %lld. Number of clients before purge: %u",
                   (uint32_t)_compInfo->getPersistentInfo()->getElapsedTime(), (unsigned long long)iter->first, (long long)oldAge, size());
+            MetricsServer::removeClient(iter->first);
             ClientSessionData::destroy(iter->second); // delete the client data
             _clientSessionMap.erase(iter); // delete the mapping from the hashtable
             }
@@ -455,6 +455,8 @@ public:
 
    void incNumCacheBypasses() { ++_numCacheBypasses; }
    void incNumCacheMisses() { ++_numCacheMisses; }
+   size_t getNumCacheHits() const { return _numCacheHits; }
+   size_t getNumCacheMisses() const { return _numCacheMisses; }
    size_t getNumDeserializedMethods() const { return _numDeserializedMethods; }
    void incNumDeserializedMethods() { ++_numDeserializedMethods; }
    void incNumDeserializationFailures() { ++_numDeserializationFailures; }
@@ -696,6 +698,8 @@ public:
    */
    JITServerAOTCache *get(const std::string &name, uint64_t clientUID, bool &pending);
    size_t getNumDeserializedMethods() const;
+   size_t getNumCacheHits() const;
+   size_t getNumCacheMisses() const;
 
    static void setCacheMaxBytes(size_t bytes) { _cacheMaxBytes = bytes; }
    static bool cacheHasSpace();
@@ -70,7 +70,7 @@ struct JITServerSharedROMClassCache::Partition
    Partition(TR_PersistentMemory *persistentMemory, TR::Monitor *monitor) :
       _persistentMemory(persistentMemory), _monitor(monitor),
       _map(decltype(_map)::allocator_type(persistentMemory->_persistentAllocator.get())),
-      _maxSize(0) { }
+      _maxSize(0), _totalBytes(0) { }
 
    ~Partition()
       {
@@ -89,6 +89,7 @@ struct JITServerSharedROMClassCache::Partition
    // the critical section, and key hashing and comparison are very quick.
    PersistentUnorderedMap<JITServerROMClassHash, Entry *> _map;
    size_t _maxSize;
+   size_t _totalBytes; // Total size of the ROMClasses in _map
    };
 
 
@@ -223,6 +224,18 @@ JITServerSharedROMClassCache::release(J9ROMClass *romClass)
       getPartition(*entry->_hash).release(entry);
    }
 
+size_t
+JITServerSharedROMClassCache::getTotalBytes() const
+   {
+   size_t result = 0;
+   if (isInitialized())
+      {
+      for (size_t i = 0; i < _numPartitions; ++i)
+         result += _partitions[i]._totalBytes;
+      }
+   return result;
+   }
+
 const JITServerROMClassHash &
 JITServerSharedROMClassCache::getHash(const J9ROMClass *romClass)
    {
@@ -266,6 +279,7 @@ JITServerSharedROMClassCache::Partition::getOrCreate(const J9ROMClass *packedROM
          {
          entry->_hash = &it.first->first;
          _maxSize = std::max(_maxSize, _map.size());
+         _totalBytes += packedROMClass->romSize;
          }
       else
          {
@@ -302,6 +316,7 @@ JITServerSharedROMClassCache::Partition::release(JITServerSharedROMClassCache::E
       TR_ASSERT(it != _map.end(), "Entry to be removed not found");
       TR_ASSERT(it->second == entry, "Duplicate entry");
       _map.erase(it);
+      _totalBytes -= ((J9ROMClass *)entry->_data)->romSize;
       }
 
    _persistentMemory->freePersistentMemory(entry);
@@ -47,6 +47,9 @@ public:
    J9ROMClass *getOrCreate(const J9ROMClass *packedROMClass);
    void release(J9ROMClass *romClass);
 
+   // Get the total size of the cached ROMClasses. Read without synchronization, so only approximate.
+   size_t getTotalBytes() const;
+
    // Get precomputed hash of a shared ROMClass
    static const JITServerROMClassHash &getHash(const J9ROMClass *romClass);
 
@@ -35,13 +35,19 @@
 
 #include "control/CompilationRuntime.hpp"
 #include "control/Options.hpp"
+#include "env/CompilerEnv.hpp"
 #include "env/TRMemory.hpp"
 #include "env/PersistentInfo.hpp"
 #include "env/VerboseLog.hpp"
 #include "env/VMJ9.h"
+#include "infra/CriticalSection.hpp"
 #include "net/ServerStream.hpp"
+#include "runtime/JITServerAOTCache.hpp"
+#include "runtime/JITServerSharedROMClassCache.hpp"
 #include "runtime/MetricsServer.hpp"
 
+extern const char *compilationErrorNames[]; // defined in rossa.cpp
+
 bool MetricsServer::useSSL(TR::CompilationInfo *compInfo)
    {
    return (compInfo->getJITServerMetricsSslKeys().size() || compInfo->getJITServerMetricsSslCerts().size());
@@ -143,32 +149,207 @@ double ActiveThreadsMetric::computeValue(TR::CompilationInfo *compInfo)
    return getValue();
    }
 
-MetricsDatabase::MetricsDatabase(TR::CompilationInfo *compInfo) : _compInfo(compInfo)
+double CompilationQueueSizeMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   // Read without the compilation monitor; a slightly stale value is fine here
+   setValue(compInfo->getMethodQueueSize());
+   return getValue();
+   }
+
+double AOTCacheHitsMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   if (JITServerAOTCacheMap *aotCacheMap = compInfo->getJITServerAOTCacheMap())
+      setValue(aotCacheMap->getNumCacheHits());
+   return getValue();
+   }
+
+double AOTCacheMissesMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   if (JITServerAOTCacheMap *aotCacheMap = compInfo->getJITServerAOTCacheMap())
+      setValue(aotCacheMap->getNumCacheMisses());
+   return getValue();
+   }
+
+double AOTCacheSizeMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   // The AOT cache allocations are also what JITServerAOTCacheMap::cacheHasSpace() uses for the size of the caches
+   setValue(TR::Compiler->persistentGlobalMemory()->_totalPersistentAllocations[TR_Memory::JITServerAOTCache]);
+   return getValue();
+   }
+
+double SharedROMClassCacheSizeMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   if (JITServerSharedROMClassCache *cache = compInfo->getJITServerSharedROMClassCache())
+      setValue(cache->getTotalBytes());
+   return getValue();
+   }
+
+double MessageBytesReceivedMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(JITServer::CommunicationStream::_totalMsgSize);
+   return getValue();
+   }
+
+double MessageBytesSentMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(JITServer::CommunicationStream::_totalMsgSizeWritten);
+   return getValue();
+   }
+
+LabeledCounterMetric::LabeledCounterMetric(const std::string &name, const std::string &help, const std::string &labelName) :
+   PrometheusMetric(name, help, Counter), _labelName(labelName),
+   _monitor(TR::Monitor::create("JIT-MetricsCounterMonitor")),
+   _counts(decltype(_counts)::allocator_type(TR::Compiler->persistentGlobalAllocator()))
+   {
+   if (!_monitor)
+      throw std::bad_alloc();
+   }
+
+LabeledCounterMetric::~LabeledCounterMetric()
+   {
+   TR::Monitor::destroy(_monitor);
+   }
+
+void
+LabeledCounterMetric::increment(const std::string &labelValue)
+   {
+   OMR::CriticalSection cs(_monitor);
+   _counts[labelValue] += 1;
+   }
+
+std::string
+LabeledCounterMetric::serialize()
+   {
+   std::string output = serializeHeader();
+   OMR::CriticalSection cs(_monitor);
+   for (auto &it : _counts)
+      output.append(getName() + "{" + _labelName + "=\"" + it.first + "\"} " + std::to_string(it.second) + "\n");
+   return output;
+   }
+
+HistogramMetric::HistogramMetric(const std::string &name, const std::string &help, const std::string &labelName,
+                                 const double *upperBounds, size_t numBuckets) :
+   PrometheusMetric(name, help, Histogram), _labelName(labelName), _numBuckets(numBuckets),
+   _monitor(TR::Monitor::create("JIT-MetricsHistogramMonitor")),
+   _series(decltype(_series)::allocator_type(TR::Compiler->persistentGlobalAllocator()))
+   {
+   TR_ASSERT_FATAL(numBuckets <= MAX_BUCKETS, "Too many buckets for histogram %s", name.c_str());
+   if (!_monitor)
+      throw std::bad_alloc();
+   for (size_t i = 0; i < numBuckets; i++)
+      _upperBounds[i] = upperBounds[i];
+   }
+
+HistogramMetric::~HistogramMetric()
+   {
+   TR::Monitor::destroy(_monitor);
+   }
+
+void
+HistogramMetric::observe(const std::string &labelValue, double value)
+   {
+   OMR::CriticalSection cs(_monitor);
+   auto it = _series.find(labelValue);
+   if (it == _series.end())
+      {
+      Series series = {};
+      it = _series.insert({ labelValue, series }).first;
+      }
+   Series &series = it->second;
+   for (size_t i = 0; i < _numBuckets; i++)
+      {
+      if (value <= _upperBounds[i])
+         {
+         series._bucketCounts[i] += 1;
+         break;
+         }
+      }
+   series._count += 1;
+   series._sum += value;
+   }
+
+void
+HistogramMetric::removeLabel(const std::string &labelValue)
    {
-   _metrics[0] = new (PERSISTENT_NEW) CPUUtilMetric();
-   _metrics[1] = new (PERSISTENT_NEW) AvailableMemoryMetric();
-   _metrics[2] = new (PERSISTENT_NEW) ConnectedClientsMetric();
-   _metrics[3] = new (PERSISTENT_NEW) ActiveThreadsMetric();
-   static_assert(3 == MAX_METRICS - 1);
+   OMR::CriticalSection cs(_monitor);
+   _series.erase(labelValue);
+   }
+
+std::string
+HistogramMetric::serialize()
+   {
+   std::string output = serializeHeader();
+   OMR::CriticalSection cs(_monitor);
+   for (auto &it : _series)
+      {
+      const Series &series = it.second;
+      std::string label = _labelName + "=\"" + it.first + "\"";
+      uint64_t cumulativeCount = 0;
+      for (size_t i = 0; i < _numBuckets; i++)
+         {
+         cumulativeCount += series._bucketCounts[i];
+         output.append(getName() + "_bucket{" + label + ",le=\"" + std::to_string(_upperBounds[i]) + "\"} " + std::to_string(cumulativeCount) + "\n");
+         }
+      output.append(getName() + "_bucket{" + label + ",le=\"+Inf\"} " + std::to_string(series._count) + "\n");
+      output.append(getName() + "_sum{" + label + "} " + std::to_string(series._sum) + "\n");
+      output.append(getName() + "_count{" + label + "} " + std::to_string(series._count) + "\n");
+      }
+   return output;
+   }
+
+MetricsDatabase::MetricsDatabase(TR::CompilationInfo *compInfo) :
+   _metrics(decltype(_metrics)::allocator_type(TR::Compiler->persistentGlobalAllocator())),
+   _compInfo(compInfo)
+   {
+   // Upper bounds (in seconds) of the buckets of the compilation latency histogram
+   static const double latencyBuckets[] = { 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0 };
+
+   addMetric(new (PERSISTENT_NEW) CPUUtilMetric());
+   addMetric(new (PERSISTENT_NEW) AvailableMemoryMetric());
+   addMetric(new (PERSISTENT_NEW) ConnectedClientsMetric());
+   addMetric(new (PERSISTENT_NEW) ActiveThreadsMetric());
+   addMetric(new (PERSISTENT_NEW) CompilationQueueSizeMetric());
+   addMetric(new (PERSISTENT_NEW) AOTCacheHitsMetric());
+   addMetric(new (PERSISTENT_NEW) AOTCacheMissesMetric());
+   addMetric(new (PERSISTENT_NEW) AOTCacheSizeMetric());
+   addMetric(new (PERSISTENT_NEW) SharedROMClassCacheSizeMetric());
+   addMetric(new (PERSISTENT_NEW) MessageBytesReceivedMetric());
+   addMetric(new (PERSISTENT_NEW) MessageBytesSentMetric());
+
+   _compilationLatencyMetric = new (PERSISTENT_NEW) HistogramMetric(
+      "jitserver_compilation_latency_seconds", "Time from queuing to completion of compilation requests, per client",
+      "client_uid", latencyBuckets, sizeof(latencyBuckets) / sizeof(latencyBuckets[0]));
+   addMetric(_compilationLatencyMetric);
+   _compilationFailuresMetric = new (PERSISTENT_NEW) LabeledCounterMetric(
+      "jitserver_compilation_failures_total", "Number of compilation requests that failed, by reason", "reason");
+   addMetric(_compilationFailuresMetric);
    }
 
 MetricsDatabase::~MetricsDatabase()
    {
-   for (int i =0; i < MAX_METRICS; i++)
+   for (auto metric : _metrics)
       {
-      _metrics[i]->~PrometheusMetric();
-      TR_Memory::jitPersistentFree(_metrics[i]);
+      metric->~PrometheusMetric();
+      TR_Memory::jitPersistentFree(metric);
       }
    }
 
+void
+MetricsDatabase::addMetric(PrometheusMetric *metric)
+   {
+   if (!metric)
+      throw std::bad_alloc();
+   _metrics.push_back(metric);
+   }
+
 std::string
 MetricsDatabase::serializeMetrics()
    {
    std::string output;
-   for (int i =0; i < MAX_METRICS; i++)
+   for (auto metric : _metrics)
       {
-      _metrics[i]->computeValue(_compInfo);
-      output.append(_metrics[i]->serialize());
+      metric->computeValue(_compInfo);
+      output.append(metric->serialize());
       }
    return output;
    }
@@ -380,7 +561,7 @@ HttpGetRequest::sendHttpResponse()
 
 MetricsServer::MetricsServer()
    : _metricsThread(NULL), _metricsMonitor(NULL), _metricsOSThread(NULL),
-   _metricsThreadAttachAttempted(false), _metricsThreadExitFlag(false), _jitConfig(NULL), _sslCtx(NULL)
+   _metricsThreadAttachAttempted(false), _metricsThreadExitFlag(false), _jitConfig(NULL), _metricsDatabase(NULL), _sslCtx(NULL)
    {
    for (int i = 0; i < 1 + MAX_CONCURRENT_REQUESTS; i++)
       _pfd[i].fd = -1; // invalid
@@ -389,9 +570,64 @@ MetricsServer::MetricsServer()
 MetricsServer * MetricsServer::allocate()
    {
    MetricsServer * metricsServer = new (PERSISTENT_NEW) MetricsServer();
+   if (metricsServer)
+      {
+      // The database is created up front so that compilation threads can record
+      // events before the metrics thread starts
+      try
+         {
+         metricsServer->_metricsDatabase = new (PERSISTENT_NEW) MetricsDatabase(TR::CompilationInfo::get());
+         }
+      catch (const std::bad_alloc &e)
+         {
+         // Handled below, the JITServer will not start without its MetricsServer
+         }
+      if (!metricsServer->_metricsDatabase)
+         {
+         metricsServer->~MetricsServer();
+         TR_Memory::jitPersistentFree(metricsServer);
+         return NULL;
+         }
+      }
    return metricsServer;
    }
 
+MetricsDatabase *
+MetricsServer::getActiveMetricsDatabase()
+   {
+   J9JITConfig *jitConfig = TR::CompilationInfo::get()->getJITConfig();
+   MetricsServer *metricsServer = ((TR_JitPrivateConfig *)(jitConfig->privateConfig))->metricsServer;
+   return metricsServer ? metricsServer->getMetricsDatabase() : NULL;
+   }
+
+void
+MetricsServer::recordCompilationEnd(uint64_t clientUID, uintptr_t entryTime)
+   {
+   if (MetricsDatabase *metricsDatabase = getActiveMetricsDatabase())
+      {
+      PORT_ACCESS_FROM_PORT(TR::Compiler->portLib);
+      uintptr_t latencyUs = j9time_usec_clock() - entryTime;
+      metricsDatabase->getCompilationLatencyMetric()->observe(std::to_string(clientUID), latencyUs / 1000000.0);
+      }
+   }
+
+void
+MetricsServer::recordCompilationFailure(uint32_t statusCode)
+   {
+   if (MetricsDatabase *metricsDatabase = getActiveMetricsDatabase())
+      {
+      std::string reason = (statusCode < compilationMaxError) ? compilationErrorNames[statusCode] : std::to_string(statusCode);
+      metricsDatabase->getCompilationFailuresMetric()->increment(reason);
+      }
+   }
+
+void
+MetricsServer::removeClient(uint64_t clientUID)
+   {
+   if (MetricsDatabase *metricsDatabase = getActiveMetricsDatabase())
+      metricsDatabase->getCompilationLatencyMetric()->removeLabel(std::to_string(clientUID));
+   }
+
 static int32_t J9THREAD_PROC metricsThreadProc(void * entryarg)
    {
    J9JITConfig * jitConfig = (J9JITConfig *) entryarg;
@@ -759,8 +995,6 @@ MetricsServer::serveMetricsRequests()
    reArmSocketForReading(0);
    _numActiveSockets = 1;
 
-   MetricsDatabase metricsDatabase(compInfo);
-
    if (useSSL(compInfo))
       {
       auto &sslKeys = compInfo->getJITServerMetricsSslKeys();
@@ -852,7 +1086,7 @@ MetricsServer::serveMetricsRequests()
                }
             else // Socket 'i' has http data to read or write
                {
-               handleDataForConnectedSocket(i, metricsDatabase);
+               handleDataForConnectedSocket(i, *_metricsDatabase);
                }
             }
          } // end for
@@ -26,6 +26,7 @@
 #include <poll.h> // for struct pollfd
 #include <string>
 #include "j9.h" // for J9JavaVM
+#include "env/PersistentCollections.hpp"
 #include "infra/Monitor.hpp"  // for TR::Monitor
 
 namespace TR { class CompilationInfo; }
@@ -35,13 +36,23 @@ namespace TR { class CompilationInfo; }
    @brief Abstraction for a class capable of serializing a metric in a format understood by Prometheus
 
    PrometheusMetric is an abstract class and concrete classes need to be derived from it.
-   Derived classes need to implement the `computeValue()` function and possibly the
-   destructor, if they allocate memory dynamically.
+   Metrics that are sampled when Prometheus scrapes the server need to implement the
+   `computeValue()` function and possibly the destructor, if they allocate memory dynamically.
+   Metrics that are updated by compilation threads as events happen (LabeledCounterMetric,
+   HistogramMetric) keep their own values and override `serialize()` instead.
  */
 class PrometheusMetric
    {
    public:
-   PrometheusMetric(const std::string &name, const std::string &help) :_name(name), _help(help) {}
+   enum MetricType
+      {
+      Gauge = 0,
+      Counter,
+      Histogram,
+      };
+
+   PrometheusMetric(const std::string &name, const std::string &help, MetricType type = Gauge) :
+      _name(name), _help(help), _type(type), _value(0) {}
    virtual ~PrometheusMetric() {}
    /**
       @brief Compute the value of the metric that is to be monitored and cache it
@@ -51,20 +62,31 @@ class PrometheusMetric
    virtual double computeValue(TR::CompilationInfo *compInfo) = 0;
    const std::string &getName() const { return _name; }
    const std::string &getHelp() const { return _help; }
+   MetricType getType() const { return _type; }
    double getValue() const { return _value; }
    void setValue(double v) { _value = v; }
    /**
       @brief Build a std::string that encodes the value of the metric in a format understood by Prometheus
       @return Serialized value of the metric (as a std::string)
    */
-   std::string serialize()
+   virtual std::string serialize()
       {
-      return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " gauge\n" + getName() + " " + std::to_string(getValue()) + "\n";
+      return serializeHeader() + getName() + " " + std::to_string(getValue()) + "\n";
       }
 
    protected:
+   /**
+      @brief Build the HELP and TYPE lines that precede the samples of the metric
+   */
+   std::string serializeHeader() const
+      {
+      static const char *typeNames[] = { "gauge", "counter", "histogram" };
+      return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " " + typeNames[_type] + "\n";
+      }
+
    const std::string _name;
    const std::string _help;
+   const MetricType _type;
    double _value;
    }; // class PrometheusMetric
 
@@ -112,23 +134,168 @@ public:
    virtual double computeValue(TR::CompilationInfo *compInfo);
    }; // class ActiveThreadsMetric
 
+/**
+   @brief Class used to serialize the number of compilation requests waiting in the compilation queue
+ */
+class CompilationQueueSizeMetric : public PrometheusMetric
+   {
+public:
+   CompilationQueueSizeMetric() : PrometheusMetric("jitserver_compilation_queue_size", "Number of compilation requests in the compilation queue")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class CompilationQueueSizeMetric
+
+/**
+   @brief Class used to serialize the number of methods found in the JITServer AOT caches
+ */
+class AOTCacheHitsMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheHitsMetric() : PrometheusMetric("jitserver_aot_cache_hits_total", "Number of methods served from the JITServer AOT caches", Counter)
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class AOTCacheHitsMetric
+
+/**
+   @brief Class used to serialize the number of methods not found in the JITServer AOT caches
+ */
+class AOTCacheMissesMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheMissesMetric() : PrometheusMetric("jitserver_aot_cache_misses_total", "Number of methods not found in the JITServer AOT caches", Counter)
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class AOTCacheMissesMetric
+
+/**
+   @brief Class used to serialize the memory allocated for the JITServer AOT caches
+ */
+class AOTCacheSizeMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheSizeMetric() : PrometheusMetric("jitserver_aot_cache_size_bytes", "Memory allocated for the JITServer AOT caches")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class AOTCacheSizeMetric
+
+/**
+   @brief Class used to serialize the size of the ROMClasses in the shared ROMClass cache
+ */
+class SharedROMClassCacheSizeMetric : public PrometheusMetric
+   {
+public:
+   SharedROMClassCacheSizeMetric() : PrometheusMetric("jitserver_shared_romclass_cache_size_bytes", "Size of the ROMClasses in the shared ROMClass cache")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class SharedROMClassCacheSizeMetric
+
+/**
+   @brief Class used to serialize the number of bytes in the messages received from clients
+ */
+class MessageBytesReceivedMetric : public PrometheusMetric
+   {
+public:
+   MessageBytesReceivedMetric() : PrometheusMetric("jitserver_message_bytes_received_total", "Number of bytes in the messages received from clients", Counter)
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class MessageBytesReceivedMetric
+
+/**
+   @brief Class used to serialize the number of bytes in the messages sent to clients
+ */
+class MessageBytesSentMetric : public PrometheusMetric
+   {
+public:
+   MessageBytesSentMetric() : PrometheusMetric("jitserver_message_bytes_sent_total", "Number of bytes in the messages sent to clients", Counter)
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class MessageBytesSentMetric
+
+/**
+   @class LabeledCounterMetric
+   @brief Counter split by the value of one label, e.g. name{reason="compilationFailure"}
+
+   The counts are updated by compilation threads and read by the metrics thread,
+   so all accesses are synchronized with a monitor.
+ */
+class LabeledCounterMetric : public PrometheusMetric
+   {
+public:
+   LabeledCounterMetric(const std::string &name, const std::string &help, const std::string &labelName);
+   virtual ~LabeledCounterMetric();
+   virtual double computeValue(TR::CompilationInfo *compInfo) { return getValue(); }
+   virtual std::string serialize();
+   void increment(const std::string &labelValue);
+
+private:
+   const std::string _labelName;
+   TR::Monitor *const _monitor;
+   PersistentUnorderedMap<std::string, uint64_t> _counts;
+   }; // class LabeledCounterMetric
+
+/**
+   @class HistogramMetric
+   @brief Histogram with fixed buckets, split by the value of one label
+
+   Each label value (e.g. a client UID) has its own set of bucket counts, which is
+   created by the first observation and can be removed when the label value is no
+   longer of interest. Accesses are synchronized with a monitor.
+ */
+class HistogramMetric : public PrometheusMetric
+   {
+public:
+   static const size_t MAX_BUCKETS = 16;
+
+   /**
+      @param upperBounds Increasing upper bounds of the buckets, excluding +Inf
+      @param numBuckets Number of upper bounds, at most MAX_BUCKETS
+   */
+   HistogramMetric(const std::string &name, const std::string &help, const std::string &labelName,
+                   const double *upperBounds, size_t numBuckets);
+   virtual ~HistogramMetric();
+   virtual double computeValue(TR::CompilationInfo *compInfo) { return getValue(); }
+   virtual std::string serialize();
+   void observe(const std::string &labelValue, double value);
+   void removeLabel(const std::string &labelValue);
+
+private:
+   struct Series
+      {
+      uint64_t _bucketCounts[MAX_BUCKETS]; // Not cumulative; observations above the last bound are only in _count
+      uint64_t _count;
+      double _sum;
+      };
+
+   const std::string _labelName;
+   double _upperBounds[MAX_BUCKETS];
+   const size_t _numBuckets;
+   TR::Monitor *const _monitor;
+   PersistentUnorderedMap<std::string, Series> _series;
+   }; // class HistogramMetric
+
 
 /**
    @class MetricsDatabase
    @brief Collection of metrics that need to be sent to Prometheus on demand
 
    In order to add a new metric, derive a new class from PrometheusMetric and implement its
-   computeValue() method. Increment the MAX_METRICS constant accordingly. Change the constructor
-   of this class to dynamically allocate an instance of the new metric and store a pointer
-   of this metric instance into the _metrics array
+   computeValue() method, then add an instance of the new metric to the database in the
+   constructor of this class with addMetric(). Metrics that are updated as events happen
+   should use LabeledCounterMetric or HistogramMetric, kept in a field of this class so
+   that they can be updated through MetricsServer.
  */
 class MetricsDatabase
    {
    public:
-   static const size_t MAX_METRICS = 4; // Maximum number of metrics our database can hold
    MetricsDatabase(TR::CompilationInfo *compInfo);
    ~MetricsDatabase();
 
+   /**
+      @brief Add a metric to the database, which takes ownership of it
+      @param metric Metric allocated with PERSISTENT_NEW
+   */
+   void addMetric(PrometheusMetric *metric);
+
    /**
       @brief Build a std::string that serializes the values of all the metrics in the database.
 
@@ -149,8 +316,13 @@ class MetricsDatabase
          std::to_string(serializedMetrics.size()) + "\r\n\r\n" + serializedMetrics;
       }
 
+   HistogramMetric *getCompilationLatencyMetric() const { return _compilationLatencyMetric; }
+   LabeledCounterMetric *getCompilationFailuresMetric() const { return _compilationFailuresMetric; }
+
    private:
-   PrometheusMetric *_metrics[MAX_METRICS]; // Array with pointers to metrics to be scrapped
+   PersistentVector<PrometheusMetric *> _metrics; // Metrics to be scraped, in the order they are serialized
+   HistogramMetric *_compilationLatencyMetric;
+   LabeledCounterMetric *_compilationFailuresMetric;
    TR::CompilationInfo *_compInfo;
    }; // MetricsDatabase
 
@@ -312,8 +484,25 @@ public:
    bool getMetricsThreadExitFlag() const { return _metricsThreadExitFlag; }
    void setMetricsThreadExitFlag() { _metricsThreadExitFlag = true; }
    void setJITConfig(J9JITConfig *jitConfig) { _jitConfig = jitConfig; }
+   MetricsDatabase *getMetricsDatabase() const { return _metricsDatabase; }
    void serveMetricsRequests();
 
+   /**
+      @brief Record the end of a compilation request from a client, if the MetricsServer is in use
+      @param clientUID UID of the client that sent the request
+      @param entryTime Time in usec when the request was queued
+   */
+   static void recordCompilationEnd(uint64_t clientUID, uintptr_t entryTime);
+   /**
+      @brief Record a compilation failure sent to a client, if the MetricsServer is in use
+      @param statusCode The TR_CompilationErrorCode sent to the client
+   */
+   static void recordCompilationFailure(uint32_t statusCode);
+   /**
+      @brief Forget the per-client metrics of a client whose session has been deleted
+   */
+   static void removeClient(uint64_t clientUID);
+
    static const int METRICS_POLL_TIMEOUT = 250; // ms
    static const size_t MAX_CONCURRENT_REQUESTS = 4;
    static const uint32_t SEND_TIMEOUT = 500; // ms
@@ -328,6 +517,7 @@ private:
    void closeSocket(int sockIndex);
    void freeSSLConnection(int sockIndex);
    bool useSSL(TR::CompilationInfo *compInfo);
+   static MetricsDatabase *getActiveMetricsDatabase();
 
    J9VMThread *_metricsThread;
    TR::Monitor *_metricsMonitor;
@@ -335,6 +525,7 @@ private:
    volatile bool _metricsThreadAttachAttempted;
    volatile bool _metricsThreadExitFlag;
    J9JITConfig * _jitConfig;
+   MetricsDatabase *_metricsDatabase;
 
    nfds_t _numActiveSockets = 0;
    struct pollfd _pfd[1 + MAX_CONCURRENT_REQUESTS] = {{0}}; // poll file descriptors; first entry is for connection requests
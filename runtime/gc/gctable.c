@@ -266,4 +266,8 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9gc_prepare_for_checkpoint,
 	j9gc_reinitialize_for_restore,
 #endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
+#if defined(J9VM_GC_FINALIZATION)
+	j9gc_get_finalize_jobs_processed_count,
+	j9gc_get_finalize_worker_thread_count,
+#endif /* J9VM_GC_FINALIZATION */
 };
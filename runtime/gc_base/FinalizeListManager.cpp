@@ -28,6 +28,7 @@
 
 #if defined(J9VM_GC_FINALIZATION)
 
+#include "AtomicOperations.hpp"
 #include "FinalizeListManager.hpp"
 #include "GCExtensions.hpp"
 #include "Debug.hpp"
@@ -236,13 +237,19 @@ GC_FinalizeListManager::popRequiredClassLoaderForForcedClassLoaderUnload()
 }
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
+void
+GC_FinalizeListManager::jobsProcessed(UDATA count)
+{
+	MM_AtomicOperations::add(&_processedJobCount, count);
+}
+
 GC_FinalizeJob *
-GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
+GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job, UDATA jobTypes)
 {
 	Assert_MM_true(J9_PUBLIC_FLAGS_VM_ACCESS == (vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS));
 	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
 	
-	{
+	if (0 != (jobTypes & FINALIZE_JOB_TYPE_REFERENCE)) {
 		j9object_t referenceObject = popReferenceObject();
 		if (NULL != referenceObject) {
 			job->type = FINALIZE_JOB_TYPE_REFERENCE;
@@ -252,7 +259,7 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 		}
 	}
 
-	{
+	if (0 != (jobTypes & FINALIZE_JOB_TYPE_CLASSLOADER)) {
 		J9ClassLoader *loader = popClassLoader();
 		if (NULL != loader) {
 			job->type = FINALIZE_JOB_TYPE_CLASSLOADER;
@@ -262,7 +269,7 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 		}
 	}
 
-	{
+	if (0 != (jobTypes & FINALIZE_JOB_TYPE_OBJECT)) {
 		j9object_t defaultObject = popDefaultFinalizableObject();
 		if (NULL != defaultObject) {
 			job->type = FINALIZE_JOB_TYPE_OBJECT;
@@ -272,10 +279,10 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 		}
 	}
 
-	{
+	if (0 != (jobTypes & FINALIZE_JOB_TYPE_OBJECT)) {
 		j9object_t systemObject = popSystemFinalizableObject();
 		if (NULL != systemObject) {
-			job->type = FINALIZE_JOB_TYPE_OBJECT;
+			job->type = (GC_FinalizeJobType)(FINALIZE_JOB_TYPE_OBJECT | FINALIZE_JOB_FLAG_SYSTEM_OBJECT);
 			job->object = systemObject;
 
 			return job;
@@ -285,4 +292,29 @@ GC_FinalizeListManager::consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job)
 	return NULL;
 }
 
+void
+GC_FinalizeListManager::returnJob(J9VMThread *vmThread, const GC_FinalizeJob *job)
+{
+	Assert_MM_true(J9_PUBLIC_FLAGS_VM_ACCESS == (vmThread->publicFlags & J9_PUBLIC_FLAGS_VM_ACCESS));
+	Assert_MM_true(1 == omrthread_monitor_owned_by_self(_mutex)); /* caller must be holding _mutex */
+
+	if (FINALIZE_JOB_TYPE_REFERENCE == (job->type & FINALIZE_JOB_TYPE_REFERENCE)) {
+		_extensions->accessBarrier->setReferenceLink(job->reference, _referenceObjects);
+		_referenceObjects = job->reference;
+		_referenceObjectCount += 1;
+	} else if (FINALIZE_JOB_TYPE_CLASSLOADER == (job->type & FINALIZE_JOB_TYPE_CLASSLOADER)) {
+		job->classLoader->unloadLink = _classLoaders;
+		_classLoaders = job->classLoader;
+		_classLoaderCount += 1;
+	} else if (FINALIZE_JOB_FLAG_SYSTEM_OBJECT == (job->type & FINALIZE_JOB_FLAG_SYSTEM_OBJECT)) {
+		_extensions->accessBarrier->setFinalizeLink(job->object, _systemFinalizableObjects);
+		_systemFinalizableObjects = job->object;
+		_systemFinalizableObjectCount += 1;
+	} else {
+		_extensions->accessBarrier->setFinalizeLink(job->object, _defaultFinalizableObjects);
+		_defaultFinalizableObjects = job->object;
+		_defaultFinalizableObjectCount += 1;
+	}
+}
+
 #endif /* J9VM_GC_FINALIZATION */
@@ -47,6 +47,9 @@ typedef enum GC_FinalizeJobType {
 	FINALIZE_JOB_TYPE_REFERENCE = 2,
 	FINALIZE_JOB_TYPE_CLASSLOADER = 4
 } GC_FinalizeJobType;
+#define FINALIZE_JOB_TYPE_ALL (FINALIZE_JOB_TYPE_OBJECT | FINALIZE_JOB_TYPE_REFERENCE | FINALIZE_JOB_TYPE_CLASSLOADER)
+/* Set with FINALIZE_JOB_TYPE_OBJECT for an object taken from the system finalizable list */
+#define FINALIZE_JOB_FLAG_SYSTEM_OBJECT 8
 typedef struct GC_FinalizeJob {
 	GC_FinalizeJobType type;
 	union {
@@ -75,6 +78,7 @@ private:
     UDATA _referenceObjectCount; /** count of the reference object */
     J9ClassLoader *_classLoaders; /**< head of the linked list of unloaded classloaders which have open native libraries  */
     UDATA _classLoaderCount; /** count of the class loaders */
+    volatile UDATA _processedJobCount; /**< number of jobs completed by the finalize workers since startup */
 protected:
 public:
     
@@ -138,6 +142,19 @@ public:
 	MMINLINE UDATA getClassloaderCount() {return _classLoaderCount;}
 	MMINLINE UDATA getReferenceCount() {return _referenceObjectCount;}
 
+	/**
+	 * Gets the number of jobs the finalize workers have completed since startup.
+	 * Sampling this gives the rate at which the queue is being drained.
+	 * @return The number of completed jobs.
+	 */
+	MMINLINE UDATA getProcessedJobCount() const {return _processedJobCount;}
+
+	/**
+	 * Record that a finalize worker has completed some jobs.
+	 * @param count[in] number of jobs completed
+	 */
+	void jobsProcessed(UDATA count);
+
 	static GC_FinalizeListManager	*newInstance(MM_EnvironmentBase *env);
 	virtual void kill(MM_EnvironmentBase *env);
 	bool initialize();
@@ -327,9 +344,20 @@ public:
 	 * 
 	 * @note Must be called while holding this class' _mutex
 	 *
+	 * @param jobTypes[in] mask of the GC_FinalizeJobType values which may be returned
+	 *
 	 * @return the next job or NULL
 	 */
-	virtual GC_FinalizeJob *consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job);
+	virtual GC_FinalizeJob *consumeJob(J9VMThread *vmThread, GC_FinalizeJob * job, UDATA jobTypes = FINALIZE_JOB_TYPE_ALL);
+
+	/**
+	 * Put back a job returned by consumeJob() which was not run, so that another worker runs it
+	 *
+	 * @note Must be called while holding this class' _mutex
+	 *
+	 * @param job[in] the job to put back on the list it was taken from
+	 */
+	void returnJob(J9VMThread *vmThread, const GC_FinalizeJob *job);
 
 
 	/**
@@ -346,6 +374,7 @@ public:
 	    ,_referenceObjectCount(0)
 	    ,_classLoaders(NULL)
 	    ,_classLoaderCount(0)
+	    ,_processedJobCount(0)
 	{
 		_typeId = __FUNCTION__;
 	};
@@ -177,10 +177,55 @@ struct finalizeWorkerData {
 	IDATA wakeUp;
 };
 
+/**
+ * The helper threads which drain the finalizable and reference lists alongside the
+ * worker when -Xgc:finalizeWorkerThreads is greater than 1. Helpers are started the
+ * first time the lists hold more than one batch of jobs, and are woken by the main
+ * thread whenever that happens again. They never unload class loaders, which is
+ * left to the worker.
+ */
+struct finalizeHelperPool {
+	omrthread_monitor_t monitor;
+	J9JavaVM *vm;
+	UDATA threadCount; /**< number of helper threads which have not exited */
+	UDATA busyCount; /**< number of helper threads draining the lists */
+	UDATA wakeUp; /**< incremented each time the helpers are asked to drain the lists */
+	volatile UDATA die;
+	UDATA abandoned; /**< set if the main thread stopped waiting for the helpers to exit, the last one frees the pool */
+};
+
+/**
+ * A job taken off the finalize lists by a worker. Objects and references are held in
+ * JNI local references, as they are no longer reachable from the lists while the
+ * worker runs the earlier jobs of its batch without VM access.
+ */
+struct finalizeWorkerJob {
+	UDATA type;
+	union {
+		jobject object;
+		J9ClassLoader *classLoader;
+	};
+};
+
+/**
+ * The Java methods called by a worker, looked up when the thread attaches.
+ */
+struct finalizeWorkerMethods {
+	jclass j9VMInternalsClass;
+	jmethodID runFinalizeMID;
+	jmethodID referenceEnqueueImplMID;
+};
+
 static int J9THREAD_PROC FinalizeWorkerThread(void *arg);
 IDATA FinalizeMainRunFinalization(J9JavaVM * vm, omrthread_t * indirectWorkerThreadHandle, struct finalizeWorkerData **indirectWorkerData, IDATA finalizeCycleLimit, IDATA mode);
+static struct finalizeHelperPool *FinalizeMainStartHelpers(J9JavaVM *vm);
+static void FinalizeMainWakeHelpers(struct finalizeHelperPool *pool);
+static void FinalizeMainWaitForHelpers(J9JavaVM *vm, struct finalizeHelperPool *pool, IDATA finalizeCycleLimit);
+static void FinalizeMainStopHelpers(J9JavaVM *vm, struct finalizeHelperPool *pool, IDATA finalizeCycleLimit);
+static bool FinalizeHelperExited(struct finalizeHelperPool *pool);
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM);
 static int  J9THREAD_PROC gpProtectedFinalizeWorkerThread(void *entryArg);
+static int  J9THREAD_PROC gpProtectedFinalizeHelperThread(void *entryArg);
 
 static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 {
@@ -188,6 +233,8 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 	omrthread_t workerThreadHandle;
 	int noCycleWait;
 	struct finalizeWorkerData *workerData = NULL;
+	struct finalizeHelperPool *helperPool = NULL;
+	bool startHelpers = false;
 	IDATA finalizeCycleInterval, finalizeCycleLimit, currentWaitTime, finalizableListUsed;
 	IDATA cycleIntervalWaitResult;
 	UDATA workerMode, savedFinalizeMainFlags;
@@ -207,6 +254,7 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 	/* Initialize the defaults */
 	finalizeCycleInterval = extensions->finalizeCycleInterval;
 	finalizeCycleLimit = extensions->finalizeCycleLimit;
+	startHelpers = (extensions->finalizeWorkerThreadCount > 1);
 
 #if defined(J9VM_OPT_JAVA_OFFLOAD_SUPPORT)
 	if(NULL != vm->javaOffloadSwitchOnNoEnvWithReasonFunc) {
@@ -271,6 +319,18 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 
 		savedFinalizeMainFlags = vm->finalizeMainFlags;
 
+		/* More than the worker can take at once - share the jobs with the helpers */
+		if ((FINALIZE_WORKER_MODE_NORMAL == workerMode) && ((UDATA)finalizableListUsed > extensions->finalizeWorkerBatchSize)) {
+			if (startHelpers) {
+				/* Only try once, the worker can carry on alone */
+				startHelpers = false;
+				helperPool = FinalizeMainStartHelpers(vm);
+			}
+			if (NULL != helperPool) {
+				FinalizeMainWakeHelpers(helperPool);
+			}
+		}
+
 		IDATA result = FinalizeMainRunFinalization(vm, &workerThreadHandle, &workerData, finalizeCycleLimit, workerMode);
 		if(result < 0) {
 			/* give up this run and hope next time will be better */
@@ -279,6 +339,11 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 			continue;
 		}
 
+		if ((NULL != helperPool) && (savedFinalizeMainFlags & J9_FINALIZE_FLAGS_RUN_FINALIZATION)) {
+			/* Finish the jobs the helpers have taken before reporting that finalization has run */
+			FinalizeMainWaitForHelpers(vm, helperPool, finalizeCycleLimit);
+		}
+
 		/* Determine whether the worker actually did finish it's work */
 		omrthread_monitor_enter(workerData->monitor);
 		if(workerData->finished) {
@@ -307,6 +372,9 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 	} while(!(vm->finalizeMainFlags & J9_FINALIZE_FLAGS_SHUTDOWN));
 
 	/* We've been told to die */
+	if (NULL != helperPool) {
+		FinalizeMainStopHelpers(vm, helperPool, finalizeCycleLimit);
+	}
 	if(NULL != workerThreadHandle) {
 		omrthread_monitor_exit((omrthread_monitor_t)vm->finalizeMainMonitor);
 		omrthread_monitor_enter(workerData->monitor);
@@ -346,7 +414,7 @@ static int J9THREAD_PROC FinalizeMainThread(void *javaVM)
 }
 
 static void
-process_finalizable(J9VMThread *vmThread, j9object_t object, jclass j9VMInternalsClass, jmethodID runFinalizeMID)
+process_finalizable(J9VMThread *vmThread, jobject localRef, jclass j9VMInternalsClass, jmethodID runFinalizeMID)
 {
 	J9InternalVMFunctions* fns;
 	J9JavaVM *vm;
@@ -354,8 +422,6 @@ process_finalizable(J9VMThread *vmThread, j9object_t object, jclass j9VMInternal
 	vm = vmThread->javaVM;
 	fns = vm->internalVMFunctions;
 
-	jobject localRef = fns->j9jni_createLocalRef((JNIEnv *)vmThread, object);
-
 	fns->internalReleaseVMAccess(vmThread);
 
 	if((NULL != j9VMInternalsClass) && (NULL != runFinalizeMID)) {
@@ -375,7 +441,7 @@ process_finalizable(J9VMThread *vmThread, j9object_t object, jclass j9VMInternal
 }
 
 static void
-process_reference(J9VMThread *vmThread, j9object_t reference, jmethodID refMID)
+process_reference(J9VMThread *vmThread, jobject localRef, jmethodID refMID)
 {
 	J9InternalVMFunctions* fns;
 	J9JavaVM *vm;
@@ -383,8 +449,6 @@ process_reference(J9VMThread *vmThread, j9object_t reference, jmethodID refMID)
 	vm = vmThread->javaVM;
 	fns = vm->internalVMFunctions;
 
-	jobject localRef = fns->j9jni_createLocalRef((JNIEnv *)vmThread, reference);
-
 	fns->internalReleaseVMAccess(vmThread);
 
 	if (refMID) {
@@ -423,19 +487,220 @@ process_classloader(J9VMThread *vmThread, J9ClassLoader *classLoader)
 }
 
 static void
-process(J9VMThread *vmThread, const GC_FinalizeJob *finalizeJob, jclass j9VMInternalsClass, jmethodID runFinalizeMID, jmethodID referenceEnqueueImplMID)
+process(J9VMThread *vmThread, const struct finalizeWorkerJob *job, const struct finalizeWorkerMethods *methods)
 {
-	if (FINALIZE_JOB_TYPE_OBJECT == (finalizeJob->type & FINALIZE_JOB_TYPE_OBJECT)) {
-		process_finalizable(vmThread, finalizeJob->object, j9VMInternalsClass, runFinalizeMID);
-	} else if (FINALIZE_JOB_TYPE_REFERENCE == (finalizeJob->type & FINALIZE_JOB_TYPE_REFERENCE)) {
-		process_reference(vmThread, finalizeJob->reference, referenceEnqueueImplMID);
-	} else if (FINALIZE_JOB_TYPE_CLASSLOADER == (finalizeJob->type & FINALIZE_JOB_TYPE_CLASSLOADER)) {
-		process_classloader(vmThread, finalizeJob->classLoader);
+	if (FINALIZE_JOB_TYPE_OBJECT == (job->type & FINALIZE_JOB_TYPE_OBJECT)) {
+		process_finalizable(vmThread, job->object, methods->j9VMInternalsClass, methods->runFinalizeMID);
+	} else if (FINALIZE_JOB_TYPE_REFERENCE == (job->type & FINALIZE_JOB_TYPE_REFERENCE)) {
+		process_reference(vmThread, job->object, methods->referenceEnqueueImplMID);
+	} else if (FINALIZE_JOB_TYPE_CLASSLOADER == (job->type & FINALIZE_JOB_TYPE_CLASSLOADER)) {
+		process_classloader(vmThread, job->classLoader);
 	} else {
 		Assert_MM_unreachable();
 	}
 }
 
+/**
+ * Look up the Java methods which run finalizers and enqueue references.
+ * Failing to find them is not fatal, the jobs are then consumed without being run.
+ */
+static void
+lookupWorkerMethods(J9VMThread *env, struct finalizeWorkerMethods *methods)
+{
+	J9JavaVM *vm = env->javaVM;
+	jclass referenceClazz;
+
+	methods->j9VMInternalsClass = NULL;
+	methods->runFinalizeMID = NULL;
+	methods->referenceEnqueueImplMID = NULL;
+
+	if(vm->jclFlags & J9_JCL_FLAG_FINALIZATION) {
+		/* Only look up finalization methods if the class library supports them */
+		jclass j9VMInternalsClass = ((JNIEnv *)env)->FindClass("java/lang/J9VMInternals");
+		if (j9VMInternalsClass) {
+			methods->j9VMInternalsClass = (jclass)((JNIEnv *)env)->NewGlobalRef(j9VMInternalsClass);
+			if (methods->j9VMInternalsClass) {
+				methods->runFinalizeMID = ((JNIEnv *)env)->GetStaticMethodID(methods->j9VMInternalsClass, "runFinalize", "(Ljava/lang/Object;)V");
+			}
+		}
+		if (!methods->runFinalizeMID) {
+			((JNIEnv *)env)->ExceptionClear();
+		}
+	
+		referenceClazz = ((JNIEnv *)env)->FindClass("java/lang/ref/Reference");
+		if (referenceClazz) {
+			methods->referenceEnqueueImplMID  = ((JNIEnv *)env)->GetMethodID(referenceClazz, "enqueueImpl", "()Z");
+		}
+		if (!methods->referenceEnqueueImplMID) {
+			((JNIEnv *)env)->ExceptionClear();
+		}
+	}
+}
+
+static void
+releaseWorkerMethods(J9VMThread *env, struct finalizeWorkerMethods *methods)
+{
+	if (methods->j9VMInternalsClass) {
+		((JNIEnv *)env)->DeleteGlobalRef(methods->j9VMInternalsClass);
+	}
+}
+
+/**
+ * Allocate the array a worker takes its batches of jobs into.
+ * If there isn't enough memory the worker takes one job at a time.
+ *
+ * @param singleJob[in] job to use if the array can't be allocated
+ * @param batchSize[out] the number of jobs in the array
+ */
+static struct finalizeWorkerJob *
+allocateWorkerJobs(MM_GCExtensions *extensions, struct finalizeWorkerJob *singleJob, UDATA *batchSize)
+{
+	struct finalizeWorkerJob *jobs = (struct finalizeWorkerJob *)extensions->getForge()->allocate(
+			extensions->finalizeWorkerBatchSize * sizeof(struct finalizeWorkerJob), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	if (NULL == jobs) {
+		jobs = singleJob;
+		*batchSize = 1;
+	} else {
+		*batchSize = extensions->finalizeWorkerBatchSize;
+	}
+	return jobs;
+}
+
+static void
+freeWorkerJobs(MM_GCExtensions *extensions, struct finalizeWorkerJob *jobs, struct finalizeWorkerJob *singleJob)
+{
+	if (singleJob != jobs) {
+		extensions->getForge()->free(jobs);
+	}
+}
+
+/**
+ * Take up to maxJobs jobs off the finalize lists, holding the lock only once.
+ *
+ * @note Must be called with VM access
+ *
+ * @param jobTypes[in] mask of the GC_FinalizeJobType values to take
+ * @param forced[in] true if the unfinalized objects should be forced onto the finalizable lists when they are empty
+ *
+ * @return the number of jobs taken
+ */
+static UDATA
+takeJobs(J9VMThread *vmThread, GC_FinalizeListManager *finalizeListManager, struct finalizeWorkerJob *jobs, UDATA maxJobs, UDATA jobTypes, bool forced)
+{
+	J9InternalVMFunctions *fns = vmThread->javaVM->internalVMFunctions;
+	const GC_FinalizeJob *finalizeJob;
+	GC_FinalizeJob localJob;
+	UDATA count = 0;
+
+	finalizeListManager->lock();
+
+	while (count < maxJobs) {
+		finalizeJob = finalizeListManager->consumeJob(vmThread, &localJob, jobTypes);
+		if ((NULL == finalizeJob) && forced && (0 == count)) {
+			forced = false;
+			finalizeForcedUnfinalizedToFinalizable(vmThread);
+			finalizeJob = finalizeListManager->consumeJob(vmThread, &localJob, jobTypes);
+		}
+		if (NULL == finalizeJob) {
+			break;
+		}
+
+		jobs[count].type = finalizeJob->type;
+		if (FINALIZE_JOB_TYPE_CLASSLOADER == (finalizeJob->type & FINALIZE_JOB_TYPE_CLASSLOADER)) {
+			jobs[count].classLoader = finalizeJob->classLoader;
+		} else {
+			/* The object is no longer on a finalize list, keep it alive until its job is run */
+			jobs[count].object = fns->j9jni_createLocalRef((JNIEnv *)vmThread, finalizeJob->object);
+		}
+		count += 1;
+	}
+
+	finalizeListManager->unlock();
+
+	return count;
+}
+
+/**
+ * Mark reference processing as active if there are references waiting to be enqueued.
+ */
+static void
+startReferenceProcessing(J9JavaVM *vm, GC_FinalizeListManager *finalizeListManager)
+{
+	if ((NULL != vm->processReferenceMonitor) && (0 != finalizeListManager->getReferenceCount())) {
+		omrthread_monitor_enter(vm->processReferenceMonitor);
+		vm->processReferenceActive = 1;
+		omrthread_monitor_exit(vm->processReferenceMonitor);
+	}
+}
+
+/**
+ * Put the jobs of a batch which were not run back on the finalize lists.
+ *
+ * @note Must be called with VM access
+ */
+static void
+returnJobs(J9VMThread *vmThread, GC_FinalizeListManager *finalizeListManager, const struct finalizeWorkerJob *jobs, UDATA count)
+{
+	GC_FinalizeJob job;
+
+	finalizeListManager->lock();
+	/* In reverse, so the jobs are taken again in the order they were first taken */
+	for (UDATA i = count; i > 0; i--) {
+		job.type = (GC_FinalizeJobType)jobs[i - 1].type;
+		if (FINALIZE_JOB_TYPE_CLASSLOADER == (job.type & FINALIZE_JOB_TYPE_CLASSLOADER)) {
+			job.classLoader = jobs[i - 1].classLoader;
+		} else {
+			job.object = J9_JNI_UNWRAP_REFERENCE(jobs[i - 1].object);
+		}
+		finalizeListManager->returnJob(vmThread, &job);
+	}
+	finalizeListManager->unlock();
+}
+
+/**
+ * Run a batch of jobs taken by takeJobs().
+ *
+ * @note Must be called with VM access, which is released and reacquired for each job
+ *
+ * @param stop[in] if not NULL, the jobs not yet run are put back on the finalize lists once it is set
+ */
+static void
+processJobs(J9VMThread *env, GC_FinalizeListManager *finalizeListManager, const struct finalizeWorkerJob *jobs, UDATA count, const struct finalizeWorkerMethods *methods, volatile UDATA *stop)
+{
+	J9JavaVM *vm = env->javaVM;
+	UDATA processed = 0;
+
+	for (; processed < count; processed++) {
+		if ((NULL != stop) && (0 != *stop)) {
+			break;
+		}
+
+		/* processing will release/acquire VM access */
+		process(env, &jobs[processed], methods);
+
+		if ((NULL != vm->processReferenceMonitor) && (0 != vm->processReferenceActive)) {
+			omrthread_monitor_enter(vm->processReferenceMonitor);
+			if (0 == finalizeListManager->getReferenceCount()) {
+				/* There is no more pending reference. */
+				vm->processReferenceActive = 0;
+			}
+			/*
+			 * Notify any waiters that progress has been made.
+			 * This improves latency for Reference.waitForReferenceProcessing() and try to
+			 * avoid the performance issue if there are many of pending references in the queue.
+			 */
+			omrthread_monitor_notify_all(vm->processReferenceMonitor);
+			omrthread_monitor_exit(vm->processReferenceMonitor);
+		}
+	}
+
+	if (processed < count) {
+		returnJobs(env, finalizeListManager, jobs + processed, count - processed);
+	}
+	finalizeListManager->jobsProcessed(processed);
+	vm->internalVMFunctions->jniResetStackReferences((JNIEnv *)env);
+}
+
 /**
  * Worker thread consumes jobs from Finalize List Manager and process them
  */
@@ -443,10 +708,10 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 {
 	struct finalizeWorkerData *workerData = (struct finalizeWorkerData *)arg;
 	J9VMThread *env;
-	const GC_FinalizeJob *finalizeJob;
-	GC_FinalizeJob localJob;
-	jclass referenceClazz, j9VMInternalsClass = NULL;
-	jmethodID referenceEnqueueImplMID = NULL, runFinalizeMID = NULL;
+	struct finalizeWorkerJob singleJob;
+	struct finalizeWorkerJob *jobs;
+	UDATA batchSize;
+	struct finalizeWorkerMethods methods;
 	J9InternalVMFunctions* fns;
 	omrthread_monitor_t monitor;
 	GC_FinalizeListManager *finalizeListManager;
@@ -482,27 +747,8 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 	/* Remember that the thread was gpProtected -- important for the JIT */
 	env->gpProtected = 1;
 
-	if(vm->jclFlags & J9_JCL_FLAG_FINALIZATION) {
-		/* Only look up finalization methods if the class library supports them */
-		j9VMInternalsClass = ((JNIEnv *)env)->FindClass("java/lang/J9VMInternals");
-		if (j9VMInternalsClass) {
-			j9VMInternalsClass = (jclass)((JNIEnv *)env)->NewGlobalRef(j9VMInternalsClass);
-			if (j9VMInternalsClass) {
-				runFinalizeMID = ((JNIEnv *)env)->GetStaticMethodID(j9VMInternalsClass, "runFinalize", "(Ljava/lang/Object;)V");
-			}
-		}
-		if (!runFinalizeMID) {
-			((JNIEnv *)env)->ExceptionClear();
-		}
-	
-		referenceClazz = ((JNIEnv *)env)->FindClass("java/lang/ref/Reference");
-		if (referenceClazz) {
-			referenceEnqueueImplMID  = ((JNIEnv *)env)->GetMethodID(referenceClazz, "enqueueImpl", "()Z");
-		}
-		if (!referenceEnqueueImplMID) {
-			((JNIEnv *)env)->ExceptionClear();
-		}
-	}		
+	lookupWorkerMethods(env, &methods);
+	jobs = allocateWorkerJobs(extensions, &singleJob, &batchSize);
 	workerData->vmThread = env;
 
 	/* Notify that the worker has come on line (We should check the result from above) */
@@ -527,72 +773,41 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 		if(workerData->mode != FINALIZE_WORKER_MODE_CL_UNLOAD)
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 		{
-			if ((NULL != vm->processReferenceMonitor) && (0 != finalizeListManager->getReferenceCount())) {
-				omrthread_monitor_enter(vm->processReferenceMonitor);
-				vm->processReferenceActive = 1;
-				omrthread_monitor_exit(vm->processReferenceMonitor);
-			}
+			startReferenceProcessing(vm, finalizeListManager);
 		}
 
 		do {
+			UDATA count = 0;
 
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 			if(workerData->mode == FINALIZE_WORKER_MODE_CL_UNLOAD) {
 				
-				if (NULL == (localJob.classLoader = (J9ClassLoader *)finalizeForcedClassLoaderUnload((J9VMThread *)env))) {
+				if (NULL == (singleJob.classLoader = (J9ClassLoader *)finalizeForcedClassLoaderUnload((J9VMThread *)env))) {
 					break;
 				} else {
-					localJob.type = FINALIZE_JOB_TYPE_CLASSLOADER;
-					finalizeJob = &localJob;
+					singleJob.type = FINALIZE_JOB_TYPE_CLASSLOADER;
+					processJobs(env, finalizeListManager, &singleJob, 1, &methods, NULL);
 				}
 
 			} else {
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
-
-				finalizeListManager->lock();
-				
-				finalizeJob = finalizeListManager->consumeJob(env, &localJob);
-				if(finalizeJob == NULL) {
-					if(workerData->mode == FINALIZE_WORKER_MODE_FORCED) {
-						finalizeForcedUnfinalizedToFinalizable(env);
-						finalizeJob = finalizeListManager->consumeJob(env, &localJob);
-					}
-				}
-
-				finalizeListManager->unlock();
+				count = takeJobs(env, finalizeListManager, jobs, batchSize, FINALIZE_JOB_TYPE_ALL, FINALIZE_WORKER_MODE_FORCED == workerData->mode);
 				
-				if(NULL != finalizeJob) {
+				if(0 != count) {
 					workerData->noWorkDone = 0;
 				} else {
 					workerData->noWorkDone = 1;
 					break;				
 				}
+
+				/* The whole batch is run, even if the worker is abandoned part way through */
+				processJobs(env, finalizeListManager, jobs, count, &methods, NULL);
 				
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
 			}
 #endif /* J9VM_GC_DYNAMIC_CLASS_UNLOADING */
 
-			/* processing will release/acquire VM access */
-			process(env, finalizeJob, j9VMInternalsClass, runFinalizeMID, referenceEnqueueImplMID);
-
-			if ((NULL != vm->processReferenceMonitor) && (0 != vm->processReferenceActive)) {
-				omrthread_monitor_enter(vm->processReferenceMonitor);
-				if (0 == finalizeListManager->getReferenceCount()) {
-					/* There is no more pending reference. */
-					vm->processReferenceActive = 0;
-				}
-				/*
-				 * Notify any waiters that progress has been made.
-				 * This improves latency for Reference.waitForReferenceProcessing() and try to
-				 * avoid the performance issue if there are many of pending references in the queue.
-				 */
-				omrthread_monitor_notify_all(vm->processReferenceMonitor);
-				omrthread_monitor_exit(vm->processReferenceMonitor);
-			}
-
-			fns->jniResetStackReferences((JNIEnv *)env);
-
 			if(FINALIZE_WORKER_SHOULD_ABANDON == workerData->die) {
 				/* We've been abandoned, finish up */
 				break;
@@ -608,9 +823,8 @@ static int J9THREAD_PROC FinalizeWorkerThread(void *arg)
 		omrthread_monitor_notify_all(monitor);
 	} while(workerData->die == FINALIZE_WORKER_STAY_ALIVE);
 	
-	if (j9VMInternalsClass) {
-		((JNIEnv *)env)->DeleteGlobalRef(j9VMInternalsClass);
-	}
+	releaseWorkerMethods(env, &methods);
+	freeWorkerJobs(extensions, jobs, &singleJob);
 
 	((JavaVM *)vm)->DetachCurrentThread();
 
@@ -792,6 +1006,265 @@ gpProtectedFinalizeWorkerThread(void *entryArg)
 	return 0;
 }
 
+/**
+ * Helper thread takes batches of finalizable objects and references from the
+ * Finalize List Manager whenever the main thread wakes it, until the lists are empty
+ */
+static int J9THREAD_PROC FinalizeHelperThread(void *arg)
+{
+	struct finalizeHelperPool *pool = (struct finalizeHelperPool *)arg;
+	J9JavaVM *vm = pool->vm;
+	J9InternalVMFunctions *fns = vm->internalVMFunctions;
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	GC_FinalizeListManager *finalizeListManager = extensions->finalizeListManager;
+	J9VMThread *env;
+	struct finalizeWorkerJob singleJob;
+	struct finalizeWorkerJob *jobs;
+	UDATA batchSize;
+	struct finalizeWorkerMethods methods;
+	UDATA wakeUp = 0;
+
+	if (JNI_OK != fns->attachSystemDaemonThread(vm, &env, "Finalizer thread")) {
+		/* Failed to attach the thread - the other threads will do the work */
+		omrthread_monitor_enter(pool->monitor);
+		if (!FinalizeHelperExited(pool)) {
+			omrthread_monitor_exit(pool->monitor);
+		}
+		return 0;
+	}
+
+#if defined(J9VM_OPT_JAVA_OFFLOAD_SUPPORT)
+	if( vm->javaOffloadSwitchOnWithReasonFunc != NULL ) {
+		(*vm->javaOffloadSwitchOnWithReasonFunc)(env, J9_JNI_OFFLOAD_SWITCH_FINALIZE_WORKER_THREAD);
+		env->javaOffloadState = 1;
+	}
+#endif
+
+	fns->internalEnterVMFromJNI(env);
+	env->privateFlags |= (J9_PRIVATE_FLAGS_FINALIZE_WORKER | J9_PRIVATE_FLAGS_USE_BOOTSTRAP_LOADER);
+	fns->internalReleaseVMAccess(env);
+
+	/* Remember that the thread was gpProtected -- important for the JIT */
+	env->gpProtected = 1;
+
+	lookupWorkerMethods(env, &methods);
+	jobs = allocateWorkerJobs(extensions, &singleJob, &batchSize);
+
+	omrthread_monitor_enter(pool->monitor);
+	while (!pool->die) {
+		if (wakeUp == pool->wakeUp) {
+			omrthread_monitor_wait(pool->monitor);
+			continue;
+		}
+		wakeUp = pool->wakeUp;
+		pool->busyCount += 1;
+		omrthread_monitor_exit(pool->monitor);
+
+		fns->internalEnterVMFromJNI(env);
+		startReferenceProcessing(vm, finalizeListManager);
+		while (!pool->die) {
+			UDATA count = takeJobs(env, finalizeListManager, jobs, batchSize, FINALIZE_JOB_TYPE_OBJECT | FINALIZE_JOB_TYPE_REFERENCE, false);
+			if (0 == count) {
+				break;
+			}
+			/* At shutdown, stop after the current job and leave the rest on the lists */
+			processJobs(env, finalizeListManager, jobs, count, &methods, &pool->die);
+		}
+		fns->internalReleaseVMAccess(env);
+
+		omrthread_monitor_enter(pool->monitor);
+		pool->busyCount -= 1;
+		/* Let the main thread know if it is waiting for the helpers to finish */
+		omrthread_monitor_notify_all(pool->monitor);
+	}
+	omrthread_monitor_exit(pool->monitor);
+
+	releaseWorkerMethods(env, &methods);
+	freeWorkerJobs(extensions, jobs, &singleJob);
+
+	((JavaVM *)vm)->DetachCurrentThread();
+
+#if defined(J9VM_OPT_JAVA_OFFLOAD_SUPPORT)
+	if( vm->javaOffloadSwitchOffNoEnvWithReasonFunc != NULL ) {
+		(*vm->javaOffloadSwitchOffNoEnvWithReasonFunc)(vm, omrthread_self(), J9_JNI_OFFLOAD_SWITCH_FINALIZE_WORKER_THREAD);
+	}
+#endif
+
+	omrthread_monitor_enter(pool->monitor);
+	if (!FinalizeHelperExited(pool)) {
+		omrthread_exit(pool->monitor);		/* exit the monitor, and terminate the thread */
+	}
+
+	/* NO EXECUTION GUARANTEE BEYOND THIS POINT */
+
+	return 0;
+}
+
+/*
+ * Record that a helper thread is exiting and let the main thread know.
+ * If the main thread has stopped waiting, the last helper to exit frees the pool.
+ *
+ * Preconditions:
+ * 	holds pool->monitor
+ * Postconditions:
+ * 	holds pool->monitor, unless the pool was freed
+ *
+ * @return true if the pool was freed
+ */
+static bool
+FinalizeHelperExited(struct finalizeHelperPool *pool)
+{
+	pool->threadCount -= 1;
+	if (pool->abandoned && (0 == pool->threadCount)) {
+		omrthread_monitor_exit(pool->monitor);
+		omrthread_monitor_destroy(pool->monitor);
+		MM_GCExtensions::getExtensions(pool->vm)->getForge()->free(pool);
+		return true;
+	}
+	omrthread_monitor_notify_all(pool->monitor);
+	return false;
+}
+
+static UDATA
+FinalizeHelperThreadGlue(J9PortLibrary* portLib, void* userData)
+{
+	return FinalizeHelperThread(userData);
+}
+
+static int J9THREAD_PROC
+gpProtectedFinalizeHelperThread(void *entryArg)
+{
+	struct finalizeHelperPool *pool = (struct finalizeHelperPool *) entryArg;
+	PORT_ACCESS_FROM_PORT(pool->vm->portLibrary);
+	UDATA rc;
+
+	j9sig_protect(FinalizeHelperThreadGlue, pool,
+		pool->vm->internalVMFunctions->structuredSignalHandlerVM, pool->vm,
+		J9PORT_SIG_FLAG_SIGALLSYNC | J9PORT_SIG_FLAG_MAY_CONTINUE_EXECUTION,
+		&rc);
+
+	return 0;
+}
+
+/**
+ * Start the helper threads, one fewer than -Xgc:finalizeWorkerThreads.
+ *
+ * @return the helpers, or NULL if none could be started
+ */
+static struct finalizeHelperPool *
+FinalizeMainStartHelpers(J9JavaVM *vm)
+{
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm);
+	MM_Forge *forge = extensions->getForge();
+	struct finalizeHelperPool *pool;
+
+	pool = (struct finalizeHelperPool *)forge->allocate(sizeof(struct finalizeHelperPool), MM_AllocationCategory::FINALIZE, J9_GET_CALLSITE());
+	if (NULL == pool) {
+		return NULL;
+	}
+	pool->vm = vm;
+	pool->threadCount = 0;
+	pool->busyCount = 0;
+	pool->wakeUp = 0;
+	pool->die = 0;
+	pool->abandoned = 0;
+
+	if (0 != omrthread_monitor_init_with_name(&pool->monitor, 0, "Finalizer helpers")) {
+		forge->free(pool);
+		return NULL;
+	}
+
+	omrthread_monitor_enter(pool->monitor);
+	for (UDATA i = 1; i < extensions->finalizeWorkerThreadCount; i++) {
+		IDATA result = vm->internalVMFunctions->createThreadWithCategory(
+							NULL,
+							vm->defaultOSStackSize,
+							extensions->finalizeWorkerPriority,
+							0,
+							&gpProtectedFinalizeHelperThread,
+							pool,
+							J9THREAD_CATEGORY_APPLICATION_THREAD);
+		if (0 != result) {
+			break;
+		}
+		pool->threadCount += 1;
+	}
+	omrthread_monitor_exit(pool->monitor);
+
+	if (0 == pool->threadCount) {
+		omrthread_monitor_destroy(pool->monitor);
+		forge->free(pool);
+		pool = NULL;
+	}
+
+	return pool;
+}
+
+static void
+FinalizeMainWakeHelpers(struct finalizeHelperPool *pool)
+{
+	omrthread_monitor_enter(pool->monitor);
+	pool->wakeUp += 1;
+	omrthread_monitor_notify_all(pool->monitor);
+	omrthread_monitor_exit(pool->monitor);
+}
+
+/*
+ * Wait for the helpers to run the jobs they have taken.
+ *
+ * Preconditions:
+ * 	holds finalizeMainMonitor
+ * Postconditions:
+ * 	holds finalizeMainMonitor
+ */
+static void
+FinalizeMainWaitForHelpers(J9JavaVM *vm, struct finalizeHelperPool *pool, IDATA finalizeCycleLimit)
+{
+	IDATA waitResult = 0;
+
+	/* A finalizer run by a helper may itself call runFinalization() */
+	omrthread_monitor_exit(vm->finalizeMainMonitor);
+	omrthread_monitor_enter(pool->monitor);
+	while ((0 != pool->busyCount) && (J9THREAD_TIMED_OUT != waitResult)) {
+		waitResult = omrthread_monitor_wait_timed(pool->monitor, finalizeCycleLimit, 0);
+	}
+	omrthread_monitor_exit(pool->monitor);
+	omrthread_monitor_enter(vm->finalizeMainMonitor);
+}
+
+/*
+ * Tell the helpers to die and wait for them to exit. As with the worker, a helper
+ * which doesn't exit within the finalize cycle limit (e.g. blocked in a finalizer)
+ * is abandoned, and the last helper to exit frees the pool.
+ *
+ * Preconditions:
+ * 	holds finalizeMainMonitor
+ * Postconditions:
+ * 	holds finalizeMainMonitor
+ */
+static void
+FinalizeMainStopHelpers(J9JavaVM *vm, struct finalizeHelperPool *pool, IDATA finalizeCycleLimit)
+{
+	IDATA waitResult = 0;
+
+	omrthread_monitor_exit(vm->finalizeMainMonitor);
+	omrthread_monitor_enter(pool->monitor);
+	pool->die = 1;
+	omrthread_monitor_notify_all(pool->monitor);
+	while ((0 != pool->threadCount) && (J9THREAD_TIMED_OUT != waitResult)) {
+		waitResult = omrthread_monitor_wait_timed(pool->monitor, finalizeCycleLimit, 0);
+	}
+	if (0 == pool->threadCount) {
+		omrthread_monitor_exit(pool->monitor);
+		omrthread_monitor_destroy(pool->monitor);
+		MM_GCExtensions::getExtensions(vm)->getForge()->free(pool);
+	} else {
+		pool->abandoned = 1;
+		omrthread_monitor_exit(pool->monitor);
+	}
+	omrthread_monitor_enter(vm->finalizeMainMonitor);
+}
+
 int j9gc_finalizer_startup(J9JavaVM * vm)
 {
 	IDATA result;
@@ -863,6 +1336,22 @@ void j9gc_finalizer_shutdown(J9JavaVM * vm)
 				 * This will cause jniinv:terminateRemainingThreads() to fail.
 				 */
 				waitForFinalizer = false;
+			} else if (MM_GCExtensions::getExtensions(vm)->finalizeWorkerThreadCount > 1) {
+				/* The same applies to the helper threads, which the main thread waits for when it shuts down */
+				omrthread_monitor_enter(vm->vmThreadListMutex);
+				J9VMThread *walkThread = vm->mainThread;
+				while (NULL != walkThread) {
+					if (J9_ARE_ANY_BITS_SET(walkThread->privateFlags, J9_PRIVATE_FLAGS_FINALIZE_WORKER)
+							&& J9_ARE_ANY_BITS_SET(walkThread->publicFlags, J9_PUBLIC_FLAGS_HALT_THREAD_JAVA_SUSPEND)) {
+						waitForFinalizer = false;
+						break;
+					}
+					walkThread = walkThread->linkNext;
+					if (vm->mainThread == walkThread) {
+						break;
+					}
+				}
+				omrthread_monitor_exit(vm->vmThreadListMutex);
 			}
 			if (waitForFinalizer) {
 				while (!(vm->finalizeMainFlags & J9_FINALIZE_FLAGS_SHUTDOWN_COMPLETE)) {
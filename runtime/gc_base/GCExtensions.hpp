@@ -151,6 +151,8 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 	uintptr_t finalizeMainPriority; /**< cmd line option to set finalize main thread priority */
 	uintptr_t finalizeWorkerPriority; /**< cmd line option to set finalize worker thread priority */
+	uintptr_t finalizeWorkerThreadCount; /**< number of threads that run finalizers and enqueue references (the worker plus helpers) */
+	uintptr_t finalizeWorkerBatchSize; /**< maximum number of jobs a finalize worker takes off the finalize lists at once */
 #endif /* J9VM_GC_FINALIZATION */
 
 	MM_ClassLoaderManager* classLoaderManager; /**< Pointer to the gc's classloader manager to process classloaders/classes */
@@ -405,6 +407,8 @@ public:
 #if defined(J9VM_GC_FINALIZATION)
 		, finalizeMainPriority(J9THREAD_PRIORITY_NORMAL)
 		, finalizeWorkerPriority(J9THREAD_PRIORITY_NORMAL)
+		, finalizeWorkerThreadCount(1)
+		, finalizeWorkerBatchSize(16)
 #endif /* J9VM_GC_FINALIZATION */
 		, classLoaderManager(NULL)
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
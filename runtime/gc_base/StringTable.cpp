@@ -27,6 +27,7 @@
 #include "objhelp.h"
 #include "ModronAssertions.h"
 
+#include "AtomicOperations.hpp"
 #include "EnvironmentBase.hpp"
 #include "GCExtensions.hpp"
 #include "StringTable.hpp"
@@ -199,11 +200,100 @@ MM_StringTable::addStringToInternTable(J9VMThread *vmThread, j9object_t string)
 
 	if (NULL == internedString) {
 		Trc_MM_StringTable_stringAddToInternTableFailed(vmThread, string, _table, tableIndex);
+	} else {
+		cacheString(internedString, hash);
 	}
 
 	return internedString;
 }
 
+j9object_t
+MM_StringTable::cacheFind(J9JavaVM *javaVM, void *key, UDATA hash)
+{
+	j9object_t *set = getCacheSet(hash);
+
+	for (UDATA way = 0; way < cacheWays; way++) {
+		/* The GC may clear or update the slot, but never while this thread has VM access */
+		j9object_t candidate = J9WEAKROOT_OBJECT_LOAD_VM(javaVM, &set[way]);
+		if ((NULL != candidate) && stringHashEqualFn(&candidate, key, javaVM)) {
+			/*
+			 * This can only be used if the candidate is live.
+			 * Pass in candidate twice since we only have one string.
+			 */
+			if (checkStringConstantsLive(javaVM, candidate, candidate)) {
+				return candidate;
+			}
+		}
+	}
+
+	return NULL;
+}
+
+j9object_t
+MM_StringTable::cacheLookupUTF8(J9JavaVM *javaVM, U_8 *utf8Data, UDATA utf8Length, U_32 hash)
+{
+	stringTableUTF8Query query;
+	void *ptr;
+
+	query.utf8Data = utf8Data;
+	query.utf8Length = utf8Length;
+	query.hash = hash;
+	ptr = &query;
+	ptr = (void *) ((UDATA) ptr | TYPE_UTF8); /* Least significant bit indicates that this is a pointer to a stringTableUTF8Query */
+	return cacheFind(javaVM, &ptr, hash);
+}
+
+void
+MM_StringTable::cacheString(j9object_t string, UDATA hash)
+{
+	j9object_t *set = getCacheSet(hash);
+
+	for (UDATA way = 0; way < cacheWays; way++) {
+		j9object_t current = set[way];
+		if (current == string) {
+			return;
+		}
+		if (NULL == current) {
+			current = (j9object_t)MM_AtomicOperations::lockCompareExchange((volatile uintptr_t *)&set[way], (uintptr_t)NULL, (uintptr_t)string);
+			if ((NULL == current) || (current == string)) {
+				return;
+			}
+		}
+	}
+
+	/*
+	 * The set is full. Replace the way selected by the hash bits above those which selected the set,
+	 * so that strings sharing a set do not all evict the same entry. Racing with another thread here
+	 * only loses a cache entry, the string is still in the table.
+	 */
+	set[(hash / cacheSets) % cacheWays] = string;
+}
+
+void
+MM_StringTable::getStatistics(MM_StringTableStats *stats)
+{
+	memset(stats, 0, sizeof(MM_StringTableStats));
+
+	for (UDATA tableIndex = 0; tableIndex < _tableCount; tableIndex++) {
+		UDATA count = hashTableGetCount(_table[tableIndex]);
+		stats->_entries += count;
+		if (count > stats->_largestTable) {
+			stats->_largestTable = count;
+		}
+	}
+
+	for (UDATA slot = 0; slot < cacheSize; slot++) {
+		if (NULL != _cache[slot]) {
+			UDATA probes = (slot % cacheWays) + 1;
+			stats->_cacheEntries += 1;
+			stats->_cacheProbes += probes;
+			if (probes > stats->_cacheMaxProbe) {
+				stats->_cacheMaxProbe = probes;
+			}
+		}
+	}
+}
+
 
 static IDATA
 stringComparatorFn(struct J9AVLTree *tree, struct J9AVLTreeNode *leftNode, struct J9AVLTreeNode *rightNode)
@@ -629,11 +719,18 @@ j9gc_createJavaLangString(J9VMThread *vmThread, U_8 *data, UDATA length, UDATA s
 			hash = VM_VMHelpers::computeHashForUTF8(data, length);
 		}
 
-		UDATA tableIndex = stringTable->getTableIndex(hash);
+		result = stringTable->cacheLookupUTF8(vm, data, length, (U_32)hash);
+		if (NULL == result) {
+			UDATA tableIndex = stringTable->getTableIndex(hash);
 
-		stringTable->lockTable(tableIndex);
-		result = stringTable->hashAtUTF8(tableIndex, data, length, (U_32)hash);
-		stringTable->unlockTable(tableIndex);
+			stringTable->lockTable(tableIndex);
+			result = stringTable->hashAtUTF8(tableIndex, data, length, (U_32)hash);
+			stringTable->unlockTable(tableIndex);
+
+			if (NULL != result) {
+				stringTable->cacheString(result, (U_32)hash);
+			}
+		}
 	}
 
 	if (NULL == result) {
@@ -929,23 +1026,13 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(vm->omrVM);
 	MM_StringTable *stringTable = extensions->getStringTable();
 	j9object_t internedString = NULL;
-	j9object_t *candidatePtr = NULL;
-	j9object_t candidate = NULL;
 
 	UDATA hash = stringHashFn(&sourceString, vm);
 
-	candidatePtr = stringTable->getStringInternCache(hash);
-	candidate = *candidatePtr;
-
-	if ((NULL != candidate) && stringHashEqualFn(&candidate, &sourceString, vm)) {
-		/*
-		 * This can only be used if the current candidate pointer is live.
-		 * Pass in candidate twice since we only have one string.
-		 */
-		if (checkStringConstantsLive(vm, candidate, candidate)) {
-			Trc_MM_stringTableCacheHit(vmThread, candidate);
-			return candidate;
-		}
+	internedString = stringTable->cacheLookup(vm, sourceString, hash);
+	if (NULL != internedString) {
+		Trc_MM_stringTableCacheHit(vmThread, internedString);
+		return internedString;
 	}
 
 	UDATA tableIndex = stringTable->getTableIndex(hash);
@@ -953,8 +1040,10 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 	stringTable->lockTable(tableIndex);
 	internedString = stringTable->hashAt(tableIndex, sourceString);
 	stringTable->unlockTable(tableIndex);
-	
-	if (NULL == internedString) {
+
+	if (NULL != internedString) {
+		stringTable->cacheString(internedString, hash);
+	} else {
 		j9object_t newString = NULL;
 
 		PUSH_OBJECT_IN_SPECIAL_FRAME(vmThread, sourceString);
@@ -973,7 +1062,6 @@ j9gc_internString(J9VMThread *vmThread, j9object_t sourceString)
 		}
 	}
 
-	*candidatePtr = internedString;
 	Trc_MM_stringTableCacheMiss(vmThread, internedString);
 	return internedString;
 }
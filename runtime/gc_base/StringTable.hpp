@@ -34,20 +34,49 @@
 
 class MM_EnvironmentBase;
 
+/**
+ * Snapshot of the size of the string table and how well the cache covers it.
+ * @see MM_StringTable::getStatistics()
+ */
+struct MM_StringTableStats {
+	UDATA _entries;           /**< number of interned strings in all sub-tables */
+	UDATA _largestTable;      /**< number of interned strings in the fullest sub-table */
+	UDATA _cacheEntries;      /**< number of occupied cache slots */
+	UDATA _cacheProbes;       /**< total probes a lookup needs to reach each cached string */
+	UDATA _cacheMaxProbe;     /**< most probes a lookup needs to reach a cached string */
+};
+
 class MM_StringTable : public MM_BaseVirtual {
 private:
 	UDATA _tableCount;              /**< count of hash sub-tables */
 	J9HashTable **_table;           /**< pointer to an array of hash sub-tables */
 	omrthread_monitor_t *_mutex;    /**< pointer to an array of monitors associated with each hash sub-table */
 
-    ddr_constant(cacheSize, 511);
-	j9object_t _cache[cacheSize];   /**< interned string table cash */
+	ddr_constant(cacheWays, 4);
+	ddr_constant(cacheSets, 1021);
+	ddr_constant(cacheSize, 4084);
+	j9object_t _cache[cacheSize];   /**< lock-free cache of interned strings, cacheWays slots for each set */
 public:
 
 private:
 	bool initialize(MM_EnvironmentBase *env);
 	void tearDown(MM_EnvironmentBase *env);
 
+	/**
+	 * @param hash hash value of a string
+	 * @return the first of the cacheWays slots a string with this hash may be cached in
+	 */
+	j9object_t *getCacheSet(UDATA hash) { return &_cache[(hash % cacheSets) * cacheWays]; }
+
+	/**
+	 * Probe the cache without taking any lock.
+	 * @param javaVM pointer to J9JavaVM
+	 * @param key pointer to a String object or to a low-tagged pointer to a stringTableUTF8Query
+	 * @param hash hash value of the key
+	 * @return the live cached String equal to the key, or NULL
+	 */
+	j9object_t cacheFind(J9JavaVM *javaVM, void *key, UDATA hash);
+
 public:
 
 	/**
@@ -58,11 +87,37 @@ public:
 	 * @return the address of cache (represented as an array)
 	 */
 	j9object_t *getStringInternCache() { return _cache; }
+
+	/**
+	 * Find an interned string in the cache. No lock is taken, so this may miss a string
+	 * that is in the table and the caller must fall back to hashAt().
+	 * @param javaVM pointer to J9JavaVM
+	 * @param string String object to look for
+	 * @param hash hash value of the string
+	 * @return the interned string or NULL
+	 */
+	j9object_t cacheLookup(J9JavaVM *javaVM, j9object_t string, UDATA hash) { return cacheFind(javaVM, &string, hash); }
+	/**
+	 * Find an interned string equal to UTF8 data in the cache, without taking any lock.
+	 * @param javaVM pointer to J9JavaVM
+	 * @param utf8Data pointer to UTF8 string data
+	 * @param utf8Length length of the string
+	 * @param hash Java hash value of the string
+	 * @return the interned string or NULL
+	 */
+	j9object_t cacheLookupUTF8(J9JavaVM *javaVM, U_8 *utf8Data, UDATA utf8Length, U_32 hash);
+	/**
+	 * Publish an interned string to the cache, replacing an older entry if its set is full.
+	 * @param string interned String object
+	 * @param hash hash value of the string
+	 */
+	void cacheString(j9object_t string, UDATA hash);
+
 	/**
-	 * @param hash hash value of the string being cached
-	 * @return the address of an entry into the cache array
+	 * Count the entries of the table and the cache. The caller must have exclusive VM access.
+	 * @param[out] stats the statistics
 	 */
-	j9object_t *getStringInternCache(UDATA hash) { return &_cache[hash % cacheSize]; }
+	void getStatistics(MM_StringTableStats *stats);
 
 	/**
 	 * @return hash sub-table count
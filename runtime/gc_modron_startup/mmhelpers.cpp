@@ -233,6 +233,27 @@ j9gc_get_objects_pending_finalization_count(J9JavaVM *javaVM)
 {
 	return MM_GCExtensions::getExtensions(javaVM)->finalizeListManager->getJobCount();
 }
+
+/**
+ * Return the number of jobs (finalizable objects, references to enqueue and class
+ * loaders to unload) the finalizer threads have completed since startup.
+ * @return number of finalize jobs completed
+ */
+UDATA
+j9gc_get_finalize_jobs_processed_count(J9JavaVM *javaVM)
+{
+	return MM_GCExtensions::getExtensions(javaVM)->finalizeListManager->getProcessedJobCount();
+}
+
+/**
+ * Return the number of threads which may run finalizers, as set by -Xgc:finalizeWorkerThreads.
+ * @return number of finalizer threads
+ */
+UDATA
+j9gc_get_finalize_worker_thread_count(J9JavaVM *javaVM)
+{
+	return MM_GCExtensions::getExtensions(javaVM)->finalizeWorkerThreadCount;
+}
 #endif /* J9VM_GC_FINALIZATION */
 
 UDATA
@@ -40,6 +40,7 @@ static const char *versionString = "Modron $Name: not supported by cvs2svn $";
 
 #include "mmparse.h"
 
+#include "FinalizerSupport.hpp"
 #include "GCExtensions.hpp"
 #include "Math.hpp"
 
@@ -1312,6 +1313,30 @@ gcParseXgcArguments(J9JavaVM *vm, char *optArg)
 			}
 			continue;
 		}
+		if (try_scan(&scan_start, "finalizeWorkerThreads=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeWorkerThreadCount, "finalizeWorkerThreads=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if((extensions->finalizeWorkerThreadCount < 1) || (extensions->finalizeWorkerThreadCount > J9_FINALIZE_WORKER_THREADS_MAX)) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_INTEGER_OUT_OF_RANGE, "-Xgc:finalizeWorkerThreads", (UDATA)1, (UDATA)J9_FINALIZE_WORKER_THREADS_MAX);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+		if (try_scan(&scan_start, "finalizeWorkerBatchSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &extensions->finalizeWorkerBatchSize, "finalizeWorkerBatchSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if((extensions->finalizeWorkerBatchSize < 1) || (extensions->finalizeWorkerBatchSize > J9_FINALIZE_WORKER_BATCH_SIZE_MAX)) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_INTEGER_OUT_OF_RANGE, "-Xgc:finalizeWorkerBatchSize", (UDATA)1, (UDATA)J9_FINALIZE_WORKER_BATCH_SIZE_MAX);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
 #endif /* J9VM_GC_FINALIZATION */
 
 #if defined(J9MODRON_USE_CUSTOM_SPINLOCKS)
@@ -586,6 +586,7 @@ MM_VerboseHandlerOutputVLHGC::outputMarkSummary(MM_EnvironmentBase *env, const c
 	outputReferenceInfo(env, 1, "phantom", &markStats->_phantomReferenceStats, 0, 0);
 
 	outputStringConstantInfo(env, 1, markStats->_stringConstantsCandidates, markStats->_stringConstantsCleared);
+	MM_VerboseHandlerJava::outputStringTableInfo(_manager, env, 1);
 	outputMonitorReferenceInfo(env, 1, markStats->_monitorReferenceCandidates, markStats->_monitorReferenceCleared);
 
 	switch (env->_cycleState->_reasonForMarkCompactPGC) {
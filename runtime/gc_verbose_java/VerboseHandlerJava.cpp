@@ -33,6 +33,7 @@
 #include "VerboseWriterChain.hpp"
 #include "GCExtensions.hpp"
 #include "FinalizeListManager.hpp"
+#include "StringTable.hpp"
 #include "VerboseBuffer.hpp"
 
 void
@@ -51,6 +52,21 @@ MM_VerboseHandlerJava::outputFinalizableInfo(MM_VerboseManager *manager, MM_Envi
 	}
 }
 
+void
+MM_VerboseHandlerJava::outputStringTableInfo(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent)
+{
+	MM_StringTable *stringTable = MM_GCExtensions::getExtensions(env)->getStringTable();
+	MM_StringTableStats stats;
+
+	stringTable->getStatistics(&stats);
+
+	/* probes are reported in hundredths to avoid floating point in the output path */
+	UDATA averageProbe = (0 == stats._cacheEntries) ? 0 : ((stats._cacheProbes * 100) / stats._cacheEntries);
+	manager->getWriterChain()->formatAndOutput(env, indent, "<stringtable entries=\"%zu\" tables=\"%zu\" largesttable=\"%zu\" cached=\"%zu\" cachesize=\"%zu\" avgprobe=\"%zu.%02zu\" maxprobe=\"%zu\" />",
+			stats._entries, stringTable->getTableCount(), stats._largestTable, stats._cacheEntries, MM_StringTable::getCacheSize(),
+			averageProbe / 100, averageProbe % 100, stats._cacheMaxProbe);
+}
+
 bool
 MM_VerboseHandlerJava::getThreadName(char *buf, UDATA bufLen, OMR_VMThread *omrThread)
 {
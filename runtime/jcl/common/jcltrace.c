@@ -150,6 +150,13 @@ terminateTrace(JNIEnv *env)
 		lastIndex = TRACEDOTCGLOBAL(numberOfAppTraceApplications);
 	} while (! CompareAndSwap32(&TRACEDOTCGLOBAL(numberOfAppTraceApplications), lastIndex, 0));
 
+	/* drop the direct buffers viewing the active arrays so Java no longer reads them once they are freed */
+	if (NULL != TRACEDOTCGLOBAL(traceClass)) {
+		(*env)->SetStaticObjectField(env, TRACEDOTCGLOBAL(traceClass), TRACEDOTCGLOBAL(tracePointStatesID), NULL);
+		(*env)->DeleteGlobalRef(env, TRACEDOTCGLOBAL(traceClass));
+		TRACEDOTCGLOBAL(traceClass) = NULL;
+	}
+
 	/* free the modInfo and argument structures */
 	for (;lastIndex > 0; lastIndex--) {
 		UtModuleInfo *modInfo = (UtModuleInfo *)arrayListGet(env, TRACEDOTCGLOBAL(modInfoList), lastIndex);
@@ -1773,6 +1780,55 @@ Java_com_ibm_jvm_Trace_resumeThisImpl(JNIEnv *env, jobject this)
 	TRACEDOTCGLOBAL(rasIntf)->TraceResumeThis(env);
 }
 
+/**************************************************************************
+ * name        - Java_com_ibm_jvm_Trace_getTracePointStatesImpl
+ * description - Expose the active states of an application's trace points
+ * parameters  - JNIEnv, this, handle
+ * returns     - A direct ByteBuffer over the module's active array or NULL
+ *               if the handle does not refer to a registered application
+ *
+ * The buffer views the same memory the trace engine updates when trace points
+ * are enabled or disabled, so Java callers see changes without further calls.
+ *************************************************************************/
+jobject JNICALL
+Java_com_ibm_jvm_Trace_getTracePointStatesImpl(JNIEnv *env, jclass this, jint handle)
+{
+	UtModuleInfo *modInfo = NULL;
+
+	if (NULL == TRACEDOTCGLOBAL(utIntf)) {
+		return NULL;
+	}
+
+	if ((handle <= 0) || ((U_32)handle > TRACEDOTCGLOBAL(numberOfAppTraceApplications))) {
+		return NULL;
+	}
+
+	modInfo = (UtModuleInfo *)arrayListGet(env, TRACEDOTCGLOBAL(modInfoList), handle);
+	if ((NULL == modInfo) || (NULL == modInfo->active)) {
+		return NULL;
+	}
+
+	/* Remember where the buffers are kept so terminateTrace() can drop them before freeing the active arrays.
+	 * Trace.registerApplication() is synchronized, so this is not called concurrently.
+	 */
+	if (NULL == TRACEDOTCGLOBAL(traceClass)) {
+		jfieldID tracePointStatesID = (*env)->GetStaticFieldID(env, this, "tracePointStates", "[Ljava/nio/ByteBuffer;");
+		jclass traceClass = NULL;
+
+		if (NULL == tracePointStatesID) {
+			return NULL;
+		}
+		traceClass = (jclass)(*env)->NewGlobalRef(env, this);
+		if (NULL == traceClass) {
+			return NULL;
+		}
+		TRACEDOTCGLOBAL(tracePointStatesID) = tracePointStatesID;
+		TRACEDOTCGLOBAL(traceClass) = traceClass;
+	}
+
+	return (*env)->NewDirectByteBuffer(env, modInfo->active, (jlong)modInfo->count);
+}
+
 /**************************************************************************
  * name        - Java_com_ibm_jvm_Trace_getMicros
  * description - Return the microsecond clock time
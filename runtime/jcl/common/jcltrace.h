@@ -49,6 +49,10 @@ typedef struct traceDotCGlobalMemory {
 
 	/* trace interface pointer */
 	UtInterface     *utIntf;
+
+	/* com.ibm.jvm.Trace and its field holding the direct buffers over the active arrays */
+	jclass traceClass;
+	jfieldID tracePointStatesID;
 } traceDotCGlobalMemory;
 
 extern void terminateTrace(JNIEnv *env);
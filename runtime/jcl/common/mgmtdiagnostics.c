@@ -0,0 +1,401 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "jni.h"
+#include "j9.h"
+#include "jcl_internal.h"
+#include "mgmtinit.h"
+
+/* The layouts of the values arrays, which must match openj9.internal.tools.attach.target.DiagnosticUtils */
+#define QUEUE_METHODS 0
+#define QUEUE_FIRST_TIME 1
+#define QUEUE_WEIGHT 2
+#define QUEUE_LOW_PRIORITY 3
+#define QUEUE_JPROFILING 4
+#define QUEUE_ACTIVE_THREADS 5
+#define QUEUE_THREADS 6
+#define QUEUE_COMPILATIONS 7
+#define QUEUE_THREADS_COMPILING 8
+#define QUEUE_VALUES 9
+
+#define CODE_SEGMENTS 0
+#define CODE_COMMITTED 1
+#define CODE_WARM 2
+#define CODE_COLD 3
+#define CODE_FREE 4
+#define CODE_MAX 5
+#define DATA_SEGMENTS 6
+#define DATA_COMMITTED 7
+#define DATA_USED 8
+#define DATA_MAX 9
+#define CODE_VALUES 10
+
+#define SHARED_SIZE 0
+#define SHARED_SOFTMX 1
+#define SHARED_FREE 2
+#define SHARED_PERCENT_FULL 3
+#define SHARED_LAYERS 4
+#define SHARED_ROM_CLASSES 5
+#define SHARED_STALE_CLASSES 6
+#define SHARED_AOT_METHODS 7
+#define SHARED_ROM_CLASS_BYTES 8
+#define SHARED_AOT_BYTES 9
+#define SHARED_JIT_DATA_BYTES 10
+#define SHARED_OTHER_BYTES 11
+#define SHARED_VALUES 12
+
+/* Each memory category is reported as its code, parent code (-1 for a root), bytes and allocations */
+#define CATEGORY_VALUES 4
+
+typedef struct MemoryCategoryWalkData {
+	UDATA count;
+	UDATA limit;
+	jlong *values;
+	const char **names;
+} MemoryCategoryWalkData;
+
+static jboolean setValues(JNIEnv *env, jlongArray values, jlong *sample, jsize count);
+static UDATA countCategoriesCallback(U_32 categoryCode, const char *categoryName, UDATA liveBytes, UDATA liveAllocations, BOOLEAN isRoot, U_32 parentCategoryCode, OMRMemCategoryWalkState *state);
+static UDATA recordCategoriesCallback(U_32 categoryCode, const char *categoryName, UDATA liveBytes, UDATA liveAllocations, BOOLEAN isRoot, U_32 parentCategoryCode, OMRMemCategoryWalkState *state);
+
+static jboolean
+setValues(JNIEnv *env, jlongArray values, jlong *sample, jsize count)
+{
+	if (count > (*env)->GetArrayLength(env, values)) {
+		count = (*env)->GetArrayLength(env, values);
+	}
+	(*env)->SetLongArrayRegion(env, values, 0, count, sample);
+	return (*env)->ExceptionCheck(env) ? JNI_FALSE : JNI_TRUE;
+}
+
+/**
+ * Sample the JIT compilation queues. The counters are read without stopping the
+ * compilation threads, so they may not be exactly consistent with each other.
+ * @param[in] env The JNI environment
+ * @param[in] clazz The DiagnosticUtils class
+ * @param[in] values Receives the counters, in the order given by the QUEUE_ constants
+ * @return JNI_FALSE if there is no JIT, JNI_TRUE otherwise
+ */
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCompilationQueueImpl(JNIEnv *env, jclass clazz, jlongArray values)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JITConfig *jitConfig = javaVM->jitConfig;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	J9JITCompilationQueueInfo info;
+	jlong sample[QUEUE_VALUES];
+
+	if ((NULL == jitConfig) || (NULL == jitConfig->getCompilationQueueInfo)) {
+		return JNI_FALSE;
+	}
+
+	memset(&info, 0, sizeof(info));
+	jitConfig->getCompilationQueueInfo(jitConfig, &info);
+	sample[QUEUE_METHODS] = (jlong)info.queuedMethods;
+	sample[QUEUE_FIRST_TIME] = (jlong)info.queuedFirstTimeCompilations;
+	sample[QUEUE_WEIGHT] = (jlong)info.queueWeight;
+	sample[QUEUE_LOW_PRIORITY] = (jlong)info.lowPriorityQueueSize;
+	sample[QUEUE_JPROFILING] = (jlong)info.jprofilingQueueSize;
+	sample[QUEUE_ACTIVE_THREADS] = (jlong)info.activeCompilationThreads;
+	sample[QUEUE_THREADS] = (jlong)info.compilationThreads;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	sample[QUEUE_COMPILATIONS] = (jlong)mgmt->totalCompilations;
+	sample[QUEUE_THREADS_COMPILING] = (jlong)mgmt->threadsCompiling;
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	return setValues(env, values, sample, QUEUE_VALUES);
+#else /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	return JNI_FALSE;
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+}
+
+/**
+ * Sample the usage of the JIT code and data caches.
+ * @param[in] env The JNI environment
+ * @param[in] clazz The DiagnosticUtils class
+ * @param[in] values Receives the sizes, in the order given by the CODE_ and DATA_ constants
+ * @return JNI_FALSE if there is no JIT, JNI_TRUE otherwise
+ */
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCodeCacheImpl(JNIEnv *env, jclass clazz, jlongArray values)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JITConfig *jitConfig = javaVM->jitConfig;
+	J9MemorySegmentList *segList = NULL;
+	jlong sample[CODE_VALUES];
+
+	if ((NULL == jitConfig) || (NULL == jitConfig->codeCacheList) || (NULL == jitConfig->dataCacheList)) {
+		return JNI_FALSE;
+	}
+
+	memset(sample, 0, sizeof(sample));
+
+	segList = jitConfig->codeCacheList;
+	omrthread_monitor_enter(segList->segmentMutex);
+	MEMORY_SEGMENT_LIST_DO(segList, seg)
+	{
+		UDATA warmAlloc = (UDATA)seg->heapBase;
+		UDATA coldAlloc = (UDATA)seg->heapTop;
+
+		/* Code grows up from warmAlloc and down from coldAlloc, as in MemoryMXBeanImpl.getNonHeapMemoryUsageImpl() */
+		UDATA *mccCodeCache = *((UDATA **)seg->heapBase);
+		if (NULL != mccCodeCache) {
+			warmAlloc = (UDATA)jitConfig->codeCacheWarmAlloc(mccCodeCache);
+			coldAlloc = (UDATA)jitConfig->codeCacheColdAlloc(mccCodeCache);
+		}
+		sample[CODE_SEGMENTS] += 1;
+		sample[CODE_COMMITTED] += (jlong)seg->size;
+		sample[CODE_WARM] += (jlong)(warmAlloc - (UDATA)seg->heapBase);
+		sample[CODE_COLD] += (jlong)((UDATA)seg->heapTop - coldAlloc);
+		sample[CODE_FREE] += (jlong)(coldAlloc - warmAlloc);
+	}
+	END_MEMORY_SEGMENT_LIST_DO(seg)
+	omrthread_monitor_exit(segList->segmentMutex);
+
+	segList = jitConfig->dataCacheList;
+	omrthread_monitor_enter(segList->segmentMutex);
+	MEMORY_SEGMENT_LIST_DO(segList, seg)
+		sample[DATA_SEGMENTS] += 1;
+		sample[DATA_COMMITTED] += (jlong)seg->size;
+		sample[DATA_USED] += (jlong)(seg->heapAlloc - seg->heapBase);
+	END_MEMORY_SEGMENT_LIST_DO(seg)
+	omrthread_monitor_exit(segList->segmentMutex);
+
+	sample[CODE_MAX] = (jlong)jitConfig->codeCacheTotalKB * 1024;
+	sample[DATA_MAX] = (jlong)jitConfig->dataCacheTotalKB * 1024;
+
+	return setValues(env, values, sample, CODE_VALUES);
+#else /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	return JNI_FALSE;
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+}
+
+/**
+ * Get the bytes allocated by each live Java thread. Only the list of threads is
+ * walked; the threads are not stopped and their stacks are not walked.
+ * @param[in] env The JNI environment
+ * @param[in] clazz The DiagnosticUtils class
+ * @return pairs of thread ID and allocated bytes, or NULL if an exception is pending
+ */
+jlongArray JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getThreadAllocationImpl(JNIEnv *env, jclass clazz)
+{
+	J9VMThread *currentThread = (J9VMThread *) env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = javaVM->internalVMFunctions;
+	J9MemoryManagerFunctions *mmFuncs = javaVM->memoryManagerFunctions;
+	J9VMThread *walkThread = NULL;
+	jlong *pairs = NULL;
+	jsize count = 0;
+	jlongArray result = NULL;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	omrthread_monitor_enter(javaVM->vmThreadListMutex);
+	pairs = (jlong *)j9mem_allocate_memory(sizeof(jlong) * 2 * javaVM->totalThreadCount, J9MEM_CATEGORY_VM_JCL);
+	if (NULL != pairs) {
+		walkThread = currentThread;
+		do {
+			j9object_t threadObject = (j9object_t)walkThread->threadObject;
+			UDATA allocatedBytes = 0;
+
+			/* count is bounded by totalThreadCount, which cannot change while the list is locked */
+			if ((NULL != threadObject)
+				&& (NULL != J9VMJAVALANGTHREAD_THREADREF(currentThread, threadObject))
+				&& mmFuncs->j9gc_get_cumulative_bytes_allocated_by_thread(walkThread, &allocatedBytes)
+			) {
+				pairs[count * 2] = J9VMJAVALANGTHREAD_TID(currentThread, threadObject);
+				pairs[(count * 2) + 1] = (jlong)allocatedBytes;
+				count += 1;
+			}
+			walkThread = walkThread->linkNext;
+		} while (walkThread != currentThread);
+	}
+	omrthread_monitor_exit(javaVM->vmThreadListMutex);
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	if (NULL == pairs) {
+		vmFuncs->throwNativeOOMError(env, 0, 0);
+		return NULL;
+	}
+
+	result = (*env)->NewLongArray(env, count * 2);
+	if (NULL != result) {
+		(*env)->SetLongArrayRegion(env, result, 0, count * 2, pairs);
+	}
+	j9mem_free_memory(pairs);
+	return result;
+}
+
+/**
+ * Summarize the shared classes cache, from the same data as the javacore SHARED CLASSES section.
+ * @param[in] env The JNI environment
+ * @param[in] clazz The DiagnosticUtils class
+ * @param[in] values Receives the statistics, in the order given by the SHARED_ constants
+ * @param[in] names Receives the name and directory of the cache
+ * @return JNI_FALSE if there is no shared classes cache, JNI_TRUE otherwise
+ */
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getSharedClassCacheImpl(JNIEnv *env, jclass clazz, jlongArray values, jobjectArray names)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9SharedClassConfig *config = javaVM->sharedClassConfig;
+	J9SharedClassJavacoreDataDescriptor descriptor;
+	jlong sample[SHARED_VALUES];
+	const char *strings[2];
+	jsize idx = 0;
+
+	if ((NULL == config) || (NULL == config->getJavacoreData)) {
+		return JNI_FALSE;
+	}
+
+	memset(&descriptor, 0, sizeof(descriptor));
+	if (0 == config->getJavacoreData(javaVM, &descriptor)) {
+		return JNI_FALSE;
+	}
+
+	sample[SHARED_SIZE] = (jlong)descriptor.cacheSize;
+	sample[SHARED_SOFTMX] = (jlong)descriptor.softMaxBytes;
+	sample[SHARED_FREE] = (jlong)descriptor.freeBytes;
+	sample[SHARED_PERCENT_FULL] = (jlong)descriptor.percFull;
+	sample[SHARED_LAYERS] = (jlong)descriptor.topLayer + 1;
+	sample[SHARED_ROM_CLASSES] = (jlong)descriptor.numROMClasses;
+	sample[SHARED_STALE_CLASSES] = (jlong)descriptor.numStaleClasses;
+	sample[SHARED_AOT_METHODS] = (jlong)descriptor.numAOTMethods;
+	sample[SHARED_ROM_CLASS_BYTES] = (jlong)descriptor.romClassBytes;
+	sample[SHARED_AOT_BYTES] = (jlong)descriptor.aotBytes;
+	sample[SHARED_JIT_DATA_BYTES] = (jlong)(descriptor.jitHintDataBytes + descriptor.jitProfileDataBytes);
+	sample[SHARED_OTHER_BYTES] = (jlong)descriptor.otherBytes;
+	if (!setValues(env, values, sample, SHARED_VALUES)) {
+		return JNI_FALSE;
+	}
+
+	strings[0] = descriptor.cacheName;
+	strings[1] = descriptor.cacheDir;
+	for (idx = 0; (idx < 2) && (idx < (*env)->GetArrayLength(env, names)); ++idx) {
+		jstring name = NULL;
+		if (NULL != strings[idx]) {
+			name = (*env)->NewStringUTF(env, strings[idx]);
+			if (NULL == name) {
+				return JNI_FALSE;
+			}
+		}
+		(*env)->SetObjectArrayElement(env, names, idx, name);
+	}
+	return JNI_TRUE;
+#else /* defined(J9VM_OPT_SHARED_CLASSES) */
+	return JNI_FALSE;
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+}
+
+static UDATA
+countCategoriesCallback(U_32 categoryCode, const char *categoryName, UDATA liveBytes, UDATA liveAllocations, BOOLEAN isRoot, U_32 parentCategoryCode, OMRMemCategoryWalkState *state)
+{
+	((MemoryCategoryWalkData *)state->userData1)->count += 1;
+	return J9MEM_CATEGORIES_KEEP_ITERATING;
+}
+
+static UDATA
+recordCategoriesCallback(U_32 categoryCode, const char *categoryName, UDATA liveBytes, UDATA liveAllocations, BOOLEAN isRoot, U_32 parentCategoryCode, OMRMemCategoryWalkState *state)
+{
+	MemoryCategoryWalkData *data = (MemoryCategoryWalkData *)state->userData1;
+	jlong *values = NULL;
+
+	if (data->count >= data->limit) {
+		/* a category was added since the categories were counted */
+		return J9MEM_CATEGORIES_STOP_ITERATING;
+	}
+	values = data->values + (data->count * CATEGORY_VALUES);
+	values[0] = (jlong)categoryCode;
+	values[1] = isRoot ? -1 : (jlong)parentCategoryCode;
+	values[2] = (jlong)liveBytes;
+	values[3] = (jlong)liveAllocations;
+	data->names[data->count] = categoryName;
+	data->count += 1;
+	return J9MEM_CATEGORIES_KEEP_ITERATING;
+}
+
+/**
+ * Get the native memory used by each memory category, as reported in the NATIVEMEMINFO
+ * section of a javacore. The bytes of a category do not include those of its children.
+ * @param[in] env The JNI environment
+ * @param[in] clazz The DiagnosticUtils class
+ * @param[in] values Receives CATEGORY_VALUES values for each category: its code, the code
+ *            of its parent or -1, its bytes and its allocations; it must be large enough for the
+ *            names array returned by the previous call, or null to get just the number of categories
+ * @return the category names, parents before their children, or NULL if an exception is pending
+ */
+jobjectArray JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMemoryCategoriesImpl(JNIEnv *env, jclass clazz, jlongArray values)
+{
+	MemoryCategoryWalkData data;
+	OMRMemCategoryWalkState walkState;
+	jclass stringClass = NULL;
+	jobjectArray names = NULL;
+	UDATA idx = 0;
+	PORT_ACCESS_FROM_ENV(env);
+
+	memset(&data, 0, sizeof(data));
+	memset(&walkState, 0, sizeof(walkState));
+	walkState.userData1 = &data;
+
+	if (NULL != values) {
+		data.limit = (UDATA)(*env)->GetArrayLength(env, values) / CATEGORY_VALUES;
+		data.values = (jlong *)j9mem_allocate_memory(sizeof(jlong) * CATEGORY_VALUES * data.limit, J9MEM_CATEGORY_VM_JCL);
+		data.names = (const char **)j9mem_allocate_memory(sizeof(const char *) * data.limit, J9MEM_CATEGORY_VM_JCL);
+		if ((NULL == data.values) || (NULL == data.names)) {
+			j9mem_free_memory((void *)data.values);
+			j9mem_free_memory((void *)data.names);
+			((J9VMThread *)env)->javaVM->internalVMFunctions->throwNativeOOMError(env, 0, 0);
+			return NULL;
+		}
+		walkState.walkFunction = recordCategoriesCallback;
+	} else {
+		walkState.walkFunction = countCategoriesCallback;
+	}
+	j9mem_walk_categories(&walkState);
+
+	stringClass = (*env)->FindClass(env, "java/lang/String");
+	if (NULL != stringClass) {
+		names = (*env)->NewObjectArray(env, (jsize)data.count, stringClass, NULL);
+	}
+	if ((NULL != names) && (NULL != values)) {
+		(*env)->SetLongArrayRegion(env, values, 0, (jsize)(data.count * CATEGORY_VALUES), data.values);
+		for (idx = 0; (idx < data.count) && !(*env)->ExceptionCheck(env); ++idx) {
+			jstring name = (*env)->NewStringUTF(env, data.names[idx]);
+			if (NULL == name) {
+				names = NULL;
+				break;
+			}
+			(*env)->SetObjectArrayElement(env, names, (jsize)idx, name);
+			(*env)->DeleteLocalRef(env, name);
+		}
+	}
+
+	j9mem_free_memory((void *)data.values);
+	j9mem_free_memory((void *)data.names);
+	return names;
+}
@@ -272,6 +272,7 @@ managementCompilingEndTime(J9HookInterface **hook, UDATA eventNum, void *eventDa
 
 	mgmt->totalCompilationTime += checkedTimeInterval((U_64)j9time_nano_time(), (U_64)mgmt->lastCompilationStart);
 	mgmt->threadsCompiling--;
+	mgmt->totalCompilations++;
 
 	omrthread_rwmutex_exit_write(mgmt->managementDataLock);
 }
@@ -173,6 +173,28 @@ Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getObjectPendingFina
 #endif
 }
 
+jlong JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizationCompletedCountImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_GC_FINALIZATION)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	return (jlong)javaVM->memoryManagerFunctions->j9gc_get_finalize_jobs_processed_count(javaVM);
+#else
+	return (jlong)0;
+#endif
+}
+
+jint JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerThreadCountImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_GC_FINALIZATION)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	return (jint)javaVM->memoryManagerFunctions->j9gc_get_finalize_worker_thread_count(javaVM);
+#else
+	return (jint)0;
+#endif
+}
+
 jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_isVerboseImpl(JNIEnv *env, jobject beanInstance)
 {
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "jni.h"
+#include "j9.h"
+#include "jcl_internal.h"
+#include "mgmtinit.h"
+
+/* The layout of the values array, which must match openj9.internal.management.StatInfoBaseImpl */
+#define STAT_UPTIME 0
+#define STAT_LOADED_CLASSES 1
+#define STAT_UNLOADED_CLASSES 2
+#define STAT_COMPILATIONS 3
+#define STAT_COMPILATION_TIME 4
+#define STAT_THREADS_COMPILING 5
+#define STAT_HEAP_COMMITTED 6
+#define STAT_HEAP_USED 7
+#define STAT_HEAP_MAX 8
+#define STAT_FIXED_VALUES 9
+#define STAT_POOL_VALUES 3
+#define STAT_COLLECTOR_VALUES 2
+#define STAT_MAX_VALUES (STAT_FIXED_VALUES + (STAT_POOL_VALUES * J9VM_MAX_HEAP_MEMORYPOOL_COUNT) + (STAT_COLLECTOR_VALUES * J9_GC_MANAGEMENT_MAX_COLLECTOR))
+
+static jobjectArray newNameArray(JNIEnv *env, BOOLEAN pools);
+
+static jobjectArray
+newNameArray(JNIEnv *env, BOOLEAN pools)
+{
+	J9JavaLangManagementData *mgmt = ((J9VMThread *) env)->javaVM->managementData;
+	U_32 count = pools ? mgmt->supportedMemoryPools : mgmt->supportedCollectors;
+	jclass stringClass = NULL;
+	jobjectArray names = NULL;
+	U_32 idx = 0;
+
+	stringClass = (*env)->FindClass(env, "java/lang/String");
+	if (NULL == stringClass) {
+		return NULL;
+	}
+	names = (*env)->NewObjectArray(env, (jsize)count, stringClass, NULL);
+	if (NULL == names) {
+		return NULL;
+	}
+	for (idx = 0; idx < count; ++idx) {
+		jstring name = (*env)->NewStringUTF(env, pools ? mgmt->memoryPools[idx].name : mgmt->garbageCollectors[idx].name);
+		if (NULL == name) {
+			return NULL;
+		}
+		(*env)->SetObjectArrayElement(env, names, (jsize)idx, name);
+		(*env)->DeleteLocalRef(env, name);
+	}
+	return names;
+}
+
+jobjectArray JNICALL
+Java_openj9_internal_management_StatInfoBaseImpl_getHeapPoolNamesImpl(JNIEnv *env, jclass clazz)
+{
+	return newNameArray(env, TRUE);
+}
+
+jobjectArray JNICALL
+Java_openj9_internal_management_StatInfoBaseImpl_getCollectorNamesImpl(JNIEnv *env, jclass clazz)
+{
+	return newNameArray(env, FALSE);
+}
+
+/**
+ * Sample the counters reported by jstat in one call, so that a sample costs a single
+ * trip into the VM rather than one per value.
+ * @param[in] env The JNI environment
+ * @param[in] clazz The StatInfoBaseImpl class
+ * @param[in] values Receives the counters, in the order given by the STAT_ constants,
+ *            followed by committed, used and max for each heap pool and the collection
+ *            count and time (ms) for each collector
+ * @param[in] causes Receives the cause of the most recent GC, and the name of the
+ *            collector which is running if a GC is in progress
+ */
+void JNICALL
+Java_openj9_internal_management_StatInfoBaseImpl_getStatisticsImpl(JNIEnv *env, jclass clazz, jlongArray values, jobjectArray causes)
+{
+	J9VMThread *currentThread = (J9VMThread *) env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = javaVM->internalVMFunctions;
+	J9MemoryManagerFunctions *mmFuncs = javaVM->memoryManagerFunctions;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	jlong sample[STAT_MAX_VALUES];
+	jsize count = STAT_FIXED_VALUES;
+	const char *lastCause = NULL;
+	const char *currentCollector = NULL;
+	U_64 lastEndTime = 0;
+	U_64 compilationTime = 0;
+	UDATA committed = 0;
+	U_32 idx = 0;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	memset(sample, 0, sizeof(sample));
+
+	/* acquire vmAccess for retrieving the pool usage in order to guarantee the values are consistent, as in MemoryPoolMXBeanImpl */
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	committed = mmFuncs->j9gc_heap_total_memory(javaVM);
+	sample[STAT_HEAP_COMMITTED] = (jlong)committed;
+	sample[STAT_HEAP_USED] = (jlong)(committed - mmFuncs->j9gc_heap_free_memory(javaVM));
+	for (idx = 0; idx < mgmt->supportedMemoryPools; ++idx) {
+		UDATA total = 0;
+		UDATA free = 0;
+		UDATA maximum = mmFuncs->j9gc_pool_memoryusage(javaVM, (mgmt->memoryPools[idx].id & J9VM_MANAGEMENT_POOL_HEAP_ID_MASK), &free, &total);
+		sample[count++] = (jlong)total;
+		sample[count++] = (jlong)(total - free);
+		sample[count++] = (jlong)maximum;
+	}
+	vmFuncs->internalExitVMToJNI(currentThread);
+	sample[STAT_HEAP_MAX] = (jlong)mgmt->maximumHeapSize;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	sample[STAT_UPTIME] = (jlong)(j9time_current_time_millis() - mgmt->vmStartTime);
+	sample[STAT_LOADED_CLASSES] = (jlong)(mgmt->totalClassLoads - mgmt->totalClassUnloads);
+	sample[STAT_UNLOADED_CLASSES] = (jlong)mgmt->totalClassUnloads;
+	sample[STAT_COMPILATIONS] = (jlong)mgmt->totalCompilations;
+	compilationTime = mgmt->totalCompilationTime;
+	if (mgmt->threadsCompiling > 0) {
+		compilationTime += checkedTimeInterval((U_64)j9time_nano_time(), (U_64)mgmt->lastCompilationStart) * mgmt->threadsCompiling;
+	}
+	sample[STAT_COMPILATION_TIME] = (jlong)(compilationTime / J9PORT_TIME_NS_PER_MS);
+	sample[STAT_THREADS_COMPILING] = (jlong)mgmt->threadsCompiling;
+	for (idx = 0; idx < mgmt->supportedCollectors; ++idx) {
+		J9GarbageCollectorData *gc = &mgmt->garbageCollectors[idx];
+		J9GarbageCollectionInfo *gcInfo = &gc->lastGcInfo;
+		sample[count++] = (jlong)gcInfo->index;
+		sample[count++] = (jlong)gc->totalGCTime;
+		if ((0 != gcInfo->index) && (NULL != gcInfo->gcCause) && (gcInfo->endTime >= lastEndTime)) {
+			lastEndTime = gcInfo->endTime;
+			lastCause = gcInfo->gcCause;
+		}
+		/* the start time is updated when a GC starts and the end time when it finishes */
+		if (gcInfo->startTime > gcInfo->endTime) {
+			currentCollector = gc->name;
+		}
+	}
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	if (count > (*env)->GetArrayLength(env, values)) {
+		count = (*env)->GetArrayLength(env, values);
+	}
+	(*env)->SetLongArrayRegion(env, values, 0, count, sample);
+	if ((*env)->ExceptionCheck(env)) {
+		return;
+	}
+
+	if ((NULL != causes) && ((*env)->GetArrayLength(env, causes) >= 2)) {
+		jstring cause = NULL;
+		if (NULL != lastCause) {
+			cause = (*env)->NewStringUTF(env, lastCause);
+			if (NULL == cause) {
+				return;
+			}
+		}
+		(*env)->SetObjectArrayElement(env, causes, 0, cause);
+		cause = NULL;
+		if (NULL != currentCollector) {
+			/* the cause of a GC is only recorded when it finishes */
+			cause = (*env)->NewStringUTF(env, currentCollector);
+			if (NULL == cause) {
+				return;
+			}
+		}
+		(*env)->SetObjectArrayElement(env, causes, 1, cause);
+	}
+}
@@ -29,6 +29,9 @@ omr_add_exports(jclse
 	Java_openj9_internal_management_ClassLoaderInfoBaseImpl_getLoadedClassCountImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_getTotalLoadedClassCountImpl
 	Java_openj9_internal_management_ClassLoaderInfoBaseImpl_getUnloadedClassCountImpl
+	Java_openj9_internal_management_StatInfoBaseImpl_getCollectorNamesImpl
+	Java_openj9_internal_management_StatInfoBaseImpl_getHeapPoolNamesImpl
+	Java_openj9_internal_management_StatInfoBaseImpl_getStatisticsImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_isVerboseImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_setVerboseImpl
 	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getTotalCompilationTimeImpl
@@ -44,6 +47,8 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_createMemoryManagers
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_createMemoryPools
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizationCompletedCountImpl
+	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerThreadCountImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCMainThreadCpuUsedImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCModeImpl
 	Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getGCWorkerThreadsCpuUsedImpl
@@ -154,6 +159,7 @@ omr_add_exports(jclse
 	Java_com_ibm_jvm_Log_SetOptionsImpl
 	Java_com_ibm_jvm_Stats_getStats
 	Java_com_ibm_jvm_Trace_getMicros
+	Java_com_ibm_jvm_Trace_getTracePointStatesImpl
 	Java_com_ibm_jvm_Trace_initTraceImpl
 	Java_com_ibm_jvm_Trace_registerApplicationImpl
 	Java_com_ibm_jvm_Trace_resumeImpl
@@ -240,7 +246,12 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_OperatingSystemNotificationThread_processNotificationLoop
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getMaxFileDescriptorCountImpl
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getOpenFileDescriptorCountImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCodeCacheImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCompilationQueueImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMemoryCategoriesImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getSharedClassCacheImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getThreadAllocationImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl
 	Java_openj9_management_internal_IDCacheInitializer_initIDCache
@@ -774,6 +774,7 @@ typedef struct J9JavaLangManagementData {
 	I_64 lastCompilationStart;
 	omrthread_rwmutex_t managementDataLock;
 	UDATA threadsCompiling;
+	U_64 totalCompilations;
 	U_64 totalJavaThreadsStarted;
 	U_32 liveJavaThreads;
 	U_32 liveJavaDaemonThreads;
@@ -3835,6 +3836,17 @@ typedef struct J9ClassCastParms {
 	struct J9Class* castClass;
 } J9ClassCastParms;
 
+/* Counters of the JIT compilation queues, see J9JITConfig.getCompilationQueueInfo */
+typedef struct J9JITCompilationQueueInfo {
+	UDATA queuedMethods;
+	UDATA queuedFirstTimeCompilations;
+	UDATA queueWeight;
+	UDATA lowPriorityQueueSize;
+	UDATA jprofilingQueueSize;
+	UDATA activeCompilationThreads;
+	UDATA compilationThreads;
+} J9JITCompilationQueueInfo;
+
 /* @ddr_namespace: map_to_type=J9JITConfig */
 
 typedef struct J9JITConfig {
@@ -4177,6 +4189,7 @@ typedef struct J9JITConfig {
 	uint64_t clientUID;
 	uint64_t serverUID;
 #endif /* J9VM_OPT_JITSERVER */
+	void ( *getCompilationQueueInfo)(struct J9JITConfig *jitConfig, struct J9JITCompilationQueueInfo *info);
 } J9JITConfig;
 
 #if defined(J9VM_OPT_CRIU_SUPPORT)
@@ -4660,6 +4673,10 @@ typedef struct J9MemoryManagerFunctions {
 	void  ( *j9gc_prepare_for_checkpoint)(struct J9VMThread *vmThread) ;
 	BOOLEAN  ( *j9gc_reinitialize_for_restore)(struct J9VMThread *vmThread, const char **nlsMsgFormat) ;
 #endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
+#if defined(J9VM_GC_FINALIZATION)
+	UDATA  ( *j9gc_get_finalize_jobs_processed_count)(struct J9JavaVM* vm) ;
+	UDATA  ( *j9gc_get_finalize_worker_thread_count)(struct J9JavaVM* vm) ;
+#endif /* J9VM_GC_FINALIZATION */
 } J9MemoryManagerFunctions;
 
 typedef struct J9InternalVMFunctions {
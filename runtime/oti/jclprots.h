@@ -359,6 +359,26 @@ Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_isVerboseImpl
 extern J9_CFUNC jlong JNICALL
 Java_openj9_internal_management_ClassLoaderInfoBaseImpl_getLoadedClassCountImpl (JNIEnv *env, jobject beanInstance);
 
+/* J9SourceManagementStatistics*/
+extern J9_CFUNC jobjectArray JNICALL
+Java_openj9_internal_management_StatInfoBaseImpl_getHeapPoolNamesImpl (JNIEnv *env, jclass clazz);
+extern J9_CFUNC jobjectArray JNICALL
+Java_openj9_internal_management_StatInfoBaseImpl_getCollectorNamesImpl (JNIEnv *env, jclass clazz);
+extern J9_CFUNC void JNICALL
+Java_openj9_internal_management_StatInfoBaseImpl_getStatisticsImpl (JNIEnv *env, jclass clazz, jlongArray values, jobjectArray causes);
+
+/* J9SourceManagementDiagnostics*/
+extern J9_CFUNC jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCompilationQueueImpl (JNIEnv *env, jclass clazz, jlongArray values);
+extern J9_CFUNC jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getCodeCacheImpl (JNIEnv *env, jclass clazz, jlongArray values);
+extern J9_CFUNC jlongArray JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getThreadAllocationImpl (JNIEnv *env, jclass clazz);
+extern J9_CFUNC jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getSharedClassCacheImpl (JNIEnv *env, jclass clazz, jlongArray values, jobjectArray names);
+extern J9_CFUNC jobjectArray JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMemoryCategoriesImpl (JNIEnv *env, jclass clazz, jlongArray values);
+
 /* J9SourceManagementGarbageCollector*/
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getCollectionCountImpl (JNIEnv *env, jobject beanInstance, jint id);
@@ -440,6 +460,10 @@ extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getMaximumGCThreadsImpl(JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jint JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getCurrentGCThreadsImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jlong JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizationCompletedCountImpl(JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_java_lang_management_internal_MemoryMXBeanImpl_getFinalizerThreadCountImpl(JNIEnv *env, jobject beanInstance);
 
 
 /* J9SourceJclSidecarInit*/
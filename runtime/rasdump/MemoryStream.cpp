@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/* Includes */
+#include <string.h>
+#include "MemoryStream.hpp"
+
+/* The smallest buffer allocated, the buffer doubles in size after that */
+#define MEMORYSTREAM_MINIMUM_CAPACITY (64 * 1024)
+
+/* Constructor */
+MemoryStream::MemoryStream(J9PortLibrary* portLibrary) :
+	_PortLibrary(portLibrary),
+	_Buffer(NULL),
+	_Length(0),
+	_Capacity(0),
+	_Error(false)
+{
+	/* Nothing to do */
+}
+
+/* Destructor */
+MemoryStream::~MemoryStream()
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	j9mem_free_memory(_Buffer);
+}
+
+/* Method for discarding the data written so far */
+void
+MemoryStream::clear(void)
+{
+	_Length = 0;
+	_Error = false;
+}
+
+/* Methods for getting the object's status */
+bool MemoryStream::hasError(void) const
+{
+	return _Error;
+}
+
+/* Methods for getting the data written so far */
+const char* MemoryStream::data(void) const
+{
+	return _Buffer;
+}
+
+UDATA MemoryStream::length(void) const
+{
+	return _Length;
+}
+
+/* Method for writing characters described by a pointer and a length to the buffer */
+void
+MemoryStream::writeCharacters(const char* data, IDATA length)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	if (_Error) {
+		return;
+	}
+
+	if ((_Capacity - _Length) < (UDATA)length) {
+		UDATA newCapacity = (0 == _Capacity) ? MEMORYSTREAM_MINIMUM_CAPACITY : _Capacity;
+
+		while ((newCapacity - _Length) < (UDATA)length) {
+			newCapacity *= 2;
+		}
+
+		char* newBuffer = (char*)j9mem_allocate_memory(newCapacity, OMRMEM_CATEGORY_VM);
+		if (NULL == newBuffer) {
+			_Error = true;
+			return;
+		}
+
+		if (NULL != _Buffer) {
+			memcpy(newBuffer, _Buffer, _Length);
+			j9mem_free_memory(_Buffer);
+		}
+		_Buffer = newBuffer;
+		_Capacity = newCapacity;
+	}
+
+	memcpy(_Buffer + _Length, data, length);
+	_Length += length;
+}
+
+void
+MemoryStream::writeCharacters(const char* data)
+{
+	writeCharacters(data, strlen(data));
+}
+
+/* Method for writing a number to the buffer */
+void
+MemoryStream::writeNumber(IDATA data, int length)
+{
+	/* Validate the parameters */
+	IDATA number = data;
+	int   count  = (length > 8) ? 8 : length;
+
+	/* Copy the characters of the number to a buffer in network order encoding */
+	char buffer[8] = {0,0,0,0,0,0,0,0};
+
+	while (count-- > 0) {
+		buffer[count] = (char)(number & 0xFF);
+		number >>= 8;
+	}
+
+	/* Write the data to the buffer */
+	writeCharacters(buffer, length);
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#ifndef MEMORYSTREAM_HPP
+#define MEMORYSTREAM_HPP
+
+/* Includes */
+#include "j9port.h"
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* Class for writing to a growable buffer in memory                                               */
+/*                                                                                                */
+/**************************************************************************************************/
+class MemoryStream
+{
+public :
+	/* Constructor */
+	MemoryStream(J9PortLibrary* portLibrary);
+
+	/* Destructor */
+	~MemoryStream();
+
+	/* Method for discarding the data written so far, the buffer is kept for reuse */
+	void clear(void);
+
+	/* Methods for getting the object's status */
+	bool hasError(void) const;
+
+	/* Methods for getting the data written so far */
+	const char* data(void) const;
+	UDATA       length(void) const;
+
+	/* Methods for writing data to the buffer */
+	void writeCharacters (const char* data, IDATA length);
+	void writeCharacters (const char* data);
+	void writeNumber     (IDATA data, int length);
+
+private :
+	/* Prevent use of the copy constructor and assignment operator */
+	MemoryStream(const MemoryStream& source);
+	MemoryStream& operator=(const MemoryStream& source);
+
+	/* Declared data */
+	J9PortLibrary* _PortLibrary;
+	char*          _Buffer;
+	UDATA          _Length;
+	UDATA          _Capacity;
+	bool           _Error;
+};
+
+#endif
@@ -27,6 +27,8 @@
 #include "HeapIteratorAPI.h"
 #include "j9dmpnls.h"
 #include "FileStream.hpp"
+#include "MemoryStream.hpp"
+#include "zlib.h"
 
 #include "ut_j9dmp.h"
 
@@ -39,6 +41,10 @@ static jvmtiIterationControl binaryHeapDumpHeapIteratorCallback   (J9JavaVM* vm,
 static jvmtiIterationControl binaryHeapDumpSpaceIteratorCallback  (J9JavaVM* vm, J9MM_IterateSpaceDescriptor*  spaceDescriptor,   void* userData);
 static jvmtiIterationControl binaryHeapDumpRegionIteratorCallback (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
 static jvmtiIterationControl binaryHeapDumpObjectIteratorCallback (J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor,  void* userData);
+static jvmtiIterationControl binaryHeapDumpRegionCollectorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static int J9THREAD_PROC     binaryHeapDumpHelperThread(void* entryArg);
+static voidpf                binaryHeapDumpZalloc(voidpf opaque, uInt items, uInt size);
+static void                  binaryHeapDumpZfree(voidpf opaque, voidpf address);
 
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorTraitsCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
@@ -756,6 +762,11 @@ private :
 	friend jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpHeapIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateHeapDescriptor* heapDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpRegionCollectorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend int J9THREAD_PROC     binaryHeapDumpHelperThread(void* entryArg);
+
+	/* Constructor for an encoder, which writes the records of regions to compressed chunks in memory */
+	BinaryHeapDumpWriter(BinaryHeapDumpWriter* dumpWriter);
 
 	/* Nested class for determining the characteristics of the references */
 	class ReferenceTraits
@@ -839,6 +850,43 @@ private :
 		int         _Index;
 	};
 
+	/* A compressed chunk of records, the compressed data follows the structure. A chunk to be  */
+	/* compressed by a helper thread is followed by space for the compressed data (bound bytes)  */
+	/* and then by a copy of its records.                                                         */
+	struct Chunk
+	{
+		Chunk* next;
+		Chunk* nextJob;
+		UDATA  length;
+		UDATA  compressedLength;
+		UDATA  bound;
+		bool   compressed;
+	};
+
+	/* The regions of a space, shared by the dumping thread and the helper threads encoding them. */
+	/* Large regions are encoded by the dumping thread, and the helper threads compress their     */
+	/* chunks (the jobs) as they are ended.                                                        */
+	struct RegionQueue
+	{
+		BinaryHeapDumpWriter*         dumpWriter;
+		J9MM_IterateRegionDescriptor* regions;
+		Chunk**                       chunks;
+		bool*                         encoded;
+		UDATA                         count;
+		UDATA                         capacity;
+		UDATA                         next;
+		UDATA                         written;
+		UDATA                         window;
+		UDATA                         helpers;
+		UDATA                         active;
+		Chunk*                        jobs;
+		Chunk**                       jobsTail;
+		UDATA                         outstanding;
+		omrthread_monitor_t           monitor;
+		bool                          finished;
+		bool                          error;
+	};
+
 	friend class ReferenceTraits;
 	friend class ReferenceWriter;
 
@@ -855,6 +903,19 @@ private :
 	int              getObjectHashCode(j9object_t object);
 	static int       numberSizeEncoding(int numberSize);
 	static int       wordSize(void);
+	void             writeCompressedRegions(J9MM_IterateSpaceDescriptor* spaceDescriptor);
+	void             startHelpers(RegionQueue* queue);
+	void             stopHelpers(RegionQueue* queue);
+	void             encodeRegion(J9MM_IterateRegionDescriptor* regionDescriptor);
+	void             startChunk(void);
+	void             endChunk(void);
+	bool             compressChunk(Chunk* chunk, const char* data);
+	void             reportCompressionError(void);
+	void             queueChunk(Chunk* chunk);
+	void             writeCompressedChunks(UDATA limit);
+	Chunk*           takeChunks(void);
+	void             writeChunks(Chunk* chunks);
+	void             freeChunks(Chunk* chunks);
 	void             checkForIOError(void);
 	/* Methods for writing data to output file (proxies to _OutputStream */
 	void             writeCharacters (const char* data, IDATA length);
@@ -873,6 +934,19 @@ private :
 	ClassCache        _ClassCache;
 	bool              _FileMode;
 	bool              _Error;
+	bool              _Compressed;
+	bool              _Encoding;
+	MemoryStream      _ChunkStream;
+	Chunk*            _Chunks;
+	Chunk**           _ChunksTail;
+	RegionQueue*      _Queue;
+
+	/* The uncompressed size at which a chunk of a compressed dump is ended, after the current record */
+	inline static UDATA       chunkSize(void)              {return 4 * 1024 * 1024;}
+
+	/* The size from which a region is split into chunks compressed by the helper threads, rather */
+	/* than being encoded and compressed by a single thread                                       */
+	inline static bool        isLargeRegion(J9MM_IterateRegionDescriptor* region) {return region->regionSize >= 4 * chunkSize();}
 
 	/* Static methods returning constant values */
 	inline static const char* identifierField(void)        {return "portable heap dump";}
@@ -898,6 +972,12 @@ private :
 	}
 #endif /* defined(J9VM_OPT_NEW_OBJECT_HASH) */
 
+	/* Primary flag for a compressed dump, where the records follow the header as a sequence of   */
+	/* chunks: each is the compressed length (4 bytes), the uncompressed length (4 bytes) and the  */
+	/* records deflated by zlib. Addresses and the class cache start afresh in each chunk, and a   */
+	/* chunk with an uncompressed length of zero ends the file.                                    */
+	inline static char        compressedFlagsField(void)   {return 0x08;}
+
 	inline static char        headerStartField(void)       {return 0x01;}
 	inline static char        fullVersionRecordField(void) {return 0x04;}
 	inline static char        headerEndField(void)         {return 0x02;}
@@ -1124,7 +1204,13 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	_OutputStream(context->javaVM->portLibrary),
 	_CurrentObject(0),
 	_FileMode(false),
-	_Error(false)
+	_Error(false),
+	_Compressed(false),
+	_Encoding(false),
+	_ChunkStream(context->javaVM->portLibrary),
+	_Chunks(NULL),
+	_ChunksTail(&_Chunks),
+	_Queue(NULL)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 
@@ -1132,6 +1218,9 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	if ((agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "PHD") == 0)) {
 		return;
 	}
+
+	/* Write the compressed variant if requested (opts=PHD+COMPRESS) */
+	_Compressed = (agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "COMPRESS") != 0);
 	
 	/* Remember the file name */
 	_FileName += fileName;
@@ -1186,6 +1275,34 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::BinaryHeapDumpWriter() encoder constructor implementation                */
+/*                                                                                                */
+/**************************************************************************************************/
+BinaryHeapDumpWriter::BinaryHeapDumpWriter(BinaryHeapDumpWriter* dumpWriter) :
+	_Id(0),
+	_RegionStart(NULL),
+	_RegionEnd(NULL),
+	_Context(dumpWriter->_Context),
+	_Agent(dumpWriter->_Agent),
+	_VirtualMachine(dumpWriter->_VirtualMachine),
+	_PortLibrary(dumpWriter->_PortLibrary),
+	_FileName(dumpWriter->_PortLibrary),
+	_OutputStream(dumpWriter->_PortLibrary),
+	_CurrentObject(0),
+	_FileMode(false),
+	_Error(false),
+	_Compressed(true),
+	_Encoding(true),
+	_ChunkStream(dumpWriter->_PortLibrary),
+	_Chunks(NULL),
+	_ChunksTail(&_Chunks),
+	_Queue(NULL)
+{
+	/* Nothing to do, the encoder is driven through encodeRegion() */
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::~BinaryHeapDumpWriter() method implementation                            */
@@ -1193,7 +1310,8 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 /**************************************************************************************************/
 BinaryHeapDumpWriter::~BinaryHeapDumpWriter()
 {
-	/* Nothing to do currently */
+	/* Discard any chunks left behind by an error */
+	freeChunks(takeChunks());
 }
 
 /**************************************************************************************************/
@@ -1234,13 +1352,17 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 	}
 
 	/* Iterate through the regions etc. */
-	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
-			_VirtualMachine,
-			_PortLibrary,
-			spaceDescriptor,
-			j9mm_iterator_flag_regions_read_only,
-			binaryHeapDumpRegionIteratorCallback,
-			this);
+	if (_Compressed) {
+		writeCompressedRegions(spaceDescriptor);
+	} else {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+				_VirtualMachine,
+				_PortLibrary,
+				spaceDescriptor,
+				j9mm_iterator_flag_regions_read_only,
+				binaryHeapDumpRegionIteratorCallback,
+				this);
+	}
 
 	/* Handle the single and multiple dump file cases separately */
 	if (_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS) {
@@ -1295,7 +1417,7 @@ BinaryHeapDumpWriter::writeDumpFileHeader(void)
 	}
 
 	/* Write the primary flags */
-	writeNumber(primaryFlagsField(), 4);
+	writeNumber(primaryFlagsField() | (_Compressed ? compressedFlagsField() : 0), 4);
 	if (_Error) {
 		return;
 	}
@@ -1335,6 +1457,12 @@ BinaryHeapDumpWriter::writeDumpFileTrailer(void)
 {
 	J9ClassWalkState state;
 	J9Class *clazz;
+
+	/* In a compressed dump the class records are encoded by this thread into the final chunks */
+	if (_Compressed) {
+		_Encoding = true;
+		startChunk();
+	}
 	
 	/* Iterate through the classes writing them */
 	clazz = allClassesStartDo(_VirtualMachine, &state, NULL);
@@ -1343,14 +1471,30 @@ BinaryHeapDumpWriter::writeDumpFileTrailer(void)
 		if (_Error) {
 			/* Finish the class iteration to release any locks. */
 			allClassesEndDo(_VirtualMachine, &state);
+			_Encoding = false;
 			return;
 		}
+		if (_Encoding && (_ChunkStream.length() >= chunkSize())) {
+			endChunk();
+			writeChunks(takeChunks());
+			startChunk();
+		}
 		clazz = allClassesNextDo(_VirtualMachine, &state);
 	}
 	allClassesEndDo(_VirtualMachine, &state);
 
 	/* Write the dump end tag */
 	writeNumber(dumpEndField(), 1);
+
+	if (_Compressed) {
+		endChunk();
+		_Encoding = false;
+		writeChunks(takeChunks());
+
+		/* Write the empty chunk ending the file */
+		writeNumber(0, 4);
+		writeNumber(0, 4);
+	}
 }
 
 /**********************************************{****************************************************/
@@ -1408,6 +1552,12 @@ BinaryHeapDumpWriter::writeObjectRecord(J9MM_IterateObjectDescriptor* objectDesc
 	} else {
 		writeNormalObjectRecord(objectDescriptor);
 	}	
+
+	/* End the chunk of a compressed dump once it is big enough, records are never split */
+	if (_Encoding && (_ChunkStream.length() >= chunkSize())) {
+		endChunk();
+		startChunk();
+	}
 }
 
 /**************************************************************************************************/
@@ -2388,6 +2538,10 @@ BinaryHeapDumpWriter::checkForIOError(void)
 		j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", j9error_last_error_message());
 		Trc_dump_reportDumpError_Event2("Heap", j9error_last_error_message());
 		_Error = true;
+	} else if (_ChunkStream.hasError()) {
+		j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", "unable to allocate memory for compressed records");
+		Trc_dump_reportDumpError_Event2("Heap", "unable to allocate memory for compressed records");
+		_Error = true;
 	}
 }
 
@@ -2395,7 +2549,11 @@ void
 BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 {
 	if (!_Error) {
-		_OutputStream.writeCharacters(data,length);
+		if (_Encoding) {
+			_ChunkStream.writeCharacters(data,length);
+		} else {
+			_OutputStream.writeCharacters(data,length);
+		}
 
 		checkForIOError();
 	}
@@ -2405,7 +2563,11 @@ void
 BinaryHeapDumpWriter::writeCharacters (const char* data)
 {
 	if (!_Error) {
-		_OutputStream.writeCharacters(data);
+		if (_Encoding) {
+			_ChunkStream.writeCharacters(data);
+		} else {
+			_OutputStream.writeCharacters(data);
+		}
 
 		checkForIOError();
 	}
@@ -2415,10 +2577,452 @@ void
 BinaryHeapDumpWriter::writeNumber (IDATA data, int length)
 {
 	if (!_Error) {
-		_OutputStream.writeNumber(data, length);
+		if (_Encoding) {
+			_ChunkStream.writeNumber(data, length);
+		} else {
+			_OutputStream.writeNumber(data, length);
+		}
+
+		checkForIOError();
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeCompressedRegions() method implementation                           */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeCompressedRegions(J9MM_IterateSpaceDescriptor* spaceDescriptor)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	RegionQueue queue;
+
+	memset(&queue, 0, sizeof(queue));
+	queue.dumpWriter = this;
+	queue.jobsTail = &queue.jobs;
+
+	/* Collect the regions first so that they can be shared out between the helper threads */
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+			_VirtualMachine,
+			_PortLibrary,
+			spaceDescriptor,
+			j9mm_iterator_flag_regions_read_only,
+			binaryHeapDumpRegionCollectorCallback,
+			&queue);
+
+	if (!queue.error && (0 != queue.count)) {
+		queue.chunks = (Chunk**)j9mem_allocate_memory(queue.count * sizeof(Chunk*), OMRMEM_CATEGORY_VM);
+		queue.encoded = (bool*)j9mem_allocate_memory(queue.count * sizeof(bool), OMRMEM_CATEGORY_VM);
+		if ((NULL == queue.chunks) || (NULL == queue.encoded)) {
+			queue.error = true;
+		} else {
+			memset(queue.chunks, 0, queue.count * sizeof(Chunk*));
+			memset(queue.encoded, 0, queue.count * sizeof(bool));
+		}
+	}
+
+	if (queue.error) {
+		j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", "unable to allocate memory for compressed records");
+		Trc_dump_reportDumpError_Event2("Heap", "unable to allocate memory for compressed records");
+		_Error = true;
+	} else {
+		/* Used for the large regions, and for every region if there are no helper threads */
+		BinaryHeapDumpWriter encoder(this);
+
+		startHelpers(&queue);
+
+		/* Write the chunks of each region in turn, as the helper threads finish them */
+		for (UDATA i = 0; (i < queue.count) && !_Error; i++) {
+			Chunk* chunks = NULL;
+
+			if (0 == queue.helpers) {
+				encoder.encodeRegion(&queue.regions[i]);
+				chunks = encoder.takeChunks();
+				_Error = encoder._Error;
+			} else if (isLargeRegion(&queue.regions[i])) {
+				/* Encode the region here, writing its chunks as the helper threads compress them */
+				encoder._Queue = &queue;
+				encoder.encodeRegion(&queue.regions[i]);
+				encoder.writeCompressedChunks(0);
+				encoder._Queue = NULL;
+				_Error = _Error || encoder._Error;
+			} else {
+				omrthread_monitor_enter(queue.monitor);
+				while (!queue.encoded[i] && !queue.error) {
+					omrthread_monitor_wait(queue.monitor);
+				}
+				chunks = queue.chunks[i];
+				queue.chunks[i] = NULL;
+				/* The helper thread reports its own errors */
+				_Error = queue.error;
+				omrthread_monitor_exit(queue.monitor);
+			}
+
+			writeChunks(chunks);
+
+			if (0 != queue.helpers) {
+				omrthread_monitor_enter(queue.monitor);
+				queue.written = i + 1;
+				omrthread_monitor_notify_all(queue.monitor);
+				omrthread_monitor_exit(queue.monitor);
+			}
+		}
+
+		stopHelpers(&queue);
+	}
+
+	/* Discard the chunks of any regions not written because of an error */
+	if (NULL != queue.chunks) {
+		for (UDATA i = 0; i < queue.count; i++) {
+			freeChunks(queue.chunks[i]);
+		}
+	}
+	j9mem_free_memory(queue.chunks);
+	j9mem_free_memory(queue.encoded);
+	j9mem_free_memory(queue.regions);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::startHelpers() method implementation                                     */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::startHelpers(RegionQueue* queue)
+{
+	UDATA threadCount = 1;
+	bool largeRegions = false;
+
+	for (UDATA i = 0; i < queue->count; i++) {
+		if (isLargeRegion(&queue->regions[i])) {
+			largeRegions = true;
+			break;
+		}
+	}
+
+	/* A single small region is simply encoded by the dumping thread */
+	if ((queue->count < 2) && !largeRegions) {
+		return;
+	}
+
+	/* Use as many helper threads as the GC has worker threads, but no more than there are regions */
+	/* unless the chunks of a large region can be shared between them                              */
+	_VirtualMachine->memoryManagerFunctions->j9gc_modron_getConfigurationValueForKey(_VirtualMachine, j9gc_modron_configuration_gcThreadCount, &threadCount);
+	if ((threadCount > queue->count) && !largeRegions) {
+		threadCount = queue->count;
+	}
+
+	if (0 != omrthread_monitor_init_with_name(&queue->monitor, 0, "Heap dump region queue")) {
+		return;
+	}
+
+	/* Keep the number of encoded regions waiting to be written in proportion to the helpers */
+	queue->window = 2 * threadCount;
+
+	/* The helpers wait for the monitor until they have all been counted */
+	omrthread_monitor_enter(queue->monitor);
+	for (UDATA i = 0; i < threadCount; i++) {
+		if (0 != omrthread_create(NULL, _VirtualMachine->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, binaryHeapDumpHelperThread, queue)) {
+			break;
+		}
+		queue->helpers += 1;
+		queue->active += 1;
+	}
+	omrthread_monitor_exit(queue->monitor);
+
+	/* If no helpers could be started the dumping thread does the work itself */
+	if (0 == queue->helpers) {
+		omrthread_monitor_destroy(queue->monitor);
+		queue->monitor = NULL;
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::stopHelpers() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::stopHelpers(RegionQueue* queue)
+{
+	if (0 == queue->helpers) {
+		return;
+	}
+
+	omrthread_monitor_enter(queue->monitor);
+
+	/* The helpers wait for more work until every region has been written */
+	queue->finished = true;
+
+	/* Stop the helpers early if the dump has failed */
+	if (_Error) {
+		queue->error = true;
+	}
+	omrthread_monitor_notify_all(queue->monitor);
+
+	while (0 != queue->active) {
+		omrthread_monitor_wait(queue->monitor);
+	}
+	omrthread_monitor_exit(queue->monitor);
+
+	omrthread_monitor_destroy(queue->monitor);
+	queue->monitor = NULL;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::encodeRegion() method implementation                                     */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::encodeRegion(J9MM_IterateRegionDescriptor* regionDescriptor)
+{
+	startChunk();
+	binaryHeapDumpRegionIteratorCallback(_VirtualMachine, regionDescriptor, this);
+	endChunk();
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::startChunk() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::startChunk(void)
+{
+	/* Each chunk can be read on its own, so addresses and the class cache start afresh */
+	_ChunkStream.clear();
+	_CurrentObject = 0;
+	_ClassCache.clear();
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::endChunk() method implementation                                         */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::endChunk(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	UDATA length = _ChunkStream.length();
+	Chunk* chunk = NULL;
+
+	if (_Error || (0 == length)) {
+		return;
+	}
+
+	/* The lengths are written as 4 byte numbers */
+	if (length <= 0x7FFFFFFF) {
+		uLong bound = compressBound((uLong)length);
+		/* A chunk compressed by a helper thread carries a copy of the records */
+		UDATA size = sizeof(Chunk) + bound + ((NULL != _Queue) ? length : 0);
+
+		chunk = (Chunk*)j9mem_allocate_memory(size, OMRMEM_CATEGORY_VM);
+		if (NULL != chunk) {
+			chunk->next = NULL;
+			chunk->nextJob = NULL;
+			chunk->length = length;
+			chunk->compressedLength = 0;
+			chunk->bound = bound;
+			chunk->compressed = false;
+
+			if (NULL != _Queue) {
+				memcpy((char*)(chunk + 1) + bound, _ChunkStream.data(), length);
+			} else if (compressChunk(chunk, _ChunkStream.data())) {
+				chunk->compressed = true;
+			} else {
+				j9mem_free_memory(chunk);
+				chunk = NULL;
+			}
+		}
+	}
+
+	_ChunkStream.clear();
+
+	if (NULL == chunk) {
+		reportCompressionError();
+		return;
+	}
+
+	*_ChunksTail = chunk;
+	_ChunksTail = &chunk->next;
+
+	if (NULL != _Queue) {
+		queueChunk(chunk);
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::compressChunk() method implementation                                    */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+BinaryHeapDumpWriter::compressChunk(Chunk* chunk, const char* data)
+{
+	z_stream stream;
+
+	memset(&stream, 0, sizeof(stream));
+	stream.zalloc = binaryHeapDumpZalloc;
+	stream.zfree = binaryHeapDumpZfree;
+	stream.opaque = _PortLibrary;
+	stream.next_in = (Bytef*)data;
+	stream.avail_in = (uInt)chunk->length;
+	stream.next_out = (Bytef*)(chunk + 1);
+	stream.avail_out = (uInt)chunk->bound;
+
+	/* Favour speed, the application is stopped while the dump is written */
+	int rc = deflateInit(&stream, Z_BEST_SPEED);
+	if (Z_OK == rc) {
+		rc = deflate(&stream, Z_FINISH);
+		deflateEnd(&stream);
+	}
+
+	if (Z_STREAM_END != rc) {
+		return false;
+	}
+
+	chunk->compressedLength = stream.total_out;
+	return true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::reportCompressionError() method implementation                           */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::reportCompressionError(void)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", "unable to compress records");
+	Trc_dump_reportDumpError_Event2("Heap", "unable to compress records");
+	_Error = true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::queueChunk() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::queueChunk(Chunk* chunk)
+{
+	/* Hand the chunk to the helper threads, it stays on this encoder's list until it is written */
+	omrthread_monitor_enter(_Queue->monitor);
+	*_Queue->jobsTail = chunk;
+	_Queue->jobsTail = &chunk->nextJob;
+	_Queue->outstanding += 1;
+	omrthread_monitor_notify_all(_Queue->monitor);
+	omrthread_monitor_exit(_Queue->monitor);
+
+	/* Write the chunks compressed so far, waiting once there is a chunk for every helper thread */
+	writeCompressedChunks(_Queue->helpers);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeCompressedChunks() method implementation                            */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeCompressedChunks(UDATA limit)
+{
+	RegionQueue* queue = _Queue;
+
+	while (!_Error) {
+		Chunk* chunks = NULL;
+		Chunk* last = NULL;
+
+		omrthread_monitor_enter(queue->monitor);
+		while (!queue->error && (queue->outstanding > limit) && !_Chunks->compressed) {
+			omrthread_monitor_wait(queue->monitor);
+		}
+
+		/* Take the chunks which have been compressed from the front of the list, keeping their order */
+		if (!queue->error) {
+			for (Chunk* chunk = _Chunks; (NULL != chunk) && chunk->compressed; chunk = chunk->next) {
+				last = chunk;
+				queue->outstanding -= 1;
+			}
+		}
+		if (NULL != last) {
+			chunks = _Chunks;
+			_Chunks = last->next;
+			last->next = NULL;
+			if (NULL == _Chunks) {
+				_ChunksTail = &_Chunks;
+			}
+		}
+		/* The helper thread reports its own errors */
+		_Error = queue->error;
+		omrthread_monitor_exit(queue->monitor);
+
+		if (NULL == chunks) {
+			break;
+		}
+
+		/* The chunks are written to the dump file by the dumping thread's writer */
+		queue->dumpWriter->writeChunks(chunks);
+		_Error = queue->dumpWriter->_Error;
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::takeChunks() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+BinaryHeapDumpWriter::Chunk*
+BinaryHeapDumpWriter::takeChunks(void)
+{
+	Chunk* chunks = _Chunks;
+
+	_Chunks = NULL;
+	_ChunksTail = &_Chunks;
+
+	return chunks;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeChunks() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeChunks(Chunk* chunks)
+{
+	/* The chunks are always written straight to the file, whatever the records are going to */
+	for (Chunk* chunk = chunks; (NULL != chunk) && !_Error; chunk = chunk->next) {
+		_OutputStream.writeNumber(chunk->compressedLength, 4);
+		_OutputStream.writeNumber(chunk->length, 4);
+		_OutputStream.writeCharacters((const char*)(chunk + 1), chunk->compressedLength);
 
 		checkForIOError();
 	}
+
+	freeChunks(chunks);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::freeChunks() method implementation                                       */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::freeChunks(Chunk* chunks)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	while (NULL != chunks) {
+		Chunk* next = chunks->next;
+
+		j9mem_free_memory(chunks);
+		chunks = next;
+	}
 }
 
 /**************************************************************************************************/
@@ -2459,6 +3063,118 @@ binaryHeapDumpObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor*
 	return ((BinaryHeapDumpWriter*)userData)->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
 }
 
+static jvmtiIterationControl
+binaryHeapDumpRegionCollectorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	BinaryHeapDumpWriter::RegionQueue* queue = (BinaryHeapDumpWriter::RegionQueue*)userData;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (queue->count == queue->capacity) {
+		UDATA newCapacity = (0 == queue->capacity) ? 64 : (2 * queue->capacity);
+		J9MM_IterateRegionDescriptor* newRegions = (J9MM_IterateRegionDescriptor*)j9mem_allocate_memory(newCapacity * sizeof(J9MM_IterateRegionDescriptor), OMRMEM_CATEGORY_VM);
+
+		if (NULL == newRegions) {
+			queue->error = true;
+			return JVMTI_ITERATION_ABORT;
+		}
+		if (NULL != queue->regions) {
+			memcpy(newRegions, queue->regions, queue->count * sizeof(J9MM_IterateRegionDescriptor));
+			j9mem_free_memory(queue->regions);
+		}
+		queue->regions = newRegions;
+		queue->capacity = newCapacity;
+	}
+
+	/* The descriptor stays valid after the callback, the heap can't change while it is dumped */
+	queue->regions[queue->count] = *regionDescription;
+	queue->count += 1;
+
+	return JVMTI_ITERATION_CONTINUE;
+}
+
+static int J9THREAD_PROC
+binaryHeapDumpHelperThread(void* entryArg)
+{
+	BinaryHeapDumpWriter::RegionQueue* queue = (BinaryHeapDumpWriter::RegionQueue*)entryArg;
+	BinaryHeapDumpWriter encoder(queue->dumpWriter);
+
+	omrthread_monitor_enter(queue->monitor);
+	while (!queue->error) {
+		/* Compress the chunks of a large region first, the dumping thread is waiting for them */
+		if (NULL != queue->jobs) {
+			BinaryHeapDumpWriter::Chunk* chunk = queue->jobs;
+
+			queue->jobs = chunk->nextJob;
+			if (NULL == queue->jobs) {
+				queue->jobsTail = &queue->jobs;
+			}
+			omrthread_monitor_exit(queue->monitor);
+
+			bool compressed = encoder.compressChunk(chunk, (const char*)(chunk + 1) + chunk->bound);
+			if (!compressed) {
+				encoder.reportCompressionError();
+			}
+
+			omrthread_monitor_enter(queue->monitor);
+			chunk->compressed = compressed;
+			if (!compressed) {
+				queue->error = true;
+			}
+			omrthread_monitor_notify_all(queue->monitor);
+			continue;
+		}
+
+		/* Large regions are encoded by the dumping thread */
+		while ((queue->next < queue->count) && BinaryHeapDumpWriter::isLargeRegion(&queue->regions[queue->next])) {
+			queue->next += 1;
+		}
+
+		/* Bound the memory used by not getting too far ahead of the region being written */
+		if ((queue->next >= queue->count) || ((queue->next - queue->written) >= queue->window)) {
+			if (queue->finished) {
+				break;
+			}
+			omrthread_monitor_wait(queue->monitor);
+			continue;
+		}
+
+		UDATA index = queue->next;
+		queue->next += 1;
+		omrthread_monitor_exit(queue->monitor);
+
+		encoder.encodeRegion(&queue->regions[index]);
+
+		omrthread_monitor_enter(queue->monitor);
+		queue->chunks[index] = encoder.takeChunks();
+		queue->encoded[index] = true;
+		if (encoder._Error) {
+			queue->error = true;
+		}
+		omrthread_monitor_notify_all(queue->monitor);
+	}
+	queue->active -= 1;
+	omrthread_monitor_notify_all(queue->monitor);
+	omrthread_monitor_exit(queue->monitor);
+
+	return 0;
+}
+
+static voidpf
+binaryHeapDumpZalloc(voidpf opaque, uInt items, uInt size)
+{
+	PORT_ACCESS_FROM_PORT((J9PortLibrary*)opaque);
+
+	return j9mem_allocate_memory((UDATA)items * size, OMRMEM_CATEGORY_VM);
+}
+
+static void
+binaryHeapDumpZfree(voidpf opaque, voidpf address)
+{
+	PORT_ACCESS_FROM_PORT((J9PortLibrary*)opaque);
+
+	j9mem_free_memory(address);
+}
+
 static jvmtiIterationControl
 binaryHeapDumpObjectReferenceIteratorTraitsCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData)
 {
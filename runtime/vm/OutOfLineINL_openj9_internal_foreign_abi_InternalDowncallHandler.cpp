@@ -150,17 +150,14 @@ OutOfLineINL_openj9_internal_foreign_abi_InternalDowncallHandler_initCifNativeTh
 		}
 	}
 
+	/* Downcall handles are created concurrently, so the pool is created under its mutex. */
+	omrthread_monitor_enter(vm->cifNativeCalloutDataCacheMutex);
 	if (NULL == vm->cifNativeCalloutDataCache) {
 		vm->cifNativeCalloutDataCache = pool_new(sizeof(ffi_cif), 0, 0, 0, J9_GET_CALLSITE(), J9MEM_CATEGORY_VM_FFI, POOL_FOR_PORT(PORTLIB));
-		if (NULL == vm->cifNativeCalloutDataCache) {
-			rc = GOTO_THROW_CURRENT_EXCEPTION;
-			setNativeOutOfMemoryError(currentThread, 0, 0);
-			goto freeAllMemoryThenExit;
-		}
 	}
-
-	omrthread_monitor_enter(vm->cifNativeCalloutDataCacheMutex);
-	cif = (ffi_cif *)pool_newElement(vm->cifNativeCalloutDataCache);
+	if (NULL != vm->cifNativeCalloutDataCache) {
+		cif = (ffi_cif *)pool_newElement(vm->cifNativeCalloutDataCache);
+	}
 	omrthread_monitor_exit(vm->cifNativeCalloutDataCacheMutex);
 	if (NULL == cif) {
 		rc = GOTO_THROW_CURRENT_EXCEPTION;
@@ -183,17 +180,13 @@ OutOfLineINL_openj9_internal_foreign_abi_InternalDowncallHandler_initCifNativeTh
 	}
 
 	if (newArgTypes) {
+		omrthread_monitor_enter(vm->cifArgumentTypesCacheMutex);
 		if (NULL == vm->cifArgumentTypesCache) {
 			vm->cifArgumentTypesCache = pool_new(sizeof(J9CifArgumentTypes), 0, 0, 0, J9_GET_CALLSITE(), J9MEM_CATEGORY_VM_FFI, POOL_FOR_PORT(PORTLIB));
-			if (NULL == vm->cifArgumentTypesCache) {
-				rc = GOTO_THROW_CURRENT_EXCEPTION;
-				setNativeOutOfMemoryError(currentThread, 0, 0);
-				goto freeAllMemoryThenExit;
-			}
 		}
-
-		omrthread_monitor_enter(vm->cifArgumentTypesCacheMutex);
-		cifArgTypesNode = (J9CifArgumentTypes *)pool_newElement(vm->cifArgumentTypesCache);
+		if (NULL != vm->cifArgumentTypesCache) {
+			cifArgTypesNode = (J9CifArgumentTypes *)pool_newElement(vm->cifArgumentTypesCache);
+		}
 		omrthread_monitor_exit(vm->cifArgumentTypesCacheMutex);
 		if (NULL == cifArgTypesNode) {
 			rc = GOTO_THROW_CURRENT_EXCEPTION;
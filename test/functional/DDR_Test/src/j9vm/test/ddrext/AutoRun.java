@@ -29,7 +29,9 @@ import j9vm.test.ddrext.junit.TestDDRExtensionGeneral;
 import j9vm.test.ddrext.junit.TestFindExt;
 import j9vm.test.ddrext.junit.TestJITExt;
 import j9vm.test.ddrext.junit.TestMonitors;
+import j9vm.test.ddrext.junit.TestParallelHeapWalk;
 import j9vm.test.ddrext.junit.TestRTSpecificDDRExt;
+import j9vm.test.ddrext.junit.TestReverseReferenceIndex;
 import j9vm.test.ddrext.junit.TestSharedClassesExt;
 import j9vm.test.ddrext.junit.TestStackMap;
 import j9vm.test.ddrext.junit.TestTenants;
@@ -428,6 +430,8 @@ public class AutoRun {
 			suite.addTestSuite(TestCallsites.class);
 			suite.addTestSuite(TestDDRExtensionGeneral.class);
 			suite.addTestSuite(TestFindExt.class);
+			suite.addTestSuite(TestReverseReferenceIndex.class);
+			suite.addTestSuite(TestParallelHeapWalk.class);
 			suite.addTestSuite(TestTypeResolution.class);
 			suite.addTestSuite(TestCollisionResilientHashtable.class);
 			suite.addTestSuite(TestStackMap.class);
@@ -459,6 +463,10 @@ public class AutoRun {
 				} else if (aTest.trim().equalsIgnoreCase("TestFindExt")) {
 					suite.addTestSuite(TestFindExt.class);
 					suite.addTestSuite(TestThread.class);
+				} else if (aTest.trim().equalsIgnoreCase("TestReverseReferenceIndex")) {
+					suite.addTestSuite(TestReverseReferenceIndex.class);
+				} else if (aTest.trim().equalsIgnoreCase("TestParallelHeapWalk")) {
+					suite.addTestSuite(TestParallelHeapWalk.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestStackMap")) {
 					suite.addTestSuite(TestStackMap.class);
 				} else if (aTest.trim().equalsIgnoreCase("TestTenants")) {
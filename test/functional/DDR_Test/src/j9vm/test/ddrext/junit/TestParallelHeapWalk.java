@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package j9vm.test.ddrext.junit;
+
+import j9vm.test.ddrext.Constants;
+import j9vm.test.ddrext.DDRExtTesterBase;
+
+/**
+ * Check that !gccheck gives the same report when the heap regions are checked
+ * in parallel, with the "parallel" misc option, as when they are checked serially,
+ * whatever the number of threads set with the system property ddr.heap.walk.threads.
+ */
+public class TestParallelHeapWalk extends DDRExtTesterBase {
+
+	private static final String THREADS_PROPERTY = "ddr.heap.walk.threads";
+	private static final String GCCHECK_CMD = "gccheck";
+
+	private String gccheck(String options, String threads) {
+		String previous = System.setProperty(THREADS_PROPERTY, threads);
+		try {
+			String output = exec(GCCHECK_CMD, new String[] { options });
+			assertNotNull("gccheck " + options + " output is null", output);
+			assertTrue(output, output.contains("Starting GC Check"));
+			assertFalse(output, output.contains("Exception"));
+			/* the last line gives the time taken */
+			return output.replaceAll("Done \\([0-9]+ms\\)", "Done");
+		} finally {
+			if (null == previous) {
+				System.clearProperty(THREADS_PROPERTY);
+			} else {
+				System.setProperty(THREADS_PROPERTY, previous);
+			}
+		}
+	}
+
+	public void testObjectHeap() {
+		String serial = gccheck("objectheap:all", "4");
+		assertEquals(serial, gccheck("objectheap:all:parallel", "4"));
+		assertEquals(serial, gccheck("objectheap:all:parallel", "1"));
+	}
+
+	public void testMaxErrors() {
+		String serial = gccheck("objectheap:all:maxerrors=1", "4");
+		assertEquals(serial, gccheck("objectheap:all:maxerrors=1,parallel", "4"));
+	}
+
+	public void testAllChecks() {
+		String serial = gccheck("all:all", "4");
+		assertEquals(serial, gccheck("all:all:parallel", "4"));
+	}
+
+	public void testHelp() {
+		String output = exec(GCCHECK_CMD, new String[] { "help" });
+		assertNotNull("gccheck help output is null", output);
+		assertTrue(output, output.contains("parallel"));
+	}
+
+	public void testMonitors() {
+		/* the flat locked monitors are found with a parallel heap walk */
+		String output = exec(Constants.MONITORS_CMD, new String[] { "all" });
+		assertNotNull("monitors all output is null", output);
+		assertTrue(output, output.contains("Object Monitors:"));
+		assertFalse(output, output.contains("Exception"));
+	}
+}
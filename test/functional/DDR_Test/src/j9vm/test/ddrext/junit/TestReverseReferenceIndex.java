@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package j9vm.test.ddrext.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import j9vm.test.ddrext.Constants;
+import j9vm.test.ddrext.DDRExtTesterBase;
+
+/**
+ * Check that !rootpathfind, !isobjectalive and !objectrefs give the same answers
+ * from the reverse reference index as from walking the live set, which they do
+ * when the system property ddr.reverse.reference.index is false.
+ */
+public class TestReverseReferenceIndex extends DDRExtTesterBase {
+
+	private static final String INDEX_PROPERTY = "ddr.reverse.reference.index";
+	private static final String INDEX_FAILED = "Unable to build reverse reference index";
+	private static final String PATH_SEPARATOR = "========================================";
+	private static final Pattern THREAD_OBJECT = Pattern.compile("threadObject = !j9object (0x[0-9a-fA-F]+)");
+	private static final Pattern OBJECT_ADDRESS = Pattern.compile("@(0x[0-9a-fA-F]+)");
+	private static final Pattern REFERRER_ROW = Pattern.compile("!j9object (0x[0-9a-fA-F]+) //");
+
+	private String execWithIndex(String command, String address, boolean useIndex) {
+		String previous = System.setProperty(INDEX_PROPERTY, String.valueOf(useIndex));
+		try {
+			return exec(command, new String[] { address });
+		} finally {
+			if (null == previous) {
+				System.clearProperty(INDEX_PROPERTY);
+			} else {
+				System.setProperty(INDEX_PROPERTY, previous);
+			}
+		}
+	}
+
+	/**
+	 * @return the address of the java/lang/Thread object of a live thread
+	 */
+	private String getThreadObjectAddress() {
+		String threadOutput = exec(Constants.THREAD_CMD, new String[0]);
+		assertNotNull("threads output is null", threadOutput);
+		String threadAddress = getAddressForThreads(Constants.J9VMTHREAD_CMD, threadOutput);
+		assertNotNull("Error parsing threads output for a j9vmthread address", threadAddress);
+		String j9vmthreadOutput = exec(Constants.J9VMTHREAD_CMD, new String[] { threadAddress });
+		Matcher matcher = THREAD_OBJECT.matcher(j9vmthreadOutput);
+		assertTrue("Not able to parse threadObject from: " + j9vmthreadOutput, matcher.find());
+		return matcher.group(1);
+	}
+
+	private static long parseAddress(String address) {
+		return Long.parseUnsignedLong(address.substring(2), 16);
+	}
+
+	/**
+	 * @return the objects of the first path in the output, from the root to the object
+	 */
+	private static List<Long> parsePath(String output) {
+		List<Long> path = new ArrayList<>();
+		int start = output.indexOf(PATH_SEPARATOR);
+		assertTrue("No path found in: " + output, start >= 0);
+		int end = output.indexOf(PATH_SEPARATOR, start + 1);
+		String[] lines = output.substring(start + PATH_SEPARATOR.length(), (end < 0) ? output.length() : end).split(Constants.NL);
+		for (String line : lines) {
+			Matcher matcher = OBJECT_ADDRESS.matcher(line);
+			if (matcher.find()) {
+				path.add(parseAddress(matcher.group(1)));
+			}
+		}
+		return path;
+	}
+
+	private static List<Long> parseReferrers(String output) {
+		List<Long> referrers = new ArrayList<>();
+		Matcher matcher = REFERRER_ROW.matcher(output);
+		while (matcher.find()) {
+			referrers.add(parseAddress(matcher.group(1)));
+		}
+		referrers.sort(null);
+		return referrers;
+	}
+
+	public void testRootPathFind() {
+		String object = getThreadObjectAddress();
+		String indexOutput = execWithIndex("rootpathfind", object, true);
+		String walkOutput = execWithIndex("rootpathfind", object, false);
+		assertFalse(indexOutput, indexOutput.contains(INDEX_FAILED));
+
+		List<Long> indexPath = parsePath(indexOutput);
+		List<Long> walkPath = parsePath(walkOutput);
+		/* both paths end with the object; the index finds a shortest one, the walk the first found depth first */
+		assertEquals(parseAddress(object), indexPath.get(indexPath.size() - 1).longValue());
+		assertEquals(parseAddress(object), walkPath.get(walkPath.size() - 1).longValue());
+		assertTrue("index path " + indexPath + " is longer than walk path " + walkPath, indexPath.size() <= walkPath.size());
+	}
+
+	public void testIsObjectAlive() {
+		String object = getThreadObjectAddress();
+		String indexOutput = execWithIndex("isobjectalive", object, true);
+		assertFalse(indexOutput, indexOutput.contains(INDEX_FAILED));
+		assertTrue(indexOutput, indexOutput.contains("Object is live"));
+		String walkOutput = execWithIndex("isobjectalive", object, false);
+		assertTrue(walkOutput, walkOutput.contains("Object is live"));
+	}
+
+	public void testObjectRefs() {
+		String object = getThreadObjectAddress();
+		String indexOutput = execWithIndex("objectrefs", object, true);
+		String walkOutput = execWithIndex("objectrefs", object, false);
+		assertFalse(indexOutput, indexOutput.contains(INDEX_FAILED));
+		assertTrue(indexOutput, indexOutput.contains("All Live Objects That Refer To !j9object"));
+
+		/* the index lists each live referrer once, in address order, the walk in the order it finds them */
+		List<Long> indexReferrers = parseReferrers(indexOutput);
+		List<Long> walkReferrers = parseReferrers(walkOutput);
+		assertEquals(walkReferrers, indexReferrers);
+	}
+}
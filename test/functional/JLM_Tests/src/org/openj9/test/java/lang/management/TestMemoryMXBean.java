@@ -35,6 +35,7 @@ import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.management.Attribute;
 import javax.management.AttributeList;
@@ -121,6 +122,8 @@ public class TestMemoryMXBean {
 		}
 		attribs.put("MaximumGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
 		attribs.put("CurrentGCThreads", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("FinalizationCompletedCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("FinalizerThreadCount", new AttributeData(Integer.TYPE.getName(), true, false, false));
 	}// end static initializer
 
 	private ExtendedMemoryMXBeanImpl mb;
@@ -780,6 +783,67 @@ public class TestMemoryMXBean {
 		AssertJUnit.assertTrue(mb.getObjectPendingFinalizationCount() > -1);
 	}
 
+	/* Counts the finalizers run, see testGetFinalizationCompletedCount() */
+	static final class Finalizable {
+		static final AtomicInteger finalized = new AtomicInteger();
+
+		@Override
+		protected void finalize() {
+			finalized.incrementAndGet();
+		}
+	}
+
+	private static void createFinalizables(int count) {
+		for (int i = 0; i < count; i++) {
+			new Finalizable();
+		}
+	}
+
+	@Test
+	public final void testGetFinalizationCompletedCount() throws InterruptedException {
+		// More objects than a batch, so that the helpers of -Xgc:finalizeWorkerThreads are woken
+		final int count = 5000;
+		long before = mb.getFinalizationCompletedCount();
+		AssertJUnit.assertTrue(before > -1);
+
+		int alreadyFinalized = Finalizable.finalized.get();
+		createFinalizables(count);
+		long deadline = System.currentTimeMillis() + 60000;
+		while ((Finalizable.finalized.get() - alreadyFinalized) < count) {
+			AssertJUnit.assertTrue("only " + (Finalizable.finalized.get() - alreadyFinalized) + " of " + count + " finalizers ran",
+					System.currentTimeMillis() < deadline);
+			System.gc();
+			System.runFinalization();
+			Thread.sleep(10);
+		}
+		AssertJUnit.assertEquals(count, Finalizable.finalized.get() - alreadyFinalized);
+
+		// Every finalizer that ran is a completed job, as well as any other jobs done meanwhile.
+		// A worker counts its jobs once its whole batch has run, so the count may lag a little.
+		long after = mb.getFinalizationCompletedCount();
+		while (((after - before) < count) && (System.currentTimeMillis() < deadline)) {
+			System.runFinalization();
+			Thread.sleep(10);
+			after = mb.getFinalizationCompletedCount();
+		}
+		AssertJUnit.assertTrue("completed count grew by " + (after - before) + ", expected at least " + count,
+				(after - before) >= count);
+	}
+
+	@Test
+	public final void testGetFinalizerThreadCount() {
+		int expected = 1;
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			int index = argument.indexOf("finalizeWorkerThreads=");
+			if (argument.startsWith("-Xgc:") && (index >= 0)) {
+				String value = argument.substring(index + "finalizeWorkerThreads=".length());
+				int end = value.indexOf(',');
+				expected = Integer.parseInt((end < 0) ? value : value.substring(0, end));
+			}
+		}
+		AssertJUnit.assertEquals(expected, mb.getFinalizerThreadCount());
+	}
+
 	@Test
 	public final void testIsVerbose() {
 		// TODO Set - test - reset - test when VM permits this
@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.dataaccess;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Checks that the MemorySegment overloads of com.ibm.dataaccess produce the same bytes and values as the byte array
+ * methods, for heap and native segments, and that the bounds, the access mode and the scope of the segment are
+ * checked.
+ */
+@Test(groups = { "level.sanity" })
+public class TestMemorySegmentConversions {
+
+	private static final int SIZE = 64;
+
+	private static final int OFFSET = 3;
+
+	private static final long[] LONG_VALUES = { 0, 1, -1, 7, -42, 12345, -987654321, Integer.MAX_VALUE,
+			Integer.MIN_VALUE, 123456789012345678L, -999999999999999999L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+	private static final int[] EXTERNAL_TYPES = { DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING,
+			DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING, DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING,
+			DecimalData.EBCDIC_SIGN_SEPARATE_LEADING };
+
+	/**
+	 * The segments under test, each of SIZE bytes: a heap segment, a slice of a heap segment that does not start at
+	 * the beginning of its array, and a native segment.
+	 */
+	private static MemorySegment[] segments() {
+		return new MemorySegment[] { MemorySegment.ofArray(new byte[SIZE]),
+				MemorySegment.ofArray(new byte[SIZE + 5]).asSlice(5), Arena.ofAuto().allocate(SIZE) };
+	}
+
+	private static MemorySegment[] segments(byte[] bytes) {
+		MemorySegment[] segments = segments();
+		for (MemorySegment segment : segments) {
+			MemorySegment.copy(bytes, 0, segment, ValueLayout.JAVA_BYTE, 0, bytes.length);
+		}
+		return segments;
+	}
+
+	private static String describe(MemorySegment segment) {
+		return (segment.isNative() ? "native" : "heap") + " segment";
+	}
+
+	public void testMarshallerRoundTrip() {
+		for (boolean bigEndian : new boolean[] { true, false }) {
+			for (long value : LONG_VALUES) {
+				byte[] expected = new byte[SIZE];
+				ByteArrayMarshaller.writeShort((short) value, expected, OFFSET, bigEndian);
+				ByteArrayMarshaller.writeInt((int) value, expected, OFFSET + 2, bigEndian);
+				ByteArrayMarshaller.writeLong(value, expected, OFFSET + 6, bigEndian);
+				ByteArrayMarshaller.writeFloat(value, expected, OFFSET + 14, bigEndian);
+				ByteArrayMarshaller.writeDouble(value, expected, OFFSET + 18, bigEndian);
+				ByteArrayMarshaller.writeShort((short) value, expected, OFFSET + 26, bigEndian, 1);
+				ByteArrayMarshaller.writeInt((int) value, expected, OFFSET + 27, bigEndian, 3);
+				ByteArrayMarshaller.writeLong(value, expected, OFFSET + 30, bigEndian, 5);
+
+				for (MemorySegment segment : segments()) {
+					ByteArrayMarshaller.writeShort((short) value, segment, OFFSET, bigEndian);
+					ByteArrayMarshaller.writeInt((int) value, segment, OFFSET + 2, bigEndian);
+					ByteArrayMarshaller.writeLong(value, segment, OFFSET + 6, bigEndian);
+					ByteArrayMarshaller.writeFloat(value, segment, OFFSET + 14, bigEndian);
+					ByteArrayMarshaller.writeDouble(value, segment, OFFSET + 18, bigEndian);
+					ByteArrayMarshaller.writeShort((short) value, segment, OFFSET + 26, bigEndian, 1);
+					ByteArrayMarshaller.writeInt((int) value, segment, OFFSET + 27, bigEndian, 3);
+					ByteArrayMarshaller.writeLong(value, segment, OFFSET + 30, bigEndian, 5);
+					Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), expected, describe(segment) + " " + value);
+				}
+
+				for (MemorySegment segment : segments(expected)) {
+					String message = describe(segment) + " " + value;
+					Assert.assertEquals(ByteArrayUnmarshaller.readShort(segment, OFFSET, bigEndian), (short) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readInt(segment, OFFSET + 2, bigEndian), (int) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readLong(segment, OFFSET + 6, bigEndian), value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readFloat(segment, OFFSET + 14, bigEndian), (float) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readDouble(segment, OFFSET + 18, bigEndian), (double) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readShort(segment, OFFSET + 26, bigEndian, 1, true),
+							ByteArrayUnmarshaller.readShort(expected, OFFSET + 26, bigEndian, 1, true), message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readInt(segment, OFFSET + 27, bigEndian, 3, false),
+							ByteArrayUnmarshaller.readInt(expected, OFFSET + 27, bigEndian, 3, false), message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readLong(segment, OFFSET + 30, bigEndian, 5, true),
+							ByteArrayUnmarshaller.readLong(expected, OFFSET + 30, bigEndian, 5, true), message);
+				}
+			}
+		}
+	}
+
+	public void testPackedDecimalRoundTrip() {
+		for (int precision = 1; precision <= 19; precision++) {
+			for (long value : LONG_VALUES) {
+				byte[] expected = new byte[SIZE];
+				DecimalData.convertLongToPackedDecimal(value, expected, OFFSET, precision, false);
+				DecimalData.convertIntegerToPackedDecimal((int) value, expected, OFFSET + 12, precision, false);
+
+				for (MemorySegment segment : segments()) {
+					DecimalData.convertLongToPackedDecimal(value, segment, OFFSET, precision, false);
+					DecimalData.convertIntegerToPackedDecimal((int) value, segment, OFFSET + 12, precision, false);
+					Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), expected,
+							describe(segment) + " " + value + " " + precision);
+				}
+
+				for (MemorySegment segment : segments(expected)) {
+					String message = describe(segment) + " " + value + " " + precision;
+					Assert.assertEquals(DecimalData.convertPackedDecimalToLong(segment, OFFSET, precision, false),
+							DecimalData.convertPackedDecimalToLong(expected, OFFSET, precision, false), message);
+					Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(segment, OFFSET + 12, precision, false),
+							DecimalData.convertPackedDecimalToInteger(expected, OFFSET + 12, precision, false), message);
+				}
+			}
+		}
+	}
+
+	public void testExternalDecimalRoundTrip() {
+		for (int decimalType : EXTERNAL_TYPES) {
+			for (int precision = 1; precision <= 19; precision++) {
+				for (long value : LONG_VALUES) {
+					byte[] expected = new byte[SIZE];
+					DecimalData.convertLongToExternalDecimal(value, expected, OFFSET, precision, false, decimalType);
+					DecimalData.convertIntegerToExternalDecimal((int) value, expected, OFFSET + 21, precision, false,
+							decimalType);
+
+					for (MemorySegment segment : segments()) {
+						DecimalData.convertLongToExternalDecimal(value, segment, OFFSET, precision, false, decimalType);
+						DecimalData.convertIntegerToExternalDecimal((int) value, segment, OFFSET + 21, precision, false,
+								decimalType);
+						Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), expected,
+								describe(segment) + " " + value);
+					}
+
+					for (MemorySegment segment : segments(expected)) {
+						String message = describe(segment) + " " + value + " " + precision + " " + decimalType;
+						Assert.assertEquals(
+								DecimalData.convertExternalDecimalToLong(segment, OFFSET, precision, false, decimalType),
+								DecimalData.convertExternalDecimalToLong(expected, OFFSET, precision, false, decimalType),
+								message);
+						Assert.assertEquals(
+								DecimalData.convertExternalDecimalToInteger(segment, OFFSET + 21, precision, false,
+										decimalType),
+								DecimalData.convertExternalDecimalToInteger(expected, OFFSET + 21, precision, false,
+										decimalType),
+								message);
+					}
+				}
+			}
+		}
+	}
+
+	public void testBigDecimalRoundTrip() {
+		BigDecimal[] values = { new BigDecimal("123.45"), new BigDecimal("-98765432109876.54"),
+				new BigDecimal("1234567890123456789012.345"), new BigDecimal("-9999999999999999999999999") };
+		for (BigDecimal value : values) {
+			for (int precision : new int[] { 17, 25 }) {
+				if (value.precision() > precision) {
+					continue;
+				}
+				for (MemorySegment segment : segments()) {
+					DecimalData.convertBigDecimalToPackedDecimal(value, segment, OFFSET, precision, true);
+					DecimalData.convertBigDecimalToExternalDecimal(value, segment, OFFSET + 20, precision, true,
+							DecimalData.EBCDIC_SIGN_SEPARATE_LEADING);
+					String message = describe(segment) + " " + value + " " + precision;
+					Assert.assertEquals(
+							DecimalData.convertPackedDecimalToBigDecimal(segment, OFFSET, precision, value.scale(), true),
+							value, message);
+					Assert.assertEquals(DecimalData.convertExternalDecimalToBigDecimal(segment, OFFSET + 20, precision,
+							value.scale(), true, DecimalData.EBCDIC_SIGN_SEPARATE_LEADING), value, message);
+				}
+			}
+		}
+	}
+
+	public void testBulkConversions() {
+		int precision = 9;
+		long stride = 7;
+		long externalStride = 10;
+		long[] values = { 0, 1, -1, 123456789, -123456789, 42, -7 };
+
+		byte[] packed = new byte[SIZE];
+		DecimalData.convertLongsToPackedDecimals(values, 0, packed, OFFSET, (int) stride, precision, true,
+				values.length);
+		byte[] external = new byte[SIZE];
+		DecimalData.convertLongsToExternalDecimals(values, 0, external, 0, (int) externalStride, precision, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, values.length - 1);
+
+		for (MemorySegment segment : segments()) {
+			DecimalData.convertLongsToPackedDecimals(values, 0, segment, OFFSET, stride, precision, true, values.length);
+			Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), packed, describe(segment));
+
+			long[] results = new long[values.length];
+			DecimalData.convertPackedDecimalsToLongs(segment, OFFSET, stride, precision, true, results, 0,
+					values.length);
+			Assert.assertEquals(results, values, describe(segment));
+		}
+
+		for (MemorySegment segment : segments()) {
+			DecimalData.convertLongsToExternalDecimals(values, 0, segment, 0, externalStride, precision, true,
+					DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, values.length - 1);
+			Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), external, describe(segment));
+
+			long[] results = new long[values.length];
+			DecimalData.convertExternalDecimalsToLongs(segment, 0, externalStride, precision, true,
+					DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, results, 1, values.length - 1);
+			for (int i = 0; i < values.length - 1; i++) {
+				Assert.assertEquals(results[i + 1], values[i], describe(segment) + " " + i);
+			}
+		}
+	}
+
+	public void testOverflow() {
+		for (MemorySegment segment : segments()) {
+			try {
+				DecimalData.convertLongToPackedDecimal(123456, segment, OFFSET, 5, true);
+				Assert.fail("Expected ArithmeticException for " + describe(segment));
+			} catch (ArithmeticException e) {
+				/* expected */
+			}
+			Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), new byte[SIZE], "Nothing is stored on overflow");
+
+			DecimalData.convertLongToPackedDecimal(Long.MAX_VALUE, segment, OFFSET, 19, true);
+			try {
+				DecimalData.convertPackedDecimalToInteger(segment, OFFSET, 19, true);
+				Assert.fail("Expected ArithmeticException for " + describe(segment));
+			} catch (ArithmeticException e) {
+				/* expected */
+			}
+		}
+	}
+
+	public void testBounds() {
+		for (MemorySegment segment : segments()) {
+			String message = describe(segment);
+			long pastEnd = SIZE - 2;
+
+			assertOutOfBounds(() -> ByteArrayMarshaller.writeLong(1, segment, pastEnd, true), message);
+			assertOutOfBounds(() -> ByteArrayMarshaller.writeInt(1, segment, -1, true, 2), message);
+			assertOutOfBounds(() -> ByteArrayUnmarshaller.readInt(segment, pastEnd, false), message);
+			assertOutOfBounds(() -> ByteArrayUnmarshaller.readLong(segment, pastEnd, false, 3, true), message);
+			assertOutOfBounds(() -> DecimalData.convertLongToPackedDecimal(1, segment, pastEnd, 9, true), message);
+			assertOutOfBounds(() -> DecimalData.convertPackedDecimalToLong(segment, -1, 9, true), message);
+			assertOutOfBounds(() -> DecimalData.convertIntegerToExternalDecimal(1, segment, pastEnd, 5, true,
+					DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING), message);
+			assertOutOfBounds(() -> DecimalData.convertExternalDecimalToInteger(segment, pastEnd, 5, true,
+					DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING), message);
+			assertOutOfBounds(() -> DecimalData.convertLongsToPackedDecimals(new long[3], 0, segment, 48, 10, 9, true,
+					3), message);
+			assertOutOfBounds(() -> DecimalData.convertPackedDecimalsToLongs(segment, 0, 10, 9, true, new long[3], 1,
+					3), message);
+			Assert.assertEquals(segment.toArray(ValueLayout.JAVA_BYTE), new byte[SIZE],
+					message + ": nothing is stored out of bounds");
+
+			/* the last field ends exactly at the end of the segment */
+			DecimalData.convertLongToPackedDecimal(-5, segment, SIZE - 5, 9, true);
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(segment, SIZE - 5, 9, true), -5);
+		}
+	}
+
+	public void testReadOnly() {
+		MemorySegment segment = Arena.ofAuto().allocate(SIZE).asReadOnly();
+		assertReadOnly(() -> ByteArrayMarshaller.writeInt(1, segment, 0, true));
+		assertReadOnly(() -> ByteArrayMarshaller.writeLong(1, segment, 0, true, 3));
+		assertReadOnly(() -> DecimalData.convertIntegerToPackedDecimal(1, segment, 0, 5, true));
+		assertReadOnly(() -> DecimalData.convertLongToExternalDecimal(1, segment, 0, 5, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING));
+		Assert.assertEquals(DecimalData.convertPackedDecimalToLong(segment, 0, 9, false), 0);
+	}
+
+	public void testClosedScope() {
+		MemorySegment segment;
+		try (Arena arena = Arena.ofConfined()) {
+			segment = arena.allocate(SIZE);
+			DecimalData.convertLongToPackedDecimal(42, segment, 0, 9, true);
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(segment, 0, 9, true), 42);
+		}
+		assertClosed(() -> ByteArrayUnmarshaller.readInt(segment, 0, true));
+		assertClosed(() -> ByteArrayMarshaller.writeShort((short) 1, segment, 0, true));
+		assertClosed(() -> DecimalData.convertPackedDecimalToLong(segment, 0, 9, true));
+		assertClosed(() -> DecimalData.convertLongsToExternalDecimals(new long[2], 0, segment, 0, 10, 9, true,
+				DecimalData.EBCDIC_SIGN_SEPARATE_LEADING, 2));
+	}
+
+	private static void assertOutOfBounds(Runnable conversion, String message) {
+		try {
+			conversion.run();
+			Assert.fail("Expected IndexOutOfBoundsException for " + message);
+		} catch (IndexOutOfBoundsException e) {
+			/* expected */
+		}
+	}
+
+	private static void assertReadOnly(Runnable conversion) {
+		try {
+			conversion.run();
+			Assert.fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			/* expected */
+		}
+	}
+
+	private static void assertClosed(Runnable conversion) {
+		try {
+			conversion.run();
+			Assert.fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			/* expected */
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.jep454.downcall;
+
+
+import org.testng.annotations.Test;
+import org.testng.Assert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+import java.lang.foreign.Linker;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * Test cases for JEP 454: Foreign Linker API for primitive types in downcall,
+ * which verifies the downcall handles created concurrently by many threads
+ * with the same and different function descriptors.
+ *
+ * Note: the test runs in its own JVM with openj9.internal.foreign.abi exported
+ * so as to check the prep_cif cache counters of InternalDowncallHandler.
+ */
+@Test(groups = { "level.sanity" })
+public class MultiThreadingTests6 implements Thread.UncaughtExceptionHandler {
+	private volatile Throwable initException;
+	private static Linker linker = Linker.nativeLinker();
+	private static final int THREAD_COUNT = 16;
+	private static final int ROUND_COUNT = 50;
+	private static final int SIGNATURE_COUNT = 3;
+	private static final Linker.Option[][] OPTION_SETS = {
+			{},
+			{ Linker.Option.critical(false) }
+	};
+
+	static {
+		System.loadLibrary("clinkerffitests");
+	}
+	private static final SymbolLookup nativeLibLookup = SymbolLookup.loaderLookup();
+
+	@Test(enabled=false)
+	@Override
+	public void uncaughtException(Thread thr, Throwable t) {
+		initException = t;
+	}
+
+	private static long getCounter(String name) throws Throwable {
+		Class<?> handlerClass = Class.forName("openj9.internal.foreign.abi.InternalDowncallHandler");
+		Method counter = handlerClass.getMethod(name);
+		return ((Long)counter.invoke(null)).longValue();
+	}
+
+	@Test
+	public void test_multiThreadsCreatingDowncallHandlesConcurrently() throws Throwable {
+		long cifHits = getCounter("getCifCacheHits");
+		long cifMisses = getCounter("getCifCacheMisses");
+		long argTypesHits = getCounter("getArgTypesCacheHits");
+
+		Thread[] threads = new Thread[THREAD_COUNT];
+		for (int index = 0; index < THREAD_COUNT; index++) {
+			final int value = index;
+			threads[index] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						for (int round = 0; round < ROUND_COUNT; round++) {
+							/* The linker options make distinct downcall handles for each signature,
+							 * while the prep_cif is only determined by the layouts and shared among them.
+							 */
+							Linker.Option[] options = OPTION_SETS[(value + round) % OPTION_SETS.length];
+
+							FunctionDescriptor fd1 = FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT);
+							MemorySegment functionSymbol1 = nativeLibLookup.find("add2Ints").get();
+							MethodHandle mh1 = linker.downcallHandle(functionSymbol1, fd1, options);
+							int intResult = (int)mh1.invokeExact(value, round);
+							Assert.assertEquals(intResult, value + round);
+
+							FunctionDescriptor fd2 = FunctionDescriptor.of(JAVA_LONG, JAVA_LONG, JAVA_LONG);
+							MemorySegment functionSymbol2 = nativeLibLookup.find("add2Longs").get();
+							MethodHandle mh2 = linker.downcallHandle(functionSymbol2, fd2, options);
+							long longResult = (long)mh2.invokeExact((long)value, 100000L * round);
+							Assert.assertEquals(longResult, value + (100000L * round));
+
+							FunctionDescriptor fd3 = FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE);
+							MemorySegment functionSymbol3 = nativeLibLookup.find("add2Doubles").get();
+							MethodHandle mh3 = linker.downcallHandle(functionSymbol3, fd3, options);
+							double doubleResult = (double)mh3.invokeExact(value + 0.5D, (double)round);
+							Assert.assertEquals(doubleResult, value + 0.5D + round, 0.001D);
+						}
+					} catch (Throwable t) {
+						throw new RuntimeException(t);
+					}
+				}
+			};
+			threads[index].setUncaughtExceptionHandler(this);
+		}
+
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		if (initException != null) {
+			throw new RuntimeException(initException);
+		}
+
+		/* The linker caches the downcall handle of each signature and option set, so each of them
+		 * reaches InternalDowncallHandler once. Each signature prepares its prep_cif on the first
+		 * option set and the other option sets reuse it.
+		 */
+		Assert.assertEquals(getCounter("getCifCacheMisses") - cifMisses, SIGNATURE_COUNT);
+		Assert.assertEquals(getCounter("getCifCacheHits") - cifHits, SIGNATURE_COUNT * (OPTION_SETS.length - 1));
+		Assert.assertEquals(getCounter("getArgTypesCacheHits") - argTypesHits, 0);
+	}
+}
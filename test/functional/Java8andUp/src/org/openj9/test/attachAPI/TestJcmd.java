@@ -67,8 +67,14 @@ public class TestJcmd extends AttachApiTest {
 	private static final String GC_RUN = "GC.run";
 	private static final String HELP_COMMAND = "help";
 	private static final String THREAD_PRINT = "Thread.print";
+	private static final String THREAD_ALLOCATION = "Thread.allocation";
+	private static final String COMPILER_QUEUE = "Compiler.queue";
+	private static final String COMPILER_CODECACHE = "Compiler.codecache";
+	private static final String VM_SHARED_CLASSES = "VM.shared_classes";
+	private static final String VM_MEMORY_CATEGORIES = "VM.memory_categories";
 	private static String[] JCMD_COMMANDS = {DUMP_HEAP, DUMP_JAVA, DUMP_SNAP,
-		DUMP_SYSTEM, GC_CLASS_HISTOGRAM, GC_HEAP_DUMP, GC_RUN, HELP_COMMAND, THREAD_PRINT};
+		DUMP_SYSTEM, GC_CLASS_HISTOGRAM, GC_HEAP_DUMP, GC_RUN, HELP_COMMAND, THREAD_PRINT,
+		THREAD_ALLOCATION, COMPILER_QUEUE, COMPILER_CODECACHE, VM_SHARED_CLASSES, VM_MEMORY_CATEGORIES};
 	private static String[] JCMD_COMMANDS_REQUIRE_OPTION = {GC_CLASS_HISTOGRAM, GC_RUN, HELP_COMMAND, THREAD_PRINT};
 	private static String[] JCMD_COMMANDS_DUMP = {DUMP_HEAP, DUMP_JAVA, DUMP_SNAP, DUMP_SYSTEM, GC_HEAP_DUMP};
 
@@ -186,6 +192,77 @@ public class TestJcmd extends AttachApiTest {
 		}
 	}
 
+	@Test
+	public void testThreadAllocation() throws IOException {
+		String[] options = {"", "top=1", "json"};
+		for (String option : options) {
+			List<String> args = new ArrayList<>();
+			args.add(getVmId());
+			args.add(THREAD_ALLOCATION);
+			if (!option.isEmpty()) {
+				args.add(option);
+			}
+			List<String> jcmdOutput = runCommandAndLogOutput(args);
+			String expectedString = option.equals("json") ? "\"allocated_bytes\":" : "allocated_bytes=";
+			log("Expected string: " + expectedString);
+			Optional<String> searchResult = StringUtilities.searchSubstring(expectedString, jcmdOutput);
+			assertTrue(searchResult.isPresent(), ERROR_EXPECTED_STRING_NOT_FOUND + ": " + expectedString);
+			log(EXPECTED_STRING_FOUND);
+		}
+	}
+
+	@Test
+	public void testCompilerQueue() throws IOException {
+		testValuesCommand(COMPILER_QUEUE, "queued_methods", "The JIT compiler is not available");
+	}
+
+	@Test
+	public void testCompilerCodeCache() throws IOException {
+		testValuesCommand(COMPILER_CODECACHE, "code.used_bytes", "The JIT compiler is not available");
+	}
+
+	@Test
+	public void testSharedClasses() throws IOException {
+		testValuesCommand(VM_SHARED_CLASSES, "size_bytes", "Shared classes are not enabled");
+	}
+
+	@Test
+	public void testMemoryCategories() throws IOException {
+		/* JRE is the root memory category */
+		testValuesCommand(VM_MEMORY_CATEGORIES, "jre.bytes", null);
+	}
+
+	/**
+	 * Run a command which reports values as name=value lines, and as a JSON object with the json option.
+	 *
+	 * @param command the command
+	 * @param valueName the name of a value which the command reports
+	 * @param unavailableMessage the error reported when the target VM does not have what the command
+	 * reports on, for example when the JIT is disabled, or null if the command is always available
+	 * @throws IOException on error
+	 */
+	private void testValuesCommand(String command, String valueName, String unavailableMessage) throws IOException {
+		String[] options = {"", "json"};
+		for (String option : options) {
+			List<String> args = new ArrayList<>();
+			args.add(getVmId());
+			args.add(command);
+			if (!option.isEmpty()) {
+				args.add(option);
+			}
+			List<String> jcmdOutput = runCommandAndLogOutput(args);
+			if ((null != unavailableMessage) && StringUtilities.searchSubstring(unavailableMessage, jcmdOutput).isPresent()) {
+				log(command + " is not available in the target: " + unavailableMessage);
+				continue;
+			}
+			String expectedString = option.equals("json") ? "\"" + valueName + "\":" : valueName + "=";
+			log("Expected string: " + expectedString);
+			Optional<String> searchResult = StringUtilities.searchSubstring(expectedString, jcmdOutput);
+			assertTrue(searchResult.isPresent(), ERROR_EXPECTED_STRING_NOT_FOUND + ": " + expectedString);
+			log(EXPECTED_STRING_FOUND);
+		}
+	}
+
 	@Test
 	public void testClassHistogramAll() throws IOException {
 		List<String> args = new ArrayList<>();
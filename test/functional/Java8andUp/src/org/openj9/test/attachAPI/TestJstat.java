@@ -40,6 +40,14 @@ public class TestJstat extends AttachApiTest {
 	private static final String JSTAT_COMMAND = "jstat"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS = "-class"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS_HEADER = "Class Loaded    Class Unloaded"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GCUTIL = "-gcutil"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GC = "-gc"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GCCAUSE = "-gccause"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_COMPILER = "-compiler"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_GC_TIME_HEADER = "GCT"; //$NON-NLS-1$
+	private static final List<String> JSTAT_OPTION_COMPILER_HEADER = Arrays.asList("Compiled", "Active", "Time"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final String JSTAT_INTERVAL = "100ms"; //$NON-NLS-1$
+	private static final int JSTAT_COUNT = 3;
 	Object syncObject = new Object();
 	private String vmId;
 
@@ -59,6 +67,75 @@ public class TestJstat extends AttachApiTest {
 		AssertJUnit.assertTrue(JSTAT_OPTION_CLASS_HEADER + " missing", searchResult.isPresent()); //$NON-NLS-1$
 	}
 
+	@Test
+	public void testOptionGcutilSamples() throws IOException {
+		List<String> jstatOutput = runSamples(JSTAT_OPTION_GCUTIL);
+		List<String> header = columns(jstatOutput.get(0));
+		AssertJUnit.assertTrue(JSTAT_OPTION_GC_TIME_HEADER + " missing", header.contains(JSTAT_OPTION_GC_TIME_HEADER)); //$NON-NLS-1$
+		checkRowWidths(jstatOutput, header.size());
+	}
+
+	@Test
+	public void testOptionGcSamples() throws IOException {
+		List<String> jstatOutput = runSamples(JSTAT_OPTION_GC);
+		List<String> header = columns(jstatOutput.get(0));
+		AssertJUnit.assertEquals("Wrong last column: " + header, //$NON-NLS-1$
+				JSTAT_OPTION_GC_TIME_HEADER, header.get(header.size() - 1));
+		/* a capacity and a usage column for each pool come before the collector columns */
+		int pool = 0;
+		while ((pool + 1 < header.size()) && !header.get(pool).endsWith("GC")) { //$NON-NLS-1$
+			String capacity = header.get(pool);
+			String usage = header.get(pool + 1);
+			AssertJUnit.assertTrue("Wrong pool columns: " + header, //$NON-NLS-1$
+					capacity.endsWith("C") && usage.endsWith("U") //$NON-NLS-1$ //$NON-NLS-2$
+					&& capacity.regionMatches(0, usage, 0, capacity.length() - 1));
+			pool += 2;
+		}
+		AssertJUnit.assertTrue("No pool columns: " + header, pool > 0); //$NON-NLS-1$
+		checkRowWidths(jstatOutput, header.size());
+	}
+
+	@Test
+	public void testOptionGccauseSamples() throws IOException {
+		List<String> jstatOutput = runSamples(JSTAT_OPTION_GCCAUSE);
+		List<String> header = columns(jstatOutput.get(0));
+		int width = header.size();
+		AssertJUnit.assertEquals("Wrong columns: " + header, //$NON-NLS-1$
+				Arrays.asList(JSTAT_OPTION_GC_TIME_HEADER, "LGCC", "GCC"), header.subList(width - 3, width)); //$NON-NLS-1$ //$NON-NLS-2$
+		/* the causes may contain spaces, so only the numeric columns are counted */
+		for (String row : jstatOutput.subList(1, jstatOutput.size())) {
+			AssertJUnit.assertTrue("Row too short: " + row, columns(row).size() >= width); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testOptionCompilerSamples() throws IOException {
+		List<String> jstatOutput = runSamples(JSTAT_OPTION_COMPILER);
+		AssertJUnit.assertEquals("Wrong columns", JSTAT_OPTION_COMPILER_HEADER, columns(jstatOutput.get(0))); //$NON-NLS-1$
+		checkRowWidths(jstatOutput, JSTAT_OPTION_COMPILER_HEADER.size());
+	}
+
+	/**
+	 * Sample the target JSTAT_COUNT times and check that the output is the
+	 * heading followed by one line per sample.
+	 */
+	private List<String> runSamples(String option) throws IOException {
+		List<String> jstatOutput = runCommand(Arrays.asList(option, vmId, JSTAT_INTERVAL, Integer.toString(JSTAT_COUNT)));
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		AssertJUnit.assertEquals("Wrong number of lines: " + jstatOutput, JSTAT_COUNT + 1, jstatOutput.size()); //$NON-NLS-1$
+		return jstatOutput;
+	}
+
+	private static void checkRowWidths(List<String> jstatOutput, int width) {
+		for (String row : jstatOutput.subList(1, jstatOutput.size())) {
+			AssertJUnit.assertEquals("Wrong number of columns: " + row, width, columns(row).size()); //$NON-NLS-1$
+		}
+	}
+
+	private static List<String> columns(String line) {
+		return Arrays.asList(line.trim().split("\\s+")); //$NON-NLS-1$
+	}
+
 	@BeforeSuite
 	protected void setupSuite() {
 		getJdkUtilityPath(JSTAT_COMMAND);
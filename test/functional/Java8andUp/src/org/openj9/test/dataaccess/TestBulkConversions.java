@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.dataaccess;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Checks that the array-at-a-time methods of DecimalData and PackedDecimal produce the same bytes, values and return
+ * codes as a loop over the corresponding single field methods, for fields that are strided through a byte array with
+ * filler bytes between them, and that the bounds of all the fields and values are checked before anything is
+ * converted.
+ */
+@Test(groups = { "level.sanity" })
+public class TestBulkConversions {
+
+	private static final int OFFSET = 3;
+
+	private static final int GAP = 2;
+
+	private static final int LONG_OFFSET = 2;
+
+	private static final byte FILLER = (byte) 0xA5;
+
+	private static final long[] LONG_VALUES = { 0, 1, -1, 7, -42, 12345, -987654321, Integer.MAX_VALUE,
+			Integer.MIN_VALUE, 123456789012345678L, -999999999999999999L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+	private static final int[] EXTERNAL_TYPES = { DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING,
+			DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING, DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING,
+			DecimalData.EBCDIC_SIGN_SEPARATE_LEADING };
+
+	private static final int[] BIG_DECIMAL_PRECISIONS = { 5, 18, 19, 25, 40 };
+
+	private static int packedLength(int precision) {
+		return precision / 2 + 1;
+	}
+
+	private static int externalLength(int precision, int decimalType) {
+		return (decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING
+				|| decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_LEADING) ? precision + 1 : precision;
+	}
+
+	/**
+	 * Returns a byte array for count fields stride bytes apart from OFFSET, with FILLER in the
+	 * bytes that are not part of a field, so that a bulk conversion that writes outside of its fields is detected.
+	 */
+	private static byte[] records(int stride, int count) {
+		byte[] bytes = new byte[OFFSET + stride * count + GAP];
+		Arrays.fill(bytes, FILLER);
+		return bytes;
+	}
+
+	/**
+	 * Returns the records of {@link #records(int, int)} with the fields of the given length cleared, because a
+	 * BigDecimal of more than 18 digits is stored in a Packed Decimal by writing only the bytes of its own digits.
+	 */
+	private static byte[] clearedRecords(int fieldLength, int stride, int count) {
+		byte[] bytes = records(stride, count);
+		for (int i = 0; i < count; i++) {
+			Arrays.fill(bytes, OFFSET + i * stride, OFFSET + i * stride + fieldLength, (byte) 0);
+		}
+		return bytes;
+	}
+
+	private static long[] longValues() {
+		long[] values = new long[LONG_OFFSET + LONG_VALUES.length];
+		System.arraycopy(LONG_VALUES, 0, values, LONG_OFFSET, LONG_VALUES.length);
+		return values;
+	}
+
+	/**
+	 * Returns BigDecimals of the given precision and scale, both positive and negative, including zero and values that
+	 * are shorter than the precision.
+	 */
+	private static BigDecimal[] bigDecimalValues(int precision, int scale, Random random) {
+		BigDecimal[] values = new BigDecimal[8];
+		values[0] = BigDecimal.valueOf(0, scale);
+		for (int i = 1; i < values.length; i++) {
+			int digits = 1 + random.nextInt(precision);
+			BigInteger unscaled = new BigInteger(digits * 4, random).mod(BigInteger.TEN.pow(digits));
+			if ((i % 2) == 1) {
+				unscaled = unscaled.negate();
+			}
+			values[i] = new BigDecimal(unscaled, scale);
+		}
+		return values;
+	}
+
+	public void testPackedDecimalsToLongs() {
+		for (int precision = 1; precision <= 19; precision++) {
+			int stride = packedLength(precision) + GAP;
+			int count = LONG_VALUES.length;
+			String message = "precision " + precision;
+
+			byte[] expected = records(stride, count);
+			for (int i = 0; i < count; i++) {
+				DecimalData.convertLongToPackedDecimal(LONG_VALUES[i], expected, OFFSET + i * stride, precision, false);
+			}
+			byte[] actual = records(stride, count);
+			DecimalData.convertLongsToPackedDecimals(longValues(), LONG_OFFSET, actual, OFFSET, stride, precision,
+					false, count);
+			Assert.assertEquals(actual, expected, message);
+
+			long[] results = new long[LONG_OFFSET + count];
+			DecimalData.convertPackedDecimalsToLongs(expected, OFFSET, stride, precision, false, results, LONG_OFFSET,
+					count);
+			for (int i = 0; i < count; i++) {
+				Assert.assertEquals(results[LONG_OFFSET + i],
+						DecimalData.convertPackedDecimalToLong(expected, OFFSET + i * stride, precision, false),
+						message + " value " + i);
+			}
+			for (int i = 0; i < LONG_OFFSET; i++) {
+				Assert.assertEquals(results[i], 0, message + ": nothing is stored before longOffset");
+			}
+		}
+	}
+
+	public void testExternalDecimalsToLongs() {
+		for (int decimalType : EXTERNAL_TYPES) {
+			for (int precision = 1; precision <= 19; precision++) {
+				int length = externalLength(precision, decimalType);
+				int stride = length + GAP;
+				int count = LONG_VALUES.length;
+				String message = "precision " + precision + " type " + decimalType;
+
+				byte[] expected = records(stride, count);
+				for (int i = 0; i < count; i++) {
+					DecimalData.convertLongToExternalDecimal(LONG_VALUES[i], expected, OFFSET + i * stride, precision,
+							false, decimalType);
+				}
+				byte[] actual = records(stride, count);
+				DecimalData.convertLongsToExternalDecimals(longValues(), LONG_OFFSET, actual, OFFSET, stride,
+						precision, false, decimalType, count);
+				Assert.assertEquals(actual, expected, message);
+
+				long[] results = new long[LONG_OFFSET + count];
+				DecimalData.convertExternalDecimalsToLongs(expected, OFFSET, stride, precision, false, decimalType,
+						results, LONG_OFFSET, count);
+				for (int i = 0; i < count; i++) {
+					Assert.assertEquals(results[LONG_OFFSET + i], DecimalData.convertExternalDecimalToLong(expected,
+							OFFSET + i * stride, precision, false, decimalType), message + " value " + i);
+				}
+			}
+		}
+	}
+
+	public void testPackedDecimalsToBigDecimals() {
+		Random random = new Random(17);
+		for (int precision : BIG_DECIMAL_PRECISIONS) {
+			for (int scale : new int[] { 0, 2, -3 }) {
+				BigDecimal[] values = bigDecimalValues(precision, scale, random);
+				int stride = packedLength(precision) + GAP;
+				int count = values.length;
+				String message = "precision " + precision + " scale " + scale;
+
+				byte[] expected = clearedRecords(packedLength(precision), stride, count);
+				for (int i = 0; i < count; i++) {
+					DecimalData.convertBigDecimalToPackedDecimal(values[i], expected, OFFSET + i * stride, precision,
+							true);
+				}
+				byte[] actual = clearedRecords(packedLength(precision), stride, count);
+				DecimalData.convertBigDecimalsToPackedDecimals(values, 0, actual, OFFSET, stride, precision, true,
+						count);
+				Assert.assertEquals(actual, expected, message);
+
+				BigDecimal[] results = new BigDecimal[1 + count];
+				DecimalData.convertPackedDecimalsToBigDecimals(expected, OFFSET, stride, precision, scale, true,
+						results, 1, count);
+				Assert.assertNull(results[0], message + ": nothing is stored before bigDecimalOffset");
+				for (int i = 0; i < count; i++) {
+					BigDecimal scalar = DecimalData.convertPackedDecimalToBigDecimal(expected, OFFSET + i * stride,
+							precision, scale, true);
+					Assert.assertEquals(results[1 + i], scalar, message + " value " + i);
+					Assert.assertEquals(results[1 + i], values[i], message + " value " + i);
+				}
+			}
+		}
+	}
+
+	public void testExternalDecimalsToBigDecimals() {
+		Random random = new Random(23);
+		for (int decimalType : EXTERNAL_TYPES) {
+			for (int precision : BIG_DECIMAL_PRECISIONS) {
+				int scale = 4;
+				BigDecimal[] values = bigDecimalValues(precision, scale, random);
+				int length = externalLength(precision, decimalType);
+				int stride = length + GAP;
+				int count = values.length;
+				String message = "precision " + precision + " type " + decimalType;
+
+				byte[] expected = records(stride, count);
+				for (int i = 0; i < count; i++) {
+					DecimalData.convertBigDecimalToExternalDecimal(values[i], expected, OFFSET + i * stride, precision,
+							true, decimalType);
+				}
+				byte[] actual = records(stride, count);
+				DecimalData.convertBigDecimalsToExternalDecimals(values, 0, actual, OFFSET, stride, precision, true,
+						decimalType, count);
+				Assert.assertEquals(actual, expected, message);
+
+				BigDecimal[] results = new BigDecimal[count];
+				DecimalData.convertExternalDecimalsToBigDecimals(expected, OFFSET, stride, precision, scale, true,
+						decimalType, results, 0, count);
+				for (int i = 0; i < count; i++) {
+					BigDecimal scalar = DecimalData.convertExternalDecimalToBigDecimal(expected, OFFSET + i * stride,
+							precision, scale, true, decimalType);
+					Assert.assertEquals(results[i], scalar, message + " value " + i);
+					Assert.assertEquals(results[i], values[i], message + " value " + i);
+				}
+			}
+		}
+	}
+
+	public void testCheckPackedDecimals() {
+		Random random = new Random(31);
+		for (int precision = 1; precision <= 20; precision++) {
+			int stride = packedLength(precision) + GAP;
+			int count = 32;
+			byte[] bytes = records(stride, count);
+
+			/* half of the fields are valid, the others have random digits and signs */
+			for (int i = 0; i < count; i++) {
+				int fieldOffset = OFFSET + i * stride;
+				if ((i % 2) == 0) {
+					DecimalData.convertLongToPackedDecimal(random.nextLong(), bytes, fieldOffset, precision, false);
+				} else {
+					for (int j = 0; j < packedLength(precision); j++) {
+						bytes[fieldOffset + j] = (byte) random.nextInt(256);
+					}
+				}
+			}
+
+			for (boolean ignoreHighNibble : new boolean[] { false, true }) {
+				for (boolean canOverwriteHighNibble : new boolean[] { false, true }) {
+					String message = "precision " + precision + " ignore " + ignoreHighNibble + " overwrite "
+							+ canOverwriteHighNibble;
+					byte[] expected = bytes.clone();
+					int expectedInvalid = 0;
+					int[] expectedCodes = new int[count];
+					for (int i = 0; i < count; i++) {
+						expectedCodes[i] = PackedDecimal.checkPackedDecimal(expected, OFFSET + i * stride, precision,
+								ignoreHighNibble, canOverwriteHighNibble);
+						if (expectedCodes[i] != 0) {
+							expectedInvalid++;
+						}
+					}
+
+					byte[] actual = bytes.clone();
+					int[] codes = new int[1 + count];
+					codes[0] = -1;
+					int invalid = PackedDecimal.checkPackedDecimals(actual, OFFSET, stride, precision, ignoreHighNibble,
+							canOverwriteHighNibble, codes, 1, count);
+					Assert.assertEquals(invalid, expectedInvalid, message);
+					Assert.assertEquals(Arrays.copyOfRange(codes, 1, codes.length), expectedCodes, message);
+					Assert.assertEquals(codes[0], -1, message + ": nothing is stored before returnCodesOffset");
+					Assert.assertEquals(actual, expected, message);
+				}
+			}
+		}
+	}
+
+	public void testOverflow() {
+		long[] values = { 1, 22, 333, 4444, 55555, 666 };
+		int precision = 3;
+		int stride = packedLength(precision);
+		byte[] bytes = new byte[stride * values.length];
+		try {
+			DecimalData.convertLongsToPackedDecimals(values, 0, bytes, 0, stride, precision, true, values.length);
+			Assert.fail("Expected ArithmeticException");
+		} catch (ArithmeticException e) {
+			/* expected */
+		}
+		for (int i = 0; i < 3; i++) {
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(bytes, i * stride, precision, true), values[i],
+					"The values before the overflow are stored");
+		}
+
+		byte[] packed = new byte[10 * 3];
+		DecimalData.convertLongToPackedDecimal(5, packed, 0, 19, true);
+		DecimalData.convertLongToPackedDecimal(Long.MAX_VALUE, packed, 10, 19, true);
+		Arrays.fill(packed, 20, 29, (byte) 0x99);
+		packed[29] = (byte) 0x9C;
+		long[] results = new long[3];
+		try {
+			DecimalData.convertPackedDecimalsToLongs(packed, 0, 10, 19, true, results, 0, 3);
+			Assert.fail("Expected ArithmeticException");
+		} catch (ArithmeticException e) {
+			/* expected */
+		}
+		Assert.assertEquals(results, new long[] { 5, Long.MAX_VALUE, 0 }, "The values before the overflow are stored");
+	}
+
+	public void testBounds() {
+		int precision = 9;
+		int length = packedLength(precision);
+		int stride = length + GAP;
+		int count = 4;
+		/* the last field ends exactly at the end of the array */
+		byte[] bytes = new byte[OFFSET + stride * (count - 1) + length];
+		long[] values = { 1, -2, 3, -4 };
+		BigDecimal[] bigDecimals = { BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ONE.negate() };
+		int[] codes = new int[count];
+
+		DecimalData.convertLongsToPackedDecimals(values, 0, bytes, OFFSET, stride, precision, true, count);
+		long[] results = new long[count];
+		DecimalData.convertPackedDecimalsToLongs(bytes, OFFSET, stride, precision, true, results, 0, count);
+		Assert.assertEquals(results, values);
+		Assert.assertEquals(PackedDecimal.checkPackedDecimals(bytes, OFFSET, stride, precision, false, false, codes, 0,
+				count), 0);
+
+		/* no field is accessed when count is 0, even at the end of the array */
+		DecimalData.convertLongsToPackedDecimals(values, count, bytes, bytes.length, stride, precision, true, 0);
+		DecimalData.convertPackedDecimalsToLongs(bytes, bytes.length, stride, precision, true, results, count, 0);
+
+		byte[] before = bytes.clone();
+		long[] resultsBefore = results.clone();
+
+		/* a field past the end of the byte array */
+		assertOutOfBounds(() -> DecimalData.convertLongsToPackedDecimals(values, 0, bytes, OFFSET + 1, stride,
+				precision, true, count));
+		assertOutOfBounds(() -> DecimalData.convertPackedDecimalsToLongs(bytes, OFFSET + 1, stride, precision, true,
+				results, 0, count));
+		assertOutOfBounds(() -> DecimalData.convertBigDecimalsToPackedDecimals(bigDecimals, 0, bytes, OFFSET,
+				stride + 1, precision, true, count));
+		assertOutOfBounds(() -> DecimalData.convertPackedDecimalsToBigDecimals(bytes, OFFSET, stride + 1, precision, 0,
+				true, bigDecimals, 0, count));
+		assertOutOfBounds(() -> DecimalData.convertLongsToExternalDecimals(values, 0, bytes, OFFSET, precision + 1,
+				precision, true, DecimalData.EBCDIC_SIGN_SEPARATE_LEADING, count));
+		assertOutOfBounds(() -> DecimalData.convertExternalDecimalsToLongs(bytes, OFFSET, precision + 1, precision,
+				true, DecimalData.EBCDIC_SIGN_SEPARATE_LEADING, results, 0, count));
+		assertOutOfBounds(() -> PackedDecimal.checkPackedDecimals(bytes, OFFSET + 1, stride, precision, false, true,
+				codes, 0, count));
+
+		/* a negative offset */
+		assertOutOfBounds(() -> DecimalData.convertLongsToPackedDecimals(values, 0, bytes, -1, stride, precision,
+				true, 1));
+		assertOutOfBounds(() -> DecimalData.convertPackedDecimalsToLongs(bytes, -1, stride, precision, true, results,
+				0, 1));
+		assertOutOfBounds(() -> DecimalData.convertLongsToPackedDecimals(values, -1, bytes, OFFSET, stride, precision,
+				true, 1));
+		assertOutOfBounds(() -> DecimalData.convertPackedDecimalsToLongs(bytes, OFFSET, stride, precision, true,
+				results, -1, 1));
+
+		/* too few values or results */
+		assertOutOfBounds(() -> DecimalData.convertLongsToPackedDecimals(values, 1, bytes, OFFSET, stride, precision,
+				true, count));
+		assertOutOfBounds(() -> DecimalData.convertPackedDecimalsToLongs(bytes, OFFSET, stride, precision, true,
+				results, 1, count));
+		assertOutOfBounds(() -> DecimalData.convertBigDecimalsToExternalDecimals(bigDecimals, 1, bytes, 0, 1, 1, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, count));
+		assertOutOfBounds(() -> DecimalData.convertExternalDecimalsToBigDecimals(bytes, 0, 1, 1, 0, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, bigDecimals, 1, count));
+		assertOutOfBounds(() -> PackedDecimal.checkPackedDecimals(bytes, OFFSET, stride, precision, false, true, codes,
+				1, count));
+
+		/* an overflowing index of the last field */
+		assertOutOfBounds(() -> DecimalData.convertPackedDecimalsToLongs(bytes, OFFSET, Integer.MAX_VALUE, precision,
+				true, new long[3], 0, 3));
+
+		/* a stride shorter than a field, or a negative count */
+		assertIllegalArgument(() -> DecimalData.convertLongsToPackedDecimals(values, 0, bytes, OFFSET, length - 1,
+				precision, true, count));
+		assertIllegalArgument(() -> DecimalData.convertPackedDecimalsToLongs(bytes, OFFSET, length - 1, precision,
+				true, results, 0, count));
+		assertIllegalArgument(() -> DecimalData.convertExternalDecimalsToLongs(bytes, 0, precision, precision, true,
+				DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING, results, 0, 1));
+		assertIllegalArgument(() -> PackedDecimal.checkPackedDecimals(bytes, OFFSET, length - 1, precision, false,
+				true, codes, 0, count));
+		assertIllegalArgument(() -> DecimalData.convertLongsToPackedDecimals(values, 0, bytes, OFFSET, stride,
+				precision, true, -1));
+		assertIllegalArgument(() -> DecimalData.convertPackedDecimalsToBigDecimals(bytes, OFFSET, stride, precision,
+				0, true, bigDecimals, 0, -1));
+
+		Assert.assertEquals(bytes, before, "Nothing is stored when the bounds are invalid");
+		Assert.assertEquals(results, resultsBefore, "Nothing is stored when the bounds are invalid");
+	}
+
+	private static void assertOutOfBounds(Runnable conversion) {
+		try {
+			conversion.run();
+			Assert.fail("Expected ArrayIndexOutOfBoundsException");
+		} catch (ArrayIndexOutOfBoundsException e) {
+			/* expected */
+		}
+	}
+
+	private static void assertIllegalArgument(Runnable conversion) {
+		try {
+			conversion.run();
+			Assert.fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			/* expected */
+		}
+	}
+}
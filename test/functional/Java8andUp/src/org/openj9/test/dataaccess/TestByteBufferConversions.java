@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.dataaccess;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Checks that the ByteBuffer overloads of com.ibm.dataaccess produce the same bytes and values as the byte array
+ * methods, for a heap buffer with a backing array, a read-only heap buffer and a direct buffer, which are both
+ * accessed in place, and that the bounds are checked against the limit of the buffer.
+ */
+@Test(groups = { "level.sanity" })
+public class TestByteBufferConversions {
+
+	private static final int SIZE = 64;
+
+	private static final int OFFSET = 3;
+
+	private static final long[] LONG_VALUES = { 0, 1, -1, 7, -42, 12345, -987654321, Integer.MAX_VALUE,
+			Integer.MIN_VALUE, 123456789012345678L, -999999999999999999L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+	private static final int[] EXTERNAL_TYPES = { DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING,
+			DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING, DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING,
+			DecimalData.EBCDIC_SIGN_SEPARATE_LEADING };
+
+	/**
+	 * The buffers under test, each of SIZE bytes: a heap buffer, a heap buffer sliced so that its array offset is
+	 * not 0, and a direct buffer with little endian order, so that byte order of the buffer is known to be ignored.
+	 */
+	private static ByteBuffer[] writableBuffers() {
+		ByteBuffer sliced = ByteBuffer.allocate(SIZE + 5);
+		sliced.position(5);
+		sliced = sliced.slice();
+		ByteBuffer direct = ByteBuffer.allocateDirect(SIZE);
+		direct.order(ByteOrder.LITTLE_ENDIAN);
+		return new ByteBuffer[] { ByteBuffer.allocate(SIZE), sliced, direct };
+	}
+
+	/**
+	 * The buffers to read from, holding a copy of bytes: the writable buffers plus a read-only heap buffer, which has
+	 * no accessible array.
+	 */
+	private static ByteBuffer[] readableBuffers(byte[] bytes) {
+		ByteBuffer[] writable = writableBuffers();
+		ByteBuffer[] buffers = new ByteBuffer[writable.length + 1];
+		for (int i = 0; i < writable.length; i++) {
+			buffers[i] = fill(writable[i], bytes);
+		}
+		buffers[writable.length] = fill(ByteBuffer.allocate(SIZE), bytes).asReadOnlyBuffer();
+		return buffers;
+	}
+
+	private static ByteBuffer fill(ByteBuffer buffer, byte[] bytes) {
+		for (int i = 0; i < bytes.length; i++) {
+			buffer.put(i, bytes[i]);
+		}
+		return buffer;
+	}
+
+	private static byte[] contents(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.capacity()];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = buffer.get(i);
+		}
+		return bytes;
+	}
+
+	private static String describe(ByteBuffer buffer) {
+		return (buffer.isDirect() ? "direct" : buffer.isReadOnly() ? "read-only heap" : "heap") + " buffer";
+	}
+
+	public void testMarshallerRoundTrip() {
+		for (boolean bigEndian : new boolean[] { true, false }) {
+			for (long value : LONG_VALUES) {
+				byte[] expected = new byte[SIZE];
+				ByteArrayMarshaller.writeShort((short) value, expected, OFFSET, bigEndian);
+				ByteArrayMarshaller.writeInt((int) value, expected, OFFSET + 2, bigEndian);
+				ByteArrayMarshaller.writeLong(value, expected, OFFSET + 6, bigEndian);
+				ByteArrayMarshaller.writeFloat(value, expected, OFFSET + 14, bigEndian);
+				ByteArrayMarshaller.writeDouble(value, expected, OFFSET + 18, bigEndian);
+				ByteArrayMarshaller.writeShort((short) value, expected, OFFSET + 26, bigEndian, 1);
+				ByteArrayMarshaller.writeInt((int) value, expected, OFFSET + 27, bigEndian, 3);
+				ByteArrayMarshaller.writeLong(value, expected, OFFSET + 30, bigEndian, 5);
+
+				for (ByteBuffer buffer : writableBuffers()) {
+					ByteArrayMarshaller.writeShort((short) value, buffer, OFFSET, bigEndian);
+					ByteArrayMarshaller.writeInt((int) value, buffer, OFFSET + 2, bigEndian);
+					ByteArrayMarshaller.writeLong(value, buffer, OFFSET + 6, bigEndian);
+					ByteArrayMarshaller.writeFloat(value, buffer, OFFSET + 14, bigEndian);
+					ByteArrayMarshaller.writeDouble(value, buffer, OFFSET + 18, bigEndian);
+					ByteArrayMarshaller.writeShort((short) value, buffer, OFFSET + 26, bigEndian, 1);
+					ByteArrayMarshaller.writeInt((int) value, buffer, OFFSET + 27, bigEndian, 3);
+					ByteArrayMarshaller.writeLong(value, buffer, OFFSET + 30, bigEndian, 5);
+					Assert.assertEquals(contents(buffer), expected, describe(buffer) + " " + value);
+					Assert.assertEquals(buffer.position(), 0, describe(buffer));
+				}
+
+				for (ByteBuffer buffer : readableBuffers(expected)) {
+					String message = describe(buffer) + " " + value;
+					Assert.assertEquals(ByteArrayUnmarshaller.readShort(buffer, OFFSET, bigEndian), (short) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readInt(buffer, OFFSET + 2, bigEndian), (int) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readLong(buffer, OFFSET + 6, bigEndian), value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readFloat(buffer, OFFSET + 14, bigEndian), (float) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readDouble(buffer, OFFSET + 18, bigEndian), (double) value, message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readShort(buffer, OFFSET + 26, bigEndian, 1, true),
+							ByteArrayUnmarshaller.readShort(expected, OFFSET + 26, bigEndian, 1, true), message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readInt(buffer, OFFSET + 27, bigEndian, 3, false),
+							ByteArrayUnmarshaller.readInt(expected, OFFSET + 27, bigEndian, 3, false), message);
+					Assert.assertEquals(ByteArrayUnmarshaller.readLong(buffer, OFFSET + 30, bigEndian, 5, true),
+							ByteArrayUnmarshaller.readLong(expected, OFFSET + 30, bigEndian, 5, true), message);
+				}
+			}
+		}
+	}
+
+	public void testPackedDecimalRoundTrip() {
+		for (int precision = 1; precision <= 19; precision++) {
+			for (long value : LONG_VALUES) {
+				byte[] expected = new byte[SIZE];
+				DecimalData.convertLongToPackedDecimal(value, expected, OFFSET, precision, false);
+				DecimalData.convertIntegerToPackedDecimal((int) value, expected, OFFSET + 12, precision, false);
+
+				for (ByteBuffer buffer : writableBuffers()) {
+					DecimalData.convertLongToPackedDecimal(value, buffer, OFFSET, precision, false);
+					DecimalData.convertIntegerToPackedDecimal((int) value, buffer, OFFSET + 12, precision, false);
+					Assert.assertEquals(contents(buffer), expected, describe(buffer) + " " + value + " " + precision);
+				}
+
+				for (ByteBuffer buffer : readableBuffers(expected)) {
+					String message = describe(buffer) + " " + value + " " + precision;
+					Assert.assertEquals(DecimalData.convertPackedDecimalToLong(buffer, OFFSET, precision, false),
+							DecimalData.convertPackedDecimalToLong(expected, OFFSET, precision, false), message);
+					Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(buffer, OFFSET + 12, precision, false),
+							DecimalData.convertPackedDecimalToInteger(expected, OFFSET + 12, precision, false), message);
+				}
+			}
+		}
+	}
+
+	public void testExternalDecimalRoundTrip() {
+		for (int decimalType : EXTERNAL_TYPES) {
+			for (int precision = 1; precision <= 19; precision++) {
+				for (long value : LONG_VALUES) {
+					byte[] expected = new byte[SIZE];
+					DecimalData.convertLongToExternalDecimal(value, expected, OFFSET, precision, false, decimalType);
+					DecimalData.convertIntegerToExternalDecimal((int) value, expected, OFFSET + 21, precision, false,
+							decimalType);
+
+					for (ByteBuffer buffer : writableBuffers()) {
+						DecimalData.convertLongToExternalDecimal(value, buffer, OFFSET, precision, false, decimalType);
+						DecimalData.convertIntegerToExternalDecimal((int) value, buffer, OFFSET + 21, precision, false,
+								decimalType);
+						Assert.assertEquals(contents(buffer), expected, describe(buffer) + " " + value);
+					}
+
+					for (ByteBuffer buffer : readableBuffers(expected)) {
+						String message = describe(buffer) + " " + value + " " + precision + " " + decimalType;
+						Assert.assertEquals(
+								DecimalData.convertExternalDecimalToLong(buffer, OFFSET, precision, false, decimalType),
+								DecimalData.convertExternalDecimalToLong(expected, OFFSET, precision, false, decimalType),
+								message);
+						Assert.assertEquals(
+								DecimalData.convertExternalDecimalToInteger(buffer, OFFSET + 21, precision, false,
+										decimalType),
+								DecimalData.convertExternalDecimalToInteger(expected, OFFSET + 21, precision, false,
+										decimalType),
+								message);
+					}
+				}
+			}
+		}
+	}
+
+	public void testBigDecimalRoundTrip() {
+		BigDecimal[] values = { new BigDecimal("123.45"), new BigDecimal("-98765432109876.54"),
+				new BigDecimal("1234567890123456789012.345"), new BigDecimal("-9999999999999999999999999") };
+		for (BigDecimal value : values) {
+			int precision = 25;
+			for (ByteBuffer buffer : writableBuffers()) {
+				DecimalData.convertBigDecimalToPackedDecimal(value, buffer, OFFSET, precision, true);
+				DecimalData.convertBigDecimalToExternalDecimal(value, buffer, OFFSET + 20, precision, true,
+						DecimalData.EBCDIC_SIGN_SEPARATE_LEADING);
+				String message = describe(buffer) + " " + value;
+				Assert.assertEquals(
+						DecimalData.convertPackedDecimalToBigDecimal(buffer, OFFSET, precision, value.scale(), true),
+						value, message);
+				Assert.assertEquals(DecimalData.convertExternalDecimalToBigDecimal(buffer, OFFSET + 20, precision,
+						value.scale(), true, DecimalData.EBCDIC_SIGN_SEPARATE_LEADING), value, message);
+			}
+		}
+	}
+
+	public void testBulkConversions() {
+		int precision = 9;
+		int stride = 7;
+		long[] values = { 0, 1, -1, 123456789, -123456789, 42, -7 };
+
+		byte[] packed = new byte[SIZE];
+		DecimalData.convertLongsToPackedDecimals(values, 0, packed, OFFSET, stride, precision, true, values.length);
+		byte[] external = new byte[SIZE + 16];
+		int externalStride = 10;
+		DecimalData.convertLongsToExternalDecimals(values, 0, external, 0, externalStride, precision, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, values.length);
+
+		for (ByteBuffer buffer : writableBuffers()) {
+			DecimalData.convertLongsToPackedDecimals(values, 0, buffer, OFFSET, stride, precision, true, values.length);
+			Assert.assertEquals(contents(buffer), packed, describe(buffer));
+
+			long[] results = new long[values.length];
+			DecimalData.convertPackedDecimalsToLongs(buffer, OFFSET, stride, precision, true, results, 0,
+					values.length);
+			Assert.assertEquals(results, values, describe(buffer));
+		}
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(external.length);
+		DecimalData.convertLongsToExternalDecimals(values, 0, direct, 0, externalStride, precision, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, values.length);
+		Assert.assertEquals(contents(direct), external);
+		long[] results = new long[values.length];
+		DecimalData.convertExternalDecimalsToLongs(direct, 0, externalStride, precision, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, results, 0, values.length);
+		Assert.assertEquals(results, values);
+	}
+
+	public void testOverflow() {
+		for (ByteBuffer buffer : writableBuffers()) {
+			try {
+				DecimalData.convertLongToPackedDecimal(123456, buffer, OFFSET, 5, true);
+				Assert.fail("Expected ArithmeticException for " + describe(buffer));
+			} catch (ArithmeticException e) {
+				/* expected */
+			}
+			Assert.assertEquals(contents(buffer), new byte[SIZE], "Nothing is stored on overflow");
+
+			DecimalData.convertLongToPackedDecimal(Long.MAX_VALUE, buffer, OFFSET, 19, true);
+			try {
+				DecimalData.convertPackedDecimalToInteger(buffer, OFFSET, 19, true);
+				Assert.fail("Expected ArithmeticException for " + describe(buffer));
+			} catch (ArithmeticException e) {
+				/* expected */
+			}
+		}
+	}
+
+	public void testBounds() {
+		for (ByteBuffer buffer : writableBuffers()) {
+			String message = describe(buffer);
+			buffer.limit(SIZE - 8);
+			int pastLimit = SIZE - 10;
+
+			assertOutOfBounds(() -> ByteArrayMarshaller.writeLong(1, buffer, pastLimit, true), message);
+			assertOutOfBounds(() -> ByteArrayMarshaller.writeInt(1, buffer, -1, true, 2), message);
+			assertOutOfBounds(() -> ByteArrayUnmarshaller.readInt(buffer, pastLimit, false), message);
+			assertOutOfBounds(() -> ByteArrayUnmarshaller.readLong(buffer, pastLimit, false, 3, true), message);
+			assertOutOfBounds(() -> DecimalData.convertLongToPackedDecimal(1, buffer, pastLimit, 9, true), message);
+			assertOutOfBounds(() -> DecimalData.convertPackedDecimalToLong(buffer, -1, 9, true), message);
+			assertOutOfBounds(() -> DecimalData.convertIntegerToExternalDecimal(1, buffer, pastLimit, 5, true,
+					DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING), message);
+			assertOutOfBounds(() -> DecimalData.convertExternalDecimalToInteger(buffer, pastLimit, 5, true,
+					DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING), message);
+			assertOutOfBounds(() -> DecimalData.convertLongsToPackedDecimals(new long[3], 0, buffer, 40, 10, 9, true,
+					3), message);
+
+			/* the last field ends exactly at the limit */
+			DecimalData.convertLongToPackedDecimal(-5, buffer, buffer.limit() - 5, 9, true);
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(buffer, buffer.limit() - 5, 9, true), -5);
+
+			buffer.limit(SIZE);
+			byte[] expected = new byte[SIZE];
+			DecimalData.convertLongToPackedDecimal(-5, expected, SIZE - 13, 9, true);
+			Assert.assertEquals(contents(buffer), expected, message + ": nothing is stored out of bounds");
+		}
+	}
+
+	public void testReadOnly() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(SIZE).asReadOnlyBuffer();
+		assertReadOnly(() -> ByteArrayMarshaller.writeInt(1, buffer, 0, true));
+		assertReadOnly(() -> ByteArrayMarshaller.writeLong(1, buffer, 0, true, 3));
+		assertReadOnly(() -> DecimalData.convertIntegerToPackedDecimal(1, buffer, 0, 5, true));
+		assertReadOnly(() -> DecimalData.convertLongToExternalDecimal(1, buffer, 0, 5, true,
+				DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING));
+	}
+
+	private static void assertOutOfBounds(Runnable conversion, String message) {
+		try {
+			conversion.run();
+			Assert.fail("Expected IndexOutOfBoundsException for " + message);
+		} catch (IndexOutOfBoundsException e) {
+			/* expected */
+		}
+	}
+
+	private static void assertReadOnly(Runnable conversion) {
+		try {
+			conversion.run();
+			Assert.fail("Expected ReadOnlyBufferException");
+		} catch (ReadOnlyBufferException e) {
+			/* expected */
+		}
+	}
+}
@@ -24,6 +24,9 @@ package org.openj9.test.reflect;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.testng.log4testng.Logger;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.openj9.test.reflect.defendersupersends.asm.AsmLoader;
 import org.openj9.test.reflect.defendersupersends.asm.AsmTestcaseGenerator;
 import org.testng.Assert;
@@ -31,11 +34,13 @@ import org.testng.AssertJUnit;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import org.openj9.resources.reflect.B;
+import org.openj9.test.util.JavaAgent;
 
 public class GetMethodsTests {
 	/* contrived method names which have the same String.hashCode(). */
@@ -81,6 +86,87 @@ public class GetMethodsTests {
 
 	}
 
+	@Test(groups = { "level.sanity", "j9vm_SE80" })
+	public void testGetMethodsRepeated() throws ClassNotFoundException {
+		HashMap<String, String[]> methodLists = makeMethodLists();
+		/* the second pass reuses the interface method sets found by the first */
+		for (int pass = 1; pass <= 2; ++pass) {
+			long startTime = System.nanoTime();
+			for (String className : methodLists.keySet()) {
+				@SuppressWarnings("rawtypes") Class testClass = loader.loadClass(className);
+				AssertJUnit.assertEquals("wrong methods list for " + className, //$NON-NLS-1$
+						Arrays.asList(methodLists.get(className)), Arrays.asList(getSortedMethodList(testClass)));
+			}
+			logger.debug("pass " + pass + " took " + (System.nanoTime() - startTime) / 1000 + " us"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	@Test(groups = { "level.sanity", "j9vm_SE80" })
+	public void testGetMethodsReturnsCopies() {
+		Method[] firstMethods = CImplements_I_J.class.getMethods();
+		Method[] secondMethods = CImplements_I_J.class.getMethods();
+		for (Method firstMethod : firstMethods) {
+			for (Method secondMethod : secondMethods) {
+				Assert.assertNotSame(firstMethod, secondMethod, "Method shared by getMethods() calls"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	@Test(groups = { "level.sanity", "j9vm_SE80" })
+	@SuppressWarnings("deprecation")
+	public void testGetMethodReturnsCopies() throws NoSuchMethodException {
+		/* found in the interface method sets of a class and of an interface */
+		Method[] firstMethods = {
+				CImplements_I_J.class.getMethod("m"), //$NON-NLS-1$
+				I_SupDuper_SupA.class.getMethod("defaultInSuperA_defaultInSuperDuper") //$NON-NLS-1$
+		};
+		Method[] secondMethods = {
+				CImplements_I_J.class.getMethod("m"), //$NON-NLS-1$
+				I_SupDuper_SupA.class.getMethod("defaultInSuperA_defaultInSuperDuper") //$NON-NLS-1$
+		};
+		List<Method> allMethods = new ArrayList<>();
+		allMethods.addAll(Arrays.asList(CImplements_I_J.class.getMethods()));
+		allMethods.addAll(Arrays.asList(I_SupDuper_SupA.class.getMethods()));
+		for (int i = 0; i < firstMethods.length; ++i) {
+			Assert.assertEquals(firstMethods[i], secondMethods[i]);
+			Assert.assertNotSame(firstMethods[i], secondMethods[i], "Method shared by getMethod() calls"); //$NON-NLS-1$
+			for (Method method : allMethods) {
+				Assert.assertNotSame(firstMethods[i], method, "Method shared by getMethod() and getMethods()"); //$NON-NLS-1$
+			}
+			firstMethods[i].setAccessible(true);
+			Assert.assertFalse(secondMethods[i].isAccessible(), "setAccessible() changed another Method"); //$NON-NLS-1$
+		}
+	}
+
+	/* run with -javaagent and -Xint, which lets a redefinition add methods */
+	@Test(groups = { "level.sanity" })
+	public void testGetMethodsAfterRedefiningSuperinterface() throws Exception {
+		String addedMethod = I_Redefined.class.getName() + ".added()void"; //$NON-NLS-1$
+		/* populate the interface method set of the subclass before the redefinition */
+		AssertJUnit.assertFalse("method found before redefinition", //$NON-NLS-1$
+				Arrays.asList(getSortedMethodList(CImplements_I_Redefined.class)).contains(addedMethod));
+		JavaAgent.redefineClass(I_Redefined.class, makeRedefinedInterface());
+		AssertJUnit.assertTrue("default method missing after redefinition", //$NON-NLS-1$
+				Arrays.asList(getSortedMethodList(CImplements_I_Redefined.class)).contains(addedMethod));
+		AssertJUnit.assertEquals("wrong declaring class", I_Redefined.class, //$NON-NLS-1$
+				CImplements_I_Redefined.class.getMethod("added").getDeclaringClass()); //$NON-NLS-1$
+	}
+
+	/* I_Redefined with an added default method "void added()" */
+	private static byte[] makeRedefinedInterface() {
+		ClassWriter cw = new ClassWriter(0);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC + Opcodes.ACC_INTERFACE + Opcodes.ACC_ABSTRACT,
+				I_Redefined.class.getName().replace('.', '/'), null, "java/lang/Object", null); //$NON-NLS-1$
+		cw.visitMethod(Opcodes.ACC_PUBLIC + Opcodes.ACC_ABSTRACT, "m", "()V", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "added", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		mv.visitCode();
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 1);
+		mv.visitEnd();
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
 	private static String concatenateStrings(String message, Iterable<String> stringList) {
 		StringBuilder nameBuffer = new StringBuilder(message);
 		for (String s: stringList) {
@@ -26,6 +26,7 @@ import org.testng.log4testng.Logger;
 import org.testng.Assert;
 import org.testng.AssertJUnit;
 import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
 
 @Test(groups = { "level.sanity" })
 public class StringInterning {
@@ -79,6 +80,32 @@ public class StringInterning {
 
 	}
 
+	public class internEqualStrings extends Thread {
+		private final String prefix;
+		private final CountDownLatch startSignal;
+		final String[] interned;
+
+		public internEqualStrings(String prefix, int count, CountDownLatch startSignal) {
+			super();
+			this.prefix = prefix;
+			this.startSignal = startSignal;
+			interned = new String[count];
+		}
+
+		@Override
+		public void run() {
+			try {
+				startSignal.await();
+			} catch (InterruptedException e) {
+				return;
+			}
+			for (int i = 0; i < interned.length; i++) {
+				/* a new String each time, so that only intern() can make them identical */
+				interned[i] = new StringBuilder(prefix).append(i).toString().intern();
+			}
+		}
+	}
+
 	String head = "head", tail = "tail";
 	String salt;
 
@@ -209,4 +236,49 @@ public class StringInterning {
 
 	}
 
+	private internEqualStrings[] internFromThreads(String prefix, int numThreads, int numStrings) {
+		CountDownLatch startSignal = new CountDownLatch(1);
+		internEqualStrings[] threads = new internEqualStrings[numThreads];
+		for (int t = 0; t < numThreads; t++) {
+			threads[t] = new internEqualStrings(prefix, numStrings, startSignal);
+			threads[t].start();
+		}
+		/* release all the threads at once so that they race to intern the same strings */
+		startSignal.countDown();
+		try {
+			for (int t = 0; t < numThreads; t++) {
+				threads[t].join();
+			}
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			Assert.fail("exception in internEqualStrings");
+		}
+		return threads;
+	}
+
+	public void testConcurrentInterningOfEqualStrings() {
+		final int numThreads = 8;
+		/* more strings than the intern cache has slots, so that some lookups miss the cache */
+		final int numStrings = 5000;
+		String prefix = "testConcurrentInterningOfEqualStrings";
+
+		internEqualStrings[] threads = internFromThreads(prefix, numThreads, numStrings);
+		String[] expected = threads[0].interned;
+		for (int t = 1; t < numThreads; t++) {
+			for (int i = 0; i < numStrings; i++) {
+				AssertJUnit.assertEquals(prefix + i, threads[t].interned[i]);
+				AssertJUnit.assertSame("thread " + t + " string " + i, expected[i], threads[t].interned[i]);
+			}
+		}
+
+		/* the interned strings are still referenced, so they must survive the GC and be found again */
+		System.gc();
+		threads = internFromThreads(prefix, numThreads, numStrings);
+		for (int t = 0; t < numThreads; t++) {
+			for (int i = 0; i < numStrings; i++) {
+				AssertJUnit.assertSame("after GC thread " + t + " string " + i, expected[i], threads[t].interned[i]);
+			}
+		}
+	}
+
 }
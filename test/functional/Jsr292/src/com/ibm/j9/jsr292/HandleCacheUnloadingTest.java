@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.j9.jsr292;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Test that the handle caches of a long-lived class do not keep a class loader
+ * alive once the handles that refer to its classes have been collected, when
+ * the caches are only read from afterwards.
+ */
+public class HandleCacheUnloadingTest {
+	private static final MethodType toStringType = MethodType.methodType(String.class);
+
+	/**
+	 * Look up a findSpecial handle on Object using a lookup class from a custom loader,
+	 * so that the key in the special cache of Object holds that class as its special caller.
+	 */
+	private static WeakReference<ClassLoader> lookUpFromCustomLoader() throws Throwable {
+		ParentCustomClassLoader loader = new ParentCustomClassLoader(HandleCacheUnloadingTest.class.getClassLoader());
+		ICustomLoadedClass customLoadedClass = (ICustomLoadedClass)loader.loadClass("com.ibm.j9.jsr292.CustomLoadedClass1").newInstance();
+		Lookup lookup = customLoadedClass.getLookup();
+		MethodHandle mh = lookup.findSpecial(Object.class, "toString", toStringType, lookup.lookupClass());
+		AssertJUnit.assertTrue(((String)mh.invoke(customLoadedClass)).startsWith("com.ibm.j9.jsr292.CustomLoadedClass1@"));
+		/* a second lookup is served from the cache */
+		AssertJUnit.assertSame(mh, lookup.findSpecial(Object.class, "toString", toStringType, lookup.lookupClass()));
+		return new WeakReference<ClassLoader>(loader);
+	}
+
+	@Test(groups = { "level.extended" })
+	public void test_ReadOnlyCache_ReleasesClassLoader() throws Throwable {
+		WeakReference<ClassLoader> loaderRef = lookUpFromCustomLoader();
+		Lookup lookup = MethodHandles.lookup();
+		for (int i = 0; (i < 50) && (loaderRef.get() != null); i++) {
+			System.gc();
+			Thread.sleep(100);
+			/* only read the caches of Object, both the special cache and another one */
+			lookup.findSpecial(Object.class, "toString", toStringType, HandleCacheUnloadingTest.class);
+			lookup.findVirtual(Object.class, "hashCode", MethodType.methodType(int.class));
+		}
+		AssertJUnit.assertNull("class loader referenced from the handle cache was not collected", loaderRef.get());
+	}
+}
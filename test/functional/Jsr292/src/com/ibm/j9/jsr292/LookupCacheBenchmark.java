@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.j9.jsr292;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+/**
+ * Measure the throughput of Lookup.findVirtual(), findStatic() and findGetter()
+ * when several threads look up handles on the same class, which is served from
+ * the per-class handle cache after the first lookup.
+ *
+ * This is not part of the test suites. It can be run as a TestNG test or standalone,
+ * e.g. java com.ibm.j9.jsr292.LookupCacheBenchmark [threads] [seconds], and the
+ * result compared between builds.
+ */
+public class LookupCacheBenchmark {
+
+	private static final MethodType ADD_TYPE = MethodType.methodType(int.class, int.class, int.class);
+
+	@Test
+	public void testLookupThroughput() throws Throwable {
+		int threads = Runtime.getRuntime().availableProcessors();
+		/* warm up, then measure */
+		run(threads, 2);
+		long lookups = run(threads, 5);
+		AssertJUnit.assertTrue(lookups > 0);
+	}
+
+	/**
+	 * @param threads number of threads doing lookups
+	 * @param seconds how long to run for
+	 * @return the number of lookups done
+	 */
+	private static long run(int threads, int seconds) throws Throwable {
+		final Lookup lookup = MethodHandles.lookup();
+		final AtomicLong total = new AtomicLong();
+		final CountDownLatch start = new CountDownLatch(1);
+		final long duration = seconds * 1000000000L;
+		final Throwable[] failure = new Throwable[1];
+		Thread[] workers = new Thread[threads];
+
+		for (int i = 0; i < threads; i++) {
+			workers[i] = new Thread("LookupCacheBenchmark-" + i) {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						long count = 0;
+						long end = System.nanoTime() + duration;
+						while (System.nanoTime() < end) {
+							for (int j = 0; j < 100; j++) {
+								MethodHandle virtual = lookup.findVirtual(SamePackageExample.class, "addPublic", ADD_TYPE);
+								MethodHandle statik = lookup.findStatic(SamePackageExample.class, "addPublicStatic", ADD_TYPE);
+								MethodHandle getter = lookup.findGetter(SamePackageExample.class, "nonStaticPublicField", int.class);
+								if ((virtual == null) || (statik == null) || (getter == null)) {
+									throw new AssertionError("lookup returned null");
+								}
+							}
+							count += 300;
+						}
+						total.addAndGet(count);
+					} catch (Throwable t) {
+						synchronized (failure) {
+							failure[0] = t;
+						}
+					}
+				}
+			};
+			workers[i].start();
+		}
+
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		synchronized (failure) {
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+
+		long lookups = total.get();
+		System.out.println(threads + " threads: " + (lookups / seconds) + " lookups/s");
+		return lookups;
+	}
+
+	public static void main(String[] args) throws Throwable {
+		int threads = (args.length > 0) ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+		int seconds = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+		for (int i = 1; i <= threads; i *= 2) {
+			run(i, 2);
+			run(i, seconds);
+		}
+	}
+}
@@ -738,5 +738,16 @@ public class TraceAPISecurityTests extends TestCase {
 		}
 	}
 
-	
+	public void testIsEnabledBlocked() {
+		/* isEnabled() was added after Java 8, so the legacy property doesn't disable its check. */
+		System.setProperty("com.ibm.jvm.enableLegacyTraceSecurity", FALSE.toString());
+
+		try {
+			Trace.isEnabled(1, 0);
+			fail("Expected SecurityException to be thrown");
+		} catch (SecurityException e) {
+			/* Pass */
+		}
+	}
+
 }
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.trace.tests.apptrace;
+
+import junit.framework.TestCase;
+import com.ibm.jvm.Trace;
+
+/**
+ * Checks that Trace.isEnabled() follows the trace point states set by Trace.set(),
+ * and that trace() returns early only for valid trace points which are disabled.
+ */
+public class TestTracePointStates extends TestCase {
+
+	static final String[] TEMPLATES = new String[3];
+	static {
+		TEMPLATES[0] = Trace.EVENT;
+		TEMPLATES[1] = Trace.EVENT + "Tracepoint #1 ";
+		TEMPLATES[2] = Trace.EVENT + "Tracepoint #2 insert1=%s";
+	}
+
+	public void testIsEnabledFollowsSet() {
+		int handle = Trace.registerApplication("TestIsEnabledFollowsSet", TEMPLATES);
+		assertTrue("Expected a valid handle", handle > 0);
+
+		assertFalse("Expected tracepoint 1 to be disabled by default", Trace.isEnabled(handle, 1));
+		assertFalse("Expected tracepoint 2 to be disabled by default", Trace.isEnabled(handle, 2));
+
+		assertEquals(0, Trace.set("print=TestIsEnabledFollowsSet.1"));
+		assertTrue("Expected tracepoint 1 to be enabled", Trace.isEnabled(handle, 1));
+		assertFalse("Expected tracepoint 2 to stay disabled", Trace.isEnabled(handle, 2));
+
+		assertEquals(0, Trace.set("print=TestIsEnabledFollowsSet"));
+		assertTrue("Expected tracepoint 2 to be enabled", Trace.isEnabled(handle, 2));
+
+		assertEquals(0, Trace.set("none=TestIsEnabledFollowsSet"));
+		assertFalse("Expected tracepoint 1 to be disabled", Trace.isEnabled(handle, 1));
+		assertFalse("Expected tracepoint 2 to be disabled", Trace.isEnabled(handle, 2));
+	}
+
+	public void testIsEnabledInvalidArguments() {
+		int handle = Trace.registerApplication("TestIsEnabledInvalidArguments", TEMPLATES);
+		assertTrue("Expected a valid handle", handle > 0);
+		assertEquals(0, Trace.set("print=TestIsEnabledInvalidArguments"));
+
+		assertFalse(Trace.isEnabled(handle, -1));
+		assertFalse(Trace.isEnabled(handle, TEMPLATES.length));
+		assertFalse(Trace.isEnabled(-1, 1));
+		assertFalse(Trace.isEnabled(0, 1));
+		assertFalse(Trace.isEnabled(handle + 1000, 1));
+
+		assertEquals(0, Trace.set("none=TestIsEnabledInvalidArguments"));
+	}
+
+	public void testDisabledTracePointSkipsArgumentChecks() {
+		int handle = Trace.registerApplication("TestDisabledTracePoint", TEMPLATES);
+		assertTrue("Expected a valid handle", handle > 0);
+
+		/* Neither call reaches the native while the trace points are disabled. */
+		Trace.trace(handle, 1, "unexpected argument");
+		Trace.trace(handle, 2, (String)null);
+
+		assertEquals(0, Trace.set("print=TestDisabledTracePoint"));
+		try {
+			Trace.trace(handle, 1, "unexpected argument");
+			fail("Expected IllegalArgumentException for the wrong number of arguments");
+		} catch (IllegalArgumentException e) {
+			// Pass
+		}
+		try {
+			Trace.trace(handle, 2, (String)null);
+			fail("Expected NullPointerException for a null argument");
+		} catch (NullPointerException e) {
+			// Pass
+		}
+		Trace.trace(handle, 2, "enabled");
+
+		assertEquals(0, Trace.set("none=TestDisabledTracePoint"));
+		Trace.trace(handle, 1, "unexpected argument");
+	}
+
+	public void testInvalidTracePointStillReported() {
+		int handle = Trace.registerApplication("TestInvalidTracePoint", TEMPLATES);
+		assertTrue("Expected a valid handle", handle > 0);
+
+		try {
+			Trace.trace(handle, TEMPLATES.length);
+			fail("Expected IllegalArgumentException for a trace id out of range");
+		} catch (IllegalArgumentException e) {
+			// Pass
+		}
+		try {
+			Trace.trace(handle + 1000, 1);
+			fail("Expected IllegalArgumentException for an invalid handle");
+		} catch (IllegalArgumentException e) {
+			// Pass
+		}
+	}
+
+}
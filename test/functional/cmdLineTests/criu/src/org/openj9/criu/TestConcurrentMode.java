@@ -23,16 +23,25 @@ package org.openj9.criu;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.openj9.criu.CRIUSupport;
 import org.eclipse.openj9.criu.JVMCheckpointException;
 
+import openj9.internal.criu.InternalCRIUSupport;
+
 public class TestConcurrentMode {
 
 	private static final int USER_HOOK_MODE_PRIORITY_LOW = 1;
 	private static final int USER_HOOK_MODE_PRIORITY_HIGH = 2;
+	// the number of CONCURRENT_MODE hooks registered with the same priority
+	private static final int SAME_PRIORITY_HOOKS = 4;
 
 	public static void main(String[] args) {
 		if (args.length == 0) {
@@ -65,6 +74,15 @@ public class TestConcurrentMode {
 			case "TestConcurrentModePostRestoreHookPriorities":
 				TestConcurrentModePostRestoreHookPriorities();
 				break;
+			case "TestConcurrentModePreCheckpointHookSamePriority":
+				TestConcurrentModePreCheckpointHookSamePriority();
+				break;
+			case "TestConcurrentModePostRestoreHookPriorityBarrier":
+				TestConcurrentModePostRestoreHookPriorityBarrier();
+				break;
+			case "TestConcurrentModePreCheckpointHookSuppressedExceptions":
+				TestConcurrentModePreCheckpointHookSuppressedExceptions();
+				break;
 			default:
 				throw new RuntimeException("Incorrect test name");
 			}
@@ -268,4 +286,130 @@ public class TestConcurrentMode {
 			System.out.println("TestConcurrentModePostRestoreHookPriorities() FAILED");
 		}
 	}
+
+	// concurrent-threaded preCheckpointHooks with the same priority run at the same time on different threads
+	static void TestConcurrentModePreCheckpointHookSamePriority() {
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSamePriority() starts ..");
+		CRIUSupport criu = CRIUTestUtils.prepareCheckPointJVM(CRIUTestUtils.imagePath);
+		final TestResult testResult = new TestResult(true, 0);
+		// each hook waits for all of the others, which only finishes if they run at the same time
+		final CyclicBarrier allStarted = new CyclicBarrier(SAME_PRIORITY_HOOKS);
+		for (int i = 0; i < SAME_PRIORITY_HOOKS; i++) {
+			criu.registerPreCheckpointHook(() -> {
+				try {
+					allStarted.await(30, TimeUnit.SECONDS);
+					testResult.lockStatus.incrementAndGet();
+				} catch (Exception e) {
+					testResult.testPassed = false;
+					CRIUTestUtils.showThreadCurrentTime("The preCheckpointHook in CONCURRENT_MODE did not run at the same time as the others: " + e);
+				}
+			}, CRIUSupport.HookMode.CONCURRENT_MODE, USER_HOOK_MODE_PRIORITY_LOW);
+		}
+
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSamePriority() Pre-checkpoint");
+		CRIUTestUtils.checkPointJVMNoSetup(criu, CRIUTestUtils.imagePath, false);
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSamePriority() after doCheckpoint()");
+
+		if (testResult.lockStatus.get() != SAME_PRIORITY_HOOKS) {
+			testResult.testPassed = false;
+			CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSamePriority() ran " + testResult.lockStatus.get()
+					+ " hooks, expected " + SAME_PRIORITY_HOOKS);
+		}
+		// the times of the hooks show which thread ran each of them
+		Set<String> threads = new HashSet<>();
+		int timedHooks = 0;
+		for (InternalCRIUSupport.HookTime hookTime : InternalCRIUSupport.getPreCheckpointHookTimes()) {
+			CRIUTestUtils.showThreadCurrentTime("Pre-checkpoint hook time " + hookTime);
+			if ((hookTime.getMode() == InternalCRIUSupport.HookMode.CONCURRENT_MODE) && hookTime.getName().startsWith("User ")) {
+				threads.add(hookTime.getThreadName());
+				timedHooks += 1;
+			}
+		}
+		if ((timedHooks != SAME_PRIORITY_HOOKS) || (threads.size() != SAME_PRIORITY_HOOKS)) {
+			testResult.testPassed = false;
+			CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSamePriority() found the times of " + timedHooks
+					+ " hooks run on " + threads.size() + " threads, expected " + SAME_PRIORITY_HOOKS);
+		}
+		if (testResult.testPassed) {
+			System.out.println("TestConcurrentModePreCheckpointHookSamePriority() PASSED");
+		} else {
+			System.out.println("TestConcurrentModePreCheckpointHookSamePriority() FAILED");
+		}
+	}
+
+	// concurrent-threaded postRestoreHooks of one priority all finish before any hook of the next priority starts
+	static void TestConcurrentModePostRestoreHookPriorityBarrier() {
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePostRestoreHookPriorityBarrier() starts ..");
+		CRIUSupport criu = CRIUTestUtils.prepareCheckPointJVM(CRIUTestUtils.imagePath);
+		final TestResult testResult = new TestResult(true, 0);
+		for (int i = 0; i < SAME_PRIORITY_HOOKS; i++) {
+			final long sleepMillis = 50L * (i + 1);
+			criu.registerPostRestoreHook(() -> {
+				try {
+					Thread.sleep(sleepMillis);
+				} catch (InterruptedException e) {
+					testResult.testPassed = false;
+				}
+				testResult.lockStatus.incrementAndGet();
+			}, CRIUSupport.HookMode.CONCURRENT_MODE, USER_HOOK_MODE_PRIORITY_HIGH);
+			criu.registerPostRestoreHook(() -> {
+				// the hooks with higher priority are run first in post restore
+				if (testResult.lockStatus.get() < SAME_PRIORITY_HOOKS) {
+					testResult.testPassed = false;
+					CRIUTestUtils.showThreadCurrentTime("The postRestoreHook with lower priority in CONCURRENT_MODE started after "
+							+ testResult.lockStatus.get() + " of the hooks with higher priority finished");
+				}
+			}, CRIUSupport.HookMode.CONCURRENT_MODE, USER_HOOK_MODE_PRIORITY_LOW);
+		}
+
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePostRestoreHookPriorityBarrier() Pre-checkpoint");
+		CRIUTestUtils.checkPointJVMNoSetup(criu, CRIUTestUtils.imagePath, false);
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePostRestoreHookPriorityBarrier() after doCheckpoint()");
+		if (testResult.testPassed && (testResult.lockStatus.get() == SAME_PRIORITY_HOOKS)) {
+			System.out.println("TestConcurrentModePostRestoreHookPriorityBarrier() PASSED");
+		} else {
+			System.out.println("TestConcurrentModePostRestoreHookPriorityBarrier() FAILED");
+		}
+	}
+
+	// all of the concurrent-threaded preCheckpointHooks with the same priority run when some of them fail,
+	// the failures after the first are suppressed exceptions, and no hook with a later priority runs
+	static void TestConcurrentModePreCheckpointHookSuppressedExceptions() {
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSuppressedExceptions() starts ..");
+		CRIUSupport criu = CRIUTestUtils.prepareCheckPointJVM(CRIUTestUtils.imagePath);
+		final AtomicBoolean laterHookRan = new AtomicBoolean();
+		for (int i = 0; i < SAME_PRIORITY_HOOKS; i++) {
+			final int hook = i;
+			criu.registerPreCheckpointHook(() -> {
+				throw new RuntimeException("TestConcurrentModePreCheckpointHookSuppressedExceptions() hook " + hook);
+			}, CRIUSupport.HookMode.CONCURRENT_MODE, USER_HOOK_MODE_PRIORITY_LOW);
+		}
+		// the hooks with lower priority are run first in pre checkpoint
+		criu.registerPreCheckpointHook(() -> laterHookRan.set(true), CRIUSupport.HookMode.CONCURRENT_MODE, USER_HOOK_MODE_PRIORITY_HIGH);
+
+		boolean testPassed = false;
+		CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSuppressedExceptions() Pre-checkpoint");
+		try {
+			criu.checkpointJVM();
+			CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSuppressedExceptions() no exception was thrown");
+		} catch (JVMCheckpointException e) {
+			e.printStackTrace();
+			// the exception thrown by the first hook to fail is the cause, the others are suppressed by it
+			Throwable first = e.getCause();
+			int suppressed = (first == null) ? 0 : first.getSuppressed().length;
+			if (suppressed != (SAME_PRIORITY_HOOKS - 1)) {
+				CRIUTestUtils.showThreadCurrentTime("TestConcurrentModePreCheckpointHookSuppressedExceptions() found " + suppressed
+						+ " suppressed exceptions, expected " + (SAME_PRIORITY_HOOKS - 1));
+			} else if (laterHookRan.get()) {
+				CRIUTestUtils.showThreadCurrentTime("The preCheckpointHook with higher priority in CONCURRENT_MODE ran after a failure");
+			} else {
+				testPassed = true;
+			}
+		}
+		if (testPassed) {
+			System.out.println("TestConcurrentModePreCheckpointHookSuppressedExceptions() PASSED");
+		} else {
+			System.out.println("TestConcurrentModePreCheckpointHookSuppressedExceptions() FAILED");
+		}
+	}
 }
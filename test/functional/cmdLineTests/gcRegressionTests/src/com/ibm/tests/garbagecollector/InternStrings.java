@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.tests.garbagecollector;
+
+/**
+ * Interns the same strings from several threads and forces a global GC while they are still referenced,
+ * so that the verbose GC log of the run reports a populated interned string table.
+ * @see StringTableVerboseCheck
+ */
+public class InternStrings
+{
+	public static String[][] _interned;
+
+	/**
+	 * @param args Takes two arguments:  the number of threads and the number of strings each thread interns.
+	 */
+	public static void main(String[] args) throws InterruptedException
+	{
+		if (2 != args.length)
+		{
+			System.err.println("Usage: InternStrings <threads> <strings>");
+			System.exit(1);
+		}
+		int threadCount = Integer.parseInt(args[0]);
+		final int stringCount = Integer.parseInt(args[1]);
+
+		_interned = new String[threadCount][stringCount];
+		Thread[] threads = new Thread[threadCount];
+		for (int t = 0; t < threadCount; t++)
+		{
+			final String[] interned = _interned[t];
+			threads[t] = new Thread() {
+				public void run()
+				{
+					for (int i = 0; i < stringCount; i++)
+					{
+						interned[i] = new StringBuilder("InternStrings").append(i).toString().intern();
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (int t = 0; t < threadCount; t++)
+		{
+			threads[t].join();
+		}
+		System.gc();
+
+		for (int t = 1; t < threadCount; t++)
+		{
+			for (int i = 0; i < stringCount; i++)
+			{
+				if (_interned[0][i] != _interned[t][i])
+				{
+					System.out.println("TEST FAILED: string " + i + " interned by thread " + t + " is not the same object");
+					System.exit(1);
+				}
+			}
+		}
+		System.out.println("Interned " + stringCount + " strings");
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package com.ibm.tests.garbagecollector;
+
+import java.io.File;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * Parses a verbose GC log and checks the interned string table summary reported at the end of each mark.
+ * @see InternStrings
+ */
+public class StringTableVerboseCheck
+{
+	/**
+	 * @param args Takes two arguments:  the verbose GC log and the fewest interned strings the table must have held.
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		if (2 != args.length)
+		{
+			System.err.println("Usage: StringTableVerboseCheck <verbose GC log> <minimum entries>");
+			System.exit(1);
+		}
+		long minimumEntries = Long.parseLong(args[1]);
+
+		/* the log must be well formed XML, not only contain the element */
+		Document log = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new File(args[0]));
+		NodeList stringTables = log.getElementsByTagName("stringtable");
+		if (0 == stringTables.getLength())
+		{
+			fail("no <stringtable> element in " + args[0]);
+		}
+
+		long largestEntries = 0;
+		for (int i = 0; i < stringTables.getLength(); i++)
+		{
+			Element stringTable = (Element)stringTables.item(i);
+			long entries = getCount(stringTable, "entries");
+			long tables = getCount(stringTable, "tables");
+			long largestTable = getCount(stringTable, "largesttable");
+			long cached = getCount(stringTable, "cached");
+			long cacheSize = getCount(stringTable, "cachesize");
+			long maxProbe = getCount(stringTable, "maxprobe");
+			double averageProbe = Double.parseDouble(stringTable.getAttribute("avgprobe"));
+
+			if ((0 == tables) || (largestTable > entries) || (0 == cacheSize) || (cached > cacheSize))
+			{
+				fail("inconsistent table sizes in " + describe(stringTable));
+			}
+			if ((0 == cached) ? ((0 != maxProbe) || (0 != averageProbe)) : ((averageProbe < 1) || (averageProbe > maxProbe)))
+			{
+				fail("inconsistent probe lengths in " + describe(stringTable));
+			}
+			largestEntries = Math.max(largestEntries, entries);
+		}
+		if (largestEntries < minimumEntries)
+		{
+			fail("expected at least " + minimumEntries + " interned strings, the most reported was " + largestEntries);
+		}
+		System.out.println("TEST PASSED");
+	}
+
+	private static long getCount(Element element, String name)
+	{
+		String value = element.getAttribute(name);
+		long count = -1;
+		try
+		{
+			count = Long.parseLong(value);
+		}
+		catch (NumberFormatException e)
+		{
+			/* reported below */
+		}
+		if (count < 0)
+		{
+			fail(name + "=\"" + value + "\" is not a count in " + describe(element));
+		}
+		return count;
+	}
+
+	private static String describe(Element stringTable)
+	{
+		StringBuilder description = new StringBuilder("<stringtable");
+		for (int i = 0; i < stringTable.getAttributes().getLength(); i++)
+		{
+			description.append(' ').append(stringTable.getAttributes().item(i));
+		}
+		return description.append(" />").toString();
+	}
+
+	private static void fail(String message)
+	{
+		System.out.println("TEST FAILED: " + message);
+		System.exit(1);
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.javacore.summary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.dtfj.javacore.parser.j9.IJavaCoreSectionListener;
+
+/**
+ * Records the callbacks from JavaCoreStreamReader as strings, so they can be
+ * compared with those expected for a javacore.
+ */
+public class EventRecorder implements IJavaCoreSectionListener {
+	final List<String> events = new ArrayList<>();
+
+	public void startSection(String section) {
+		events.add("start " + section);
+	}
+
+	public void thread(String name, String state) {
+		events.add("thread " + name + " " + state);
+	}
+
+	public void stackFrame(String method, String location) {
+		events.add("frame " + method + " (" + location + ")");
+	}
+
+	public void monitor(String name, String owner) {
+		events.add("monitor " + name + " owner " + owner);
+	}
+
+	public void monitorWaiter(String thread) {
+		events.add("waiter " + thread);
+	}
+
+	public void endSection(String section) {
+		events.add("end " + section);
+	}
+}
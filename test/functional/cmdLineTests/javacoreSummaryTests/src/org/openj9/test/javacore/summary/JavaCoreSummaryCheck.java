@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.javacore.summary;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.dtfj.javacore.parser.j9.JavaCoreBatchAnalyzer;
+import com.ibm.dtfj.javacore.parser.j9.JavaCoreStreamReader;
+import com.ibm.dtfj.javacore.parser.j9.JavaCoreSummary;
+
+/**
+ * Check the callbacks from JavaCoreStreamReader, and the histograms built by
+ * JavaCoreSummary and JavaCoreBatchAnalyzer, against two javacore fixtures.
+ * 
+ * Usage: java org.openj9.test.javacore.summary.JavaCoreSummaryCheck <fixture directory>
+ */
+public class JavaCoreSummaryCheck {
+	private static final String FIRST = "javacore.20260101.000001.100.0001.txt";
+	private static final String SECOND = "javacore.20260101.000002.200.0001.txt";
+	private static final int DEPTH = 2;
+	private static final int BATCHES = 20;
+
+	private static final String CACHE_GET = "com/example/Cache.get <- com/example/Worker.run";
+	private static final String DUMP = "com/ibm/jvm/Dump.javaDumpToFile <- com/example/Main.main";
+	private static final String PARK = "jdk/internal/misc/Unsafe.park <- java/util/concurrent/locks/LockSupport.park";
+
+	public static void main(String[] args) throws Exception {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: <fixture directory>");
+		}
+		File first = new File(args[0], FIRST);
+		File second = new File(args[0], SECOND);
+
+		checkEvents(first);
+		checkSummaries(first, second);
+		checkBatch(first, second);
+
+		System.out.println("TEST PASSED");
+	}
+
+	/**
+	 * The reader reports the sections, threads, frames and monitors of the first
+	 * javacore in order, and the current thread only once.
+	 */
+	private static void checkEvents(File file) throws IOException {
+		EventRecorder recorder = new EventRecorder();
+		try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+			check(new JavaCoreStreamReader().parse(input, recorder), "no sections found in " + file);
+		}
+		List<String> expected = Arrays.asList(
+				"start TITLE",
+				"end TITLE",
+				"start LOCKS",
+				"monitor com/example/Cache owner main",
+				"waiter worker-1",
+				"waiter worker-2",
+				"monitor Thread public flags mutex owner null",
+				"monitor VM class table owner worker-3",
+				"waiter worker-4",
+				"end LOCKS",
+				"start THREADS",
+				"thread main R",
+				"frame com/ibm/jvm/Dump.javaDumpToFile (Dump.java:100)",
+				"frame com/example/Main.main (Main.java:10)",
+				"thread worker-1 B",
+				"frame com/example/Cache.get (Cache.java:20)",
+				"frame com/example/Worker.run (Worker.java:30)",
+				"frame java/lang/Thread.run (Thread.java:840)",
+				"thread worker-2 B",
+				"frame com/example/Cache.get (Cache.java:20)",
+				"frame com/example/Worker.run (Worker.java:30)",
+				"frame java/lang/Thread.run (Thread.java:840)",
+				"thread worker-3 CW",
+				"frame java/lang/Object.wait (Native Method)",
+				"frame com/example/Worker.run (Worker.java:40(Compiled Code))",
+				"thread worker-4 B",
+				"frame com/example/Loader.load (Bytecode PC:12)",
+				"thread Signal Dispatcher R",
+				"end THREADS",
+				"start CLASSES",
+				"end CLASSES",
+				"start Javadump",
+				"end Javadump");
+		check(expected.equals(recorder.events), "expected events " + expected + ", found " + recorder.events);
+	}
+
+	/**
+	 * The histograms of each javacore, and of the two merged.
+	 */
+	private static void checkSummaries(File first, File second) throws IOException {
+		JavaCoreSummary summary = summarize(first);
+		check(summary.getJavaCoreCount() == 1, "expected 1 javacore, found " + summary.getJavaCoreCount());
+		checkHistogram("thread states", summary.getThreadStates(), "R", 2, "B", 3, "CW", 1);
+		checkHistogram("monitor contention", summary.getMonitorContention(), "com/example/Cache", 2, "VM class table", 1);
+		checkHistogram("stack signatures", summary.getStackSignatures(), DUMP, 1, CACHE_GET, 2,
+				"java/lang/Object.wait <- com/example/Worker.run", 1, "com/example/Loader.load", 1, "<no Java stack>", 1);
+
+		JavaCoreSummary other = summarize(second);
+		checkHistogram("thread states", other.getThreadStates(), "R", 1, "B", 1, "P", 2);
+		checkHistogram("monitor contention", other.getMonitorContention(), "com/example/Cache", 1);
+		checkHistogram("stack signatures", other.getStackSignatures(), DUMP, 1, CACHE_GET, 1, PARK, 2);
+
+		summary.merge(other);
+		checkMerged(summary, 1);
+		check(summary.getErrors().isEmpty(), "unexpected errors " + summary.getErrors());
+	}
+
+	/**
+	 * @param firstCount the number of times the first javacore was merged with the second
+	 */
+	private static void checkMerged(JavaCoreSummary summary, int firstCount) {
+		int count = firstCount + 1;
+		check(summary.getJavaCoreCount() == count, "expected " + count + " javacores, found " + summary.getJavaCoreCount());
+		checkHistogram("thread states", summary.getThreadStates(), "R", 2 * firstCount + 1, "B", 3 * firstCount + 1,
+				"CW", firstCount, "P", 2);
+		checkHistogram("monitor contention", summary.getMonitorContention(), "com/example/Cache", 2 * firstCount + 1,
+				"VM class table", firstCount);
+		checkHistogram("stack signatures", summary.getStackSignatures(), DUMP, firstCount + 1, CACHE_GET, 2 * firstCount + 1,
+				"java/lang/Object.wait <- com/example/Worker.run", firstCount, "com/example/Loader.load", firstCount,
+				"<no Java stack>", firstCount, PARK, 2);
+	}
+
+	/**
+	 * A batch merges the javacores which can be read, whatever the order the threads
+	 * finish in, and reports the others as errors in the order they were given.
+	 */
+	private static void checkBatch(File first, File second) throws Exception {
+		File directory = File.createTempFile("javacores", "");
+		check(directory.delete() && directory.mkdir(), "cannot create " + directory);
+		File notJavacore = new File(directory, "javacore.notajavacore.txt");
+		File missing = new File(directory, "javacore.missing.txt");
+		try {
+			try (OutputStream out = new FileOutputStream(notJavacore)) {
+				out.write("This is not a javacore\n".getBytes(StandardCharsets.UTF_8));
+			}
+			List<File> files = Arrays.asList(first, notJavacore, second, missing, first);
+
+			for (int threads = 1; threads <= 4; threads++) {
+				for (int batch = 0; batch < BATCHES; batch++) {
+					JavaCoreSummary summary = new JavaCoreBatchAnalyzer(threads, DEPTH).analyze(files);
+					checkMerged(summary, 2);
+					List<String> errors = summary.getErrors();
+					check(errors.size() == 2, "expected 2 errors, found " + errors);
+					check(errors.get(0).equals(notJavacore.getPath() + ": not a javacore file"), "unexpected error " + errors.get(0));
+					check(errors.get(1).startsWith(missing.getPath() + ": "), "unexpected error " + errors.get(1));
+				}
+			}
+
+			/* more threads than javacores */
+			JavaCoreSummary summary = new JavaCoreBatchAnalyzer(8, DEPTH).analyze(Arrays.asList(first, second));
+			checkMerged(summary, 1);
+			check(summary.getErrors().isEmpty(), "unexpected errors " + summary.getErrors());
+		} finally {
+			notJavacore.delete();
+			directory.delete();
+		}
+
+		try {
+			new JavaCoreBatchAnalyzer(0, DEPTH);
+			check(false, "a batch with no threads was accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			new JavaCoreSummary(0);
+			check(false, "a summary with no stack depth was accepted");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private static JavaCoreSummary summarize(File file) throws IOException {
+		JavaCoreSummary summary = new JavaCoreSummary(DEPTH);
+		try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+			check(new JavaCoreStreamReader().parse(input, summary), "no sections found in " + file);
+		}
+		return summary;
+	}
+
+	/**
+	 * @param expected pairs of keys and counts
+	 */
+	private static void checkHistogram(String name, Map<String, Integer> histogram, Object... expected) {
+		Map<String, Integer> map = new HashMap<>();
+		for (int i = 0; i < expected.length; i += 2) {
+			map.put((String) expected[i], (Integer) expected[i + 1]);
+		}
+		check(map.equals(histogram), "expected " + name + " " + map + ", found " + histogram);
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			System.out.println("TEST FAILED: " + message);
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.jdmpview.index;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Check that "info class", "info heap" and "whatis" give the same results from the
+ * analysis index as from walking the heap, that a saved index is used by the next
+ * session, and that an index which does not match the dump is rebuilt.
+ * 
+ * Usage: java org.openj9.test.jdmpview.index.AnalysisIndexCheck <dump> <jdmpview command>
+ */
+public class AnalysisIndexCheck {
+	private static final String TARGET_CLASS = "org/openj9/test/jdmpview/index/IndexTarget";
+	private static final String DISABLE_INDEX = "com.ibm.jvm.dtfjview.disableAnalysisIndex=true";
+	private static final Pattern HEAP_NAME = Pattern.compile("Heap #1:  (\\S+)");
+
+	public static void main(String[] args) throws Exception {
+		Jdmpview jdmpview = new Jdmpview(args);
+		jdmpview.deleteIndexes();
+		File dump = jdmpview.getDump();
+
+		String output = jdmpview.runWithProperty(DISABLE_INDEX, "x/j " + TARGET_CLASS, "info heap *");
+		List<Long> targets = Jdmpview.getInstances(output, TARGET_CLASS);
+		ReferenceIndexCheck.check(targets.size() == 1, "expected one " + TARGET_CLASS + ", found " + targets, output);
+		Matcher heapName = HEAP_NAME.matcher(output);
+		ReferenceIndexCheck.check(heapName.find(), "no heaps listed", output);
+		long target = targets.get(0);
+		String[] commands = {
+				"info class",
+				"info heap " + heapName.group(1),
+				"whatis 0x" + Long.toHexString(target),
+				"whatis 0x" + Long.toHexString(target + 8)
+		};
+
+		/* the results from walking the heap */
+		String walked = jdmpview.runWithProperty(DISABLE_INDEX, commands);
+		ReferenceIndexCheck.check(walked.contains("unable to build analysis index"), "the analysis index was not disabled", walked);
+		ReferenceIndexCheck.check(jdmpview.getFiles(".jdx", ".tmp").isEmpty(), "an index was saved while it was disabled", walked);
+		ReferenceIndexCheck.check(walked.contains(TARGET_CLASS), "whatis did not find " + TARGET_CLASS, walked);
+
+		/* the first session builds and saves the index */
+		output = jdmpview.run(commands);
+		ReferenceIndexCheck.check(output.contains("Building analysis index"), "the analysis index was not built", output);
+		ReferenceIndexCheck.check(jdmpview.getFiles(".jdx").size() == 1, "expected one index, found " + jdmpview.getFiles(".jdx"), output);
+		ReferenceIndexCheck.check(jdmpview.getFiles(".tmp").isEmpty(), "temporary files were left " + jdmpview.getFiles(".tmp"), output);
+		checkSame(walked, output);
+
+		/* the next session reopens it */
+		output = jdmpview.run(commands);
+		ReferenceIndexCheck.check(!output.contains("Building analysis index"), "the saved index was not reopened", output);
+		checkSame(walked, output);
+
+		/* an index saved for a dump with another modification time is stale */
+		long lastModified = dump.lastModified();
+		ReferenceIndexCheck.check(dump.setLastModified(lastModified - 60000), "cannot change the modification time of " + dump, "");
+		try {
+			output = jdmpview.run(commands);
+			ReferenceIndexCheck.check(output.contains("Building analysis index"), "a stale index was used", output);
+			checkSame(walked, output);
+		} finally {
+			dump.setLastModified(lastModified);
+		}
+
+		/* and so is one which has been truncated */
+		jdmpview.deleteIndexes();
+		output = jdmpview.run(commands);
+		ReferenceIndexCheck.check(output.contains("Building analysis index"), "the analysis index was not built", output);
+		File index = jdmpview.getFiles(".jdx").get(0);
+		try (RandomAccessFile file = new RandomAccessFile(index, "rw")) {
+			file.setLength(file.length() - 8);
+		}
+		output = jdmpview.run(commands);
+		ReferenceIndexCheck.check(output.contains("Building analysis index"), "a truncated index was used", output);
+		checkSame(walked, output);
+
+		jdmpview.deleteIndexes();
+		System.out.println("TEST PASSED");
+	}
+
+	/**
+	 * Check the output of the commands is the same with the index as from walking the
+	 * heap. Classes with the same name may be listed in any order, so the lines are
+	 * compared sorted, leaving out the messages about the index.
+	 */
+	private static void checkSame(String walked, String indexed) {
+		List<String> expected = lines(walked);
+		List<String> actual = lines(indexed);
+		ReferenceIndexCheck.check(expected.equals(actual), "the results from the index differ from walking the heap, walked:\n"
+				+ walked + "\nindexed:", indexed);
+	}
+
+	private static List<String> lines(String output) {
+		List<String> lines = new ArrayList<>();
+		for (String line : output.split("\\R")) {
+			if (!line.toLowerCase().contains("analysis index")) {
+				lines.add(line);
+			}
+		}
+		Collections.sort(lines);
+		return lines;
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.jdmpview.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Check the dominators and retained sizes listed by x/dominators against the graph of
+ * DominatorNode objects in the dump written by IndexDumpGenerator.
+ * 
+ * Usage: java org.openj9.test.jdmpview.index.DominatorCheck <dump> <jdmpview command>
+ */
+public class DominatorCheck {
+	private static final String NODE_CLASS = "org/openj9/test/jdmpview/index/DominatorNode";
+	private static final Pattern NODE_ID = Pattern.compile("\\bid = (\\d+)");
+	private static final Pattern DOMINATOR = Pattern.compile("^\\t(0x[0-9a-fA-F]+)\\s+(\\S+)\\s+(\\S+)\\s+(\\S+)\\r?$");
+	/** The immediate dominator of each node, -1 for A which is only dominated by the roots */
+	private static final int[] IDOM = { -1, 0, 0, 0, 0, 4 };
+
+	public static void main(String[] args) throws Exception {
+		Jdmpview jdmpview = new Jdmpview(args);
+		String output = jdmpview.run("x/j " + NODE_CLASS);
+		long[] nodes = getNodes(output);
+
+		String[] commands = new String[nodes.length];
+		for (int id = 0; id < nodes.length; id++) {
+			commands[id] = "x/dominators 0x" + Long.toHexString(nodes[id]);
+		}
+		output = jdmpview.run(commands);
+		check(output.contains("Computing dominators"), "x/dominators did not build the dominator tree", output);
+		String[] chains = output.split("Dominators:");
+		check(chains.length == nodes.length + 1, "expected " + nodes.length + " lists of dominators", output);
+
+		long[] shallow = new long[nodes.length];
+		long[] retained = new long[nodes.length];
+		List<List<Long>> dominators = new ArrayList<>();
+		for (int id = 0; id < nodes.length; id++) {
+			List<Long> chain = new ArrayList<>();
+			for (String line : chains[id + 1].split("\\R")) {
+				Matcher matcher = DOMINATOR.matcher(line);
+				if (matcher.matches()) {
+					long address = Jdmpview.parseAddress(matcher.group(1));
+					if (chain.isEmpty()) {
+						check(address == nodes[id], "the dominators of node " + id + " do not start with the node", output);
+						check(matcher.group(4).equals(NODE_CLASS), "unexpected class " + matcher.group(4), output);
+						shallow[id] = parseSize(matcher.group(2));
+						retained[id] = parseSize(matcher.group(3));
+					}
+					chain.add(address);
+				} else if (line.trim().equals("<roots>")) {
+					break;
+				}
+			}
+			check(!chain.isEmpty(), "no dominators listed for node " + id, output);
+			dominators.add(chain);
+		}
+
+		for (int id = 0; id < nodes.length; id++) {
+			List<Long> chain = dominators.get(id);
+			if (IDOM[id] < 0) {
+				/* A is only held by the static field, so no other node dominates it */
+				for (long address : chain.subList(1, chain.size())) {
+					for (long node : nodes) {
+						check(address != node, "node 0 is dominated by another node", output);
+					}
+				}
+			} else {
+				check(chain.size() > 1 && chain.get(1) == nodes[IDOM[id]],
+						"expected node " + IDOM[id] + " to be the immediate dominator of node " + id, output);
+				check(chain.subList(1, chain.size()).equals(dominators.get(IDOM[id])),
+						"the dominators of node " + id + " do not continue with those of node " + IDOM[id], output);
+			}
+		}
+
+		/* the retained size of a node is its own size plus the retained sizes of the nodes it immediately dominates */
+		for (int id = 0; id < nodes.length; id++) {
+			long expected = shallow[id];
+			for (int other = 0; other < nodes.length; other++) {
+				if (IDOM[other] == id) {
+					expected += retained[other];
+				}
+			}
+			check(shallow[id] > 0, "node " + id + " has no size", output);
+			check(retained[id] == expected, "expected a retained size of " + expected + " for node " + id + ", found " + retained[id], output);
+		}
+
+		System.out.println("TEST PASSED");
+	}
+
+	/**
+	 * Get the address of each node, by id, from the output of "x/j DominatorNode".
+	 */
+	private static long[] getNodes(String output) {
+		long[] nodes = new long[IndexDumpGenerator.DOMINATOR_NODES];
+		List<Long> instances = Jdmpview.getInstances(output, NODE_CLASS);
+		check(instances.size() == nodes.length, "expected " + nodes.length + " " + NODE_CLASS + ", found " + instances, output);
+		long address = 0;
+		int found = 0;
+		for (String line : output.split("\\R")) {
+			if (line.trim().startsWith(NODE_CLASS + " @ ")) {
+				address = Jdmpview.parseAddress(line.substring(line.lastIndexOf(' ') + 1).trim());
+			} else {
+				Matcher matcher = NODE_ID.matcher(line);
+				if (matcher.find() && address != 0) {
+					int id = Integer.parseInt(matcher.group(1));
+					check(id < nodes.length && nodes[id] == 0, "unexpected node id " + id, output);
+					nodes[id] = address;
+					address = 0;
+					found += 1;
+				}
+			}
+		}
+		check(found == nodes.length, "expected the ids of " + nodes.length + " nodes, found " + found, output);
+		return nodes;
+	}
+
+	/**
+	 * Parse a size printed with the grouping separators of the default locale.
+	 */
+	private static long parseSize(String size) {
+		return Long.parseLong(size.replaceAll("[^0-9]", ""));
+	}
+
+	private static void check(boolean condition, String message, String output) {
+		ReferenceIndexCheck.check(condition, message, output);
+	}
+}
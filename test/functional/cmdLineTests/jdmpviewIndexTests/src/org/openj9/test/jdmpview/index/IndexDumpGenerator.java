@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.jdmpview.index;
+
+/**
+ * Creates one IndexTarget referred to by HOLDERS instances of IndexHolder, which are
+ * kept reachable from a static field so they are in the system dump taken when the
+ * VM stops. A graph of DominatorNode objects is kept reachable in the same way:
+ * 
+ *   A -> B, C, E
+ *   B -> D
+ *   C -> D
+ *   E -> F
+ * 
+ * with the ids 0 to 5, so D is dominated by A rather than by B or C, and F by E.
+ */
+public class IndexDumpGenerator {
+	static final int HOLDERS = 3;
+	static final int DOMINATOR_NODES = 6;
+	static IndexHolder[] holders;
+	static DominatorNode dominators;
+
+	public static void main(String[] args) {
+		IndexTarget target = new IndexTarget("target");
+		holders = new IndexHolder[HOLDERS];
+		for (int i = 0; i < HOLDERS; i++) {
+			holders[i] = new IndexHolder(target);
+		}
+		System.out.println("Created " + HOLDERS + " holders");
+
+		/* no array refers to the nodes, as unreachable objects are also roots of the dominator tree */
+		DominatorNode a = new DominatorNode(0);
+		DominatorNode d = new DominatorNode(3);
+		a.first = new DominatorNode(1);
+		a.second = new DominatorNode(2);
+		a.third = new DominatorNode(4);
+		a.first.first = d;
+		a.second.first = d;
+		a.third.first = new DominatorNode(5);
+		dominators = a;
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.jdmpview.index;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs jdmpview on a dump, with the commands on its standard input, and returns its output.
+ */
+class Jdmpview {
+	private static final Pattern OBJECT_ADDRESS = Pattern.compile(" @ (0x[0-9a-fA-F]+)");
+
+	private final List<String> command;
+	private final File dump;
+
+	/**
+	 * @param args the dump, followed by the command to run jdmpview
+	 */
+	Jdmpview(String[] args) {
+		if (args.length < 2) {
+			throw new IllegalArgumentException("Usage: <dump> <jdmpview command>");
+		}
+		dump = new File(args[0]);
+		command = new ArrayList<>(Arrays.asList(args).subList(1, args.length));
+	}
+
+	File getDump() {
+		return dump;
+	}
+
+	/**
+	 * Delete the index files saved next to the dump by earlier sessions, and any left
+	 * while they were being built.
+	 */
+	void deleteIndexes() {
+		for (File file : getFiles(".jdx", ".jdxr", ".tmp")) {
+			if (!file.delete()) {
+				throw new IllegalStateException("Cannot delete " + file);
+			}
+		}
+	}
+
+	/**
+	 * Get the files next to the dump whose names start with the name of the dump and
+	 * end with one of the suffixes.
+	 */
+	List<File> getFiles(String... suffixes) {
+		List<File> found = new ArrayList<>();
+		File directory = dump.getAbsoluteFile().getParentFile();
+		String prefix = dump.getName() + ".";
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				String name = file.getName();
+				for (String suffix : suffixes) {
+					if (name.startsWith(prefix) && name.endsWith(suffix)) {
+						found.add(file);
+						break;
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Run the commands in a new jdmpview session.
+	 */
+	String run(String... commands) throws IOException, InterruptedException {
+		return runWithProperty(null, commands);
+	}
+
+	/**
+	 * Run the commands in a new jdmpview session, with a system property set.
+	 * @param property the property, as name=value, or null
+	 */
+	String runWithProperty(String property, String... commands) throws IOException, InterruptedException {
+		List<String> processCommand = new ArrayList<>(command);
+		if (property != null) {
+			if (command.size() == 1) {
+				// the jdmpview launcher
+				processCommand.add("-J-D" + property);
+			} else {
+				// java, its options and the DTFJView class
+				processCommand.add(command.size() - 1, "-D" + property);
+			}
+		}
+		processCommand.add("-core");
+		processCommand.add(dump.getPath());
+		Process process = new ProcessBuilder(processCommand).redirectErrorStream(true).start();
+		try (Writer in = new OutputStreamWriter(process.getOutputStream(), "UTF-8")) {
+			for (String line : commands) {
+				in.write(line + "\n");
+			}
+			in.write("quit\n");
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (InputStream out = process.getInputStream()) {
+			byte[] buffer = new byte[8192];
+			for (int read; (read = out.read(buffer)) != -1;) {
+				output.write(buffer, 0, read);
+			}
+		}
+		process.waitFor();
+		return output.toString("UTF-8");
+	}
+
+	/**
+	 * Get the addresses of the instances of a class, from the output of "x/j <class name>".
+	 */
+	static List<Long> getInstances(String output, String className) {
+		List<Long> addresses = new ArrayList<>();
+		for (String line : output.split("\\R")) {
+			if (line.trim().startsWith(className + " @ ")) {
+				Matcher matcher = OBJECT_ADDRESS.matcher(line);
+				if (matcher.find()) {
+					addresses.add(parseAddress(matcher.group(1)));
+				}
+			}
+		}
+		return addresses;
+	}
+
+	static long parseAddress(String address) {
+		return Long.parseUnsignedLong(address.startsWith("0x") ? address.substring(2) : address, 16);
+	}
+}
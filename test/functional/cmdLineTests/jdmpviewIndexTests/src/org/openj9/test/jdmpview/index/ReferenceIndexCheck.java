@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.jdmpview.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Check the referrers listed by findptr from the reference index against the objects
+ * in the dump written by IndexDumpGenerator, and that the index is only built when
+ * findptr is given -referrers.
+ * 
+ * Usage: java org.openj9.test.jdmpview.index.ReferenceIndexCheck <dump> <jdmpview command>
+ */
+public class ReferenceIndexCheck {
+	private static final String TARGET_CLASS = "org/openj9/test/jdmpview/index/IndexTarget";
+	private static final String HOLDER_CLASS = "org/openj9/test/jdmpview/index/IndexHolder";
+	private static final Pattern REFERRER_COUNT = Pattern.compile("heap objects referring to (0x[0-9a-fA-F]+): (\\d+)");
+	private static final Pattern REFERRER = Pattern.compile("^\\t(0x[0-9a-fA-F]+) (\\S+)\\r?$", Pattern.MULTILINE);
+
+	public static void main(String[] args) throws Exception {
+		Jdmpview jdmpview = new Jdmpview(args);
+		jdmpview.deleteIndexes();
+
+		String output = jdmpview.run("x/j " + TARGET_CLASS, "x/j " + HOLDER_CLASS);
+		List<Long> targets = Jdmpview.getInstances(output, TARGET_CLASS);
+		List<Long> holders = Jdmpview.getInstances(output, HOLDER_CLASS);
+		check(targets.size() == 1, "expected one " + TARGET_CLASS + ", found " + targets, output);
+		check(holders.size() == IndexDumpGenerator.HOLDERS, "expected " + IndexDumpGenerator.HOLDERS + " " + HOLDER_CLASS + ", found " + holders, output);
+		String target = "0x" + Long.toHexString(targets.get(0));
+		String findptr = target + "," + target + "," + target + ",8,0,10";
+
+		/* without -referrers no index is built, so only the memory search is done */
+		output = jdmpview.run("findptr " + findptr);
+		check(!output.contains("Building"), "findptr built an index without -referrers", output);
+		check(!output.contains("heap objects referring to"), "findptr listed referrers without an index", output);
+
+		/* -referrers builds the index and lists the holders */
+		output = jdmpview.run("findptr -referrers " + findptr);
+		check(output.contains("Building reference index"), "findptr -referrers did not build the reference index", output);
+		checkReferrers(output, targets.get(0), holders);
+
+		/* a new session uses the index saved next to the dump, without -referrers */
+		output = jdmpview.run("findptr " + findptr);
+		check(!output.contains("Building"), "the saved index was not reopened", output);
+		checkReferrers(output, targets.get(0), holders);
+
+		System.out.println("TEST PASSED");
+	}
+
+	private static void checkReferrers(String output, long target, List<Long> holders) {
+		Matcher count = REFERRER_COUNT.matcher(output);
+		check(count.find(), "findptr did not list the referrers", output);
+		check(Jdmpview.parseAddress(count.group(1)) == target, "referrers listed for the wrong object", output);
+		check(Integer.parseInt(count.group(2)) == holders.size(), "expected " + holders.size() + " referrers", output);
+
+		List<Long> referrers = new ArrayList<>();
+		Matcher referrer = REFERRER.matcher(output);
+		while (referrer.find()) {
+			check(referrer.group(2).equals(HOLDER_CLASS), "unexpected referrer class " + referrer.group(2), output);
+			referrers.add(Jdmpview.parseAddress(referrer.group(1)));
+		}
+		List<Long> expected = new ArrayList<>(holders);
+		Collections.sort(expected);
+		Collections.sort(referrers);
+		check(expected.equals(referrers), "expected referrers " + expected + ", found " + referrers, output);
+	}
+
+	static void check(boolean condition, String message, String output) {
+		if (!condition) {
+			System.out.println(output);
+			System.out.println("TEST FAILED: " + message);
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.phd;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.phd.parser.HeapdumpReader;
+import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
+import com.ibm.dtfj.phd.util.LongEnumeration;
+
+/**
+ * Check that a heapdump written with opts=PHD+COMPRESS, in several compressed chunks,
+ * has the objects created by HeapdumpGenerator as an uncompressed heapdump of the
+ * same VM does, and that objects can be found in it by seeking back and forth between
+ * the chunks.
+ * <p>
+ * Usage: java org.openj9.test.phd.ChunkedDumpCheck <phd file> <compressed phd file> <objects>
+ */
+public class ChunkedDumpCheck {
+	/** Remember every SAMPLE'th object, to be found again later */
+	private static final int SAMPLE = 997;
+
+	/** The classes of the objects created by HeapdumpGenerator */
+	private static final String[] CLASSES = { "[I", "java/lang/Integer", "[Ljava/lang/Object;" };
+
+	public static void main(String[] args) throws Exception {
+		File plain = new File(args[0]);
+		File compressed = new File(args[1]);
+		int objects = Integer.parseInt(args[2]);
+
+		long headerLength;
+		try (Reader reader = new Reader(plain.getPath())) {
+			check(!reader.isCompressed(), plain + " is compressed");
+		}
+		try (Reader reader = new Reader(compressed.getPath())) {
+			check(reader.isCompressed(), compressed + " is not compressed");
+			headerLength = reader.getPosition().getOffset();
+		}
+		int chunks = countChunks(compressed, headerLength);
+		check(chunks > 1, compressed + " has " + chunks + " chunk");
+
+		/* each class of object created has (at least) a third of the objects in both dumps */
+		Map<String, Integer> plainCounts = countClasses(plain, null, null);
+		List<long[]> addresses = new ArrayList<>();
+		List<String> classes = new ArrayList<>();
+		Map<String, Integer> compressedCounts = countClasses(compressed, addresses, classes);
+		for (String name : CLASSES) {
+			int plainCount = plainCounts.getOrDefault(name, 0);
+			int compressedCount = compressedCounts.getOrDefault(name, 0);
+			check(plainCount >= objects / 3, plain + " has " + plainCount + " " + name + ", expected at least " + objects / 3);
+			check(compressedCount >= objects / 3, compressed + " has " + compressedCount + " " + name + ", expected at least " + objects / 3);
+		}
+
+		/* a new image has nothing cached, so going backwards each object is in an earlier chunk */
+		try (PHDHeap heap = new PHDHeap(compressed)) {
+			for (int i = addresses.size() - 1; i >= 0; i--) {
+				long address = addresses.get(i)[0];
+				JavaObject object = heap.getRuntime().getObjectAtAddress(heap.getAddressSpace().getPointer(address));
+				String where = "object @ 0x" + Long.toHexString(address);
+				check(object.getID().getAddress() == address, where + " found at 0x" + Long.toHexString(object.getID().getAddress()));
+				check(object.getJavaClass().getName().equals(classes.get(i)),
+						where + " is a " + object.getJavaClass().getName() + ", expected " + classes.get(i));
+				check(object.getSize() == addresses.get(i)[1], where + " has size " + object.getSize() + ", expected " + addresses.get(i)[1]);
+			}
+		}
+
+		int positions = checkPositions(compressed);
+		System.out.println("Checked " + addresses.size() + " objects and " + positions + " positions in " + chunks + " chunks");
+		System.out.println("TEST PASSED");
+	}
+
+	/**
+	 * Count the chunks of a compressed dump from their headers, which are the compressed
+	 * and uncompressed lengths. A chunk with an uncompressed length of zero ends the dump.
+	 */
+	private static int countChunks(File dump, long headerLength) throws IOException {
+		int chunks = 0;
+		try (DataInputStream in = new DataInputStream(new FileInputStream(dump))) {
+			skip(in, headerLength);
+			for (;;) {
+				int compressedLength = in.readInt();
+				int length = in.readInt();
+				if (length == 0) {
+					break;
+				}
+				skip(in, compressedLength);
+				chunks += 1;
+			}
+			check(in.read() == -1, dump + " continues after the end of the chunks");
+		}
+		return chunks;
+	}
+
+	private static void skip(DataInputStream in, long length) throws IOException {
+		while (length > 0) {
+			int skipped = in.skipBytes((int)Math.min(length, Integer.MAX_VALUE));
+			if (skipped <= 0) {
+				throw new IOException("unexpected end of file");
+			}
+			length -= skipped;
+		}
+	}
+
+	/**
+	 * Count the objects of each class by walking the heap, and optionally sample them.
+	 */
+	private static Map<String, Integer> countClasses(File dump, List<long[]> addresses, List<String> classes) throws Exception {
+		Map<String, Integer> counts = new HashMap<>();
+		long objects = 0;
+		try (PHDHeap heap = new PHDHeap(dump)) {
+			for (Iterator<?> heaps = heap.getRuntime().getHeaps(); heaps.hasNext();) {
+				for (Iterator<?> it = ((JavaHeap)heaps.next()).getObjects(); it.hasNext();) {
+					Object next = it.next();
+					if (next instanceof JavaObject) {
+						JavaObject object = (JavaObject)next;
+						String name = object.getJavaClass().getName();
+						counts.merge(name, 1, Integer::sum);
+						if ((addresses != null) && ((objects % SAMPLE) == 0)) {
+							addresses.add(new long[] { object.getID().getAddress(), object.getSize() });
+							classes.add(name);
+						}
+						objects += 1;
+					}
+				}
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Parse the whole dump remembering the position of every SAMPLE'th object, then move a
+	 * reader on a seekable stream to those positions in reverse order, where the next object
+	 * must be the one that followed the position the first time.
+	 * @return the number of positions checked
+	 */
+	private static int checkPositions(File dump) throws Exception {
+		List<HeapdumpReader.Position> positions = new ArrayList<>();
+		List<Long> expected = new ArrayList<>();
+		try (Reader reader = new Reader(dump.getPath())) {
+			long[] count = new long[1];
+			Listener listener = new Listener() {
+				@Override
+				void object(long address) throws Exception {
+					if (positions.size() > expected.size()) {
+						expected.add(address);
+					}
+					count[0] += 1;
+					if ((count[0] % SAMPLE) == 0) {
+						positions.add(reader.getPosition());
+					}
+				}
+			};
+			while (reader.parse(listener)) {
+				/* parse to the end */
+			}
+		}
+		/* the last position may be at the end of the dump */
+		if (positions.size() > expected.size()) {
+			positions.remove(positions.size() - 1);
+		}
+
+		try (ImageInputStream stream = new FileImageInputStream(dump); Reader reader = new Reader(stream)) {
+			long[] found = new long[1];
+			Listener listener = new Listener() {
+				@Override
+				void object(long address) {
+					found[0] = address;
+					reader.exitParse();
+				}
+			};
+			for (int i = positions.size() - 1; i >= 0; i--) {
+				found[0] = -1;
+				check(reader.setPosition(positions.get(i)), "cannot move to position " + i + " of " + dump);
+				reader.parse(listener);
+				check(found[0] == expected.get(i),
+						"found 0x" + Long.toHexString(found[0]) + " at position " + i + ", expected 0x" + Long.toHexString(expected.get(i)));
+			}
+		}
+		return positions.size();
+	}
+
+	/**
+	 * HeapdumpReader without a PHDImage.
+	 */
+	private static final class Reader extends HeapdumpReader implements AutoCloseable {
+		Reader(String filename) throws IOException {
+			super(filename);
+		}
+
+		Reader(ImageInputStream stream) throws IOException {
+			super(stream);
+		}
+	}
+
+	/**
+	 * Reports the address of each object, class or array.
+	 */
+	private abstract static class Listener implements PortableHeapDumpListener {
+		abstract void object(long address) throws Exception;
+
+		@Override
+		public void objectDump(long address, long classAddress, int flags, int hashCode, LongEnumeration refs, long instanceSize) throws Exception {
+			object(address);
+		}
+
+		@Override
+		public void objectArrayDump(long address, long classAddress, int flags, int hashCode, LongEnumeration refs, int length, long instanceSize) throws Exception {
+			object(address);
+		}
+
+		@Override
+		public void classDump(long address, long superAddress, String name, int instanceSize, int flags, int hashCode, LongEnumeration refs) throws Exception {
+			object(address);
+		}
+
+		@Override
+		public void primitiveArrayDump(long address, int type, int length, int flags, int hashCode, long instanceSize) throws Exception {
+			object(address);
+		}
+	}
+
+	static void check(boolean condition, String message) {
+		if (!condition) {
+			System.out.println("TEST FAILED: " + message);
+			System.exit(1);
+		}
+	}
+}
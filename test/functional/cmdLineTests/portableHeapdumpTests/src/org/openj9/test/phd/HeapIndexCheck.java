@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.phd;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+
+/**
+ * Check that objects found by address through the PHD heap index are the objects
+ * found by walking the heap, and where the index is saved.
+ * <p>
+ * The modes are:
+ * <ul>
+ * <li>nosave - the index must not be saved, as -Dcom.ibm.dtfj.phd.saveHeapIndex=false is set
+ * <li>save - the index must be saved next to the dump
+ * <li>reuse - the saved index must be used, and so not saved again
+ * <li>stale - the saved index is made stale by changing the time of the dump, and must be saved again
+ * <li>tempdir - the dump is in a read-only directory, so the index must be saved in java.io.tmpdir
+ * </ul>
+ * Usage: java org.openj9.test.phd.HeapIndexCheck <phd file> <mode>
+ */
+public class HeapIndexCheck {
+	/** Check every SAMPLE'th object, as each lookup may read a block of objects */
+	private static final int SAMPLE = 97;
+
+	public static void main(String[] args) throws Exception {
+		File dump = new File(args[0]);
+		String mode = args[1];
+		File index = new File(dump.getPath() + ".phdi");
+		long lastModified = dump.lastModified();
+		File tempDir = new File(System.getProperty("java.io.tmpdir"));
+
+		if (mode.equals("tempdir")) {
+			if (dump.getAbsoluteFile().getParentFile().canWrite()) {
+				/* e.g. running as root, so the directory is not read-only after all */
+				System.out.println("The directory of " + dump + " is writable, expecting the index next to it");
+			} else {
+				index = null;
+			}
+		} else if (mode.equals("save") || mode.equals("nosave")) {
+			index.delete();
+		} else {
+			check(index.isFile(), "there is no saved index " + index);
+			if (mode.equals("stale")) {
+				check(dump.setLastModified(lastModified - 60000), "cannot change the modification time of " + dump);
+				lastModified = dump.lastModified();
+			}
+		}
+		long indexModified = (index == null) ? 0 : index.lastModified();
+
+		/* the objects found by walking the heap */
+		List<long[]> addresses = new ArrayList<>();
+		List<String> classes = new ArrayList<>();
+		long objects = 0;
+		try (PHDHeap heap = new PHDHeap(dump)) {
+			for (Iterator<?> heaps = heap.getRuntime().getHeaps(); heaps.hasNext();) {
+				for (Iterator<?> it = ((JavaHeap)heaps.next()).getObjects(); it.hasNext();) {
+					Object next = it.next();
+					if (next instanceof JavaObject) {
+						JavaObject object = (JavaObject)next;
+						if ((objects % SAMPLE) == 0) {
+							addresses.add(new long[] { object.getID().getAddress(), object.getSize() });
+							classes.add(object.getJavaClass().getName());
+						}
+						objects += 1;
+					}
+				}
+			}
+		}
+		check(objects > HeapdumpGenerator.OBJECTS, "expected more than " + HeapdumpGenerator.OBJECTS + " objects, found " + objects);
+
+		/* a new image has nothing cached, so each object is found through the index */
+		try (PHDHeap heap = new PHDHeap(dump)) {
+			for (int i = 0; i < addresses.size(); i++) {
+				long address = addresses.get(i)[0];
+				JavaObject object = heap.getRuntime().getObjectAtAddress(heap.getAddressSpace().getPointer(address));
+				String where = "object @ 0x" + Long.toHexString(address);
+				check(object.getID().getAddress() == address, where + " found at 0x" + Long.toHexString(object.getID().getAddress()));
+				check(object.getJavaClass().getName().equals(classes.get(i)),
+						where + " is a " + object.getJavaClass().getName() + ", expected " + classes.get(i));
+				check(object.getSize() == addresses.get(i)[1], where + " has size " + object.getSize() + ", expected " + addresses.get(i)[1]);
+			}
+		}
+
+		if (mode.equals("tempdir") && (index == null)) {
+			check(!new File(dump.getPath() + ".phdi").exists(), "the index was saved in a read-only directory");
+			index = tempIndex(tempDir, dump);
+		}
+		if (mode.equals("nosave")) {
+			check(!index.exists(), "the index was saved with -Dcom.ibm.dtfj.phd.saveHeapIndex=false");
+		} else {
+			check(index.isFile(), "the index was not saved");
+			check(indexTime(index) == lastModified, "the saved index is not for the dump");
+			if (mode.equals("reuse")) {
+				check(index.lastModified() == indexModified, "the saved index was built again");
+			}
+		}
+		System.out.println("Checked " + addresses.size() + " of " + objects + " objects");
+		System.out.println("TEST PASSED");
+	}
+
+	/**
+	 * The index saved for the dump in the temporary directory.
+	 */
+	private static File tempIndex(File tempDir, File dump) {
+		File[] indexes = tempDir.listFiles((dir, name) -> name.startsWith(dump.getName() + ".") && name.endsWith(".phdi"));
+		check((indexes != null) && (indexes.length == 1), "expected one index for " + dump.getName() + " in " + tempDir);
+		return indexes[0];
+	}
+
+	/**
+	 * The modification time of the dump recorded in the index.
+	 */
+	private static long indexTime(File index) throws Exception {
+		try (RandomAccessFile file = new RandomAccessFile(index, "r")) {
+			file.seek(24);
+			return file.readLong();
+		}
+	}
+
+	static void check(boolean condition, String message) {
+		if (!condition) {
+			System.out.println("TEST FAILED: " + message);
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.phd;
+
+/**
+ * Keeps OBJECTS small objects and arrays reachable from a static field, so that the
+ * heapdump taken when the VM stops has many blocks of objects to index. A different
+ * number of objects may be given as the argument.
+ * 
+ * Usage: java org.openj9.test.phd.HeapdumpGenerator [objects]
+ */
+public class HeapdumpGenerator {
+	static final int OBJECTS = 50000;
+	static Object[] objects;
+
+	public static void main(String[] args) {
+		int count = (args.length > 0) ? Integer.parseInt(args[0]) : OBJECTS;
+		objects = new Object[count];
+		for (int i = 0; i < count; i++) {
+			switch (i % 3) {
+			case 0:
+				objects[i] = new int[i % 17];
+				break;
+			case 1:
+				objects[i] = Integer.valueOf(i);
+				break;
+			default:
+				objects[i] = new Object[] { objects[i - 1], objects[i - 2] };
+				break;
+			}
+		}
+		System.out.println("Created " + count + " objects");
+	}
+}
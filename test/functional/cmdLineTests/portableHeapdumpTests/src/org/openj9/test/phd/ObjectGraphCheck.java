@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.phd;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.ibm.dtfj.java.JavaClass;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.phd.parser.HeapdumpReader;
+import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
+import com.ibm.dtfj.phd.util.LongEnumeration;
+
+/**
+ * Check that the objects of a PHD file held in the object graph, enabled with
+ * -Dcom.ibm.dtfj.phd.objectGraph=true, are the objects in the file as read by
+ * HeapdumpReader: in the same order, with the same classes, array lengths and
+ * references, and found again by address.
+ * <p>
+ * Usage: java -Dcom.ibm.dtfj.phd.objectGraph=true org.openj9.test.phd.ObjectGraphCheck <phd file>
+ */
+public class ObjectGraphCheck {
+	/** Look up every SAMPLE'th object by address */
+	private static final int SAMPLE = 97;
+
+	public static void main(String[] args) throws Exception {
+		File dump = new File(args[0]);
+		check(Boolean.getBoolean("com.ibm.dtfj.phd.objectGraph"), "-Dcom.ibm.dtfj.phd.objectGraph=true is not set");
+
+		Objects expected = new Objects();
+		try (Reader reader = new Reader(dump.getPath())) {
+			while (reader.parse(expected)) {
+				/* parse to the end */
+			}
+		}
+		check(expected.count > HeapdumpGenerator.OBJECTS, "expected more than " + HeapdumpGenerator.OBJECTS + " objects, found " + expected.count);
+
+		try (PHDHeap heap = new PHDHeap(dump)) {
+			JavaHeap javaHeap = (JavaHeap)heap.getRuntime().getHeaps().next();
+			Method getGraph = javaHeap.getClass().getDeclaredMethod("getGraph");
+			getGraph.setAccessible(true);
+			check(getGraph.invoke(javaHeap) != null, "the object graph was not built");
+
+			int count = 0;
+			for (Iterator<?> it = javaHeap.getObjects(); it.hasNext(); ++count) {
+				check(count < expected.count, "the object graph has more than the " + expected.count + " objects in the dump");
+				checkObject((JavaObject)it.next(), expected, count);
+			}
+			check(count == expected.count, "the object graph has " + count + " objects, expected " + expected.count);
+		}
+
+		/* a new image, so the objects are found by address in the graph and not in a cache */
+		int checked = 0;
+		try (PHDHeap heap = new PHDHeap(dump)) {
+			for (int i = expected.count - 1; i >= 0; i -= SAMPLE) {
+				long address = expected.addresses[i];
+				JavaObject object = heap.getRuntime().getObjectAtAddress(heap.getAddressSpace().getPointer(address));
+				check(object != null, "object @ 0x" + Long.toHexString(address) + " not found");
+				checkObject(object, expected, i);
+				checked += 1;
+			}
+		}
+		System.out.println("Checked " + expected.count + " objects, and found " + checked + " by address");
+		System.out.println("TEST PASSED");
+	}
+
+	private static void checkObject(JavaObject object, Objects expected, int i) throws Exception {
+		long address = expected.addresses[i];
+		String where = "object " + i + " @ 0x" + Long.toHexString(address);
+		check(object.getID().getAddress() == address, where + " is at 0x" + Long.toHexString(object.getID().getAddress()));
+		int length = expected.lengths[i];
+		if (length < 0) {
+			check(!object.isArray(), where + " is an array");
+			String name = expected.classNames.get(Long.valueOf(expected.classes[i]));
+			check(object.getJavaClass().getName().equals(name), where + " is a " + object.getJavaClass().getName() + ", expected " + name);
+		} else {
+			check(object.isArray(), where + " is not an array");
+			check(object.getArraySize() == length, where + " has length " + object.getArraySize() + ", expected " + length);
+		}
+		long[] refs = references(object);
+		long[] expectedRefs = Arrays.copyOfRange(expected.refs, expected.refStarts[i], expected.refStarts[i + 1]);
+		check(Arrays.equals(refs, expectedRefs), where + " refers to " + toString(refs) + ", expected " + toString(expectedRefs));
+	}
+
+	/**
+	 * The addresses of the fields or array elements referred to by an object, in order.
+	 */
+	private static long[] references(JavaObject object) throws Exception {
+		long[] refs = new long[8];
+		int count = 0;
+		for (Iterator<?> it = object.getReferences(); it.hasNext();) {
+			JavaReference reference = (JavaReference)it.next();
+			int type = reference.getReferenceType();
+			if ((type == JavaReference.REFERENCE_FIELD) || (type == JavaReference.REFERENCE_ARRAY_ELEMENT)) {
+				Object target = reference.getTarget();
+				long address = (target instanceof JavaObject)
+						? ((JavaObject)target).getID().getAddress()
+						: ((JavaClass)target).getID().getAddress();
+				if (count == refs.length) {
+					refs = Arrays.copyOf(refs, count * 2);
+				}
+				refs[count++] = address;
+			}
+		}
+		return Arrays.copyOf(refs, count);
+	}
+
+	private static String toString(long[] addresses) {
+		StringBuilder text = new StringBuilder("[");
+		for (long address : addresses) {
+			text.append((text.length() > 1) ? ", 0x" : "0x").append(Long.toHexString(address));
+		}
+		return text.append(']').toString();
+	}
+
+	/**
+	 * HeapdumpReader without a PHDImage.
+	 */
+	private static final class Reader extends HeapdumpReader implements AutoCloseable {
+		Reader(String filename) throws IOException {
+			super(filename);
+		}
+	}
+
+	/**
+	 * The objects in a dump, in dump order.
+	 */
+	private static final class Objects implements PortableHeapDumpListener {
+		int count;
+		long[] addresses = new long[1024];
+		/** The class address of each object, or 0 for a primitive array */
+		long[] classes = new long[1024];
+		/** The length of each array, or -1 for an object which isn't an array */
+		int[] lengths = new int[1024];
+		/** The start of the references of each object in refs, with an extra entry for the end */
+		int[] refStarts = new int[1025];
+		long[] refs = new long[1024];
+		int refCount;
+		final Map<Long, String> classNames = new HashMap<>();
+
+		@Override
+		public void objectDump(long address, long classAddress, int flags, int hashCode, LongEnumeration refs, long instanceSize) {
+			add(address, classAddress, -1, refs);
+		}
+
+		@Override
+		public void objectArrayDump(long address, long classAddress, int flags, int hashCode, LongEnumeration refs, int length, long instanceSize) {
+			add(address, classAddress, length, refs);
+		}
+
+		@Override
+		public void classDump(long address, long superAddress, String name, int instanceSize, int flags, int hashCode, LongEnumeration refs) {
+			classNames.put(Long.valueOf(address), name);
+		}
+
+		@Override
+		public void primitiveArrayDump(long address, int type, int length, int flags, int hashCode, long instanceSize) {
+			add(address, 0, length, null);
+		}
+
+		private void add(long address, long classAddress, int length, LongEnumeration objectRefs) {
+			if (count == addresses.length) {
+				addresses = Arrays.copyOf(addresses, count * 2);
+				classes = Arrays.copyOf(classes, count * 2);
+				lengths = Arrays.copyOf(lengths, count * 2);
+				refStarts = Arrays.copyOf(refStarts, (count * 2) + 1);
+			}
+			addresses[count] = address;
+			classes[count] = classAddress;
+			lengths[count] = length;
+			if (objectRefs != null) {
+				while (objectRefs.hasMoreElements()) {
+					if (refCount == refs.length) {
+						refs = Arrays.copyOf(refs, refCount * 2);
+					}
+					refs[refCount++] = objectRefs.nextLong();
+				}
+			}
+			count += 1;
+			refStarts[count] = refCount;
+		}
+	}
+
+	static void check(boolean condition, String message) {
+		if (!condition) {
+			System.out.println("TEST FAILED: " + message);
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.phd;
+
+import java.io.File;
+import java.util.Iterator;
+
+import com.ibm.dtfj.image.CorruptData;
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaRuntime;
+
+/**
+ * Opens a PHD file with DTFJ.
+ */
+class PHDHeap implements AutoCloseable {
+	private final Image image;
+	private final ImageAddressSpace space;
+	private final JavaRuntime runtime;
+
+	PHDHeap(File dump) throws Exception {
+		Class<?> factoryClass = Class.forName("com.ibm.dtfj.phd.PHDImageFactory");
+		ImageFactory factory = (ImageFactory)factoryClass.getDeclaredConstructor().newInstance();
+		image = factory.getImage(dump);
+		space = (ImageAddressSpace)first(image.getAddressSpaces());
+		runtime = (JavaRuntime)first(((ImageProcess)first(space.getProcesses())).getRuntimes());
+	}
+
+	private static Object first(Iterator<?> it) {
+		while (it.hasNext()) {
+			Object next = it.next();
+			if (!(next instanceof CorruptData)) {
+				return next;
+			}
+		}
+		throw new IllegalStateException("Not found");
+	}
+
+	ImageAddressSpace getAddressSpace() {
+		return space;
+	}
+
+	JavaRuntime getRuntime() {
+		return runtime;
+	}
+
+	@Override
+	public void close() {
+		image.close();
+	}
+}
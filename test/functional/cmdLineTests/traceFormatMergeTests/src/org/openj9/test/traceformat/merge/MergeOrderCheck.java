@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.traceformat.merge;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.ibm.jvm.format.TraceFormat;
+
+/**
+ * Format a binary trace file with the formatter, which merges the threads through a
+ * priority queue, and check that the tracepoints come out in the same order as the
+ * linear scan behind TraceFormat.getNextTracePoint() returns them from the same file.
+ * Neither run streams the file, so every thread's buffers are indexed up front.
+ * If the trace was written to generation files, name them with a # in place of the
+ * generation number and give the number of generations, which must all be merged.
+ * 
+ * Usage: java org.openj9.test.traceformat.merge.MergeOrderCheck <trace file> [<generations>]
+ */
+public class MergeOrderCheck {
+
+	public static void main(String[] args) throws Exception {
+		String traceFile = args[0];
+		File formatted = new File(traceFile + ".fmt");
+		File primed = new File(traceFile + ".primed.fmt");
+		formatted.delete();
+		primed.delete();
+
+		/* after: the formatted file, written by the queue merge */
+		ByteArrayOutputStream progress = new ByteArrayOutputStream();
+		new TraceFormat(new PrintStream(progress), new String[] { traceFile, formatted.getPath() });
+		check(formatted.isFile(), "the formatter did not write " + formatted, progress.toString());
+		if (args.length > 1) {
+			String generations = "Processing all of the " + args[1] + " generations";
+			check(progress.toString().contains(generations), "expected \"" + generations + "\"", progress.toString());
+		}
+		List<String> lines = readLines(formatted);
+
+		/* before: the same file iterated with the linear scan, rendered as the formatter renders it */
+		TraceFormat iterator = new TraceFormat();
+		iterator.readAndFormat(new String[] { traceFile, primed.getPath() }, false);
+		List<String> expected = new ArrayList<>();
+		Set<Long> threads = new HashSet<>();
+		long lastThreadID = 0;
+		com.ibm.jvm.format.TracePoint tp;
+		while ((tp = (com.ibm.jvm.format.TracePoint) iterator.getNextTracePoint()) != null) {
+			if (!tp.isNormalTracepoint()) {
+				expected.add(tp.toString());
+				continue;
+			}
+			long threadID = tp.getThreadID();
+			if (threadID != lastThreadID) {
+				tp.setIsChangeOfThread(true);
+			}
+			lastThreadID = threadID;
+			threads.add(Long.valueOf(threadID));
+			expected.add(tp.getFormattedTime() + tp.toString());
+		}
+		check(expected.size() > 0, "no tracepoints were read from " + traceFile, progress.toString());
+		check(threads.size() > 1, "expected tracepoints from more than one thread, found " + threads.size(), progress.toString());
+
+		/* the tracepoints are the consecutive lines of the formatted file from the first one onwards */
+		int line = 0;
+		while ((line < lines.size()) && !lines.get(line).startsWith(expected.get(0))) {
+			line++;
+		}
+		check(line < lines.size(), "the first tracepoint is not in " + formatted + ": " + expected.get(0), progress.toString());
+		for (int i = 0; i < expected.size(); i++, line++) {
+			check(line < lines.size(), "tracepoint " + i + " is missing from " + formatted + ": " + expected.get(i), "");
+			check(lines.get(line).startsWith(expected.get(i)),
+					"tracepoint " + i + " is out of order, expected:\n" + expected.get(i) + "\nformatted:\n" + lines.get(line), "");
+		}
+
+		System.out.println("Checked " + expected.size() + " tracepoints from " + threads.size() + " threads");
+		System.out.println("TEST PASSED");
+		formatted.delete();
+		primed.delete();
+	}
+
+	private static List<String> readLines(File file) throws IOException {
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file)))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lines.add(line);
+			}
+		}
+		return lines;
+	}
+
+	private static void check(boolean condition, String message, String output) {
+		if (!condition) {
+			System.out.println(output);
+			System.out.println("TEST FAILED: " + message);
+			System.exit(1);
+		}
+	}
+}
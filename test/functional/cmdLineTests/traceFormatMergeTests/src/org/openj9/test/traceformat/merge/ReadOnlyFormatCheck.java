@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.traceformat.merge;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Check the output of the traceformat tool for a read-only copy of a trace file against its
+ * output for the writable original. The formatter maps its input read only and copies each
+ * record out of the mapping to fix it up, so the formatted tracepoints must be the same for
+ * both files and the read-only copy must not have been modified.
+ * 
+ * Usage: java org.openj9.test.traceformat.merge.ReadOnlyFormatCheck <trace file> <formatted trace file>
+ *        <read-only trace file> <formatted read-only trace file>
+ */
+public class ReadOnlyFormatCheck {
+
+	private static final String SECTION_HEADER = "Trace Formatted Data";
+
+	public static void main(String[] args) throws Exception {
+		File traceFile = new File(args[0]);
+		File formatted = new File(args[1]);
+		File readOnlyFile = new File(args[2]);
+		File readOnlyFormatted = new File(args[3]);
+
+		check(readOnlyFormatted.isFile(), "the formatter did not write " + readOnlyFormatted);
+		check(Arrays.equals(Files.readAllBytes(traceFile.toPath()), Files.readAllBytes(readOnlyFile.toPath())),
+				readOnlyFile + " was modified by the formatter");
+
+		List<String> expected = tracepoints(formatted);
+		List<String> actual = tracepoints(readOnlyFormatted);
+		check(expected.size() > 0, "no tracepoints were formatted from " + traceFile);
+		for (int i = 0; i < expected.size(); i++) {
+			check(i < actual.size(), "tracepoint " + i + " is missing from " + readOnlyFormatted + ": " + expected.get(i));
+			check(actual.get(i).equals(expected.get(i)),
+					"tracepoint " + i + " differs, expected:\n" + expected.get(i) + "\nformatted:\n" + actual.get(i));
+		}
+		check(actual.size() == expected.size(), readOnlyFormatted + " has " + actual.size() + " tracepoints, expected " + expected.size());
+
+		System.out.println("Checked " + expected.size() + " tracepoints");
+		System.out.println("TEST PASSED");
+	}
+
+	/* the lines of the formatted data section, after the section and column headers */
+	private static List<String> tracepoints(File file) throws IOException {
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file)))) {
+			String line;
+			while (((line = reader.readLine()) != null) && !line.contains(SECTION_HEADER)) {
+				/* skip the summary */
+			}
+			check(line != null, "the formatted data section is missing from " + file);
+			while ((line = reader.readLine()) != null) {
+				if ((line.length() > 0) && !line.startsWith("Time (UTC")) {
+					lines.add(line);
+				}
+			}
+		}
+		return lines;
+	}
+
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			System.out.println("TEST FAILED: " + message);
+			System.exit(1);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+package org.openj9.test.traceformat.merge;
+
+/**
+ * Runs THREADS threads that allocate and contend on a shared lock, so that a trace of
+ * the VM has many buffers from threads whose tracepoints interleave in time.
+ */
+public class TraceGenerator {
+	static final int THREADS = 8;
+	static final int ITERATIONS = 20000;
+	static final Object lock = new Object();
+	static long total;
+
+	public static void main(String[] args) throws InterruptedException {
+		Thread[] threads = new Thread[THREADS];
+		for (int i = 0; i < THREADS; i++) {
+			threads[i] = new Thread("TraceGenerator-" + i) {
+				@Override
+				public void run() {
+					for (int j = 0; j < ITERATIONS; j++) {
+						StringBuilder builder = new StringBuilder();
+						builder.append(getName()).append(j);
+						synchronized (lock) {
+							total += builder.length();
+						}
+						if ((j % 1000) == 0) {
+							Thread.yield();
+						}
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		System.out.println("Ran " + THREADS + " threads");
+	}
+}